@@ -0,0 +1,378 @@
+package component;
+
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+import component.metrics.LatencyHistogram;
+
+/**
+ * ActiveBoardRenderer - 전용 렌더 스레드에서 BufferStrategy 로 보드를 그리는 능동 렌더링 (선택)
+ * --------------------
+ * - -Dtetris.render=active 로 켬 (기본은 Swing repaint 경로 그대로)
+ * - EDT 는 BoardSnapshot 을 채워 SnapshotBuffer 로 공개만 하고, 그리기 / 화면 전환은 이 스레드가 함
+ *   → 키 입력 / Swing Timer 와 그리기가 EDT 하나를 두고 다투지 않음
+ * - 새 스냅샷이 없으면 park (조용한 보드는 CPU 0), 있으면 FRAME_NANOS 간격을 넘지 않게 System.nanoTime 으로 맞춤
+ * - 한 프레임: BufferStrategy 그리기 → show → Toolkit.sync (내용 손실 / 복구 시 다시 그림)
+ * - 측정: 변경 → 화면 전환 지연 (입력에서 photon 까지), 프레임 간격 (pacing)
+ * - 스프라이트 / 고정 블록 레이어 / 파티클 렌더러는 EDT 쪽과 따로 가짐 (스레드 간 공유 캐시 없음)
+ */
+public class ActiveBoardRenderer {
+
+    public static final String PROPERTY = "tetris.render";
+    public static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final long IDLE_PARK_NANOS = 250_000_000L; // 깨우기를 놓쳐도 이 간격으로 확인
+    private static final long PACING_GAP_NANOS = 100_000_000L; // 이보다 벌어지면 쉬던 것 (간격 통계 제외)
+
+    /** -Dtetris.render=active 인지 */
+    public static boolean isRequested() {
+        return "active".equalsIgnoreCase(System.getProperty(PROPERTY));
+    }
+
+    /** 그릴 곳 (실제로는 BoardCanvas, 테스트는 이미지) */
+    public interface Target {
+        /** 이번 프레임의 그래픽스 (아직 준비 안 됐으면 null) */
+        Graphics2D begin();
+
+        /**
+         * 그린 내용을 화면에 올림
+         *
+         * @return 내용이 손실 / 복구되어 다시 그려야 하면 false
+         */
+        boolean flip();
+
+        GraphicsConfiguration config();
+    }
+
+    private final Target target;
+    private final SnapshotBuffer<BoardSnapshot> buffer;
+
+    // 렌더 스레드 전용 캐시
+    private final CellSpriteAtlas sprites = new CellSpriteAtlas();
+    private final LockedCellLayer lockedLayer = new LockedCellLayer(BoardView.WIDTH, BoardView.HEIGHT);
+    private final ParticleRenderer particleRenderer = new ParticleRenderer();
+    private BufferedImage background;
+    private int backgroundCellSize = -1;
+
+    private volatile boolean running;
+    private volatile boolean redraw; // 창 노출 / 크기 변경 → 같은 스냅샷이라도 다시 그림
+    private Thread thread;
+
+    // 그리기 시간 → EDT 가 가져가 품질 조절 / F2 프레임 히스토그램에 반영 (둘 다 EDT 전용)
+    private static final int PAINT_TIMES = 64;
+    private final long[] paintTimes = new long[PAINT_TIMES];
+    private int paintTimeCount;
+    private final long[] drained = new long[PAINT_TIMES]; // EDT 쪽 복사본
+
+    private final LatencyHistogram photonLatency = new LatencyHistogram();
+    private final LatencyHistogram frameInterval = new LatencyHistogram();
+    private volatile long frames;
+    private long lastPresent;
+
+    public ActiveBoardRenderer(Target target, SnapshotBuffer<BoardSnapshot> buffer) {
+        this.target = target;
+        this.buffer = buffer;
+    }
+
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+        redraw = true;
+        thread = new Thread(this::loop, "board-render");
+        thread.setDaemon(true);
+        thread.start();
+        System.out.println("[Render] active rendering thread started");
+    }
+
+    public synchronized void stop() {
+        if (!running)
+            return;
+        running = false;
+        Thread t = thread;
+        thread = null;
+        LockSupport.unpark(t);
+        try {
+            t.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 새 스냅샷을 공개했을 때 (EDT) */
+    public void wake() {
+        Thread t = thread;
+        if (t != null)
+            LockSupport.unpark(t);
+    }
+
+    /** 내용을 다시 그려야 할 때 (노출 / 크기 변경) */
+    public void requestRedraw() {
+        redraw = true;
+        wake();
+    }
+
+    private void loop() {
+        BoardSnapshot current = null;
+        while (running) {
+            BoardSnapshot next = buffer.acquire();
+            if (next == null && !redraw) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            // 한 프레임 간격보다 빨리 올리지 않음 (기다린 뒤 그 사이 들어온 최신 것으로 교체)
+            long wait = lastPresent + FRAME_NANOS - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                BoardSnapshot newer = buffer.acquire();
+                if (newer != null)
+                    next = newer;
+            }
+            if (next != null)
+                current = next;
+            redraw = false;
+            if (current != null && current.width > 0)
+                present(current);
+        }
+        System.out.println("[Render] active rendering thread stopped");
+    }
+
+    /** 스냅샷 한 장을 그리고 화면에 올림 (렌더 스레드, 테스트에서 직접 호출 가능) */
+    void present(BoardSnapshot s) {
+        boolean shown;
+        int attempts = 0;
+        long paintNanos;
+        do {
+            Graphics2D g2 = target.begin();
+            if (g2 == null)
+                return;
+            long t0 = System.nanoTime();
+            try {
+                paint(g2, s, target.config());
+            } finally {
+                g2.dispose();
+            }
+            paintNanos = System.nanoTime() - t0;
+            shown = target.flip();
+        } while (!shown && running && ++attempts < 3);
+
+        synchronized (paintTimes) {
+            if (paintTimeCount < PAINT_TIMES)
+                paintTimes[paintTimeCount++] = paintNanos; // EDT 가 못 가져가면 넘치는 것은 버림
+        }
+
+        long now = System.nanoTime();
+        if (s.changeNanos != 0) {
+            photonLatency.record(now - s.changeNanos);
+            s.changeNanos = 0; // 같은 장면을 다시 그려도 한 번만 셈 (읽는 쪽 슬롯이라 EDT 는 안 봄)
+        }
+        if (lastPresent != 0 && now - lastPresent < PACING_GAP_NANOS)
+            frameInterval.record(now - lastPresent);
+        lastPresent = now;
+        frames++;
+    }
+
+    /** BoardView.paintComponent 와 같은 순서로 스냅샷을 그림 */
+    void paint(Graphics2D g2, BoardSnapshot s, GraphicsConfiguration gc) {
+        int cellSize = s.cellSize;
+        g2.setColor(BoardView.BG_GAME);
+        g2.fillRect(0, 0, s.width, s.height);
+
+        boolean accelerated = gc != null && gc.getImageCapabilities().isAccelerated();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, s.antialias || !accelerated
+                ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF);
+        particleRenderer.setGlow(s.glow);
+
+        AffineTransform base = g2.getTransform();
+        if (s.shake != 0)
+            g2.translate(s.shake, 0);
+
+        if (background == null || backgroundCellSize != cellSize) {
+            background = BoardView.createBackgroundImage(cellSize);
+            backgroundCellSize = cellSize;
+        }
+        sprites.prepare(g2, s.colorMode, cellSize);
+        g2.drawImage(background, 0, 0, null);
+
+        particleRenderer.drawBeams(g2, s.beams);
+        lockedLayer.paint(g2, s.board, sprites, cellSize, gc);
+        particleRenderer.drawTrails(g2, s.trails, cellSize, BoardView.CELL_GAP);
+
+        if (s.pieceCells > 0) {
+            if (s.ghost) {
+                for (int i = 0; i < s.pieceCells; i++)
+                    sprites.drawGhost(g2, s.cellX[i] * cellSize, (s.cellY[i] + s.ghostDy) * cellSize);
+            }
+            AffineTransform beforePiece = g2.getTransform();
+            if (s.pieceDx != 0 || s.pieceDy != 0)
+                g2.translate(s.pieceDx * cellSize, s.pieceDy * cellSize);
+            for (int i = 0; i < s.pieceCells; i++) {
+                int px = s.cellX[i] * cellSize;
+                int py = s.cellY[i] * cellSize;
+                if (s.item != null && (s.itemCell < 0 || s.itemCell == i))
+                    sprites.drawItem(g2, s.pieceColor, s.item, px, py);
+                else
+                    sprites.drawBlock(g2, s.pieceColor, px, py);
+            }
+            g2.setTransform(beforePiece);
+        }
+
+        particleRenderer.drawSparks(g2, s.sparks);
+        particleRenderer.drawShards(g2, s.shards);
+        BoardView.drawAwards(g2, s.awards, s.width);
+
+        g2.setTransform(base);
+        if (s.border != null)
+            s.border.paintBorder(null, g2, 0, 0, s.width, s.height);
+    }
+
+    /**
+     * 렌더 스레드가 잰 그리기 시간을 꺼내 전달 (EDT, 렌더 틱마다)
+     *
+     * @return 전달한 개수
+     */
+    public int drainPaintTimes(LongConsumer sink) {
+        int n;
+        synchronized (paintTimes) {
+            n = paintTimeCount;
+            System.arraycopy(paintTimes, 0, drained, 0, n);
+            paintTimeCount = 0;
+        }
+        for (int i = 0; i < n; i++) {
+            sink.accept(drained[i]);
+        }
+        return n;
+    }
+
+    public LatencyHistogram getPhotonLatency() {
+        return photonLatency;
+    }
+
+    public LatencyHistogram getFrameInterval() {
+        return frameInterval;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * BoardCanvas - BoardView 위에 겹치는 무거운 (heavyweight) 캔버스
+     * - 2중 BufferStrategy, 포커스 / 입력은 받지 않음 (키 바인딩은 그대로 패널에)
+     * - AWT 가 노출 / 크기 변경으로 paint 를 부르면 렌더 스레드에 다시 그리기만 요청
+     */
+    public static class BoardCanvas extends Canvas implements Target {
+
+        private ActiveBoardRenderer renderer;
+
+        public BoardCanvas() {
+            setFocusable(false);
+            setIgnoreRepaint(true);
+            setBackground(BoardView.BG_GAME);
+        }
+
+        void setRenderer(ActiveBoardRenderer renderer) {
+            this.renderer = renderer;
+        }
+
+        @Override
+        public void addNotify() {
+            super.addNotify();
+            try {
+                createBufferStrategy(2, new BufferCapabilities(
+                        new java.awt.ImageCapabilities(true), new java.awt.ImageCapabilities(true), null));
+            } catch (java.awt.AWTException e) {
+                createBufferStrategy(2); // 가속 불가 → 기본 전략
+            }
+            if (renderer != null)
+                renderer.start();
+        }
+
+        @Override
+        public void removeNotify() {
+            if (renderer != null)
+                renderer.stop(); // peer 가 사라지기 전에 렌더 스레드부터 정지
+            super.removeNotify();
+        }
+
+        @Override
+        public void paint(Graphics g) {
+            if (renderer != null)
+                renderer.requestRedraw();
+        }
+
+        @Override
+        public void update(Graphics g) {
+            paint(g);
+        }
+
+        @Override
+        public Graphics2D begin() {
+            BufferStrategy bs = getBufferStrategy();
+            return bs == null ? null : (Graphics2D) bs.getDrawGraphics();
+        }
+
+        @Override
+        public boolean flip() {
+            BufferStrategy bs = getBufferStrategy();
+            if (bs == null || bs.contentsRestored())
+                return false;
+            bs.show();
+            Toolkit.getDefaultToolkit().sync();
+            return !bs.contentsLost();
+        }
+
+        @Override
+        public GraphicsConfiguration config() {
+            return getGraphicsConfiguration();
+        }
+    }
+
+    /** 테스트 / 측정용: 메모리 이미지에 그림 */
+    public static class ImageTarget implements Target {
+        private final BufferedImage image;
+        private volatile long shown;
+
+        public ImageTarget(int width, int height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        @Override
+        public Graphics2D begin() {
+            return image.createGraphics();
+        }
+
+        @Override
+        public boolean flip() {
+            shown++;
+            return true;
+        }
+
+        @Override
+        public GraphicsConfiguration config() {
+            return null;
+        }
+
+        public BufferedImage getImage() {
+            return image;
+        }
+
+        public long getShown() {
+            return shown;
+        }
+    }
+}
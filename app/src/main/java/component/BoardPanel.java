@@ -1,5 +1,6 @@
 package component;
 
+import component.metrics.PerfMonitor;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
@@ -170,16 +171,14 @@ public class BoardPanel extends JPanel {
         });
         this.boardView = new BoardView(logic, settings);
         logic.setBoardView(boardView);
-        this.loop = new GameLoop(logic, boardView::repaint);
+        this.loop = new GameLoop(logic, boardView::requestRender);
 
         // 루프 제어 콜백 연결
         logic.setLoopControl(loop::pauseLoop, loop::resumeLoop);
 
-        // ClearService 애니메이션용: 가벼운 repaint만
+        // ClearService 애니메이션용: 바뀐 줄만 다시 그리도록 스케줄러에 알림
         logic.setOnFrameUpdate(() -> {
-            SwingUtilities.invokeLater(() -> {
-                boardView.repaint(); // ← 보드만 빠르게 갱신
-            });
+            SwingUtilities.invokeLater(boardView::requestRender);
         });
 
         // NEXT 큐 변경 시 HUD 갱신
@@ -206,14 +205,13 @@ public class BoardPanel extends JPanel {
         initOverlay();
 
         // === HUD 업데이트 타이머 (기존 drawBoard 역할) ===
-        Timer hudUpdateTimer = new Timer(100, e -> {
-            if (!logic.isGameOver()) {
-                SwingUtilities.invokeLater(() -> {
-                    scoreLabel.setText(String.valueOf(logic.getScore()));
-                    levelLabel.setText(String.valueOf(logic.getLevel()));
-                    linesLabel.setText(String.valueOf(logic.getLinesCleared()));
-                });
-            }
+        // Swing Timer 라 이미 EDT, 일시정지 중이거나 값이 그대로면 아무것도 안 함
+        Timer hudUpdateTimer = PerfMonitor.timer(100, e -> {
+            if (logic.isGameOver() || loop.isPaused())
+                return;
+            updateHudLabel(scoreLabel, logic.getScore());
+            updateHudLabel(levelLabel, logic.getLevel());
+            updateHudLabel(linesLabel, logic.getLinesCleared());
         });
         hudUpdateTimer.start();
 
@@ -242,7 +240,7 @@ public class BoardPanel extends JPanel {
 
         this.keyDeps = new KeyBindingInstaller.Deps(
                 logic,
-                boardView::repaint,
+                boardView::requestRender,
                 () -> {
                     JFrame frame = (JFrame) SwingUtilities.getWindowAncestor(this);
                     if (frame != null)
@@ -585,11 +583,15 @@ public class BoardPanel extends JPanel {
         overlay.setVisible(false);
     }
 
+    private static void updateHudLabel(JLabel label, int value) {
+        String text = String.valueOf(value);
+        if (!text.equals(label.getText()))
+            label.setText(text);
+    }
+
     // 기존 drawBoard는 외부 호출용으로만 사용
     private void drawBoard() {
-        SwingUtilities.invokeLater(() -> {
-            boardView.repaint();
-        });
+        SwingUtilities.invokeLater(boardView::requestRender);
     }
 
     // === 디버그 키 ===
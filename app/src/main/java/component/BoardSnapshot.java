@@ -0,0 +1,91 @@
+package component;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.border.Border;
+
+import component.items.ItemBlock;
+import logic.BoardLogic;
+import logic.ParticlePool;
+import logic.ParticleSystem;
+
+/**
+ * BoardSnapshot - 렌더 스레드가 그릴 보드 한 장면 (EDT 가 채우고 SnapshotBuffer 로 공개)
+ * --------------------
+ * - 고정 블록 / 현재 블록 칸 / 고스트 / 흔들림 / 파티클 / 어워드를 값으로 복사
+ * - 공개된 뒤에는 읽기 전용 (다시 back 슬롯이 될 때까지 EDT 도 건드리지 않음)
+ * - 슬롯을 재사용하므로 배열은 한 번만 만들고 덮어씀 (파티클 풀은 원본 용량에 맞춰 처음 한 번 생성)
+ * - 채우는 쪽은 BoardView.captureSnapshot
+ */
+public final class BoardSnapshot {
+
+    final Color[][] board = new Color[BoardLogic.HEIGHT][BoardLogic.WIDTH];
+
+    int width;
+    int height;
+    int cellSize;
+    ColorBlindPalette.Mode colorMode = ColorBlindPalette.Mode.NORMAL;
+    Border border;
+    int shake;
+    boolean antialias = true;
+    boolean glow = true;
+
+    // 현재 블록 (보드 좌표 칸 목록)
+    int pieceCells;
+    int[] cellX = new int[16];
+    int[] cellY = new int[16];
+    Color pieceColor;
+    ItemBlock item;   // null 이면 일반 블록
+    int itemCell;     // item 심볼을 그릴 칸 (-1 이면 모든 칸)
+    boolean ghost;
+    int ghostDy;      // 고스트 = 블록 칸 + ghostDy 줄
+    double pieceDx;   // 원격 블록 보간 (칸 단위)
+    double pieceDy;
+
+    ParticlePool sparks;
+    ParticlePool trails;
+    ParticlePool shards;
+    final ParticleSystem.Beams beams = new ParticleSystem.Beams(ParticleSystem.BEAM_CAPACITY);
+
+    final List<BoardView.AwardNotification> awards = new ArrayList<>();
+
+    long changeNanos;   // 이 장면에 처음 반영된 변경 (입력 / 틱) 시각, 0 = 없음
+    long capturedNanos;
+
+    void ensurePieceCapacity(int cells) {
+        if (cells > cellX.length) {
+            cellX = new int[cells];
+            cellY = new int[cells];
+        }
+    }
+
+    void copyParticles(ParticleSystem src) {
+        ParticlePool s = src.getParticles();
+        ParticlePool t = src.getTrailParticles();
+        ParticlePool sh = src.getShards();
+        if (sparks == null || sparks.capacity() < s.capacity())
+            sparks = new ParticlePool(s.capacity(), 0f, ParticlePool.Overflow.DROP_NEW);
+        if (trails == null || trails.capacity() < t.capacity())
+            trails = new ParticlePool(t.capacity(), 0f, ParticlePool.Overflow.DROP_NEW);
+        if (shards == null || shards.capacity() < sh.capacity())
+            shards = new ParticlePool(sh.capacity(), 0f, ParticlePool.Overflow.DROP_NEW);
+        sparks.copyFrom(s);
+        trails.copyFrom(t);
+        shards.copyFrom(sh);
+        beams.copyFrom(src.getBeamParticles());
+    }
+
+    public long getChangeNanos() {
+        return changeNanos;
+    }
+
+    public int getPieceCells() {
+        return pieceCells;
+    }
+
+    public Color getCell(int x, int y) {
+        return board[y][x];
+    }
+}
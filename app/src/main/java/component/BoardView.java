@@ -5,15 +5,20 @@ import logic.ParticleSystem;
 import blocks.Block;
 import component.items.*;
 import component.config.Settings;
+import component.metrics.LatencyHistogram;
+import component.metrics.PerfMonitor;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.IntSupplier;
 import logic.MovementService;
 
 public class BoardView extends JPanel {
@@ -34,21 +39,53 @@ public class BoardView extends JPanel {
 
     // === 상수 통일 (Board 기준) ===
     private static final int CELL_SIZE = 25;
-    private static final int CELL_GAP = 0;
+    static final int CELL_GAP = 0;
     private static final int MAX_HEIGHT = 500;
     public static final int WIDTH = BoardLogic.WIDTH;
     public static final int HEIGHT = BoardLogic.HEIGHT;
-    private static final Color BG_GAME = new Color(25, 30, 42);
+    static final Color BG_GAME = new Color(25, 30, 42);
 
     // 배경 타일 기본색 (블록보다 더 어두운 회색 느낌)
     private static final Color BG_TILE_COLOR = new Color(24, 26, 32);
 
-    public Timer renderTimer;
+    // 바뀐 영역만 다시 그리는 렌더 스케줄러 (예전 16ms 무조건 repaint 타이머 대체)
+    private final RenderScheduler renderScheduler;
+    private Rectangle lastPieceArea;  // 지난 틱의 현재 블록 + 고스트 영역 (픽셀)
+    private int lastPieceKey;
+    private boolean wasAnimating;     // 애니메이션이 끝난 틱에 한 번 더 전체를 지우기 위함
+    private Runnable shatterDone;     // 게임 오버 파편이 다 사라지면 실행 (collectFrame)
+    private final Color[][] boardSeen = new Color[HEIGHT][WIDTH];
+    private long viewVersion;         // 칸 크기 / 색 모드가 바뀔 때 증가 (getRenderVersion)
+    private long pieceVersion = -1;   // 지난 틱에 블록 영역을 계산한 그리기 버전
+    private boolean pieceClearing;
 
     // 배경 타일 이미지 재사용
     private BufferedImage backgroundImage;
     private int backgroundCellSize = -1;
 
+    // 블록/고스트/아이템 칸 스프라이트 (매 프레임 Polygon·Color 생성 대신 drawImage)
+    private final CellSpriteAtlas sprites = new CellSpriteAtlas();
+    // 고정 블록 레이어 (보드가 안 바뀐 프레임에는 다시 그리지 않음)
+    private final LockedCellLayer lockedLayer = new LockedCellLayer(WIDTH, HEIGHT);
+    // 파티클 묶음 렌더러 (색 표 / 글로우, 빔 스프라이트 재사용)
+    private final ParticleRenderer particleRenderer = new ParticleRenderer();
+    // 프레임 그리기 시간에 맞춰 효과 품질 단계 조절 (설정에서 고정 가능)
+    private final QualityGovernor quality = new QualityGovernor();
+    private GraphicsConfiguration lastPaintConfig;
+    private boolean lastPaintAccelerated;
+
+    // 능동 렌더링 (-Dtetris.render=active 일 때만, null 이면 Swing repaint 경로)
+    private ActiveBoardRenderer.BoardCanvas activeCanvas;
+    private ActiveBoardRenderer activeRenderer;
+    private SnapshotBuffer<BoardSnapshot> snapshots;
+    private boolean activeShown;       // 캔버스가 보이는 중 (일시정지 / 게임오버 / 글래스패널이면 Swing 으로 양보)
+    private long pendingChangeNanos;   // 아직 화면에 안 나간 가장 이른 변경 시각
+    private final LatencyHistogram swingLatency = new LatencyHistogram();
+
+    // 원격 블록 보간 (상대 보드만 사용, null 이면 논리 위치 그대로)
+    private PieceMotion pieceMotion;
+    private IntSupplier fallIntervalMs;
+
     // 생성자에 Settings 추가
     public BoardView(BoardLogic logic, Settings settings) {
         this.logic = logic;
@@ -68,15 +105,178 @@ public class BoardView extends JPanel {
         // 배경 이미지 생성 (셀 크기에 맞춰)
         initBackgroundImage(cellSize);
 
-        // 렌더링 60fps 전용 타이머
-        renderTimer = new Timer(16, e -> {
-            logic.getClearService().getParticleSystem().update();
-            repaint();
-        });
-        renderTimer.start();
+        // 렌더링: 60fps 로 바뀐 곳만 확인, 조용하면 repaint 없음
+        renderScheduler = new RenderScheduler(this, this::collectFrame);
+        renderScheduler.start();
+
+        quality.setListener(this::applyQualityTier);
+        quality.setPinned(pinnedTier(settings));
+        PerfMonitor.addSource(this, BoardView::renderStats);
 
         setBackground(BG_GAME);
         setBorder(BorderFactory.createLineBorder(new Color(50, 55, 70), 3));
+
+        if (ActiveBoardRenderer.isRequested())
+            enableActiveRendering();
+    }
+
+    /**
+     * 능동 렌더링 켜기: 보드 위에 BufferStrategy 캔버스를 겹치고 렌더 스레드가 스냅샷을 그림
+     * - 캔버스가 화면에 붙을 때 (addNotify) 스레드 시작, 떨어질 때 정지
+     * - 반투명 경량 오버레이 (일시정지 / 게임오버 / 글래스패널 효과) 는 무거운 캔버스 위에 못 그리므로
+     *   그동안은 캔버스를 숨기고 Swing 경로로 그림 (updateActiveMode)
+     */
+    public void enableActiveRendering() {
+        if (activeRenderer != null)
+            return;
+        snapshots = new SnapshotBuffer<>(BoardSnapshot::new);
+        activeCanvas = new ActiveBoardRenderer.BoardCanvas();
+        activeRenderer = new ActiveBoardRenderer(activeCanvas, snapshots);
+        activeCanvas.setRenderer(activeRenderer);
+        activeCanvas.setVisible(false);
+        setLayout(null);
+        add(activeCanvas);
+        renderScheduler.setPresenter(f -> activeShown && publishSnapshot());
+    }
+
+    /** 테스트 / 측정용: 캔버스 없이 주어진 대상에 그리는 렌더 스레드를 바로 시작 */
+    public void enableActiveRendering(ActiveBoardRenderer.Target target) {
+        if (activeRenderer != null)
+            return;
+        snapshots = new SnapshotBuffer<>(BoardSnapshot::new);
+        activeRenderer = new ActiveBoardRenderer(target, snapshots);
+        renderScheduler.setPresenter(f -> activeShown && publishSnapshot());
+        activeRenderer.start();
+    }
+
+    public boolean isActiveRendering() {
+        return activeShown;
+    }
+
+    public ActiveBoardRenderer getActiveRenderer() {
+        return activeRenderer;
+    }
+
+    /** Swing 경로의 변경 → paint 완료 지연 */
+    public LatencyHistogram getSwingLatency() {
+        return swingLatency;
+    }
+
+    @Override
+    public void doLayout() {
+        super.doLayout();
+        if (activeCanvas != null)
+            activeCanvas.setBounds(0, 0, getWidth(), getHeight()); // 테두리까지 캔버스가 직접 그림
+        if (activeShown)
+            publishSnapshot(); // 새 크기로 다시 그림
+    }
+
+    /** 지금 캔버스로 그릴 수 있는지 판단해서 캔버스 표시 / 숨김 전환 (EDT, 렌더 틱마다) */
+    private void updateActiveMode() {
+        if (activeRenderer == null)
+            return;
+        JRootPane root = getRootPane();
+        boolean glass = root != null && root.getGlassPane().isVisible();
+        boolean want = renderScheduler.isRunning() && visibleDuringStandby && !showGameOverScreen && !glass;
+        if (want == activeShown)
+            return;
+        activeShown = want;
+        if (activeCanvas != null)
+            activeCanvas.setVisible(want);
+        if (want)
+            publishSnapshot();
+        else
+            repaint(); // 캔버스가 가리던 자리를 Swing 이 다시 그림
+    }
+
+    /** 현재 상태를 스냅샷으로 복사해 렌더 스레드에 넘김 (EDT) */
+    boolean publishSnapshot() {
+        BoardSnapshot s = snapshots.back();
+        captureSnapshot(s);
+        if (snapshots.publish()) {
+            // 읽히지 않고 밀려난 장면의 변경 시각은 다음 장면으로 넘김
+            long dropped = snapshots.back().changeNanos;
+            if (dropped != 0 && (pendingChangeNanos == 0 || dropped < pendingChangeNanos))
+                pendingChangeNanos = dropped;
+        }
+        activeRenderer.wake();
+        return true;
+    }
+
+    /** paintComponent 가 logic 에서 읽는 것을 값으로 복사 */
+    void captureSnapshot(BoardSnapshot s) {
+        int cellSize = currentCellSize();
+        s.width = getWidth();
+        s.height = getHeight();
+        s.cellSize = cellSize;
+        s.colorMode = colorMode;
+        s.border = getBorder();
+        s.shake = logic.getShakeOffset();
+        s.antialias = quality.getTier().antialias;
+        s.glow = particleRenderer.isGlow();
+
+        Color[][] grid = logic.getBoard();
+        for (int y = 0; y < HEIGHT; y++)
+            System.arraycopy(grid[y], 0, s.board[y], 0, WIDTH);
+
+        Block curr = logic.getCurr();
+        s.pieceCells = 0;
+        s.item = null;
+        s.pieceDx = 0;
+        s.pieceDy = 0;
+        if (curr != null) {
+            int bx = logic.getX(), by = logic.getY();
+            s.ensurePieceCapacity(curr.width() * curr.height());
+            s.pieceColor = curr.getColor();
+            s.itemCell = -1;
+            if (curr instanceof ItemBlock item)
+                s.item = item;
+            for (int j = 0; j < curr.height(); j++) {
+                for (int i = 0; i < curr.width(); i++) {
+                    if (curr.getShape(i, j) != 1)
+                        continue;
+                    if (curr instanceof LineClearItem lci && i == lci.getLX() && j == lci.getLY())
+                        s.itemCell = s.pieceCells; // LineClearItem 은 핵심 칸에만 심볼
+                    s.cellX[s.pieceCells] = bx + i;
+                    s.cellY[s.pieceCells] = by + j;
+                    s.pieceCells++;
+                }
+            }
+            if (curr instanceof LineClearItem && s.itemCell < 0)
+                s.item = null;
+            s.ghost = !logic.getClearService().isClearing();
+            int ghostY = move.getGhostY();
+            s.ghostDy = ghostY - by;
+            if (pieceMotion != null) {
+                long now = System.nanoTime();
+                pieceMotion.setFallInterval(fallIntervalMs.getAsInt());
+                pieceMotion.update(curr, bx, by, ghostY, now);
+                s.pieceDx = pieceMotion.displayX(now) - bx;
+                s.pieceDy = pieceMotion.displayY(now) - by;
+            }
+        }
+
+        s.copyParticles(logic.getClearService().getParticleSystem());
+
+        awards.removeIf(award -> {
+            award.update();
+            return award.isExpired();
+        });
+        s.awards.clear();
+        for (AwardNotification a : awards)
+            s.awards.add(new AwardNotification(a));
+
+        s.capturedNanos = System.nanoTime();
+        s.changeNanos = pendingChangeNanos;
+        pendingChangeNanos = 0;
+    }
+
+    /** F2 오버레이 한 줄: 렌더 경로 / 품질 단계 / 변경 → 화면 지연 */
+    private String renderStats() {
+        LatencyHistogram latency = activeShown ? activeRenderer.getPhotonLatency() : swingLatency;
+        return String.format("board  %s %s  in->photon p50 %.1f p99 %.1f ms",
+                activeShown ? "active" : "swing", quality,
+                latency.percentile(0.50) / 1e6, latency.percentile(0.99) / 1e6);
     }
 
     // getPreferredSize를 Settings 기반으로 수정 (null 안전)
@@ -98,14 +298,18 @@ public class BoardView extends JPanel {
 
     /** 배경(빈 칸 타일)을 한 번만 그려두는 메서드 */
     private void initBackgroundImage(int cellSize) {
-
         this.backgroundCellSize = cellSize; // 현재 셀 크기 저장
+        this.backgroundImage = createBackgroundImage(cellSize);
+    }
 
+    /** 배경 타일 이미지 생성 (능동 렌더 스레드도 같은 것을 따로 만들어 씀) */
+    static BufferedImage createBackgroundImage(int cellSize) {
         int w = BoardLogic.WIDTH * cellSize;
         int h = BoardLogic.HEIGHT * cellSize;
 
-        backgroundImage = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = backgroundImage.createGraphics();
+        // 전체를 BG_GAME 으로 채우므로 불투명 이미지 (알파 합성 없이 복사만)
+        BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // 보드 배경 기본 색
@@ -123,9 +327,10 @@ public class BoardView extends JPanel {
         }
 
         g2.dispose();
+        return image;
     }
 
-    private static class AwardNotification {
+    static final class AwardNotification {
         String text;
         Color color;
         long createTime;
@@ -143,6 +348,17 @@ public class BoardView extends JPanel {
             this.createTime = System.currentTimeMillis();
         }
 
+        // 렌더 스레드 스냅샷용 복사본 (update 는 EDT 쪽 원본만)
+        AwardNotification(AwardNotification o) {
+            this.text = o.text;
+            this.color = o.color;
+            this.fontSize = o.fontSize;
+            this.createTime = o.createTime;
+            this.alpha = o.alpha;
+            this.scale = o.scale;
+            this.offsetY = o.offsetY;
+        }
+
         void update() {
             long elapsed = System.currentTimeMillis() - createTime;
 
@@ -175,12 +391,19 @@ public class BoardView extends JPanel {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g.create();
 
-        if (!visibleDuringStandby) {
-            g2.dispose(); // ← 리턴 전에 정리
+        if (!visibleDuringStandby || activeShown) {
+            g2.dispose(); // ← 리턴 전에 정리 (능동 렌더링 중에는 캔버스가 덮고 있음)
             return;
         }
 
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // 일부 영역만 다시 그리는 paint 는 프레임 비용이 아님 (품질 판단 / 히스토그램에서 제외)
+        Rectangle clip = g.getClipBounds();
+        boolean fullFrame = clip == null || (clip.width >= getWidth() && clip.height >= getHeight());
+        long paintStart = System.nanoTime();
+        boolean antialias = quality.getTier().antialias || !isAcceleratedTarget(g2);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialias
+                ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF);
 
         int shakeOffset = logic.getShakeOffset();
         if (shakeOffset != 0) {
@@ -202,35 +425,35 @@ public class BoardView extends JPanel {
             initBackgroundImage(currentCellSize);
         }
 
+        // 셀 스프라이트 캐시도 모드/크기에 맞춤
+        sprites.prepare(g2, colorMode, currentCellSize);
+
         // 3) 배경 먼저 그리기
         g2.drawImage(backgroundImage, 0, 0, null);
 
-        renderBeamParticles(g2, currentCellSize);
+        ParticleSystem particles = logic.getClearService().getParticleSystem();
+        particleRenderer.drawBeams(g2, particles.getBeamParticles());
 
-        // 5) 고정 블록 그리기
-        Color[][] grid = logic.getBoard();
-        for (int y = 0; y < BoardLogic.HEIGHT; y++) {
-            for (int x = 0; x < BoardLogic.WIDTH; x++) {
-                if (grid[y][x] != null) {
-                    drawCell(g2, x, y,
-                            ColorBlindPalette.convert(grid[y][x], colorMode),
-                            currentCellSize); // ← 셀 크기 전달
-                }
-            }
-        }
+        // 5) 고정 블록 레이어 (바뀐 줄만 다시 그리고 이미지 한 장으로 찍음)
+        lockedLayer.paint(g2, logic.getBoard(), sprites, currentCellSize, getGraphicsConfiguration());
 
-        renderTrailParticles(g2, currentCellSize);
+        particleRenderer.drawTrails(g2, particles.getTrailParticles(), currentCellSize, CELL_GAP);
 
         // === Ghost 블록 ===
         drawGhostBlock(g2, currentCellSize);
 
         // === 4) 현재 블록 ===
         Block curr = logic.getCurr();
-        if (curr != null)
-            drawCurrentBlock(g2, curr, currentCellSize);
+        if (curr != null) {
+            if (pieceMotion != null)
+                drawInterpolatedBlock(g2, curr, currentCellSize);
+            else
+                drawCurrentBlock(g2, curr, currentCellSize);
+        }
 
         // === 5) 파티클 렌더링 ===
-        drawParticles(g2);
+        particleRenderer.drawSparks(g2, particles.getParticles());
+        particleRenderer.drawShards(g2, particles.getShards());
 
         // === 6) GAME OVER 오버레이 ===
         if (showGameOverScreen) {
@@ -241,353 +464,25 @@ public class BoardView extends JPanel {
             return award.isExpired();
         });
 
-        drawAwards(g2, currentCellSize);
+        drawAwards(g2, awards, getWidth());
         g2.dispose();
-    }
-
-    /**
-     * 궤적 파티클 렌더링 - 블록이 떨어진 자리에 반투명 잔상
-     */
-    private void renderTrailParticles(Graphics2D g2, int cellSize) {
-        ParticleSystem particleSystem = logic.getClearService().getParticleSystem();
-        List<ParticleSystem.TrailParticle> trails = particleSystem.getTrailParticles();
-
-        if (!trails.isEmpty()) {
-            //System.out.println("[RENDER] Trail particles: " + trails.size());
+        long paintEnd = System.nanoTime();
+        if (fullFrame)
+            recordFrameTime(paintEnd - paintStart);
+        if (pendingChangeNanos != 0) {
+            swingLatency.record(paintEnd - pendingChangeNanos);
+            pendingChangeNanos = 0;
         }
-
-        if (trails == null || trails.isEmpty()) {
-            return;
-        }
-
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        for (ParticleSystem.TrailParticle trail : trails) {
-            float alpha = trail.getAlpha();
-            if (alpha <= 0)
-                continue;
-
-            Color c = trail.color;
-
-            //  궤적 색상 (약간 밝게 + 투명도)
-            Color trailColor = new Color(
-                    Math.min(255, c.getRed() + 30),
-                    Math.min(255, c.getGreen() + 30),
-                    Math.min(255, c.getBlue() + 30),
-                    (int) (alpha * 255));
-
-            int px = trail.x * cellSize + CELL_GAP;
-            int py = trail.y * cellSize + CELL_GAP;
-            int size = cellSize - CELL_GAP * 2;
-
-            //  안쪽을 약간 작게 그려서 경계선 효과
-            int inset = 3;
-            int innerX = px + inset;
-            int innerY = py + inset;
-            int innerSize = size - inset * 2;
-
-            // 1) 바깥쪽 테두리 (더 진한 색)
-            g2.setColor(new Color(
-                    c.getRed(),
-                    c.getGreen(),
-                    c.getBlue(),
-                    (int) (alpha * 180)));
-            g2.fillRect(px, py, size, size);
-
-            // 2) 안쪽 중심 (밝은 색)
-            g2.setColor(trailColor);
-            g2.fillRect(innerX, innerY, innerSize, innerSize);
-
-            // 3) 테두리 효과 (선택적)
-            if (alpha > 0.3f) {
-                g2.setColor(new Color(255, 255, 255, (int) (alpha * 100)));
-                g2.setStroke(new BasicStroke(1.5f));
-                g2.drawRect(innerX, innerY, innerSize, innerSize);
-            }
-        }
-    }
-
-    /**
-     * 빔 파티클 렌더링 (테이퍼 광선 - 아래는 굵고 위는 얇음)
-     */
-    private void renderBeamParticles(Graphics2D g2, int cellSize) {
-        ParticleSystem particleSystem = logic.getClearService().getParticleSystem();
-        List<ParticleSystem.BeamParticle> beams = particleSystem.getBeamParticles();
-
-        if (beams == null || beams.isEmpty()) {
-            return;
-        }
-
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-
-        for (ParticleSystem.BeamParticle beam : beams) {
-            float alpha = beam.getAlpha();
-            if (alpha <= 0)
-                continue;
-
-            //  제곱 페이드 효과 (더 빠르게 사라짐)
-            float fadeAlpha = alpha * alpha;
-
-            int height = beam.endY - beam.startY;
-
-            //  테이퍼 광선 그리기 (아래 → 위로 점점 가늘어짐)
-            drawTaperedBeam(g2, beam, fadeAlpha, height, cellSize);
-        }
-    }
-
-    /**
-     * 테이퍼 광선 그리기 (중앙 진한 단색 레이저)
-     */
-    private void drawTaperedBeam(Graphics2D g2, ParticleSystem.BeamParticle beam,
-            float alpha, int height, int cellSize) {
-        int centerX = beam.x;
-
-        //  중앙 레이저만 그리기 (진한 단색)
-        int beamWidth = (int) (beam.width * 0.8f); // 블록 너비의 80%
-
-        // 사각형 레이저 (위에서 아래까지 같은 굵기)
-        int[] xPoints = {
-                centerX - beamWidth / 2,
-                centerX + beamWidth / 2,
-                centerX + beamWidth / 2,
-                centerX - beamWidth / 2
-        };
-        int[] yPoints = {
-                beam.startY,
-                beam.startY,
-                beam.endY,
-                beam.endY
-        };
-
-        //  블록 색상 그대로 (완전 불투명)
-        g2.setColor(new Color(
-                beam.color.getRed(),
-                beam.color.getGreen(),
-                beam.color.getBlue(),
-                180 // 완전 불투명
-        ));
-        g2.fillPolygon(xPoints, yPoints, 4);
-
-        //  테두리 (더 진하게)
-        g2.setStroke(new BasicStroke(2f));
-        g2.setColor(new Color(
-                Math.max(0, beam.color.getRed() - 40),
-                Math.max(0, beam.color.getGreen() - 40),
-                Math.max(0, beam.color.getBlue() - 40)));
-        g2.drawPolygon(xPoints, yPoints, 4);
     }
 
-    /**
-     * 광선 레이어 그리기 (진한 단색)
-     */
-    private void drawBeamLayer(Graphics2D g2, int centerX, int startY, int endY,
-            int topWidth, int bottomWidth, Color baseColor, float alpha) {
-        if (alpha <= 0)
-            return;
-
-        // 그라데이션 없이 진한 단색으로
-        Color solidColor = new Color(
-                baseColor.getRed(),
-                baseColor.getGreen(),
-                baseColor.getBlue(),
-                (int) (alpha * 180));
-
-        // 사다리꼴 모양
-        int[] xPoints = {
-                centerX - topWidth / 2,
-                centerX + topWidth / 2,
-                centerX + bottomWidth / 2,
-                centerX - bottomWidth / 2
-        };
-        int[] yPoints = {
-                startY,
-                startY,
-                endY,
-                endY
-        };
-
-        //  단색으로 채우기 (그라데이션 제거)
-        g2.setColor(solidColor);
-        g2.fillPolygon(xPoints, yPoints, 4);
-    }
-
-    /**
-     * 중심 밝은 라인 (레이저 코어) - 심플하게
-     */
-    private void drawCoreBeam(Graphics2D g2, int centerX, int startY, int endY,
-            int topWidth, int bottomWidth, float alpha) {
-        if (alpha <= 0)
-            return;
-
-        // 순백색 코어 (적당하게)
-        Color coreColor = new Color(255, 255, 255, (int) (alpha * 180));
-
-        int[] xPoints = {
-                centerX - topWidth / 2,
-                centerX + topWidth / 2,
-                centerX + bottomWidth / 2,
-                centerX - bottomWidth / 2
-        };
-        int[] yPoints = {
-                startY,
-                startY,
-                endY,
-                endY
-        };
-
-        g2.setColor(coreColor);
-        g2.fillPolygon(xPoints, yPoints, 4);
-
-        // 중앙 라인 (심플하게)
-        g2.setStroke(new BasicStroke(2f));
-        g2.setColor(new Color(255, 255, 255, (int) (alpha * 220)));
-        g2.drawLine(centerX, startY, centerX, endY);
-    }
-
-    /** 파티클 렌더링 */
-    private void drawParticles(Graphics2D g2) {
-        ParticleSystem particles = logic.getClearService().getParticleSystem();
-        List<ParticleSystem.Particle> particleList = particles.getParticles();
-
-        if (particleList.isEmpty()) {
-            return;
-        }
-
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
-
-        for (ParticleSystem.Particle p : particleList) {
-            if (p.life <= 0)
-                continue;
-            float alpha = p.getAlpha();
-            if (alpha <= 0)
-                continue;
-
-            Color c = new Color(
-                    p.color.getRed() / 255f,
-                    p.color.getGreen() / 255f,
-                    p.color.getBlue() / 255f,
-                    alpha);
-
-            int px = (int) p.x;
-            int py = (int) p.y;
-
-            g2.setColor(c);
-            g2.fillOval(px - p.size / 2, py - p.size / 2, p.size, p.size);
-
-            if (alpha > 0.6f) {
-                Color glow = new Color(1f, 1f, 1f, alpha * 0.4f);
-                g2.setColor(glow);
-                int glowSize = p.size + 2;
-                g2.fillOval(px - glowSize / 2, py - glowSize / 2, glowSize, glowSize);
-            }
-
-            double speed = Math.sqrt(p.vx * p.vx + p.vy * p.vy);
-            if (speed > 2.0 && alpha > 0.5f) {
-                g2.setColor(new Color(
-                        p.color.getRed() / 255f,
-                        p.color.getGreen() / 255f,
-                        p.color.getBlue() / 255f,
-                        alpha * 0.3f));
-
-                int tailX = (int) (px - p.vx * 2);
-                int tailY = (int) (py - p.vy * 2);
-
-                g2.setStroke(new BasicStroke(Math.max(1, p.size / 2)));
-                g2.drawLine(px, py, tailX, tailY);
-            }
-        }
-    }
-
-    /** 기본 셀 렌더링 - cellSize 파라미터 추가 */
-    private void drawCell(Graphics2D g2, int x, int y, Color baseColor, int cellSize) {
-        int px = x * cellSize + CELL_GAP;
-        int py = y * cellSize + CELL_GAP;
-        int size = cellSize - CELL_GAP * 2;
-
-        // 중앙 정사각형 inset 비율 (살짝 줄여서 더 단단한 느낌)
-        int inset = (int) (size * 0.22);
-        int innerX = px + inset;
-        int innerY = py + inset;
-        int innerSize = size - inset * 2;
-
-        // 🔹 색 계열: 대비를 확 줄여서 은은하게
-        Color topColor = lighten(baseColor, 0.15f); // 0.35f → 0.15f
-        Color leftColor = lighten(baseColor, 0.07f); // 0.15f → 0.07f
-        Color rightColor = darken(baseColor, 0.12f); // 0.25f → 0.12f
-        Color bottomColor = darken(baseColor, 0.20f); // 0.45f → 0.20f
-        Color centerColor = darken(baseColor, 0.03f); // 중앙은 아주 조금만 어둡게
-
-        // ===== top facet (위 사다리꼴) =====
-        Polygon top = new Polygon();
-        top.addPoint(px, py);
-        top.addPoint(px + size, py);
-        top.addPoint(innerX + innerSize, innerY);
-        top.addPoint(innerX, innerY);
-        g2.setColor(topColor);
-        g2.fillPolygon(top);
-
-        // ===== bottom facet =====
-        Polygon bottom = new Polygon();
-        bottom.addPoint(innerX, innerY + innerSize);
-        bottom.addPoint(innerX + innerSize, innerY + innerSize);
-        bottom.addPoint(px + size, py + size);
-        bottom.addPoint(px, py + size);
-        g2.setColor(bottomColor);
-        g2.fillPolygon(bottom);
-
-        // ===== left facet =====
-        Polygon left = new Polygon();
-        left.addPoint(px, py);
-        left.addPoint(innerX, innerY);
-        left.addPoint(innerX, innerY + innerSize);
-        left.addPoint(px, py + size);
-        g2.setColor(leftColor);
-        g2.fillPolygon(left);
-
-        // ===== right facet =====
-        Polygon right = new Polygon();
-        right.addPoint(innerX + innerSize, innerY);
-        right.addPoint(px + size, py);
-        right.addPoint(px + size, py + size);
-        right.addPoint(innerX + innerSize, innerY + innerSize);
-        g2.setColor(rightColor);
-        g2.fillPolygon(right);
-
-        // ===== 중앙 정사각형 =====
-        g2.setColor(centerColor);
-        g2.fillRect(innerX, innerY, innerSize, innerSize);
-
-        // 바깥 테두리도 살짝만
-        g2.setColor(new Color(0, 0, 0, 120)); // 150 → 120
-        g2.drawRect(px, py, size, size);
-    }
-
-    // 색 더 밝게
-    private Color lighten(Color c, float amount) {
-        float r = c.getRed() / 255f;
-        float g = c.getGreen() / 255f;
-        float b = c.getBlue() / 255f;
-        r = Math.min(1f, r + amount);
-        g = Math.min(1f, g + amount);
-        b = Math.min(1f, b + amount);
-        return new Color(r, g, b);
-    }
-
-    // 색 더 어둡게
-    private Color darken(Color c, float amount) {
-        float r = c.getRed() / 255f;
-        float g = c.getGreen() / 255f;
-        float b = c.getBlue() / 255f;
-        r = Math.max(0f, r - amount);
-        g = Math.max(0f, g - amount);
-        b = Math.max(0f, b - amount);
-        return new Color(r, g, b);
+    /** 전체 프레임 한 장의 그리기 시간 (Swing / 능동 렌더링 공통, EDT) */
+    private void recordFrameTime(long paintNanos) {
+        quality.record(paintNanos);
+        PerfMonitor.recordFrame(paintNanos);
     }
 
     /** 배경용 타일 (블록보다 훨씬 차분한 3D) */
-    private void drawBackgroundCell(Graphics2D g2, int gridX, int gridY, int cellSize) {
+    private static void drawBackgroundCell(Graphics2D g2, int gridX, int gridY, int cellSize) {
         int px = gridX * cellSize + CELL_GAP;
         int py = gridY * cellSize + CELL_GAP;
         int size = cellSize - CELL_GAP * 2;
@@ -639,24 +534,17 @@ public class BoardView extends JPanel {
             return;
 
         int bx = logic.getX();
-        int ghostY = move.getGhostY(curr);
-
-        g2.setColor(new Color(200, 200, 200, 120));
-        Stroke oldStroke = g2.getStroke();
-        g2.setStroke(new BasicStroke(2f));
+        int ghostY = move.getGhostY();
 
         for (int j = 0; j < curr.height(); j++) {
             for (int i = 0; i < curr.width(); i++) {
                 if (curr.getShape(i, j) == 1) {
                     int x = (bx + i) * cellSize + CELL_GAP;
                     int y = (ghostY + j) * cellSize + CELL_GAP;
-                    int size = cellSize - CELL_GAP * 2;
-                    g2.drawRect(x, y, size, size);
+                    sprites.drawGhost(g2, x, y);
                 }
             }
         }
-
-        g2.setStroke(oldStroke);
     }
 
     /** 현재 블록 + 아이템 효과 - cellSize 파라미터 추가 */
@@ -666,61 +554,54 @@ public class BoardView extends JPanel {
         for (int j = 0; j < block.height(); j++) {
             for (int i = 0; i < block.width(); i++) {
                 if (block.getShape(i, j) == 1) {
-                    int x = bx + i;
-                    int y = by + j;
-                    Color color = ColorBlindPalette.convert(block.getColor(), colorMode);
-                    drawCell(g2, x, y, color, cellSize);
+                    int px = (bx + i) * cellSize + CELL_GAP;
+                    int py = (by + j) * cellSize + CELL_GAP;
 
                     if (block instanceof LineClearItem lci) {
-                        if (i == lci.getLX() && j == lci.getLY()) {
-                            drawItemSymbol(g2, lci, x, y, cellSize);
-                        }
+                        // LineClearItem 은 핵심 칸에만 심볼
+                        if (i == lci.getLX() && j == lci.getLY())
+                            sprites.drawItem(g2, block.getColor(), lci, px, py);
+                        else
+                            sprites.drawBlock(g2, block.getColor(), px, py);
                     } else if (block instanceof ItemBlock item) {
-                        drawItemSymbol(g2, item, x, y, cellSize);
+                        sprites.drawItem(g2, block.getColor(), item, px, py);
+                    } else {
+                        sprites.drawBlock(g2, block.getColor(), px, py);
                     }
                 }
             }
         }
     }
 
-    /** 아이템 오버레이 - cellSize 파라미터 추가 */
-    private void drawItemSymbol(Graphics2D g2, ItemBlock item, int gridX, int gridY, int cellSize) {
-        int px = gridX * cellSize + CELL_GAP;
-        int py = gridY * cellSize + CELL_GAP;
-        int size = cellSize - CELL_GAP * 2;
-        g2.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
-        FontMetrics fm = g2.getFontMetrics();
-
-        String symbol = switch (item) {
-            case LineClearItem l -> "L";
-            case WeightItem w -> "W";
-            case SpinLockItem s -> SpinLockItem.getSymbol();
-            case ColorBombItem b -> "💥";
-            case LightningItem l -> "⚡";
-            default -> null;
-        };
+    /**
+     * 원격 블록: 논리 위치와 보간 위치의 차이만큼 옮겨서 그림 (칸 사이 위치 가능)
+     */
+    private void drawInterpolatedBlock(Graphics2D g2, Block block, int cellSize) {
+        long now = System.nanoTime();
+        int bx = logic.getX(), by = logic.getY();
+        pieceMotion.setFallInterval(fallIntervalMs.getAsInt());
+        pieceMotion.update(block, bx, by, move.getGhostY(), now);
 
-        if (item instanceof ColorBombItem) {
-            g2.setColor(new Color(255, 220, 100, 120));
-            g2.setStroke(new BasicStroke(3f));
-            g2.drawOval(px + 4, py + 4, size - 8, size - 8);
-        } else if (item instanceof LightningItem) {
-            g2.setColor(new Color(100, 180, 255, 140));
-            g2.setStroke(new BasicStroke(3f));
-            g2.drawOval(px + 4, py + 4, size - 8, size - 8);
-        }
+        AffineTransform old = g2.getTransform();
+        g2.translate((pieceMotion.displayX(now) - bx) * cellSize, (pieceMotion.displayY(now) - by) * cellSize);
+        drawCurrentBlock(g2, block, cellSize);
+        g2.setTransform(old);
+    }
 
-        if (symbol != null) {
-            g2.setColor(Color.BLACK);
-            int tx = px + (size - fm.stringWidth(symbol)) / 2;
-            int ty = py + (size + fm.getAscent() - fm.getDescent()) / 2;
-            g2.drawString(symbol, tx, ty);
-        }
+    /**
+     * 현재 블록을 보간해서 그리기 (네트워크로 받은 상대 블록용)
+     *
+     * @param fallIntervalMs 한 칸 낙하 간격 (다음 업데이트 전까지 미리 내려 그림, 0 이면 안 함)
+     */
+    public void enablePieceInterpolation(IntSupplier fallIntervalMs) {
+        this.pieceMotion = new PieceMotion();
+        this.fallIntervalMs = fallIntervalMs;
     }
 
     // 색맹 모드 설정
     public void setColorMode(ColorBlindPalette.Mode mode) {
         this.colorMode = mode;
+        viewVersion++;
         repaint();
     }
 
@@ -742,6 +623,10 @@ public class BoardView extends JPanel {
             };
         }
         logic.setCellSize(cellSize);
+        sprites.invalidate();
+        lockedLayer.invalidate();
+        quality.setPinned(pinnedTier(settings));
+        viewVersion++;
 
         revalidate();
         repaint();
@@ -756,40 +641,221 @@ public class BoardView extends JPanel {
 
     // 렌더링 제어
     public void pauseRendering() {
-        if (renderTimer != null && renderTimer.isRunning()) {
-            renderTimer.stop();
-        }
+        renderScheduler.stop();
+        updateActiveMode(); // 일시정지 화면은 Swing 경로로
     }
 
     public void resumeRendering() {
-        if (renderTimer != null && !renderTimer.isRunning()) {
-            renderTimer.start();
+        if (!renderScheduler.isRunning()) {
+            renderScheduler.start();
         }
     }
 
     public void stopRendering() {
-        if (renderTimer != null) {
-            renderTimer.stop();
+        renderScheduler.stop();
+        updateActiveMode();
+    }
+
+    /** 상태가 바뀌었음을 알림 (바뀐 영역은 다음 틱에서 계산해 그 부분만 repaint) */
+    public void requestRender() {
+        if (pendingChangeNanos == 0)
+            pendingChangeNanos = System.nanoTime();
+        if (activeShown)
+            publishSnapshot(); // 틱을 기다리지 않고 바로 렌더 스레드로 (입력 지연 단축)
+        renderScheduler.requestRender();
+    }
+
+    public RenderScheduler getRenderScheduler() {
+        return renderScheduler;
+    }
+
+    /**
+     * 그리기 버전 - 논리 상태 (GameState.getVersion) 나 보기 설정 (칸 크기 / 색 모드) 이 바뀌면 커짐
+     * - 두 값 모두 증가만 하므로 합도 바뀔 때마다 커짐
+     * - 파생 값 (고스트 줄, 블록 영역 등) 을 이 값과 함께 저장해두고 같으면 다시 계산하지 않음
+     */
+    public long getRenderVersion() {
+        return logic.getState().getVersion() + viewVersion;
+    }
+
+    /**
+     * 렌더 틱마다 호출: 파티클 진행 후 지난 틱과 달라진 영역을 frame 에 모음
+     * - 파티클 / 흔들림 / 어워드 → 전체 (끝난 다음 틱까지)
+     * - 원격 블록 보간 → 블록 주변 (보간 범위만큼 넓혀서)
+     * - 고정 블록 → 바뀐 줄 묶음
+     * - 현재 블록 / 고스트 → 이전 영역 + 새 영역
+     *
+     * @return 계속 움직이는 중이면 true
+     */
+    boolean collectFrame(RenderScheduler.Frame frame) {
+        updateActiveMode();
+        if (activeRenderer != null)
+            activeRenderer.drainPaintTimes(this::recordFrameTime); // 능동 렌더링은 paintComponent 를 안 거침
+        ParticleSystem particles = logic.getClearService().getParticleSystem();
+        particles.update();
+        if (shatterDone != null && particles.getShards().isEmpty()) {
+            Runnable done = shatterDone;
+            shatterDone = null;
+            SwingUtilities.invokeLater(done);
         }
+        if (!visibleDuringStandby)
+            return false;
+
+        int cellSize = currentCellSize();
+        boolean particlesAlive = particles.hasActiveParticles();
+        boolean effects = logic.getShakeOffset() != 0 || !awards.isEmpty();
+        if (particlesAlive || effects || wasAnimating) {
+            frame.addFull(particlesAlive ? RenderScheduler.Reason.PARTICLES : RenderScheduler.Reason.EFFECTS);
+        }
+        wasAnimating = particlesAlive || effects;
+
+        // 고정 블록: 바뀐 줄 묶음 (테두리가 1px 나가므로 위아래 1px 여유)
+        Color[][] grid = logic.getBoard();
+        int runStart = -1;
+        for (int y = 0; y <= HEIGHT; y++) {
+            boolean changed = false;
+            if (y < HEIGHT) {
+                Color[] row = grid[y];
+                Color[] seen = boardSeen[y];
+                for (int x = 0; x < WIDTH; x++) {
+                    if (!Objects.equals(row[x], seen[x])) {
+                        changed = true;
+                        System.arraycopy(row, 0, seen, 0, WIDTH);
+                        break;
+                    }
+                }
+            }
+            if (changed && runStart < 0) {
+                runStart = y;
+            } else if (!changed && runStart >= 0) {
+                frame.add(RenderScheduler.Reason.BOARD,
+                        0, runStart * cellSize - 1, WIDTH * cellSize + 2, (y - runStart) * cellSize + 3);
+                runStart = -1;
+            }
+        }
+
+        // 현재 블록 + 고스트: 그리기 버전이 그대로면 영역도 그대로 (보간 중 제외)
+        Block curr = logic.getCurr();
+        boolean interpolating = pieceMotion != null && curr != null;
+        long version = getRenderVersion();
+        boolean clearing = logic.getClearService().isClearing();
+        if (!interpolating && version == pieceVersion && clearing == pieceClearing)
+            return wasAnimating;
+        pieceVersion = version;
+        pieceClearing = clearing;
+
+        Rectangle area = pieceArea(curr, cellSize);
+        int key = pieceKey(curr);
+        if (interpolating && area != null) {
+            // 보간 중에는 화면 위치가 논리 위치에서 최대 SNAP_CELLS 칸까지 떨어질 수 있음
+            int pad = (PieceMotion.SNAP_CELLS + 1) * cellSize;
+            area.grow(pad, pad);
+        }
+        if (interpolating || key != lastPieceKey || !Objects.equals(area, lastPieceArea)) {
+            RenderScheduler.Reason reason = interpolating ? RenderScheduler.Reason.EFFECTS : RenderScheduler.Reason.PIECE;
+            frame.add(reason, lastPieceArea);
+            frame.add(reason, area);
+        }
+        lastPieceArea = area;
+        lastPieceKey = key;
+
+        return wasAnimating || interpolating;
     }
 
-    public void cleanup() {
-        if (renderTimer != null) {
-            renderTimer.stop();
-            renderTimer = null;
+    // 블록 칸 + 고스트 칸을 덮는 픽셀 영역 (테두리/고스트 선/아이템 심볼 여유 2px)
+    private Rectangle pieceArea(Block curr, int cellSize) {
+        if (curr == null)
+            return null;
+        int bx = logic.getX();
+        int top = logic.getY();
+        int bottom = top + curr.height();
+        if (!logic.getClearService().isClearing()) {
+            bottom = Math.max(bottom, move.getGhostY() + curr.height());
         }
+        int m = 2;
+        return new Rectangle(bx * cellSize - m, top * cellSize - m,
+                curr.width() * cellSize + m * 2 + 1, (bottom - top) * cellSize + m * 2 + 1);
+    }
+
+    // 블록 종류 / 모양 (회전) / 고스트 표시 여부가 바뀌면 달라지는 값
+    private int pieceKey(Block curr) {
+        if (curr == null)
+            return 0;
+        int h = System.identityHashCode(curr);
+        for (int y = 0; y < curr.height(); y++) {
+            for (int x = 0; x < curr.width(); x++) {
+                h = h * 31 + curr.getShape(x, y);
+            }
+        }
+        return h * 31 + (logic.getClearService().isClearing() ? 1 : 0);
+    }
+
+    private int currentCellSize() {
+        if (settings == null)
+            return CELL_SIZE;
+        return switch (settings.screenSize) {
+            case SMALL -> 20;
+            case MEDIUM -> 25;
+            case LARGE -> 30;
+        };
+    }
+
+    /** 그리는 대상이 하드웨어 가속인지 (설정이 바뀔 때만 다시 확인) */
+    private boolean isAcceleratedTarget(Graphics2D g2) {
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        if (gc != lastPaintConfig) {
+            lastPaintConfig = gc;
+            lastPaintAccelerated = gc != null && gc.getImageCapabilities().isAccelerated();
+        }
+        return lastPaintAccelerated;
+    }
+
+    /** 설정의 렌더 품질 → 고정 단계 (AUTO 면 null) */
+    private static QualityGovernor.Tier pinnedTier(Settings settings) {
+        if (settings == null || settings.renderQuality == Settings.RenderQuality.AUTO)
+            return null;
+        return QualityGovernor.Tier.valueOf(settings.renderQuality.name());
+    }
+
+    /** 품질 단계를 각 효과에 반영 (안티에일리어싱은 paintComponent 에서 매 프레임 읽음) */
+    private void applyQualityTier(QualityGovernor.Tier tier) {
+        ParticleSystem particles = logic.getClearService().getParticleSystem();
+        particles.setParticleBudget(tier.particleBudget);
+        particles.setTrailLife(tier.trailLife);
+        particleRenderer.setGlow(tier.glow);
+        logic.setShakeEnabled(tier.shake);
+        requestRender();
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return quality;
+    }
+
+    public void cleanup() {
+        renderScheduler.stop();
+        if (activeRenderer != null)
+            activeRenderer.stop();
+        PerfMonitor.removeSource(this);
         System.out.println("[CLEANUP] BoardView resources released");
     }
 
+    /**
+     * 게임 오버 파편 애니메이션 (싱글 플레이) 후 afterAnimation
+     * - 채워진 칸을 파편 풀에 넣고 보드를 비움 → 렌더 틱이 진행 / 그리기 (Swing 컴포넌트 / 레이아웃 없음)
+     * - 가장 낮은 품질 단계 (shatterStride 0) 에서는 파편 없이 바로 afterAnimation
+     */
     public void triggerGameOverAnimation(Runnable afterAnimation) {
         Color[][] board = logic.getBoard();
-        Color[][] boardCopy = new Color[BoardLogic.HEIGHT][BoardLogic.WIDTH];
+        int stride = quality.getTier().shatterStride;
+        if (stride > 0) {
+            logic.getClearService().getParticleSystem()
+                    .createShatterBurst(board, currentCellSize(), CELL_GAP, stride);
+            setFocusable(false);
+            setEnabled(false);
+        }
 
         for (int y = 0; y < BoardLogic.HEIGHT; y++) {
-            for (int x = 0; x < BoardLogic.WIDTH; x++) {
-                boardCopy[y][x] = board[y][x];
-                board[y][x] = null;
-            }
+            Arrays.fill(board[y], null);
         }
 
         int[][] pid = logic.getState().getPieceId();
@@ -804,105 +870,43 @@ public class BoardView extends JPanel {
             }
         }
 
-        repaint();
+        startShatter(afterAnimation);
+    }
 
-        JPanel glassPane = new JPanel(null);
-        glassPane.setOpaque(false);
+    /**
+     * 보드 전체가 유리처럼 깨지는 효과 (온라인 대전) 후 afterAnimation
+     * - 빈 칸까지 모든 칸이 중심에서 바깥으로 흩어짐
+     */
+    public void triggerGlassShatter(Runnable afterAnimation) {
+        Color[][] board = logic.getBoard();
+        logic.getClearService().getParticleSystem().createGlassShatter(board, currentCellSize());
+        for (int y = 0; y < BoardLogic.HEIGHT; y++) {
+            Arrays.fill(board[y], null);
+        }
+        startShatter(afterAnimation);
+    }
+
+    /** 파편이 다 사라진 렌더 틱에서 afterAnimation (렌더링이 멈춰 있으면 바로) */
+    private void startShatter(Runnable afterAnimation) {
+        ParticleSystem particles = logic.getClearService().getParticleSystem();
+        if (shatterDone != null)
+            SwingUtilities.invokeLater(shatterDone); // 앞 효과의 콜백은 잃지 않음
+        shatterDone = null;
 
-        JFrame parentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
-        if (parentFrame == null) {
+        if (particles.getShards().isEmpty() || !renderScheduler.isRunning()) {
+            particles.getShards().clear();
+            repaint();
             if (afterAnimation != null)
                 afterAnimation.run();
             return;
         }
+        shatterDone = afterAnimation != null ? afterAnimation : () -> {
+        };
+        requestRender();
+    }
 
-        setFocusable(false);
-        setEnabled(false);
-
-        parentFrame.setGlassPane(glassPane);
-        glassPane.setVisible(true);
-
-        List<JPanel> blocks = new ArrayList<>();
-
-        // 현재 셀 크기 사용
-        int currentCellSize = Math.min(getWidth() / WIDTH, getHeight() / HEIGHT);
-
-        for (int y = 0; y < BoardLogic.HEIGHT; y++) {
-            for (int x = 0; x < BoardLogic.WIDTH; x++) {
-                if (boardCopy[y][x] != null) {
-                    JPanel block = new JPanel();
-                    block.setBackground(boardCopy[y][x]);
-                    block.setBorder(BorderFactory.createLineBorder(boardCopy[y][x].darker(), 1));
-
-                    Point screenPos = SwingUtilities.convertPoint(
-                            this,
-                            x * currentCellSize + CELL_GAP,
-                            y * currentCellSize + CELL_GAP,
-                            glassPane);
-
-                    block.setBounds(
-                            screenPos.x,
-                            screenPos.y,
-                            currentCellSize - CELL_GAP * 2,
-                            currentCellSize - CELL_GAP * 2);
-
-                    glassPane.add(block);
-                    blocks.add(block);
-                }
-            }
-        }
-
-        Timer explosionTimer = new Timer(12, null);
-        final int[] frameCount = { 0 };
-        final int maxFrames = 30;
-
-        List<double[]> velocities = new ArrayList<>();
-        for (int i = 0; i < blocks.size(); i++) {
-            velocities.add(new double[] {
-                    (Math.random() - 0.5) * 60,
-                    -(Math.random() * 25 + 15),
-                    (Math.random() - 0.5) * 30
-            });
-        }
-
-        explosionTimer.addActionListener(e -> {
-            frameCount[0]++;
-
-            for (int i = 0; i < blocks.size(); i++) {
-                JPanel block = blocks.get(i);
-                double[] vel = velocities.get(i);
-
-                Rectangle bounds = block.getBounds();
-                bounds.x += (int) vel[0];
-                bounds.y += (int) vel[1];
-                vel[1] += 10;
-
-                block.setBounds(bounds);
-
-                float alpha = 1.0f - (frameCount[0] / (float) maxFrames);
-                alpha = Math.max(0, alpha);
-
-                Color originalColor = block.getBackground();
-                block.setBackground(new Color(
-                        originalColor.getRed(),
-                        originalColor.getGreen(),
-                        originalColor.getBlue(),
-                        (int) (255 * alpha)));
-            }
-
-            glassPane.repaint();
-
-            if (frameCount[0] >= maxFrames) {
-                glassPane.setVisible(false);
-                ((Timer) e.getSource()).stop();
-
-                if (afterAnimation != null) {
-                    SwingUtilities.invokeLater(afterAnimation);
-                }
-            }
-        });
-
-        explosionTimer.start();
+    public boolean isShattering() {
+        return shatterDone != null;
     }
 
     public void showGameOverStats(int score, int lines, int level, Runnable onComplete) {
@@ -915,7 +919,7 @@ public class BoardView extends JPanel {
 
         addGameOverMouseListener();
 
-        Timer fadeTimer = new Timer(5, null);
+        Timer fadeTimer = PerfMonitor.timer(5, null);
         fadeTimer.addActionListener(e -> {
             gameOverAlpha += 0.05f;
             if (gameOverAlpha >= 1.0f) {
@@ -1048,14 +1052,14 @@ public class BoardView extends JPanel {
         g2.drawString(buttonText, textX, textY);
     }
 
-    private void drawAwards(Graphics2D g2, int cellSize) {
+    /** 어워드 문구 (Swing 경로는 원본, 능동 렌더 스레드는 스냅샷 복사본을 넘김) */
+    static void drawAwards(Graphics2D g2, List<AwardNotification> awards, int boardWidth) {
         if (awards.isEmpty())
             return;
 
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
-        int boardWidth = getWidth();
         int baseY = 100; // 보드 상단에서 100픽셀 아래
 
         for (AwardNotification award : awards) {
@@ -0,0 +1,287 @@
+package component;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import component.items.ColorBombItem;
+import component.items.ItemBlock;
+import component.items.LightningItem;
+import component.items.LineClearItem;
+import component.items.SpinLockItem;
+import component.items.WeightItem;
+
+/**
+ * CellSpriteAtlas - 미리 그려둔 셀 스프라이트 캐시
+ * ---------------------------------------------
+ * - 베벨 블록 / 고스트 / 아이템 / 미리보기 타일을 BufferedImage 로 한 번만 그려두고
+ *   매 프레임에는 칸마다 drawImage 한 번만 호출
+ * - 키: (원본 색, 색맹 모드, 셀 크기, 변형) — 모드·셀 크기·화면 배율이 바뀌면 prepare 에서 전부 비움
+ * - 색맹 변환(ColorBlindPalette.convert)도 스프라이트를 만들 때 한 번만
+ * - 화면 배율(HiDPI)이 1 이 아니면 그 배율로 그려두고 논리 크기로 찍음
+ * - EDT 에서만 사용 (동기화 없음), 뷰마다 하나씩 보유
+ */
+public class CellSpriteAtlas {
+
+    public enum Variant {
+        BLOCK, // 고정/현재 블록 (베벨)
+        GHOST, // 고스트 외곽선 (색 무관)
+        ITEM,  // 베벨 + 아이템 심볼
+        TILE   // 사이드 미리보기용 둥근 타일
+    }
+
+    private static final Color BORDER = new Color(0, 0, 0, 120);
+    private static final Color GHOST_COLOR = new Color(200, 200, 200, 120);
+    private static final Color TILE_HIGHLIGHT = new Color(255, 255, 255, 60);
+    private static final Color TILE_SHADE = new Color(0, 0, 0, 40);
+    private static final Color BOMB_RING = new Color(255, 220, 100, 120);
+    private static final Color LIGHTNING_RING = new Color(100, 180, 255, 140);
+    private static final Font SYMBOL_FONT = new Font("Segoe UI Emoji", Font.BOLD, 18);
+
+    // 색 → 변형별 스프라이트 (Color 의 equals/hashCode 가 RGB 기반이라 조회 시 할당 없음)
+    private final Map<Color, BufferedImage[]> sprites = new HashMap<>();
+    // 색 → 심볼별 아이템 스프라이트
+    private final Map<Color, Map<String, BufferedImage>> itemSprites = new HashMap<>();
+    private BufferedImage ghost;
+
+    private ColorBlindPalette.Mode mode = ColorBlindPalette.Mode.NORMAL;
+    private int size = -1;
+    private double scale = 1.0;
+    private int builds;
+    private int generation;
+
+    /**
+     * 이번 페인트에 쓸 모드/셀 크기를 맞춤 (바뀌었으면 캐시를 비움)
+     *
+     * @param size 칸 한 변의 논리 픽셀 크기
+     */
+    public void prepare(Graphics2D g2, ColorBlindPalette.Mode mode, int size) {
+        double s = Math.abs(g2.getTransform().getScaleX());
+        if (s <= 0)
+            s = 1.0;
+        if (mode != this.mode || size != this.size || s != this.scale) {
+            invalidate();
+            this.mode = mode;
+            this.size = size;
+            this.scale = s;
+        }
+    }
+
+    /** 설정 변경 등으로 다시 그려야 할 때 */
+    public void invalidate() {
+        sprites.clear();
+        itemSprites.clear();
+        ghost = null;
+        generation++;
+    }
+
+    public void drawBlock(Graphics2D g2, Color base, int px, int py) {
+        blit(g2, sprite(base, Variant.BLOCK), px, py, Variant.BLOCK);
+    }
+
+    public void drawGhost(Graphics2D g2, int px, int py) {
+        blit(g2, sprite(null, Variant.GHOST), px, py, Variant.GHOST);
+    }
+
+    public void drawTile(Graphics2D g2, Color base, int px, int py) {
+        blit(g2, sprite(base, Variant.TILE), px, py, Variant.TILE);
+    }
+
+    /** 베벨 + 아이템 심볼 (심볼이 없는 아이템은 일반 블록) */
+    public void drawItem(Graphics2D g2, Color base, ItemBlock item, int px, int py) {
+        String symbol = symbolOf(item);
+        if (symbol == null) {
+            drawBlock(g2, base, px, py);
+            return;
+        }
+        Map<String, BufferedImage> bySymbol = itemSprites.computeIfAbsent(base, c -> new HashMap<>());
+        BufferedImage img = bySymbol.get(symbol);
+        if (img == null) {
+            img = render(base, Variant.ITEM, symbol);
+            bySymbol.put(symbol, img);
+        }
+        blit(g2, img, px, py, Variant.ITEM);
+    }
+
+    /** 원본 색 기준 스프라이트 (GHOST 는 색 무시) */
+    public BufferedImage sprite(Color base, Variant v) {
+        if (v == Variant.GHOST) {
+            if (ghost == null)
+                ghost = render(null, v, null);
+            return ghost;
+        }
+        BufferedImage[] byVariant = sprites.get(base);
+        if (byVariant == null) {
+            byVariant = new BufferedImage[Variant.values().length];
+            sprites.put(base, byVariant);
+        }
+        BufferedImage img = byVariant[v.ordinal()];
+        if (img == null) {
+            img = render(base, v, null);
+            byVariant[v.ordinal()] = img;
+        }
+        return img;
+    }
+
+    /** 캐시를 비울 때마다 증가 (이 스프라이트로 그려둔 레이어가 다시 그려야 하는지 판단) */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /** 지금까지 새로 그린 스프라이트 수 (캐시 적중 확인용) */
+    public int getBuildCount() {
+        return builds;
+    }
+
+    // 고스트는 2px 선이 칸 밖으로 1px 나가므로 여백을 둠
+    private static int pad(Variant v) {
+        return v == Variant.GHOST ? 1 : 0;
+    }
+
+    // 테두리 drawRect 가 size+1 픽셀을 덮으므로 한 칸 더 크게
+    private int extent(Variant v) {
+        return size + 1 + pad(v) * 2;
+    }
+
+    private void blit(Graphics2D g2, BufferedImage img, int px, int py, Variant v) {
+        int p = pad(v);
+        if (scale == 1.0) {
+            g2.drawImage(img, px - p, py - p, null);
+        } else {
+            int e = extent(v);
+            g2.drawImage(img, px - p, py - p, e, e, null);
+        }
+    }
+
+    private BufferedImage render(Color original, Variant v, String symbol) {
+        int device = (int) Math.ceil(extent(v) * scale);
+        BufferedImage img = new BufferedImage(device, device, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        g.translate(pad(v), pad(v));
+
+        Color base = original == null ? null : ColorBlindPalette.convert(original, mode);
+        switch (v) {
+            case BLOCK -> paintBevel(g, base, size);
+            case GHOST -> paintGhost(g, size);
+            case ITEM -> {
+                paintBevel(g, base, size);
+                paintSymbol(g, symbol, size);
+            }
+            case TILE -> paintTile(g, base, size);
+        }
+        g.dispose();
+        builds++;
+        return img;
+    }
+
+    /** 기본 셀 (베벨) - 원래 BoardView.drawCell 과 같은 모양 */
+    static void paintBevel(Graphics2D g2, Color baseColor, int size) {
+        // 중앙 정사각형 inset 비율 (살짝 줄여서 더 단단한 느낌)
+        int inset = (int) (size * 0.22);
+        int innerSize = size - inset * 2;
+        int far = inset + innerSize;
+
+        // 색 계열: 대비를 줄여서 은은하게
+        Color topColor = lighten(baseColor, 0.15f);
+        Color leftColor = lighten(baseColor, 0.07f);
+        Color rightColor = darken(baseColor, 0.12f);
+        Color bottomColor = darken(baseColor, 0.20f);
+        Color centerColor = darken(baseColor, 0.03f);
+
+        // top / bottom / left / right facet
+        g2.setColor(topColor);
+        g2.fillPolygon(new Polygon(new int[] { 0, size, far, inset }, new int[] { 0, 0, inset, inset }, 4));
+        g2.setColor(bottomColor);
+        g2.fillPolygon(new Polygon(new int[] { inset, far, size, 0 }, new int[] { far, far, size, size }, 4));
+        g2.setColor(leftColor);
+        g2.fillPolygon(new Polygon(new int[] { 0, inset, inset, 0 }, new int[] { 0, inset, far, size }, 4));
+        g2.setColor(rightColor);
+        g2.fillPolygon(new Polygon(new int[] { far, size, size, far }, new int[] { inset, 0, size, far }, 4));
+
+        // 중앙 정사각형
+        g2.setColor(centerColor);
+        g2.fillRect(inset, inset, innerSize, innerSize);
+
+        // 바깥 테두리도 살짝만
+        g2.setColor(BORDER);
+        g2.drawRect(0, 0, size, size);
+    }
+
+    private static void paintGhost(Graphics2D g2, int size) {
+        g2.setColor(GHOST_COLOR);
+        g2.setStroke(new BasicStroke(2f));
+        g2.drawRect(0, 0, size, size);
+    }
+
+    /** 미리보기 타일 - NextPreviewPanel 의 둥근 칸 */
+    private static void paintTile(Graphics2D g2, Color base, int s) {
+        g2.setColor(base);
+        g2.fillRoundRect(0, 0, s, s, 4, 4);
+        g2.setColor(TILE_HIGHLIGHT);
+        g2.fillRoundRect(0, 0, s, s / 3, 4, 4);
+        g2.setColor(TILE_SHADE);
+        g2.fillRoundRect(0, (s * 2) / 3, s, s / 3, 4, 4);
+    }
+
+    /** 아이템 오버레이 - 원래 BoardView.drawItemSymbol 과 같은 모양 */
+    private static void paintSymbol(Graphics2D g2, String symbol, int size) {
+        if (symbol.equals("💥")) {
+            g2.setColor(BOMB_RING);
+            g2.setStroke(new BasicStroke(3f));
+            g2.drawOval(4, 4, size - 8, size - 8);
+        } else if (symbol.equals("⚡")) {
+            g2.setColor(LIGHTNING_RING);
+            g2.setStroke(new BasicStroke(3f));
+            g2.drawOval(4, 4, size - 8, size - 8);
+        }
+
+        g2.setFont(SYMBOL_FONT);
+        FontMetrics fm = g2.getFontMetrics();
+        g2.setColor(Color.BLACK);
+        int tx = (size - fm.stringWidth(symbol)) / 2;
+        int ty = (size + fm.getAscent() - fm.getDescent()) / 2;
+        g2.drawString(symbol, tx, ty);
+    }
+
+    static String symbolOf(ItemBlock item) {
+        return switch (item) {
+            case LineClearItem l -> "L";
+            case WeightItem w -> "W";
+            case SpinLockItem s -> SpinLockItem.getSymbol();
+            case ColorBombItem b -> "💥";
+            case LightningItem l -> "⚡";
+            default -> null;
+        };
+    }
+
+    // 색 더 밝게
+    static Color lighten(Color c, float amount) {
+        float r = c.getRed() / 255f;
+        float g = c.getGreen() / 255f;
+        float b = c.getBlue() / 255f;
+        r = Math.min(1f, r + amount);
+        g = Math.min(1f, g + amount);
+        b = Math.min(1f, b + amount);
+        return new Color(r, g, b);
+    }
+
+    // 색 더 어둡게
+    static Color darken(Color c, float amount) {
+        float r = c.getRed() / 255f;
+        float g = c.getGreen() / 255f;
+        float b = c.getBlue() / 255f;
+        r = Math.max(0f, r - amount);
+        g = Math.max(0f, g - amount);
+        b = Math.max(0f, b - amount);
+        return new Color(r, g, b);
+    }
+}
@@ -1,5 +1,7 @@
 package component;
 
+import component.metrics.PerfOverlay;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
@@ -37,6 +39,9 @@ public class GameFrame extends JFrame {
 
         add(activePanel, BorderLayout.CENTER);
 
+        // F2: 프레임 / 틱 / EDT / GC 성능 오버레이
+        PerfOverlay.install(getRootPane());
+
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             //System.out.println("\n========== SHUTDOWN HOOK ==========");
             //System.out.println("Active threads:");
@@ -1,5 +1,6 @@
 package component;
 
+import component.metrics.PerfMonitor;
 import logic.BoardLogic;
 
 import javax.swing.SwingUtilities;
@@ -7,7 +8,7 @@ import javax.swing.Timer;
 
 /**
  * GameLoop (Swing Timer 버전)
- * - pause 중에는 tick 자체가 스킵됨
+ * - pause 중에는 타이머를 멈춤 (tick 자체가 없음)
  * - drop 속도 변화는 매 tick에서 delay 동기화
  * - 기존 API(startLoop/stopLoop/pauseLoop/resumeLoop)와 호환
  */
@@ -25,7 +26,7 @@ public class GameLoop {
         this.repaint = (repaint != null) ? repaint : () -> {};
 
         int initialDelay = Math.max(1, (logic != null) ? logic.getDropInterval() : 1000);
-        this.timer = new Timer(initialDelay, e -> {
+        this.timer = PerfMonitor.timer(initialDelay, e -> {
             if (paused) return;
             if (logic != null) {
                 // 드롭 인터벌 변동에 맞춰 Timer 딜레이 동기화
@@ -33,8 +34,10 @@ public class GameLoop {
                 Timer t = (Timer) e.getSource();
                 if (newDelay != t.getDelay()) t.setDelay(newDelay);
 
-                // 한 틱 진행
+                // 한 틱 진행 (F2 오버레이가 켜져 있을 때만 시간 측정)
+                long t0 = PerfMonitor.begin();
                 logic.moveDown();
+                PerfMonitor.endTick(t0);
 
                 // 게임 종료 체크
                 if (logic.isGameOver()) {
@@ -68,8 +71,16 @@ public class GameLoop {
         timer.stop();
     }
 
-    public void pause()  { paused = true;  }
-    public void resume() { paused = false; }
+    // 일시정지 중에는 타이머 자체를 멈춤 (빈 틱으로 깨어나지 않게)
+    public synchronized void pause() {
+        paused = true;
+        timer.stop();
+    }
+
+    public synchronized void resume() {
+        paused = false;
+        if (running && !timer.isRunning()) timer.start();
+    }
 
     /* ===== 유틸 ===== */
     public void setInterval(int ms) { timer.setDelay(Math.max(1, ms)); }
@@ -0,0 +1,189 @@
+package component;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Objects;
+
+/**
+ * LockedCellLayer - 고정 블록 레이어 캐시
+ * --------------------
+ * - 고정된 칸만 투명 레이어 이미지에 그려두고 매 프레임에는 이미지 한 장만 찍음
+ * - 마지막으로 그린 보드 스냅샷과 줄 단위로 비교해서 바뀐 줄만 다시 그림
+ *   (락 / 줄 삭제 / 가비지 / 중력 단계 / 상대 델타 모두 보드 배열을 직접 바꾸므로 비교로 한 번에 잡음)
+ * - 화면 GraphicsConfiguration 이 있으면 VolatileImage, 없으면 (헤드리스) BufferedImage
+ * - VolatileImage 내용이 날아가면 (contentsLost / validate) 전체 다시 그림
+ * - 셀 크기 / 화면 배율 / 스프라이트 캐시 세대가 바뀌면 전체 다시 그림
+ */
+public class LockedCellLayer {
+
+    private final int width, height;
+    private final Color[][] shadow;
+    private final boolean[] dirty;
+    private boolean allDirty = true;
+
+    private Image image;
+    private GraphicsConfiguration imageConfig;
+    private int cellSize = -1;
+    private double scale = 1.0;
+    private int spriteGeneration = -1;
+
+    private long rowsRendered;
+    private long framesReused;
+
+    public LockedCellLayer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.shadow = new Color[height][width];
+        this.dirty = new boolean[height];
+    }
+
+    /** 다음 페인트에서 전부 다시 그림 */
+    public void invalidate() {
+        allDirty = true;
+    }
+
+    /** 특정 줄을 강제로 다시 그림 (보드 비교로 못 잡는 변화가 있을 때) */
+    public void markDirty(int row) {
+        if (row >= 0 && row < height)
+            dirty[row] = true;
+    }
+
+    /**
+     * 바뀐 줄만 갱신한 뒤 레이어를 (0,0) 에 찍음
+     *
+     * @param gc 화면 설정 (null 이면 BufferedImage 사용)
+     */
+    public void paint(Graphics2D g2, Color[][] grid, CellSpriteAtlas sprites, int cellSize, GraphicsConfiguration gc) {
+        double s = Math.abs(g2.getTransform().getScaleX());
+        if (s <= 0)
+            s = 1.0;
+        if (cellSize != this.cellSize || s != scale || gc != imageConfig
+                || sprites.getGeneration() != spriteGeneration || image == null) {
+            this.cellSize = cellSize;
+            this.scale = s;
+            this.spriteGeneration = sprites.getGeneration();
+            image = createImage(gc);
+            allDirty = true;
+        }
+
+        // VolatileImage 는 그리기 전에 검증 (복구되면 내용이 비어 있음)
+        if (image instanceof VolatileImage vi && gc != null) {
+            int status = vi.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE)
+                image = createImage(gc);
+            if (status != VolatileImage.IMAGE_OK)
+                allDirty = true;
+        }
+
+        boolean reused = !collectDirtyRows(grid);
+        if (!reused)
+            render(grid, sprites);
+
+        if (image instanceof VolatileImage vi && vi.contentsLost()) {
+            allDirty = true; // 다음 프레임에 다시 그림
+        }
+
+        int w = width * cellSize + 1;
+        int h = height * cellSize + 1;
+        if (scale == 1.0)
+            g2.drawImage(image, 0, 0, null);
+        else
+            g2.drawImage(image, 0, 0, w, h, null);
+
+        if (reused)
+            framesReused++;
+    }
+
+    /** 스냅샷과 비교해 바뀐 줄 표시 (하나라도 있으면 true) */
+    private boolean collectDirtyRows(Color[][] grid) {
+        boolean any = allDirty;
+        for (int y = 0; y < height; y++) {
+            Color[] row = grid[y];
+            Color[] seen = shadow[y];
+            boolean changed = allDirty || dirty[y];
+            for (int x = 0; x < width && !changed; x++) {
+                if (!Objects.equals(row[x], seen[x]))
+                    changed = true;
+            }
+            if (changed) {
+                System.arraycopy(row, 0, seen, 0, width);
+                dirty[y] = true;
+                any = true;
+            }
+        }
+        allDirty = false;
+        return any;
+    }
+
+    /**
+     * 바뀐 줄 묶음마다 해당 띠를 지우고 다시 그림
+     * - 칸 테두리가 아래/오른쪽으로 1px 나가므로 위아래 이웃 줄도 클립 안에서 같은 순서로 다시 그림
+     */
+    private void render(Color[][] grid, CellSpriteAtlas sprites) {
+        Graphics2D g = (Graphics2D) image.getGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+
+        int y = 0;
+        while (y < height) {
+            if (!dirty[y]) {
+                y++;
+                continue;
+            }
+            int from = y;
+            while (y < height && dirty[y]) {
+                dirty[y] = false;
+                y++;
+            }
+            int to = y - 1;
+
+            int top = from * cellSize;
+            int bottom = (to + 1) * cellSize + 1;
+            g.setClip(0, top, width * cellSize + 1, bottom - top);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, top, width * cellSize + 1, bottom - top);
+            g.setComposite(AlphaComposite.SrcOver);
+
+            for (int row = Math.max(0, from - 1); row <= Math.min(height - 1, to + 1); row++) {
+                for (int x = 0; x < width; x++) {
+                    Color c = grid[row][x];
+                    if (c != null)
+                        sprites.drawBlock(g, c, x * cellSize, row * cellSize);
+                }
+            }
+            rowsRendered += to - from + 1;
+        }
+        g.dispose();
+    }
+
+    private Image createImage(GraphicsConfiguration gc) {
+        imageConfig = gc;
+        int w = (int) Math.ceil((width * cellSize + 1) * scale);
+        int h = (int) Math.ceil((height * cellSize + 1) * scale);
+        if (gc != null) {
+            try {
+                return gc.createCompatibleVolatileImage(w, h, Transparency.TRANSLUCENT);
+            } catch (RuntimeException e) {
+                System.err.println("[LockedCellLayer] VolatileImage 생성 실패, BufferedImage 사용: " + e.getMessage());
+            }
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /** 지금까지 다시 그린 줄 수 */
+    public long getRowsRendered() {
+        return rowsRendered;
+    }
+
+    /** 다시 그릴 것 없이 그대로 찍은 프레임 수 */
+    public long getFramesReused() {
+        return framesReused;
+    }
+}
@@ -1,5 +1,6 @@
 package component;
 
+import component.metrics.PerfMonitor;
 import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -163,7 +164,7 @@ public class MenuPanel extends JPanel {
 
         // Stars + title animation
         seedStars();
-        anim = new Timer(33, e -> {
+        anim = PerfMonitor.timer(33, e -> {
             stepStars();
             titleGlowPhase += 0.03f;
             titleFloat += 0.02f;
@@ -936,7 +937,7 @@ public class MenuPanel extends JPanel {
         JButton b = new JButton(text) {
             private float hover = 0f;
             private boolean over = false;
-            private final Timer t = new Timer(16, e -> {
+            private final Timer t = PerfMonitor.timer(16, e -> {
                 float tgt = over ? 1f : 0f;
                 if (Math.abs(hover - tgt) > 0.01f) {
                     hover += (tgt - hover) * 0.25f;
@@ -1025,7 +1026,7 @@ public class MenuPanel extends JPanel {
         JButton b = new JButton(text) {
             private float hover = 0f;
             private boolean over = false;
-            private final Timer t = new Timer(16, e -> {
+            private final Timer t = PerfMonitor.timer(16, e -> {
                 float tgt = over ? 1f : 0f;
                 if (Math.abs(hover - tgt) > 0.01f) {
                     hover += (tgt - hover) * 0.25f;
@@ -1123,7 +1124,7 @@ public class MenuPanel extends JPanel {
         JButton b = new JButton(text) {
             private float hover = 0f;
             private boolean over = false;
-            private final Timer t = new Timer(16, e -> {
+            private final Timer t = PerfMonitor.timer(16, e -> {
                 float target = over ? 1f : 0f;
                 if (Math.abs(hover - target) > 0.01f) {
                     hover += (target - hover) * 0.25f;
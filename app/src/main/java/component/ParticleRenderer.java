@@ -0,0 +1,396 @@
+package component;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import logic.ParticlePool;
+import logic.ParticleSystem;
+
+/**
+ * ParticleRenderer - 파티클 / 궤적 / 빔 묶음 렌더러
+ * --------------------
+ * - 색은 채널당 4비트 버킷 × ALPHA_STEPS 단계 표에서 꺼냄 (처음 한 번만 Color 생성, 이후 프레임당 0)
+ * - 같은 블렌드 상태끼리 한 레이어로 그림: 본체 → 글로우 → 꼬리
+ *   - 파티클은 (색 버킷, 알파 단계) 순으로 정렬 (counting sort) 해서 같은 색이 연속되게 함
+ *   - 본체 / 글로우는 (색, 알파 단계, 지름) 별로 미리 그려둔 안티에일리어싱 원 스프라이트 (premultiplied) 를 찍기만 함
+ *     (쓰인 조합만 만들고 계속 재사용 - 작은 원을 매번 래스터화하는 비용 제거)
+ *   - 꼬리 선은 setColor 를 색이 바뀔 때만 호출
+ * - 하드 드롭 빔도 (색, 크기) 별 스프라이트 한 장을 만들어두고 수명 동안 재사용
+ * - 게임 오버 파편은 칸 크기 사각형 + 1px 어두운 테두리 (Swing 패널 없이 같은 색 표 사용)
+ * - 렌더링 힌트는 건드리지 않음 (BoardView.paintComponent 에서 한 번 설정)
+ * - EDT 전용
+ */
+public class ParticleRenderer {
+
+    public static final int ALPHA_STEPS = 16;
+
+    private static final int BUCKET_BITS = 4; // 채널당
+    private static final int BUCKETS = 1 << (BUCKET_BITS * 3);
+    private static final int MAX_GLOW = 8;
+    private static final int BEAM_CACHE = 4;
+    private static final int WHITE_BUCKET = bucketOf(0xFFFFFF);
+
+    private static final BasicStroke TAIL_STROKE = new BasicStroke(1f);
+    private static final BasicStroke TAIL_STROKE_WIDE = new BasicStroke(2f);
+    private static final BasicStroke TRAIL_STROKE = new BasicStroke(1.5f);
+    private static final BasicStroke BEAM_STROKE = new BasicStroke(2f);
+
+    // [버킷][알파 단계] → Color (필요할 때 채움)
+    private final Color[][] colorTable = new Color[BUCKETS][];
+    // [지름][알파 단계] → 흰 원 스프라이트
+    private final BufferedImage[][] glowSprites = new BufferedImage[MAX_GLOW + 1][];
+    // [버킷][알파 단계 × 지름] → 본체 원 스프라이트 (쓰인 조합만)
+    private final BufferedImage[][] dotSprites = new BufferedImage[BUCKETS][];
+
+    // 빔 스프라이트 캐시 (동시에 몇 개뿐)
+    private final BufferedImage[] beamImages = new BufferedImage[BEAM_CACHE];
+    private final long[] beamKeys = new long[BEAM_CACHE];
+    private int beamNext;
+
+    // 정렬용 작업 버퍼 (파티클 수만큼 늘어나고 줄어들지 않음)
+    private final int[] bucketStart = new int[BUCKETS + 1];
+    private final int[] stepStart = new int[ALPHA_STEPS + 2];
+    private int[] keys = new int[0];
+    private int[] order = new int[0];
+    private int[] scratch = new int[0];
+
+    private boolean glow = true; // 품질 단계가 낮으면 글로우 레이어 생략
+
+    // 측정용
+    private long colorsBuilt;
+    private long spritesBuilt;
+    private int colorChanges; // 마지막 그리기의 setColor 호출 수
+
+    /** 일반 파티클: 본체 → 글로우 → 꼬리 */
+    public void drawSparks(Graphics2D g2, ParticlePool p) {
+        int n = p.size();
+        colorChanges = 0;
+        if (n == 0)
+            return;
+        sortByColor(p, n);
+
+        // 1) 본체 - (색, 알파, 크기) 별 원 스프라이트
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            int size = Math.min(MAX_GLOW, p.size[i]);
+            g2.drawImage(dotSprite(keys[i], step(p.alpha(i)), size),
+                    (int) p.x[i] - size / 2, (int) p.y[i] - size / 2, null);
+        }
+
+        // 2) 글로우 (밝을 때만)
+        for (int i = 0; glow && i < n; i++) {
+            float alpha = p.alpha(i);
+            if (alpha <= 0.6f)
+                continue;
+            int glowSize = Math.min(MAX_GLOW, p.size[i] + 2);
+            g2.drawImage(glowSprite(glowSize, step(alpha * 0.4f)),
+                    (int) p.x[i] - glowSize / 2, (int) p.y[i] - glowSize / 2, null);
+        }
+
+        // 3) 꼬리 (빠르게 움직이는 동안만) - 굵기별로 한 번씩
+        drawTails(g2, p, n, false);
+        drawTails(g2, p, n, true);
+    }
+
+    private void drawTails(Graphics2D g2, ParticlePool p, int n, boolean wide) {
+        boolean strokeSet = false;
+        Color last = null;
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            if ((p.size[i] >= 4) != wide)
+                continue;
+            float alpha = p.alpha(i);
+            float vx = p.vx[i], vy = p.vy[i];
+            if (alpha <= 0.5f || vx * vx + vy * vy <= 4f) // 속도 > 2
+                continue;
+            if (!strokeSet) {
+                g2.setStroke(wide ? TAIL_STROKE_WIDE : TAIL_STROKE);
+                strokeSet = true;
+            }
+            Color c = color(keys[i], alpha * 0.3f);
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+                colorChanges++;
+            }
+            int px = (int) p.x[i], py = (int) p.y[i];
+            g2.drawLine(px, py, (int) (px - vx * 2), (int) (py - vy * 2));
+        }
+    }
+
+    /** 궤적: 진한 바깥 → 밝은 안쪽 → 흰 테두리 (x, y 는 칸 좌표) */
+    public void drawTrails(Graphics2D g2, ParticlePool t, int cellSize, int gap) {
+        int n = t.size();
+        if (n == 0)
+            return;
+        sortByColor(t, n);
+
+        int size = cellSize - gap * 2;
+        int inset = 3; // 안쪽을 약간 작게 그려서 경계선 효과
+        int innerSize = size - inset * 2;
+
+        // 1) 바깥쪽 (더 진한 색)
+        Color last = null;
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            Color c = color(keys[i], trailAlpha(t, i) * 180 / 255f);
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+            }
+            g2.fillRect((int) t.x[i] * cellSize + gap, (int) t.y[i] * cellSize + gap, size, size);
+        }
+
+        // 2) 안쪽 중심 (밝은 색)
+        last = null;
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            Color c = color(bucketOf(lighten(t.argb[i], 30)), trailAlpha(t, i));
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+            }
+            g2.fillRect((int) t.x[i] * cellSize + gap + inset, (int) t.y[i] * cellSize + gap + inset,
+                    innerSize, innerSize);
+        }
+
+        // 3) 흰 테두리 (아직 진할 때만)
+        g2.setStroke(TRAIL_STROKE);
+        last = null;
+        for (int i = 0; i < n; i++) {
+            float alpha = trailAlpha(t, i);
+            if (alpha <= 0.3f)
+                continue;
+            Color c = color(WHITE_BUCKET, alpha * 100 / 255f);
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+            }
+            g2.drawRect((int) t.x[i] * cellSize + gap + inset, (int) t.y[i] * cellSize + gap + inset,
+                    innerSize, innerSize);
+        }
+    }
+
+    private static float trailAlpha(ParticlePool t, int i) {
+        return t.alpha(i) * 0.5f; // 최대 50% 투명도
+    }
+
+    /** 하드 드롭 빔: 블록 색 반투명 기둥 + 진한 테두리 */
+    public void drawBeams(Graphics2D g2, ParticleSystem.Beams beams) {
+        for (int i = 0; i < beams.size(); i++) {
+            int beamWidth = (int) (beams.width[i] * 0.8f); // 블록 너비의 80%
+            int w = beamWidth / 2 * 2;
+            int h = beams.endY[i] - beams.startY[i];
+            if (w <= 0 || h <= 0)
+                continue;
+            BufferedImage img = beamSprite(beams.argb[i], w, h);
+            // 테두리 선이 바깥으로 1px 나가므로 스프라이트 원점은 (-1, -1)
+            g2.drawImage(img, beams.x[i] - beamWidth / 2 - 1, beams.startY[i] - 1, null);
+        }
+    }
+
+    /** 게임 오버 파편: 칸 크기 사각형 → 어두운 테두리 (x, y 는 왼쪽 위 픽셀) */
+    public void drawShards(Graphics2D g2, ParticlePool p) {
+        int n = p.size();
+        if (n == 0)
+            return;
+        sortByColor(p, n);
+
+        // 1) 면
+        Color last = null;
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            Color c = color(keys[i], p.alpha(i));
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+            }
+            g2.fillRect((int) p.x[i], (int) p.y[i], p.size[i], p.size[i]);
+        }
+
+        // 2) 테두리 (Color.darker 와 같은 비율) - 반투명 drawRect 보다 1px fillRect 4개가 훨씬 쌈
+        last = null;
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            Color c = color(bucketOf(darken(p.argb[i])), p.alpha(i));
+            if (c != last) {
+                g2.setColor(c);
+                last = c;
+            }
+            int x = (int) p.x[i], y = (int) p.y[i], s = p.size[i];
+            g2.fillRect(x, y, s, 1);
+            g2.fillRect(x, y + s - 1, s, 1);
+            g2.fillRect(x, y + 1, 1, s - 2);
+            g2.fillRect(x + s - 1, y + 1, 1, s - 2);
+        }
+    }
+
+    private BufferedImage beamSprite(int argb, int w, int h) {
+        long key = (long) (argb & 0xFFFFFF) << 32 | (long) w << 16 | h;
+        for (int k = 0; k < BEAM_CACHE; k++) {
+            if (beamImages[k] != null && beamKeys[k] == key)
+                return beamImages[k];
+        }
+        int r = (argb >> 16) & 0xFF, g = (argb >> 8) & 0xFF, b = argb & 0xFF;
+        BufferedImage img = new BufferedImage(w + 3, h + 3, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D ig = img.createGraphics();
+        ig.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        ig.translate(1, 1);
+        ig.setColor(new Color(r, g, b, 180));
+        ig.fillRect(0, 0, w, h);
+        ig.setStroke(BEAM_STROKE);
+        ig.setColor(new Color(Math.max(0, r - 40), Math.max(0, g - 40), Math.max(0, b - 40)));
+        ig.drawRect(0, 0, w, h);
+        ig.dispose();
+        spritesBuilt++;
+
+        int slot = beamNext;
+        beamNext = (beamNext + 1) % BEAM_CACHE;
+        beamImages[slot] = img;
+        beamKeys[slot] = key;
+        return img;
+    }
+
+    private BufferedImage dotSprite(int bucket, int step, int diameter) {
+        BufferedImage[] row = dotSprites[bucket];
+        if (row == null)
+            row = dotSprites[bucket] = new BufferedImage[(ALPHA_STEPS + 1) * (MAX_GLOW + 1)];
+        int slot = step * (MAX_GLOW + 1) + diameter;
+        BufferedImage img = row[slot];
+        if (img == null) {
+            img = row[slot] = renderDot(color(bucket, step / (float) ALPHA_STEPS), diameter);
+            spritesBuilt++;
+        }
+        return img;
+    }
+
+    private static BufferedImage renderDot(Color c, int diameter) {
+        BufferedImage img = new BufferedImage(diameter + 1, diameter + 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D ig = img.createGraphics();
+        ig.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        ig.setComposite(AlphaComposite.Src);
+        ig.setColor(c);
+        ig.fillOval(0, 0, diameter, diameter);
+        ig.dispose();
+        return img;
+    }
+
+    private BufferedImage glowSprite(int diameter, int step) {
+        BufferedImage[] row = glowSprites[diameter];
+        if (row == null)
+            row = glowSprites[diameter] = new BufferedImage[ALPHA_STEPS + 1];
+        BufferedImage img = row[step];
+        if (img == null) {
+            img = row[step] = renderDot(color(WHITE_BUCKET, step / (float) ALPHA_STEPS), diameter);
+            spritesBuilt++;
+        }
+        return img;
+    }
+
+    /**
+     * (색 버킷, 알파 단계) 순으로 order 를 채움 - 같은 Color 가 연속되도록
+     * 알파 단계로 한 번, 버킷으로 한 번 stable counting sort (할당 없음)
+     */
+    private void sortByColor(ParticlePool p, int n) {
+        if (order.length < n) {
+            order = new int[n];
+            keys = new int[n];
+            scratch = new int[n];
+        }
+        // 1) 알파 단계별
+        int[] start = stepStart;
+        Arrays.fill(start, 0);
+        for (int i = 0; i < n; i++)
+            start[step(p.alpha(i)) + 1]++;
+        for (int s = 0; s <= ALPHA_STEPS; s++)
+            start[s + 1] += start[s];
+        for (int i = 0; i < n; i++)
+            scratch[start[step(p.alpha(i))]++] = i;
+
+        // 2) 버킷별 (단계 순서 유지)
+        start = bucketStart;
+        Arrays.fill(start, 0);
+        for (int i = 0; i < n; i++) {
+            int k = bucketOf(p.argb[i]);
+            keys[i] = k;
+            start[k + 1]++;
+        }
+        for (int k = 0; k < BUCKETS; k++)
+            start[k + 1] += start[k];
+        for (int j = 0; j < n; j++) {
+            int i = scratch[j];
+            order[start[keys[i]]++] = i;
+        }
+    }
+
+    /** 버킷 색 + 알파 단계에 해당하는 Color (표에 없으면 한 번 만들어 저장) */
+    private Color color(int bucket, float alpha) {
+        int s = step(alpha);
+        Color[] row = colorTable[bucket];
+        if (row == null)
+            row = colorTable[bucket] = new Color[ALPHA_STEPS + 1];
+        Color c = row[s];
+        if (c == null) {
+            int r = expand(bucket >> (BUCKET_BITS * 2));
+            int g = expand((bucket >> BUCKET_BITS) & 0xF);
+            int b = expand(bucket & 0xF);
+            c = row[s] = new Color(r, g, b, s * 255 / ALPHA_STEPS);
+            colorsBuilt++;
+        }
+        return c;
+    }
+
+    /** 알파 (0~1) → 단계 (1~ALPHA_STEPS, 살아있는 파티클이 아예 안 보이지 않도록 최소 1) */
+    static int step(float alpha) {
+        int s = Math.round(alpha * ALPHA_STEPS);
+        return s < 1 ? 1 : Math.min(s, ALPHA_STEPS);
+    }
+
+    static int bucketOf(int rgb) {
+        return ((rgb >> 20) & 0xF) << (BUCKET_BITS * 2) | ((rgb >> 12) & 0xF) << BUCKET_BITS | ((rgb >> 4) & 0xF);
+    }
+
+    private static int expand(int q) {
+        return q << 4 | q; // 0xF → 0xFF, 0x0 → 0x00
+    }
+
+    private static int darken(int rgb) {
+        int r = (int) (((rgb >> 16) & 0xFF) * 0.7);
+        int g = (int) (((rgb >> 8) & 0xFF) * 0.7);
+        int b = (int) ((rgb & 0xFF) * 0.7);
+        return r << 16 | g << 8 | b;
+    }
+
+    private static int lighten(int rgb, int amount) {
+        int r = Math.min(255, ((rgb >> 16) & 0xFF) + amount);
+        int g = Math.min(255, ((rgb >> 8) & 0xFF) + amount);
+        int b = Math.min(255, (rgb & 0xFF) + amount);
+        return r << 16 | g << 8 | b;
+    }
+
+    public void setGlow(boolean glow) {
+        this.glow = glow;
+    }
+
+    public boolean isGlow() {
+        return glow;
+    }
+
+    public long getColorsBuilt() {
+        return colorsBuilt;
+    }
+
+    public long getSpritesBuilt() {
+        return spritesBuilt;
+    }
+
+    /** 마지막 drawSparks 의 setColor 호출 수 (꼬리 선만, 파티클 수보다 훨씬 적어야 함) */
+    public int getColorChanges() {
+        return colorChanges;
+    }
+}
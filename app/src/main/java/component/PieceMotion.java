@@ -0,0 +1,78 @@
+package component;
+
+/**
+ * PieceMotion - 원격 블록의 화면 위치 보간 / 낙하 예측
+ * --------------------
+ * - 칸 단위 위치 업데이트 사이를 SLIDE_NANOS 동안 선형 보간 (뚝뚝 끊기지 않게)
+ * - 다음 업데이트 전까지 낙하 속도로 y 를 미리 진행 (한 칸 미만, 고스트 위치는 넘지 않음)
+ * - 블록이 바뀌거나 (새 블록 / 회전) 멀리 움직이면 (하드드롭 등) 바로 이동
+ * - 위치는 칸 단위 실수 (BoardView 가 cellSize 를 곱해서 그림)
+ */
+public class PieceMotion {
+
+    public static final long SLIDE_NANOS = 50_000_000L;
+    static final double MAX_LEAD = 0.9; // 예측은 한 칸 미만 → 실제 다음 위치를 앞지르지 않음
+    static final int SNAP_CELLS = 2;
+
+    private Object piece;
+    private int targetX, targetY, maxY;
+    private double fromX, fromY;
+    private long xChangedAt, yChangedAt;
+    private long fallNanos = 0; // 한 칸 낙하 시간 (0 = 예측 안 함)
+
+    public void setFallInterval(int ms) {
+        fallNanos = ms > 0 ? ms * 1_000_000L : 0;
+    }
+
+    /**
+     * 최신 논리 위치 반영 (매 프레임 호출해도 됨, 바뀐 경우만 보간 시작)
+     *
+     * @param maxY 더 내려갈 수 없는 y (고스트 위치)
+     */
+    public void update(Object piece, int x, int y, int maxY, long now) {
+        this.maxY = maxY;
+        if (piece != this.piece
+                || Math.abs(x - targetX) > SNAP_CELLS || Math.abs(y - targetY) > SNAP_CELLS) {
+            this.piece = piece;
+            targetX = x;
+            targetY = y;
+            fromX = x;
+            fromY = y;
+            xChangedAt = now;
+            yChangedAt = now;
+            return;
+        }
+        if (x != targetX) {
+            fromX = displayX(now);
+            targetX = x;
+            xChangedAt = now;
+        }
+        if (y != targetY) {
+            fromY = displayY(now);
+            targetY = y;
+            yChangedAt = now;
+        }
+    }
+
+    public double displayX(long now) {
+        return lerp(fromX, targetX, progress(now - xChangedAt));
+    }
+
+    public double displayY(long now) {
+        double y = lerp(fromY, targetY, progress(now - yChangedAt));
+        if (fallNanos > 0 && targetY < maxY) {
+            y += Math.min(MAX_LEAD, (double) (now - yChangedAt) / fallNanos);
+        }
+        return Math.min(y, Math.max(targetY, maxY));
+    }
+
+    private static double progress(long elapsed) {
+        if (elapsed >= SLIDE_NANOS)
+            return 1.0;
+        return elapsed <= 0 ? 0.0 : (double) elapsed / SLIDE_NANOS;
+    }
+
+    private static double lerp(double from, double to, double t) {
+        return from + (to - from) * t;
+    }
+}
@@ -0,0 +1,153 @@
+package component;
+
+import logic.ParticlePool;
+
+/**
+ * QualityGovernor - 측정한 프레임 시간에 맞춰 효과 품질 단계를 조절
+ * --------------------
+ * - 전체 프레임 한 장의 그리기 시간을 최근 WINDOW 프레임 링버퍼에 기록 (평균 사용)
+ *   (Swing paintComponent 의 전체 영역 paint, 능동 렌더링이면 렌더 스레드가 잰 값을 EDT 가 전달)
+ * - 평균이 FRAME_BUDGET_NS 를 넘으면 한 단계 내림, 예산의 UPGRADE_RATIO 미만이면 한 단계 올림
+ *   - 단계를 바꾼 뒤에는 창을 비우고 다시 가득 찰 때까지 판단하지 않음 (히스테리시스, 왔다갔다 방지)
+ *   - 올림은 내림보다 훨씬 여유가 있을 때만 (두 임계값 사이는 그대로 유지)
+ * - 설정에서 단계를 고정 (pin) 하면 측정은 계속하지만 단계는 바꾸지 않음
+ * - 안티에일리어싱 끄기는 가속 파이프라인 (D3D/OpenGL 백버퍼) 에서만 이득
+ *   (AA 도형은 소프트웨어 마스크 생성 + 업로드, 반대로 소프트웨어 루프는 AA 없는 반투명 채우기가 4~9배 느림)
+ *   → BoardView 가 대상이 가속일 때만 antialias=false 를 반영
+ * - EDT 전용
+ */
+public class QualityGovernor {
+
+    public static final int WINDOW = 60;                  // 약 1초 (60Hz 기준)
+    public static final long FRAME_BUDGET_NS = 8_000_000L; // 16ms 프레임 중 그리기에 쓸 수 있는 몫
+    public static final double UPGRADE_RATIO = 0.4;
+
+    /** 품질 단계 (위에서 아래로 비싼 순) */
+    public enum Tier {
+        //   파티클 예산, 안티에일리어싱, 글로우, 궤적 길이(프레임), 흔들림, 게임오버 파편 간격
+        HIGH(ParticlePool.DEFAULT_CAPACITY, true, true, 12, true, 1),
+        MEDIUM(768, true, false, 8, true, 2),
+        LOW(256, false, false, 4, false, 0); // 파편 0 = 파편 애니메이션 생략
+
+        public final int particleBudget;
+        public final boolean antialias;
+        public final boolean glow;
+        public final int trailLife;
+        public final boolean shake;
+        public final int shatterStride;
+
+        Tier(int particleBudget, boolean antialias, boolean glow, int trailLife, boolean shake, int shatterStride) {
+            this.particleBudget = particleBudget;
+            this.antialias = antialias;
+            this.glow = glow;
+            this.trailLife = trailLife;
+            this.shake = shake;
+            this.shatterStride = shatterStride;
+        }
+
+        Tier lower() {
+            return this == HIGH ? MEDIUM : LOW;
+        }
+
+        Tier higher() {
+            return this == LOW ? MEDIUM : HIGH;
+        }
+    }
+
+    /** 단계가 바뀔 때 알림 (BoardView 가 효과 설정에 반영) */
+    public interface Listener {
+        void onTierChanged(Tier tier);
+    }
+
+    private final long[] samples = new long[WINDOW];
+    private int sampleCount;
+    private int next;
+    private long sum;
+
+    private Tier tier = Tier.HIGH;
+    private Tier pinned; // null = 자동
+    private Listener listener;
+
+    // 측정용
+    private long frames;
+    private long changes;
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /** 프레임 한 번의 그리기 시간 기록 → 필요하면 단계 변경 */
+    public void record(long frameNanos) {
+        frames++;
+        if (sampleCount == WINDOW)
+            sum -= samples[next];
+        else
+            sampleCount++;
+        samples[next] = frameNanos;
+        sum += frameNanos;
+        next = (next + 1) % WINDOW;
+
+        if (pinned != null || sampleCount < WINDOW)
+            return;
+
+        long avg = sum / WINDOW;
+        if (avg > FRAME_BUDGET_NS && tier != Tier.LOW) {
+            change(tier.lower(), avg);
+        } else if (avg < FRAME_BUDGET_NS * UPGRADE_RATIO && tier != Tier.HIGH) {
+            change(tier.higher(), avg);
+        }
+    }
+
+    private void change(Tier to, long avg) {
+        System.out.printf("[Quality] %s → %s (avg %.2f ms)%n", tier, to, avg / 1e6);
+        apply(to);
+        changes++;
+    }
+
+    private void apply(Tier to) {
+        // 새 단계의 비용으로 다시 재야 하므로 창을 비움
+        sampleCount = 0;
+        next = 0;
+        sum = 0;
+        if (to == tier)
+            return;
+        tier = to;
+        if (listener != null)
+            listener.onTierChanged(to);
+    }
+
+    /** 단계 고정 (null 이면 자동으로 돌아감) */
+    public void setPinned(Tier pin) {
+        pinned = pin;
+        if (pin != null)
+            apply(pin);
+        else
+            apply(tier);
+    }
+
+    public Tier getPinned() {
+        return pinned;
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    /** 최근 창의 평균 프레임 그리기 시간 (ns, 기록이 없으면 0) */
+    public long getAverageNanos() {
+        return sampleCount == 0 ? 0 : sum / sampleCount;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getChanges() {
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%s avg=%.2fms", tier, pinned != null ? " (pinned)" : "", getAverageNanos() / 1e6);
+    }
+}
@@ -0,0 +1,219 @@
+package component;
+
+import component.metrics.PerfMonitor;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+/**
+ * RenderScheduler - 바뀐 영역만 다시 그리는 렌더 스케줄러
+ * --------------------
+ * - 매 틱마다 Source 에게 "이번 프레임에 바뀐 곳" 을 물어보고 그 사각형만 repaint
+ * - 무효화 이유 (블록 이동 / 보드 변경 / 파티클 / 이펙트) 별로 카운트 (측정용)
+ * - 움직이는 게 없으면 repaint 0회, IDLE_AFTER_FRAMES 동안 조용하면 IDLE_POLL_MS 간격으로만 확인
+ * - requestRender() 로 깨우면 바로 다음 틱을 돌리고 다시 60Hz 로 복귀
+ *   (GameLoop 틱 / 키 입력 / 네트워크 수신 / 줄 삭제 애니메이션 프레임이 호출)
+ * - Presenter 를 주면 repaint 대신 그쪽이 화면에 올림 (능동 렌더링: 스냅샷 공개)
+ * - EDT 전용 (Swing Timer)
+ */
+public class RenderScheduler {
+
+    public static final int FRAME_MS = 16;
+    public static final int IDLE_POLL_MS = 200; // 알림 없이 바뀐 상태를 놓치지 않기 위한 느린 확인
+    public static final int IDLE_AFTER_FRAMES = 30;
+
+    public enum Reason {
+        PIECE,     // 현재 블록 / 고스트 이동
+        BOARD,     // 고정 블록 줄 변경
+        PARTICLES, // 파티클 살아있음
+        EFFECTS    // 흔들림, 어워드, 보간 등 진행 중인 효과
+    }
+
+    /** 한 프레임의 변경 사항을 모으는 쪽 (BoardView) */
+    public interface Source {
+        /**
+         * 지난 틱 이후 바뀐 영역을 frame 에 추가
+         *
+         * @return 다음 틱에도 계속 움직이는 중이면 true
+         */
+        boolean collect(Frame frame);
+    }
+
+    /** repaint 대신 프레임을 화면에 올리는 쪽 (ActiveBoardRenderer 경로) */
+    public interface Presenter {
+        /** @return 처리했으면 true, false 면 평소처럼 repaint */
+        boolean present(Frame frame);
+    }
+
+    /** 이번 틱의 무효화 영역 */
+    public static final class Frame {
+        private final List<Rectangle> rects = new ArrayList<>();
+        private final boolean[] reasons = new boolean[Reason.values().length];
+        private boolean full;
+
+        public void add(Reason reason, int x, int y, int w, int h) {
+            if (w <= 0 || h <= 0)
+                return;
+            reasons[reason.ordinal()] = true;
+            if (!full)
+                rects.add(new Rectangle(x, y, w, h));
+        }
+
+        public void add(Reason reason, Rectangle r) {
+            if (r != null)
+                add(reason, r.x, r.y, r.width, r.height);
+        }
+
+        public void addFull(Reason reason) {
+            reasons[reason.ordinal()] = true;
+            full = true;
+            rects.clear();
+        }
+
+        public boolean isEmpty() {
+            return !full && rects.isEmpty();
+        }
+
+        public boolean isFull() {
+            return full;
+        }
+
+        public List<Rectangle> getRects() {
+            return rects;
+        }
+
+        public boolean has(Reason reason) {
+            return reasons[reason.ordinal()];
+        }
+
+        void reset() {
+            rects.clear();
+            Arrays.fill(reasons, false);
+            full = false;
+        }
+    }
+
+    private final JComponent target;
+    private final Source source;
+    private final Timer timer;
+    private final Frame frame = new Frame();
+    private Presenter presenter;
+
+    private int quietTicks;
+    private boolean idle;
+
+    // 측정용 카운터
+    private long ticks;
+    private long repaints;
+    private long fullRepaints;
+    private final long[] reasonCounts = new long[Reason.values().length];
+
+    public RenderScheduler(JComponent target, Source source) {
+        this.target = target;
+        this.source = source;
+        this.timer = PerfMonitor.timer(FRAME_MS, e -> tick());
+        this.timer.setRepeats(true);
+    }
+
+    public void start() {
+        wake();
+    }
+
+    public void setPresenter(Presenter presenter) {
+        this.presenter = presenter;
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /** 상태가 바뀌었음을 알림 → 바로 다음 틱에서 바뀐 영역을 계산 */
+    public void requestRender() {
+        if (!timer.isRunning())
+            return; // 정지(일시정지/정리) 중에는 깨우지 않음
+        wake();
+    }
+
+    private void wake() {
+        quietTicks = 0;
+        if (idle || !timer.isRunning() || timer.getDelay() != FRAME_MS) {
+            idle = false;
+            timer.setDelay(FRAME_MS);
+            timer.setInitialDelay(0);
+            timer.restart();
+        }
+    }
+
+    /** 한 프레임 처리 (타이머가 호출, 테스트에서 직접 호출 가능) */
+    public Frame tick() {
+        ticks++;
+        frame.reset();
+        boolean animating = source.collect(frame);
+
+        if (!frame.isEmpty() && presenter != null && presenter.present(frame)) {
+            repaints++;
+            if (frame.isFull())
+                fullRepaints++;
+        } else if (frame.isFull()) {
+            target.repaint();
+            repaints++;
+            fullRepaints++;
+        } else {
+            for (Rectangle r : frame.getRects()) {
+                target.repaint(r.x, r.y, r.width, r.height);
+                repaints++;
+            }
+        }
+        for (Reason r : Reason.values()) {
+            if (frame.has(r))
+                reasonCounts[r.ordinal()]++;
+        }
+
+        if (animating || !frame.isEmpty()) {
+            quietTicks = 0;
+            if (idle) {
+                idle = false;
+                timer.setDelay(FRAME_MS);
+            }
+        } else if (!idle && ++quietTicks >= IDLE_AFTER_FRAMES) {
+            idle = true;
+            timer.setDelay(IDLE_POLL_MS);
+        }
+        return frame;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getRepaints() {
+        return repaints;
+    }
+
+    public long getFullRepaints() {
+        return fullRepaints;
+    }
+
+    /** 해당 이유로 다시 그린 틱 수 */
+    public long getReasonCount(Reason reason) {
+        return reasonCounts[reason.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ticks=%d repaints=%d full=%d piece=%d board=%d particles=%d effects=%d idle=%b",
+                ticks, repaints, fullRepaints, reasonCounts[0], reasonCounts[1], reasonCounts[2], reasonCounts[3], idle);
+    }
+}
@@ -0,0 +1,77 @@
+package component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * SnapshotBuffer - 쓰는 쪽 1개 / 읽는 쪽 1개 사이의 락 없는 3중 버퍼
+ * --------------------
+ * - 슬롯 3개: back (쓰는 쪽 전용) / middle (마지막으로 공개된 것) / front (읽는 쪽이 그리는 중)
+ * - publish: back 을 middle 과 맞바꿈 → 공개된 스냅샷은 다시 back 이 될 때까지 아무도 고치지 않음 (읽는 동안 불변)
+ * - acquire: 새로 공개된 게 있을 때만 middle 을 front 와 맞바꿈 (없으면 null, 그리던 것 계속 사용)
+ * - 읽는 쪽이 느리면 중간 것은 건너뛰고 항상 최신만 그림, 슬롯은 재사용하므로 할당 없음
+ * - AtomicInteger 교환이 happens-before 를 보장하므로 슬롯 내용에 volatile 불필요
+ */
+public final class SnapshotBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // middle 이 아직 읽히지 않았음
+
+    private final Object[] slots;
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // 쓰는 쪽 스레드만 접근
+    private int front = 2; // 읽는 쪽 스레드만 접근
+
+    // 측정용
+    private volatile long published;
+    private volatile long skipped;
+
+    public SnapshotBuffer(Supplier<T> factory) {
+        slots = new Object[] { factory.get(), factory.get(), factory.get() };
+    }
+
+    /** 쓰는 쪽이 채울 슬롯 (publish 전까지 읽는 쪽에 보이지 않음) */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /**
+     * back 을 공개하고 새 back 을 받음
+     *
+     * @return 직전에 공개한 것이 읽히지 않고 버려졌으면 true (새 back 이 그 슬롯)
+     */
+    public boolean publish() {
+        int prev = middle.getAndSet(back | FRESH);
+        back = prev & INDEX_MASK;
+        published++;
+        boolean dropped = (prev & FRESH) != 0;
+        if (dropped)
+            skipped++;
+        return dropped;
+    }
+
+    /** 새로 공개된 최신 스냅샷 (지난 acquire 이후 없으면 null) */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) == 0)
+            return null;
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return (T) slots[front];
+    }
+
+    /** 읽는 쪽이 마지막으로 받은 스냅샷 (처음엔 빈 슬롯) */
+    @SuppressWarnings("unchecked")
+    public T current() {
+        return (T) slots[front];
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    /** 읽히기 전에 더 새 것으로 덮인 횟수 */
+    public long getSkipped() {
+        return skipped;
+    }
+}
@@ -56,6 +56,11 @@ public class Settings {
     }
 
     public ScreenSize screenSize = ScreenSize.MEDIUM; 
+
+    // 렌더 품질 (AUTO = 프레임 시간에 맞춰 자동, 나머지는 해당 단계로 고정)
+    public static enum RenderQuality { AUTO, HIGH, MEDIUM, LOW }
+
+    public RenderQuality renderQuality = RenderQuality.AUTO;
     
     // ===== 조작 키 =====
     // 기본 값 설정
@@ -63,6 +68,7 @@ public class Settings {
         blindMode = false;
         screenSize = ScreenSize.MEDIUM;
         colorBlindMode = ColorBlindPalette.Mode.NORMAL; 
+        renderQuality = RenderQuality.AUTO;
         keymap.clear();
         keymap.put(Action.Left, 37);
         keymap.put(Action.Right, 39);
@@ -89,6 +95,8 @@ public class Settings {
             s.colorBlindMode = ColorBlindPalette.Mode.valueOf(
                     p.getProperty("colorBlindMode", "NORMAL"));
             s.parseKeymap(p.getProperty("keymap"));
+            s.renderQuality = RenderQuality.valueOf(
+                    p.getProperty("renderQuality", "AUTO"));
         } catch (Exception ignore) {}
         return s;
     }
@@ -101,6 +109,7 @@ public class Settings {
             p.setProperty("blindMode", String.valueOf(blindMode));
             p.setProperty("screenSize", screenSize.name());
             p.setProperty("colorBlindMode", colorBlindMode.name()); 
+            p.setProperty("renderQuality", renderQuality.name());
             p.setProperty("keymap", formatKeymap());
             try (OutputStream out = Files.newOutputStream(PATH)) {
                 p.store(out, "Tetris Settings");
@@ -190,6 +199,7 @@ public class Settings {
         this.blindMode = other.blindMode;
         this.screenSize = other.screenSize;
         this.colorBlindMode = other.colorBlindMode;
+        this.renderQuality = other.renderQuality;
         this.keymap.clear();
         this.keymap.putAll(other.keymap);
     }
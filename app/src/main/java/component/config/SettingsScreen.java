@@ -53,6 +53,7 @@ public class SettingsScreen extends JPanel {
 
     private JComboBox<ColorBlindPalette.Mode> cbBlindMode;
     private JComboBox<Settings.ScreenSize>     cbScreen;
+    private JComboBox<Settings.RenderQuality>  cbQuality;
 
     // 키 바인딩 관련
     private final Map<Settings.Action, KeyField> keyFields = new EnumMap<>(Settings.Action.class);
@@ -266,6 +267,57 @@ public class SettingsScreen extends JPanel {
                 JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT
         );
 
+        // === Render Quality ===
+        c.gridy++;
+        JPanel qualityRow = new JPanel(new BorderLayout(8, 0));
+        qualityRow.setOpaque(false);
+        JLabel lblQuality = new JLabel("Render Quality");
+        lblQuality.setForeground(new Color(215, 225, 240));
+        qualityRow.add(lblQuality, BorderLayout.WEST);
+
+        cbQuality = new JComboBox<>(Settings.RenderQuality.values());
+        cbQuality.setBackground(new Color(245, 247, 250));
+        cbQuality.setForeground(Color.BLACK);
+        cbQuality.setOpaque(true);
+        cbQuality.setBorder(BorderFactory.createEmptyBorder(4, 10, 4, 10));
+        cbQuality.setFont(cbQuality.getFont().deriveFont(14f));
+
+        cbQuality.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(
+                    JList<?> list, Object value, int index,
+                    boolean isSelected, boolean cellHasFocus) {
+
+                JLabel lbl = (JLabel) super.getListCellRendererComponent(
+                        list, value, index, isSelected, cellHasFocus);
+
+                if (value == Settings.RenderQuality.AUTO) {
+                    lbl.setText("AUTO (adapt to frame time)");
+                }
+                lbl.setBackground(isSelected ? new Color(220, 230, 245) : Color.WHITE);
+                lbl.setForeground(Color.BLACK);
+                return lbl;
+            }
+        });
+
+        qualityRow.add(cbQuality, BorderLayout.CENTER);
+        form.add(qualityRow, c);
+
+        focusOrder.add(cbQuality);
+        compLabels.put(cbQuality, lblQuality);
+        unbindAltUpDown(cbQuality);
+
+        cbQuality.registerKeyboardAction(
+                e -> { closeAllPopups(); moveSelection(+1); },
+                KeyStroke.getKeyStroke("alt DOWN"),
+                JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT
+        );
+        cbQuality.registerKeyboardAction(
+                e -> { closeAllPopups(); moveSelection(-1); },
+                KeyStroke.getKeyStroke("alt UP"),
+                JComponent.WHEN_ANCESTOR_OF_FOCUSED_COMPONENT
+        );
+
         // === Key Bindings ===
         c.gridy++;
         JPanel keys = new JPanel(new GridBagLayout());
@@ -583,6 +635,7 @@ public class SettingsScreen extends JPanel {
     private void loadFromSettings() {
         cbBlindMode.setSelectedItem(localSettings.colorBlindMode);
         cbScreen.setSelectedItem(localSettings.screenSize);
+        cbQuality.setSelectedItem(localSettings.renderQuality);
         for (var e : keyFields.entrySet()) {
             Integer code = localSettings.keymap.get(e.getKey());
             if (code != null) e.getValue().setKeyCode(code);
@@ -594,6 +647,7 @@ public class SettingsScreen extends JPanel {
         localSettings.update(s -> {
             s.colorBlindMode = (ColorBlindPalette.Mode) cbBlindMode.getSelectedItem();
             s.screenSize = (Settings.ScreenSize) cbScreen.getSelectedItem();
+            s.renderQuality = (Settings.RenderQuality) cbQuality.getSelectedItem();
             for (var e : keyFields.entrySet()) {
                 s.keymap.put(e.getKey(), e.getValue().getKeyCode());
             }
@@ -601,6 +655,7 @@ public class SettingsScreen extends JPanel {
         settings.update(s -> {
             s.colorBlindMode = localSettings.colorBlindMode;
             s.screenSize = localSettings.screenSize;
+            s.renderQuality = localSettings.renderQuality;
             s.keymap.clear();
             s.keymap.putAll(localSettings.keymap);
         });
@@ -770,5 +825,8 @@ public class SettingsScreen extends JPanel {
         if (cbScreen != null && cbScreen.isPopupVisible()) {
             cbScreen.setPopupVisible(false);
         }
+        if (cbQuality != null && cbQuality.isPopupVisible()) {
+            cbQuality.setPopupVisible(false);
+        }
     }
 }
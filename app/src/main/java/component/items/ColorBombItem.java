@@ -1,5 +1,6 @@
 package component.items;
 
+import component.metrics.PerfMonitor;
 import java.awt.Color;
 
 import blocks.Block;
@@ -62,8 +63,9 @@ public class ColorBombItem extends ItemBlock {
             }
         }
 
-        // 점수 증가
+        // 점수 증가 + 고스트 착지 줄 캐시 무효화
         if (removed > 0) {
+            logic.getState().markChanged();
             logic.addScore(removed * 10);
         }
 
@@ -124,7 +126,7 @@ public class ColorBombItem extends ItemBlock {
     // 파티클 애니메이션
     // ==================================================
     private void startParticleAnimation(ParticleSystem ps, BoardLogic logic) {
-        javax.swing.Timer timer = new javax.swing.Timer(16, null);
+        javax.swing.Timer timer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 20;
 
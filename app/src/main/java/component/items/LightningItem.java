@@ -1,5 +1,6 @@
 package component.items;
 
+import component.metrics.PerfMonitor;
 import java.awt.Color;
 import java.awt.Point;
 import java.util.ArrayList;
@@ -86,6 +87,7 @@ public class LightningItem extends ItemBlock {
         }
 
         removeBlocks(board, targets);
+        logic.getState().markChanged();
         clear.applyGravityInstantly();
         logic.addScore(targets.size() * POINTS_PER_BLOCK);
 
@@ -238,6 +240,7 @@ public class LightningItem extends ItemBlock {
             if (isValidPosition(p)) {
                 board[p.y][p.x] = null;
                 fadeLayer[p.y][p.x] = new Color(200, 240, 255, 255);
+                logic.getState().markChanged(); // 고스트 착지 줄 캐시 무효화
             }
 
             // 체인 연결 효과
@@ -323,7 +326,7 @@ public class LightningItem extends ItemBlock {
      * 파티클 애니메이션 시작
      */
     private void startParticleAnimation(ParticleSystem particleSystem, BoardLogic logic) {
-        javax.swing.Timer particleTimer = new javax.swing.Timer(16, null);
+        javax.swing.Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
 
         particleTimer.addActionListener(e -> {
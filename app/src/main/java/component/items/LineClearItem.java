@@ -1,5 +1,6 @@
 package component.items;
 
+import component.metrics.PerfMonitor;
 import java.awt.Color;
 import java.util.Random;
 
@@ -92,6 +93,7 @@ public class LineClearItem extends ItemBlock {
         if (testMode) {
             for (int x = 0; x < BoardLogic.WIDTH; x++)
                 board[targetY][x] = null;
+            logic.getState().markChanged();
 
             clear.applyGravityInstantly();
 
@@ -160,6 +162,7 @@ public class LineClearItem extends ItemBlock {
         for (int x = 0; x < BoardLogic.WIDTH; x++) {
             board[targetY][x] = null;
         }
+        logic.getState().markChanged(); // 고스트 착지 줄 캐시 무효화
 
         // 3) 즉시 화면 갱신
         if (logic.getOnFrameUpdate() != null) {
@@ -210,7 +213,7 @@ public class LineClearItem extends ItemBlock {
      * ⭐ 부스러기 애니메이션 (백그라운드)
      */
     private void startDebrisAnimation(ParticleSystem particleSystem, BoardLogic logic) {
-        javax.swing.Timer particleTimer = new javax.swing.Timer(16, null);
+        javax.swing.Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 12; // 20 → 12 (더 빠르게)
 
@@ -1,5 +1,6 @@
 package component.items;
 
+import component.metrics.PerfMonitor;
 import java.awt.Color;
 import logic.BoardLogic;
 import logic.ClearService;
@@ -85,6 +86,7 @@ public class WeightItem extends ItemBlock {
                     board[by][bx] = getColor();
             }
         }
+        logic.getState().markChanged(); // 고스트 착지 줄 캐시 무효화
 
         // 즉시 화면 갱신
         if (logic.getOnFrameUpdate() != null) {
@@ -167,7 +169,7 @@ public class WeightItem extends ItemBlock {
      * ⭐ 파티클 애니메이션 시작 (백그라운드)
      */
     private void startParticleAnimation(ParticleSystem particleSystem, BoardLogic logic) {
-        javax.swing.Timer particleTimer = new javax.swing.Timer(16, null);
+        javax.swing.Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 12;
 
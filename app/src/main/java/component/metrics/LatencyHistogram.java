@@ -0,0 +1,97 @@
+package component.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram - 나노초 단위 지연 히스토그램 (락 없음)
+ * --------------------
+ * - 2의 거듭제곱 구간마다 16개 하위 버킷 → 상대 오차 약 6%
+ * - 여러 스레드에서 동시에 record 가능
+ * - p50 / p99 / p999 등 백분위 조회
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long v = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(v));
+        total.incrementAndGet();
+        sum.addAndGet(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+    static int indexOf(long v) {
+        if (v < SUB_COUNT)
+            return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BITS;
+        return (msb - SUB_BITS + 1) * SUB_COUNT + (int) ((v >>> shift) & (SUB_COUNT - 1));
+    }
+
+    /** 버킷의 상한값 (백분위 결과로 사용) */
+    static long upperBoundOf(int index) {
+        if (index < SUB_COUNT)
+            return index;
+        int msb = index / SUB_COUNT + SUB_BITS - 1;
+        int sub = index % SUB_COUNT;
+        int shift = msb - SUB_BITS;
+        long lower = ((long) (SUB_COUNT + sub)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * 백분위 값 (p: 0.0 ~ 1.0), 기록이 없으면 0
+     */
+    public long percentile(double p) {
+        long n = total.get();
+        if (n == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(p * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank)
+                return Math.min(upperBoundOf(i), max.get());
+        }
+        return max.get();
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = total.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /** 요약 문자열 (마이크로초) */
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.0fus p99=%.0fus p999=%.0fus max=%.0fus",
+                count(), percentile(0.50) / 1000.0, percentile(0.99) / 1000.0,
+                percentile(0.999) / 1000.0, max() / 1000.0);
+    }
+}
@@ -0,0 +1,328 @@
+package component.metrics;
+
+import java.awt.event.ActionListener;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * PerfMonitor - 게임 중 성능 계측 (F2 PerfOverlay 의 데이터)
+ * --------------------
+ * - 프레임: BoardView 가 이미 재는 전체 프레임 그리기 시간을 recordFrame 으로 전달 → 히스토그램 + 구간별 막대
+ *   (능동 렌더링이면 렌더 스레드가 잰 값을 EDT 가 넘김)
+ * - 로직: GameLoop 틱 (moveDown) / 라인 클리어 처리 시간 (begin → endTick / endClear)
+ * - EDT 지연: 켜져 있는 동안 별도 데몬 스레드가 PROBE_MS 마다 invokeLater 를 넣고 실제 실행까지 걸린 시간 기록
+ * - GC 횟수/시간, 할당 속도 (전체 스레드 / EDT), 돌고 있는 Swing Timer 수는 snapshot 할 때 한 번씩 읽음
+ * - 네트워크 RTT / 품질 단계 등 다른 모듈의 한 줄 정보는 addSource 로 등록 (소유자는 약한 참조)
+ * - 꺼져 있으면 (오버레이 숨김) 기록 함수는 volatile 읽기 한 번 후 바로 반환, 프로브 스레드도 없음
+ * - 돌고 있는 Timer 는 Swing 이 목록을 공개하지 않아서 앱의 Swing Timer 는 모두 timer(delay, listener) 로 생성 (만들 때 등록)
+ */
+public final class PerfMonitor {
+
+    public static final int PROBE_MS = 50;
+    /** 프레임 시간 막대의 구간 경계 (ms): <1, 1-2, 2-4, 4-8, 8-16, 16-33, 33+ */
+    public static final int[] FRAME_BINS_MS = { 1, 2, 4, 8, 16, 33 };
+
+    private static volatile boolean enabled;
+
+    // 창 단위 (snapshot 마다 비움)
+    private static final LatencyHistogram frames = new LatencyHistogram();
+    private static final LatencyHistogram ticks = new LatencyHistogram();
+    private static final LatencyHistogram clears = new LatencyHistogram();
+    private static final LatencyHistogram edt = new LatencyHistogram();
+    private static final long[] frameBins = new long[FRAME_BINS_MS.length + 1]; // EDT 에서만 씀
+
+    private static final Set<Timer> timers = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Map<Object, Function<Object, String>> sources = new WeakHashMap<>();
+
+    private static ScheduledExecutorService prober;
+    private static volatile long edtThreadId = -1;
+
+    // 직전 snapshot 시점의 누적값 (속도 계산용)
+    private static long lastSampleNanos;
+    private static long lastGcCount;
+    private static long lastGcMillis;
+    private static long lastAllocBytes;
+    private static long lastEdtAllocBytes;
+
+    private PerfMonitor() {
+    }
+
+    // ============================================
+    // 켜기 / 끄기
+    // ============================================
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 켜면 창을 비우고 EDT 프로브 시작, 끄면 프로브 정지 */
+    public static synchronized void setEnabled(boolean on) {
+        if (on == enabled)
+            return;
+        if (on) {
+            reset();
+            prober = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "perf-edt-probe");
+                t.setDaemon(true);
+                return t;
+            });
+            prober.scheduleAtFixedRate(PerfMonitor::probe, PROBE_MS, PROBE_MS, TimeUnit.MILLISECONDS);
+        } else if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+        enabled = on;
+        System.out.println("[Perf] monitor " + (on ? "on" : "off"));
+    }
+
+    /** 창 히스토그램과 속도 기준점 초기화 */
+    public static synchronized void reset() {
+        if (SwingUtilities.isEventDispatchThread())
+            edtThreadId = Thread.currentThread().getId();
+        frames.reset();
+        ticks.reset();
+        clears.reset();
+        edt.reset();
+        java.util.Arrays.fill(frameBins, 0);
+        lastSampleNanos = System.nanoTime();
+        lastGcCount = gcCount();
+        lastGcMillis = gcMillis();
+        lastAllocBytes = allocatedBytes();
+        lastEdtAllocBytes = edtAllocatedBytes();
+    }
+
+    private static void probe() {
+        final long posted = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            edt.record(System.nanoTime() - posted);
+            edtThreadId = Thread.currentThread().getId();
+        });
+    }
+
+    // ============================================
+    // 기록 (꺼져 있으면 바로 반환)
+    // ============================================
+
+    /** 구간 시작 시각, 꺼져 있으면 0 (end* 가 무시함) */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void endTick(long t0) {
+        if (t0 != 0 && enabled)
+            ticks.record(System.nanoTime() - t0);
+    }
+
+    public static void endClear(long t0) {
+        if (t0 != 0 && enabled)
+            clears.record(System.nanoTime() - t0);
+    }
+
+    /** 한 프레임 그리기 시간 (EDT) */
+    public static void recordFrame(long nanos) {
+        if (!enabled)
+            return;
+        frames.record(nanos);
+        long ms = nanos / 1_000_000L;
+        int bin = 0;
+        while (bin < FRAME_BINS_MS.length && ms >= FRAME_BINS_MS[bin])
+            bin++;
+        frameBins[bin]++;
+    }
+
+    // ============================================
+    // 등록
+    // ============================================
+
+    /** Swing Timer 생성 + 돌고 있는 Timer 수 집계 대상으로 등록 (약한 참조) */
+    public static Timer timer(int delay, ActionListener listener) {
+        Timer timer = new Timer(delay, listener);
+        synchronized (timers) {
+            timers.add(timer);
+        }
+        return timer;
+    }
+
+    /**
+     * 오버레이에 한 줄 추가 (owner 가 GC 되거나 removeSource 하면 사라짐)
+     * - line 은 owner 를 인자로 받음 → 람다가 owner 를 붙잡지 않아야 약한 참조가 풀림
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void addSource(T owner, Function<? super T, String> line) {
+        synchronized (sources) {
+            sources.put(owner, (Function<Object, String>) line);
+        }
+    }
+
+    public static void removeSource(Object owner) {
+        synchronized (sources) {
+            sources.remove(owner);
+        }
+    }
+
+    public static int runningTimers() {
+        int n = 0;
+        synchronized (timers) {
+            for (Timer t : timers) {
+                if (t != null && t.isRunning())
+                    n++;
+            }
+        }
+        return n;
+    }
+
+    public static int trackedTimers() {
+        synchronized (timers) {
+            return timers.size();
+        }
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public static LatencyHistogram getFrames() {
+        return frames;
+    }
+
+    public static LatencyHistogram getTicks() {
+        return ticks;
+    }
+
+    public static LatencyHistogram getClears() {
+        return clears;
+    }
+
+    public static LatencyHistogram getEdtLatency() {
+        return edt;
+    }
+
+    /** 프레임 시간 구간별 개수 복사본 (FRAME_BINS_MS.length + 1 칸) */
+    public static synchronized long[] getFrameBins() {
+        return frameBins.clone();
+    }
+
+    /** 오버레이 한 번 갱신분 */
+    public static final class Snapshot {
+        public final List<String> lines;
+        public final long[] frameBins;
+
+        Snapshot(List<String> lines, long[] frameBins) {
+            this.lines = lines;
+            this.frameBins = frameBins;
+        }
+    }
+
+    /**
+     * 직전 snapshot 이후 창의 요약을 만들고 창을 비움
+     * - GC / 할당은 누적값의 차이를 경과 시간으로 나눔
+     */
+    public static synchronized Snapshot snapshot() {
+        long now = System.nanoTime();
+        double secs = Math.max(1e-3, (now - lastSampleNanos) / 1e9);
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long alloc = allocatedBytes();
+        long edtAlloc = edtAllocatedBytes();
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("frame  %s  %.0f fps", ms(frames), frames.count() / secs));
+        lines.add(String.format("tick   %s", ms(ticks)));
+        lines.add(String.format("clear  %s", ms(clears)));
+        lines.add(String.format("edt    %s", ms(edt)));
+        lines.add(String.format("gc     %d (+%d ms)  alloc %.1f MB/s (edt %.1f)",
+                Math.max(0, gcCount - lastGcCount), Math.max(0, gcMillis - lastGcMillis),
+                mb(alloc - lastAllocBytes) / secs,
+                lastEdtAllocBytes == 0 ? 0 : mb(edtAlloc - lastEdtAllocBytes) / secs)); // EDT 를 처음 알게 된 창은 0
+        lines.add(String.format("timers %d running / %d tracked", runningTimers(), trackedTimers()));
+        synchronized (sources) {
+            for (Map.Entry<Object, Function<Object, String>> e : sources.entrySet()) {
+                String line = e.getValue().apply(e.getKey());
+                if (line != null)
+                    lines.add(line);
+            }
+        }
+        Snapshot snap = new Snapshot(lines, frameBins.clone());
+
+        frames.reset();
+        ticks.reset();
+        clears.reset();
+        edt.reset();
+        java.util.Arrays.fill(frameBins, 0);
+        lastSampleNanos = now;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastAllocBytes = alloc;
+        lastEdtAllocBytes = edtAlloc;
+        return snap;
+    }
+
+    private static String ms(LatencyHistogram h) {
+        if (h.count() == 0)
+            return "-";
+        return String.format("avg %.2f p99 %.2f max %.2f ms",
+                h.mean() / 1e6, h.percentile(0.99) / 1e6, h.max() / 1e6);
+    }
+
+    private static double mb(long bytes) {
+        return Math.max(0, bytes) / (1024.0 * 1024.0);
+    }
+
+    // ============================================
+    // JMX
+    // ============================================
+
+    private static long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            n += Math.max(0, gc.getCollectionCount());
+        return n;
+    }
+
+    private static long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            n += Math.max(0, gc.getCollectionTime());
+        return n;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()
+                && sun.isThreadAllocatedMemoryEnabled())
+            return sun;
+        return null;
+    }
+
+    /** 살아있는 모든 스레드의 누적 할당량 (끝난 스레드 몫이 빠지면 차이가 음수 → mb 에서 0 으로 자름) */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = threads();
+        if (bean == null)
+            return 0;
+        long sum = 0;
+        for (long b : bean.getThreadAllocatedBytes(bean.getAllThreadIds()))
+            sum += Math.max(0, b);
+        return sum;
+    }
+
+    private static long edtAllocatedBytes() {
+        com.sun.management.ThreadMXBean bean = threads();
+        long id = edtThreadId;
+        if (bean == null || id < 0)
+            return 0;
+        return Math.max(0, bean.getThreadAllocatedBytes(id));
+    }
+}
@@ -0,0 +1,136 @@
+package component.metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+/**
+ * PerfOverlay - 게임 중 성능 디버그 오버레이 (F2)
+ * --------------------
+ * - 창의 LayeredPane(POPUP_LAYER) 오른쪽 위에 반투명 박스로 표시 (F3 WireMetricsOverlay 는 왼쪽 위)
+ * - 보이는 동안만 PerfMonitor 를 켜고 REFRESH_MS 마다 snapshot → 숨기면 계측도 꺼짐
+ * - 위쪽은 요약 줄, 아래쪽은 프레임 시간 구간별 막대 (16ms 를 넘는 구간은 빨간색)
+ * - 창이 닫혀 화면에서 사라지면 다음 갱신 때 스스로 숨김
+ * - 마우스 리스너가 없어서 아래 게임 화면 입력을 가로채지 않음
+ */
+public class PerfOverlay extends JComponent {
+
+    private static final int REFRESH_MS = 1000;
+    private static final int PAD = 8;
+    private static final int MARGIN = 10;
+    private static final int BAR_HEIGHT = 40;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final String[] BIN_LABELS = { "<1", "1", "2", "4", "8", "16", "33+" };
+
+    private final Timer refreshTimer;
+    private List<String> lines = List.of();
+    private long[] bins = new long[PerfMonitor.FRAME_BINS_MS.length + 1];
+
+    public PerfOverlay() {
+        setOpaque(false);
+        setVisible(false);
+        refreshTimer = PerfMonitor.timer(REFRESH_MS, e -> refresh());
+    }
+
+    /** 창 전체에 F2 토글 연결 (GameFrame / VersusFrame 생성자에서 호출) */
+    public static PerfOverlay install(JRootPane root) {
+        PerfOverlay overlay = new PerfOverlay();
+        root.getLayeredPane().add(overlay, JLayeredPane.POPUP_LAYER);
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_F2, 0), "perfOverlay");
+        root.getActionMap().put("perfOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                overlay.toggle();
+            }
+        });
+        return overlay;
+    }
+
+    /** 표시 / 숨김 전환 */
+    public void toggle() {
+        setShown(!isVisible());
+    }
+
+    private void setShown(boolean show) {
+        setVisible(show);
+        PerfMonitor.setEnabled(show);
+        if (show) {
+            lines = List.of("measuring...");
+            layoutBox();
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+    }
+
+    private void refresh() {
+        if (!isShowing()) {
+            setShown(false);
+            return;
+        }
+        PerfMonitor.Snapshot snap = PerfMonitor.snapshot();
+        lines = snap.lines;
+        bins = snap.frameBins;
+        layoutBox();
+    }
+
+    private void layoutBox() {
+        Container parent = getParent();
+        if (parent == null)
+            return;
+        FontMetrics fm = getFontMetrics(FONT);
+        int w = BIN_LABELS.length * fm.stringWidth("000 ");
+        for (String line : lines) {
+            w = Math.max(w, fm.stringWidth(line));
+        }
+        int h = (lines.size() + 1) * fm.getHeight() + BAR_HEIGHT + PAD * 3;
+        w += PAD * 2;
+        setBounds(Math.max(0, parent.getWidth() - w - MARGIN), MARGIN, w, h);
+        repaint();
+    }
+
+    public void dispose() {
+        setShown(false);
+        Container parent = getParent();
+        if (parent != null) {
+            parent.remove(this);
+            parent.repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setColor(new Color(0, 0, 0, 190));
+        g2.fillRoundRect(0, 0, getWidth(), getHeight(), 8, 8);
+        g2.setFont(FONT);
+        FontMetrics fm = g2.getFontMetrics();
+        int y = PAD + fm.getAscent();
+        for (String line : lines) {
+            g2.setColor(line.startsWith("frame") ? new Color(150, 200, 255) : new Color(220, 220, 220));
+            g2.drawString(line, PAD, y);
+            y += fm.getHeight();
+        }
+
+        // 프레임 시간 막대
+        long max = 1;
+        for (long b : bins) {
+            max = Math.max(max, b);
+        }
+        int slot = (getWidth() - PAD * 2) / bins.length;
+        int base = y - fm.getAscent() + PAD + BAR_HEIGHT;
+        for (int i = 0; i < bins.length; i++) {
+            int x = PAD + i * slot;
+            int bh = (int) (BAR_HEIGHT * bins[i] / max);
+            boolean slow = i > 0 && PerfMonitor.FRAME_BINS_MS[i - 1] >= 16;
+            g2.setColor(slow ? new Color(230, 90, 90) : new Color(120, 200, 140));
+            g2.fillRect(x + 2, base - bh, slot - 4, bh);
+            g2.setColor(new Color(180, 180, 180));
+            g2.drawString(BIN_LABELS[i], x + 2, base + fm.getAscent());
+        }
+        g2.dispose();
+    }
+}
@@ -0,0 +1,239 @@
+package component.network.websocket;
+
+import blocks.Block;
+import logic.GameState;
+
+import java.awt.Color;
+
+/**
+ * ActivePieceStream - 조작 중인 블록 상태를 작게 압축해 전송 / 수신
+ * --------------------
+ * - 블록 종류(번호) · 회전 · x · y 를 int 하나로 압축: [present:1][pieceId:8][rot:2][y:7][x:6]
+ * - 값이 바뀔 때만 전송 (한 번에 20바이트 남짓, 보드 델타보다 훨씬 작음)
+ * - 모양 / 색 / 낙하 간격은 새 블록일 때 (그리고 SHAPE_REFRESH_MS 마다) 만 함께 보냄
+ * - 수신 측은 oppLogic 의 curr / x / y 에 반영 → BoardView 가 보간해서 그림
+ */
+public final class ActivePieceStream {
+
+    public static final int NONE = 0; // 조작 중인 블록 없음 (고정 직후 등)
+
+    static final long SHAPE_REFRESH_MS = 1000; // 송신 큐에서 스폰 메시지가 합쳐져도 모양 복구
+    static final long STALE_MS = 3000; // 이 시간 동안 수신이 없으면 입력 예측으로 대체
+
+    private static final int X_OFFSET = 8;
+    private static final int Y_OFFSET = 16;
+
+    private ActivePieceStream() {
+    }
+
+    /** 전송 DTO (모양 정보는 새 블록일 때만, 나머지는 null → JSON 에서 생략) */
+    public static class Piece {
+        public int p;
+        public Integer rgb;
+        public int[][] shape; // 회전 0 기준 모양
+        public Integer fallMs;
+
+        public Piece() {
+        }
+
+        public Piece(int p) {
+            this.p = p;
+        }
+    }
+
+    // ===============================
+    // 압축 / 해제
+    // ===============================
+
+    public static int pack(int pieceId, int rot, int x, int y) {
+        return (1 << 23)
+                | ((pieceId & 0xFF) << 15)
+                | ((rot & 0x3) << 13)
+                | (((y + Y_OFFSET) & 0x7F) << 6)
+                | ((x + X_OFFSET) & 0x3F);
+    }
+
+    public static boolean isPresent(int p) {
+        return ((p >>> 23) & 1) != 0;
+    }
+
+    public static int pieceId(int p) {
+        return (p >>> 15) & 0xFF;
+    }
+
+    public static int rotation(int p) {
+        return (p >>> 13) & 0x3;
+    }
+
+    public static int x(int p) {
+        return (p & 0x3F) - X_OFFSET;
+    }
+
+    public static int y(int p) {
+        return ((p >>> 6) & 0x7F) - Y_OFFSET;
+    }
+
+    // ===============================
+    // 송신
+    // ===============================
+
+    /**
+     * Encoder - 내 블록 상태 → 바뀐 경우만 Piece 생성 (EDT, 매 프레임)
+     */
+    public static class Encoder {
+        private Block lastBlock;
+        private Block[] rotations;
+        private int pieceId = 0;
+        private int lastPacked = NONE;
+        private int lastX, lastY;
+        private long shapeSentAt = 0;
+
+        /**
+         * @return 보낼 게 없으면 null
+         */
+        public Piece next(Block curr, int x, int y, int fallMs, long nowMs) {
+            if (curr == null) {
+                lastBlock = null;
+                if (lastPacked == NONE)
+                    return null;
+                lastPacked = NONE;
+                return new Piece(NONE);
+            }
+
+            boolean spawned = false;
+            int rot = rotations == null ? -1 : rotationIndex(rotations, curr);
+            if (curr != lastBlock) {
+                // 회전 실패 시 BoardLogic 이 백업 복제본으로 되돌림 → 같은 자리 같은 모양이면 같은 블록
+                boolean restored = rot >= 0 && x == lastX && y == lastY && lastPacked != NONE
+                        && curr.getColor().getRGB() == rotations[0].getColor().getRGB();
+                if (!restored) {
+                    pieceId = (pieceId + 1) & 0xFF;
+                    rotations = OpponentPredictor.rotationsOf(curr.getColor(), curr.getShapeArray());
+                    rot = 0;
+                    spawned = true;
+                }
+                lastBlock = curr;
+            } else if (rot < 0) {
+                // 모양이 회전으로 설명되지 않음 (아이템 변형 등) → 새 블록으로 취급
+                rotations = OpponentPredictor.rotationsOf(curr.getColor(), curr.getShapeArray());
+                pieceId = (pieceId + 1) & 0xFF;
+                rot = 0;
+                spawned = true;
+            }
+
+            int packed = pack(pieceId, rot, x, y);
+            if (packed == lastPacked)
+                return null;
+            lastPacked = packed;
+            lastX = x;
+            lastY = y;
+
+            Piece piece = new Piece(packed);
+            if (spawned || nowMs - shapeSentAt >= SHAPE_REFRESH_MS) {
+                piece.rgb = rotations[0].getColor().getRGB();
+                piece.shape = rotations[0].getShapeArray();
+                piece.fallMs = fallMs;
+                shapeSentAt = nowMs;
+            }
+            return piece;
+        }
+
+        public void reset() {
+            lastBlock = null;
+            rotations = null;
+            lastPacked = NONE;
+            shapeSentAt = 0;
+        }
+
+        private static int rotationIndex(Block[] rotations, Block b) {
+            for (int r = 0; r < rotations.length; r++) {
+                if (sameShape(rotations[r], b))
+                    return r;
+            }
+            return -1;
+        }
+
+        private static boolean sameShape(Block a, Block b) {
+            if (a.width() != b.width() || a.height() != b.height())
+                return false;
+            for (int j = 0; j < a.height(); j++) {
+                for (int i = 0; i < a.width(); i++) {
+                    if (a.getShape(i, j) != b.getShape(i, j))
+                        return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // ===============================
+    // 수신
+    // ===============================
+
+    /**
+     * Receiver - 수신한 최신 상태 보관 (네트워크 스레드) → EDT 에서 oppLogic 에 반영
+     */
+    public static class Receiver {
+        private Block[] rotations;
+        private int pieceId = -1;
+        private int packed = NONE;
+        private int fallMs = 1000;
+        private long lastAt = -1;
+        private boolean dirty = false;
+
+        public synchronized void accept(Piece piece, long nowMs) {
+            if (piece == null)
+                return;
+            lastAt = nowMs;
+            dirty = true;
+
+            int p = piece.p;
+            if (isPresent(p) && piece.shape != null && piece.shape.length > 0 && piece.rgb != null) {
+                if (pieceId(p) != pieceId || rotations == null) {
+                    rotations = OpponentPredictor.rotationsOf(new Color(piece.rgb, true), piece.shape);
+                    pieceId = pieceId(p);
+                }
+                if (piece.fallMs != null && piece.fallMs > 0)
+                    fallMs = piece.fallMs;
+            }
+            packed = p;
+        }
+
+        /**
+         * 최신 상태를 oppLogic 상태에 반영 (EDT)
+         *
+         * @return 바뀐 게 있으면 true
+         */
+        public synchronized boolean applyTo(GameState state) {
+            if (!dirty)
+                return false;
+            dirty = false;
+
+            // 모양을 아직 모르는 블록 (스폰 메시지 유실) → 다음 모양 갱신까지 그리지 않음
+            if (!isPresent(packed) || rotations == null || pieceId(packed) != pieceId) {
+                state.setCurr(null);
+            } else {
+                state.setCurr(rotations[rotation(packed)]);
+                state.setPosition(x(packed), y(packed));
+            }
+            return true;
+        }
+
+        /** 최근에 수신했으면 true (아니면 입력 예측으로 대체) */
+        public synchronized boolean isLive(long nowMs) {
+            return lastAt >= 0 && nowMs - lastAt < STALE_MS;
+        }
+
+        public synchronized int getFallMs() {
+            return fallMs;
+        }
+
+        public synchronized void reset() {
+            rotations = null;
+            pieceId = -1;
+            packed = NONE;
+            lastAt = -1;
+            dirty = false;
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class BoardDeltaTracker {
     public static class BoardDelta {
         public List<CellDelta> changes;
         public Long timestamp;
+        public Integer boardSeq; // 보드 메시지 순번 (수신측 순서 뒤바뀜 / 누락 감지)
 
         // 추가 메타데이터
         public Integer score;
@@ -155,6 +156,7 @@ public class BoardDeltaTracker {
      */
     public static class CompressedDelta {
         public List<CellRun> runs;
+        public Integer boardSeq;
         public Integer score;
         public Integer level;
         public Integer incomingLines;
@@ -186,6 +188,7 @@ public class BoardDeltaTracker {
      */
     public CompressedDelta compressDelta(BoardDelta delta) {
         CompressedDelta compressed = new CompressedDelta();
+        compressed.boardSeq = delta.boardSeq;
         compressed.score = delta.score;
         compressed.level = delta.level;
         compressed.incomingLines = delta.incomingLines;
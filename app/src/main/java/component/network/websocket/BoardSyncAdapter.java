@@ -26,6 +26,7 @@ public class BoardSyncAdapter {
     private final BoardLogic oppLogic;
     private final GameClient client;
     private final BoardDeltaTracker tracker;
+    private final MessageDecoders decoders = MessageDecoders.get();
 
     // 델타 전송 설정
     private boolean enableDeltaSync = true;
@@ -33,21 +34,43 @@ public class BoardSyncAdapter {
     private long lastFullSyncTime = 0;
     private static final long FULL_SYNC_INTERVAL = 30000; // 10초 → 30초로 변경
     private int deltasWithoutFullSync = 0;
+    private volatile boolean fullSyncRequested = false; // 송신 큐에서 델타가 버려진 경우
     private static final int MAX_DELTAS_BEFORE_FULL_SYNC = 100;
 
+    // 보드 메시지 순번 (순서 뒤바뀜 / 누락 → 상대에게 전체 동기화 요청)
+    private static final long RESYNC_RETRY_MS = 1000; // 요청한 전체 동기화가 안 오면 다시 요청
+    private int boardSeq = 0; // 마지막으로 보낸 순번
+    private volatile int lastBoardSeq = -1; // 마지막으로 적용한 상대 순번
+    private int needFullAfter = 0; // 이 순번보다 뒤의 전체 동기화가 와야 복구됨 (0 = 필요 없음)
+    private long resyncRequestedAt = 0; // 응답 대기 중인 요청 시각 (0 = 없음)
+    private volatile int boardSeqGaps = 0;
+
     // 통계
     private int deltasSent = 0;
     private int fullSyncsSent = 0;
     private int skippedSyncs = 0;
-    private long totalBytesSaved = 0;
-    private long totalDeltaBytes = 0;
-    private long totalFullBytes = 0;
+    private WireMetrics wireMetrics; // 실제 송신 바이트 (추정치 대신 계측값 사용)
+    private long deltaBytesBase = 0; // reset 시점의 계측값 (매치 단위 통계)
+    private long deltaCountBase = 0;
+    private long fullBytesBase = 0;
+    private long fullCountBase = 0;
 
     private List<Block> lastSentNextBlocks = null;
     private int lastSentScore = -1;
     private int lastSentLevel = -1;
     private int lastSentLines = -1;
 
+    // 입력 스트림 (롤백 넷코드용)
+    static final int MAX_INPUT_BATCH = 120;
+    private long matchStartNanos = -1; // 매치 시계 기준
+    private MatchClock matchClock = new MatchClock();
+    private int inputConfirmedFrame = -1; // 상대에게 확정 전송한 마지막 프레임
+    private int inputFrame = -1; // 마지막으로 입력이 있었던 프레임
+    private int inputBits = 0; // 그 프레임의 누적 입력 (횟수 포함)
+
+    // 조작 중인 블록 스트림
+    private final ActivePieceStream.Encoder pieceEncoder = new ActivePieceStream.Encoder();
+
     public BoardSyncAdapter(BoardLogic myLogic, BoardLogic oppLogic, GameClient client) {
         this.myLogic = myLogic;
         this.oppLogic = oppLogic;
@@ -65,6 +88,100 @@ public class BoardSyncAdapter {
 
         // 🔹 게임오버 시 알림 전송
         myLogic.setOnGameOverCallback(this::sendGameOver);
+
+        // 🔹 조작 입력을 프레임 단위로 전송
+        myLogic.setOnPlayerInput(this::recordInput);
+    }
+
+    /** 입력 프레임 계산에 쓸 공유 매치 시계 (상대와 같은 프레임 번호를 쓰기 위함) */
+    public void setMatchClock(MatchClock clock) {
+        this.matchClock = clock;
+    }
+
+    /**
+     * 매치 시작 (입력 프레임 0 기준 시각, 매치 시계 ns)
+     */
+    public void startInputStream(long startNanos) {
+        matchStartNanos = startNanos;
+        inputConfirmedFrame = -1;
+        inputFrame = -1;
+        inputBits = 0;
+    }
+
+    public void stopInputStream() {
+        matchStartNanos = -1;
+    }
+
+    /**
+     * 입력 발생 → 해당 프레임까지 즉시 전송
+     * 같은 프레임에 입력이 더 들어오면 누적 비트로 다시 보냄 (수신측이 덮어씀)
+     * - 같은 입력이 두 번이면 횟수까지 (PlayerInput.add), 한 프레임 안의 연타도 칸 수 그대로
+     */
+    void recordInput(int input) {
+        if (matchStartNanos < 0)
+            return;
+
+        int frame = RollbackSession.frameAt(matchStartNanos, matchClock.now());
+        if (frame == inputFrame) {
+            inputBits = logic.PlayerInput.add(inputBits, input);
+        } else {
+            inputFrame = frame;
+            inputBits = input;
+        }
+
+        int start = Math.min(inputConfirmedFrame + 1, frame);
+        int[] inputs = new int[frame - start + 1];
+        inputs[inputs.length - 1] = inputBits;
+
+        List<PieceSpawn> spawns = null;
+        Block curr = myLogic.getCurr();
+        if ((input & logic.PlayerInput.SPAWN) != 0 && curr != null) {
+            spawns = List.of(new PieceSpawn(frame, curr.getColor().getRGB(), curr.getShapeArray()));
+        }
+
+        sendInputBatch(start, inputs, spawns);
+    }
+
+    /**
+     * 입력이 없었던 지난 프레임들을 확정 전송 (주기 동기화 때 호출)
+     */
+    private void flushInputs() {
+        if (matchStartNanos < 0)
+            return;
+
+        int lastComplete = RollbackSession.frameAt(matchStartNanos, matchClock.now()) - 1;
+        if (lastComplete <= inputConfirmedFrame)
+            return;
+
+        int start = inputConfirmedFrame + 1;
+        sendInputBatch(start, new int[lastComplete - start + 1], null);
+    }
+
+    private void sendInputBatch(int start, int[] inputs, List<PieceSpawn> spawns) {
+        // 너무 오래 밀렸으면 뒷부분만 (수신측 롤백 창 밖이라 어차피 못 씀)
+        if (inputs.length > MAX_INPUT_BATCH) {
+            int skip = inputs.length - MAX_INPUT_BATCH;
+            inputs = java.util.Arrays.copyOfRange(inputs, skip, inputs.length);
+            start += skip;
+        }
+
+        InputBatch batch = new InputBatch(start, inputs, spawns);
+        client.send(new Message(MessageType.PLAYER_INPUT, batch));
+        // 송신 큐는 PLAYER_INPUT 을 합칠 뿐 버리지 않고 재접속 시 재전송하므로 넘긴 구간은 확정으로 봄
+        // (큐 상한을 넘으면 입력을 버리는 대신 전체 동기화 → 상대 / 심판은 빈틈으로 처리)
+        inputConfirmedFrame = Math.max(inputConfirmedFrame, start + inputs.length - 1);
+    }
+
+    /**
+     * 조작 중인 블록 상태 전송 (EDT, 매 프레임 호출 - 바뀐 경우만 실제 전송)
+     */
+    public void sendActivePiece() {
+        ActivePieceStream.Piece piece = pieceEncoder.next(
+                myLogic.getCurr(), myLogic.getX(), myLogic.getY(),
+                myLogic.getDropInterval(), System.currentTimeMillis());
+        if (piece != null) {
+            client.send(new Message(MessageType.ACTIVE_PIECE, piece));
+        }
     }
 
     /**
@@ -83,6 +200,9 @@ public class BoardSyncAdapter {
 
         // 플레이어 통계 전송 (변경된 경우만)
         sendPlayerStats();
+
+        // 입력 없던 프레임 확정 전송
+        flushInputs();
     }
 
     /**
@@ -119,10 +239,12 @@ public class BoardSyncAdapter {
         deltasWithoutFullSync++;
 
         // 시간 OR 델타 횟수 기준으로 Full Sync
-        boolean shouldFullSync = (now - lastFullSyncTime) > FULL_SYNC_INTERVAL ||
+        boolean shouldFullSync = fullSyncRequested ||
+                (now - lastFullSyncTime) > FULL_SYNC_INTERVAL ||
                 deltasWithoutFullSync >= MAX_DELTAS_BEFORE_FULL_SYNC;
 
         if (shouldFullSync) {
+            fullSyncRequested = false;
             sendFullSync(myState);
             lastFullSyncTime = now;
             deltasWithoutFullSync = 0;
@@ -132,6 +254,13 @@ public class BoardSyncAdapter {
         }
     }
 
+    /**
+     * 다음 주기 동기화를 전체 동기화로 (델타 유실 복구용)
+     */
+    public void requestFullSync() {
+        fullSyncRequested = true;
+    }
+
     /**
      * Next 블록 전송 (변경된 경우만)
      */
@@ -151,8 +280,7 @@ public class BoardSyncAdapter {
                     .map(this::blockToData)
                     .toList();
 
-            client.send(new Message(MessageType.NEXT_BLOCKS,
-                    WebSocketUtil.toJson(blockDataList)));
+            client.send(new Message(MessageType.NEXT_BLOCKS, blockDataList));
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to send NEXT_BLOCKS: " + e.getMessage());
         }
@@ -176,8 +304,7 @@ public class BoardSyncAdapter {
         lastSentLines = lines;
 
         PlayerStats stats = new PlayerStats(score, level, lines);
-        client.send(new Message(MessageType.PLAYER_STATS,
-                WebSocketUtil.toJson(stats)));
+        client.send(new Message(MessageType.PLAYER_STATS, stats));
     }
 
     /**
@@ -193,23 +320,16 @@ public class BoardSyncAdapter {
         }
 
         deltasSent++;
+        delta.boardSeq = ++boardSeq;
         int changeCount = delta.changes.size();
 
         if (enableCompression && changeCount > 10) {
             // 변경사항이 많으면 압축해서 전송
             BoardDeltaTracker.CompressedDelta compressed = tracker.compressDelta(delta);
             client.send(new Message(MessageType.BOARD_DELTA_COMPRESSED, compressed));
-
-            int uncompressedSize = changeCount * 12;
-            int compressedSize = compressed.runs.size() * 16;
-            int saved = uncompressedSize - compressedSize;
-
-            totalBytesSaved += Math.max(0, saved);
-            totalDeltaBytes += compressedSize;
         } else {
             // 변경사항이 적으면 그냥 전송
             client.send(new Message(MessageType.BOARD_DELTA, delta));
-            totalDeltaBytes += changeCount * 12 + 20;
         }
     }
 
@@ -218,11 +338,8 @@ public class BoardSyncAdapter {
      */
     private void sendFullSync(GameState state) {
         BoardDeltaTracker.BoardDelta fullDelta = tracker.createFullSync(state);
+        fullDelta.boardSeq = ++boardSeq;
         client.send(new Message(MessageType.BOARD_FULL_SYNC, fullDelta));
-
-        int boardSize = GameState.HEIGHT * GameState.WIDTH;
-        totalFullBytes += boardSize * 2;
-
     }
 
     /**
@@ -258,23 +375,26 @@ public class BoardSyncAdapter {
 
             case BOARD_DELTA -> {
                 // 델타: 변경사항만 적용
-                BoardDeltaTracker.BoardDelta delta = WebSocketUtil.fromJson(msg.data,
-                        BoardDeltaTracker.BoardDelta.class);
-                applyDeltaToOppLogic(delta);
+                BoardDeltaTracker.BoardDelta delta = decoders.decode(msg);
+                if (acceptBoardSeq(delta.boardSeq, false)) {
+                    applyDeltaToOppLogic(delta);
+                }
             }
 
             case BOARD_DELTA_COMPRESSED -> {
                 // 압축된 델타 적용
-                BoardDeltaTracker.CompressedDelta compressed = WebSocketUtil.fromJson(msg.data,
-                        BoardDeltaTracker.CompressedDelta.class);
-                applyCompressedDeltaToOppLogic(compressed);
+                BoardDeltaTracker.CompressedDelta compressed = decoders.decode(msg);
+                if (acceptBoardSeq(compressed.boardSeq, false)) {
+                    applyCompressedDeltaToOppLogic(compressed);
+                }
             }
 
             case BOARD_FULL_SYNC -> {
                 // 전체 동기화 적용
-                BoardDeltaTracker.BoardDelta fullDelta = WebSocketUtil.fromJson(msg.data,
-                        BoardDeltaTracker.BoardDelta.class);
-                applyDeltaToOppLogic(fullDelta);
+                BoardDeltaTracker.BoardDelta fullDelta = decoders.decode(msg);
+                if (acceptBoardSeq(fullDelta.boardSeq, true)) {
+                    applyDeltaToOppLogic(fullDelta);
+                }
             }
 
             // case LINE_ATTACK -> {
@@ -285,6 +405,11 @@ public class BoardSyncAdapter {
 
             
 
+            case SYNC_REQUEST -> {
+                // 상대가 내 보드를 잃음 (재개 실패 / 순서 뒤바뀜) → 다음 동기화를 전체로
+                requestFullSync();
+            }
+
             case GAME_OVER -> {
                 System.out.println("[RECV] GAME_OVER");
                 myLogic.onOpponentGameOver();
@@ -292,7 +417,7 @@ public class BoardSyncAdapter {
 
             case SCORE_UPDATE -> {
                 // 점수 업데이트 수신
-                int score = WebSocketUtil.fromJson(msg.data, Integer.class);
+                int score = decoders.<Integer>decode(msg);
                 oppLogic.getState().setScore(score);
             }
 
@@ -308,6 +433,68 @@ public class BoardSyncAdapter {
         }
     }
 
+    /**
+     * 상대 보드 순번 확인
+     * - 이미 지난 순번: 늦게 도착한 메시지 → 최신 상태를 덮어쓰지 않게 버림
+     * - 중간이 빠짐: 적용은 하되 상대에게 전체 동기화 요청
+     *
+     * @return 적용해도 되면 true
+     */
+    private synchronized boolean acceptBoardSeq(Integer seq, boolean full) {
+        if (seq == null)
+            return true; // 순번 없는 메시지 (이전 버전)
+        int last = lastBoardSeq;
+        if (full && seq == 1) {
+            lastBoardSeq = seq; // 상대가 재시작 (reset 후 첫 전체 동기화)
+            needFullAfter = 0;
+            resyncRequestedAt = 0;
+            return true;
+        }
+        if (seq <= last) {
+            boardSeqGaps++;
+            requestOpponentResync(last);
+            return false;
+        }
+        lastBoardSeq = seq;
+        if (full) {
+            onFullSyncApplied(seq);
+        } else if (last >= 0 && seq != last + 1) {
+            boardSeqGaps++;
+            requestOpponentResync(seq);
+        }
+        return true;
+    }
+
+    /**
+     * 상대에게 전체 보드 요청
+     * - 응답 대기 중이면 다시 보내지 않고 필요한 순번만 갱신 (응답이 부족하면 도착 시 재요청)
+     */
+    private void requestOpponentResync(int missingBefore) {
+        needFullAfter = Math.max(needFullAfter, missingBefore);
+        long now = System.currentTimeMillis();
+        if (resyncRequestedAt != 0 && now - resyncRequestedAt < RESYNC_RETRY_MS)
+            return;
+        resyncRequestedAt = now;
+        client.send(new Message(MessageType.SYNC_REQUEST, "gap"));
+    }
+
+    // 전체 동기화 적용: 빠진 것보다 뒤의 것이면 복구 완료, 아니면 다시 요청
+    private void onFullSyncApplied(int seq) {
+        resyncRequestedAt = 0;
+        if (needFullAfter == 0)
+            return;
+        if (seq > needFullAfter) {
+            needFullAfter = 0;
+        } else {
+            requestOpponentResync(needFullAfter);
+        }
+    }
+
+    /** 순서가 뒤바뀌거나 빠진 상대 보드 메시지 수 */
+    public int getBoardSeqGaps() {
+        return boardSeqGaps;
+    }
+
     /**
      * 델타를 oppLogic의 GameState에 적용
      */
@@ -325,6 +512,7 @@ public class BoardSyncAdapter {
                 oppBoard[change.y][change.x] = rgbToColor(change.rgb);
             }
         }
+        oppState.markChanged();
 
         // 메타데이터 적용
         if (delta.score != null) {
@@ -358,6 +546,7 @@ public class BoardSyncAdapter {
                 }
             }
         }
+        oppState.markChanged();
 
         // 메타데이터 적용
         if (compressed.score != null) {
@@ -405,11 +594,73 @@ public class BoardSyncAdapter {
         deltasSent = 0;
         fullSyncsSent = 0;
         skippedSyncs = 0;
-        totalBytesSaved = 0;
-        totalDeltaBytes = 0;
-        totalFullBytes = 0;
+        markWireBase();
         lastFullSyncTime = 0;
         deltasWithoutFullSync = 0;
+        stopInputStream();
+        pieceEncoder.reset();
+        boardSeq = 0;
+        lastBoardSeq = -1;
+        boardSeqGaps = 0;
+        synchronized (this) {
+            needFullAfter = 0;
+            resyncRequestedAt = 0;
+        }
+    }
+
+    // ===============================
+    // 실제 송신 바이트 (WireMetrics)
+    // ===============================
+
+    /**
+     * 송신 계측 지정 (기본: GameClient 것, 호스트는 서버 소켓 계측)
+     */
+    public void setWireMetrics(WireMetrics metrics) {
+        if (metrics == wireMetrics)
+            return; // 재접속 등으로 같은 계측을 다시 지정 → 매치 기준점 유지
+        this.wireMetrics = metrics;
+        markWireBase();
+    }
+
+    private WireMetrics wire() {
+        return wireMetrics != null ? wireMetrics : client.getWireMetrics();
+    }
+
+    private void markWireBase() {
+        deltaBytesBase = wireDeltaBytesTotal();
+        deltaCountBase = wireDeltaCountTotal();
+        fullBytesBase = wireFullBytesTotal();
+        fullCountBase = wireFullCountTotal();
+    }
+
+    private long wireDeltaBytesTotal() {
+        WireMetrics m = wire();
+        return m.getSentBytes(MessageType.BOARD_DELTA) + m.getSentBytes(MessageType.BOARD_DELTA_COMPRESSED);
+    }
+
+    private long wireDeltaCountTotal() {
+        WireMetrics m = wire();
+        return m.getSentCount(MessageType.BOARD_DELTA) + m.getSentCount(MessageType.BOARD_DELTA_COMPRESSED);
+    }
+
+    private long wireFullBytesTotal() {
+        WireMetrics m = wire();
+        return m.getSentBytes(MessageType.BOARD_FULL_SYNC) + m.getSentBytes(MessageType.BOARD_STATE);
+    }
+
+    private long wireFullCountTotal() {
+        WireMetrics m = wire();
+        return m.getSentCount(MessageType.BOARD_FULL_SYNC) + m.getSentCount(MessageType.BOARD_STATE);
+    }
+
+    /** 이번 매치에 실제로 보낸 델타 바이트 */
+    public long getDeltaBytes() {
+        return wireDeltaBytesTotal() - deltaBytesBase;
+    }
+
+    /** 이번 매치에 실제로 보낸 전체 동기화 바이트 */
+    public long getFullSyncBytes() {
+        return wireFullBytesTotal() - fullBytesBase;
     }
 
     /**
@@ -424,9 +675,10 @@ public class BoardSyncAdapter {
             return "Sync: Waiting...";
 
         int skipPercentage = (int) ((skippedSyncs * 100.0) / totalSyncs);
-        long avgDeltaSize = deltasSent > 0 ? totalDeltaBytes / deltasSent : 0;
+        long wireDeltas = wireDeltaCountTotal() - deltaCountBase;
+        long avgDeltaSize = wireDeltas > 0 ? getDeltaBytes() / wireDeltas : 0;
 
-        return String.format("Δ:%d Full:%d Skip:%d%% (~%dB)",
+        return String.format("Δ:%d Full:%d Skip:%d%% (%dB)",
                 deltasSent, fullSyncsSent, skipPercentage, avgDeltaSize);
     }
 
@@ -458,28 +710,40 @@ public class BoardSyncAdapter {
         }
 
         System.out.println("║");
-        System.out.println("║ Network usage:");
-        System.out.println("║ - Delta traffic: " + formatBytes(totalDeltaBytes));
-        System.out.println("║ - Full sync traffic: " + formatBytes(totalFullBytes));
-        System.out.println("║ - Total traffic: " + formatBytes(totalDeltaBytes + totalFullBytes));
-
-        // 기존 방식과 비교
-        long estimatedOldMethod = totalSyncs * 500;
-        long actualUsage = totalDeltaBytes + totalFullBytes;
-        long saved = estimatedOldMethod - actualUsage;
-
-        if (saved > 0) {
-            int savePercent = (int) ((saved * 100.0) / estimatedOldMethod);
-            System.out.println("║");
-            System.out.println("║ Savings vs full-board sync:");
-            System.out.println("║ - Estimated old method: " + formatBytes(estimatedOldMethod));
-            System.out.println("║ - Bytes saved: " + formatBytes(saved) + " (" + savePercent + "%)");
+        long deltaBytes = getDeltaBytes();
+        long fullBytes = getFullSyncBytes();
+        WireMetrics m = wire();
+        System.out.println("║ Network usage (measured on the wire):");
+        System.out.println("║ - Delta traffic: " + formatBytes(deltaBytes));
+        System.out.println("║ - Full sync traffic: " + formatBytes(fullBytes));
+        System.out.println("║ - Total traffic: " + formatBytes(deltaBytes + fullBytes));
+
+        // 매번 전체 보드를 보냈다면 (실측 전체 동기화 평균 크기 기준)
+        long fullCount = wireFullCountTotal() - fullCountBase;
+        if (fullCount > 0) {
+            long avgFull = fullBytes / fullCount;
+            long fullBoardMethod = (deltasSent + fullSyncsSent) * avgFull;
+            long saved = fullBoardMethod - (deltaBytes + fullBytes);
+            if (saved > 0) {
+                int savePercent = (int) ((saved * 100.0) / fullBoardMethod);
+                System.out.println("║");
+                System.out.println("║ Savings vs full-board sync:");
+                System.out.println("║ - Full board every sync: " + formatBytes(fullBoardMethod)
+                        + " (avg " + avgFull + " B)");
+                System.out.println("║ - Bytes saved: " + formatBytes(saved) + " (" + savePercent + "%)");
+            }
         }
 
         System.out.println("║");
         System.out.println("║ Compression: " + (enableCompression ? "ENABLED" : "DISABLED"));
-        if (enableCompression && totalBytesSaved > 0) {
-            System.out.println("║ - Compression savings: " + formatBytes(totalBytesSaved));
+        long plain = m.getSentCount(MessageType.BOARD_DELTA);
+        long packed = m.getSentCount(MessageType.BOARD_DELTA_COMPRESSED);
+        if (plain > 0) {
+            System.out.println("║ - Avg plain delta: " + m.getSentBytes(MessageType.BOARD_DELTA) / plain + " B");
+        }
+        if (packed > 0) {
+            System.out.println("║ - Avg compressed delta: "
+                    + m.getSentBytes(MessageType.BOARD_DELTA_COMPRESSED) / packed + " B");
         }
 
         System.out.println("╚════════════════════════════════════════╝\n");
@@ -511,6 +775,76 @@ public class BoardSyncAdapter {
         }
     }
 
+    /**
+     * 프레임 입력 묶음 (startFrame 부터 연속된 프레임의 PlayerInput 비트)
+     */
+    public static class InputBatch {
+        public int startFrame;
+        public int[] inputs;
+        public List<PieceSpawn> spawns;
+
+        public InputBatch() {
+        }
+
+        public InputBatch(int startFrame, int[] inputs, List<PieceSpawn> spawns) {
+            this.startFrame = startFrame;
+            this.inputs = inputs;
+            this.spawns = spawns;
+        }
+
+        /**
+         * 아직 안 보낸 묶음 뒤에 새 묶음을 이어 붙임 (송신 큐 병합용)
+         * - 겹치는 프레임은 새 값 (같은 프레임 누적 재전송), 사이가 비거나 MAX_INPUT_BATCH 를 넘으면 null
+         */
+        static InputBatch merge(InputBatch older, InputBatch newer) {
+            if (older.inputs == null || newer.inputs == null)
+                return null;
+            int start = older.startFrame;
+            int olderEnd = start + older.inputs.length - 1;
+            int end = newer.startFrame + newer.inputs.length - 1;
+            if (newer.startFrame < start || newer.startFrame > olderEnd + 1 || end < olderEnd)
+                return null;
+            if (end - start + 1 > MAX_INPUT_BATCH)
+                return null;
+
+            int[] inputs = java.util.Arrays.copyOf(older.inputs, end - start + 1);
+            System.arraycopy(newer.inputs, 0, inputs, newer.startFrame - start, newer.inputs.length);
+
+            List<PieceSpawn> spawns = null;
+            if (older.spawns != null || newer.spawns != null) {
+                // 같은 프레임 재전송에는 스폰 정보가 다시 안 실릴 수 있으므로 이전 것도 유지 (같은 프레임이면 새 것)
+                spawns = new java.util.ArrayList<>();
+                if (older.spawns != null) {
+                    for (PieceSpawn sp : older.spawns) {
+                        if (newer.spawns == null || newer.spawns.stream().noneMatch(n -> n.frame == sp.frame))
+                            spawns.add(sp);
+                    }
+                }
+                if (newer.spawns != null)
+                    spawns.addAll(newer.spawns);
+            }
+            return new InputBatch(start, inputs, spawns);
+        }
+    }
+
+    /**
+     * 블록 등장 정보 (SPAWN 입력과 함께 전송)
+     */
+    public static class PieceSpawn {
+        public int frame;
+        public int rgb;
+        public int[][] shape;
+
+        public PieceSpawn() {
+        }
+
+        public PieceSpawn(int frame, int rgb, int[][] shape) {
+            this.frame = frame;
+            this.rgb = rgb;
+            this.shape = shape;
+        }
+    }
+
     /**
      * 플레이어 통계
      */
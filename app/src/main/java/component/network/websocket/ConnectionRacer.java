@@ -0,0 +1,246 @@
+package component.network.websocket;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ConnectionRacer - 비동기 접속 준비 (DNS → 후보 주소 TCP 경주)
+ * --------------------
+ * - DNS 로 나온 모든 주소 (+ 내 PC 주소면 loopback) 를 후보로
+ * - IPv4 / IPv6 를 번갈아 세우고 STAGGER_MS 간격으로 동시에 TCP 접속 → 가장 먼저 붙은 주소 사용
+ * - 전체 시간 예산 안에서만 시도 (도달 가능 확인 ping 같은 사전 검사 없음)
+ * - URI 의 호스트 이름은 그대로 둠 (wss 인증서 검증 / SNI / Host 헤더) → 이긴 주소는 힌트로만 기록
+ *   · 후보가 하나뿐이거나 wss 면 TCP 경주 없이 바로 핸드셰이크 (확인용 연결이 따로 생기지 않음)
+ *   · ws + IP 리터럴 호스트만 이긴 주소로 바꿈 (내 PC 의 LAN 주소 → loopback: 지킬 호스트 이름이 없음)
+ * - 단계별 소요 시간 (DNS / TCP / WebSocket 핸드셰이크) 을 Timing 으로 보고
+ */
+public class ConnectionRacer {
+
+    public static final long DEFAULT_BUDGET_MS = 5000;
+    static final long STAGGER_MS = 150; // 다음 후보 시작 간격 (앞 후보가 느리면 겹쳐서 진행)
+
+    private static final AtomicInteger threadIds = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "ws-connect-" + threadIds.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** 접속 단계별 소요 시간 */
+    public static class Timing {
+        public String host;
+        public String address; // 이긴 후보
+        public int candidates;
+        public double dnsMs;
+        public double tcpMs;
+        public double handshakeMs;
+        public double totalMs;
+
+        public Timing() {
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.1fms (dns %.1f / tcp %.1f / ws %.1f) via %s [%d candidate%s]", totalMs, dnsMs,
+                    tcpMs, handshakeMs, address, candidates, candidates == 1 ? "" : "s");
+        }
+    }
+
+    /** 경주 결과: 핸드셰이크할 URI + 이긴 주소 힌트 + 지금까지의 시간 */
+    public static class Result {
+        public final URI uri;
+        public final InetSocketAddress address; // 경주로 고른 주소 (경주 안 했으면 null)
+        public final Timing timing;
+        final long startNanos;
+
+        Result(URI uri, InetSocketAddress address, Timing timing, long startNanos) {
+            this.uri = uri;
+            this.address = address;
+            this.timing = timing;
+            this.startNanos = startNanos;
+        }
+
+        /** 예산 중 남은 시간 (ms) */
+        public long remainingMs(long budgetMs) {
+            return budgetMs - (System.nanoTime() - startNanos) / 1_000_000L;
+        }
+
+        /** 핸드셰이크 끝: 나머지 시간 채우기 */
+        public Timing finish(long handshakeStartNanos) {
+            long now = System.nanoTime();
+            timing.handshakeMs = (now - handshakeStartNanos) / 1e6;
+            timing.totalMs = (now - startNanos) / 1e6;
+            return timing;
+        }
+    }
+
+    /**
+     * DNS + TCP 경주 (백그라운드)
+     *
+     * @return 핸드셰이크할 URI (예산 초과 / 전부 실패면 예외로 완료)
+     */
+    public static CompletableFuture<Result> race(URI uri, long budgetMs) {
+        long start = System.nanoTime();
+        Timing timing = new Timing();
+        timing.host = uri.getHost();
+        boolean secure = "wss".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+
+        return CompletableFuture.supplyAsync(() -> resolve(uri.getHost()), executor)
+                .orTimeout(budgetMs, TimeUnit.MILLISECONDS)
+                .thenCompose(addrs -> {
+                    timing.dnsMs = (System.nanoTime() - start) / 1e6;
+                    List<InetSocketAddress> candidates = new ArrayList<>();
+                    for (InetAddress a : order(addrs)) {
+                        candidates.add(new InetSocketAddress(a, port));
+                    }
+                    timing.candidates = candidates.size();
+                    if (secure || candidates.size() <= 1) {
+                        // 고를 게 없거나 호스트 이름을 지켜야 함 → 확인용 연결 없이 핸드셰이크가 곧 접속
+                        timing.address = candidates.isEmpty() ? uri.getHost()
+                                : candidates.get(0).getAddress().getHostAddress();
+                        return CompletableFuture.completedFuture(new Result(uri, null, timing, start));
+                    }
+                    long remaining = budgetMs - (System.nanoTime() - start) / 1_000_000L;
+                    long tcpStart = System.nanoTime();
+                    return raceTcp(candidates, remaining).thenApply(winner -> {
+                        timing.tcpMs = (System.nanoTime() - tcpStart) / 1e6;
+                        timing.address = winner.getAddress().getHostAddress();
+                        return new Result(target(uri, winner.getAddress()), winner, timing, start);
+                    });
+                });
+    }
+
+    // DNS (+ 내 PC 에 붙은 주소면 loopback 도 후보로: 방화벽이 외부 주소만 막는 경우 대비)
+    private static List<InetAddress> resolve(String host) {
+        try {
+            Set<InetAddress> out = new LinkedHashSet<>();
+            InetAddress[] addrs = InetAddress.getAllByName(host);
+            for (InetAddress a : addrs) {
+                if (!a.isLoopbackAddress() && isLocalInterface(a)) {
+                    out.add(InetAddress.getLoopbackAddress());
+                }
+            }
+            for (InetAddress a : addrs) {
+                out.add(a);
+            }
+            return new ArrayList<>(out);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static boolean isLocalInterface(InetAddress a) {
+        try {
+            return NetworkInterface.getByInetAddress(a) != null;
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+
+    /** 후보 순서: 첫 주소 계열부터 IPv4 / IPv6 번갈아 (한쪽 계열이 막혀도 바로 다른 쪽 시도) */
+    static List<InetAddress> order(List<InetAddress> addrs) {
+        List<InetAddress> v4 = new ArrayList<>();
+        List<InetAddress> v6 = new ArrayList<>();
+        for (InetAddress a : addrs) {
+            (a instanceof Inet6Address ? v6 : v4).add(a);
+        }
+        boolean v6First = !addrs.isEmpty() && addrs.get(0) instanceof Inet6Address;
+        List<InetAddress> first = v6First ? v6 : v4;
+        List<InetAddress> second = v6First ? v4 : v6;
+        List<InetAddress> out = new ArrayList<>(addrs.size());
+        for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+            if (i < first.size())
+                out.add(first.get(i));
+            if (i < second.size())
+                out.add(second.get(i));
+        }
+        return out;
+    }
+
+    /**
+     * 후보들에 STAGGER_MS 간격으로 TCP 접속 → 첫 성공 주소 (확인용 소켓은 바로 닫음)
+     * - Tyrus 는 이미 연결된 소켓을 넘겨받지 못해서 핸드셰이크가 다시 연결함 → 후보가 여럿일 때만 사용
+     */
+    static CompletableFuture<InetSocketAddress> raceTcp(List<InetSocketAddress> candidates, long budgetMs) {
+        CompletableFuture<InetSocketAddress> winner = new CompletableFuture<>();
+        if (candidates.isEmpty()) {
+            winner.completeExceptionally(new IOException("No address to connect"));
+            return winner;
+        }
+        if (budgetMs <= 0) {
+            winner.completeExceptionally(new IOException("Connect budget exhausted before TCP"));
+            return winner;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < candidates.size(); i++) {
+            InetSocketAddress target = candidates.get(i);
+            long delay = i * STAGGER_MS;
+            CompletableFuture.runAsync(() -> {
+                if (winner.isDone())
+                    return;
+                int timeout = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                try (Socket s = new Socket()) {
+                    s.setTcpNoDelay(true);
+                    s.connect(target, timeout);
+                    winner.complete(target);
+                } catch (IOException e) {
+                    System.out.println("[Connect] " + target + " failed: " + e.getMessage());
+                    if (failures.incrementAndGet() == candidates.size()) {
+                        winner.completeExceptionally(e);
+                    }
+                }
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor));
+        }
+        return winner.orTimeout(budgetMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 핸드셰이크할 URI: 호스트 이름이면 그대로 (이긴 주소는 힌트로만),
+     * IP 리터럴이면 이긴 주소로 (IPv6 는 대괄호)
+     */
+    static URI target(URI uri, InetAddress winner) {
+        if (!isAddressLiteral(uri.getHost())) {
+            return uri;
+        }
+        try {
+            return new URI(uri.getScheme(), uri.getUserInfo(), winner.getHostAddress(), uri.getPort(),
+                    uri.getPath(), uri.getQuery(), uri.getFragment());
+        } catch (URISyntaxException e) {
+            return uri;
+        }
+    }
+
+    // IPv4 점 표기 / IPv6 (대괄호 포함) 리터럴인지
+    static boolean isAddressLiteral(String host) {
+        if (host == null || host.isEmpty())
+            return false;
+        if (host.indexOf(':') >= 0 || host.startsWith("["))
+            return true;
+        return host.matches("\\d{1,3}(\\.\\d{1,3}){3}");
+    }
+
+    /** 핸드셰이크 같은 블로킹 단계를 접속 스레드에서 */
+    static <T> CompletableFuture<T> supply(java.util.function.Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+}
@@ -0,0 +1,96 @@
+package component.network.websocket;
+
+import component.metrics.PerfMonitor;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EdtBatcher - 네트워크 스레드의 UI 변경을 프레임 단위로 묶어 EDT 에 전달
+ * --------------------
+ * - post(): 메시지마다 invokeLater 하지 않고 모아뒀다가 한 번에 실행
+ * - 같은 key 로 다시 post 하면 앞의 것을 대체 (예: 상대 화면 repaint, Next 블록, 점수)
+ * - EDT 실행은 FRAME_MS 에 최대 한 번 (메시지 폭주 시에도 EDT 이벤트 수 일정)
+ */
+public class EdtBatcher {
+
+    public static final int FRAME_MS = 16;
+
+    private final Map<Object, Runnable> pending = new LinkedHashMap<>();
+    private boolean scheduled = false;
+    private long lastFlushNanos = 0;
+
+    // 통계
+    private long posted = 0;
+    private long coalesced = 0;
+    private long flushes = 0;
+
+    /** 순서대로 한 번씩 실행할 UI 작업 */
+    public void post(Runnable task) {
+        post(new Object(), task);
+    }
+
+    /** key 가 같은 작업은 마지막 것만 실행 */
+    public void post(Object key, Runnable task) {
+        boolean schedule;
+        long waitMs;
+        synchronized (this) {
+            posted++;
+            if (pending.put(key, task) != null) {
+                coalesced++;
+            }
+            schedule = !scheduled;
+            scheduled = true;
+            waitMs = FRAME_MS - (System.nanoTime() - lastFlushNanos) / 1_000_000L;
+        }
+        if (!schedule)
+            return;
+        if (waitMs <= 0) {
+            SwingUtilities.invokeLater(this::flush);
+        } else {
+            // 직전 프레임에 이미 실행함 → 다음 프레임까지 모음
+            Timer t = PerfMonitor.timer((int) waitMs, e -> flush());
+            t.setRepeats(false);
+            t.start();
+        }
+    }
+
+    /** 모인 작업 실행 (EDT) */
+    void flush() {
+        List<Runnable> batch;
+        synchronized (this) {
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            scheduled = false;
+            lastFlushNanos = System.nanoTime();
+            flushes++;
+        }
+        for (Runnable r : batch) {
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                System.err.println("[EDT] UI update failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    public synchronized long getPosted() {
+        return posted;
+    }
+
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    public synchronized long getFlushes() {
+        return flushes;
+    }
+}
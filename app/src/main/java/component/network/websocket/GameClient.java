@@ -1,87 +1,55 @@
 package component.network.websocket;
 
-import javax.websocket.*;
-
-import java.io.IOException;
-import java.net.InetAddress;
-import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
-@ClientEndpoint
-public class GameClient {
+/**
+ * GameClient - 게임 메시지 송수신
+ * - 실제 전송은 Transport 가 담당 (기본: WebSocket, 호스트: 같은 JVM 루프백)
+ * - 시계 동기화 응답(CLOCK_SYNC) / 프로토콜 pong 은 여기서 처리하고 나머지는 핸들러로 전달
+ */
+public class GameClient implements Transport.Listener {
 
-    private Session session;
     private final Consumer<Message> onMessageHandler;
+    private Transport transport;
     private Runnable onConnected;
     private Runnable onDisconnected;
+    private Runnable onBoardDropped;
+    private Runnable onResyncNeeded;
+    private volatile MatchClock matchClock; // 시계 동기화 / RTT 측정 대상
+    private final WireMetrics wireMetrics = new WireMetrics("client");
 
     public GameClient(Consumer<Message> onMessageHandler) {
+        this(onMessageHandler, new WebSocketTransport());
+    }
+
+    public GameClient(Consumer<Message> onMessageHandler, Transport transport) {
         this.onMessageHandler = onMessageHandler;
+        setTransport(transport);
     }
 
-    public void connect(String uri) throws Exception {
-        System.out.println("[Client] ========================================");
-        System.out.println("[Client] Attempting to connect to: " + uri);
-        System.out.println("[Client] URL length: " + uri.length());
-
-        // URL 정리 (혹시 모를 공백/특수문자 제거)
-        uri = uri.trim();
-
-        try {
-            // URI 파싱 테스트
-            URI parsedUri = URI.create(uri);
-            String host = parsedUri.getHost();
-            int port = parsedUri.getPort();
-            String path = parsedUri.getPath();
-
-            System.out.println("[Client] Parsed URI:");
-            System.out.println("[Client]   Host: " + host);
-            System.out.println("[Client]   Port: " + port);
-            System.out.println("[Client]   Path: " + path);
-
-            // DNS 해석 테스트
-            InetAddress addr = InetAddress.getByName(host);
-            System.out.println("[Client] DNS resolved: " + addr.getHostAddress());
-            System.out.println("[Client] Is loopback: " + addr.isLoopbackAddress());
-            System.out.println("[Client] Is reachable: " + addr.isReachable(5000));
-
-            // 실제 연결 시도
-            System.out.println("[Client] Starting WebSocket connection...");
-            WebSocketContainer container = ContainerProvider.getWebSocketContainer();
-
-            // 타임아웃 설정 (옵션)
-            container.setDefaultMaxSessionIdleTimeout(30000);
-
-            container.connectToServer(this, parsedUri);
-            System.out.println("[Client] ✓ Connection successful!");
-
-        } catch (Exception e) {
-            System.err.println("[Client] ✗ Connection failed!");
-            System.err.println("[Client] Error type: " + e.getClass().getName());
-            System.err.println("[Client] Error message: " + e.getMessage());
-            e.printStackTrace();
-
-            // 만약 실제 IP로 실패했다면 localhost로 재시도
-            if (uri.contains("10.50.98.32")) {
-                System.out.println("[Client] Retrying with localhost...");
-                String localhostUri = uri.replace("10.50.98.32", "localhost");
-                System.out.println("[Client] New URI: " + localhostUri);
-
-                try {
-                    WebSocketContainer container = ContainerProvider.getWebSocketContainer();
-                    container.connectToServer(this, URI.create(localhostUri));
-                    System.out.println("[Client] ✓ Connected via localhost!");
-                    return;
-                } catch (Exception e2) {
-                    System.err.println("[Client] ✗ Localhost retry also failed!");
-                    e2.printStackTrace();
-                }
-            }
+    /**
+     * 전송 방식 교체 (connect 전에 호출)
+     */
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+        transport.setListener(this);
+        transport.setOnBoardDropped(onBoardDropped);
+        transport.setWireMetrics(wireMetrics);
+    }
 
-            throw e;
-        }
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void connect(String uri) throws Exception {
+        transport.connect(uri);
+    }
 
-        System.out.println("[Client] ========================================");
+    /** 비동기 접속 (UI 스레드를 막지 않음, 실패는 future 로 전달) */
+    public CompletableFuture<Void> connectAsync(String uri) {
+        return transport.connectAsync(uri);
     }
 
     public void setOnConnected(Runnable callback) {
@@ -92,43 +60,87 @@ public class GameClient {
         this.onDisconnected = callback;
     }
 
+    /** 송신 큐에서 보드 델타가 버려졌을 때 (다음 동기화를 전체 동기화로) */
+    public void setOnBoardDropped(Runnable callback) {
+        this.onBoardDropped = callback;
+        transport.setOnBoardDropped(callback);
+    }
+
+    /** CLOCK_SYNC 응답과 프로토콜 pong 을 반영할 매치 시계 */
+    public void setMatchClock(MatchClock clock) {
+        this.matchClock = clock;
+    }
+
+    public MatchClock getMatchClock() {
+        return matchClock;
+    }
+
+    /** 재접속 후 세션을 완전히 이어받지 못했을 때 (상대에게 전체 동기화 요청) */
+    public void setOnResyncNeeded(Runnable callback) {
+        this.onResyncNeeded = callback;
+    }
+
+    /** 끊긴 연결 다시 잇기 (가능하면 세션 재개) */
+    public void reconnect(String uri) throws Exception {
+        transport.reconnect(uri);
+    }
+
     public void disconnect() {
-        if (session != null && session.isOpen()) {
-            try {
-                session.close();
-                System.out.println("[Client] Disconnected gracefully.");
-            } catch (IOException e) {
-                System.err.println("[Client] Error during disconnect: " + e.getMessage());
-                e.printStackTrace();
-            }
-        }
+        transport.close();
     }
 
-    @OnOpen
-    public void onOpen(Session session) {
-        this.session = session;
-        System.out.println("[Client] Connected to server: " + session.getId());
-        System.out.println("[Client] Session max idle timeout: " + session.getMaxIdleTimeout());
+    // ===============================
+    // Transport.Listener
+    // ===============================
 
+    @Override
+    public void onOpen() {
         // 연결 성공 콜백 실행
         if (onConnected != null) {
             javax.swing.SwingUtilities.invokeLater(onConnected);
         }
     }
 
-    @OnMessage
+    /** 직렬화된 메시지 수신 (테스트 / 단독 호출용) */
     public void onMessage(String msg) {
+        onText(msg, MatchClock.localNanos());
+    }
+
+    @Override
+    public void onText(String msg, long receivedAt) {
         // System.out.println("[Client] Received message: " + msg.substring(0,
         // Math.min(100, msg.length())));
         Message m = WebSocketUtil.fromJson(msg, Message.class);
+
+        // 수신 → 디스패치 (파싱 포함) 지연
+        wireMetrics.recordReceived(m == null ? null : m.type, WireMetrics.utf8Length(msg),
+                MatchClock.localNanos() - receivedAt);
+
+        // 시계 동기화 응답은 여기서 처리 (게임 로직으로 넘기지 않음)
+        MatchClock clock = matchClock;
+        if (m != null && m.type == MessageType.CLOCK_SYNC) {
+            if (clock != null) {
+                clock.addSample(WebSocketUtil.fromJson(m.data, MatchClock.ClockSample.class), receivedAt);
+            }
+            return;
+        }
+
         if (onMessageHandler != null)
             onMessageHandler.accept(m);
     }
 
-    @OnClose
+    /** 프로토콜 pong (payload = ping 송신 nanoTime) */
+    @Override
+    public void onPong(ByteBuffer data) {
+        long now = System.nanoTime();
+        MatchClock clock = matchClock;
+        if (clock != null && data != null && data.remaining() >= Long.BYTES) {
+            clock.addRtt(now - data.getLong(data.position()));
+        }
+    }
+
+    @Override
     public void onClose() {
-        System.out.println("[Client] Disconnected from server.");
-        this.session = null;
         if (onDisconnected != null) {
             System.out.println("[Client] Calling onDisconnected callback");
             javax.swing.SwingUtilities.invokeLater(onDisconnected);
@@ -137,30 +149,47 @@ public class GameClient {
         }
     }
 
-    @OnError
+    @Override
     public void onError(Throwable t) {
-        System.err.println("[Client] Error occurred!");
-        System.err.println("[Client] Error type: " + t.getClass().getName());
-        System.err.println("[Client] Error message: " + t.getMessage());
-        t.printStackTrace();
         if (onDisconnected != null) {
             javax.swing.SwingUtilities.invokeLater(onDisconnected);
         }
     }
 
-    public void send(Message msg) {
-        if (session != null && session.isOpen()) {
-            String json = WebSocketUtil.toJson(msg);
-            // System.out.println("[Client] Sending: " + json.substring(0, Math.min(100,
-            // json.length())));
-            session.getAsyncRemote().sendText(json);
-        } else {
-            System.err.println("[Client] Cannot send - session is null or closed!");
+    @Override
+    public void onResumed(boolean complete) {
+        if (!complete && onResyncNeeded != null) {
+            System.out.println("[Client] Resume incomplete → full resync");
+            javax.swing.SwingUtilities.invokeLater(onResyncNeeded);
         }
     }
 
+    public void send(Message msg) {
+        transport.send(msg);
+    }
+
+    /** RTT 측정용 ping (WebSocket 은 프로토콜 ping 프레임) */
+    public void sendPing() {
+        transport.sendPing();
+    }
+
+    /** 시계 동기화 요청 (서버가 수신/송신 시각을 채워 응답) */
+    public void requestClockSync() {
+        send(new Message(MessageType.CLOCK_SYNC, new MatchClock.ClockSample(MatchClock.localNanos())));
+    }
+
     public boolean isConnected() {
-        return session != null && session.isOpen();
+        return transport.isOpen();
+    }
+
+    /** 타입별 실제 송수신 계측 (송신은 소켓 전송일 때만) */
+    public WireMetrics getWireMetrics() {
+        return wireMetrics;
+    }
+
+    /** 송신 큐 (연결 전이나 루프백이면 null) */
+    public OutboundQueue getOutboundQueue() {
+        return transport.getOutboundQueue();
     }
 
     // TEST SUPPORT
@@ -172,4 +201,4 @@ public class GameClient {
         return onDisconnected;
     }
 
-}
\ No newline at end of file
+}
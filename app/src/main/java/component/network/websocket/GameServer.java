@@ -4,34 +4,88 @@ import javax.websocket.*;
 import javax.websocket.server.ServerEndpoint;
 import org.glassfish.tyrus.server.Server;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * GameServer - 방(매치) 단위 릴레이 서버
+ * - ws://host:port/game?room=ID 로 접속하면 해당 방에만 릴레이
+ * - room 파라미터가 없으면 기본 방 (기존 1:1 동작과 동일)
+ * - CLOCK_SYNC 는 릴레이하지 않고 서버 시각을 기록해 보낸 세션에만 응답
+ * - 비정상 종료된 재개 세션은 유예 시간 동안 보관 (resume 토큰으로 재접속)
+ * - RelayGuard: 과대 메시지 / 세션·타입별 속도 제한 / 느린 수신자 정리 (-Dtetris.relay.* 설정)
+ * - -Dtetris.authoritative=true: 플레이어마다 규칙 엔진을 돌려 공격 / 보드 검증 (MatchReferee)
+ */
 @ServerEndpoint("/game")
 public class GameServer {
 
     private static Server server; // 서버를 하나만 사용
-    private static final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private static final RoomRegistry rooms = new RoomRegistry();
+    private static final WireMetrics metrics = new WireMetrics("server");
+    public static final String AUTHORITATIVE_PROPERTY = "tetris.authoritative";
+    private static final RelayGuard guard = new RelayGuard(RelayLimits.fromSystemProperties());
+
+    static {
+        rooms.setWireMetrics(metrics);
+        rooms.setRelayGuard(guard);
+        rooms.setAuthoritative(Boolean.getBoolean(AUTHORITATIVE_PROPERTY));
+    }
 
     @OnOpen
     public void onOpen(Session session) {
-        sessions.add(session);
-        System.out.println("[Server] Client connected: " + session.getId());
+        // 컨테이너도 같은 한도로 (그보다 큰 프레임은 버퍼링 전에 1009 로 종료)
+        int maxFrame = guard.getLimits().maxFrameBytes;
+        if (maxFrame < Integer.MAX_VALUE) {
+            session.setMaxTextMessageBufferSize(maxFrame);
+        }
+        String roomId = rooms.join(session);
+        System.out.println("[Server] Client connected: " + session.getId() + " (room: " + roomId + ")");
     }
 
     @OnMessage
     public void onMessage(String msg, Session sender) {
+        long receivedAt = MatchClock.localNanos();
+        if (!guard.checkSize(sender, msg))
+            return;
+        MessageType type = OutboundQueue.peekType(msg);
+        if (guard.admit(sender, type, receivedAt) == RelayGuard.Verdict.ACCEPT) {
+            if (type == MessageType.CLOCK_SYNC) {
+                replyClockSync(msg, sender, receivedAt);
+            } else {
+                rooms.relay(sender, msg);
+            }
+        }
+        // 수신 → 릴레이 (상대 송신 큐에 넣기까지) 지연 (버린 메시지도 수신량에는 포함)
+        metrics.recordReceived(type, WireMetrics.utf8Length(msg), MatchClock.localNanos() - receivedAt);
+    }
 
-        for (Session s : sessions) {
-            if (!s.equals(sender) && s.isOpen()) {
-                s.getAsyncRemote().sendText(msg);
+    static void replyClockSync(String msg, Session sender, long receivedAt) {
+        try {
+            Message request = WebSocketUtil.fromJson(msg, Message.class);
+            MatchClock.ClockSample sample = WebSocketUtil.fromJson(request.data, MatchClock.ClockSample.class);
+            String reply = WebSocketUtil.toJson(
+                    new Message(MessageType.CLOCK_SYNC, MatchClock.reply(sample, receivedAt)));
+            OutboundQueue q = rooms.outboundOf(sender);
+            if (q != null) {
+                q.offer(MessageType.CLOCK_SYNC, reply);
+            } else {
+                sender.getAsyncRemote().sendText(reply);
             }
+        } catch (RuntimeException e) {
+            System.err.println("[Server] Bad CLOCK_SYNC: " + e.getMessage());
         }
     }
 
     @OnClose
-    public void onClose(Session session) {
-        sessions.remove(session);
+    public void onClose(Session session, CloseReason reason) {
+        // 정상 종료가 아니면 (와이파이 끊김 등) 재개를 위해 잠시 보관
+        boolean abnormal = reason == null || reason.getCloseCode() != CloseReason.CloseCodes.NORMAL_CLOSURE;
+        rooms.leave(session, abnormal);
         System.out.println("[Server] Client disconnected: " + session.getId());
     }
 
@@ -40,6 +94,25 @@ public class GameServer {
         System.err.println("[Server] Error on " + session.getId() + ": " + error.getMessage());
     }
 
+    /** 이 PC 의 IPv4 LAN 주소 (상대에게 알려줄 접속 주소) */
+    static List<String> lanAddresses() {
+        List<String> out = new ArrayList<>();
+        try {
+            for (NetworkInterface ni : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+                if (!ni.isUp() || ni.isLoopback() || ni.isVirtual())
+                    continue;
+                for (InetAddress a : Collections.list(ni.getInetAddresses())) {
+                    if (a instanceof Inet4Address) {
+                        out.add(a.getHostAddress());
+                    }
+                }
+            }
+        } catch (SocketException e) {
+            System.err.println("[WebSocket] Could not list interfaces: " + e.getMessage());
+        }
+        return out;
+    }
+
     /** 서버 시작 */
     public static void startServer(int port) {
         Thread t = new Thread(() -> {
@@ -49,8 +122,13 @@ public class GameServer {
                 server.start();
 
                 System.out.println("[WebSocket] Server started successfully!");
+                if (rooms.isAuthoritative()) {
+                    System.out.println("[WebSocket] Authoritative validation enabled");
+                }
                 System.out.println("[WebSocket] Local:  ws://localhost:" + port + "/game");
-                System.out.println("[WebSocket] LAN:    ws://10.50.98.32:" + port + "/game");
+                for (String lan : lanAddresses()) {
+                    System.out.println("[WebSocket] LAN:    ws://" + lan + ":" + port + "/game");
+                }
 
                 Thread.currentThread().join();
 
@@ -63,11 +141,29 @@ public class GameServer {
         t.start();
     }
 
+    public static RoomRegistry getRooms() {
+        return rooms;
+    }
+
+    /** 릴레이 보호 (설정 변경 / 통계) */
+    public static RelayGuard getRelayGuard() {
+        return guard;
+    }
+
+    /** 서버측 타입별 송수신 계측 (호스트에게는 실제 소켓 트래픽) */
+    public static WireMetrics getWireMetrics() {
+        return metrics;
+    }
+
     /** 서버 종료 */
     public static void stopServer() {
         try {
             if (server != null) {
                 System.out.println("[WebSocket] Server stopping...");
+                System.out.println("[WebSocket] Relay guard: " + guard.getStatsString());
+                if (rooms.isAuthoritative()) {
+                    System.out.println("[WebSocket] Referee: " + rooms.getRefereeTotals());
+                }
                 server.stop();
                 System.out.println("[WebSocket] Server stopped.");
             }
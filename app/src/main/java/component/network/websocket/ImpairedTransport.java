@@ -0,0 +1,323 @@
+package component.network.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ImpairedTransport - 네트워크 장애를 흉내내는 Transport 데코레이터 (테스트 / 로컬 확인용)
+ * --------------------
+ * - 송신 / 수신 양방향에 NetworkImpairment 프로필대로 지연, 흔들림, 손실 재전송, 순서 뒤바뀜, 대역폭 제한 적용
+ * - 방향마다 FIFO (TCP 처럼 앞 메시지가 늦으면 뒤도 같이 밀림), 순서 뒤바뀜으로 고른 메시지만 예외
+ * - dropConnection(): 갑작스러운 끊김 (진행 중이던 수신 메시지는 사라지고 재개로 복구)
+ * - 프로필은 실행 중에 바꿀 수 있음 (ImpairmentScenario)
+ * - 실행: -Dtetris.impair=wifi | mobile | congested | reorder | lan
+ */
+public class ImpairedTransport implements Transport {
+
+    public static final String PROPERTY = "tetris.impair";
+
+    // 모든 인스턴스가 공유하는 지연 실행 스레드 (순서는 방향별 대기열로 보장)
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "impaired-transport");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** 도착 대기 중인 메시지 (도착 시각 → 보낸 순서) */
+    private static class Pending {
+        final long releaseNanos;
+        final long order;
+        final Runnable task;
+
+        Pending(long releaseNanos, long order, Runnable task) {
+            this.releaseNanos = releaseNanos;
+            this.order = order;
+            this.task = task;
+        }
+    }
+
+    /** 한 방향의 링크 상태 */
+    private class Lane {
+        private long linkFreeAt = 0; // 대역폭: 앞 메시지 전송이 끝나는 시각 (nanos)
+        private long lastRelease = 0; // FIFO: 마지막으로 순서대로 내보낸 시각 (nanos)
+        private long nextOrder = 0;
+        private final PriorityQueue<Pending> pending = new PriorityQueue<>(
+                Comparator.comparingLong((Pending p) -> p.releaseNanos).thenComparingLong(p -> p.order));
+
+        synchronized void schedule(int bytes, Runnable task) {
+            NetworkImpairment p = profile;
+            long now = System.nanoTime();
+
+            long start = Math.max(now, linkFreeAt);
+            long sent = start + TimeUnit.MILLISECONDS.toNanos(p.transmitMs(bytes));
+            linkFreeAt = sent;
+
+            long delayMs = p.latencyMs + (p.jitterMs > 0 ? random.nextInt(p.jitterMs + 1) : 0);
+            if (p.lossChance > 0 && random.nextDouble() < p.lossChance) {
+                delayMs += p.retransmitMs; // 손실 → 재전송까지 대기
+                retransmits.incrementAndGet();
+            }
+
+            long release = Math.max(sent + TimeUnit.MILLISECONDS.toNanos(delayMs), lastRelease);
+            if (p.reorderChance > 0 && random.nextDouble() < p.reorderChance) {
+                release += TimeUnit.MILLISECONDS.toNanos(p.reorderMs); // 뒤 메시지가 먼저 도착
+                reordered.incrementAndGet();
+            } else {
+                lastRelease = release;
+            }
+
+            pending.add(new Pending(release, nextOrder++, task));
+            scheduler.schedule(this::pump, Math.max(0, release - now), TimeUnit.NANOSECONDS);
+        }
+
+        // 도착 시각이 된 메시지를 순서대로 전달 (같은 시각이면 보낸 순서)
+        private void pump() {
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    Pending head = pending.peek();
+                    if (head == null || head.releaseNanos > System.nanoTime())
+                        return;
+                    task = pending.poll().task;
+                }
+                task.run();
+            }
+        }
+
+        /** 아직 도착하지 않은 메시지 버리기 */
+        synchronized void discardPending() {
+            pending.clear();
+            linkFreeAt = 0;
+            lastRelease = 0;
+        }
+    }
+
+    private final Transport inner;
+    private final Random random;
+    private final Lane outboundLane = new Lane();
+    private final Lane inboundLane = new Lane();
+    private volatile NetworkImpairment profile;
+    private volatile Listener listener;
+    private volatile String lastUri;
+
+    // 통계
+    private final AtomicLong delayedSent = new AtomicLong();
+    private final AtomicLong delayedReceived = new AtomicLong();
+    private final AtomicLong retransmits = new AtomicLong();
+    private final AtomicLong reordered = new AtomicLong();
+    private final AtomicLong drops = new AtomicLong();
+
+    public ImpairedTransport(Transport inner, NetworkImpairment profile) {
+        this(inner, profile, System.nanoTime());
+    }
+
+    /** seed 를 고정하면 같은 장애 패턴 재현 */
+    public ImpairedTransport(Transport inner, NetworkImpairment profile, long seed) {
+        this.inner = inner;
+        this.profile = profile;
+        this.random = new Random(seed);
+        inner.setListener(new InboundListener());
+    }
+
+    /**
+     * 시스템 속성(tetris.impair)에 프리셋 이름이 있으면 감싸서 반환, 없으면 그대로
+     */
+    public static Transport wrapFromSystemProperty(Transport transport) {
+        NetworkImpairment p = NetworkImpairment.byName(System.getProperty(PROPERTY));
+        if (p == null || p.isNone())
+            return transport;
+        System.out.println("[Impair] Network impairment enabled: " + p);
+        return new ImpairedTransport(transport, p);
+    }
+
+    public void setProfile(NetworkImpairment profile) {
+        this.profile = profile;
+        System.out.println("[Impair] Profile → " + profile);
+    }
+
+    public NetworkImpairment getProfile() {
+        return profile;
+    }
+
+    public Transport getInner() {
+        return inner;
+    }
+
+    /** 갑작스러운 끊김: 오는 중이던 메시지는 사라짐 (보내던 것은 이미 소켓 버퍼에 넘어간 것으로 보고 유지) */
+    public void dropConnection() {
+        drops.incrementAndGet();
+        inboundLane.discardPending();
+        System.out.println("[Impair] Connection dropped");
+        inner.drop();
+    }
+
+    /** 마지막 connect 주소로 다시 접속 (시나리오용) */
+    public void reconnectLast() throws Exception {
+        if (lastUri != null) {
+            reconnect(lastUri);
+        }
+    }
+
+    // ===============================
+    // Transport
+    // ===============================
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void connect(String uri) throws Exception {
+        lastUri = uri;
+        inner.connect(uri);
+    }
+
+    @Override
+    public CompletableFuture<Void> connectAsync(String uri) {
+        lastUri = uri;
+        return inner.connectAsync(uri);
+    }
+
+    @Override
+    public void reconnect(String uri) throws Exception {
+        lastUri = uri;
+        inner.reconnect(uri);
+    }
+
+    @Override
+    public void send(Message msg) {
+        delayedSent.incrementAndGet();
+        int bytes = profile.bandwidthBytesPerSec > 0 ? WireMetrics.utf8Length(WebSocketUtil.toJson(msg)) : 0;
+        outboundLane.schedule(bytes, () -> inner.send(msg));
+    }
+
+    @Override
+    public void sendPing() {
+        outboundLane.schedule(Long.BYTES, inner::sendPing);
+    }
+
+    @Override
+    public void close() {
+        outboundLane.discardPending();
+        inboundLane.discardPending();
+        inner.close();
+    }
+
+    @Override
+    public void drop() {
+        dropConnection();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return inner.isOpen();
+    }
+
+    @Override
+    public OutboundQueue getOutboundQueue() {
+        return inner.getOutboundQueue();
+    }
+
+    @Override
+    public void setOnBoardDropped(Runnable callback) {
+        inner.setOnBoardDropped(callback);
+    }
+
+    @Override
+    public void setWireMetrics(WireMetrics metrics) {
+        inner.setWireMetrics(metrics);
+    }
+
+    // ===============================
+    // 수신 방향
+    // ===============================
+
+    private class InboundListener implements Listener {
+        @Override
+        public void onOpen() {
+            Listener l = listener;
+            if (l != null)
+                l.onOpen();
+        }
+
+        @Override
+        public void onText(String json, long receivedAt) {
+            delayedReceived.incrementAndGet();
+            inboundLane.schedule(WireMetrics.utf8Length(json), () -> {
+                Listener l = listener;
+                if (l != null)
+                    l.onText(json, MatchClock.localNanos());
+            });
+        }
+
+        @Override
+        public void onPong(ByteBuffer payload) {
+            inboundLane.schedule(Long.BYTES, () -> {
+                Listener l = listener;
+                if (l != null)
+                    l.onPong(payload);
+            });
+        }
+
+        @Override
+        public void onClose() {
+            Listener l = listener;
+            if (l != null)
+                l.onClose();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            Listener l = listener;
+            if (l != null)
+                l.onError(t);
+        }
+
+        @Override
+        public void onResumed(boolean complete) {
+            // 재전송 메시지보다 먼저 처리되도록 같은 방향 순서를 따름
+            inboundLane.schedule(0, () -> {
+                Listener l = listener;
+                if (l != null)
+                    l.onResumed(complete);
+            });
+        }
+    }
+
+    // ===============================
+    // 통계
+    // ===============================
+
+    public long getDelayedSent() {
+        return delayedSent.get();
+    }
+
+    public long getDelayedReceived() {
+        return delayedReceived.get();
+    }
+
+    public long getRetransmits() {
+        return retransmits.get();
+    }
+
+    public long getReordered() {
+        return reordered.get();
+    }
+
+    public long getDrops() {
+        return drops.get();
+    }
+
+    public String getStats() {
+        return String.format("[Impair] %s sent=%d recv=%d retransmit=%d reordered=%d drops=%d", profile.name,
+                delayedSent.get(), delayedReceived.get(), retransmits.get(), reordered.get(), drops.get());
+    }
+}
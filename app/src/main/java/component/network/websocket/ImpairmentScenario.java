@@ -0,0 +1,115 @@
+package component.network.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImpairmentScenario - 시간에 따라 바뀌는 네트워크 장애 대본
+ * --------------------
+ * - at(ms, profile): 시작 후 ms 시점에 프로필 변경
+ * - dropAt(ms) / reconnectAt(ms): 끊김 / 마지막 주소로 재접속
+ * - 대본 끝 시각(getDurationMs) 이후에는 마지막 프로필 유지
+ * 예) new ImpairmentScenario("wifi-spike").at(0, WIFI).at(2000, CONGESTED).dropAt(3000).reconnectAt(3500)
+ */
+public class ImpairmentScenario {
+
+    private static class Step {
+        final long atMs;
+        final String label;
+        final StepAction action;
+
+        Step(long atMs, String label, StepAction action) {
+            this.atMs = atMs;
+            this.label = label;
+            this.action = action;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StepAction {
+        void apply(ImpairedTransport t) throws Exception;
+    }
+
+    private final String name;
+    private final List<Step> steps = new ArrayList<>();
+    private ScheduledExecutorService runner;
+    private long startNanos;
+
+    public ImpairmentScenario(String name) {
+        this.name = name;
+    }
+
+    public ImpairmentScenario at(long ms, NetworkImpairment profile) {
+        steps.add(new Step(ms, profile.name, t -> t.setProfile(profile)));
+        return this;
+    }
+
+    public ImpairmentScenario dropAt(long ms) {
+        steps.add(new Step(ms, "drop", ImpairedTransport::dropConnection));
+        return this;
+    }
+
+    public ImpairmentScenario reconnectAt(long ms) {
+        steps.add(new Step(ms, "reconnect", ImpairedTransport::reconnectLast));
+        return this;
+    }
+
+    /** 마지막 단계 시각 */
+    public long getDurationMs() {
+        long max = 0;
+        for (Step s : steps) {
+            max = Math.max(max, s.atMs);
+        }
+        return max;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 대본 시작 (transports 모두에 같은 시점에 적용) */
+    public synchronized void start(ImpairedTransport... transports) {
+        stop();
+        runner = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "impair-scenario-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+        startNanos = System.nanoTime();
+        System.out.println("[Impair] Scenario start: " + name + " (" + steps.size() + " steps)");
+        for (Step s : steps) {
+            runner.schedule(() -> {
+                for (ImpairedTransport t : transports) {
+                    try {
+                        s.action.apply(t);
+                    } catch (Exception e) {
+                        System.err.println("[Impair] Step '" + s.label + "' failed: " + e.getMessage());
+                    }
+                }
+            }, s.atMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 대본 끝까지 대기 */
+    public void awaitEnd() throws InterruptedException {
+        long remaining;
+        synchronized (this) {
+            if (runner == null)
+                return;
+            remaining = getDurationMs() - (System.nanoTime() - startNanos) / 1_000_000L;
+        }
+        if (remaining > 0) {
+            Thread.sleep(remaining + 1);
+        }
+    }
+
+    public synchronized void stop() {
+        if (runner != null) {
+            runner.shutdownNow();
+            runner = null;
+        }
+    }
+}
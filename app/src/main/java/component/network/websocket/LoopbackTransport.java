@@ -0,0 +1,169 @@
+package component.network.websocket;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoopbackTransport - 호스트용 같은 JVM 전송
+ * --------------------
+ * - 호스트의 GameClient 가 로컬 Tyrus 서버에 소켓으로 붙는 대신 RoomRegistry 에 직접 참여
+ * - 송신: Message 객체를 lock-free 큐(ConcurrentLinkedQueue)에 넣고 릴레이 스레드가 꺼내서 전달
+ *   → 원격 상대 소켓용 직렬화는 서버 릴레이에서 한 번만 (호스트쪽 직렬화 / TCP 왕복 없음)
+ *   → 스레드 홉은 호출 스레드 → 전용 "loopback-relay" 스레드 한 번 (게임 루프가 릴레이 처리에 막히지 않도록)
+ * - 수신: 상대 메시지 문자열을 서버 수신 스레드에서 바로 전달
+ */
+public class LoopbackTransport implements Transport, RoomRegistry.LocalPeer {
+
+    private final RoomRegistry registry;
+    private final ConcurrentLinkedQueue<Message> outbound = new ConcurrentLinkedQueue<>();
+    private volatile Listener listener;
+    private volatile String roomId;
+    private volatile boolean open = false;
+    private volatile Thread relayThread;
+
+    // 통계
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+
+    public LoopbackTransport() {
+        this(GameServer.getRooms());
+    }
+
+    public LoopbackTransport(RoomRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 접속 URI 에서 방 ID 만 사용 (ws://localhost:port/game?room=ID)
+     */
+    @Override
+    public void connect(String uri) {
+        if (open) {
+            close();
+        }
+        roomId = registry.attachLocal(roomOf(uri), this);
+        open = true;
+        outbound.clear();
+
+        Thread t = new Thread(this::relayLoop, "loopback-relay-" + roomId);
+        t.setDaemon(true);
+        relayThread = t;
+        t.start();
+
+        System.out.println("[Loopback] Attached to room: " + roomId);
+        Listener l = listener;
+        if (l != null) {
+            l.onOpen();
+        }
+    }
+
+    static String roomOf(String uri) {
+        String query = URI.create(uri.trim()).getQuery();
+        if (query != null) {
+            for (String kv : query.split("&")) {
+                int eq = kv.indexOf('=');
+                if (eq > 0 && kv.substring(0, eq).equals(RoomRegistry.ROOM_PARAM)) {
+                    return kv.substring(eq + 1);
+                }
+            }
+        }
+        return RoomRegistry.DEFAULT_ROOM;
+    }
+
+    // 단일 소비자: 큐가 비면 park, send 가 unpark
+    private void relayLoop() {
+        Thread self = Thread.currentThread();
+        while (open && relayThread == self) {
+            Message m;
+            while ((m = outbound.poll()) != null) {
+                try {
+                    registry.relayLocal(roomId, m);
+                    sent.incrementAndGet();
+                } catch (RuntimeException e) {
+                    System.err.println("[Loopback] Relay failed: " + e.getMessage());
+                }
+            }
+            LockSupport.park(this);
+        }
+    }
+
+    @Override
+    public void send(Message msg) {
+        if (!open) {
+            System.err.println("[Client] Cannot send - loopback is closed!");
+            return;
+        }
+        outbound.offer(msg);
+        LockSupport.unpark(relayThread);
+    }
+
+    /** 같은 JVM → 왕복 지연은 사실상 0, 바로 pong */
+    @Override
+    public void sendPing() {
+        Listener l = listener;
+        if (!open || l == null)
+            return;
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES);
+        payload.putLong(System.nanoTime()).flip();
+        l.onPong(payload);
+    }
+
+    /** 상대 메시지 수신 (서버 수신 스레드) */
+    @Override
+    public void deliver(String json) {
+        Listener l = listener;
+        if (!open || l == null)
+            return;
+        received.incrementAndGet();
+        l.onText(json, MatchClock.localNanos());
+    }
+
+    @Override
+    public void close() {
+        if (!open)
+            return;
+        open = false;
+        registry.detachLocal(roomId, this);
+        Thread t = relayThread;
+        relayThread = null;
+        LockSupport.unpark(t);
+        outbound.clear();
+
+        System.out.println("[Loopback] Detached from room: " + roomId);
+        Listener l = listener;
+        if (l != null) {
+            l.onClose();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /** 접속한 방의 서버 송신 계측 (상대에게 실제로 나간 바이트, 접속 전 / 계측 꺼짐이면 null) */
+    public WireMetrics getRoomWireMetrics() {
+        String id = roomId;
+        return open && id != null ? registry.wireMetricsOf(id) : null;
+    }
+
+    public int pending() {
+        return outbound.size();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+}
@@ -0,0 +1,176 @@
+package component.network.websocket;
+
+/**
+ * MatchClock - 두 플레이어가 공유하는 매치 시계
+ * --------------------
+ * - 기준은 서버(호스트 JVM)의 단조 시계: nanoTime 기반이라 OS 시각 변경에 영향 없음
+ * - 값은 벽시계(ms/ns)와 같은 범위로 앵커링 → 기존 밀리초 타임스탬프와 호환
+ * - 클라이언트는 NTP 방식(t0~t3) 샘플 여러 개 중 지연이 가장 작은 것으로 오프셋 추정
+ * - RTT / 지터는 프로토콜 ping/pong 프레임으로 측정해 EWMA 로 평활화 (RFC 6298 방식)
+ * - TimeLimitManager / 롤백 프레임 / 지연 표시가 모두 이 시계를 사용
+ */
+public class MatchClock {
+
+    /** 프로세스 시작 시점의 벽시계와 nanoTime 차이 (단조 시계를 벽시계 범위로 옮기기 위함) */
+    private static final long ANCHOR_NANOS = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+
+    static final int SAMPLE_WINDOW = 8; // 오프셋 필터에 쓰는 최근 샘플 수
+    static final long MAX_SLEW_NANOS = 2_000_000L; // 고정 후 한 번에 움직이는 최대 보정 (2ms)
+
+    /**
+     * NTP 방식 시각 교환 (CLOCK_SYNC 메시지 본문)
+     * t0: 클라이언트 송신, t1: 서버 수신, t2: 서버 송신, t3: 클라이언트 수신
+     */
+    public static class ClockSample {
+        public long t0;
+        public long t1;
+        public long t2;
+
+        public ClockSample() {
+        }
+
+        public ClockSample(long t0) {
+            this.t0 = t0;
+        }
+    }
+
+    // 오프셋 추정 (서버 시계 - 로컬 시계)
+    private volatile long offsetNanos = 0;
+    private final long[] sampleOffsets = new long[SAMPLE_WINDOW];
+    private final long[] sampleDelays = new long[SAMPLE_WINDOW];
+    private int sampleCount = 0;
+    private boolean locked = false;
+
+    // RTT / 지터 (EWMA)
+    private volatile double srttNanos = -1;
+    private volatile double rttVarNanos = 0;
+    private volatile long lastRttNanos = -1;
+
+    /** 로컬 단조 시계 (벽시계 범위로 앵커링된 ns) */
+    public static long localNanos() {
+        return System.nanoTime() + ANCHOR_NANOS;
+    }
+
+    /** 매치 시계 (서버 기준 ns) */
+    public long now() {
+        return localNanos() + offsetNanos;
+    }
+
+    /** 매치 시계 (서버 기준 ms) */
+    public long nowMillis() {
+        return now() / 1_000_000L;
+    }
+
+    /** 서버 시각 → 로컬 System.nanoTime 기준 */
+    public long toLocalNanoTime(long matchNanos) {
+        return matchNanos - offsetNanos - ANCHOR_NANOS;
+    }
+
+    // ===============================
+    // 오프셋 추정
+    // ===============================
+
+    /**
+     * CLOCK_SYNC 응답 반영
+     *
+     * @param t3 응답 수신 시각 (localNanos)
+     */
+    public synchronized void addSample(ClockSample s, long t3) {
+        long delay = (t3 - s.t0) - (s.t2 - s.t1);
+        if (delay < 0)
+            return; // 시계가 튄 샘플
+
+        long offset = ((s.t1 - s.t0) + (s.t2 - t3)) / 2;
+        int slot = sampleCount % SAMPLE_WINDOW;
+        sampleOffsets[slot] = offset;
+        sampleDelays[slot] = delay;
+        sampleCount++;
+
+        // 최근 창에서 왕복 지연이 가장 작은 샘플이 가장 대칭적 → 그 오프셋 채택
+        int n = Math.min(sampleCount, SAMPLE_WINDOW);
+        int best = 0;
+        for (int i = 1; i < n; i++) {
+            if (sampleDelays[i] < sampleDelays[best])
+                best = i;
+        }
+        long estimate = sampleOffsets[best];
+
+        if (!locked) {
+            offsetNanos = estimate;
+            locked = sampleCount >= SAMPLE_WINDOW;
+        } else {
+            // 경기 중 프레임 번호가 크게 튀지 않도록 조금씩만 이동
+            long diff = estimate - offsetNanos;
+            offsetNanos += Math.max(-MAX_SLEW_NANOS, Math.min(MAX_SLEW_NANOS, diff));
+        }
+    }
+
+    /** 서버측: 요청에 수신/송신 시각 기록 */
+    public static ClockSample reply(ClockSample request, long receivedAt) {
+        ClockSample s = new ClockSample(request.t0);
+        s.t1 = receivedAt;
+        s.t2 = localNanos();
+        return s;
+    }
+
+    public long getOffsetNanos() {
+        return offsetNanos;
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    /** 초기 샘플이 충분히 모여 오프셋이 고정되었는지 */
+    public synchronized boolean isLocked() {
+        return locked;
+    }
+
+    // ===============================
+    // RTT / 지터
+    // ===============================
+
+    /** 프로토콜 pong 수신 시 왕복 시간 반영 */
+    public void addRtt(long rttNanos) {
+        if (rttNanos < 0)
+            return;
+        lastRttNanos = rttNanos;
+        if (srttNanos < 0) {
+            srttNanos = rttNanos;
+            rttVarNanos = rttNanos / 2.0;
+        } else {
+            rttVarNanos = 0.75 * rttVarNanos + 0.25 * Math.abs(srttNanos - rttNanos);
+            srttNanos = 0.875 * srttNanos + 0.125 * rttNanos;
+        }
+    }
+
+    /** 평활 RTT (ms, 측정 전이면 -1) */
+    public double getRttMillis() {
+        return srttNanos < 0 ? -1 : srttNanos / 1e6;
+    }
+
+    /** RTT 변동폭 (ms) */
+    public double getJitterMillis() {
+        return rttVarNanos / 1e6;
+    }
+
+    public double getLastRttMillis() {
+        return lastRttNanos < 0 ? -1 : lastRttNanos / 1e6;
+    }
+
+    /** 재연결 시 초기화 */
+    public synchronized void reset() {
+        offsetNanos = 0;
+        sampleCount = 0;
+        locked = false;
+        srttNanos = -1;
+        rttVarNanos = 0;
+        lastRttNanos = -1;
+    }
+
+    /** UI 표시용 간단한 통계 문자열 */
+    public String getStatsString() {
+        return String.format("RTT %.1f±%.1fms off %.1fms", Math.max(0, getRttMillis()), getJitterMillis(),
+                offsetNanos / 1e6);
+    }
+}
@@ -0,0 +1,473 @@
+package component.network.websocket;
+
+import logic.HeadlessRules;
+import logic.PlayerInput;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MatchReferee - 서버 권위 검증 (방 하나, 플레이어마다 HeadlessRules)
+ * --------------------
+ * - 릴레이되는 PLAYER_INPUT 을 플레이어별 규칙 엔진으로 재생 (블록 모양은 입력 묶음의 PieceSpawn)
+ * - LINE_ATTACK: 엔진이 직접 계산한 줄 삭제 공격만큼만 통과 (넘는 줄은 버림)
+ *   → 클라이언트는 고정(DOWN) 입력을 보낸 뒤 공격을 보내고, 다음 스폰 전에 연쇄 공격까지 끝남
+ * - 보고된 보드(BOARD_*)는 스폰 직전 즉시 동기화 시점에 엔진 보드와 비교
+ *   · 상대 가비지는 클라이언트가 언제 받았는지 모름 → 대기 가비지 0..k 줄 중 보고와 가장 가까운 것을 적용
+ *   · 다르면 어긋남으로 기록하고 보고된 보드로 재기준 (같은 프레임 입력 순서 차이 등 오차가 쌓이지 않게)
+ * - 입력 프레임에 빈틈이 생기면 (오래 밀려 잘린 묶음 등) 엔진 상태를 믿을 수 없음
+ *   → 다음 재기준까지 공격은 검증 없이 통과 (정직한 공격을 "credit 0" 으로 버리지 않게)
+ * - 입력 / 보드 메시지는 그대로 릴레이 (관전 / 예측용), 버리는 것은 검증에 실패한 공격뿐
+ * - 아이템 모드(MODE_SELECT)는 아이템 효과를 재현하지 않으므로 검증하지 않음
+ * - 방마다 락 하나 → 방끼리는 병렬, 검증에 쓴 시간을 매치 단위로 기록해 종료 시 보고
+ */
+public class MatchReferee {
+
+    private static final int CELLS = HeadlessRules.WIDTH * HeadlessRules.HEIGHT;
+
+    /** 매치 하나의 검증 결과 / 비용 */
+    public static class MatchReport {
+        public String roomId;
+        public long durationMs;
+        public int players;
+        public long messages;
+        public long inspectNanos;
+        public int pieces;
+        public int checkpoints;
+        public int divergences;
+        public int attackLinesAccepted;
+        public int attackLinesRejected;
+        public int maskMismatches;
+        public int illegalMoves;
+        public int illegalPieces;
+        public int inputGaps;
+        public int attackLinesUnchecked;
+
+        public MatchReport() {
+        }
+
+        /** 매치 시간 대비 검증 시간 (코어 하나 기준 점유율) */
+        public double coreShare() {
+            return durationMs <= 0 ? 0 : inspectNanos / (durationMs * 1e6);
+        }
+
+        /** 코어 하나로 동시에 검증할 수 있는 매치 수 (추정) */
+        public double matchesPerCore() {
+            double share = coreShare();
+            return share <= 0 ? 0 : 1 / share;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("room %s: %.1fs, %d players, %d msgs, %.2fms CPU (%.4f%% core, ~%.0f matches/core), "
+                    + "pieces:%d checks:%d diverged:%d attack ok/rejected/unchecked:%d/%d/%d maskDiff:%d "
+                    + "illegal moves/pieces:%d/%d gaps:%d",
+                    roomId, durationMs / 1000.0, players, messages, inspectNanos / 1e6, coreShare() * 100,
+                    matchesPerCore(), pieces, checkpoints, divergences, attackLinesAccepted, attackLinesRejected,
+                    attackLinesUnchecked, maskMismatches, illegalMoves, illegalPieces, inputGaps);
+        }
+    }
+
+    /** 서버 전체 합계 (방마다 공유) */
+    public static class Totals {
+        private final AtomicLong matches = new AtomicLong();
+        private final AtomicLong matchMillis = new AtomicLong();
+        private final AtomicLong messages = new AtomicLong();
+        private final AtomicLong inspectNanos = new AtomicLong();
+        private final AtomicLong divergences = new AtomicLong();
+        private final AtomicLong rejectedLines = new AtomicLong();
+
+        void add(MatchReport r) {
+            matches.incrementAndGet();
+            matchMillis.addAndGet(r.durationMs);
+            messages.addAndGet(r.messages);
+            inspectNanos.addAndGet(r.inspectNanos);
+            divergences.addAndGet(r.divergences);
+            rejectedLines.addAndGet(r.attackLinesRejected);
+        }
+
+        public long getMatches() {
+            return matches.get();
+        }
+
+        public long getRejectedLines() {
+            return rejectedLines.get();
+        }
+
+        public void reset() {
+            matches.set(0);
+            matchMillis.set(0);
+            messages.set(0);
+            inspectNanos.set(0);
+            divergences.set(0);
+            rejectedLines.set(0);
+        }
+
+        @Override
+        public String toString() {
+            long ms = matchMillis.get();
+            double share = ms <= 0 ? 0 : inspectNanos.get() / (ms * 1e6);
+            return String.format("matches:%d msgs:%d cpu:%.1fms (%.4f%% core/match) diverged:%d rejectedLines:%d",
+                    matches.get(), messages.get(), inspectNanos.get() / 1e6, share * 100, divergences.get(),
+                    rejectedLines.get());
+        }
+    }
+
+    // 플레이어 한 명의 엔진 / 보고된 보드 / 공격 한도
+    private static class Player {
+        final HeadlessRules rules = new HeadlessRules();
+        final int[] reported = new int[CELLS]; // 칸별 RGB (0 = 빈 칸)
+        final int[] reportedRows = new int[HeadlessRules.HEIGHT];
+        final Map<Integer, int[][]> spawns = new HashMap<>();
+        final ArrayDeque<Integer> credit = new ArrayDeque<>(); // 엔진이 계산한 아직 안 쓴 공격 마스크
+        boolean reportFresh = false; // 마지막 스폰 이후 보드 보고가 있었는지
+        boolean synced = false; // 첫 비교 전 (입력 스트림 시작 전에 나온 블록은 모름)
+        boolean gapped = false; // 빠진 입력 프레임이 있음 → 다음 재기준까지 공격 검증 보류
+        int lastFrame = -1;
+        int lastBits = 0;
+        int pieces, checkpoints, divergences, attackAccepted, attackRejected, attackUnchecked, maskMismatches,
+                illegalMoves, illegalPieces, inputGaps;
+    }
+
+    private final String roomId;
+    private final Totals totals;
+    private final MessageDecoders decoders = MessageDecoders.get();
+    private final Map<Integer, Player> players = new HashMap<>();
+
+    private boolean enabled = true; // 아이템 모드면 false
+    private boolean active = false; // GAME_START ~ GAME_OVER
+    private long matchStartMillis;
+    private long messages;
+    private long inspectNanos;
+    private MatchReport lastReport;
+
+    public MatchReferee(String roomId, Totals totals) {
+        this.roomId = roomId;
+        this.totals = totals;
+    }
+
+    /**
+     * 릴레이 전 검사
+     *
+     * @param slot 보낸 플레이어 슬롯
+     * @return false 면 릴레이하지 않음 (검증 실패한 공격)
+     */
+    public synchronized boolean inspect(int slot, MessageType type, String json) {
+        if (type == null || slot < 0)
+            return true;
+        long t0 = System.nanoTime();
+        try {
+            return handle(slot, type, json);
+        } catch (RuntimeException e) {
+            // 형식이 잘못된 공격은 검증할 수 없으니 버림, 나머지는 받는 쪽이 처리
+            System.err.println("[Referee] Bad " + type + " from slot " + slot + ": " + e.getMessage());
+            return type != MessageType.LINE_ATTACK;
+        } finally {
+            if (active) {
+                messages++;
+                inspectNanos += System.nanoTime() - t0;
+            }
+        }
+    }
+
+    private boolean handle(int slot, MessageType type, String json) {
+        switch (type) {
+            case MODE_SELECT: {
+                String mode = decoders.decode(WebSocketUtil.fromJson(json, Message.class));
+                enabled = mode == null || !mode.toLowerCase().contains("item");
+                return true;
+            }
+            case GAME_START:
+            case RESTART_START:
+                finish();
+                startMatch();
+                return true;
+            case GAME_OVER:
+                finish();
+                return true;
+            default:
+                break;
+        }
+        if (!active || !enabled)
+            return true;
+
+        switch (type) {
+            case PLAYER_INPUT:
+                onInputs(playerOf(slot), decoders.decode(WebSocketUtil.fromJson(json, Message.class)));
+                return true;
+            case BOARD_FULL_SYNC:
+            case BOARD_DELTA:
+                onDelta(playerOf(slot), decoders.decode(WebSocketUtil.fromJson(json, Message.class)));
+                return true;
+            case BOARD_DELTA_COMPRESSED:
+                onCompressed(playerOf(slot), decoders.decode(WebSocketUtil.fromJson(json, Message.class)));
+                return true;
+            case LINE_ATTACK:
+                return onAttack(slot, decoders.decode(WebSocketUtil.fromJson(json, Message.class)));
+            default:
+                return true;
+        }
+    }
+
+    private Player playerOf(int slot) {
+        return players.computeIfAbsent(slot, s -> new Player());
+    }
+
+    private void startMatch() {
+        players.clear();
+        active = true;
+        matchStartMillis = System.currentTimeMillis();
+        messages = 0;
+        inspectNanos = 0;
+    }
+
+    /** 진행 중인 매치 종료 + 보고 (방이 비거나 게임 오버) */
+    public synchronized MatchReport finish() {
+        if (!active)
+            return null;
+        active = false;
+
+        MatchReport r = new MatchReport();
+        r.roomId = roomId;
+        r.durationMs = System.currentTimeMillis() - matchStartMillis;
+        r.players = players.size();
+        r.messages = messages;
+        r.inspectNanos = inspectNanos;
+        for (Player p : players.values()) {
+            r.pieces += p.pieces;
+            r.checkpoints += p.checkpoints;
+            r.divergences += p.divergences;
+            r.attackLinesAccepted += p.attackAccepted;
+            r.attackLinesRejected += p.attackRejected;
+            r.maskMismatches += p.maskMismatches;
+            r.illegalMoves += p.illegalMoves;
+            r.illegalPieces += p.illegalPieces;
+            r.inputGaps += p.inputGaps;
+            r.attackLinesUnchecked += p.attackUnchecked;
+        }
+        lastReport = r;
+        if (totals != null)
+            totals.add(r);
+        if (r.messages > 0)
+            System.out.println("[Referee] " + r);
+        return r;
+    }
+
+    // ===============================
+    // 입력 재생
+    // ===============================
+
+    private void onInputs(Player p, BoardSyncAdapter.InputBatch batch) {
+        if (batch == null || batch.inputs == null)
+            return;
+        if (batch.spawns != null) {
+            for (BoardSyncAdapter.PieceSpawn spawn : batch.spawns) {
+                if (spawn != null && spawn.shape != null && spawn.shape.length > 0)
+                    p.spawns.put(spawn.frame, spawn.shape);
+            }
+        }
+
+        for (int i = 0; i < batch.inputs.length; i++) {
+            int frame = batch.startFrame + i;
+            int bits = batch.inputs[i];
+            int fresh;
+            if (frame < p.lastFrame) {
+                continue; // 이미 재생한 프레임 (다시 보낸 확정 구간)
+            } else if (frame == p.lastFrame) {
+                fresh = PlayerInput.since(bits, p.lastBits); // 같은 프레임 누적 재전송 → 새로 생긴 입력만
+                if (fresh != PlayerInput.NONE)
+                    p.lastBits = bits;
+            } else {
+                if (frame > p.lastFrame + 1 && !p.gapped) {
+                    p.gapped = true; // 사이 프레임 입력을 못 받음
+                    p.inputGaps++;
+                }
+                p.lastFrame = frame;
+                p.lastBits = bits;
+                fresh = bits;
+            }
+            if (fresh != PlayerInput.NONE)
+                step(p, frame, fresh);
+        }
+    }
+
+    private void step(Player p, int frame, int input) {
+        HeadlessRules rules = p.rules;
+        if (rules.isGameOver())
+            return;
+
+        p.illegalMoves += rules.apply(input);
+        int[] attack = rules.takeAttacks();
+        for (int mask : attack) {
+            p.credit.offer(mask);
+        }
+
+        if ((input & PlayerInput.SPAWN) != 0) {
+            checkpoint(p);
+            int[][] shape = p.spawns.remove(frame);
+            if (shape == null)
+                return; // 모양 없는 스폰 (보낸 쪽 버그) → 다음 비교에서 재기준
+            if (!HeadlessRules.isStandardPiece(shape))
+                p.illegalPieces++;
+            p.pieces++;
+            rules.spawn(shape);
+        }
+    }
+
+    /**
+     * 스폰 직전: 가비지 적용 + 보고된 보드와 비교
+     * - 클라이언트는 스폰 전에 전체 보드를 즉시 보냄 (가비지 적용 후 한 번 더)
+     * - 이전 블록의 공격은 스폰 전에 모두 보냈어야 하므로 남은 한도는 버림
+     */
+    private void checkpoint(Player p) {
+        HeadlessRules rules = p.rules;
+        p.credit.clear();
+
+        if (!p.reportFresh) {
+            rules.applyGarbage(Integer.MAX_VALUE); // 보고가 없으면 받은 것을 전부 적용했다고 가정
+            return; // 빈틈이 있었으면 보고가 올 때까지 계속 보류
+        }
+        p.reportFresh = false;
+        p.checkpoints++;
+
+        for (int r = 0; r < HeadlessRules.HEIGHT; r++) {
+            int m = 0;
+            for (int c = 0; c < HeadlessRules.WIDTH; c++) {
+                if (p.reported[r * HeadlessRules.WIDTH + c] != 0)
+                    m |= 1 << c;
+            }
+            p.reportedRows[r] = m;
+        }
+
+        int best = 0;
+        int bestDiff = rules.distance(p.reportedRows, 0);
+        int maxK = rules.getApplicableGarbage();
+        for (int k = 1; k <= maxK && bestDiff > 0; k++) {
+            int d = rules.distance(p.reportedRows, k);
+            if (d < bestDiff) {
+                best = k;
+                bestDiff = d;
+            }
+        }
+        rules.applyGarbage(best);
+
+        if (bestDiff > 0) {
+            if (p.synced && !p.gapped)
+                p.divergences++; // 빈틈 뒤의 차이는 빠진 입력 탓이라 어긋남으로 세지 않음
+            rules.rebase(p.reported);
+        }
+        p.synced = true;
+        p.gapped = false;
+    }
+
+    // ===============================
+    // 보고된 보드
+    // ===============================
+
+    private void onDelta(Player p, BoardDeltaTracker.BoardDelta delta) {
+        if (delta == null || delta.changes == null)
+            return;
+        for (BoardDeltaTracker.CellDelta c : delta.changes) {
+            setReported(p, c.x, c.y, c.rgb);
+        }
+        p.reportFresh = true;
+    }
+
+    private void onCompressed(Player p, BoardDeltaTracker.CompressedDelta compressed) {
+        if (compressed == null || compressed.runs == null)
+            return;
+        for (BoardDeltaTracker.CompressedDelta.CellRun run : compressed.runs) {
+            int count = Math.min(run.count, HeadlessRules.WIDTH);
+            for (int i = 0; i < count; i++) {
+                setReported(p, run.startX + i, run.startY, run.rgb);
+            }
+        }
+        p.reportFresh = true;
+    }
+
+    private static void setReported(Player p, int x, int y, Integer rgb) {
+        if (x < 0 || x >= HeadlessRules.WIDTH || y < 0 || y >= HeadlessRules.HEIGHT)
+            return;
+        // 완전 투명 검정(0)은 빈 칸과 구분할 수 없지만 블록 색으로 쓰이지 않음
+        p.reported[y * HeadlessRules.WIDTH + x] = rgb == null ? 0 : rgb;
+    }
+
+    // ===============================
+    // 공격 검증
+    // ===============================
+
+    private boolean onAttack(int slot, int[] masks) {
+        if (masks == null || masks.length == 0)
+            return true;
+        Player p = playerOf(slot);
+
+        if (p.gapped) {
+            // 엔진이 입력을 놓쳐 한도를 모름 → 통과 (형식만 검사)
+            for (int m : masks) {
+                if ((m & ~HeadlessRules.ROW_MASK) != 0)
+                    return false;
+            }
+            p.attackUnchecked += masks.length;
+            addGarbageToOthers(slot, masks);
+            return true;
+        }
+
+        boolean valid = masks.length <= p.credit.size();
+        for (int m : masks) {
+            valid &= (m & ~HeadlessRules.ROW_MASK) == 0;
+        }
+        if (!valid) {
+            p.attackRejected += masks.length;
+            System.err.println("[Referee] Room " + roomId + " slot " + slot + ": rejected " + masks.length
+                    + "-line attack (credit " + p.credit.size() + ")");
+            return false;
+        }
+
+        for (int m : masks) {
+            if (p.credit.poll() != m)
+                p.maskMismatches++;
+        }
+        p.attackAccepted += masks.length;
+        addGarbageToOthers(slot, masks);
+        return true;
+    }
+
+    private void addGarbageToOthers(int slot, int[] masks) {
+        for (Map.Entry<Integer, Player> e : players.entrySet()) {
+            if (e.getKey() != slot)
+                e.getValue().rules.addGarbage(masks);
+        }
+    }
+
+    // ===============================
+    // 상태
+    // ===============================
+
+    public synchronized boolean isActive() {
+        return active;
+    }
+
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 마지막으로 끝난 매치 결과 (없으면 null) */
+    public synchronized MatchReport getLastReport() {
+        return lastReport;
+    }
+
+    /** 테스트 / 디버그용: 플레이어 엔진 (아직 메시지가 없으면 null) */
+    synchronized HeadlessRules rulesOf(int slot) {
+        Player p = players.get(slot);
+        return p == null ? null : p.rules;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MatchReferee{room=" + roomId + ", active=" + active + ", enabled=" + enabled + ", players="
+                + Arrays.toString(players.keySet().toArray()) + "}";
+    }
+}
@@ -6,6 +6,7 @@ public class Message implements Serializable {
     private static final long serialVersionUID = 1L;
     public MessageType type;
     public String data;
+    public long seq; // 세션 재개용 순번 (직렬화 시 항상 마지막 필드)
 
     public Message() {}
 
@@ -0,0 +1,81 @@
+package component.network.websocket;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+
+/**
+ * MessageDecoders - MessageType 별 본문 디코더 (한 번만 만들어 재사용)
+ * --------------------
+ * - 타입마다 Gson TypeAdapter 를 미리 꺼내 둠 → 메시지마다 Gson 생성 / 리플렉션 조회 없음
+ * - 본문은 한 번만 파싱 (이전 버전의 이중 직렬화 "\"{...}\"" 도 풀어서 처리)
+ * - 네트워크 스레드에서 호출 (EDT 에는 디코딩이 끝난 값만 넘김)
+ */
+public final class MessageDecoders {
+
+    private static final MessageDecoders INSTANCE = new MessageDecoders(WebSocketUtil.gson());
+
+    private final Map<MessageType, TypeAdapter<?>> adapters = new EnumMap<>(MessageType.class);
+    private final TypeAdapter<String> stringAdapter;
+
+    MessageDecoders(Gson gson) {
+        stringAdapter = gson.getAdapter(String.class);
+        register(gson, MessageType.MODE_SELECT, String.class);
+        register(gson, MessageType.GAME_START, Long.class);
+        register(gson, MessageType.TIME_LIMIT_START, Long.class);
+        register(gson, MessageType.TIME_LIMIT_SCORE, Integer.class);
+        register(gson, MessageType.SCORE_UPDATE, Integer.class);
+        register(gson, MessageType.LINE_ATTACK, int[].class);
+        register(gson, MessageType.PING, NetworkManager.LinkStats.class);
+        register(gson, MessageType.VISUAL_EFFECT, NetworkManager.VisualEffect.class);
+        register(gson, MessageType.NEXT_BLOCKS, BoardSyncAdapter.BlockData[].class);
+        register(gson, MessageType.PLAYER_STATS, BoardSyncAdapter.PlayerStats.class);
+        register(gson, MessageType.PLAYER_INPUT, BoardSyncAdapter.InputBatch.class);
+        register(gson, MessageType.ACTIVE_PIECE, ActivePieceStream.Piece.class);
+        register(gson, MessageType.BOARD_DELTA, BoardDeltaTracker.BoardDelta.class);
+        register(gson, MessageType.BOARD_FULL_SYNC, BoardDeltaTracker.BoardDelta.class);
+        register(gson, MessageType.BOARD_DELTA_COMPRESSED, BoardDeltaTracker.CompressedDelta.class);
+    }
+
+    public static MessageDecoders get() {
+        return INSTANCE;
+    }
+
+    private void register(Gson gson, MessageType type, Class<?> payload) {
+        adapters.put(type, gson.getAdapter(payload));
+    }
+
+    public boolean has(MessageType type) {
+        return adapters.containsKey(type);
+    }
+
+    /**
+     * 본문 디코딩
+     *
+     * @return 등록된 타입이 아니거나 본문이 없으면 null
+     * @throws JsonParseException 본문 형식이 잘못된 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T decode(Message msg) {
+        if (msg == null || msg.data == null)
+            return null;
+        TypeAdapter<?> adapter = adapters.get(msg.type);
+        if (adapter == null)
+            return null;
+        try {
+            String json = msg.data;
+            if (json.startsWith("\"") && adapter != stringAdapter) {
+                json = stringAdapter.fromJson(json); // 이전 버전: 문자열로 한 번 더 감싼 본문
+                if (json == null)
+                    return null;
+            }
+            return (T) adapter.fromJson(json);
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonParseException(msg.type + ": " + e.getMessage(), e);
+        }
+    }
+}
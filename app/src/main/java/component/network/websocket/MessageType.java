@@ -25,6 +25,10 @@ public enum MessageType {
     BOARD_FULL_SYNC,       // 주기적 전체 동기화 (패킷 손실 대비)
     NEXT_BLOCKS,         // 다음 블록 정보 전송
     PLAYER_STATS,       // 플레이어 상태 정보 전송
+
+    // === 롤백 넷코드 ===
+    PLAYER_INPUT,       // 프레임 단위 조작 입력 묶음
+    ACTIVE_PIECE,       // 조작 중인 블록 상태 (종류/회전/x/y 압축, 바뀔 때만)
     
     // === 타임 리밋 모드 (NEW!) ===
     TIME_LIMIT_START,      // 타임 리밋 시작 (서버 시간 전송)
@@ -34,6 +38,9 @@ public enum MessageType {
     // === 네트워크 안정성 ===
     PING,
     PONG,
+    CLOCK_SYNC,            // 시계 동기화 (서버가 직접 응답, 릴레이 안 함)
+    SESSION_INFO,          // 세션 재개 토큰 / 재개 결과 (서버 → 클라이언트)
+    SYNC_REQUEST,          // 상대에게 전체 보드 동기화 요청 (재개 실패 시)
     
     // === 재시작 ===
     RESTART_READY,
@@ -0,0 +1,81 @@
+package component.network.websocket;
+
+/**
+ * NetworkImpairment - 네트워크 장애 프로필 (ImpairedTransport 설정)
+ * --------------------
+ * - latencyMs / jitterMs: 단방향 지연 (기본 + 0~jitter 무작위)
+ * - lossChance / retransmitMs: TCP 손실은 재전송 대기로 나타남 → 뒤 메시지까지 함께 밀림
+ * - reorderChance / reorderMs: 일부 메시지를 더 늦게 보내 순서 뒤바꿈 (릴레이 경로 재현용)
+ * - bandwidthBytesPerSec: 0 이면 무제한, 아니면 크기만큼 전송 시간 추가
+ * - 시스템 속성 -Dtetris.impair=wifi 처럼 이름으로 선택
+ */
+public class NetworkImpairment {
+
+    public static final NetworkImpairment NONE = new NetworkImpairment("none", 0, 0, 0, 0, 0, 0, 0);
+    public static final NetworkImpairment LAN = new NetworkImpairment("lan", 2, 1, 0, 0, 0, 0, 0);
+    public static final NetworkImpairment WIFI = new NetworkImpairment("wifi", 15, 25, 0.01, 200, 0, 0, 0);
+    public static final NetworkImpairment MOBILE = new NetworkImpairment("mobile", 60, 40, 0.03, 300, 0, 0,
+            64 * 1024);
+    public static final NetworkImpairment CONGESTED = new NetworkImpairment("congested", 120, 80, 0.05, 400, 0, 0,
+            16 * 1024);
+    public static final NetworkImpairment REORDER = new NetworkImpairment("reorder", 20, 10, 0, 0, 0.2, 60, 0);
+
+    public String name;
+    public int latencyMs;
+    public int jitterMs;
+    public double lossChance;
+    public int retransmitMs;
+    public double reorderChance;
+    public int reorderMs;
+    public int bandwidthBytesPerSec;
+
+    public NetworkImpairment() {
+    }
+
+    public NetworkImpairment(String name, int latencyMs, int jitterMs, double lossChance, int retransmitMs,
+            double reorderChance, int reorderMs, int bandwidthBytesPerSec) {
+        this.name = name;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.lossChance = lossChance;
+        this.retransmitMs = retransmitMs;
+        this.reorderChance = reorderChance;
+        this.reorderMs = reorderMs;
+        this.bandwidthBytesPerSec = bandwidthBytesPerSec;
+    }
+
+    /** 아무 장애도 없는 프로필인지 (감싸지 않아도 됨) */
+    public boolean isNone() {
+        return latencyMs == 0 && jitterMs == 0 && lossChance == 0 && reorderChance == 0
+                && bandwidthBytesPerSec == 0;
+    }
+
+    /** 크기에 따른 전송 시간 (ms) */
+    public long transmitMs(int bytes) {
+        if (bandwidthBytesPerSec <= 0)
+            return 0;
+        return bytes * 1000L / bandwidthBytesPerSec;
+    }
+
+    public static NetworkImpairment[] presets() {
+        return new NetworkImpairment[] { NONE, LAN, WIFI, MOBILE, CONGESTED, REORDER };
+    }
+
+    /** 이름으로 프리셋 찾기 (없으면 null) */
+    public static NetworkImpairment byName(String name) {
+        if (name == null)
+            return null;
+        for (NetworkImpairment p : presets()) {
+            if (p.name.equalsIgnoreCase(name.trim()))
+                return p;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%d±%dms, loss %.0f%%, reorder %.0f%%, %s)", name, latencyMs, jitterMs,
+                lossChance * 100, reorderChance * 100,
+                bandwidthBytesPerSec == 0 ? "unlimited" : (bandwidthBytesPerSec / 1024) + "KB/s");
+    }
+}
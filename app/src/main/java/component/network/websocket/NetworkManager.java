@@ -2,6 +2,7 @@ package component.network.websocket;
 
 import component.sidebar.HUDSidebar;
 import component.BoardView;
+import component.metrics.PerfMonitor;
 import logic.BoardLogic;
 import blocks.Block;
 import javax.swing.*;
@@ -22,9 +23,16 @@ import java.nio.file.Paths;
 public class NetworkManager {
 
     private static final String IP_SAVE_FILE = "recent_server_ip.txt";
+    private static final String WIRE_DUMP_DIR = "wire-metrics";
+    public static final String WIRE_DUMP_PROPERTY = "tetris.wireMetrics.dump"; // true 면 게임 종료마다 덤프
+    private static final int WIRE_OVERLAY_TYPES = 8;
     private static final long PING_INTERVAL = 1000;
+    private static final int CLOCK_BURST_SAMPLES = MatchClock.SAMPLE_WINDOW; // 접속 직후 빠른 시계 고정용
+    private static final int CLOCK_BURST_INTERVAL = 100;
     private static final long LAG_THRESHOLD = 200;
     private static final long DISCONNECT_THRESHOLD = 5000;
+    private static final int SERVER_PORT = 8081;
+    private String roomId = RoomRegistry.DEFAULT_ROOM;
     private boolean oppRestartReady = false;
     private boolean isReconnecting = false;
 
@@ -32,12 +40,31 @@ public class NetworkManager {
 
     private final GameClient client;
     private BoardSyncAdapter adapter;
+    private OpponentPredictor opponentPredictor;
+    private final ActivePieceStream.Receiver pieceReceiver = new ActivePieceStream.Receiver();
+    private final BoardLogic oppLogic;
+
+    // 수신 처리: 디코딩은 네트워크 스레드, UI 변경만 프레임 단위로 묶어서 EDT 로
+    private final MessageDecoders decoders = MessageDecoders.get();
+    private final EdtBatcher ui = new EdtBatcher();
+    private static final String UI_OPP_REPAINT = "oppRepaint";
+    private static final String UI_NEXT_BLOCKS = "nextBlocks";
+    private static final String UI_OPP_STATS = "oppStats";
+    private static final String UI_OPP_SCORE = "oppScore";
+    private static final String UI_LAG_LABEL = "lagLabel";
     private final boolean isServer;
+    private final MatchClock matchClock = new MatchClock();
+    private long agreedMatchStart = 0; // 호스트가 GAME_START 로 알려준 매치 시작 시각 (매치 시계 ns)
 
     private long lastPingTime = 0;
     private long lastPongTime = 0;
     private Timer heartbeatTimer;
     private Timer connectionCheckTimer;
+    private Timer clockBurstTimer;
+
+    // 상대 구간(상대 ↔ 서버) RTT / 지터 - 상대가 PING 으로 알려줌
+    private double oppLegRttMillis = -1;
+    private double oppLegJitterMillis = 0;
 
     private boolean isReady = false;
     private boolean oppReady = false;
@@ -85,9 +112,17 @@ public class NetworkManager {
         this.lagLabel = lagLabel;
         this.onConnectionLost = onConnectionLost;
         this.onGameOver = onGameOver;
+        this.oppLogic = oppLogic;
 
-        client = new GameClient(messageHandler);
+        // 호스트는 같은 JVM 서버에 소켓 없이 참여 (원격 상대만 소켓 사용)
+        // 원격 쪽은 -Dtetris.impair=<프로필> 이면 네트워크 장애를 흉내냄
+        client = isServer
+                ? new GameClient(messageHandler, new LoopbackTransport())
+                : new GameClient(messageHandler, ImpairedTransport.wrapFromSystemProperty(new WebSocketTransport()));
         adapter = new BoardSyncAdapter(myLogic, oppLogic, client);
+        opponentPredictor = new OpponentPredictor(oppLogic);
+        client.setOnBoardDropped(adapter::requestFullSync);
+        wireMatchClock();
 
         myLogic.setBeforeSpawnHook(() -> {
             adapter.sendBoardStateImmediate();
@@ -114,13 +149,28 @@ public class NetworkManager {
         this.lagLabel = lagLabel;
         this.onConnectionLost = onConnectionLost;
         this.onGameOver = onGameOver;
+        this.oppLogic = oppLogic;
 
         this.client = clientOverride;
         this.adapter = new BoardSyncAdapter(myLogic, oppLogic, clientOverride);
+        this.opponentPredictor = new OpponentPredictor(oppLogic);
+        clientOverride.setOnBoardDropped(adapter::requestFullSync);
+        wireMatchClock();
 
         setupTimers();
     }
 
+    // 시간 기준을 쓰는 곳(입력 프레임, 예측, 타이머)이 모두 같은 시계를 보도록
+    private void wireMatchClock() {
+        client.setOnResyncNeeded(this::requestResync);
+        client.setMatchClock(matchClock);
+        adapter.setMatchClock(matchClock);
+        opponentPredictor.setMatchClock(matchClock);
+        // F2 성능 오버레이의 네트워크 줄
+        PerfMonitor.addSource(this, nm -> String.format("net    rtt %.0f ms  jitter %.0f ms  path %.0f ms",
+                Math.max(0, nm.matchClock.getRttMillis()), nm.matchClock.getJitterMillis(), nm.getPathRttMillis()));
+    }
+
     /**
      * Time Limit 시작 콜백 설정
      */
@@ -139,7 +189,9 @@ public class NetworkManager {
             System.out.println("[DEBUG] onConnected callback!");
             isReady = true;
             lastPongTime = System.currentTimeMillis();
+            useRoomWireMetrics();
             client.send(new Message(MessageType.PLAYER_READY, "ready"));
+            startClockBurst();
             overlayManager.updateStatus("Connected! Waiting for opponent...");
             checkReadyState();
         });
@@ -173,16 +225,16 @@ public class NetworkManager {
     private void connectToServer() {
         try {
             if (isServer) {
-                GameServer.startServer(8081);
-                Thread.sleep(1000);
-                client.connect("ws://localhost:8081/game");
+                // 서버는 원격 상대용으로 띄우고, 호스트 자신은 루프백으로 바로 입장
+                GameServer.startServer(SERVER_PORT);
+                client.connect(serverUri("localhost"));
             } else {
                 // ⭐ 오버레이가 이미 떠 있는 상태에서 IP 입력
                 SwingUtilities.invokeLater(() -> {
                     String recentIp = loadRecentServerIp();
                     String prompt = recentIp != null
-                            ? "Enter server IP: (Recent: " + recentIp + ")"
-                            : "Enter server IP:";
+                            ? "Enter server IP[/room]: (Recent: " + recentIp + ")"
+                            : "Enter server IP[/room]:";
 
                     String ip = JOptionPane.showInputDialog(
                             SwingUtilities.getWindowAncestor(parentPanel),
@@ -196,17 +248,16 @@ public class NetworkManager {
                     final String finalIp = ip;
                     saveRecentServerIp(ip);
 
-                    // 백그라운드 스레드에서 연결
-                    new Thread(() -> {
-                        try {
-                            client.connect("ws://" + finalIp + ":8081/game");
-                        } catch (Exception e) {
+                    // 비동기 연결 (후보 주소 동시 시도, 전체 시간 예산 안에서)
+                    client.connectAsync(serverUri(finalIp)).whenComplete((ok, e) -> {
+                        if (e != null) {
+                            Throwable cause = e.getCause() != null ? e.getCause() : e;
                             SwingUtilities.invokeLater(() -> {
                                 JOptionPane.showMessageDialog(parentPanel,
-                                        "Connection failed: " + e.getMessage());
+                                        "Connection failed: " + cause.getMessage());
                             });
                         }
-                    }).start();
+                    });
                 });
                 return;
             }
@@ -217,9 +268,9 @@ public class NetworkManager {
     }
 
     private void setupTimers() {
-        heartbeatTimer = new Timer((int) PING_INTERVAL, e -> sendPing());
+        heartbeatTimer = PerfMonitor.timer((int) PING_INTERVAL, e -> sendPing());
 
-        connectionCheckTimer = new Timer(1000, e -> checkConnection());
+        connectionCheckTimer = PerfMonitor.timer(1000, e -> checkConnection());
         connectionCheckTimer.start();
     }
 
@@ -234,29 +285,91 @@ public class NetworkManager {
         }
     }
 
+    /**
+     * 접속 직후 시계 샘플을 짧은 간격으로 여러 개 모아 오프셋을 빠르게 고정
+     */
+    private void startClockBurst() {
+        if (clockBurstTimer != null) {
+            clockBurstTimer.stop();
+        }
+        int[] remaining = { CLOCK_BURST_SAMPLES };
+        clockBurstTimer = PerfMonitor.timer(CLOCK_BURST_INTERVAL, e -> {
+            client.sendPing();
+            client.requestClockSync();
+            if (--remaining[0] <= 0) {
+                ((Timer) e.getSource()).stop();
+            }
+        });
+        clockBurstTimer.start();
+    }
+
+    /**
+     * 하트비트
+     * - RTT: 프로토콜 ping 프레임 (서버가 자동 pong)
+     * - 시계: CLOCK_SYNC 샘플 1개 (오프셋 추적)
+     * - 상대 생존 확인: JSON PING/PONG, 내 구간 RTT 를 실어 보냄
+     */
     private void sendPing() {
         lastPingTime = System.currentTimeMillis();
-        client.send(new Message(MessageType.PING, lastPingTime));
+        client.sendPing();
+        client.requestClockSync();
+        client.send(new Message(MessageType.PING,
+                new LinkStats(matchClock.getRttMillis(), matchClock.getJitterMillis())));
     }
 
-    private void handlePing() {
-        client.send(new Message(MessageType.PONG, System.currentTimeMillis()));
+    private void handlePing(Message msg) {
+        try {
+            LinkStats opp = decoders.decode(msg);
+            if (opp != null) {
+                oppLegRttMillis = opp.rttMs;
+                oppLegJitterMillis = opp.jitterMs;
+            }
+        } catch (RuntimeException e) {
+            // 구버전 PING (숫자 타임스탬프) → 무시
+        }
+        client.send(new Message(MessageType.PONG, null));
     }
 
     private void handlePong() {
-        long now = System.currentTimeMillis();
-        lastPongTime = now;
-        long rtt = now - lastPingTime;
+        lastPongTime = System.currentTimeMillis();
+        ui.post(UI_LAG_LABEL, this::updateLagLabel);
+    }
 
-        SwingUtilities.invokeLater(() -> {
-            if (rtt < LAG_THRESHOLD) {
-                lagLabel.setText("Ping: " + rtt + "ms");
-                lagLabel.setForeground(new Color(100, 255, 100));
-            } else {
-                lagLabel.setText("LAG: " + rtt + "ms");
-                lagLabel.setForeground(new Color(255, 200, 100));
-            }
-        });
+    /**
+     * 상대까지 왕복 지연 = 내 구간 RTT + 상대 구간 RTT (서버 릴레이 경유)
+     */
+    public double getPathRttMillis() {
+        return Math.max(0, matchClock.getRttMillis()) + Math.max(0, oppLegRttMillis);
+    }
+
+    public double getPathJitterMillis() {
+        return matchClock.getJitterMillis() + oppLegJitterMillis;
+    }
+
+    private void updateLagLabel() {
+        long rtt = Math.round(getPathRttMillis());
+        long jitter = Math.round(getPathJitterMillis());
+        if (rtt < LAG_THRESHOLD) {
+            lagLabel.setText("Ping: " + rtt + "ms ±" + jitter);
+            lagLabel.setForeground(new Color(100, 255, 100));
+        } else {
+            lagLabel.setText("LAG: " + rtt + "ms ±" + jitter);
+            lagLabel.setForeground(new Color(255, 200, 100));
+        }
+    }
+
+    /** PING 에 실어 보내는 내 구간(나 ↔ 서버) 지연 */
+    public static class LinkStats {
+        public double rttMs;
+        public double jitterMs;
+
+        public LinkStats() {
+        }
+
+        public LinkStats(double rttMs, double jitterMs) {
+            this.rttMs = rttMs;
+            this.jitterMs = jitterMs;
+        }
     }
 
     private void checkConnection() {
@@ -316,6 +429,13 @@ public class NetworkManager {
 
             case GAME_START:
                 lastPongTime = System.currentTimeMillis();
+                if (msg.data != null && !"null".equals(msg.data)) {
+                    try {
+                        agreedMatchStart = Long.parseLong(msg.data);
+                    } catch (NumberFormatException e) {
+                        System.err.println("[CLOCK] Bad match start: " + msg.data);
+                    }
+                }
                 if (overlayManager != null) {
                     overlayManager.triggerGameStart();
                 }
@@ -339,17 +459,10 @@ public class NetworkManager {
                 lastPongTime = System.currentTimeMillis();
                 if (msg.data != null && oppView != null) {
                     try {
-                        com.google.gson.Gson gson = new com.google.gson.Gson();
-
-                        // 이중 직렬화 문제 해결
-                        String jsonString = msg.data.toString();
-                        if (jsonString.startsWith("\"")) {
-                            jsonString = gson.fromJson(jsonString, String.class);
-                        }
-
-                        VisualEffect effect = gson.fromJson(jsonString, VisualEffect.class);
-
-                        SwingUtilities.invokeLater(() -> {
+                        VisualEffect effect = decoders.decode(msg);
+                        if (effect == null || effect.type == null)
+                            break;
+                        ui.post(() -> {
                             switch (effect.type) {
                                 case "combo" -> oppView.showCombo(effect.value);
                                 case "lineClear" -> oppView.showLineClear(effect.value);
@@ -400,9 +513,9 @@ public class NetworkManager {
                 // 상대방 점수 업데이트
                 if (msg.data != null && oppSidebar != null) {
                     try {
-                        int oppScore = Integer.parseInt(msg.data.toString());
+                        int oppScore = decoders.<Integer>decode(msg);
                         System.out.println("[TIME_LIMIT_SCORE] Received opponent score: " + oppScore);
-                        SwingUtilities.invokeLater(() -> {
+                        ui.post(UI_OPP_SCORE, () -> {
                             oppLogic.setScore(oppScore); // 추가!
                             if (oppSidebar != null) {
                                 oppSidebar.setScore(oppScore);
@@ -415,13 +528,19 @@ public class NetworkManager {
                 break;
 
             case PING:
-                handlePing();
+                handlePing(msg);
                 break;
 
             case PONG:
                 handlePong();
                 break;
 
+            case SYNC_REQUEST:
+                // 상대가 세션을 완전히 이어받지 못함 → 다음 동기화를 전체 보드로
+                System.out.println("[SYNC] Opponent requested full resync");
+                adapter.handleIncoming(msg);
+                break;
+
             case GAME_OVER:
                 if (onGameOver != null) {
                     onGameOver.run();
@@ -432,7 +551,6 @@ public class NetworkManager {
             case BOARD_DELTA_COMPRESSED:
             case BOARD_FULL_SYNC:
                 handleSyncMessage(msg, oppView);
-                SwingUtilities.invokeLater(oppView::repaint);
                 break;
 
             case NEXT_BLOCKS:
@@ -443,9 +561,19 @@ public class NetworkManager {
                 handlePlayerStats(msg, oppSidebar);
                 break;
 
+            case PLAYER_INPUT:
+                BoardSyncAdapter.InputBatch batch = decoders.decode(msg);
+                ui.post(() -> opponentPredictor.onInputBatch(batch));
+                break;
+
+            case ACTIVE_PIECE:
+                // 최신 상태만 보관 → 다음 프레임(advancePrediction)에서 반영
+                pieceReceiver.accept(decoders.decode(msg), System.currentTimeMillis());
+                break;
+
             case LINE_ATTACK:
                 lastPongTime = System.currentTimeMillis();
-                int[] masks = WebSocketUtil.fromJson(msg.data, int[].class);
+                int[] masks = decoders.decode(msg);
                 System.out.println("[ATTACK] Received " + masks.length + " lines");
 
                 // ★ addGarbageMasks를 호출하면 내부에서 자동으로:
@@ -457,7 +585,7 @@ public class NetworkManager {
 
                 // 즉시 보드 상태 전송 (상대방이 내 보드를 볼 수 있도록)
                 adapter.sendBoardStateImmediate();
-                myView.repaint();
+                myView.requestRender();
                 break;
 
             case RESTART_READY:
@@ -465,7 +593,7 @@ public class NetworkManager {
                     // 테스트 환경
                     handleOpponentRestartReady();
                 } else {
-                    SwingUtilities.invokeLater(() -> handleOpponentRestartReady());
+                    ui.post(this::handleOpponentRestartReady);
                 }
                 break;
 
@@ -477,7 +605,7 @@ public class NetworkManager {
 
             default:
                 adapter.handleIncoming(msg);
-                SwingUtilities.invokeLater(oppView::repaint);
+                repaintOpponent(oppView);
                 break;
         }
     }
@@ -510,23 +638,25 @@ public class NetworkManager {
             // 파싱 실패 시 무시
         }
 
-        SwingUtilities.invokeLater(oppView::repaint);
+        repaintOpponent(oppView);
+    }
+
+    // 상대 화면 다시 그리기 (한 프레임에 한 번)
+    private void repaintOpponent(BoardView oppView) {
+        if (oppView != null) {
+            ui.post(UI_OPP_REPAINT, oppView::requestRender);
+        }
     }
 
     private void handleNextBlocks(Message msg, HUDSidebar oppSidebar) {
         try {
-            String rawData = msg.data.toString();
-            com.google.gson.Gson gson = new com.google.gson.Gson();
-            String jsonData = gson.fromJson(rawData, String.class);
-
-            BoardSyncAdapter.BlockData[] blockDataArray = gson.fromJson(jsonData,
-                    BoardSyncAdapter.BlockData[].class);
-
-            List<BoardSyncAdapter.BlockData> blockDataList = Arrays.asList(blockDataArray);
+            BoardSyncAdapter.BlockData[] blockDataArray = decoders.decode(msg);
+            if (blockDataArray == null)
+                return;
 
-            SwingUtilities.invokeLater(() -> {
-                oppSidebar.setNextBlocks(convertToBlocks(blockDataList));
-            });
+            // Block 변환까지 네트워크 스레드에서 (EDT 는 setNextBlocks 만)
+            List<Block> blocks = convertToBlocks(Arrays.asList(blockDataArray));
+            ui.post(UI_NEXT_BLOCKS, () -> oppSidebar.setNextBlocks(blocks));
         } catch (Exception e) {
             System.err.println("[ERROR] NEXT_BLOCKS: " + e.getMessage());
             e.printStackTrace();
@@ -535,14 +665,11 @@ public class NetworkManager {
 
     private void handlePlayerStats(Message msg, HUDSidebar oppSidebar) {
         try {
-            String rawData = msg.data.toString();
-            com.google.gson.Gson gson = new com.google.gson.Gson();
-            String jsonData = gson.fromJson(rawData, String.class);
-
-            BoardSyncAdapter.PlayerStats stats = gson.fromJson(jsonData,
-                    BoardSyncAdapter.PlayerStats.class);
+            BoardSyncAdapter.PlayerStats stats = decoders.decode(msg);
+            if (stats == null)
+                return;
 
-            SwingUtilities.invokeLater(() -> {
+            ui.post(UI_OPP_STATS, () -> {
                 oppSidebar.setScore(stats.score);
                 oppSidebar.setLevel(stats.level);
             });
@@ -575,6 +702,27 @@ public class NetworkManager {
         return blocks;
     }
 
+    /**
+     * 접속 URI 생성. 입력이 "ip/room" 형식이면 해당 방으로 입장
+     */
+    private String serverUri(String hostInput) {
+        String host = hostInput.trim();
+        int slash = host.indexOf('/');
+        if (slash >= 0) {
+            roomId = host.substring(slash + 1);
+            host = host.substring(0, slash);
+        }
+        return RoomRegistry.buildUri(host, SERVER_PORT, roomId);
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
     private String loadRecentServerIp() {
         try {
             if (Files.exists(Paths.get(IP_SAVE_FILE))) {
@@ -603,6 +751,75 @@ public class NetworkManager {
         if (adapter != null) {
             adapter.reset();
         }
+        stopMatch();
+    }
+
+    /**
+     * 호스트: 매치 시작 시각을 정해서 GAME_START 로 알림
+     */
+    public void sendGameStart() {
+        agreedMatchStart = matchClock.now();
+        client.send(new Message(MessageType.GAME_START, agreedMatchStart));
+    }
+
+    /**
+     * 매치 시작: 입력 스트림 송신 + 상대 블록 예측 시작
+     * 호스트가 정한 시작 시각을 양쪽이 같이 써서 프레임 번호가 실제 시각과 맞음
+     */
+    public void startMatch() {
+        long start = agreedMatchStart > 0 ? agreedMatchStart : matchClock.now();
+        adapter.startInputStream(start);
+        opponentPredictor.start(start);
+        pieceReceiver.reset();
+    }
+
+    public void stopMatch() {
+        agreedMatchStart = 0;
+        adapter.stopInputStream();
+        opponentPredictor.stop();
+        pieceReceiver.reset();
+    }
+
+    public MatchClock getMatchClock() {
+        return matchClock;
+    }
+
+    /**
+     * 상대 블록 예측을 현재 프레임까지 진행 (EDT, 매 프레임 호출)
+     *
+     * @return 상대 보드를 다시 그려야 하면 true
+     */
+    public boolean advancePrediction() {
+        // 블록 상태 스트림을 받고 있으면 그것을 그대로, 아니면 (구버전 상대 등) 입력 예측
+        boolean streamed = pieceReceiver.isLive(System.currentTimeMillis());
+        opponentPredictor.setRendering(!streamed);
+        boolean changed = opponentPredictor.advance();
+        if (streamed) {
+            changed |= pieceReceiver.applyTo(oppLogic.getState());
+        }
+        return changed;
+    }
+
+    /**
+     * 내 조작 블록 상태 전송 (EDT, 매 프레임)
+     */
+    public void sendActivePiece() {
+        adapter.sendActivePiece();
+    }
+
+    /** 상대 블록 낙하 간격 (보간 시 다음 칸까지 미리 내려 그리는 속도) */
+    public int getOpponentFallInterval() {
+        return pieceReceiver.getFallMs();
+    }
+
+    public RollbackSession.Metrics getRollbackMetrics() {
+        return opponentPredictor.getSession().getMetrics();
+    }
+
+    // 재개 실패: 내 보드는 다음 동기화를 전체로, 상대에게도 전체 보드 요청
+    private void requestResync() {
+        adapter.requestFullSync();
+        client.send(new Message(MessageType.SYNC_REQUEST, "resync"));
     }
 
     public void reconnect() throws Exception {
@@ -614,26 +831,20 @@ public class NetworkManager {
         isReconnecting = true;
 
         try {
-            // 기존 연결 정리
-            if (client != null) {
-                client.disconnect();
-            }
-
-            Thread.sleep(1000);
-
-            // 재연결
+            // 재연결: 세션 재개 토큰으로 접속 → 서버가 놓친 메시지만 재전송 (새 연결 대기 없음)
             if (isServer) {
-                client.connect("ws://localhost:8081/game");
+                client.reconnect(serverUri("localhost"));
             } else {
                 String lastIp = loadRecentServerIp();
                 if (lastIp == null)
                     lastIp = "localhost";
-                client.connect("ws://" + lastIp + ":8081/game");
+                client.reconnect(serverUri(lastIp));
             }
 
             // 재연결 후 상태 업데이트
             isReady = true;
             lastPongTime = System.currentTimeMillis();
+            useRoomWireMetrics();
             client.send(new Message(MessageType.PLAYER_READY, "ready"));
 
             System.out.println("[RECONNECT] Success!");
@@ -646,6 +857,9 @@ public class NetworkManager {
         public String type; // "combo", "lineClear", "perfectClear", "backToBack", "speedUp"
         public int value; // combo 수, 라인 수, 레벨 등
 
+        public VisualEffect() {
+        }
+
         public VisualEffect(String type, int value) {
             this.type = type;
             this.value = value;
@@ -654,8 +868,7 @@ public class NetworkManager {
 
     public void sendVisualEffect(String type, int value) {
         VisualEffect effect = new VisualEffect(type, value);
-        client.send(new Message(MessageType.VISUAL_EFFECT,
-                new com.google.gson.Gson().toJson(effect)));
+        client.send(new Message(MessageType.VISUAL_EFFECT, effect));
     }
 
     public void sendBoardState() {
@@ -683,7 +896,16 @@ public class NetworkManager {
     }
 
     public String getStatsString() {
-        return adapter.getStatsString();
+        OutboundQueue q = client.getOutboundQueue();
+        return q == null ? adapter.getStatsString() : adapter.getStatsString() + " " + q.getStatsString();
+    }
+
+    public String getRollbackStatsString() {
+        return opponentPredictor.getStatsString();
+    }
+
+    public String getClockStatsString() {
+        return matchClock.getStatsString();
     }
 
     public void printStats() {
@@ -698,10 +920,90 @@ public class NetworkManager {
             System.out.println("✓ All syncs within 200ms requirement");
         }
 
+        RollbackSession.Metrics rb = getRollbackMetrics();
+        System.out.println("\n=== Rollback Statistics ===");
+        System.out.println("Rollbacks: " + rb.rollbacks + " (mispredictions: " + rb.mispredictions
+                + ", dropped inputs: " + rb.droppedInputs + ")");
+        System.out.printf("Depth: avg %.1f / max %d frames%n", rb.avgDepth(), rb.maxDepth);
+        System.out.printf("Re-simulation: avg %.1f us / max %d us (over budget: %d)%n",
+                rb.avgResimMicros(), rb.maxResimNanos / 1000, rb.budgetOverruns);
+
+        System.out.println("\n=== Clock ===");
+        System.out.printf("RTT: %.1f ms (jitter %.1f ms), path RTT: %.1f ms%n",
+                Math.max(0, matchClock.getRttMillis()), matchClock.getJitterMillis(), getPathRttMillis());
+        System.out.printf("Offset: %.2f ms (%d samples, locked: %s)%n",
+                matchClock.getOffsetNanos() / 1e6, matchClock.getSampleCount(), matchClock.isLocked());
+
+        OutboundQueue q = client.getOutboundQueue();
+        if (q != null) {
+            System.out.println("\n=== Outbound Queue ===");
+            System.out.println("Sent: " + q.getSent() + " (failed: " + q.getFailed() + ")");
+            System.out.println("Depth: " + q.depth() + " (max " + q.getMaxDepth() + ")");
+            System.out.println("Dropped: superseded " + q.getSuperseded() + ", overflow " + q.getOverflowDropped());
+        }
+
+        System.out.println("\n=== Wire ===");
+        for (String line : getWireOverlayLines()) {
+            System.out.println(line);
+        }
+        if (Boolean.getBoolean(WIRE_DUMP_PROPERTY)) {
+            dumpWireMetrics();
+        }
+
         System.out.println("\n=== Final Sync Statistics ===");
         adapter.printStats();
     }
 
+    /**
+     * 호스트는 루프백이라 실제 소켓 트래픽은 서버가 이 방 상대에게 보낸 것
+     * (서버 전체 계측은 다른 방 매치까지 섞이므로 방별 계측을 씀, 접속 전이면 null)
+     */
+    private WireMetrics hostWireMetrics() {
+        if (isServer && client.getTransport() instanceof LoopbackTransport loopback)
+            return loopback.getRoomWireMetrics();
+        return null;
+    }
+
+    // 접속 후 방이 정해지면 동기화 통계를 이 방 계측으로
+    private void useRoomWireMetrics() {
+        WireMetrics room = hostWireMetrics();
+        if (room != null) {
+            adapter.setWireMetrics(room);
+        }
+    }
+
+    /**
+     * 디버그 오버레이 내용 (호스트는 이 방 서버 소켓 계측도 함께)
+     */
+    public List<String> getWireOverlayLines() {
+        List<String> lines = new ArrayList<>(client.getWireMetrics().overlayLines(WIRE_OVERLAY_TYPES));
+        WireMetrics room = hostWireMetrics();
+        if (room != null) {
+            lines.add("");
+            lines.addAll(room.overlayLines(WIRE_OVERLAY_TYPES));
+        }
+        return lines;
+    }
+
+    /**
+     * 계측 덤프 파일 (wire-metrics/<role>-<시각>.json)
+     * - 요청할 때만: 디버그 오버레이 Shift+F3, 또는 -Dtetris.wireMetrics.dump=true 면 게임 종료 시
+     */
+    public void dumpWireMetrics() {
+        String stamp = new java.text.SimpleDateFormat("yyyyMMdd-HHmmss").format(new java.util.Date());
+        try {
+            client.getWireMetrics().dump(Paths.get(WIRE_DUMP_DIR, (isServer ? "host" : "guest") + "-" + stamp + ".json"));
+            WireMetrics room = hostWireMetrics();
+            if (room != null) {
+                room.dump(Paths.get(WIRE_DUMP_DIR, "server-" + stamp + ".json"));
+            }
+        } catch (IOException e) {
+            System.err.println("[WIRE] Failed to write metrics: " + e.getMessage());
+            return;
+        }
+        System.out.println("[WIRE] Metrics written to " + WIRE_DUMP_DIR + "/ (" + stamp + ")");
+    }
+
     public GameClient getClient() {
         return client;
     }
@@ -717,12 +1019,16 @@ public class NetworkManager {
     }
 
     public void cleanup() {
+        PerfMonitor.removeSource(this);
         if (connectionCheckTimer != null && connectionCheckTimer.isRunning()) {
             connectionCheckTimer.stop();
         }
         if (heartbeatTimer != null && heartbeatTimer.isRunning()) {
             heartbeatTimer.stop();
         }
+        if (clockBurstTimer != null) {
+            clockBurstTimer.stop();
+        }
         if (client != null) {
             client.disconnect();
         }
@@ -741,6 +1047,10 @@ public class NetworkManager {
     // ===============================
     // TEST SUPPORT
     // ===============================
+    public String test_serverUri(String hostInput) {
+        return serverUri(hostInput);
+    }
+
     public String test_loadRecentServerIp() {
         return loadRecentServerIp();
     }
@@ -786,15 +1096,8 @@ public class NetworkManager {
     }
 
     public void test_handlePong() {
-        long now = System.currentTimeMillis();
-        lastPongTime = now;
-        long rtt = now - lastPingTime;
-
-        if (rtt < LAG_THRESHOLD) {
-            lagLabel.setText("Ping: " + rtt + "ms");
-        } else {
-            lagLabel.setText("LAG: " + rtt + "ms");
-        }
+        lastPongTime = System.currentTimeMillis();
+        updateLagLabel();
     }
 
     public void test_setOnExecuteRestart(Runnable r) {
@@ -1,5 +1,6 @@
 package component.network.websocket;
 
+import component.metrics.PerfMonitor;
 import component.GameLoop;
 import component.board.KeyBindingInstaller;
 import component.sidebar.HUDSidebar;
@@ -30,6 +31,7 @@ public class OnlineVersusPanel extends JPanel {
     private final JLabel oppIncoming = new JLabel("0");
     private final JLabel lagLabel = new JLabel("Connection: OK");
     private final JLabel syncStatsLabel = new JLabel("");
+    private WireMetricsOverlay wireOverlay; // F3 디버그 오버레이
 
     private HUDSidebar mySidebar;
     private HUDSidebar oppSidebar;
@@ -43,6 +45,7 @@ public class OnlineVersusPanel extends JPanel {
     private Timer syncTimer;
     private Timer hudTimer;
     private Timer statsTimer;
+    private Timer predictionTimer; // 상대 블록 예측 (롤백) 프레임 진행
 
     private boolean gameStarted = false;
     private final boolean isServer;
@@ -87,12 +90,15 @@ public class OnlineVersusPanel extends JPanel {
 
         myView = new BoardView(myLogic, null);
         oppView = new BoardView(oppLogic, null);
+        // 상대 블록은 띄엄띄엄 도착 → 업데이트 사이를 보간 / 낙하 예측해서 그림
+        oppView.enablePieceInterpolation(
+                () -> networkManager != null ? networkManager.getOpponentFallInterval() : 0);
 
         /* 중앙 컨테이너 */
         add(createCenterContainer(), BorderLayout.CENTER);
 
         /* 게임 루프 */
-        loop = new GameLoop(myLogic, myView::repaint);
+        loop = new GameLoop(myLogic, myView::requestRender);
         myLogic.setLoopControl(loop::pause, loop::resume);
 
         /* 네트워크 초기화 */
@@ -136,8 +142,8 @@ public class OnlineVersusPanel extends JPanel {
 
         networkManager.setOnTimeLimitStart(startTime -> {
             if (timeLimitManager != null) {
-                // syncStart를 사용하여 서버 시간과 동기화
-                timeLimitManager.syncStart(startTime, TIME_LIMIT_SECONDS);
+                // syncStart를 사용하여 서버 시간과 동기화 (EDT 에서 start 와 순서 보장)
+                SwingUtilities.invokeLater(() -> timeLimitManager.syncStart(startTime, TIME_LIMIT_SECONDS));
             }
         });
 
@@ -186,7 +192,8 @@ public class OnlineVersusPanel extends JPanel {
             networkManager.sendVisualEffect(type, value);
         });
 
-        timeLimitManager = new TimeLimitManager(timerLabel, networkManager.getClient(), isServer);
+        timeLimitManager = new TimeLimitManager(timerLabel, networkManager.getClient(), isServer,
+                networkManager.getMatchClock());
 
         /* 키 입력 */
         setupKeyBindings();
@@ -198,9 +205,10 @@ public class OnlineVersusPanel extends JPanel {
         myLogic.setOnGameOverCallback(() -> {
             SwingUtilities.invokeLater(() -> {
                 loop.stopLoop();
+                networkManager.stopMatch();
                 networkManager.sendGameOver();
                 networkManager.printStats();
-                triggerGlassShatterEffect(myView, myLogic, () -> {
+                triggerGlassShatterEffect(myView, () -> {
                     overlayManager.showGameOverOverlay(true, myLogic.getScore(),
                             oppLogic.getScore(), myTotalLines, gameStartTime);
                 });
@@ -314,7 +322,7 @@ public class OnlineVersusPanel extends JPanel {
 
     private void setupKeyBindings() {
         KeyBindingInstaller.Deps deps = new KeyBindingInstaller.Deps(
-                myLogic, myView::repaint,
+                myLogic, myView::requestRender,
                 () -> {
                 }, () -> {
                 }, () -> false,
@@ -328,12 +336,32 @@ public class OnlineVersusPanel extends JPanel {
                 }, m -> {
                 });
         new KeyBindingInstaller().install(myView, deps, KeyBindingInstaller.KeySet.ARROWS, false);
+
+        // F3: 타입별 송수신 계측 오버레이
+        wireOverlay = new WireMetricsOverlay(networkManager::getWireOverlayLines);
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_F3, 0),
+                "toggleWireOverlay");
+        getActionMap().put("toggleWireOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                wireOverlay.toggle(OnlineVersusPanel.this);
+            }
+        });
+        // Shift+F3: 지금까지의 계측을 wire-metrics/ 에 덤프
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(java.awt.event.KeyEvent.VK_F3,
+                java.awt.event.InputEvent.SHIFT_DOWN_MASK), "dumpWireMetrics");
+        getActionMap().put("dumpWireMetrics", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                networkManager.dumpWireMetrics();
+            }
+        });
         myView.setFocusable(true);
         SwingUtilities.invokeLater(myView::requestFocusInWindow);
     }
 
     private void setupTimers() {
-        hudTimer = new Timer(100, e -> {
+        hudTimer = PerfMonitor.timer(100, e -> {
             if (gameStarted) {
                 mySidebar.setScore(myLogic.getScore());
                 mySidebar.setLevel(myLogic.getLevel());
@@ -342,21 +370,33 @@ public class OnlineVersusPanel extends JPanel {
         });
         hudTimer.start();
 
-        syncTimer = new Timer(50, e -> {
+        syncTimer = PerfMonitor.timer(50, e -> {
             if (gameStarted) {
                 networkManager.sendBoardState();
             }
         });
         syncTimer.start();
 
-        statsTimer = new Timer(2000, e -> updateSyncStats());
+        statsTimer = PerfMonitor.timer(2000, e -> updateSyncStats());
         statsTimer.start();
+
+        predictionTimer = PerfMonitor.timer(16, e -> {
+            if (!gameStarted)
+                return;
+            networkManager.sendActivePiece();
+            if (networkManager.advancePrediction()) {
+                oppView.requestRender();
+            }
+        });
+        predictionTimer.start();
     }
 
     private void updateSyncStats() {
         if (!gameStarted)
             return;
-        String stats = networkManager.getStatsString();
+        String stats = "<html><center>" + networkManager.getStatsString()
+                + "<br>" + networkManager.getRollbackStatsString()
+                + "<br>" + networkManager.getClockStatsString() + "</center></html>";
         SwingUtilities.invokeLater(() -> syncStatsLabel.setText(stats));
     }
 
@@ -395,7 +435,7 @@ public class OnlineVersusPanel extends JPanel {
         gameStarted = true;
         isTimeLimitMode = selectedMode.startsWith("Time Limit");
         if (isServer) {
-            networkManager.getClient().send(new Message(MessageType.GAME_START, null));
+            networkManager.sendGameStart();
         }
 
         gameStartTime = System.currentTimeMillis();
@@ -407,13 +447,11 @@ public class OnlineVersusPanel extends JPanel {
             overlayManager.hideOverlay();
 
             if (isTimeLimitMode) {
-                long startTime = System.currentTimeMillis();
-                if (isServer) {
-                    networkManager.sendTimeLimitStart(startTime);
-                }
+                // 서버는 start() 안에서 매치 시계 기준 시작 시각(TIME_LIMIT_START)을 전송
                 timeLimitManager.start(TIME_LIMIT_SECONDS, this::onTimeLimitTimeout);
             }
 
+            networkManager.startMatch();
             loop.startLoop();
             myView.requestFocusInWindow();
             networkManager.startHeartbeat();
@@ -496,6 +534,7 @@ public class OnlineVersusPanel extends JPanel {
     private void onTimeLimitTimeout() {
         System.out.println("[TIME_LIMIT] Timeout reached!");
         loop.stopLoop();
+        networkManager.stopMatch();
 
         int myScore = myLogic.getScore();
 
@@ -505,7 +544,7 @@ public class OnlineVersusPanel extends JPanel {
         System.out.println("[TIME_LIMIT] My score: " + myScore + ", waiting for opponent score...");
 
         // 잠시 대기 후 비교 (상대방 점수 수신 대기)
-        Timer waitTimer = new Timer(500, e -> {
+        Timer waitTimer = PerfMonitor.timer(500, e -> {
             int oppScore = oppLogic.getScore();
             boolean iWon = myScore > oppScore;
 
@@ -514,9 +553,8 @@ public class OnlineVersusPanel extends JPanel {
 
             // 진 사람 보드에 glass shatter
             BoardView targetView = iWon ? oppView : myView;
-            BoardLogic targetLogic = iWon ? oppLogic : myLogic;
 
-            triggerGlassShatterEffect(targetView, targetLogic, () -> {
+            triggerGlassShatterEffect(targetView, () -> {
                 overlayManager.showTimeLimitGameOverOverlay(iWon, myScore, oppScore,
                         myTotalLines, TIME_LIMIT_SECONDS);
             });
@@ -545,18 +583,8 @@ public class OnlineVersusPanel extends JPanel {
                 return; // 재연결 시도하지 않음
             }
 
-            int choice = JOptionPane.showConfirmDialog(
-                    this,
-                    "Connection to opponent lost.\nAttempt to reconnect?", // 수정
-                    "Connection Lost",
-                    JOptionPane.YES_NO_OPTION,
-                    JOptionPane.WARNING_MESSAGE);
-
-            if (choice == JOptionPane.YES_OPTION) {
-                autoReconnect(); // 추가
-            } else {
-                returnToMainMenu();
-            }
+            // 게임 중이면 바로 세션 재개 시도 (짧은 끊김은 대화상자 없이 복구, 실패하면 autoReconnect 가 물어봄)
+            autoReconnect();
         });
     }
 
@@ -569,11 +597,12 @@ public class OnlineVersusPanel extends JPanel {
         SwingUtilities.invokeLater(() -> {
             System.out.println("[GAMEOVER] Inside SwingUtilities.invokeLater");
             loop.stopLoop();
+            networkManager.stopMatch();
             networkManager.printStats();
 
             System.out.println("[GAMEOVER] About to trigger OPPONENT collapse");
 
-            triggerGlassShatterEffect(oppView, oppLogic, () -> {
+            triggerGlassShatterEffect(oppView, () -> {
                 System.out.println("[GAMEOVER] Showing victory overlay");
                 System.out.println("[GAMEOVER] Final check - isTimeLimitMode=" + isTimeLimitMode);
 
@@ -622,6 +651,10 @@ public class OnlineVersusPanel extends JPanel {
                 hudTimer.stop();
             if (statsTimer != null)
                 statsTimer.stop();
+            if (predictionTimer != null)
+                predictionTimer.stop();
+            if (wireOverlay != null)
+                wireOverlay.dispose();
             if (gameStarted) {
                 loop.stopLoop();
             }
@@ -647,7 +680,7 @@ public class OnlineVersusPanel extends JPanel {
         isAutoReconnecting = true;
 
         final int MAX_RETRIES = 3;
-        final int RETRY_DELAY = 2000;
+        final int RETRY_DELAY = 500; // 첫 시도는 바로 (세션 재개), 이후 점점 늘림
 
         new Thread(() -> {
             try {
@@ -659,7 +692,9 @@ public class OnlineVersusPanel extends JPanel {
                         SwingUtilities
                                 .invokeLater(() -> lagLabel.setText("RECONNECTING... (" + currentAttempt + "/3)"));
 
-                        Thread.sleep(RETRY_DELAY);
+                        if (attempt > 1) {
+                            Thread.sleep((long) RETRY_DELAY * (attempt - 1));
+                        }
 
                         // 재연결 시도
                         networkManager.reconnect();
@@ -705,183 +740,19 @@ public class OnlineVersusPanel extends JPanel {
 
     /**
      * 보드 전체가 유리처럼 깨지는 효과
+     * - 파편은 BoardView 의 파티클 풀이 그림 (글래스패널 / 조각 패널 없음)
+     * - 파편이 다 사라지고 100ms 뒤 afterAnimation
      */
-    private void triggerGlassShatterEffect(BoardView view, BoardLogic logic, Runnable afterAnimation) {
+    private void triggerGlassShatterEffect(BoardView view, Runnable afterAnimation) {
         System.out.println("[GLASS] Starting glass shatter effect for " + (view == myView ? "MY" : "OPP"));
 
-        Color[][] board = logic.getBoard();
-
-        // 보드를 격자 조각으로 나누기 (각 조각은 여러 셀)
-        List<GlassShard> shards = new ArrayList<>();
-        int shardSize = 1; // 2x2 셀 크기의 조각
-
-        for (int sy = 0; sy < BoardLogic.HEIGHT; sy += shardSize) {
-            for (int sx = 0; sx < BoardLogic.WIDTH; sx += shardSize) {
-                GlassShard shard = new GlassShard();
-                shard.startX = sx;
-                shard.startY = sy;
-                shard.width = Math.min(shardSize, BoardLogic.WIDTH - sx);
-                shard.height = Math.min(shardSize, BoardLogic.HEIGHT - sy);
-
-                // 조각의 색상 (있는 블록들의 평균)
-                int colorCount = 0;
-                int r = 0, g = 0, b = 0;
-                for (int y = sy; y < sy + shard.height && y < BoardLogic.HEIGHT; y++) {
-                    for (int x = sx; x < sx + shard.width && x < BoardLogic.WIDTH; x++) {
-                        if (board[y][x] != null) {
-                            r += board[y][x].getRed();
-                            g += board[y][x].getGreen();
-                            b += board[y][x].getBlue();
-                            colorCount++;
-                        }
-                    }
-                }
-
-                if (colorCount > 0) {
-                    shard.color = new Color(r / colorCount, g / colorCount, b / colorCount);
-                } else {
-                    shard.color = new Color(50, 50, 50); // 회색 (빈 칸)
-                }
-
-                // 중심에서 바깥으로 날아가는 방향
-                double centerX = BoardLogic.WIDTH / 2.0;
-                double centerY = BoardLogic.HEIGHT / 2.0;
-                double dx = (sx + shard.width / 2.0) - centerX;
-                double dy = (sy + shard.height / 2.0) - centerY;
-                double distance = Math.sqrt(dx * dx + dy * dy);
-
-                if (distance > 0) {
-                    shard.velocityX = (dx / distance) * (3 + Math.random() * 3);
-                    shard.velocityY = (dy / distance) * (3 + Math.random() * 3);
-                } else {
-                    shard.velocityX = (Math.random() - 0.5) * 5;
-                    shard.velocityY = (Math.random() - 0.5) * 5;
-                }
-
-                shard.rotationSpeed = (Math.random() - 0.5) * 15;
-
-                shards.add(shard);
-            }
-        }
-
-        // 보드 클리어
-        for (int y = 0; y < BoardLogic.HEIGHT; y++) {
-            for (int x = 0; x < BoardLogic.WIDTH; x++) {
-                board[y][x] = null;
-            }
-        }
-        view.repaint();
-
-        System.out.println("[GLASS] Created " + shards.size() + " shards");
-
-        // glassPane에 조각들을 그리기
-        JPanel glassPane = new JPanel(null);
-        glassPane.setOpaque(false);
-
-        JFrame parentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
-        if (parentFrame == null) {
-            if (afterAnimation != null)
-                afterAnimation.run();
-            return;
-        }
-
-        parentFrame.setGlassPane(glassPane);
-        glassPane.setVisible(true);
-
-        // 각 조각을 JPanel로 생성
-        List<JPanel> shardPanels = new ArrayList<>();
-
-        for (GlassShard shard : shards) {
-            JPanel shardPanel = new JPanel();
-            shardPanel.setBackground(shard.color);
-            shardPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 1));
-            shardPanel.setOpaque(true);
-
-            Point screenPos = SwingUtilities.convertPoint(
-                    view,
-                    shard.startX * CELL_SIZE,
-                    shard.startY * CELL_SIZE,
-                    glassPane);
-
-            shard.currentX = screenPos.x;
-            shard.currentY = screenPos.y;
-
-            shardPanel.setBounds(
-                    screenPos.x,
-                    screenPos.y,
-                    shard.width * CELL_SIZE,
-                    shard.height * CELL_SIZE);
-
-            glassPane.add(shardPanel);
-            shardPanels.add(shardPanel);
-        }
-
-        // 애니메이션
-        Timer shatterTimer = new Timer(8, null); // 60fps
-        final int[] frameCount = { 0 };
-        final int maxFrames = 30;
-
-        shatterTimer.addActionListener(e -> {
-            frameCount[0]++;
-
-            for (int i = 0; i < shards.size(); i++) {
-                GlassShard shard = shards.get(i);
-                JPanel panel = shardPanels.get(i);
-
-                // 물리 시뮬레이션
-                shard.velocityY += 0.4; // 중력
-                shard.currentX += shard.velocityX;
-                shard.currentY += shard.velocityY;
-                shard.rotation += shard.rotationSpeed;
-
-                // 페이드 아웃
-                float alpha = 1.0f - (frameCount[0] / (float) maxFrames);
-                alpha = Math.max(0, alpha);
-
-                Color c = shard.color;
-                panel.setBackground(new Color(
-                        c.getRed(),
-                        c.getGreen(),
-                        c.getBlue(),
-                        (int) (255 * alpha)));
-
-                panel.setBounds(
-                        (int) shard.currentX,
-                        (int) shard.currentY,
-                        shard.width * CELL_SIZE,
-                        shard.height * CELL_SIZE);
-            }
-
-            glassPane.repaint();
-
-            if (frameCount[0] >= maxFrames) {
-                glassPane.removeAll();
-                glassPane.setVisible(false);
-                ((Timer) e.getSource()).stop();
-
-                if (afterAnimation != null) {
-                    Timer delayTimer = new Timer(100, evt -> {
-                        SwingUtilities.invokeLater(afterAnimation);
-                        ((Timer) evt.getSource()).stop();
-                    });
-                    delayTimer.setRepeats(false);
-                    delayTimer.start();
-                }
-            }
+        view.triggerGlassShatter(() -> {
+            if (afterAnimation == null)
+                return;
+            Timer delayTimer = PerfMonitor.timer(100, evt -> afterAnimation.run());
+            delayTimer.setRepeats(false);
+            delayTimer.start();
         });
-
-        shatterTimer.start();
-    }
-
-    // 유리 조각 클래스
-    private static class GlassShard {
-        int startX, startY;
-        int width, height;
-        Color color;
-        double currentX, currentY;
-        double velocityX, velocityY;
-        double rotation;
-        double rotationSpeed;
     }
 
     @Override
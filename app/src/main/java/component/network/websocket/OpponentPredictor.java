@@ -0,0 +1,246 @@
+package component.network.websocket;
+
+import blocks.Block;
+import logic.BoardLogic;
+import logic.GameState;
+import logic.PlayerInput;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OpponentPredictor - 상대 조작 블록 예측 시뮬레이션
+ * --------------------
+ * - 상대 입력 스트림(PLAYER_INPUT)으로 상대의 현재 블록 위치를 로컬에서 시뮬레이션
+ * - 고정된 셀은 기존 BOARD_* 델타가 권위 데이터 (여기서는 충돌 판정용으로 읽기만 함)
+ * - 상태는 long 하나로 압축: [spawnFrame:32][alive:1][rot:2][y:8][x:8]
+ * - 결과는 oppLogic 의 curr / x / y 에 반영되어 BoardView 가 그대로 그림
+ * - 프레임 번호는 공유 MatchClock 기준 → 양쪽이 같은 시각에 같은 프레임
+ */
+public class OpponentPredictor implements RollbackSession.Simulation {
+
+    private static final int OFFSET = 64; // x, y 음수 대비
+
+    private final BoardLogic oppLogic;
+    private final RollbackSession session;
+
+    // 스폰 프레임 → 회전 4종 (입력 스트림과 함께 수신)
+    private final Map<Integer, Block[]> spawns = new HashMap<>();
+
+    // 시뮬레이션 상태
+    private int spawnFrame = -1;
+    private boolean alive = false;
+    private int rot = 0;
+    private int x = 0;
+    private int y = 0;
+
+    private long matchStartNanos = -1; // 매치 시계 기준
+    private MatchClock matchClock = new MatchClock();
+    private long lastRendered = Long.MIN_VALUE;
+    private boolean rendering = true; // false: 블록 상태 스트림(ACTIVE_PIECE)이 그리는 중
+
+    public OpponentPredictor(BoardLogic oppLogic) {
+        this.oppLogic = oppLogic;
+        this.session = new RollbackSession(this);
+        // 테트리스 입력은 전부 한 번씩 눌리는 이벤트라 마지막 입력을 반복하면
+        // 블록이 매 프레임 미끄러짐 → "입력 없음"으로 예측하고 확정 입력이 오면 롤백
+        this.session.setPredictor(last -> PlayerInput.NONE);
+    }
+
+    public void setMatchClock(MatchClock clock) {
+        this.matchClock = clock;
+    }
+
+    /** 매치 시작 (프레임 0 기준 시각, 매치 시계 ns) */
+    public void start(long startNanos) {
+        matchStartNanos = startNanos;
+        session.reset();
+        spawns.clear();
+        loadState(pack(-1, false, 0, 0, 0));
+        lastRendered = Long.MIN_VALUE;
+    }
+
+    public void stop() {
+        matchStartNanos = -1;
+        oppLogic.getState().setCurr(null);
+    }
+
+    public boolean isRunning() {
+        return matchStartNanos >= 0;
+    }
+
+    /**
+     * 수신한 입력 묶음 반영 (EDT)
+     */
+    public void onInputBatch(BoardSyncAdapter.InputBatch batch) {
+        if (batch == null || batch.inputs == null || !isRunning())
+            return;
+
+        if (batch.spawns != null) {
+            for (BoardSyncAdapter.PieceSpawn spawn : batch.spawns) {
+                if (spawn != null && spawn.shape != null && spawn.shape.length > 0) {
+                    spawns.put(spawn.frame, rotationsOf(new Color(spawn.rgb, true), spawn.shape));
+                }
+            }
+        }
+
+        for (int i = 0; i < batch.inputs.length; i++) {
+            session.addRemoteInput(batch.startFrame + i, batch.inputs[i]);
+        }
+    }
+
+    /**
+     * 현재 시각까지 시뮬레이션 진행 후 oppLogic 에 반영 (EDT, 매 프레임)
+     *
+     * @return 화면에 보이는 상대 블록이 바뀌었으면 true
+     */
+    public boolean advance() {
+        if (!isRunning())
+            return false;
+
+        return advanceTo(RollbackSession.frameAt(matchStartNanos, matchClock.now()) + 1);
+    }
+
+    boolean advanceTo(int targetFrame) {
+        session.advanceTo(targetFrame);
+        pruneSpawns();
+        return render();
+    }
+
+    /**
+     * oppLogic 반영 여부 (시뮬레이션은 계속 진행, 다시 켜면 바로 현재 예측을 그림)
+     */
+    public void setRendering(boolean rendering) {
+        if (this.rendering == rendering)
+            return;
+        this.rendering = rendering;
+        lastRendered = Long.MIN_VALUE;
+    }
+
+    private boolean render() {
+        if (!rendering)
+            return false;
+        long packed = saveState();
+        if (packed == lastRendered)
+            return false;
+        lastRendered = packed;
+
+        GameState state = oppLogic.getState();
+        Block[] rotations = alive ? spawns.get(spawnFrame) : null;
+        if (rotations == null) {
+            state.setCurr(null);
+        } else {
+            state.setCurr(rotations[rot]);
+            state.setPosition(x, y);
+        }
+        return true;
+    }
+
+    // 롤백 창 밖으로 밀려난 스폰 정보 정리 (현재 블록은 유지)
+    private void pruneSpawns() {
+        if (spawns.size() < 8)
+            return;
+        int oldest = session.getCurrentFrame() - RollbackSession.DEFAULT_CAPACITY;
+        spawns.keySet().removeIf(f -> f < oldest && f != spawnFrame);
+    }
+
+    // ===============================
+    // RollbackSession.Simulation
+    // ===============================
+
+    @Override
+    public long saveState() {
+        return pack(spawnFrame, alive, rot, x, y);
+    }
+
+    @Override
+    public void loadState(long s) {
+        x = (int) (s & 0xFF) - OFFSET;
+        y = (int) ((s >>> 8) & 0xFF) - OFFSET;
+        rot = (int) ((s >>> 16) & 0x3);
+        alive = ((s >>> 18) & 1) != 0;
+        spawnFrame = (int) (s >> 32);
+    }
+
+    @Override
+    public void step(int frame, int input) {
+        Block[] rotations = alive ? spawns.get(spawnFrame) : null;
+
+        if (rotations != null) {
+            Color[][] board = oppLogic.getBoard();
+            for (int n = PlayerInput.count(input, PlayerInput.LEFT); n > 0; n--)
+                if (fits(rotations[rot], board, x - 1, y))
+                    x--;
+            for (int n = PlayerInput.count(input, PlayerInput.RIGHT); n > 0; n--)
+                if (fits(rotations[rot], board, x + 1, y))
+                    x++;
+            for (int n = PlayerInput.count(input, PlayerInput.ROTATE); n > 0; n--)
+                if (fits(rotations[(rot + 1) & 3], board, x, y))
+                    rot = (rot + 1) & 3;
+            for (int n = PlayerInput.count(input, PlayerInput.DOWN); n > 0 && alive; n--) {
+                if (fits(rotations[rot], board, x, y + 1))
+                    y++;
+                else
+                    alive = false; // 고정 → 이후 보드 델타로 반영됨
+            }
+            if (alive && (input & PlayerInput.DROP) != 0) {
+                while (fits(rotations[rot], board, x, y + 1))
+                    y++;
+                alive = false;
+            }
+        }
+
+        if ((input & PlayerInput.SPAWN) != 0 && spawns.containsKey(frame)) {
+            spawnFrame = frame;
+            alive = true;
+            rot = 0;
+            x = 3;
+            y = 0;
+        }
+    }
+
+    private static long pack(int spawnFrame, boolean alive, int rot, int x, int y) {
+        return ((long) spawnFrame << 32)
+                | ((alive ? 1L : 0L) << 18)
+                | ((long) (rot & 0x3) << 16)
+                | ((long) ((y + OFFSET) & 0xFF) << 8)
+                | ((x + OFFSET) & 0xFF);
+    }
+
+    private static boolean fits(Block b, Color[][] board, int nx, int ny) {
+        for (int j = 0; j < b.height(); j++) {
+            for (int i = 0; i < b.width(); i++) {
+                if (b.getShape(i, j) == 0)
+                    continue;
+                int bx = nx + i;
+                int by = ny + j;
+                if (bx < 0 || bx >= GameState.WIDTH || by >= GameState.HEIGHT)
+                    return false;
+                if (by >= 0 && board[by][bx] != null)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    static Block[] rotationsOf(Color color, int[][] shape) {
+        Block[] rotations = new Block[4];
+        rotations[0] = new Block(color, shape) {
+        };
+        for (int i = 1; i < 4; i++) {
+            rotations[i] = rotations[i - 1].clone();
+            rotations[i].rotate();
+        }
+        return rotations;
+    }
+
+    public RollbackSession getSession() {
+        return session;
+    }
+
+    /** UI 표시용 간단한 통계 문자열 */
+    public String getStatsString() {
+        return session.getMetrics().toString();
+    }
+}
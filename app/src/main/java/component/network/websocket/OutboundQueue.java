@@ -0,0 +1,412 @@
+package component.network.websocket;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendResult;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * OutboundQueue - 세션별 송신 큐 (백프레셔 + 병합)
+ * --------------------
+ * - 한 번에 하나만 전송 중(in-flight), 완료 콜백(SendHandler)이 오면 다음 메시지 전송
+ * - 최신 상태 메시지(BOARD_FULL_SYNC, NEXT_BLOCKS 등)는 큐에 있던 이전 것을 대체
+ * - 큐가 가득 차면 버려도 되는 메시지(델타, 이펙트, 핑 등)부터 오래된 순으로 버림
+ * - LINE_ATTACK / GAME_OVER / RESTART_* 등 중요한 메시지는 용량 초과로 버리지 않음
+ * - PLAYER_INPUT 도 보존: 보낸 쪽이 넘긴 구간을 확정으로 보므로 빠지면 상대 / 심판 재생에 구멍이 남음
+ *   - 대기 중인 PLAYER_INPUT 뒤에 순서가 중요한 메시지(보드 / 중요 메시지)가 없으면 프레임 구간을 이어 붙여 하나로
+ * - 전체 상한 (capacity * HARD_LIMIT_FACTOR): 중요한 메시지만으로 차도 무한정 쌓이지 않음
+ *   1. 대기 중인 PLAYER_INPUT 을 버리고 onBoardDropped (전체 재동기화, 심판은 빈틈으로 처리)
+ *   2. 그래도 가득 차면 큐를 비우고 닫음 → onOverflow (연결 종료 후 재접속 재전송에 맡김)
+ * - stalledNanos(): 전송이 안 끝나거나 큐가 계속 가득 찬 시간 (느린 수신자 판정용)
+ * - clear() 는 세대를 올림: 이전 연결에서 늦게 온 전송 완료는 무시 (전송 중 두 개 방지)
+ */
+public class OutboundQueue {
+
+    public static final int DEFAULT_CAPACITY = 64;
+    static final int HARD_LIMIT_FACTOR = 4;
+
+    // enqueue 결과
+    private static final int QUEUED = 0;
+    private static final int BOARD_DROPPED = 1;
+    private static final int OVERFLOWED = 2;
+
+    private static class Entry {
+        final MessageType type;
+        String text; // PLAYER_INPUT 병합 시 교체
+
+        Entry(MessageType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    private final RemoteEndpoint.Async remote;
+    private final int capacity;
+    private final int hardLimit;
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private boolean inFlight = false;
+    private long generation = 0; // clear() 마다 증가
+    private boolean closed = false; // 중요한 메시지만으로 상한 초과 → clear() 전까지 받지 않음
+    private long inFlightSince = 0; // 지금 전송 중인 메시지를 보내기 시작한 시각 (ns)
+    private long saturatedSince = 0; // 큐가 가득 찬 뒤 절반 아래로 줄지 않은 시작 시각 (0 = 아님)
+
+    private Runnable onBoardDropped; // 보드 델타 / 입력이 버려졌을 때 (전체 동기화 필요)
+    private Runnable onOverflow; // 중요한 메시지만으로 상한 초과 (연결을 끊어야 함)
+    private volatile WireMetrics metrics; // 타입별 실제 바이트 / 전송 완료 지연 (없으면 계측 안 함)
+
+    // 통계
+    private long sent = 0;
+    private long failed = 0;
+    private long superseded = 0;
+    private long overflowDropped = 0;
+    private long coalesced = 0;
+    private long overflows = 0;
+    private int maxDepth = 0;
+    private final Map<MessageType, Long> dropsByType = new EnumMap<>(MessageType.class);
+
+    public OutboundQueue(RemoteEndpoint.Async remote) {
+        this(remote, DEFAULT_CAPACITY);
+    }
+
+    public OutboundQueue(RemoteEndpoint.Async remote, int capacity) {
+        this.remote = remote;
+        this.capacity = capacity;
+        this.hardLimit = capacity * HARD_LIMIT_FACTOR;
+    }
+
+    public void setOnBoardDropped(Runnable callback) {
+        this.onBoardDropped = callback;
+    }
+
+    public void setOnOverflow(Runnable callback) {
+        this.onOverflow = callback;
+    }
+
+    public void setWireMetrics(WireMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /** 절대 버리면 안 되는 메시지 */
+    public static boolean isCritical(MessageType type) {
+        if (type == null)
+            return true; // 알 수 없는 메시지는 안전하게 보존
+        return switch (type) {
+            case LINE_ATTACK, GAME_OVER, RESTART_READY, RESTART_START,
+                    PLAYER_READY, MODE_SELECT, GAME_START,
+                    TIME_LIMIT_START, TIME_LIMIT_SCORE,
+                    SESSION_INFO, SYNC_REQUEST, PLAYER_INPUT -> true;
+            default -> false;
+        };
+    }
+
+    /** 같은 타입의 새 메시지가 오면 이전 것이 의미 없어지는 "최신 상태" 메시지 */
+    public static boolean isLatestState(MessageType type) {
+        if (type == null)
+            return false;
+        return switch (type) {
+            case BOARD_STATE, BOARD_FULL_SYNC, NEXT_BLOCKS, PLAYER_STATS, ACTIVE_PIECE,
+                    SCORE_UPDATE, GARBAGE_PREVIEW, TIME_LIMIT_SYNC -> true;
+            default -> false;
+        };
+    }
+
+    static boolean isBoard(MessageType type) {
+        return type == MessageType.BOARD_STATE || type == MessageType.BOARD_FULL_SYNC
+                || type == MessageType.BOARD_DELTA || type == MessageType.BOARD_DELTA_COMPRESSED;
+    }
+
+    /**
+     * 직렬화된 JSON 에서 type 만 빠르게 추출 (서버 릴레이용, 전체 파싱 없음)
+     */
+    public static MessageType peekType(String json) {
+        if (json == null)
+            return null;
+        int idx = json.indexOf("\"type\":\"");
+        if (idx < 0 || idx > 16)
+            return null;
+        int start = idx + 8;
+        int end = json.indexOf('"', start);
+        if (end < 0)
+            return null;
+        try {
+            return MessageType.valueOf(json.substring(start, end));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public void offer(String json) {
+        offer(peekType(json), json);
+    }
+
+    /**
+     * 메시지 추가 후 전송 중인 것이 없으면 바로 전송
+     */
+    public void offer(MessageType type, String json) {
+        Entry next;
+        int result;
+        long gen;
+        synchronized (this) {
+            result = closed ? QUEUED : enqueue(new Entry(type, json));
+            if (inFlight) {
+                next = null;
+            } else {
+                next = queue.poll();
+                inFlight = next != null;
+                inFlightSince = System.nanoTime();
+            }
+            gen = generation;
+        }
+        if (result == BOARD_DROPPED && onBoardDropped != null) {
+            onBoardDropped.run();
+        }
+        if (result == OVERFLOWED && onOverflow != null) {
+            onOverflow.run();
+        }
+        if (next != null) {
+            send(next, gen);
+        }
+    }
+
+    // 정책 적용 후 큐에 추가 (QUEUED / BOARD_DROPPED / OVERFLOWED)
+    private int enqueue(Entry entry) {
+        // 0. 입력 묶음 → 대기 중인 입력 묶음에 이어 붙임
+        if (entry.type == MessageType.PLAYER_INPUT && coalesceInput(entry)) {
+            coalesced++;
+            return QUEUED;
+        }
+
+        boolean boardDropped = false;
+
+        // 1. 최신 상태 메시지 → 큐에 있던 이전 것 제거
+        //    전체 보드(FULL_SYNC/STATE)는 대기 중인 델타까지 대체
+        if (isLatestState(entry.type)) {
+            boolean fullBoard = entry.type == MessageType.BOARD_FULL_SYNC || entry.type == MessageType.BOARD_STATE;
+            Iterator<Entry> it = queue.iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.type == entry.type || (fullBoard && isBoard(e.type))) {
+                    it.remove();
+                    superseded++;
+                    countDrop(e.type);
+                }
+            }
+        }
+
+        // 2. 용량 초과 → 버릴 수 있는 가장 오래된 메시지 제거
+        if (queue.size() >= capacity && !isCritical(entry.type)) {
+            Entry victim = null;
+            for (Entry e : queue) {
+                if (!isCritical(e.type)) {
+                    victim = e;
+                    break;
+                }
+            }
+            if (victim != null) {
+                queue.remove(victim);
+            } else {
+                victim = entry; // 전부 중요한 메시지면 새 메시지를 버림
+            }
+            overflowDropped++;
+            countDrop(victim.type);
+            boardDropped = isBoard(victim.type);
+            if (victim == entry) {
+                return boardDropped ? BOARD_DROPPED : QUEUED;
+            }
+        }
+
+        // 3. 전체 상한 (남은 것이 전부 중요한 메시지) → 입력 묶음부터 버리고 재동기화, 그래도 차면 닫음
+        if (queue.size() >= hardLimit) {
+            Iterator<Entry> it = queue.iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.type == MessageType.PLAYER_INPUT) {
+                    it.remove();
+                    overflowDropped++;
+                    countDrop(e.type);
+                    boardDropped = true;
+                }
+            }
+            if (queue.size() >= hardLimit) {
+                for (Entry e : queue)
+                    countDrop(e.type);
+                countDrop(entry.type);
+                overflowDropped += queue.size() + 1;
+                queue.clear();
+                closed = true;
+                overflows++;
+                return OVERFLOWED;
+            }
+        }
+
+        queue.add(entry);
+        maxDepth = Math.max(maxDepth, queue.size());
+        if (queue.size() >= capacity && saturatedSince == 0) {
+            saturatedSince = System.nanoTime();
+        }
+        return boardDropped ? BOARD_DROPPED : QUEUED;
+    }
+
+    /**
+     * 대기 중인 마지막 PLAYER_INPUT 에 새 묶음의 프레임 구간을 합침
+     * - 그 뒤에 보드 / 중요한 메시지가 있으면 순서가 바뀌므로 합치지 않음 (심판이 스폰 전 보드와 비교)
+     * - seq 는 새 메시지 것 (수신측은 더 큰 seq 만 보면 앞의 것까지 받은 것)
+     */
+    private boolean coalesceInput(Entry entry) {
+        Entry target = null;
+        Iterator<Entry> it = queue.descendingIterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.type == MessageType.PLAYER_INPUT) {
+                target = e;
+                break;
+            }
+            if (isCritical(e.type) || isBoard(e.type))
+                return false;
+        }
+        if (target == null)
+            return false;
+
+        try {
+            Message older = WebSocketUtil.fromJson(target.text, Message.class);
+            Message newer = WebSocketUtil.fromJson(entry.text, Message.class);
+            BoardSyncAdapter.InputBatch merged = BoardSyncAdapter.InputBatch.merge(
+                    WebSocketUtil.fromJson(older.data, BoardSyncAdapter.InputBatch.class),
+                    WebSocketUtil.fromJson(newer.data, BoardSyncAdapter.InputBatch.class));
+            if (merged == null)
+                return false;
+            String json = WebSocketUtil.toJson(new Message(MessageType.PLAYER_INPUT, merged));
+            target.text = ReplayBuffer.withSeq(json, newer.seq);
+            return true;
+        } catch (RuntimeException e) {
+            return false; // 형식이 다르면 그대로 따로 보냄
+        }
+    }
+
+    private void countDrop(MessageType type) {
+        if (type != null) {
+            dropsByType.merge(type, 1L, Long::sum);
+        }
+    }
+
+    private void send(Entry entry, long gen) {
+        long startedAt = System.nanoTime();
+        String text = entry.text;
+        try {
+            remote.sendText(text, result -> onComplete(entry.type, text, gen, startedAt, result));
+        } catch (RuntimeException e) {
+            System.err.println("[Outbound] Send failed: " + e.getMessage());
+            onComplete(entry.type, text, gen, startedAt, new SendResult(e));
+        }
+    }
+
+    private void onComplete(MessageType type, String text, long gen, long startedAt, SendResult result) {
+        WireMetrics m = metrics;
+        if (m != null) {
+            m.recordSent(type, WireMetrics.utf8Length(text), System.nanoTime() - startedAt,
+                    result != null && result.isOK());
+        }
+        Entry next;
+        synchronized (this) {
+            if (gen != generation)
+                return; // clear() 이전 연결의 완료 → 지금 전송 중인 것과 무관
+            if (result != null && result.isOK()) {
+                sent++;
+            } else {
+                failed++;
+            }
+            next = queue.poll();
+            inFlight = next != null;
+            inFlightSince = System.nanoTime();
+            if (queue.size() <= capacity / 2) {
+                saturatedSince = 0;
+            }
+        }
+        if (next != null) {
+            send(next, gen);
+        }
+    }
+
+    /**
+     * 송신이 막혀 있는 시간 (ns)
+     * - 전송 중인 메시지의 완료가 안 오는 시간, 큐가 계속 가득 차 있는 시간 중 긴 쪽
+     */
+    public synchronized long stalledNanos(long nowNanos) {
+        long stalled = inFlight ? nowNanos - inFlightSince : 0;
+        if (saturatedSince != 0) {
+            stalled = Math.max(stalled, nowNanos - saturatedSince);
+        }
+        return Math.max(0, stalled);
+    }
+
+    public synchronized int depth() {
+        return queue.size();
+    }
+
+    public synchronized boolean isInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public synchronized long getSent() {
+        return sent;
+    }
+
+    public synchronized long getFailed() {
+        return failed;
+    }
+
+    public synchronized long getSuperseded() {
+        return superseded;
+    }
+
+    public synchronized long getOverflowDropped() {
+        return overflowDropped;
+    }
+
+    public synchronized long getDropped() {
+        return superseded + overflowDropped;
+    }
+
+    public synchronized long getDrops(MessageType type) {
+        return dropsByType.getOrDefault(type, 0L);
+    }
+
+    /** 대기 중인 입력 묶음에 합쳐진 PLAYER_INPUT 수 */
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    /** 중요한 메시지만으로 상한을 넘어 닫힌 횟수 */
+    public synchronized long getOverflows() {
+        return overflows;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    public int getHardLimit() {
+        return hardLimit;
+    }
+
+    /** 연결 종료 시 대기 메시지 정리 (전송 중이던 것의 완료는 이후 무시) */
+    public synchronized void clear() {
+        queue.clear();
+        inFlight = false;
+        saturatedSince = 0;
+        closed = false;
+        generation++;
+    }
+
+    /** UI 표시용 간단한 통계 문자열 */
+    public synchronized String getStatsString() {
+        return String.format("Q:%d/%d drop:%d", queue.size(), maxDepth, superseded + overflowDropped);
+    }
+}
@@ -0,0 +1,261 @@
+package component.network.websocket;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RelayGuard - 서버 릴레이 보호 (폭주 / 과대 메시지 / 느린 수신자)
+ * --------------------
+ * - 수신: 크기 검사 → 세션 토큰 버킷 + 타입별 토큰 버킷 → 통과한 것만 릴레이
+ * - 한도를 넘은 메시지는 버림 (보드 델타는 받는 쪽이 순번 빈틈으로 감지해 전체 동기화 요청)
+ * - 1초 안에 너무 많이 버려지면 (floodCloseRejects) 연결 종료
+ * - PLAYER_INPUT 은 한도를 넘어도 버리지 않음 (빠지면 상대 / 심판 재생에 구멍) → 폭주 판정에만 셈
+ * - 송신: 상대 송신 큐가 slowConsumerMs 넘게 막혀 있으면 연결 종료
+ *   → 비정상 종료라 재개 세션은 보관되어 재접속 시 밀린 메시지를 다시 받음
+ * - 세션 상태는 Session userProperties 에 보관, 통계는 서버 전체 합계
+ */
+public class RelayGuard {
+
+    static final String STATE_KEY = "tetris.guard";
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    // 연결 종료는 별도 스레드 (막힌 소켓에 close 프레임을 쓰다가 릴레이 스레드가 멈추지 않게)
+    private static final ExecutorService CLOSER = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "relay-guard-close");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public enum Verdict {
+        ACCEPT,
+        TOO_LARGE,
+        RATE_LIMITED,
+        CLOSED
+    }
+
+    // 세션별 상태 (한 세션의 onMessage 는 순서대로 오지만 송신 검사는 다른 스레드 → 락)
+    private static class SessionState {
+        final TokenBucket session;
+        final Map<MessageType, TokenBucket> types = new EnumMap<>(MessageType.class);
+        long windowStart;
+        int windowRejects;
+        volatile boolean closing;
+
+        SessionState(RelayLimits limits, long now) {
+            session = limits.sessionRate == null ? null : new TokenBucket(limits.sessionRate, now);
+            windowStart = now;
+        }
+    }
+
+    private volatile RelayLimits limits;
+
+    // 통계
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong keptOverLimit = new AtomicLong();
+    private final AtomicLong oversized = new AtomicLong();
+    private final AtomicLong floodClosed = new AtomicLong();
+    private final AtomicLong slowEvicted = new AtomicLong();
+    private final Map<MessageType, AtomicLong> rejectedByType = new EnumMap<>(MessageType.class);
+
+    public RelayGuard(RelayLimits limits) {
+        this.limits = limits;
+        for (MessageType type : MessageType.values()) {
+            rejectedByType.put(type, new AtomicLong());
+        }
+    }
+
+    /** 설정 교체 (이후 접속하는 세션부터 새 버킷 적용) */
+    public void setLimits(RelayLimits limits) {
+        this.limits = limits;
+    }
+
+    public RelayLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * 크기 검사 (타입 추출 / 바이트 계산 전에 먼저)
+     *
+     * @return 허용 크기를 넘으면 false (연결 종료)
+     */
+    public boolean checkSize(Session session, String msg) {
+        int max = limits.maxFrameBytes;
+        if (msg.length() <= max / 3 || WireMetrics.utf8Length(msg) <= max)
+            return true;
+
+        oversized.incrementAndGet();
+        System.err.println("[Server] Frame too large from " + session.getId() + ": " + msg.length() + " chars");
+        close(session, CloseReason.CloseCodes.TOO_BIG, "frame too large");
+        return false;
+    }
+
+    /**
+     * 속도 제한 검사
+     *
+     * @param type 알 수 없는 메시지면 null (세션 한도만 적용)
+     */
+    public Verdict admit(Session session, MessageType type, long nowNanos) {
+        SessionState st = stateOf(session, nowNanos);
+        if (st.closing)
+            return Verdict.CLOSED;
+
+        boolean ok;
+        boolean flood = false;
+        synchronized (st) {
+            ok = st.session == null || st.session.tryAcquire(nowNanos);
+            if (ok && type != null) {
+                TokenBucket bucket = typeBucket(st, type, nowNanos);
+                if (bucket != null && !bucket.tryAcquire(nowNanos)) {
+                    ok = false;
+                    if (st.session != null)
+                        st.session.refund(); // 타입 한도에 걸린 것은 세션 한도에서 빼지 않음
+                }
+            }
+            if (!ok) {
+                if (nowNanos - st.windowStart >= WINDOW_NANOS) {
+                    st.windowStart = nowNanos;
+                    st.windowRejects = 0;
+                }
+                int closeAfter = limits.floodCloseRejects;
+                flood = closeAfter > 0 && ++st.windowRejects > closeAfter;
+            }
+        }
+
+        if (ok) {
+            accepted.incrementAndGet();
+            return Verdict.ACCEPT;
+        }
+        if (isLossless(type) && !flood) {
+            accepted.incrementAndGet();
+            keptOverLimit.incrementAndGet();
+            return Verdict.ACCEPT;
+        }
+        rateLimited.incrementAndGet();
+        if (type != null)
+            rejectedByType.get(type).incrementAndGet();
+        if (flood && !st.closing) {
+            floodClosed.incrementAndGet();
+            System.err.println("[Server] Flood from " + session.getId() + " (" + type + "), closing");
+            close(session, CloseReason.CloseCodes.VIOLATED_POLICY, "message flood");
+        }
+        return Verdict.RATE_LIMITED;
+    }
+
+    /** 한도를 넘어도 버리지 않는 메시지 (보낸 쪽이 확정으로 보는 입력 스트림) */
+    static boolean isLossless(MessageType type) {
+        return type == MessageType.PLAYER_INPUT;
+    }
+
+    private TokenBucket typeBucket(SessionState st, MessageType type, long nowNanos) {
+        TokenBucket bucket = st.types.get(type);
+        if (bucket == null) {
+            RelayLimits.Rate rate = limits.typeRates.get(type);
+            if (rate == null)
+                return null;
+            bucket = new TokenBucket(rate, nowNanos);
+            st.types.put(type, bucket);
+        }
+        return bucket;
+    }
+
+    /**
+     * 수신자 송신 큐 검사 (릴레이 직후)
+     *
+     * @return 느린 수신자로 판정해 연결을 끊었으면 true
+     */
+    public boolean checkConsumer(Session session, OutboundQueue queue, long nowNanos) {
+        long slowMs = limits.slowConsumerMs;
+        if (queue == null || slowMs <= 0)
+            return false;
+        if (queue.stalledNanos(nowNanos) <= slowMs * 1_000_000L)
+            return false;
+
+        SessionState st = stateOf(session, nowNanos);
+        if (st.closing)
+            return false;
+        slowEvicted.incrementAndGet();
+        System.err.println("[Server] Slow consumer " + session.getId() + " (" + queue.getStatsString() + "), closing");
+        close(session, CloseReason.CloseCodes.TRY_AGAIN_LATER, "slow consumer");
+        return true;
+    }
+
+    private SessionState stateOf(Session session, long nowNanos) {
+        Map<String, Object> props = session.getUserProperties();
+        Object st = props.get(STATE_KEY);
+        if (st instanceof SessionState)
+            return (SessionState) st;
+        SessionState created = new SessionState(limits, nowNanos);
+        Object prev = props.putIfAbsent(STATE_KEY, created);
+        return prev instanceof SessionState ? (SessionState) prev : created;
+    }
+
+    private void close(Session session, CloseReason.CloseCode code, String reason) {
+        stateOf(session, System.nanoTime()).closing = true;
+        closeAsync(session, code, reason);
+    }
+
+    /** 릴레이 / 팬아웃 스레드를 막지 않게 별도 스레드에서 연결 종료 */
+    static void closeAsync(Session session, CloseReason.CloseCode code, String reason) {
+        CLOSER.execute(() -> {
+            try {
+                session.close(new CloseReason(code, reason));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[Server] Close failed for " + session.getId() + ": " + e.getMessage());
+            }
+        });
+    }
+
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.get();
+    }
+
+    /** 한도를 넘었지만 버리지 않고 통과시킨 입력 */
+    public long getKeptOverLimit() {
+        return keptOverLimit.get();
+    }
+
+    public long getRejected(MessageType type) {
+        return rejectedByType.get(type).get();
+    }
+
+    public long getOversized() {
+        return oversized.get();
+    }
+
+    public long getFloodClosed() {
+        return floodClosed.get();
+    }
+
+    public long getSlowEvicted() {
+        return slowEvicted.get();
+    }
+
+    public void resetStats() {
+        accepted.set(0);
+        rateLimited.set(0);
+        keptOverLimit.set(0);
+        oversized.set(0);
+        floodClosed.set(0);
+        slowEvicted.set(0);
+        rejectedByType.values().forEach(c -> c.set(0));
+    }
+
+    /** 로그 / 관리용 간단한 통계 문자열 */
+    public String getStatsString() {
+        return String.format("accepted:%d limited:%d keptOverLimit:%d oversized:%d floodClosed:%d slowEvicted:%d",
+                accepted.get(), rateLimited.get(), keptOverLimit.get(), oversized.get(), floodClosed.get(),
+                slowEvicted.get());
+    }
+}
@@ -0,0 +1,137 @@
+package component.network.websocket;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * RelayLimits - 서버 릴레이 보호 설정 (RelayGuard)
+ * --------------------
+ * - maxFrameBytes: 한 메시지 최대 크기, 넘으면 연결 종료 (정상 클라이언트의 전체 보드도 10KB 미만)
+ * - sessionRate: 세션 전체 초당 메시지 (토큰 버킷: 초당 충전량 / 최대 버스트)
+ * - typeRates: 타입별 초당 메시지 (없는 타입은 세션 한도만 적용)
+ * - floodCloseRejects: 1초 안에 이만큼 버려지면 연결 종료 (0 = 끊지 않고 버리기만)
+ * - slowConsumerMs: 송신이 이 시간 넘게 막혀 있으면 연결 종료 (재개 세션은 보관 후 재접속)
+ * - 기본값은 정상 클라이언트 최대 송신량의 2~3배, -Dtetris.relay.* 로 변경
+ */
+public class RelayLimits {
+
+    public static final String PROPERTY_PREFIX = "tetris.relay.";
+
+    /** 초당 충전량 / 최대 버스트 */
+    public static class Rate {
+        public double perSec;
+        public int burst;
+
+        public Rate() {
+        }
+
+        public Rate(double perSec, int burst) {
+            this.perSec = perSec;
+            this.burst = burst;
+        }
+
+        /** "60/120" 또는 "60" (버스트 = 2초 분량) */
+        static Rate parse(String value) {
+            if (value == null || value.isBlank())
+                return null;
+            try {
+                String[] parts = value.trim().split("/");
+                double perSec = Double.parseDouble(parts[0]);
+                int burst = parts.length > 1 ? Integer.parseInt(parts[1]) : (int) Math.ceil(perSec * 2);
+                return new Rate(perSec, burst);
+            } catch (NumberFormatException e) {
+                System.err.println("[Server] Bad relay rate '" + value + "': " + e.getMessage());
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f/s (burst %d)", perSec, burst);
+        }
+    }
+
+    public int maxFrameBytes = 64 * 1024;
+    public Rate sessionRate = new Rate(500, 1000);
+    public Map<MessageType, Rate> typeRates = new EnumMap<>(MessageType.class);
+    public int floodCloseRejects = 1000;
+    public long slowConsumerMs = 5000;
+
+    public RelayLimits() {
+    }
+
+    /** 게임 클라이언트 송신 패턴 기준 기본값 */
+    public static RelayLimits defaults() {
+        RelayLimits l = new RelayLimits();
+        // 보드: 50ms 주기 + 스폰 / 가비지 즉시 동기화
+        l.typeRates.put(MessageType.BOARD_DELTA, new Rate(60, 120));
+        l.typeRates.put(MessageType.BOARD_DELTA_COMPRESSED, new Rate(60, 120));
+        l.typeRates.put(MessageType.BOARD_FULL_SYNC, new Rate(20, 40));
+        l.typeRates.put(MessageType.BOARD_STATE, new Rate(20, 40));
+        // 프레임 단위 메시지 (최대 60Hz)
+        l.typeRates.put(MessageType.ACTIVE_PIECE, new Rate(120, 240));
+        // PLAYER_INPUT 은 넘어도 버리지 않고 폭주 판정에만 씀 (RelayGuard.isLossless)
+        l.typeRates.put(MessageType.PLAYER_INPUT, new Rate(200, 400));
+        l.typeRates.put(MessageType.VISUAL_EFFECT, new Rate(60, 120));
+        // 시계 / 연결 확인 (접속 직후 버스트 포함)
+        l.typeRates.put(MessageType.CLOCK_SYNC, new Rate(20, 40));
+        l.typeRates.put(MessageType.PING, new Rate(10, 20));
+        l.typeRates.put(MessageType.PONG, new Rate(10, 20));
+        return l;
+    }
+
+    /** 제한 없음 (측정 / 테스트용) */
+    public static RelayLimits unlimited() {
+        RelayLimits l = new RelayLimits();
+        l.maxFrameBytes = Integer.MAX_VALUE;
+        l.sessionRate = null;
+        l.floodCloseRejects = 0;
+        l.slowConsumerMs = 0;
+        return l;
+    }
+
+    /**
+     * 기본값 + 시스템 속성 덮어쓰기
+     * - tetris.relay.maxFrame=65536, tetris.relay.rate=500/1000, tetris.relay.rate.BOARD_DELTA=60/120
+     * - tetris.relay.floodClose=1000, tetris.relay.slowMs=5000
+     */
+    public static RelayLimits fromSystemProperties() {
+        RelayLimits l = defaults();
+        l.maxFrameBytes = intProperty("maxFrame", l.maxFrameBytes);
+        l.floodCloseRejects = intProperty("floodClose", l.floodCloseRejects);
+        l.slowConsumerMs = intProperty("slowMs", (int) l.slowConsumerMs);
+        Rate session = Rate.parse(System.getProperty(PROPERTY_PREFIX + "rate"));
+        if (session != null)
+            l.sessionRate = session;
+        for (MessageType type : MessageType.values()) {
+            Rate r = Rate.parse(System.getProperty(PROPERTY_PREFIX + "rate." + type.name()));
+            if (r != null)
+                l.typeRates.put(type, r);
+        }
+        return l;
+    }
+
+    private static int intProperty(String name, int fallback) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null)
+            return fallback;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("[Server] Bad " + PROPERTY_PREFIX + name + " '" + value + "'");
+            return fallback;
+        }
+    }
+
+    public RelayLimits withTypeRate(MessageType type, double perSec, int burst) {
+        typeRates.put(type, new Rate(perSec, burst));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("frame<=%dB, session %s, %d type limits, floodClose %d/s, slow %dms",
+                maxFrameBytes, sessionRate == null ? "unlimited" : sessionRate, typeRates.size(),
+                floodCloseRejects, slowConsumerMs);
+    }
+}
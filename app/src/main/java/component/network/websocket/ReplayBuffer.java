@@ -0,0 +1,119 @@
+package component.network.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplayBuffer - 시퀀스 번호가 붙은 최근 메시지 링버퍼 (세션 재개용)
+ * --------------------
+ * - 서버: 플레이어에게 보낸 메시지 보관 → 재접속 시 놓친 것만 다시 보냄
+ * - 클라이언트: 서버로 보낸 메시지 보관 → 서버가 못 받은 것만 다시 보냄
+ * - 시퀀스는 JSON 의 마지막 필드 "seq" (Message 필드 순서상 항상 마지막)
+ */
+public class ReplayBuffer {
+
+    public static final int DEFAULT_CAPACITY = 512; // 보드 델타 기준 약 10초 이상
+
+    private static final String SEQ_FIELD = "\"seq\":";
+
+    private final long[] seqs;
+    private final String[] texts;
+    private int head = 0; // 다음에 쓸 위치
+    private int size = 0;
+
+    public ReplayBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReplayBuffer(int capacity) {
+        this.seqs = new long[capacity];
+        this.texts = new String[capacity];
+    }
+
+    public synchronized void add(long seq, String text) {
+        seqs[head] = seq;
+        texts[head] = text;
+        head = (head + 1) % seqs.length;
+        size = Math.min(size + 1, seqs.length);
+    }
+
+    /**
+     * afterSeq 다음부터의 메시지 (순서대로)
+     *
+     * @return 링버퍼에서 이미 밀려나 빠진 것이 있으면 null
+     */
+    public synchronized List<String> since(long afterSeq) {
+        List<String> out = new ArrayList<>();
+        if (size == 0)
+            return out;
+
+        int oldest = (head - size + seqs.length) % seqs.length;
+        if (seqs[oldest] > afterSeq + 1)
+            return null; // 중간이 비어 있음
+
+        for (int i = 0; i < size; i++) {
+            int idx = (oldest + i) % seqs.length;
+            if (seqs[idx] > afterSeq) {
+                out.add(texts[idx]);
+            }
+        }
+        return out;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void clear() {
+        head = 0;
+        size = 0;
+        java.util.Arrays.fill(texts, null);
+    }
+
+    /** 재전송 대상인지 (시계 동기화 / 핑 / 세션 정보는 지난 것을 다시 보내면 오히려 해로움) */
+    public static boolean isReplayable(MessageType type) {
+        if (type == null)
+            return true;
+        return switch (type) {
+            case CLOCK_SYNC, PING, PONG, SESSION_INFO -> false;
+            default -> true;
+        };
+    }
+
+    // ===============================
+    // seq 필드 (전체 파싱 없이 문자열로 처리)
+    // ===============================
+
+    /** JSON 의 seq 값 (없으면 0) */
+    public static long seqOf(String json) {
+        if (json == null)
+            return 0;
+        int idx = json.lastIndexOf(SEQ_FIELD);
+        if (idx < 0)
+            return 0;
+        long v = 0;
+        for (int i = idx + SEQ_FIELD.length(); i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c < '0' || c > '9')
+                break;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    /** seq 값을 바꾼 JSON (seq 필드가 없으면 끝에 추가, JSON 객체가 아니면 그대로) */
+    public static String withSeq(String json, long seq) {
+        if (json == null || !json.endsWith("}"))
+            return json;
+        int idx = json.lastIndexOf(SEQ_FIELD);
+        if (idx < 0) {
+            String sep = json.length() > 2 ? "," : "";
+            return json.substring(0, json.length() - 1) + sep + SEQ_FIELD + seq + "}";
+        }
+        int end = idx + SEQ_FIELD.length();
+        while (end < json.length() && Character.isDigit(json.charAt(end))) {
+            end++;
+        }
+        return json.substring(0, idx + SEQ_FIELD.length()) + seq + json.substring(end);
+    }
+}
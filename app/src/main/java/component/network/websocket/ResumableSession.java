@@ -0,0 +1,160 @@
+package component.network.websocket;
+
+import javax.websocket.Session;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ResumableSession - 서버측 플레이어 재개 상태
+ * --------------------
+ * - 접속 시 재개 토큰 발급 (SESSION_INFO)
+ * - 플레이어에게 보내는 메시지마다 seq 를 붙여 ReplayBuffer 에 보관
+ * - 연결이 끊겨도 유예 시간 동안 방에 남아 메시지를 계속 쌓아둠
+ * - 재접속 시 토큰 + 마지막으로 받은 seq 로 놓친 메시지만 재전송
+ */
+public class ResumableSession {
+
+    public static final long RESUME_GRACE_MS = 30_000;
+
+    /** SESSION_INFO 본문 */
+    public static class Info {
+        public String token;
+        public boolean resumed; // 이전 세션을 이어받았는지
+        public boolean complete; // 놓친 메시지를 전부 재전송할 수 있는지
+        public long ackSeq; // 서버가 마지막으로 받은 클라이언트 seq
+
+        public Info() {
+        }
+
+        public Info(String token, boolean resumed, boolean complete, long ackSeq) {
+            this.token = token;
+            this.resumed = resumed;
+            this.complete = complete;
+            this.ackSeq = ackSeq;
+        }
+    }
+
+    final String token = UUID.randomUUID().toString();
+    final String roomId;
+    final int slot;
+    private final ReplayBuffer toClient;
+    private long nextSeq = 0;
+    private long lastFromClient = 0;
+
+    private volatile Session session;
+    private OutboundQueue outbound; // 연결 중일 때만
+    private String lastJson; // 같은 릴레이가 끊기는 순간 두 번 들어오는 것 방지 (참조 비교)
+    private volatile long detachedAt = 0;
+
+    ResumableSession(String roomId, int slot) {
+        this(roomId, slot, ReplayBuffer.DEFAULT_CAPACITY);
+    }
+
+    ResumableSession(String roomId, int slot, int capacity) {
+        this.roomId = roomId;
+        this.slot = slot;
+        this.toClient = new ReplayBuffer(capacity);
+    }
+
+    /**
+     * 플레이어에게 전달: seq 를 붙여 보관하고, 연결 중이면 송신 큐로
+     * - 끊긴 동안에는 보관만 (재접속 시 resume 에서 재전송)
+     * - 락 안에서 큐에 넣어 재전송과 새 메시지의 순서가 섞이지 않음
+     */
+    synchronized void deliver(MessageType type, String json) {
+        if (json == lastJson)
+            return;
+        lastJson = json;
+        String out = json;
+        if (ReplayBuffer.isReplayable(type)) {
+            long seq = ++nextSeq;
+            out = ReplayBuffer.withSeq(json, seq);
+            toClient.add(seq, out);
+        }
+        if (outbound != null) {
+            outbound.offer(type, out);
+        }
+    }
+
+    /**
+     * 클라이언트에서 받은 메시지 seq 확인
+     *
+     * @return 이미 받은 메시지(재전송 중복)면 false
+     */
+    synchronized boolean acceptFromClient(long seq) {
+        if (seq <= 0)
+            return true; // seq 없는 메시지
+        if (seq <= lastFromClient)
+            return false;
+        lastFromClient = seq;
+        return true;
+    }
+
+    synchronized long getLastFromClient() {
+        return lastFromClient;
+    }
+
+    /** 첫 접속: 토큰 발급 */
+    synchronized void attach(Session session, OutboundQueue queue) {
+        this.session = session;
+        this.outbound = queue;
+        this.detachedAt = 0;
+        queue.offer(MessageType.SESSION_INFO, WebSocketUtil.toJson(
+                new Message(MessageType.SESSION_INFO, new Info(token, false, true, 0))));
+    }
+
+    /**
+     * 재접속: 새 세션으로 교체하고 lastSeen 이후 메시지 재전송
+     *
+     * @return 놓친 메시지를 전부 보냈으면 true (링버퍼에서 밀려났으면 false → 전체 동기화 필요)
+     */
+    synchronized boolean resume(Session session, OutboundQueue queue, long lastSeen) {
+        this.session = session;
+        this.outbound = queue;
+        this.detachedAt = 0;
+
+        List<String> missed = toClient.since(lastSeen);
+        boolean complete = missed != null;
+        queue.offer(MessageType.SESSION_INFO, WebSocketUtil.toJson(
+                new Message(MessageType.SESSION_INFO, new Info(token, true, complete, lastFromClient))));
+        if (complete) {
+            for (String m : missed) {
+                queue.offer(OutboundQueue.peekType(m), m);
+            }
+        }
+        System.out.println("[Server] Session resumed (slot " + slot + ", replayed "
+                + (complete ? missed.size() : 0) + (complete ? ")" : ", gap too old)"));
+        return complete;
+    }
+
+    synchronized void detach() {
+        this.session = null;
+        this.outbound = null;
+        this.detachedAt = System.currentTimeMillis();
+    }
+
+    Session getSession() {
+        return session;
+    }
+
+    boolean isDetached() {
+        return session == null;
+    }
+
+    boolean isExpired(long now) {
+        return session == null && now - detachedAt > RESUME_GRACE_MS;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public synchronized int buffered() {
+        return toClient.size();
+    }
+}
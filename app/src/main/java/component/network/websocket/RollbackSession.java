@@ -0,0 +1,230 @@
+package component.network.websocket;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * RollbackSession - 롤백 넷코드 코어
+ * --------------------
+ * - 프레임마다 압축 스냅샷(long 하나)을 링버퍼에 저장
+ * - 확정되지 않은 원격 입력은 예측 (기본값: 마지막 확정 입력 반복)
+ * - 과거 프레임의 확정 입력이 예측과 다르면 해당 프레임으로 롤백 후 현재까지 재시뮬레이션
+ * - 롤백 깊이 / 재시뮬레이션 시간 메트릭 수집
+ *
+ * 모든 메서드는 EDT(단일 스레드)에서 호출한다는 전제.
+ */
+public class RollbackSession {
+
+    /** 60fps 기준 한 프레임 길이 */
+    public static final long FRAME_NANOS = 16_666_667L;
+    public static final int DEFAULT_CAPACITY = 64; // 롤백 최대 32프레임 (약 0.5초)
+
+    /**
+     * 롤백 대상 시뮬레이션
+     * - saveState/loadState 는 할당 없이 long 하나로 상태를 주고받음
+     * - step 은 결정적이어야 함 (같은 상태 + 같은 입력 → 같은 결과)
+     */
+    public interface Simulation {
+        long saveState();
+
+        void loadState(long state);
+
+        void step(int frame, int remoteInput);
+    }
+
+    private final Simulation sim;
+    private final int capacity;
+
+    // 링버퍼: index = frame % capacity
+    private final long[] snapshots; // frame 을 시뮬레이션하기 "직전" 상태
+    private final int[] usedInputs; // frame 시뮬레이션에 실제로 사용한 입력
+    private final int[] confirmedInputs; // 확정 입력 값
+    private final int[] confirmedFrame; // 슬롯에 확정 입력이 들어있는 프레임 (-1 = 없음)
+
+    private IntUnaryOperator predictor = last -> last;
+
+    private int currentFrame = 0; // 다음에 시뮬레이션할 프레임
+    private int lastConfirmedFrame = -1;
+    private int lastConfirmedInput = 0;
+    private int rollbackFrom = -1; // 재시뮬레이션이 필요한 가장 이른 프레임
+
+    private final Metrics metrics = new Metrics();
+
+    public RollbackSession(Simulation sim) {
+        this(sim, DEFAULT_CAPACITY);
+    }
+
+    public RollbackSession(Simulation sim, int capacity) {
+        this.sim = sim;
+        this.capacity = capacity;
+        this.snapshots = new long[capacity];
+        this.usedInputs = new int[capacity];
+        this.confirmedInputs = new int[capacity];
+        this.confirmedFrame = new int[capacity];
+        java.util.Arrays.fill(confirmedFrame, -1);
+    }
+
+    /** 경과 시간 → 프레임 번호 */
+    public static int frameAt(long startNanos, long nowNanos) {
+        if (nowNanos <= startNanos)
+            return 0;
+        return (int) ((nowNanos - startNanos) / FRAME_NANOS);
+    }
+
+    /**
+     * 예측 함수 교체 (인자: 마지막 확정 입력)
+     */
+    public void setPredictor(IntUnaryOperator predictor) {
+        this.predictor = predictor;
+    }
+
+    /**
+     * 원격 확정 입력 추가
+     *
+     * @return false 면 링버퍼 범위를 벗어나 반영하지 못함 (호출자가 전체 동기화로 보정)
+     */
+    public boolean addRemoteInput(int frame, int input) {
+        // 과거/미래 창을 절반씩 나눠 써서 링버퍼 슬롯이 겹치지 않게 함
+        int window = capacity / 2;
+        if (frame < 0 || frame <= currentFrame - window || frame >= currentFrame + window) {
+            metrics.droppedInputs++;
+            return false;
+        }
+
+        int slot = frame % capacity;
+        confirmedFrame[slot] = frame;
+        confirmedInputs[slot] = input;
+
+        if (frame >= lastConfirmedFrame) {
+            lastConfirmedFrame = frame;
+            lastConfirmedInput = input;
+        }
+
+        // 이미 지나간 프레임인데 예측과 다르면 롤백 예약
+        if (frame < currentFrame && usedInputs[slot] != input) {
+            metrics.mispredictions++;
+            if (rollbackFrom < 0 || frame < rollbackFrom) {
+                rollbackFrom = frame;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * targetFrame 직전까지 시뮬레이션 진행 (예약된 롤백이 있으면 먼저 처리)
+     */
+    public void advanceTo(int targetFrame) {
+        if (rollbackFrom >= 0) {
+            rollback();
+        }
+        while (currentFrame < targetFrame) {
+            simulate(currentFrame);
+            currentFrame++;
+        }
+    }
+
+    private void rollback() {
+        int from = rollbackFrom;
+        rollbackFrom = -1;
+
+        int depth = currentFrame - from;
+        long t0 = System.nanoTime();
+
+        sim.loadState(snapshots[from % capacity]);
+        for (int f = from; f < currentFrame; f++) {
+            simulate(f);
+        }
+
+        metrics.record(depth, System.nanoTime() - t0);
+    }
+
+    private void simulate(int frame) {
+        int slot = frame % capacity;
+        int input = confirmedFrame[slot] == frame
+                ? confirmedInputs[slot]
+                : predictor.applyAsInt(lastConfirmedInput);
+
+        snapshots[slot] = sim.saveState();
+        usedInputs[slot] = input;
+        sim.step(frame, input);
+    }
+
+    public int getCurrentFrame() {
+        return currentFrame;
+    }
+
+    public int getLastConfirmedFrame() {
+        return lastConfirmedFrame;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /** 리셋 (게임 재시작시) */
+    public void reset() {
+        currentFrame = 0;
+        lastConfirmedFrame = -1;
+        lastConfirmedInput = 0;
+        rollbackFrom = -1;
+        java.util.Arrays.fill(confirmedFrame, -1);
+        java.util.Arrays.fill(usedInputs, 0);
+        metrics.reset();
+    }
+
+    /**
+     * 롤백 메트릭
+     */
+    public static class Metrics {
+        public int rollbacks;
+        public int mispredictions;
+        public int droppedInputs;
+        public int budgetOverruns; // 재시뮬레이션이 한 프레임 예산을 넘긴 횟수
+        public int lastDepth;
+        public int maxDepth;
+        public long totalDepth;
+        public long lastResimNanos;
+        public long maxResimNanos;
+        public long totalResimNanos;
+
+        void record(int depth, long nanos) {
+            rollbacks++;
+            lastDepth = depth;
+            maxDepth = Math.max(maxDepth, depth);
+            totalDepth += depth;
+            lastResimNanos = nanos;
+            maxResimNanos = Math.max(maxResimNanos, nanos);
+            totalResimNanos += nanos;
+            if (nanos > FRAME_NANOS) {
+                budgetOverruns++;
+            }
+        }
+
+        public double avgDepth() {
+            return rollbacks == 0 ? 0 : (double) totalDepth / rollbacks;
+        }
+
+        public double avgResimMicros() {
+            return rollbacks == 0 ? 0 : totalResimNanos / 1000.0 / rollbacks;
+        }
+
+        void reset() {
+            rollbacks = 0;
+            mispredictions = 0;
+            droppedInputs = 0;
+            budgetOverruns = 0;
+            lastDepth = 0;
+            maxDepth = 0;
+            totalDepth = 0;
+            lastResimNanos = 0;
+            maxResimNanos = 0;
+            totalResimNanos = 0;
+        }
+
+        /** UI 표시용 간단한 통계 문자열 */
+        @Override
+        public String toString() {
+            return String.format("RB:%d depth avg %.1f/max %d resim %.0fus/max %dus",
+                    rollbacks, avgDepth(), maxDepth, avgResimMicros(), maxResimNanos / 1000);
+        }
+    }
+}
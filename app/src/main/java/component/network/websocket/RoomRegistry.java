@@ -0,0 +1,609 @@
+package component.network.websocket;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RoomRegistry - 방(매치) 단위 세션 관리
+ * --------------------
+ * - 접속 시 쿼리 파라미터 room 으로 방 입장 (없으면 기본 방)
+ * - 방 ID → 세션 집합을 ConcurrentHashMap 으로 관리
+ * - 릴레이는 같은 방 안에서만 → 팬아웃 비용이 전체 세션 수와 무관
+ * - 수신 세션마다 OutboundQueue 를 두어 느린 상대에게 무한정 쌓이지 않게 함
+ *   - 큐가 보드 / 입력을 버리면 나머지 멤버에게 SYNC_REQUEST (전체 보드로 복구), 중요한 메시지로 넘치면 연결 종료
+ * - role=spectator 로 접속하면 관전자: 플레이어 릴레이에는 끼지 않고 방의 SpectatorFeed 구독
+ *   (키프레임만 받아도 못 따라오는 관전자는 연결 종료)
+ * - 호스트는 소켓 없이 LocalPeer 로 참여 가능 (LoopbackTransport)
+ * - resume 파라미터로 접속한 플레이어는 세션 재개 지원: 끊겨도 유예 시간 동안 슬롯과 메시지를 보관
+ * - 방 입장 / 퇴장 / 슬롯 할당은 방 항목의 compute 안에서 (같은 방끼리 한 락)
+ * - RelayGuard 가 있으면 전달 후 수신자 송신 큐를 검사해 오래 막힌 세션은 끊음
+ * - 권위 검증 모드면 방마다 MatchReferee 가 릴레이 전에 검사 (검증 실패한 공격은 전달 안 함)
+ */
+public class RoomRegistry {
+
+    public static final String DEFAULT_ROOM = "default";
+    public static final String ROOM_PARAM = "room";
+    public static final String ROLE_PARAM = "role";
+    public static final String SPECTATOR_ROLE = "spectator";
+    public static final String RESUME_PARAM = "resume"; // "new" 또는 이전 토큰
+    public static final String LAST_SEQ_PARAM = "lastSeq";
+    public static final String RESUME_NEW = "new";
+    static final String ROOM_KEY = "tetris.room";
+    static final String OUTBOUND_KEY = "tetris.outbound";
+    static final String SLOT_KEY = "tetris.slot";
+    static final String SPECTATOR_KEY = "tetris.spectator";
+    static final String RESUME_KEY = "tetris.resume";
+    static final String RESYNC_KEY = "tetris.resync"; // 마지막 재동기화 요청 시각 (ms)
+    static final long RESYNC_INTERVAL_MS = 500;
+    private static final int MAX_ROOM_ID_LENGTH = 32;
+
+    private final Map<String, Set<Session>> rooms = new ConcurrentHashMap<>();
+    private final Map<String, SpectatorFeed> feeds = new ConcurrentHashMap<>();
+    private final Map<String, LocalMember> locals = new ConcurrentHashMap<>();
+    private final Map<String, ResumableSession> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Set<ResumableSession>> parked = new ConcurrentHashMap<>(); // 방 ID → 끊긴 플레이어
+
+    /** 같은 JVM 안의 플레이어 (호스트 루프백) - 상대 메시지를 소켓 없이 받음 */
+    public interface LocalPeer {
+        void deliver(String json);
+    }
+
+    private static class LocalMember {
+        final LocalPeer peer;
+        final int slot;
+
+        LocalMember(LocalPeer peer, int slot) {
+            this.peer = peer;
+            this.slot = slot;
+        }
+    }
+
+    private volatile WireMetrics metrics; // 플레이어 송신 큐 계측 (null 이면 안 함)
+    private final Map<String, WireMetrics> roomMetrics = new ConcurrentHashMap<>(); // 방별 (서버 합계에도 기록)
+    private volatile RelayGuard guard; // 느린 수신자 정리 (null 이면 안 함)
+    private volatile boolean authoritative = false; // 서버 권위 검증 (MatchReferee)
+    private final Map<String, MatchReferee> referees = new ConcurrentHashMap<>();
+    private final MatchReferee.Totals refereeTotals = new MatchReferee.Totals();
+
+    // 통계
+    private final AtomicLong relayedMessages = new AtomicLong();
+    private final AtomicLong deliveredMessages = new AtomicLong();
+
+    /**
+     * 핸드셰이크 파라미터에서 방 ID 를 읽어 입장
+     *
+     * @return 입장한 방 ID
+     */
+    public String join(Session session) {
+        String roomId = sanitize(param(session, ROOM_PARAM));
+        session.getUserProperties().put(ROOM_KEY, roomId);
+
+        if (SPECTATOR_ROLE.equals(param(session, ROLE_PARAM))) {
+            SpectatorChannel channel = new SpectatorChannel(session.getAsyncRemote());
+            channel.setOnOverflow(() -> RelayGuard.closeAsync(session, CloseReason.CloseCodes.TRY_AGAIN_LATER,
+                    "spectator too slow"));
+            session.getUserProperties().put(SPECTATOR_KEY, channel);
+            feedOf(roomId).addSpectator(channel);
+            return roomId;
+        }
+
+        OutboundQueue q = new OutboundQueue(session.getAsyncRemote());
+        q.setWireMetrics(wireMetricsOf(roomId));
+        q.setOnBoardDropped(() -> requestResync(roomId, session));
+        q.setOnOverflow(() -> RelayGuard.closeAsync(session, CloseReason.CloseCodes.TRY_AGAIN_LATER,
+                "receiver too slow"));
+        session.getUserProperties().put(OUTBOUND_KEY, q);
+        purgeExpired(roomId);
+
+        String resume = param(session, RESUME_PARAM);
+        ResumableSession prev = resume == null ? null : tokens.get(resume);
+        if (prev != null && !prev.roomId.equals(roomId))
+            prev = null; // 다른 방 토큰
+
+        if (prev != null) {
+            // 순서 중요: 새 소켓 등록 → 재전송하며 새 큐로 교체 → 이전 소켓 / 보관 목록 정리
+            // (어느 순간에도 릴레이 메시지가 보관이나 전송 중 하나로는 들어감)
+            Session old = prev.getSession();
+            session.getUserProperties().put(SLOT_KEY, prev.slot);
+            session.getUserProperties().put(RESUME_KEY, prev);
+            rooms.compute(roomId, (id, members) -> withMember(members, session));
+            prev.resume(session, q, parseSeq(param(session, LAST_SEQ_PARAM)));
+            removeParked(prev);
+            if (old != null && old != session) {
+                // 서버가 아직 끊김을 모르던 이전 소켓
+                removeMember(roomId, old);
+                old.getUserProperties().remove(RESUME_KEY); // 나중에 닫혀도 다시 보관하지 않음
+                OutboundQueue oldQueue = outboundOf(old);
+                if (oldQueue != null) {
+                    oldQueue.clear();
+                }
+            }
+            return roomId;
+        }
+
+        // 슬롯 할당과 입장을 방 항목의 compute 안에서 → 같은 방 join / leave 와 겹치지 않음
+        rooms.compute(roomId, (id, members) -> {
+            Set<Session> set = members != null ? members : ConcurrentHashMap.newKeySet();
+            int slot = freeSlot(id, set);
+            session.getUserProperties().put(SLOT_KEY, slot);
+            if (resume != null) {
+                // 재개 지원 클라이언트의 첫 접속 (또는 만료된 토큰 → 새 세션)
+                ResumableSession st = new ResumableSession(id, slot);
+                st.attach(session, q);
+                tokens.put(st.token, st);
+                session.getUserProperties().put(RESUME_KEY, st);
+            }
+            set.add(session);
+            return set;
+        });
+        return roomId;
+    }
+
+    private static Set<Session> withMember(Set<Session> members, Session session) {
+        Set<Session> set = members != null ? members : ConcurrentHashMap.newKeySet();
+        set.add(session);
+        return set;
+    }
+
+    // 방 멤버 제거 (빈 방은 제거) - join 과 같은 방 항목 락 안에서
+    private void removeMember(String roomId, Session session) {
+        rooms.computeIfPresent(roomId, (id, members) -> {
+            members.remove(session);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private void removeParked(ResumableSession st) {
+        parked.computeIfPresent(st.roomId, (id, set) -> {
+            set.remove(st);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 유예 시간이 지난 보관 세션 정리 (슬롯 반환)
+    private void purgeExpired(String roomId) {
+        Set<ResumableSession> set = parked.get(roomId);
+        if (set == null)
+            return;
+        long now = System.currentTimeMillis();
+        set.removeIf(st -> {
+            if (!st.isExpired(now))
+                return false;
+            tokens.remove(st.token);
+            System.out.println("[Server] Resume window expired (slot " + st.slot + ", room " + roomId + ")");
+            return true;
+        });
+        parked.computeIfPresent(roomId, (id, s) -> s.isEmpty() ? null : s);
+    }
+
+    private static long parseSeq(String value) {
+        try {
+            return value == null ? 0 : Math.max(0, Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // 비어 있는 가장 작은 플레이어 슬롯 (관전 프레임에서 누구 보드인지 구분)
+    private int freeSlot(String roomId, Set<Session> members) {
+        LocalMember local = locals.get(roomId);
+        int slot = 0;
+        while (true) {
+            boolean taken = local != null && local.slot == slot;
+            for (ResumableSession st : parked.getOrDefault(roomId, Set.of())) {
+                taken |= st.slot == slot;
+            }
+            for (Session s : members) {
+                if (Integer.valueOf(slot).equals(s.getUserProperties().get(SLOT_KEY))) {
+                    taken = true;
+                    break;
+                }
+            }
+            if (!taken)
+                return slot;
+            slot++;
+        }
+    }
+
+    /**
+     * 같은 JVM 플레이어 입장 (소켓 / 세션 없음)
+     *
+     * @return 입장한 방 ID
+     */
+    public String attachLocal(String roomId, LocalPeer peer) {
+        String id = sanitize(roomId);
+        // 소켓 플레이어의 슬롯 할당과 같은 방 항목 락 안에서 (방이 없으면 만들지 않음)
+        rooms.compute(id, (k, members) -> {
+            locals.put(k, new LocalMember(peer, freeSlot(k, members == null ? Set.of() : members)));
+            return members;
+        });
+        return id;
+    }
+
+    public void detachLocal(String roomId, LocalPeer peer) {
+        String id = sanitize(roomId);
+        locals.computeIfPresent(id, (k, m) -> m.peer == peer ? null : m);
+        pruneFeed(id);
+        pruneReferee(id);
+    }
+
+    public boolean hasLocal(String roomId) {
+        return locals.containsKey(sanitize(roomId));
+    }
+
+    private SpectatorFeed feedOf(String roomId) {
+        return feeds.computeIfAbsent(roomId, id -> new SpectatorFeed());
+    }
+
+    /** 퇴장 (빈 방은 제거) */
+    public void leave(Session session) {
+        leave(session, false);
+    }
+
+    /**
+     * 퇴장
+     *
+     * @param keepForResume 비정상 종료면 true → 재개 세션이면 유예 시간 동안 슬롯 / 메시지 보관
+     */
+    public void leave(Session session, boolean keepForResume) {
+        String roomId = roomOf(session);
+        if (roomId == null)
+            return;
+
+        SpectatorChannel channel = spectatorOf(session);
+        if (channel != null) {
+            SpectatorFeed feed = feeds.get(roomId);
+            if (feed != null) {
+                feed.removeSpectator(channel);
+            }
+            pruneFeed(roomId);
+            return;
+        }
+
+        OutboundQueue q = outboundOf(session);
+        if (q != null) {
+            q.clear();
+        }
+        ResumableSession st = resumeOf(session);
+        if (st != null) {
+            session.getUserProperties().remove(RESUME_KEY);
+            if (keepForResume) {
+                // 보관 목록에 먼저 넣고 끊음 → 그 사이 릴레이되는 메시지도 빠지지 않음
+                parked.computeIfAbsent(roomId, id -> ConcurrentHashMap.newKeySet()).add(st);
+                st.detach();
+                System.out.println("[Server] Session parked for resume (slot " + st.slot + ", room " + roomId + ")");
+            } else {
+                tokens.remove(st.token);
+            }
+        }
+        removeMember(roomId, session);
+        purgeExpired(roomId);
+        pruneFeed(roomId);
+        pruneReferee(roomId);
+    }
+
+    // 플레이어도 관전자도 없으면 키프레임 정리
+    private void pruneFeed(String roomId) {
+        feeds.computeIfPresent(roomId,
+                (id, feed) -> feed.spectatorCount() == 0 && !rooms.containsKey(id) && !locals.containsKey(id)
+                        && !parked.containsKey(id)
+                        ? null
+                        : feed);
+    }
+
+    // 플레이어가 모두 나간 방의 검증 종료 (진행 중이던 매치는 여기서 보고) + 방별 계측 정리
+    private void pruneReferee(String roomId) {
+        if (rooms.containsKey(roomId) || locals.containsKey(roomId) || parked.containsKey(roomId))
+            return;
+        roomMetrics.remove(roomId);
+        MatchReferee ref = referees.remove(roomId);
+        if (ref != null) {
+            ref.finish();
+        }
+    }
+
+    // 권위 검증 모드: 방의 심판이 통과시킨 메시지만 릴레이
+    private boolean refereeAdmits(String roomId, int slot, MessageType type, String msg) {
+        if (!authoritative)
+            return true;
+        MatchReferee ref = referees.computeIfAbsent(roomId, id -> new MatchReferee(id, refereeTotals));
+        return ref.inspect(slot, type, msg);
+    }
+
+    /**
+     * 같은 방의 다른 세션들에게 전달
+     *
+     * @return 실제로 전달한 세션 수
+     */
+    public int relay(Session sender, String msg) {
+        String roomId = roomOf(sender);
+        Set<Session> members = roomId == null ? null : rooms.get(roomId);
+        if (members == null || spectatorOf(sender) != null)
+            return 0; // 관전자 입력은 무시
+
+        ResumableSession st = resumeOf(sender);
+        if (st != null && !st.acceptFromClient(ReplayBuffer.seqOf(msg)))
+            return 0; // 재접속 후 클라이언트가 다시 보낸 중복
+
+        // 타입은 한 번만 추출해서 모든 수신자 큐에 공유
+        MessageType type = OutboundQueue.peekType(msg);
+        Object slotValue = sender.getUserProperties().get(SLOT_KEY);
+        int slot = slotValue instanceof Integer ? (Integer) slotValue : -1;
+        if (!refereeAdmits(roomId, slot, type, msg))
+            return 0;
+        return fanOut(roomId, members, sender, true, type, msg, slot);
+    }
+
+    /**
+     * 같은 JVM 플레이어(호스트)의 메시지 전달
+     * - 원격 상대 소켓용으로 여기서 한 번만 직렬화
+     * - CLOCK_SYNC 는 같은 시계라 바로 응답
+     *
+     * @return 실제로 전달한 세션 수
+     */
+    public int relayLocal(String roomId, Message msg) {
+        String id = sanitize(roomId);
+        LocalMember self = locals.get(id);
+        if (self == null || msg == null)
+            return 0;
+
+        if (msg.type == MessageType.CLOCK_SYNC) {
+            long now = MatchClock.localNanos();
+            MatchClock.ClockSample req = WebSocketUtil.fromJson(msg.data, MatchClock.ClockSample.class);
+            self.peer.deliver(WebSocketUtil.toJson(new Message(MessageType.CLOCK_SYNC, MatchClock.reply(req, now))));
+            return 0;
+        }
+
+        Set<Session> members = rooms.get(id);
+        String json = WebSocketUtil.toJson(msg);
+        if (!refereeAdmits(id, self.slot, msg.type, json))
+            return 0;
+        return fanOut(id, members == null ? Set.of() : members, null, false, msg.type, json, self.slot);
+    }
+
+    private int fanOut(String roomId, Set<Session> members, Session sender, boolean toLocal,
+            MessageType type, String msg, int slot) {
+        int delivered = 0;
+        RelayGuard g = guard;
+        for (Session s : members) {
+            if (s == sender)
+                continue;
+            ResumableSession st = resumeOf(s);
+            if (st != null) {
+                // 소켓 상태와 무관하게 보관 (닫히는 중이어도 재접속 때 재전송)
+                if (!st.isDetached()) {
+                    st.deliver(type, msg);
+                    delivered++;
+                    if (g != null)
+                        g.checkConsumer(s, outboundOf(s), System.nanoTime());
+                }
+                continue;
+            }
+            if (s.isOpen()) {
+                OutboundQueue q = outboundOf(s);
+                if (q != null) {
+                    q.offer(type, msg);
+                    if (g != null)
+                        g.checkConsumer(s, q, System.nanoTime());
+                } else {
+                    s.getAsyncRemote().sendText(msg);
+                }
+                delivered++;
+            }
+        }
+
+        // 끊긴 플레이어: 재접속 때 받을 수 있게 보관만
+        Set<ResumableSession> away = parked.get(roomId);
+        if (away != null) {
+            purgeExpired(roomId);
+            for (ResumableSession st : away) {
+                if (st.isDetached()) {
+                    st.deliver(type, msg);
+                    delivered++;
+                }
+            }
+        }
+
+        LocalMember local = toLocal ? locals.get(roomId) : null;
+        if (local != null) {
+            local.peer.deliver(msg);
+            delivered++;
+        }
+
+        // 관전 스트림: 한 번 인코딩해서 모든 관전자에게 (관전자가 없어도 키프레임은 유지)
+        if (slot >= 0) {
+            SpectatorFeed feed = feedOf(roomId);
+            if (type == MessageType.GAME_START || type == MessageType.RESTART_START) {
+                feed.resetKeyframes();
+            }
+            feed.publish(slot, type, msg);
+        }
+
+        relayedMessages.incrementAndGet();
+        deliveredMessages.addAndGet(delivered);
+        return delivered;
+    }
+
+    /**
+     * 수신자 큐가 보드 / 입력을 버림 → 나머지 멤버에게 전체 보드 요청 (그 수신자가 보낸 SYNC_REQUEST 처럼)
+     * - 버릴 때마다 부르므로 세션별로 RESYNC_INTERVAL_MS 에 한 번만
+     */
+    private void requestResync(String roomId, Session receiver) {
+        long now = System.currentTimeMillis();
+        Object last = receiver.getUserProperties().get(RESYNC_KEY);
+        if (last instanceof Long && now - (Long) last < RESYNC_INTERVAL_MS)
+            return;
+        receiver.getUserProperties().put(RESYNC_KEY, now);
+
+        Set<Session> members = rooms.get(roomId);
+        String json = WebSocketUtil.toJson(new Message(MessageType.SYNC_REQUEST, "overflow"));
+        fanOut(roomId, members == null ? Set.of() : members, receiver, true, MessageType.SYNC_REQUEST, json, -1);
+    }
+
+    public String roomOf(Session session) {
+        Object id = session.getUserProperties().get(ROOM_KEY);
+        return id == null ? null : id.toString();
+    }
+
+    /** 세션별 송신 큐 (백프레셔 / 드롭 통계) */
+    public OutboundQueue outboundOf(Session session) {
+        Object q = session.getUserProperties().get(OUTBOUND_KEY);
+        return q instanceof OutboundQueue ? (OutboundQueue) q : null;
+    }
+
+    /** 이후 입장하는 플레이어 송신 큐에 적용할 계측 (방별 계측의 상위 합계) */
+    public void setWireMetrics(WireMetrics metrics) {
+        this.metrics = metrics;
+        roomMetrics.clear();
+    }
+
+    /**
+     * 방 하나의 송신 계측 (이 방 플레이어에게 보낸 것만, 서버 합계에도 같이 기록)
+     * 호스트는 루프백이라 이 방 상대에게 실제로 나간 바이트가 곧 자기 송신량
+     *
+     * @return 서버 계측이 꺼져 있으면 null
+     */
+    public WireMetrics wireMetricsOf(String roomId) {
+        WireMetrics server = metrics;
+        if (server == null)
+            return null;
+        return roomMetrics.computeIfAbsent(roomId, id -> new WireMetrics("room " + id, server));
+    }
+
+    /** 릴레이 후 느린 수신자 검사 (null 이면 안 함) */
+    public void setRelayGuard(RelayGuard guard) {
+        this.guard = guard;
+    }
+
+    /** 서버 권위 검증 모드 (이후 메시지부터 적용, 끄면 진행 중인 매치는 보고 후 정리) */
+    public void setAuthoritative(boolean authoritative) {
+        this.authoritative = authoritative;
+        if (!authoritative) {
+            referees.values().forEach(MatchReferee::finish);
+            referees.clear();
+        }
+    }
+
+    public boolean isAuthoritative() {
+        return authoritative;
+    }
+
+    /** 방의 검증 상태 (권위 검증 모드가 아니거나 메시지가 없었으면 null) */
+    public MatchReferee referee(String roomId) {
+        return referees.get(roomId);
+    }
+
+    /** 끝난 매치들의 검증 합계 */
+    public MatchReferee.Totals getRefereeTotals() {
+        return refereeTotals;
+    }
+
+    /** 세션 재개 상태 (resume 파라미터 없이 접속했으면 null) */
+    public ResumableSession resumeOf(Session session) {
+        Object st = session.getUserProperties().get(RESUME_KEY);
+        return st instanceof ResumableSession ? (ResumableSession) st : null;
+    }
+
+    /** 끊긴 뒤 재접속을 기다리는 플레이어 수 */
+    public int parkedCount(String roomId) {
+        Set<ResumableSession> set = parked.get(roomId);
+        return set == null ? 0 : set.size();
+    }
+
+    /** 관전자 채널 (플레이어면 null) */
+    public SpectatorChannel spectatorOf(Session session) {
+        Object ch = session.getUserProperties().get(SPECTATOR_KEY);
+        return ch instanceof SpectatorChannel ? (SpectatorChannel) ch : null;
+    }
+
+    /** 방의 관전 스트림 (플레이어나 관전자가 없으면 null) */
+    public SpectatorFeed feed(String roomId) {
+        return feeds.get(roomId);
+    }
+
+    public int spectatorCount(String roomId) {
+        SpectatorFeed feed = feeds.get(roomId);
+        return feed == null ? 0 : feed.spectatorCount();
+    }
+
+    public Set<Session> members(String roomId) {
+        Set<Session> members = rooms.get(roomId);
+        return members == null ? Set.of() : Collections.unmodifiableSet(members);
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    public int sessionCount() {
+        int total = 0;
+        for (Set<Session> members : rooms.values()) {
+            total += members.size();
+        }
+        return total;
+    }
+
+    public long getRelayedMessages() {
+        return relayedMessages.get();
+    }
+
+    public long getDeliveredMessages() {
+        return deliveredMessages.get();
+    }
+
+    public void clear() {
+        rooms.clear();
+        feeds.clear();
+        locals.clear();
+        tokens.clear();
+        parked.clear();
+        referees.clear();
+        roomMetrics.clear();
+        refereeTotals.reset();
+        relayedMessages.set(0);
+        deliveredMessages.set(0);
+    }
+
+    private static String param(Session session, String name) {
+        Map<String, List<String>> params = session.getRequestParameterMap();
+        if (params == null)
+            return null;
+        List<String> values = params.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /** 방 ID 정리: 영문/숫자/-/_ 만 허용, 길이 제한 */
+    static String sanitize(String roomId) {
+        if (roomId == null)
+            return DEFAULT_ROOM;
+        String id = roomId.trim();
+        if (id.isEmpty() || id.length() > MAX_ROOM_ID_LENGTH || !id.matches("[A-Za-z0-9_-]+"))
+            return DEFAULT_ROOM;
+        return id;
+    }
+
+    /** 클라이언트 접속 URI 생성 (ws://host:port/game?room=ID) */
+    public static String buildUri(String host, int port, String roomId) {
+        return "ws://" + host + ":" + port + "/game?" + ROOM_PARAM + "=" + sanitize(roomId);
+    }
+
+    /** 세션 재개 파라미터 추가 (token 이 null 이면 새 토큰 요청) */
+    public static String withResume(String uri, String token, long lastSeq) {
+        String sep = uri.contains("?") ? "&" : "?";
+        if (token == null)
+            return uri + sep + RESUME_PARAM + "=" + RESUME_NEW;
+        return uri + sep + RESUME_PARAM + "=" + token + "&" + LAST_SEQ_PARAM + "=" + lastSeq;
+    }
+
+    /** 관전자 접속 URI (ws://host:port/game?room=ID&role=spectator) */
+    public static String buildSpectatorUri(String host, int port, String roomId) {
+        return buildUri(host, port, roomId) + "&" + ROLE_PARAM + "=" + SPECTATOR_ROLE;
+    }
+}
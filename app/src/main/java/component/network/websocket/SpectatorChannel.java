@@ -0,0 +1,251 @@
+package component.network.websocket;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendResult;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * SpectatorChannel - 관전자 한 명의 송신 채널
+ * --------------------
+ * - SpectatorFeed 가 한 번 인코딩한 공유 버퍼를 duplicate() 로 받아 그대로 전송 (재직렬화 없음)
+ * - OutboundQueue 와 같은 방식: 한 번에 하나만 전송 중, 완료 콜백에서 다음 전송
+ * - 큐가 가득 차면 느린 관전자 → 키프레임(전체 보드 / 최신 상태) + 중요 메시지만 받는 모드로 강등
+ * - 강등 상태의 최신 상태 메시지는 대기 중인 같은 (슬롯, 타입) 프레임을 대체 → 대기열이 슬롯 × 타입 수로 묶임
+ * - 그래도 중요 메시지가 쌓여 용량의 OVERFLOW_FACTOR 배를 넘으면 관전자 연결 종료 (onOverflow)
+ * - 강등 상태에서 몇 번 연속으로 밀리지 않고 비우면 현재 키프레임을 다시 받고 실시간으로 복귀
+ * - 플레이어 릴레이와는 독립적이라 느린 관전자가 매치를 느리게 만들지 않음
+ */
+public class SpectatorChannel {
+
+    public static final int DEFAULT_CAPACITY = 32;
+    static final int RECOVER_AFTER = 8; // 강등 후 연속으로 큐를 비운 횟수 (잦은 모드 전환 방지)
+    static final int OVERFLOW_FACTOR = 2; // 강등 후에도 이만큼 (용량 배수) 쌓이면 끊음
+
+    public enum Mode {
+        LIVE,
+        KEYFRAMES_ONLY,
+        CLOSED
+    }
+
+    private static class Frame {
+        final ByteBuffer data;
+        final MessageType type;
+        final int slot; // 관전 프레임 첫 바이트 (SpectatorFeed.encode)
+
+        Frame(ByteBuffer data, MessageType type) {
+            this.data = data;
+            this.type = type;
+            this.slot = data.hasRemaining() ? data.get(data.position()) : -1;
+        }
+    }
+
+    private final RemoteEndpoint.Async remote;
+    private final int capacity;
+    private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+    private boolean inFlight = false;
+    private Mode mode = Mode.LIVE;
+    private int drainedInRow = 0;
+
+    private Runnable onRecover; // 실시간 복귀 요청 (Feed 가 키프레임을 다시 넣어줌)
+    private Runnable onOverflow; // 강등해도 못 따라오는 관전자 (연결 종료)
+
+    // 통계
+    private long sent = 0;
+    private long failed = 0;
+    private long skipped = 0;
+    private long superseded = 0;
+    private int degradations = 0;
+
+    public SpectatorChannel(RemoteEndpoint.Async remote) {
+        this(remote, DEFAULT_CAPACITY);
+    }
+
+    public SpectatorChannel(RemoteEndpoint.Async remote, int capacity) {
+        this.remote = remote;
+        this.capacity = capacity;
+    }
+
+    void setOnRecover(Runnable callback) {
+        this.onRecover = callback;
+    }
+
+    public void setOnOverflow(Runnable callback) {
+        this.onOverflow = callback;
+    }
+
+    /** 키프레임 전용 모드에서도 보내는 메시지 (입력 스트림은 보드 키프레임으로 대신함) */
+    static boolean isKeyframe(MessageType type) {
+        if (type == MessageType.PLAYER_INPUT)
+            return false;
+        return OutboundQueue.isLatestState(type) || OutboundQueue.isCritical(type);
+    }
+
+    private static boolean isFullBoard(MessageType type) {
+        return type == MessageType.BOARD_FULL_SYNC || type == MessageType.BOARD_STATE;
+    }
+
+    /**
+     * 공유 버퍼 전송 예약 (버퍼는 읽기 전용, 채널마다 위치만 따로)
+     */
+    public void offer(ByteBuffer shared, MessageType type) {
+        Frame next;
+        boolean overflow = false;
+        synchronized (this) {
+            if (mode == Mode.CLOSED)
+                return;
+            if (mode == Mode.KEYFRAMES_ONLY && !isKeyframe(type)) {
+                skipped++;
+                return;
+            }
+            if (queue.size() >= capacity) {
+                degrade();
+                if (!isKeyframe(type)) {
+                    skipped++;
+                    return;
+                }
+            }
+            Frame frame = new Frame(shared.duplicate(), type);
+            if (mode == Mode.KEYFRAMES_ONLY)
+                supersede(frame);
+            queue.add(frame);
+            if (mode == Mode.KEYFRAMES_ONLY && queue.size() > capacity * OVERFLOW_FACTOR) {
+                // 합쳐도 줄지 않음 (중요 메시지만 쌓임) → 더 보관하지 않고 끊음
+                mode = Mode.CLOSED;
+                skipped += queue.size();
+                queue.clear();
+                overflow = true;
+                next = null;
+            } else {
+                next = pollIfIdle();
+            }
+        }
+        if (overflow) {
+            System.out.println("[Spectator] Still over capacity in keyframes-only mode, closing");
+            if (onOverflow != null)
+                onOverflow.run();
+        }
+        if (next != null) {
+            send(next);
+        }
+    }
+
+    // 강등 상태: 대기 중인 같은 슬롯의 같은 최신 상태 (전체 보드면 그 슬롯의 보드 전부) 를 대체
+    private void supersede(Frame frame) {
+        if (!OutboundQueue.isLatestState(frame.type))
+            return;
+        boolean fullBoard = isFullBoard(frame.type);
+        int before = queue.size();
+        queue.removeIf(f -> f.slot == frame.slot
+                && (f.type == frame.type || (fullBoard && OutboundQueue.isBoard(f.type))));
+        superseded += before - queue.size();
+    }
+
+    /**
+     * 키프레임 묶음으로 대기열을 교체하고 실시간 모드로 전환 (입장 / 복귀)
+     */
+    void resync(List<ByteBuffer> keyframes, List<MessageType> types) {
+        Frame next;
+        synchronized (this) {
+            if (mode == Mode.CLOSED)
+                return;
+            queue.clear();
+            for (int i = 0; i < keyframes.size(); i++) {
+                queue.add(new Frame(keyframes.get(i).duplicate(), types.get(i)));
+            }
+            mode = Mode.LIVE;
+            drainedInRow = 0;
+            next = pollIfIdle();
+        }
+        if (next != null) {
+            send(next);
+        }
+    }
+
+    // 강등: 델타 등은 버리고 키프레임 / 중요 메시지만 남김
+    private void degrade() {
+        if (mode == Mode.LIVE) {
+            degradations++;
+            mode = Mode.KEYFRAMES_ONLY;
+            System.out.println("[Spectator] Slow consumer → keyframes only");
+        }
+        int before = queue.size();
+        queue.removeIf(f -> !isKeyframe(f.type));
+        skipped += before - queue.size();
+        drainedInRow = 0;
+    }
+
+    private Frame pollIfIdle() {
+        if (inFlight)
+            return null;
+        Frame next = queue.poll();
+        inFlight = next != null;
+        return next;
+    }
+
+    private void send(Frame frame) {
+        try {
+            remote.sendBinary(frame.data, this::onComplete);
+        } catch (RuntimeException e) {
+            System.err.println("[Spectator] Send failed: " + e.getMessage());
+            onComplete(new SendResult(e));
+        }
+    }
+
+    private void onComplete(SendResult result) {
+        Frame next;
+        boolean recover = false;
+        synchronized (this) {
+            if (result != null && result.isOK()) {
+                sent++;
+            } else {
+                failed++;
+            }
+            next = queue.poll();
+            inFlight = next != null;
+            if (next == null && mode == Mode.KEYFRAMES_ONLY && ++drainedInRow >= RECOVER_AFTER) {
+                recover = true;
+            }
+        }
+        if (next != null) {
+            send(next);
+        } else if (recover && onRecover != null) {
+            onRecover.run();
+        }
+    }
+
+    public synchronized Mode getMode() {
+        return mode;
+    }
+
+    public synchronized int depth() {
+        return queue.size();
+    }
+
+    public synchronized long getSent() {
+        return sent;
+    }
+
+    public synchronized long getFailed() {
+        return failed;
+    }
+
+    public synchronized long getSkipped() {
+        return skipped;
+    }
+
+    public synchronized long getSuperseded() {
+        return superseded;
+    }
+
+    public synchronized int getDegradations() {
+        return degradations;
+    }
+
+    public synchronized void clear() {
+        queue.clear();
+        inFlight = false;
+    }
+}
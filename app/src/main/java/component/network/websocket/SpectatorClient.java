@@ -0,0 +1,100 @@
+package component.network.websocket;
+
+import javax.websocket.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * SpectatorClient - 관전 전용 클라이언트
+ * --------------------
+ * - ws://host:port/game?room=ID&role=spectator 로 접속
+ * - 서버가 보내는 바이너리 프레임 [slot:1][JSON] 을 (플레이어 슬롯, Message) 로 풀어서 전달
+ * - 입장 직후 키프레임 묶음(전체 보드 + 이후 델타)이 먼저 오고 이어서 실시간 스트림
+ * - 받은 Message 는 슬롯별 BoardSyncAdapter.handleIncoming 으로 그대로 적용 가능
+ */
+@ClientEndpoint
+public class SpectatorClient {
+
+    /** 관전 프레임 (누구의 메시지인지 + 원본 메시지) */
+    public static class Frame {
+        public final int slot;
+        public final Message message;
+
+        public Frame(int slot, Message message) {
+            this.slot = slot;
+            this.message = message;
+        }
+    }
+
+    private Session session;
+    private final Consumer<Frame> onFrame;
+    private long received = 0;
+
+    public SpectatorClient(Consumer<Frame> onFrame) {
+        this.onFrame = onFrame;
+    }
+
+    public void connect(String host, int port, String roomId) throws Exception {
+        String uri = RoomRegistry.buildSpectatorUri(host, port, roomId);
+        System.out.println("[Spectator] Connecting to: " + uri);
+        ContainerProvider.getWebSocketContainer().connectToServer(this, URI.create(uri));
+    }
+
+    /** [slot:1][JSON UTF-8] → Frame (버퍼 위치는 건드리지 않음) */
+    public static Frame decode(ByteBuffer buf) {
+        ByteBuffer b = buf.duplicate();
+        int slot = b.get();
+        byte[] body = new byte[b.remaining()];
+        b.get(body);
+        Message m = WebSocketUtil.fromJson(new String(body, StandardCharsets.UTF_8), Message.class);
+        return new Frame(slot, m);
+    }
+
+    @OnOpen
+    public void onOpen(Session session) {
+        this.session = session;
+        System.out.println("[Spectator] Watching: " + session.getId());
+    }
+
+    @OnMessage
+    public void onBinary(ByteBuffer data) {
+        received++;
+        Frame frame = decode(data);
+        if (onFrame != null && frame.message != null) {
+            onFrame.accept(frame);
+        }
+    }
+
+    @OnClose
+    public void onClose() {
+        System.out.println("[Spectator] Disconnected.");
+        this.session = null;
+    }
+
+    @OnError
+    public void onError(Throwable t) {
+        System.err.println("[Spectator] Error: " + t.getMessage());
+    }
+
+    public void disconnect() {
+        if (session != null && session.isOpen()) {
+            try {
+                session.close();
+            } catch (IOException e) {
+                System.err.println("[Spectator] Error during disconnect: " + e.getMessage());
+            }
+        }
+    }
+
+    public boolean isConnected() {
+        return session != null && session.isOpen();
+    }
+
+    public long getReceived() {
+        return received;
+    }
+}
@@ -0,0 +1,180 @@
+package component.network.websocket;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SpectatorFeed - 방 하나의 관전 스트림
+ * --------------------
+ * - 플레이어 메시지를 한 번만 인코딩 ([slot:1][JSON UTF-8] 바이너리)해서 모든 관전자에게 공유
+ * - 플레이어 슬롯별 키프레임 유지: 마지막 전체 보드 + 그 이후 델타 + 최신 상태 메시지
+ * - 늦게 들어온 관전자는 키프레임 묶음을 먼저 받고 바로 실시간 스트림으로 이어짐
+ */
+public class SpectatorFeed {
+
+    public static final int SLOTS = 2;
+    static final int MAX_KEYFRAME_DELTAS = 128; // 플레이어는 델타 100개마다 전체 동기화
+
+    private static class SlotState {
+        final Map<MessageType, ByteBuffer> latest = new EnumMap<>(MessageType.class);
+        final List<ByteBuffer> deltas = new ArrayList<>();
+        final List<MessageType> deltaTypes = new ArrayList<>();
+        boolean deltasOverflowed = false; // 다음 전체 보드 전까지 키프레임 불완전
+    }
+
+    private final SlotState[] slots = new SlotState[SLOTS];
+    private final Set<SpectatorChannel> spectators = ConcurrentHashMap.newKeySet();
+
+    // 통계
+    private long published = 0;
+    private long encoded = 0;
+    private long fannedOut = 0;
+
+    public SpectatorFeed() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new SlotState();
+        }
+    }
+
+    /** 관전 프레임 인코딩: [slot:1][원본 JSON] */
+    public static ByteBuffer encode(int slot, String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.allocate(1 + body.length);
+        buf.put((byte) slot).put(body).flip();
+        return buf.asReadOnlyBuffer();
+    }
+
+    private static boolean isFullBoard(MessageType type) {
+        return type == MessageType.BOARD_FULL_SYNC || type == MessageType.BOARD_STATE;
+    }
+
+    private static boolean isDelta(MessageType type) {
+        return type == MessageType.BOARD_DELTA || type == MessageType.BOARD_DELTA_COMPRESSED;
+    }
+
+    /**
+     * 플레이어 메시지 반영: 키프레임 갱신 + 관전자 팬아웃
+     */
+    public synchronized void publish(int slot, MessageType type, String json) {
+        if (slot < 0 || slot >= SLOTS)
+            return;
+
+        boolean keyframe = isFullBoard(type) || isDelta(type) || OutboundQueue.isLatestState(type);
+        if (spectators.isEmpty() && !keyframe)
+            return; // 보는 사람도 없고 저장할 필요도 없음
+
+        ByteBuffer shared = encode(slot, json);
+        encoded++;
+        published++;
+        record(slots[slot], type, shared);
+
+        for (SpectatorChannel ch : spectators) {
+            ch.offer(shared, type);
+            fannedOut++;
+        }
+    }
+
+    private void record(SlotState s, MessageType type, ByteBuffer shared) {
+        if (isFullBoard(type)) {
+            s.latest.remove(MessageType.BOARD_STATE);
+            s.latest.remove(MessageType.BOARD_FULL_SYNC);
+            s.latest.put(type, shared);
+            s.deltas.clear();
+            s.deltaTypes.clear();
+            s.deltasOverflowed = false;
+        } else if (isDelta(type)) {
+            if (s.deltas.size() < MAX_KEYFRAME_DELTAS) {
+                s.deltas.add(shared);
+                s.deltaTypes.add(type);
+            } else {
+                s.deltasOverflowed = true;
+            }
+        } else if (OutboundQueue.isLatestState(type)) {
+            s.latest.put(type, shared);
+        }
+    }
+
+    /**
+     * 관전자 입장: 현재 키프레임 묶음 전송 후 실시간 스트림 구독
+     */
+    public synchronized void addSpectator(SpectatorChannel channel) {
+        channel.setOnRecover(() -> resync(channel));
+        resync(channel);
+        spectators.add(channel);
+    }
+
+    public void removeSpectator(SpectatorChannel channel) {
+        spectators.remove(channel);
+        channel.clear();
+    }
+
+    // 키프레임 묶음으로 채널 대기열 교체 (락 안에서 → 이후 publish 와 순서 보장)
+    private synchronized void resync(SpectatorChannel channel) {
+        List<ByteBuffer> frames = new ArrayList<>();
+        List<MessageType> types = new ArrayList<>();
+        for (SlotState s : slots) {
+            // 보드 먼저, 그 다음 델타 (순서대로 적용해야 현재 상태)
+            for (Map.Entry<MessageType, ByteBuffer> e : s.latest.entrySet()) {
+                if (isFullBoard(e.getKey())) {
+                    frames.add(e.getValue());
+                    types.add(e.getKey());
+                }
+            }
+            frames.addAll(s.deltas);
+            types.addAll(s.deltaTypes);
+            for (Map.Entry<MessageType, ByteBuffer> e : s.latest.entrySet()) {
+                if (!isFullBoard(e.getKey())) {
+                    frames.add(e.getValue());
+                    types.add(e.getKey());
+                }
+            }
+        }
+        channel.resync(frames, types);
+    }
+
+    /** 새 매치 (재시작) → 이전 키프레임 폐기 */
+    public synchronized void resetKeyframes() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new SlotState();
+        }
+    }
+
+    public int spectatorCount() {
+        return spectators.size();
+    }
+
+    public Set<SpectatorChannel> getSpectators() {
+        return spectators;
+    }
+
+    /** 슬롯의 키프레임이 완전한지 (델타가 넘쳐서 다음 전체 보드를 기다리는 중이면 false) */
+    public synchronized boolean isKeyframeComplete(int slot) {
+        SlotState s = slots[slot];
+        return !s.deltasOverflowed
+                && (s.latest.containsKey(MessageType.BOARD_FULL_SYNC) || s.latest.containsKey(MessageType.BOARD_STATE));
+    }
+
+    public synchronized int keyframeSize(int slot) {
+        SlotState s = slots[slot];
+        return s.latest.size() + s.deltas.size();
+    }
+
+    public synchronized long getPublished() {
+        return published;
+    }
+
+    /** 인코딩 횟수 (관전자 수와 무관하게 메시지당 1번) */
+    public synchronized long getEncoded() {
+        return encoded;
+    }
+
+    public synchronized long getFannedOut() {
+        return fannedOut;
+    }
+}
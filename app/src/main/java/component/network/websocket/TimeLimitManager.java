@@ -1,22 +1,26 @@
 package component.network.websocket;
 
+import component.metrics.PerfMonitor;
 import javax.swing.*;
 import java.awt.*;
 
 /**
  * 타임 리밋 모드 관리자
  * - 제한 시간 카운트다운
- * - 서버 시간 기준 동기화
+ * - 서버 시간 기준 동기화 (공유 MatchClock, 단조 시계)
  * - 타임아웃 시 승부 결정
+ * - 표시는 100ms 주기, 종료는 남은 시간에 맞춘 단발 타이머 → 양쪽 종료 시각 오차 수 ms
  */
 public class TimeLimitManager {
     
     private final JLabel timerLabel;
     private final GameClient client;
     private final boolean isServer;
+    private final MatchClock clock;
     
     private Timer countdownTimer;
-    private long startTime;
+    private Timer deadlineTimer; // 정확한 종료 시각용 단발 타이머
+    private long startTime; // 매치 시계 ms (0 = 서버 시작 시각 대기 중)
     private long limitMillis;
     private boolean isRunning;
     private Runnable onTimeoutCallback;
@@ -25,9 +29,15 @@ public class TimeLimitManager {
     public static final long DEFAULT_LIMIT_SECONDS = 180;
     
     public TimeLimitManager(JLabel timerLabel, GameClient client, boolean isServer) {
+        this(timerLabel, client, isServer,
+                client != null && client.getMatchClock() != null ? client.getMatchClock() : new MatchClock());
+    }
+
+    public TimeLimitManager(JLabel timerLabel, GameClient client, boolean isServer, MatchClock clock) {
         this.timerLabel = timerLabel;
         this.client = client;
         this.isServer = isServer;
+        this.clock = clock;
         this.isRunning = false;
     }
     
@@ -43,20 +53,24 @@ public class TimeLimitManager {
         
         if (isServer) {
             // 서버는 현재 시간을 기준으로 시작
-            this.startTime = System.currentTimeMillis();
+            this.startTime = clock.nowMillis();
             
             // 클라이언트에게 시작 시간 전송
             client.send(new Message(MessageType.TIME_LIMIT_START, startTime));
         }
         
-        startCountdown();
+        // 클라이언트는 서버 시작 시각(syncStart)을 받은 뒤에 카운트다운 시작
+        // (먼저 도착했으면 바로 시작)
+        if (startTime > 0) {
+            startCountdown();
+        }
     }
     
     /**
      * 클라이언트가 서버로부터 받은 시작 시간으로 동기화
      */
     public void syncStart(long serverStartTime, long limitSeconds) {
-        this.startTime = serverStartTime;
+        this.startTime = serverStartTime; // 서버 매치 시계 ms
         this.limitMillis = limitSeconds * 1000;
         this.isRunning = true;
         
@@ -71,13 +85,12 @@ public class TimeLimitManager {
             countdownTimer.stop();
         }
         
-        countdownTimer = new Timer(100, e -> {
+        countdownTimer = PerfMonitor.timer(100, e -> {
             if (!isRunning) {
                 return;
             }
             
-            long elapsed = System.currentTimeMillis() - startTime;
-            long remaining = limitMillis - elapsed;
+            long remaining = limitMillis - (clock.nowMillis() - startTime);
             
             if (remaining <= 0) {
                 onTimeout();
@@ -87,6 +100,24 @@ public class TimeLimitManager {
         });
         
         countdownTimer.start();
+        scheduleDeadline();
+    }
+
+    /**
+     * 남은 시간만큼 뒤에 한 번 울리는 타이머 (100ms 표시 주기와 무관하게 정확히 종료)
+     */
+    private void scheduleDeadline() {
+        if (deadlineTimer != null) {
+            deadlineTimer.stop();
+        }
+        long remaining = limitMillis - (clock.nowMillis() - startTime);
+        deadlineTimer = PerfMonitor.timer((int) Math.max(0, remaining), e -> {
+            if (isRunning) {
+                onTimeout();
+            }
+        });
+        deadlineTimer.setRepeats(false);
+        deadlineTimer.start();
     }
 
     
@@ -120,10 +151,14 @@ public class TimeLimitManager {
      */
     private void onTimeout() {
         isRunning = false;
+        startTime = 0; // 다음 매치는 새 시작 시각을 기다림
         
         if (countdownTimer != null) {
             countdownTimer.stop();
         }
+        if (deadlineTimer != null) {
+            deadlineTimer.stop();
+        }
         
         SwingUtilities.invokeLater(() -> {
             timerLabel.setText("Time: 00:00");
@@ -140,10 +175,14 @@ public class TimeLimitManager {
      */
     public void stop() {
         isRunning = false;
+        startTime = 0;
         
         if (countdownTimer != null && countdownTimer.isRunning()) {
             countdownTimer.stop();
         }
+        if (deadlineTimer != null) {
+            deadlineTimer.stop();
+        }
         
         SwingUtilities.invokeLater(() -> {
             timerLabel.setText("");
@@ -167,6 +206,9 @@ public class TimeLimitManager {
         if (countdownTimer != null && countdownTimer.isRunning()) {
             countdownTimer.stop();
         }
+        if (deadlineTimer != null) {
+            deadlineTimer.stop();
+        }
     }
     
     /**
@@ -175,6 +217,7 @@ public class TimeLimitManager {
     public void resume() {
         if (isRunning && countdownTimer != null) {
             countdownTimer.start();
+            scheduleDeadline();
         }
     }
     
@@ -185,13 +228,25 @@ public class TimeLimitManager {
         if (!isRunning) {
             return 0;
         }
+        if (startTime == 0) {
+            return limitMillis; // 서버 시작 시각 대기 중
+        }
         
-        long elapsed = System.currentTimeMillis() - startTime;
+        long elapsed = clock.nowMillis() - startTime;
         long remaining = limitMillis - elapsed;
         
         return Math.max(0, remaining);
     }
     
+    /**
+     * 예약된 종료 타이머의 지연 (밀리초, 테스트용)
+     * - 표시 주기(100ms)와 무관하게 남은 시간 그대로 예약되는지 확인
+     * @return 종료 타이머가 없으면 -1
+     */
+    int getDeadlineDelay() {
+        return deadlineTimer != null ? deadlineTimer.getInitialDelay() : -1;
+    }
+
     /**
      * 타이머 실행 중인지 확인
      */
@@ -205,6 +260,7 @@ public class TimeLimitManager {
     public void cleanup() {
         stop();
         countdownTimer = null;
+        deadlineTimer = null;
         onTimeoutCallback = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package component.network.websocket;
+
+/**
+ * TokenBucket - 초당 perSec 개씩 충전, 최대 burst 개까지 모아 쓰는 속도 제한
+ * --------------------
+ * - 시각(ns)을 받아서 계산 → 테스트에서 시간을 직접 지정 가능
+ * - 동기화 없음 (세션별로 하나, 호출측이 보호)
+ */
+final class TokenBucket {
+
+    private final double perNano;
+    private final double capacity;
+    private double tokens;
+    private long last;
+
+    TokenBucket(double perSec, int burst, long nowNanos) {
+        this.perNano = perSec / 1e9;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.last = nowNanos;
+    }
+
+    TokenBucket(RelayLimits.Rate rate, long nowNanos) {
+        this(rate.perSec, rate.burst, nowNanos);
+    }
+
+    /** 토큰 하나 사용 (없으면 false) */
+    boolean tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens < 1)
+            return false;
+        tokens -= 1;
+        return true;
+    }
+
+    /** 앞서 사용한 토큰 되돌림 (다른 한도에 걸려 실제로는 안 보낸 경우) */
+    void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    double available(long nowNanos) {
+        refill(nowNanos);
+        return tokens;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - last;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * perNano);
+            last = nowNanos;
+        }
+    }
+}
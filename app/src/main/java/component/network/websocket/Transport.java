@@ -0,0 +1,83 @@
+package component.network.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Transport - GameClient 아래의 전송 계층
+ * --------------------
+ * - WebSocketTransport: 실제 소켓 (원격 상대 / 원격 서버)
+ * - LoopbackTransport: 같은 JVM 의 서버 릴레이로 바로 전달 (호스트)
+ * GameClient 는 전송 방식과 무관하게 Listener 콜백으로 수신 처리
+ */
+public interface Transport {
+
+    /** 전송 계층 이벤트 (GameClient 가 구현) */
+    interface Listener {
+        void onOpen();
+
+        /** 직렬화된 메시지 수신 (receivedAt = MatchClock.localNanos, 파싱 전 시각) */
+        void onText(String json, long receivedAt);
+
+        /** 프로토콜 pong (payload = ping 송신 nanoTime) */
+        void onPong(ByteBuffer payload);
+
+        void onClose();
+
+        void onError(Throwable t);
+
+        /** 재접속 후 세션 재개 결과 (complete=false 면 놓친 메시지가 있어 전체 동기화 필요) */
+        default void onResumed(boolean complete) {
+        }
+    }
+
+    void setListener(Listener listener);
+
+    void connect(String uri) throws Exception;
+
+    /** 호출 스레드를 막지 않는 접속 (기본: 백그라운드에서 connect) */
+    default CompletableFuture<Void> connectAsync(String uri) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                connect(uri);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /** 메시지 전송 (직렬화 여부는 구현에 따라 다름) */
+    void send(Message msg);
+
+    /** RTT 측정용 ping */
+    void sendPing();
+
+    void close();
+
+    /** 연결이 갑자기 끊긴 것처럼 닫기 (네트워크 장애 재현, 재개 가능한 상태 유지) */
+    default void drop() {
+        close();
+    }
+
+    /** 끊긴 연결 다시 잇기 (재개를 지원하면 놓친 메시지만 이어받음) */
+    default void reconnect(String uri) throws Exception {
+        close();
+        connect(uri);
+    }
+
+    boolean isOpen();
+
+    /** 소켓 송신 큐 (없는 전송 방식이면 null) */
+    default OutboundQueue getOutboundQueue() {
+        return null;
+    }
+
+    /** 송신 큐에서 보드 델타가 버려졌을 때 콜백 */
+    default void setOnBoardDropped(Runnable callback) {
+    }
+
+    /** 송신 계측 (소켓이 없는 전송 방식은 무시) */
+    default void setWireMetrics(WireMetrics metrics) {
+    }
+}
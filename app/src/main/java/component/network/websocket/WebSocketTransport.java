@@ -0,0 +1,355 @@
+package component.network.websocket;
+
+import javax.websocket.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocketTransport - Tyrus WebSocket 기반 전송
+ * --------------------
+ * - 원격 서버 / 원격 상대와의 실제 소켓 연결
+ * - 송신은 OutboundQueue (한 번에 하나만 전송 중, 병합 / 드롭 정책)
+ * - 세션 재개: 서버가 준 토큰 + 마지막으로 받은 seq 로 재접속 → 양쪽 모두 놓친 메시지만 재전송
+ */
+@ClientEndpoint
+public class WebSocketTransport implements Transport {
+
+    private Session session;
+    private volatile OutboundQueue outbound;
+    private Runnable onBoardDropped;
+    private volatile WireMetrics metrics;
+    private Listener listener;
+
+    // 세션 재개
+    private final ReplayBuffer sentBuffer = new ReplayBuffer(); // 보낸 메시지 (서버가 못 받았으면 재전송)
+    private volatile String resumeToken; // 서버가 발급 (첫 접속 전엔 null)
+    private long outSeq = 0; // 마지막으로 붙인 송신 seq
+    private long lastSeen = 0; // 마지막으로 받은 서버 seq
+    private long openSeq = 0; // 이번 연결이 열릴 때의 outSeq
+    private boolean ready = false; // false: 재접속 후 SESSION_INFO 대기 중 (보관만)
+
+    private volatile ConnectionRacer.Timing lastConnectTiming;
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void connect(String uri) throws Exception {
+        try {
+            connectAsync(uri).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * 비동기 접속: DNS → 후보 주소 TCP 경주 → WebSocket 핸드셰이크 (전체 ConnectionRacer.DEFAULT_BUDGET_MS 안에서)
+     * - 호출 스레드를 막지 않음 (EDT 에서 불러도 됨)
+     * - 핸드셰이크 URI 는 호스트 이름을 유지 (wss 는 TCP 경주 없이 바로 핸드셰이크)
+     * - 끝나면 단계별 시간을 getLastConnectTiming() 으로 확인
+     */
+    @Override
+    public CompletableFuture<Void> connectAsync(String uri) {
+        // URL 정리 (혹시 모를 공백/특수문자 제거) + 세션 재개 파라미터
+        String target;
+        synchronized (this) {
+            target = RoomRegistry.withResume(uri.trim(), resumeToken, lastSeen);
+        }
+        System.out.println("[Client] Connecting to: " + target);
+
+        URI parsed;
+        try {
+            parsed = URI.create(target);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long budget = ConnectionRacer.DEFAULT_BUDGET_MS;
+        return ConnectionRacer.race(parsed, budget).thenCompose(race -> {
+            long remaining = race.remainingMs(budget);
+            long handshakeStart = System.nanoTime();
+            return ConnectionRacer.supply(() -> {
+                try {
+                    WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+                    container.setDefaultMaxSessionIdleTimeout(30000);
+                    return container.connectToServer(this, race.uri);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }).orTimeout(Math.max(1, remaining), TimeUnit.MILLISECONDS).thenAccept(opened -> {
+                lastConnectTiming = race.finish(handshakeStart);
+                System.out.println("[Client] ✓ Connected in " + lastConnectTiming);
+            });
+        }).whenComplete((ok, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                System.err.println("[Client] ✗ Connection failed: " + cause.getClass().getSimpleName()
+                        + (cause.getMessage() != null ? " - " + cause.getMessage() : ""));
+            }
+        });
+    }
+
+    /** 마지막으로 성공한 접속의 단계별 시간 (없으면 null) */
+    public ConnectionRacer.Timing getLastConnectTiming() {
+        return lastConnectTiming;
+    }
+
+    @Override
+    public void setWireMetrics(WireMetrics metrics) {
+        this.metrics = metrics;
+        OutboundQueue q = outbound;
+        if (q != null) {
+            q.setWireMetrics(metrics);
+        }
+    }
+
+    @Override
+    public void setOnBoardDropped(Runnable callback) {
+        this.onBoardDropped = callback;
+        OutboundQueue q = outbound;
+        if (q != null) {
+            q.setOnBoardDropped(callback);
+        }
+    }
+
+    /**
+     * 재접속: 이전 소켓은 재개 가능한 종료(GOING_AWAY)로 닫고 토큰을 들고 다시 접속
+     * - 서버는 유예 시간 동안 슬롯 / 메시지를 보관하고 있음
+     */
+    @Override
+    public void reconnect(String uri) throws Exception {
+        Session s = session;
+        if (s != null && s.isOpen()) {
+            try {
+                s.close(new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "resume"));
+            } catch (IOException e) {
+                System.err.println("[Client] Error closing for resume: " + e.getMessage());
+            }
+        }
+        connect(uri);
+    }
+
+    /** 비정상 종료 흉내 (재개 토큰 / 보낸 메시지 유지 → 서버도 세션을 보관) */
+    @Override
+    public void drop() {
+        Session s = session;
+        if (s != null && s.isOpen()) {
+            try {
+                s.close(new CloseReason(CloseReason.CloseCodes.GOING_AWAY, "dropped"));
+            } catch (IOException e) {
+                System.err.println("[Client] Error dropping connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /** 정상 종료 (재개하지 않음) */
+    @Override
+    public void close() {
+        synchronized (this) {
+            resumeToken = null;
+            sentBuffer.clear();
+            lastSeen = 0;
+        }
+        if (session != null && session.isOpen()) {
+            try {
+                session.close();
+                System.out.println("[Client] Disconnected gracefully.");
+            } catch (IOException e) {
+                System.err.println("[Client] Error during disconnect: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @OnOpen
+    public void onOpen(Session session) {
+        OutboundQueue q = new OutboundQueue(session.getAsyncRemote());
+        q.setOnBoardDropped(onBoardDropped);
+        // 중요한 메시지만으로 넘침 → 끊고 재접속 (보관한 메시지는 세션 재개로 재전송)
+        q.setOnOverflow(() -> RelayGuard.closeAsync(session, CloseReason.CloseCodes.TRY_AGAIN_LATER,
+                "outbound overflow"));
+        q.setWireMetrics(metrics);
+        synchronized (this) {
+            this.session = session;
+            this.outbound = q;
+            this.openSeq = outSeq;
+            this.ready = resumeToken == null; // 재접속이면 서버가 받은 위치(SESSION_INFO)를 알 때까지 보관만
+        }
+        System.out.println("[Client] Connected to server: " + session.getId());
+        System.out.println("[Client] Session max idle timeout: " + session.getMaxIdleTimeout());
+
+        if (listener != null) {
+            listener.onOpen();
+        }
+    }
+
+    @OnMessage
+    public void onMessage(String msg) {
+        long receivedAt = MatchClock.localNanos(); // 파싱 전에 기록 (시계 동기화 정확도)
+        MessageType type = OutboundQueue.peekType(msg);
+        if (type == MessageType.SESSION_INFO) {
+            onSessionInfo(msg);
+            return;
+        }
+        if (ReplayBuffer.isReplayable(type)) {
+            long seq = ReplayBuffer.seqOf(msg);
+            synchronized (this) {
+                if (seq > 0 && seq <= lastSeen)
+                    return; // 재전송 중복
+                if (seq > 0)
+                    lastSeen = seq;
+            }
+        }
+        if (listener != null) {
+            listener.onText(msg, receivedAt);
+        }
+    }
+
+    // 세션 토큰 저장 / 재접속이면 서버가 못 받은 메시지 재전송
+    private void onSessionInfo(String json) {
+        Message m = WebSocketUtil.fromJson(json, Message.class);
+        ResumableSession.Info info = WebSocketUtil.fromJson(m.data, ResumableSession.Info.class);
+        boolean reconnect;
+        boolean complete;
+        synchronized (this) {
+            reconnect = !ready;
+            resumeToken = info.token;
+            List<String> replay = null;
+            complete = info.resumed && info.complete;
+            if (info.resumed) {
+                replay = sentBuffer.since(info.ackSeq);
+                if (replay == null) {
+                    complete = false; // 끊긴 사이에 보낸 게 너무 많음
+                }
+            } else {
+                lastSeen = 0; // 새 세션 (토큰 만료 등) → 서버 seq 처음부터
+            }
+            if (replay == null) {
+                replay = sentBuffer.since(openSeq); // 최소한 재접속 후에 보낸 것은 전달
+            }
+            OutboundQueue q = outbound;
+            if (reconnect && q != null && replay != null) {
+                for (String text : replay) {
+                    q.offer(OutboundQueue.peekType(text), text);
+                }
+            }
+            ready = true;
+            if (reconnect) {
+                System.out.println("[Client] Session " + (info.resumed ? "resumed" : "restarted")
+                        + " (resent " + (replay == null ? 0 : replay.size()) + ", complete=" + complete + ")");
+            }
+        }
+        if (reconnect && listener != null) {
+            listener.onResumed(complete);
+        }
+    }
+
+    /** 프로토콜 pong 프레임 */
+    @OnMessage
+    public void onPong(PongMessage pong) {
+        if (listener != null) {
+            listener.onPong(pong.getApplicationData());
+        }
+    }
+
+    @OnClose
+    public void onClose(Session closed) {
+        System.out.println("[Client] Disconnected from server.");
+        synchronized (this) {
+            if (session != closed && session != null)
+                return; // 재접속으로 이미 교체된 이전 소켓
+            this.session = null;
+        }
+        OutboundQueue q = outbound;
+        if (q != null) {
+            q.clear();
+        }
+        if (listener != null) {
+            listener.onClose();
+        }
+    }
+
+    @OnError
+    public void onError(Throwable t) {
+        System.err.println("[Client] Error occurred!");
+        System.err.println("[Client] Error type: " + t.getClass().getName());
+        System.err.println("[Client] Error message: " + t.getMessage());
+        t.printStackTrace();
+        if (listener != null) {
+            listener.onError(t);
+        }
+    }
+
+    @Override
+    public void send(Message msg) {
+        if (!ReplayBuffer.isReplayable(msg.type)) {
+            // 핑 / 시계 동기화: seq 없이 바로 (지난 것은 재전송하지 않음)
+            OutboundQueue q = outbound;
+            if (session != null && session.isOpen() && q != null) {
+                q.offer(msg.type, WebSocketUtil.toJson(msg));
+            }
+            return;
+        }
+
+        synchronized (this) {
+            // seq 를 붙여 보관 → 끊긴 사이에 보낸 것도 재접속 때 전달
+            msg.seq = ++outSeq;
+            String json = WebSocketUtil.toJson(msg);
+            sentBuffer.add(msg.seq, json);
+            // System.out.println("[Client] Sending: " + json.substring(0, Math.min(100,
+            // json.length())));
+
+            OutboundQueue q = outbound;
+            if (ready && session != null && session.isOpen() && q != null) {
+                q.offer(msg.type, json);
+            } else if (resumeToken == null) {
+                System.err.println("[Client] Cannot send - session is null or closed!");
+            }
+        }
+    }
+
+    /**
+     * 프로토콜 ping 전송 (서버가 자동으로 pong 응답 → JSON 파싱 / 상대 처리 지연이 RTT 에 섞이지 않음)
+     */
+    @Override
+    public void sendPing() {
+        Session s = session;
+        if (s == null || !s.isOpen())
+            return;
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES);
+        payload.putLong(System.nanoTime()).flip();
+        try {
+            s.getAsyncRemote().sendPing(payload);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[Client] Ping failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return session != null && session.isOpen();
+    }
+
+    @Override
+    public OutboundQueue getOutboundQueue() {
+        return outbound;
+    }
+
+    /** 서버가 발급한 재개 토큰 (없으면 null) */
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    public synchronized long getLastSeenSeq() {
+        return lastSeen;
+    }
+}
@@ -34,6 +34,11 @@ public class WebSocketUtil {
             })
             .create();
 
+    /** 공유 Gson (TypeAdapter 를 미리 꺼내 쓰는 곳용) */
+    static Gson gson() {
+        return gson;
+    }
+
     public static String toJson(Object obj) {
         return gson.toJson(obj);
     }
@@ -0,0 +1,291 @@
+package component.network.websocket;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.GsonBuilder;
+
+import component.metrics.LatencyHistogram;
+
+/**
+ * WireMetrics - MessageType 별 실제 송수신 계측
+ * --------------------
+ * - 송신: 인코딩된 바이트 수 (UTF-8) / 개수 / 실패 / 전송 완료 지연 (sendText → 완료 콜백)
+ * - 수신: 바이트 수 / 개수 / 수신 → 디스패치 지연 (프레임 도착 → 파싱 후 핸들러 호출)
+ * - 지연은 LatencyHistogram (p50 / p99 / max), 카운터는 락 없음
+ * - 디버그 오버레이 문자열 + JSON 덤프 파일
+ * - parent 가 있으면 같은 값을 상위 계측에도 기록 (방별 계측 → 서버 전체 합계)
+ */
+public class WireMetrics {
+
+    /** 타입 하나의 계측값 */
+    public static class TypeStats {
+        final AtomicLong sentCount = new AtomicLong();
+        final AtomicLong sentBytes = new AtomicLong();
+        final AtomicLong sendFailed = new AtomicLong();
+        final AtomicLong receivedCount = new AtomicLong();
+        final AtomicLong receivedBytes = new AtomicLong();
+        final LatencyHistogram sendLatency = new LatencyHistogram();
+        final LatencyHistogram dispatchLatency = new LatencyHistogram();
+
+        void reset() {
+            sentCount.set(0);
+            sentBytes.set(0);
+            sendFailed.set(0);
+            receivedCount.set(0);
+            receivedBytes.set(0);
+            sendLatency.reset();
+            dispatchLatency.reset();
+        }
+
+        long totalBytes() {
+            return sentBytes.get() + receivedBytes.get();
+        }
+
+        public LatencyHistogram getSendLatency() {
+            return sendLatency;
+        }
+
+        public LatencyHistogram getDispatchLatency() {
+            return dispatchLatency;
+        }
+    }
+
+    /** 덤프 파일 (Gson) */
+    public static class Report {
+        public String name;
+        public double elapsedSeconds;
+        public long sentBytes;
+        public long receivedBytes;
+        public List<TypeReport> types = new ArrayList<>();
+
+        public Report() {
+        }
+    }
+
+    public static class TypeReport {
+        public String type;
+        public long sentCount;
+        public long sentBytes;
+        public long avgSentBytes;
+        public long sendFailed;
+        public double sendP50Us;
+        public double sendP99Us;
+        public double sendMaxUs;
+        public long receivedCount;
+        public long receivedBytes;
+        public double dispatchP50Us;
+        public double dispatchP99Us;
+        public double dispatchMaxUs;
+        public double txBytesPerSec;
+        public double rxBytesPerSec;
+
+        public TypeReport() {
+        }
+    }
+
+    private final String name;
+    private final Map<MessageType, TypeStats> byType = new EnumMap<>(MessageType.class);
+    private final TypeStats unknown = new TypeStats(); // 타입을 못 읽은 메시지
+    private volatile long startNanos = System.nanoTime();
+
+    private final WireMetrics parent;
+
+    public WireMetrics(String name) {
+        this(name, null);
+    }
+
+    public WireMetrics(String name, WireMetrics parent) {
+        this.name = name;
+        this.parent = parent;
+        // 미리 다 만들어 두면 이후엔 읽기만 → 동시 접근에 락 불필요
+        for (MessageType t : MessageType.values()) {
+            byType.put(t, new TypeStats());
+        }
+    }
+
+    public TypeStats stats(MessageType type) {
+        return type == null ? unknown : byType.get(type);
+    }
+
+    /** 전송 완료 (completionNanos = 소켓에 넘긴 시점부터 완료 콜백까지) */
+    public void recordSent(MessageType type, int bytes, long completionNanos, boolean ok) {
+        if (parent != null)
+            parent.recordSent(type, bytes, completionNanos, ok);
+        TypeStats s = stats(type);
+        if (!ok) {
+            s.sendFailed.incrementAndGet();
+            return;
+        }
+        s.sentCount.incrementAndGet();
+        s.sentBytes.addAndGet(bytes);
+        s.sendLatency.record(completionNanos);
+    }
+
+    /** 수신 (dispatchNanos = 프레임 도착부터 핸들러로 넘기기까지) */
+    public void recordReceived(MessageType type, int bytes, long dispatchNanos) {
+        if (parent != null)
+            parent.recordReceived(type, bytes, dispatchNanos);
+        TypeStats s = stats(type);
+        s.receivedCount.incrementAndGet();
+        s.receivedBytes.addAndGet(bytes);
+        s.dispatchLatency.record(dispatchNanos);
+    }
+
+    /** 문자열의 UTF-8 바이트 수 (getBytes 로 배열을 만들지 않고 계산) */
+    public static int utf8Length(CharSequence s) {
+        int n = s.length();
+        int bytes = n;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80)
+                continue;
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 2; // 서로게이트 쌍 = 4바이트
+                i++;
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    public long getSentBytes(MessageType type) {
+        return stats(type).sentBytes.get();
+    }
+
+    public long getSentCount(MessageType type) {
+        return stats(type).sentCount.get();
+    }
+
+    public long getReceivedBytes(MessageType type) {
+        return stats(type).receivedBytes.get();
+    }
+
+    public long getReceivedCount(MessageType type) {
+        return stats(type).receivedCount.get();
+    }
+
+    public long getTotalSentBytes() {
+        long total = unknown.sentBytes.get();
+        for (TypeStats s : byType.values()) {
+            total += s.sentBytes.get();
+        }
+        return total;
+    }
+
+    public long getTotalReceivedBytes() {
+        long total = unknown.receivedBytes.get();
+        for (TypeStats s : byType.values()) {
+            total += s.receivedBytes.get();
+        }
+        return total;
+    }
+
+    public double getElapsedSeconds() {
+        return Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    public void reset() {
+        for (TypeStats s : byType.values()) {
+            s.reset();
+        }
+        unknown.reset();
+        startNanos = System.nanoTime();
+    }
+
+    // ===============================
+    // 보고
+    // ===============================
+
+    public Report report() {
+        double elapsed = getElapsedSeconds();
+        Report r = new Report();
+        r.name = name;
+        r.elapsedSeconds = elapsed;
+        r.sentBytes = getTotalSentBytes();
+        r.receivedBytes = getTotalReceivedBytes();
+
+        List<Map.Entry<String, TypeStats>> entries = new ArrayList<>();
+        for (Map.Entry<MessageType, TypeStats> e : byType.entrySet()) {
+            entries.add(Map.entry(e.getKey().name(), e.getValue()));
+        }
+        entries.add(Map.entry("UNKNOWN", unknown));
+
+        for (Map.Entry<String, TypeStats> e : entries) {
+            TypeStats s = e.getValue();
+            if (s.sentCount.get() == 0 && s.receivedCount.get() == 0 && s.sendFailed.get() == 0)
+                continue;
+            TypeReport t = new TypeReport();
+            t.type = e.getKey();
+            t.sentCount = s.sentCount.get();
+            t.sentBytes = s.sentBytes.get();
+            t.avgSentBytes = t.sentCount == 0 ? 0 : t.sentBytes / t.sentCount;
+            t.sendFailed = s.sendFailed.get();
+            t.sendP50Us = s.sendLatency.percentile(0.50) / 1000.0;
+            t.sendP99Us = s.sendLatency.percentile(0.99) / 1000.0;
+            t.sendMaxUs = s.sendLatency.max() / 1000.0;
+            t.receivedCount = s.receivedCount.get();
+            t.receivedBytes = s.receivedBytes.get();
+            t.dispatchP50Us = s.dispatchLatency.percentile(0.50) / 1000.0;
+            t.dispatchP99Us = s.dispatchLatency.percentile(0.99) / 1000.0;
+            t.dispatchMaxUs = s.dispatchLatency.max() / 1000.0;
+            t.txBytesPerSec = t.sentBytes / elapsed;
+            t.rxBytesPerSec = t.receivedBytes / elapsed;
+            r.types.add(t);
+        }
+        // 대역폭을 많이 쓰는 순서
+        r.types.sort(Comparator.comparingLong((TypeReport t) -> t.sentBytes + t.receivedBytes).reversed());
+        return r;
+    }
+
+    /**
+     * 디버그 오버레이용 줄 목록 (바이트가 많은 타입부터 maxTypes 개)
+     */
+    public List<String> overlayLines(int maxTypes) {
+        Report r = report();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%s  tx %s (%.1f KB/s)  rx %s (%.1f KB/s)", name,
+                formatBytes(r.sentBytes), r.sentBytes / 1024.0 / r.elapsedSeconds,
+                formatBytes(r.receivedBytes), r.receivedBytes / 1024.0 / r.elapsedSeconds));
+        lines.add(String.format("%-22s %6s %8s %6s %8s %15s %15s", "type", "tx#", "txB", "rx#", "rxB",
+                "send p50/p99ms", "disp p50/p99ms"));
+        for (int i = 0; i < Math.min(maxTypes, r.types.size()); i++) {
+            TypeReport t = r.types.get(i);
+            lines.add(String.format("%-22s %6d %8s %6d %8s %7.2f/%-7.2f %7.2f/%-7.2f", t.type,
+                    t.sentCount, formatBytes(t.sentBytes), t.receivedCount, formatBytes(t.receivedBytes),
+                    t.sendP50Us / 1000.0, t.sendP99Us / 1000.0, t.dispatchP50Us / 1000.0, t.dispatchP99Us / 1000.0));
+        }
+        return lines;
+    }
+
+    /** JSON 덤프 파일 작성 */
+    public Path dump(Path path) throws IOException {
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(report());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, json);
+        System.out.println("[WIRE] Metrics written to " + path.toAbsolutePath());
+        return path;
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1fK", bytes / 1024.0);
+        } else {
+            return String.format("%.1fM", bytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package component.network.websocket;
+
+import component.metrics.PerfMonitor;
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * WireMetricsOverlay - 타입별 송수신 계측 디버그 오버레이 (F3)
+ * --------------------
+ * - 창의 LayeredPane(POPUP_LAYER) 왼쪽 위에 반투명 박스로 표시
+ * - 보이는 동안만 0.5초마다 갱신 (Swing Timer)
+ * - 마우스 리스너가 없어서 아래 게임 화면 입력을 가로채지 않음
+ * - 파일 덤프는 Shift+F3 (NetworkManager.dumpWireMetrics) 로 요청할 때만
+ */
+public class WireMetricsOverlay extends JComponent {
+
+    private static final int REFRESH_MS = 500;
+    private static final int PAD = 8;
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+
+    private final Supplier<List<String>> source;
+    private final Timer refreshTimer;
+    private List<String> lines = List.of();
+
+    public WireMetricsOverlay(Supplier<List<String>> source) {
+        this.source = source;
+        setOpaque(false);
+        setVisible(false);
+        refreshTimer = PerfMonitor.timer(REFRESH_MS, e -> refresh());
+    }
+
+    /** 표시 / 숨김 전환 (처음 표시할 때 창에 붙임) */
+    public void toggle(JComponent anchor) {
+        if (getParent() == null) {
+            JRootPane root = SwingUtilities.getRootPane(anchor);
+            if (root == null)
+                return;
+            root.getLayeredPane().add(this, JLayeredPane.POPUP_LAYER);
+        }
+        boolean show = !isVisible();
+        setVisible(show);
+        if (show) {
+            refresh();
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+    }
+
+    private void refresh() {
+        lines = source.get();
+        FontMetrics fm = getFontMetrics(FONT);
+        int w = 0;
+        for (String line : lines) {
+            w = Math.max(w, fm.stringWidth(line));
+        }
+        setBounds(10, 10, w + PAD * 2, lines.size() * fm.getHeight() + PAD * 2);
+        repaint();
+    }
+
+    public void dispose() {
+        refreshTimer.stop();
+        Container parent = getParent();
+        if (parent != null) {
+            parent.remove(this);
+            parent.repaint();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setColor(new Color(0, 0, 0, 190));
+        g2.fillRoundRect(0, 0, getWidth(), getHeight(), 8, 8);
+        g2.setFont(FONT);
+        FontMetrics fm = g2.getFontMetrics();
+        int y = PAD + fm.getAscent();
+        for (String line : lines) {
+            boolean header = line.contains("KB/s"); // 계측 묶음의 요약 줄
+            g2.setColor(header ? new Color(150, 200, 255) : new Color(220, 220, 220));
+            g2.drawString(line, PAD, y);
+            y += fm.getHeight();
+        }
+        g2.dispose();
+    }
+}
@@ -8,7 +8,6 @@ import java.awt.FontMetrics;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Polygon;
 import java.awt.RenderingHints;
 import java.util.List;
 
@@ -16,6 +15,7 @@ import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
 import blocks.Block;
+import component.CellSpriteAtlas;
 import component.ColorBlindPalette;
 import component.items.ColorBombItem;
 import component.items.ItemBlock;
@@ -29,6 +29,7 @@ public class NextBlockPanel extends JPanel {
     private Block block;    // maintained
     private final int box;
     private ColorBlindPalette.Mode colorMode = ColorBlindPalette.Mode.NORMAL;
+    private final CellSpriteAtlas sprites = new CellSpriteAtlas();
     // 배경/테두리 색 통일용 상수 
     private static final Color BG_NEXT     = new Color(0x191E28); 
     private static final Color BORDER_NEXT = new Color(0x303540); 
@@ -139,8 +140,9 @@ public class NextBlockPanel extends JPanel {
         int startX = innerX + (innerW - shapePixelW) / 2 - minX * cell;
         int startY = innerY + (innerH - shapePixelH) / 2 - minY * cell;
 
-        // 3) 그릴 때 (x,y)에 이 startX/startY 더해주기
-        Color color = ColorBlindPalette.convert(block.getColor(), colorMode);
+        // 3) 그릴 때 (x,y)에 이 startX/startY 더해주기 (색맹 변환은 스프라이트에서)
+        Color color = block.getColor();
+        sprites.prepare(g2, colorMode, cell);
 
         for (int by = 0; by < block.height(); by++) {
         for (int bx = 0; bx < block.width(); bx++) {
@@ -148,8 +150,8 @@ public class NextBlockPanel extends JPanel {
                 int px = startX + bx * cell;
                 int py = startY + by * cell;
 
-                // 1) 블럭 한 칸 그리기
-                drawCell(g2, px, py, cell, color);
+                // 1) 블럭 한 칸 그리기 (미리 그려둔 스프라이트)
+                sprites.drawBlock(g2, color, px, py);
 
                 // 2) 아이템 심볼 그리기
                 if (block instanceof LineClearItem lci) {
@@ -168,91 +170,6 @@ public class NextBlockPanel extends JPanel {
         g2.dispose();
     }
 
-    // NextBlockPanel 안에서 사용할 버전
-    private void drawCell(Graphics2D g2, int px, int py, int size, Color baseColor) {
-        // int px, py 는 이미 "픽셀" 좌표
-        // size 도 셀 크기 (cell) 그대로 사용
-
-        // 중앙 정사각형 inset 비율 (살짝 줄여서 더 단단한 느낌)
-        int inset = (int) (size * 0.22);
-        int innerX = px + inset;
-        int innerY = py + inset;
-        int innerSize = size - inset * 2;
-
-        // 🔹 색 계열: 대비를 확 줄여서 은은하게
-        Color topColor    = lighten(baseColor, 0.15f);
-        Color leftColor   = lighten(baseColor, 0.07f);
-        Color rightColor  = darken(baseColor, 0.12f);
-        Color bottomColor = darken(baseColor, 0.20f);
-        Color centerColor = darken(baseColor, 0.03f);
-
-        // ===== top facet =====
-        Polygon top = new Polygon();
-        top.addPoint(px,         py);
-        top.addPoint(px + size,  py);
-        top.addPoint(innerX + innerSize, innerY);
-        top.addPoint(innerX, innerY);
-        g2.setColor(topColor);
-        g2.fillPolygon(top);
-
-        // ===== bottom facet =====
-        Polygon bottom = new Polygon();
-        bottom.addPoint(innerX, innerY + innerSize);
-        bottom.addPoint(innerX + innerSize, innerY + innerSize);
-        bottom.addPoint(px + size, py + size);
-        bottom.addPoint(px,       py + size);
-        g2.setColor(bottomColor);
-        g2.fillPolygon(bottom);
-
-        // ===== left facet =====
-        Polygon left = new Polygon();
-        left.addPoint(px,       py);
-        left.addPoint(innerX,   innerY);
-        left.addPoint(innerX,   innerY + innerSize);
-        left.addPoint(px,       py + size);
-        g2.setColor(leftColor);
-        g2.fillPolygon(left);
-
-        // ===== right facet =====
-        Polygon right = new Polygon();
-        right.addPoint(innerX + innerSize, innerY);
-        right.addPoint(px + size,          py);
-        right.addPoint(px + size,          py + size);
-        right.addPoint(innerX + innerSize, innerY + innerSize);
-        g2.setColor(rightColor);
-        g2.fillPolygon(right);
-
-        // ===== 중앙 정사각형 =====
-        g2.setColor(centerColor);
-        g2.fillRect(innerX, innerY, innerSize, innerSize);
-
-        // 바깥 테두리도 살짝만
-        g2.setColor(new Color(0, 0, 0, 120));
-        g2.drawRect(px, py, size, size);
-    }
-
-    // 색 더 밝게
-    private Color lighten(Color c, float amount) {
-        float r = c.getRed() / 255f;
-        float g = c.getGreen() / 255f;
-        float b = c.getBlue() / 255f;
-        r = Math.min(1f, r + amount);
-        g = Math.min(1f, g + amount);
-        b = Math.min(1f, b + amount);
-        return new Color(r, g, b);
-    }
-
-    // 색 더 어둡게
-    private Color darken(Color c, float amount) {
-        float r = c.getRed() / 255f;
-        float g = c.getGreen() / 255f;
-        float b = c.getBlue() / 255f;
-        r = Math.max(0f, r - amount);
-        g = Math.max(0f, g - amount);
-        b = Math.max(0f, b - amount);
-        return new Color(r, g, b);
-    }
-
     /** Block 기반 렌더링 */
     private void drawBlock(Graphics2D g2, int cell, int offX, int offY) {
         int bw = block.width();
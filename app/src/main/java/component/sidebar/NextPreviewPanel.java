@@ -18,6 +18,7 @@ import javax.swing.JComponent;
 import javax.swing.JPanel;
 
 import blocks.Block;
+import component.CellSpriteAtlas;
 import component.ColorBlindPalette;
 import component.items.ItemBlock;
 import component.items.LineClearItem;
@@ -37,6 +38,7 @@ public class NextPreviewPanel extends JPanel {
     private final List<Block> blocks = new ArrayList<>();
 
     private ColorBlindPalette.Mode colorMode = ColorBlindPalette.Mode.NORMAL;
+    private final CellSpriteAtlas sprites = new CellSpriteAtlas();
 
     public void setColorMode(ColorBlindPalette.Mode mode) {
         System.out.println("[NextPreviewPanel] colorMode=" + mode);
@@ -77,6 +79,7 @@ public class NextPreviewPanel extends JPanel {
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
                 int blockSize = 22;
+                sprites.prepare(g2, colorMode, blockSize - 2);
                 int totalW = b.width() * blockSize;
                 int totalH = b.height() * blockSize;
                 int offX = (getWidth() - totalW) / 2;
@@ -92,16 +95,8 @@ public class NextPreviewPanel extends JPanel {
                             int y = offY + j * blockSize;
                             int s = blockSize - 2;
 
-                            Color base = ColorBlindPalette.convert(b.getColor(), colorMode);
-
-                            g2.setColor(base);
-                            g2.fillRoundRect(x, y, s, s, 4, 4);
-
-                            g2.setColor(new Color(255, 255, 255, 60));
-                            g2.fillRoundRect(x, y, s, s / 3, 4, 4);
-
-                            g2.setColor(new Color(0, 0, 0, 40));
-                            g2.fillRoundRect(x, y + (s * 2) / 3, s, s / 3, 4, 4);
+                            // 둥근 타일은 스프라이트로 한 번에
+                            sprites.drawTile(g2, b.getColor(), x, y);
 
                             // 각 칸마다 아이템 오버레이
                             if (b instanceof ItemBlock item) {
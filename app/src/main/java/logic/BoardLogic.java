@@ -2,15 +2,11 @@ package logic;
 
 import java.awt.Color;
 import java.awt.Point;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.swing.SwingUtilities;
@@ -24,6 +20,7 @@ import component.GameConfig.Difficulty;
 import component.SpeedManager;
 import component.items.ItemBlock;
 import component.GameSettings;
+import component.metrics.PerfMonitor;
 
 public class BoardLogic {
     private final SoundManager sound = SoundManager.getInstance();
@@ -31,12 +28,10 @@ public class BoardLogic {
     private static final int GRAVITY_ANIMATION_DELAY = 40;
     public static final int WIDTH = GameState.WIDTH;
     public static final int HEIGHT = GameState.HEIGHT;
-    private static final int MAX_GARBAGE = 10;
+    static final int MAX_GARBAGE = BoardRules.MAX_GARBAGE;
     private static final int ITEM_LINES_INTERVAL = 10; // 아이템 등장 주기 (누적 라인)
     private static final int LINES_PER_LEVEL = 10;
     private int deletedLinesTotal = 0;
-    private final boolean[] isGarbageRow = new boolean[HEIGHT];
-    private int garbageCount = 0;
 
     private Runnable pauseCallback;
     private Runnable resumeCallback;
@@ -80,10 +75,6 @@ public class BoardLogic {
     // 가비지 미리보기용 콜백 (각 줄을 boolean[WIDTH] 로 표현)
     private java.util.function.Consumer<List<boolean[]>> onGarbagePreviewChanged;
 
-    private final boolean[][] recentPlaced = new boolean[HEIGHT][WIDTH];
-
-    private final Queue<Integer> incomingGarbageQueue = new LinkedList<>();
-
     public int getShakeOffset() {
         return shakeOffset;
     }
@@ -92,7 +83,20 @@ public class BoardLogic {
         this.shakeOffset = offset;
     }
 
+    // 품질 단계가 낮으면 가비지 흔들림 생략 (BoardView 의 QualityGovernor 가 설정)
+    private volatile boolean shakeEnabled = true;
+
+    public void setShakeEnabled(boolean enabled) {
+        this.shakeEnabled = enabled;
+    }
+
+    public boolean isShakeEnabled() {
+        return shakeEnabled;
+    }
+
     private final GameState state = new GameState();
+    // 고정 / 줄 삭제 / 공격 마스크 / 클러스터 중력 / 가비지 규칙 (서버 HeadlessRules 와 공유)
+    private final BoardRules rules = new BoardRules(state.getPieceId(), state.getBoard(), state::allocatePieceId);
     private final BlockBag bag;
     private final Difficulty difficulty;
 
@@ -106,6 +110,7 @@ public class BoardLogic {
     private final Consumer<Integer> onGameOver;
     private Consumer<List<boolean[]>> onIncomingLinesChanged;
     private Runnable onFrameUpdate;
+    private java.util.function.IntConsumer onPlayerInput; // PlayerInput 비트 (온라인 입력 스트림용)
 
     private boolean gameOver = false;
     private int score = 0;
@@ -114,8 +119,6 @@ public class BoardLogic {
     private boolean itemMode = false;
     private int currentCellSize = 25; // 기본값
 
-    private static final Color GARBAGE_COLOR = new Color(80, 80, 80);
-
     private final LinkedList<Block> previewQueue = new LinkedList<>();
     private Consumer<List<Block>> onNextQueueUpdate;
     private boolean testMode = false;
@@ -163,10 +166,10 @@ public class BoardLogic {
         this.onGarbagePreviewChanged = cb;
     }
 
-    // ★ 현재 incomingGarbageQueue 를 미리보기용 boolean[] 리스트로 변환
+    // ★ 현재 가비지 대기열을 미리보기용 boolean[] 리스트로 변환
     private List<boolean[]> buildGarbagePreviewFromQueue() {
         List<boolean[]> preview = new ArrayList<>();
-        for (int mask : incomingGarbageQueue) {
+        for (int mask : rules.pendingGarbage()) {
             boolean[] row = new boolean[WIDTH];
             for (int x = 0; x < WIDTH; x++) {
                 row[x] = ((mask >> x) & 1) != 0; // 비트 1이면 블록, 0이면 구멍
@@ -178,7 +181,7 @@ public class BoardLogic {
 
     // ★ 큐가 바뀔 때마다 한 번씩 호출해 주면 됨
     private void fireGarbagePreviewChanged() {
-        System.out.println("[DEBUG] fireGarbagePreviewChanged called, queue size: " + incomingGarbageQueue.size());
+        System.out.println("[DEBUG] fireGarbagePreviewChanged called, queue size: " + rules.getPendingGarbage());
         if (onGarbagePreviewChanged != null) {
             List<boolean[]> preview = buildGarbagePreviewFromQueue();
             System.out.println("[DEBUG] Preview list size: " + preview.size());
@@ -217,6 +220,7 @@ public class BoardLogic {
         if (state.getCurr() == null) {
             return;
         }
+        firePlayerInput(PlayerInput.DOWN);
 
         if (move.canMove(state.getCurr(), state.getX(), state.getY() + 1)) {
             move.moveDown();
@@ -234,35 +238,10 @@ public class BoardLogic {
     // ============================================
     private void fixBlock() {
         var b = state.getCurr();
-        var board = state.getBoard();
         int id = state.allocatePieceId();
-        int[][] pid = state.getPieceId();
-
-        boolean blockOutOfBounds = false;
-
-        // recentPlaced 초기화
-        for (int yy = 0; yy < HEIGHT; yy++)
-            Arrays.fill(recentPlaced[yy], false);
-
-        for (int j = 0; j < b.height(); j++) {
-            for (int i = 0; i < b.width(); i++) {
-                if (b.getShape(i, j) == 1) {
-                    int bx = state.getX() + i;
-                    int by = state.getY() + j;
-
-                    if (by < 0) {
-                        blockOutOfBounds = true;
-                        continue;
-                    }
 
-                    if (bx >= 0 && bx < WIDTH && by >= 0 && by < HEIGHT) {
-                        board[by][bx] = b.getColor();
-                        recentPlaced[by][bx] = true;
-                        pid[by][bx] = id;
-                    }
-                }
-            }
-        }
+        // recentPlaced 초기화 후 고정
+        boolean blockOutOfBounds = rules.lock(b.getShapeArray(), state.getX(), state.getY(), id, b.getColor());
 
         state.setCurr(null);
 
@@ -285,7 +264,6 @@ public class BoardLogic {
     // ============================================
     public void clearLinesAfterItem(Runnable afterClear) {
         var board = state.getBoard();
-        var pid = state.getPieceId();
 
         if (testMode) {
             // 파티클 애니메이션 skip
@@ -296,20 +274,8 @@ public class BoardLogic {
             return;
         }
 
-        java.util.List<Integer> clearedRows = new java.util.ArrayList<>();
-        for (int y = 0; y < HEIGHT; y++) {
-            boolean full = true;
-            for (int x = 0; x < WIDTH; x++) {
-                if (board[y][x] == null) {
-                    full = false;
-                    break;
-                }
-            }
-            if (full)
-                clearedRows.add(y);
-        }
-
-        int lines = clearedRows.size();
+        int full = rules.fullRows();
+        int lines = Integer.bitCount(full);
         if (lines == 0) {
             comboCount = 0;
             if (afterClear != null)
@@ -322,44 +288,25 @@ public class BoardLogic {
         }
 
         // ★★★ 공격 계산을 가비지 플래그 업데이트보다 먼저 ★★★
-        java.util.List<Integer> nonGarbageRows = new java.util.ArrayList<>();
-        for (int y : clearedRows) {
-            if (!isGarbageRow[y]) {
-                nonGarbageRows.add(y);
-            } else {
-                System.out.println("[DEBUG] Row " + y + " is garbage, excluding from attack");
-            }
-        }
+        int attackRows = rules.attackRows(full);
+        System.out.println("[ITEM] Total cleared: " + lines + ", Non-garbage: " + attackRows);
 
-        System.out.println("[ITEM] Total cleared: " + clearedRows.size() +
-                ", Non-garbage: " + nonGarbageRows.size());
-
-        if (nonGarbageRows.size() >= 2 && onLinesClearedWithMasks != null) {
-            int[] masks = buildAttackMasks(nonGarbageRows);
-            onLinesClearedWithMasks.accept(masks);
-            System.out.println("[ITEM] " + nonGarbageRows.size() + "줄 클리어 (가비지 제외) → 공격 전송");
+        if (attackRows >= 2 && onLinesClearedWithMasks != null) {
+            onLinesClearedWithMasks.accept(buildAttackMasks(full, attackRows));
+            System.out.println("[ITEM] " + attackRows + "줄 클리어 (가비지 제외) → 공격 전송");
         } else {
-            System.out.println("[ITEM] No attack sent: " + nonGarbageRows.size() + " non-garbage lines");
+            System.out.println("[ITEM] No attack sent: " + attackRows + " non-garbage lines");
         }
 
-        // 이제 가비지 플래그 업데이트
-        updateGarbageFlagsOnClear(clearedRows);
-
         final int CELL_SIZE = 25;
-        for (int row : clearedRows) {
-            if (testMode)
-                return;
-            clear.getParticleSystem().createLineParticles(row, board, CELL_SIZE, WIDTH);
+        for (int row = 0; row < HEIGHT; row++) {
+            if ((full >> row & 1) != 0)
+                clear.getParticleSystem().createLineParticles(row, board, CELL_SIZE, WIDTH);
         }
 
-        for (int row : clearedRows) {
-            for (int x = 0; x < WIDTH; x++) {
-                board[row][x] = null;
-                pid[row][x] = 0;
-            }
-        }
+        // 이제 가비지 플래그 업데이트 + 줄 비우기
+        clearRows(full);
 
-        recentPlacedInitialize();
         processScoreAndCombo(lines);
 
         if (onFrameUpdate != null) {
@@ -395,50 +342,29 @@ public class BoardLogic {
         });
     }
 
-    // ★ updateGarbageFlagsOnClear() - 로그만 개선
-    private void updateGarbageFlagsOnClear(List<Integer> clearedRows) {
-        int clearedGarbageCount = 0;
-
-        for (int y : clearedRows) {
-            if (y < 0 || y >= HEIGHT)
-                continue;
-
-            if (isGarbageRow[y]) {
-                garbageCount--;
-                clearedGarbageCount++;
-                System.out.println("[DEBUG] Garbage row cleared at y=" + y + ", remaining: " + garbageCount);
-            }
-            isGarbageRow[y] = false;
-        }
+    // ★ 줄 삭제 (가비지 플래그 / 개수 갱신은 rules 에서)
+    private void clearRows(int full) {
+        int before = rules.getGarbageCount();
+        rules.clearRows(full);
+        state.markChanged();
 
+        int clearedGarbageCount = before - rules.getGarbageCount();
         System.out.println("[DEBUG] Cleared " + clearedGarbageCount + " garbage rows, " +
-                (clearedRows.size() - clearedGarbageCount) + " normal rows");
+                (Integer.bitCount(full) - clearedGarbageCount) + " normal rows, remaining: "
+                + rules.getGarbageCount());
 
         if (onIncomingChanged != null) {
-            onIncomingChanged.accept(incomingGarbageQueue.size());
+            onIncomingChanged.accept(rules.getPendingGarbage());
         }
         fireGarbagePreviewChanged();
     }
 
     // 12. 아이템용 라인 체크 & 클리어 메서드
     public void checkAndClearLinesAfterItem(Runnable onComplete) {
-        var board = state.getBoard();
-        java.util.List<Integer> newFullRows = new java.util.ArrayList<>();
+        int full = rules.fullRows();
 
-        for (int y = 0; y < HEIGHT; y++) {
-            boolean full = true;
-            for (int x = 0; x < WIDTH; x++) {
-                if (board[y][x] == null) {
-                    full = false;
-                    break;
-                }
-            }
-            if (full)
-                newFullRows.add(y);
-        }
-
-        if (!newFullRows.isEmpty()) {
-            System.out.println("[Item] Found " + newFullRows.size() + " lines after gravity");
+        if (full != 0) {
+            System.out.println("[Item] Found " + Integer.bitCount(full) + " lines after gravity");
             clearLinesAfterItem(onComplete);
         } else {
             if (onComplete != null) {
@@ -449,7 +375,6 @@ public class BoardLogic {
 
     public void applySimpleCellGravity() {
         Color[][] board = state.getBoard();
-        int[][] pid = state.getPieceId();
 
         boolean moved = true;
         int iterations = 0;
@@ -463,28 +388,17 @@ public class BoardLogic {
             for (int y = HEIGHT - 2; y >= 0; y--) {
                 for (int x = 0; x < WIDTH; x++) {
                     if (board[y][x] != null && board[y + 1][x] == null) {
-                        // 한 칸 아래로 이동
-                        board[y + 1][x] = board[y][x];
-                        pid[y + 1][x] = pid[y][x];
-
-                        if (isGarbageRow[y]) {
-                            isGarbageRow[y + 1] = true;
-                        }
-
-                        board[y][x] = null;
-                        pid[y][x] = 0;
+                        // 한 칸 아래로 이동 (가비지 플래그도 따라감)
+                        rules.moveCellDown(x, y);
                         moved = true;
+                        state.markChanged();
                     }
                 }
             }
         }
 
         // 가비지 플래그 정리
-        for (int y = 0; y < HEIGHT; y++) {
-            if (isRowEmpty(board[y])) {
-                isGarbageRow[y] = false;
-            }
-        }
+        rules.clearEmptyGarbageFlags();
 
         System.out.println("[DEBUG] Simple cell gravity (item) applied after " + iterations + " iterations");
     }
@@ -499,11 +413,10 @@ public class BoardLogic {
             return;
         }
 
-        Timer gravityTimer = new Timer(80, null);
+        Timer gravityTimer = PerfMonitor.timer(80, null);
 
         gravityTimer.addActionListener(e -> {
             Color[][] board = state.getBoard();
-            int[][] pid = state.getPieceId();
 
             boolean moved = false;
             List<Point> landedBlocks = new ArrayList<>();
@@ -519,16 +432,9 @@ public class BoardLogic {
                         clear.getParticleSystem().createGravityDustParticle(
                                 x, y, board[y][x], currentCellSize);
 
-                        board[y + 1][x] = board[y][x];
-                        pid[y + 1][x] = pid[y][x];
-
-                        if (isGarbageRow[y]) {
-                            isGarbageRow[y + 1] = true;
-                        }
-
-                        board[y][x] = null;
-                        pid[y][x] = 0;
+                        rules.moveCellDown(x, y);
                         moved = true;
+                        state.markChanged();
 
                         // 착지 감지
                         if (y + 2 >= HEIGHT || board[y + 2][x] != null) {
@@ -546,11 +452,7 @@ public class BoardLogic {
                         landedBlocks, board, currentCellSize);
             }
 
-            for (int y = 0; y < HEIGHT; y++) {
-                if (isRowEmpty(board[y])) {
-                    isGarbageRow[y] = false;
-                }
-            }
+            rules.clearEmptyGarbageFlags();
 
             if (onFrameUpdate != null) {
                 onFrameUpdate.run();
@@ -573,8 +475,14 @@ public class BoardLogic {
     // clearLinesAndThen - 일반 라인 클리어 (타이머 제거)
     // ============================================
     public void clearLinesAndThen(Runnable afterClear) {
+        // 동기 처리 구간만 측정 (애니메이션 타이머로 넘어간 뒤는 제외)
+        long t0 = PerfMonitor.begin();
+        clearLines(afterClear);
+        PerfMonitor.endClear(t0);
+    }
+
+    private void clearLines(Runnable afterClear) {
         var board = state.getBoard();
-        var pid = state.getPieceId();
 
         if (testMode) {
             // 파티클 애니메이션 skip
@@ -585,20 +493,8 @@ public class BoardLogic {
             return;
         }
 
-        java.util.List<Integer> clearedRows = new java.util.ArrayList<>();
-        for (int y = 0; y < HEIGHT; y++) {
-            boolean full = true;
-            for (int x = 0; x < WIDTH; x++) {
-                if (board[y][x] == null) {
-                    full = false;
-                    break;
-                }
-            }
-            if (full)
-                clearedRows.add(y);
-        }
-
-        int lines = clearedRows.size();
+        int full = rules.fullRows();
+        int lines = Integer.bitCount(full);
         if (lines == 0) {
             comboCount = 0;
             afterClear.run();
@@ -611,50 +507,27 @@ public class BoardLogic {
         }
 
         // ★★★ 중요: 가비지 플래그 업데이트보다 먼저 공격 계산 ★★★
-        // 1. 먼저 가비지가 아닌 라인만 필터링 (isGarbageRow 상태 사용)
-        java.util.List<Integer> nonGarbageRows = new java.util.ArrayList<>();
-        for (int y : clearedRows) {
-            if (!isGarbageRow[y]) { // 가비지가 아닌 라인만
-                nonGarbageRows.add(y);
-            } else {
-                System.out.println("[DEBUG] Row " + y + " is garbage, excluding from attack");
-            }
-        }
-
-        System.out.println("[DEBUG] Total cleared: " + clearedRows.size() +
-                ", Non-garbage: " + nonGarbageRows.size());
+        // 1. 가비지가 아닌 라인만 센다 (가비지 플래그 사용)
+        int attackRows = rules.attackRows(full);
+        System.out.println("[DEBUG] Total cleared: " + lines + ", Non-garbage: " + attackRows);
 
         // 2. 가비지가 아닌 라인이 2줄 이상일 때만 공격 전송
-        if (nonGarbageRows.size() >= 2 && onLinesClearedWithMasks != null) {
-            int[] masks = buildAttackMasks(nonGarbageRows);
-            onLinesClearedWithMasks.accept(masks);
-            System.out.println("[ATTACK] " + nonGarbageRows.size() + "줄 클리어 (가비지 제외) → 공격 전송");
+        if (attackRows >= 2 && onLinesClearedWithMasks != null) {
+            onLinesClearedWithMasks.accept(buildAttackMasks(full, attackRows));
+            System.out.println("[ATTACK] " + attackRows + "줄 클리어 (가비지 제외) → 공격 전송");
         } else {
-            System.out.println("[ATTACK] No attack sent: " + nonGarbageRows.size() + " non-garbage lines (need 2+)");
+            System.out.println("[ATTACK] No attack sent: " + attackRows + " non-garbage lines (need 2+)");
         }
 
-        // 3. 이제 가비지 플래그 업데이트 (공격 계산 후)
-        updateGarbageFlagsOnClear(clearedRows);
-
         final int CELL_SIZE = 25;
-        for (int row : clearedRows) {
-            if (testMode)
-                return;
-            clear.getParticleSystem().createLineParticles(row, board, CELL_SIZE, WIDTH);
+        for (int row = 0; row < HEIGHT; row++) {
+            if ((full >> row & 1) != 0)
+                clear.getParticleSystem().createLineParticles(row, board, CELL_SIZE, WIDTH);
         }
 
-        // 다음 턴을 위해 recentPlaced 초기화
-        for (int yy = 0; yy < HEIGHT; yy++)
-            java.util.Arrays.fill(recentPlaced[yy], false);
-
-        for (int row : clearedRows) {
-            for (int x = 0; x < WIDTH; x++) {
-                board[row][x] = null;
-                pid[row][x] = 0;
-            }
-        }
+        // 3. 이제 가비지 플래그 업데이트 + 줄 비우기 (공격 계산 후)
+        clearRows(full);
 
-        recentPlacedInitialize();
         processScoreAndCombo(lines);
 
         if (onFrameUpdate != null) {
@@ -708,23 +581,10 @@ public class BoardLogic {
     // 즉시 연쇄 체크 (타이머 없음)
     // ============================================
     private void checkChainClearImmediate(Runnable afterClear) {
-        var board = state.getBoard();
-        java.util.List<Integer> newFullRows = new java.util.ArrayList<>();
+        int full = rules.fullRows();
 
-        for (int y = 0; y < HEIGHT; y++) {
-            boolean full = true;
-            for (int x = 0; x < WIDTH; x++) {
-                if (board[y][x] == null) {
-                    full = false;
-                    break;
-                }
-            }
-            if (full)
-                newFullRows.add(y);
-        }
-
-        if (!newFullRows.isEmpty()) {
-            System.out.println("[CHAIN] " + newFullRows.size() + " more lines found! (instant)");
+        if (full != 0) {
+            System.out.println("[CHAIN] " + Integer.bitCount(full) + " more lines found! (instant)");
             clearLinesAndThen(afterClear);
         } else {
             if (afterClear != null)
@@ -735,32 +595,18 @@ public class BoardLogic {
     // ============================================
     // 공격 마스크 생성 (recentPlaced와 가비지 제외)
     // ============================================
-    private int[] buildAttackMasks(List<Integer> clearedRows) {
-        var board = state.getBoard();
-        int[] masks = new int[clearedRows.size()];
-
-        for (int i = 0; i < clearedRows.size(); i++) {
-            int y = clearedRows.get(i);
-            int mask = 0;
-
-            // 이 메서드는 가비지가 아닌 라인만 받아야 함
-            if (isGarbageRow[y]) {
-                System.err.println("[ERROR] Garbage row " + y + " passed to buildAttackMasks! This should not happen!");
-                masks[i] = 0;
+    private int[] buildAttackMasks(int full, int attackRows) {
+        int[] masks = new int[attackRows];
+        int i = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            if ((full >> y & 1) == 0 || rules.isGarbageRow(y))
                 continue;
-            }
-
-            for (int x = 0; x < WIDTH; x++) {
-                // 방금 고정된 블록은 제외
-                if (board[y][x] != null && !recentPlaced[y][x]) {
-                    mask |= (1 << x);
-                }
-            }
+            int mask = rules.attackMask(y);
 
             System.out.println("[ATTACK] Row " + y + " mask: " + Integer.toBinaryString(mask) +
                     " (bits set: " + Integer.bitCount(mask) + ")");
 
-            masks[i] = mask;
+            masks[i++] = mask;
         }
         return masks;
     }
@@ -864,13 +710,6 @@ public class BoardLogic {
     }
 
     public void applyClusterGravityInstant() {
-        Color[][] board = state.getBoard();
-        int[][] pid = state.getPieceId();
-
-        boolean moved = true;
-        int iterations = 0;
-        final int MAX_ITERATIONS = 100;
-
         if (testMode) {
             // animation path만 밟기 위해 내부 로직을 1회 실행
             onFrameUpdate.run();
@@ -878,176 +717,33 @@ public class BoardLogic {
             return;
         }
 
-        while (moved && iterations < MAX_ITERATIONS) {
-            moved = false;
-            iterations++;
-
-            // 현재 보드의 모든 클러스터 찾기
-            List<List<Point>> clusters = findConnectedClusters(board, pid);
-
-            // 아래쪽 클러스터부터 처리 (맨 아래 y 좌표 기준 정렬)
-            clusters.sort((a, b) -> Integer.compare(maxY(b), maxY(a)));
-
-            // 각 클러스터를 한 칸씩 떨어뜨리기
-            for (List<Point> cluster : clusters) {
-                if (canClusterFallOneStep(cluster, board, pid)) {
-                    moveClusterDownOneStep(cluster, board, pid);
-                    moved = true;
-                }
-            }
-        }
+        // 애니메이션과 같은 단계 (아래쪽 클러스터부터 한 칸씩) 를 결과만 계산
+        int iterations = rules.applyGravity();
+        state.markChanged();
 
         System.out.println("[DEBUG] Cluster gravity applied after " + iterations + " iterations");
     }
 
-    // 2. 클러스터 찾기 (같은 pieceId끼리 연결된 블록들)
-    public List<List<Point>> findConnectedClusters(Color[][] board, int[][] pid) {
-        int h = HEIGHT;
-        int w = WIDTH;
-
-        boolean[][] visited = new boolean[h][w];
+    // 클러스터 찾기 (같은 pieceId끼리 연결된 블록들, pieceId 0 은 개별 블록)
+    public List<List<Point>> findConnectedClusters() {
+        int n = rules.clusterCount();
         List<List<Point>> clusters = new ArrayList<>();
-
-        int[] dx = { 1, -1, 0, 0 };
-        int[] dy = { 0, 0, 1, -1 };
-
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                if (board[y][x] == null || visited[y][x])
-                    continue;
-
-                int id = pid[y][x];
-                if (id == 0) // pieceId가 0이면 개별 블록 (가비지 등)
-                    continue;
-
-                List<Point> cluster = new ArrayList<>();
-                Deque<Point> stack = new ArrayDeque<>();
-                stack.push(new Point(x, y));
-                visited[y][x] = true;
-
-                // DFS로 같은 pieceId 찾기
-                while (!stack.isEmpty()) {
-                    Point p = stack.pop();
-                    cluster.add(p);
-
-                    for (int dir = 0; dir < 4; dir++) {
-                        int nx = p.x + dx[dir];
-                        int ny = p.y + dy[dir];
-
-                        if (nx < 0 || nx >= w || ny < 0 || ny >= h)
-                            continue;
-                        if (visited[ny][nx])
-                            continue;
-                        if (board[ny][nx] == null)
-                            continue;
-                        if (pid[ny][nx] != id) // 같은 pieceId만
-                            continue;
-
-                        visited[ny][nx] = true;
-                        stack.push(new Point(nx, ny));
-                    }
-                }
-
-                clusters.add(cluster);
-            }
+        for (int c = 0; c < n; c++) {
+            List<Point> cluster = new ArrayList<>();
+            rules.clusterCells(c, cluster);
+            clusters.add(cluster);
         }
-
         return clusters;
     }
 
-    // 3. 클러스터가 한 칸 떨어질 수 있는지 확인
-    private boolean canClusterFallOneStep(List<Point> cluster, Color[][] board, int[][] pid) {
-        Set<Point> clusterSet = new HashSet<>(cluster);
-
-        for (Point p : cluster) {
-            int x = p.x;
-            int y = p.y;
-
-            // 바닥에 닿았으면 못 떨어짐
-            if (y == HEIGHT - 1) {
-                return false;
-            }
-
-            Color below = board[y + 1][x];
-
-            // 아래가 비어있으면 OK
-            if (below == null) {
-                continue;
-            }
-
-            // 아래에 블록이 있는데 같은 클러스터면 OK (자기 자신의 일부)
-            Point belowPoint = new Point(x, y + 1);
-            if (clusterSet.contains(belowPoint)) {
-                continue;
-            }
-
-            // 아래에 다른 블록이 있으면 못 떨어짐
-            return false;
-        }
-
-        return true;
-    }
-
-    // 4. 클러스터를 한 칸 아래로 이동
-    private void moveClusterDownOneStep(List<Point> cluster, Color[][] board, int[][] pid) {
-        // 아래쪽 블록부터 이동 (덮어쓰기 방지)
-        cluster.sort((a, b) -> Integer.compare(b.y, a.y));
-
-        for (Point p : cluster) {
-            int x = p.x;
-            int y = p.y;
-
-            Color c = board[y][x];
-            int id = pid[y][x];
-
-            if (c == null)
-                continue;
-
-            // 한 칸 아래로 이동
-            board[y][x] = null;
-            pid[y][x] = 0;
-
-            board[y + 1][x] = c;
-            pid[y + 1][x] = id;
-
-            // 가비지 플래그도 이동
-            if (isGarbageRow[y]) {
-                isGarbageRow[y + 1] = true;
-            }
-        }
-    }
-
-    // 5. 클러스터의 최하단 y 좌표 찾기
-    private int maxY(List<Point> cluster) {
-        int max = -1;
-        for (Point p : cluster) {
-            if (p.y > max)
-                max = p.y;
-        }
-        return max;
-    }
-
     // ============================================
     // 연쇄 클리어 체크
     // ============================================
     private void checkChainClear(Runnable afterClear) {
-        var board = state.getBoard();
-        java.util.List<Integer> newFullRows = new java.util.ArrayList<>();
-
-        for (int y = 0; y < HEIGHT; y++) {
-            boolean full = true;
-            for (int x = 0; x < WIDTH; x++) {
-                if (board[y][x] == null) {
-                    full = false;
-                    break;
-                }
-            }
-            if (full)
-                newFullRows.add(y);
-        }
+        int full = rules.fullRows();
 
-        if (!newFullRows.isEmpty()) {
-            System.out.println("[CHAIN] " + newFullRows.size() + " more lines found!");
+        if (full != 0) {
+            System.out.println("[CHAIN] " + Integer.bitCount(full) + " more lines found!");
             clearLinesAndThen(afterClear);
         } else {
             if (afterClear != null)
@@ -1055,12 +751,6 @@ public class BoardLogic {
         }
     }
 
-    private void recentPlacedInitialize() {
-        for (int y = 0; y < HEIGHT; y++) {
-            Arrays.fill(recentPlaced[y], false);
-        }
-    }
-
     public void applyClusterGravityAnimated(Runnable onFrameUpdate, Runnable onComplete) {
         System.out.println("[DEBUG] Starting animated cluster gravity with trail effects");
         if (testMode) {
@@ -1071,52 +761,39 @@ public class BoardLogic {
             return;
         }
 
-        Timer gravityTimer = new Timer(80, null);
+        Timer gravityTimer = PerfMonitor.timer(80, null);
 
         gravityTimer.addActionListener(e -> {
             Color[][] board = state.getBoard();
-            int[][] pid = state.getPieceId();
 
-            // 현재 떨어질 수 있는 클러스터 찾기
-            List<List<Point>> clusters = findConnectedClusters(board, pid);
-            clusters.sort((a, b) -> Integer.compare(maxY(b), maxY(a)));
-
-            List<List<Point>> fallingClusters = new ArrayList<>();
-            for (List<Point> cluster : clusters) {
-                if (canClusterFallOneStep(cluster, board, pid)) {
-                    fallingClusters.add(cluster);
-                }
-            }
+            // 현재 떨어질 수 있는 클러스터 찾기 (이동 전 보드 기준, 아래쪽부터)
+            int falling = rules.planGravityStep();
 
             boolean movedAny = false;
             List<Point> allLandedBlocks = new ArrayList<>();
 
-            for (List<Point> cluster : fallingClusters) {
+            for (int k = 0; k < falling; k++) {
+                int c = rules.fallingCluster(k);
+                List<Point> cluster = new ArrayList<>();
+                rules.clusterCells(c, cluster);
+
                 // 1. 이동 전 궤적 생성
                 clear.getParticleSystem().createClusterTrail(cluster, board, currentCellSize);
 
                 // 2. 먼지 파티클
                 for (Point p : cluster) {
-                    if (board[p.y][p.x] != null) {
-                        if (testMode)
-                            return;
-                        clear.getParticleSystem().createGravityDustParticle(
-                                p.x, p.y, board[p.y][p.x], currentCellSize);
-                    }
+                    clear.getParticleSystem().createGravityDustParticle(
+                            p.x, p.y, board[p.y][p.x], currentCellSize);
                 }
 
-                // 3. 착지 감지 (다음 이동이 불가능하면 착지)
-                moveClusterDownOneStep(cluster, board, pid);
-
-                // 이동 후 위치 확인
-                List<Point> movedCluster = new ArrayList<>();
-                for (Point p : cluster) {
-                    movedCluster.add(new Point(p.x, p.y + 1));
-                }
+                // 3. 한 칸 이동 후 착지 감지 (더 이상 떨어질 수 없으면 착지)
+                rules.moveCluster(c);
+                state.markChanged();
 
-                // 더 이상 떨어질 수 없으면 착지
-                if (!canClusterFallOneStep(movedCluster, board, pid)) {
-                    allLandedBlocks.addAll(movedCluster);
+                if (!rules.canFall(c)) {
+                    for (Point p : cluster) {
+                        allLandedBlocks.add(new Point(p.x, p.y + 1));
+                    }
                 }
 
                 movedAny = true;
@@ -1171,6 +848,7 @@ public class BoardLogic {
 
         state.setCurr(next);
         state.setPosition(3, 0);
+        firePlayerInput(PlayerInput.SPAWN);
 
         refillPreview();
         fireNextQueueChanged();
@@ -1184,68 +862,28 @@ public class BoardLogic {
     // 가비지 라인 추가 (보드를 위로 밀고 맨 아래에 추가)
     // ============================================
     private void applyIncomingGarbage() {
-        if (incomingGarbageQueue.isEmpty())
+        if (rules.getPendingGarbage() == 0)
             return;
 
-        var board = state.getBoard();
-        int[][] pid = state.getPieceId();
-
-        int available = MAX_GARBAGE - garbageCount; // 가비지 10줄까지
-        if (available <= 0) {
+        if (rules.getGarbageCount() >= MAX_GARBAGE) { // 가비지 10줄까지
             System.out.println("[WARN] Max garbage limit reached, clearing queue");
-            incomingGarbageQueue.clear();
-
-            // 큐가 비었으니까 HUD/미리보기도 0으로
-            if (onIncomingChanged != null) {
-                onIncomingChanged.accept(0);
-            }
-            fireGarbagePreviewChanged();
-            return;
         }
 
-        int addedLines = 0;
-
-        while (!incomingGarbageQueue.isEmpty() && addedLines < available) {
-            int mask = incomingGarbageQueue.poll();
-
-            System.out.println("[DEBUG] Adding garbage line with mask: " + Integer.toBinaryString(mask));
-
-            // 보드 전체를 한 칸 위로 밀기
-            for (int y = 0; y < HEIGHT - 1; y++) {
-                for (int x = 0; x < WIDTH; x++) {
-                    board[y][x] = board[y + 1][x];
-                    pid[y][x] = pid[y + 1][x];
-                }
-                isGarbageRow[y] = isGarbageRow[y + 1];
-            }
-
-            // 맨 아래 줄에 가비지 추가
-            int garbagePid = state.allocatePieceId();
-            for (int x = 0; x < WIDTH; x++) {
-                boolean filled = ((mask >> x) & 1) != 0;
-                if (filled) {
-                    board[HEIGHT - 1][x] = GARBAGE_COLOR;
-                    pid[HEIGHT - 1][x] = garbagePid;
-                } else {
-                    board[HEIGHT - 1][x] = null;
-                    pid[HEIGHT - 1][x] = 0;
-                }
-            }
-            isGarbageRow[HEIGHT - 1] = true;
-
-            addedLines++;
-            garbageCount++;
+        // 상한에 이미 닿았으면 대기열만 비움
+        int addedLines = rules.applyGarbage(Integer.MAX_VALUE);
+        if (addedLines > 0) {
+            state.markChanged();
         }
         System.out.println(
-                "[DEBUG] Garbage applied: " + addedLines + " lines, remaining queue: " + incomingGarbageQueue.size());
+                "[DEBUG] Garbage applied: " + addedLines + " lines, remaining queue: " + rules.getPendingGarbage());
 
-        // ★ while 끝난 뒤, 남은 큐 길이 + 미리보기 한 번에 갱신
+        // ★ 남은 큐 길이 + 미리보기 한 번에 갱신
         if (onIncomingChanged != null) {
-            onIncomingChanged.accept(incomingGarbageQueue.size());
+            onIncomingChanged.accept(rules.getPendingGarbage());
         }
         fireGarbagePreviewChanged();
 
-        System.out.println("[DEBUG] Garbage applied: " + addedLines + " lines, total garbage: " + garbageCount);
+        System.out.println("[DEBUG] Garbage applied: " + addedLines + " lines, total garbage: " + rules.getGarbageCount());
     }
 
     // ============================================
@@ -1256,14 +894,14 @@ public class BoardLogic {
             return;
 
         for (int mask : masks) {
-            incomingGarbageQueue.offer(mask);
+            rules.enqueueGarbage(mask);
         }
 
         System.out.println(
-                "[DEBUG] Enqueued " + masks.length + " garbage masks, total pending: " + incomingGarbageQueue.size());
+                "[DEBUG] Enqueued " + masks.length + " garbage masks, total pending: " + rules.getPendingGarbage());
 
         if (onIncomingChanged != null) {
-            onIncomingChanged.accept(incomingGarbageQueue.size());
+            onIncomingChanged.accept(rules.getPendingGarbage());
         }
         fireGarbagePreviewChanged();
 
@@ -1286,22 +924,17 @@ public class BoardLogic {
         }
 
         System.out.println(
-                "[DEBUG] Enqueued " + masks.length + " garbage masks, total pending: " + incomingGarbageQueue.size());
-    }
-
-    private boolean isRowEmpty(Color[] row) {
-        for (Color c : row)
-            if (c != null)
-                return false;
-        return true;
+                "[DEBUG] Enqueued " + masks.length + " garbage masks, total pending: " + rules.getPendingGarbage());
     }
 
     // === 이동 입력 ===
     public void moveLeft() {
         if (state.getCurr() == null)
             return;
-        if (move.canMove(state.getCurr(), state.getX() - 1, state.getY()))
+        if (move.canMove(state.getCurr(), state.getX() - 1, state.getY())) {
             move.moveLeft();
+            firePlayerInput(PlayerInput.LEFT);
+        }
         if (testMode)
             return;
         sound.play(SoundManager.Sound.MOVE, 0.2f);
@@ -1310,8 +943,10 @@ public class BoardLogic {
     public void moveRight() {
         if (state.getCurr() == null)
             return;
-        if (move.canMove(state.getCurr(), state.getX() + 1, state.getY()))
+        if (move.canMove(state.getCurr(), state.getX() + 1, state.getY())) {
             move.moveRight();
+            firePlayerInput(PlayerInput.RIGHT);
+        }
         if (testMode)
             return;
         sound.play(SoundManager.Sound.MOVE, 0.2f);
@@ -1322,10 +957,14 @@ public class BoardLogic {
             return;
         Block backup = state.getCurr().clone();
         state.getCurr().rotate();
-        if (!move.canMove(state.getCurr(), state.getX(), state.getY()))
+        state.markChanged(); // 모양이 제자리에서 바뀜
+        if (!move.canMove(state.getCurr(), state.getX(), state.getY())) {
             state.setCurr(backup);
-        else if (testMode)
-            return;
+        } else {
+            firePlayerInput(PlayerInput.ROTATE);
+            if (testMode)
+                return;
+        }
         sound.play(SoundManager.Sound.ROTATE, 0.3f);
     }
 
@@ -1335,6 +974,7 @@ public class BoardLogic {
 
         Block curr = state.getCurr();
         int startY = state.getY();
+        firePlayerInput(PlayerInput.DROP);
 
         // 하드드롭으로 이동
         while (move.canMove(curr, state.getX(), state.getY() + 1)) {
@@ -1424,6 +1064,17 @@ public class BoardLogic {
         return onFrameUpdate;
     }
 
+    /** 실제로 반영된 조작 입력 통지 (PlayerInput 비트) */
+    public void setOnPlayerInput(java.util.function.IntConsumer cb) {
+        this.onPlayerInput = cb;
+    }
+
+    private void firePlayerInput(int input) {
+        if (onPlayerInput != null) {
+            onPlayerInput.accept(input);
+        }
+    }
+
     public int getDropInterval() {
         return buff.isSlowed()
                 ? (int) (speedManager.getDropInterval() * 1.5)
@@ -1489,6 +1140,7 @@ public class BoardLogic {
                 board[y][x] = newBoard[y][x];
             }
         }
+        state.markChanged();
     }
 
     public void onOpponentGameOver() {
@@ -1561,10 +1213,7 @@ public class BoardLogic {
         gameOver = false;
         nextIsItem = false;
 
-        incomingGarbageQueue.clear();
-        recentPlacedInitialize();
-        Arrays.fill(isGarbageRow, false);
-        garbageCount = 0;
+        rules.reset();
 
         if (onIncomingChanged != null) {
             onIncomingChanged.accept(0);
@@ -1650,7 +1299,7 @@ public class BoardLogic {
     // 가비지 수신 시 화면 진동 트리거
     // ============================================
     private void triggerShakeEffect(int intensity) {
-        if (testMode)
+        if (testMode || !shakeEnabled)
             return;
         if (onFrameUpdate != null) {
             // 진동 강도에 따라 흔들림 설정
@@ -1701,9 +1350,9 @@ public class BoardLogic {
     // ======= TESTING HELPERS =============
     // =====================================
 
-    /** JUnit에서 incomingGarbageQueue 크기를 검사하기 위한 getter */
+    /** JUnit에서 가비지 대기열 크기를 검사하기 위한 getter */
     public int getIncomingQueueSize() {
-        return incomingGarbageQueue.size();
+        return rules.getPendingGarbage();
     }
 
     /** private applyIncomingGarbage() 테스트용 wrapper */
@@ -1713,7 +1362,7 @@ public class BoardLogic {
 
     /** recentPlaced 배열 접근용 (공격 마스크 테스트에 필요) */
     public boolean[][] getRecentPlacedForTest() {
-        return recentPlaced;
+        return rules.getRecent();
     }
 
     public void setLevel(int level) {
@@ -0,0 +1,418 @@
+package logic;
+
+import java.awt.Color;
+import java.awt.Point;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * BoardRules - 화면 / 타이머 / 사운드 없는 보드 규칙 (BoardLogic 과 서버 심판이 공유)
+ * --------------------
+ * - 고정 → 가득 찬 줄 → 공격 마스크 → 줄 삭제 → 클러스터 중력 → 가비지 적용
+ * - 보드는 소유자의 pieceId 배열 (0 = 빈 칸) + 선택적 색 배열 (서버는 null)
+ *   → 색 배열이 있으면 "채워진 칸" 은 색 기준 (pieceId 0 인 칸도 움직이지 않는 장애물)
+ * - 중력 한 단계 = 애니메이션 타이머 한 틱 (떨어질 클러스터를 먼저 고르고, 아래쪽 클러스터부터 한 칸씩)
+ * - 작업 공간은 미리 할당 → 규칙 처리 중 할당 없음 (효과용 clusterCells 제외)
+ */
+final class BoardRules {
+
+    static final int WIDTH = GameState.WIDTH;
+    static final int HEIGHT = GameState.HEIGHT;
+    static final int MAX_GARBAGE = 10;
+    static final Color GARBAGE_COLOR = new Color(80, 80, 80);
+    static final int ROW_MASK = (1 << WIDTH) - 1;
+    private static final int MAX_GRAVITY_STEPS = 100;
+
+    // 보드 (소유자 것)
+    private final int[][] pid;
+    private final Color[][] colors;
+    private final IntSupplier pieceIds;
+
+    // 규칙 상태
+    private final boolean[][] recent = new boolean[HEIGHT][WIDTH]; // 방금 고정된 칸 (공격 마스크에서 제외)
+    private final boolean[] garbageRow = new boolean[HEIGHT];
+    private int garbageCount = 0;
+    private final ArrayDeque<Integer> incoming = new ArrayDeque<>();
+
+    // 클러스터 중력 작업 공간 (재사용)
+    private final int[][] clusterOf = new int[HEIGHT][WIDTH];
+    private final int[] clusterMaxY = new int[WIDTH * HEIGHT];
+    private final boolean[] clusterFalls = new boolean[WIDTH * HEIGHT];
+    private final int[] order = new int[WIDTH * HEIGHT];
+    private final int[] stack = new int[WIDTH * HEIGHT];
+
+    /**
+     * @param pid      칸별 pieceId [HEIGHT][WIDTH]
+     * @param colors   칸별 색 [HEIGHT][WIDTH], 없으면 null
+     * @param pieceIds 가비지 줄에 줄 새 pieceId
+     */
+    BoardRules(int[][] pid, Color[][] colors, IntSupplier pieceIds) {
+        this.pid = pid;
+        this.colors = colors;
+        this.pieceIds = pieceIds;
+    }
+
+    /** 규칙 상태 초기화 (보드 배열은 소유자가 비움) */
+    void reset() {
+        clearBoardState();
+        incoming.clear();
+    }
+
+    /** 보드에 딸린 상태만 초기화 (가비지 대기열은 유지, 보고된 보드로 재기준할 때) */
+    void clearBoardState() {
+        for (boolean[] row : recent)
+            Arrays.fill(row, false);
+        Arrays.fill(garbageRow, false);
+        garbageCount = 0;
+    }
+
+    private boolean filled(int y, int x) {
+        return colors != null ? colors[y][x] != null : pid[y][x] != 0;
+    }
+
+    // ===============================
+    // 고정 / 줄 삭제
+    // ===============================
+
+    /**
+     * 블록을 보드에 고정 (shape 에서 1 인 칸만)
+     *
+     * @return 보드 위로 삐져나간 칸이 있으면 true (게임 오버)
+     */
+    boolean lock(int[][] shape, int px, int py, int id, Color color) {
+        for (boolean[] row : recent)
+            Arrays.fill(row, false);
+        boolean outOfBounds = false;
+        for (int j = 0; j < shape.length; j++) {
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] != 1)
+                    continue;
+                int bx = px + i;
+                int by = py + j;
+                if (by < 0) {
+                    outOfBounds = true;
+                    continue;
+                }
+                if (bx >= 0 && bx < WIDTH && by < HEIGHT) {
+                    pid[by][bx] = id;
+                    if (colors != null)
+                        colors[by][bx] = color;
+                    recent[by][bx] = true;
+                }
+            }
+        }
+        return outOfBounds;
+    }
+
+    /** r 행의 채워진 칸 비트 (bit x = x 열) */
+    int rowMask(int r) {
+        int m = 0;
+        for (int c = 0; c < WIDTH; c++) {
+            if (filled(r, c))
+                m |= 1 << c;
+        }
+        return m;
+    }
+
+    /** 가득 찬 줄 비트 (bit r = r 행) */
+    int fullRows() {
+        int full = 0;
+        for (int r = 0; r < HEIGHT; r++) {
+            if (rowMask(r) == ROW_MASK)
+                full |= 1 << r;
+        }
+        return full;
+    }
+
+    /** 가득 찬 줄 중 가비지가 아닌 줄 수 (2줄 이상이어야 공격) */
+    int attackRows(int full) {
+        int n = 0;
+        for (int r = 0; r < HEIGHT; r++)
+            if ((full >> r & 1) != 0 && !garbageRow[r])
+                n++;
+        return n;
+    }
+
+    /** r 행의 공격 마스크 (방금 고정된 칸 제외), 줄 삭제 전에 호출 */
+    int attackMask(int r) {
+        int mask = 0;
+        for (int c = 0; c < WIDTH; c++) {
+            if (filled(r, c) && !recent[r][c])
+                mask |= 1 << c;
+        }
+        return mask;
+    }
+
+    /** 줄 삭제: 가비지 플래그 / 개수 갱신, 칸 비우기, 방금 고정된 칸 초기화 */
+    void clearRows(int full) {
+        for (int r = 0; r < HEIGHT; r++) {
+            if ((full >> r & 1) == 0)
+                continue;
+            if (garbageRow[r])
+                garbageCount--;
+            garbageRow[r] = false;
+            Arrays.fill(pid[r], 0);
+            if (colors != null)
+                Arrays.fill(colors[r], null);
+        }
+        for (boolean[] row : recent)
+            Arrays.fill(row, false);
+    }
+
+    // ===============================
+    // 클러스터 중력
+    // ===============================
+
+    /**
+     * 움직일 클러스터가 없을 때까지 중력 적용
+     *
+     * @return 실행한 단계 수
+     */
+    int applyGravity() {
+        int step = 0;
+        while (step < MAX_GRAVITY_STEPS) {
+            step++;
+            if (!gravityStep())
+                break;
+        }
+        return step;
+    }
+
+    /** 중력 한 단계 (타이머 한 틱), 움직였으면 true */
+    boolean gravityStep() {
+        int n = planGravityStep();
+        for (int k = 0; k < n; k++)
+            moveCluster(fallingCluster(k));
+        return n > 0;
+    }
+
+    /**
+     * 이번 단계에 떨어질 클러스터를 이동 전 보드 기준으로 고름
+     *
+     * @return 떨어질 클러스터 수 (fallingCluster(k) 순서대로 moveCluster)
+     */
+    int planGravityStep() {
+        int n = labelClusters();
+
+        // 아래쪽 클러스터부터 (maxY 내림차순, 같으면 발견 순서 유지)
+        for (int c = 0; c < n; c++) {
+            int v = order[c] = c;
+            int j = c - 1;
+            while (j >= 0 && clusterMaxY[order[j]] < clusterMaxY[v]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = v;
+        }
+
+        for (int c = 0; c < n; c++)
+            clusterFalls[c] = true;
+        for (int r = 0; r < HEIGHT; r++) {
+            for (int col = 0; col < WIDTH; col++) {
+                int c = clusterOf[r][col];
+                if (c >= 0 && clusterFalls[c] && !hasRoomBelow(r, col, c))
+                    clusterFalls[c] = false;
+            }
+        }
+
+        int falling = 0;
+        for (int k = 0; k < n; k++) {
+            if (clusterFalls[order[k]])
+                order[falling++] = order[k];
+        }
+        return falling;
+    }
+
+    int fallingCluster(int k) {
+        return order[k];
+    }
+
+    /** 클러스터가 지금 보드에서 한 칸 더 떨어질 수 있는지 (moveCluster 뒤 착지 판정용) */
+    boolean canFall(int c) {
+        for (int r = 0; r <= clusterMaxY[c]; r++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (clusterOf[r][col] == c && !hasRoomBelow(r, col, c))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasRoomBelow(int r, int col, int c) {
+        return r + 1 < HEIGHT && (!filled(r + 1, col) || clusterOf[r + 1][col] == c);
+    }
+
+    /** 클러스터를 한 칸 아래로 (아래 칸부터, 가비지 플래그도 같은 순서로 따라 내려감) */
+    void moveCluster(int c) {
+        for (int r = clusterMaxY[c]; r >= 0; r--) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (clusterOf[r][col] != c)
+                    continue;
+                moveCellDown(col, r);
+                clusterOf[r + 1][col] = c;
+                clusterOf[r][col] = -1;
+            }
+        }
+        clusterMaxY[c]++;
+    }
+
+    /** 클러스터 칸 좌표 (파티클 효과용) */
+    void clusterCells(int c, List<Point> out) {
+        for (int r = 0; r <= clusterMaxY[c]; r++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (clusterOf[r][col] == c)
+                    out.add(new Point(col, r));
+            }
+        }
+    }
+
+    /** 클러스터 번호 매기기 (행 우선 발견 순서), 칸은 clusterCells 로 */
+    int clusterCount() {
+        return labelClusters();
+    }
+
+    // 같은 pieceId 로 상하좌우 연결된 칸끼리 클러스터 번호 (pieceId 0 칸은 클러스터 아님)
+    private int labelClusters() {
+        for (int[] row : clusterOf)
+            Arrays.fill(row, -1);
+        int n = 0;
+        for (int sy = 0; sy < HEIGHT; sy++) {
+            for (int sx = 0; sx < WIDTH; sx++) {
+                if (!filled(sy, sx) || pid[sy][sx] == 0 || clusterOf[sy][sx] >= 0)
+                    continue;
+                int id = pid[sy][sx];
+                int c = n++;
+                int maxY = 0;
+                int top = 0;
+                stack[top++] = sy * WIDTH + sx;
+                clusterOf[sy][sx] = c;
+                while (top > 0) {
+                    int i = stack[--top];
+                    int cy = i / WIDTH;
+                    int cx = i - cy * WIDTH;
+                    maxY = Math.max(maxY, cy);
+                    if (cx + 1 < WIDTH)
+                        top = visit(cy, cx + 1, id, c, top);
+                    if (cx > 0)
+                        top = visit(cy, cx - 1, id, c, top);
+                    if (cy + 1 < HEIGHT)
+                        top = visit(cy + 1, cx, id, c, top);
+                    if (cy > 0)
+                        top = visit(cy - 1, cx, id, c, top);
+                }
+                clusterMaxY[c] = maxY;
+            }
+        }
+        return n;
+    }
+
+    private int visit(int y, int x, int id, int c, int top) {
+        if (clusterOf[y][x] < 0 && pid[y][x] == id && filled(y, x)) {
+            clusterOf[y][x] = c;
+            stack[top++] = y * WIDTH + x;
+        }
+        return top;
+    }
+
+    /** 칸 하나를 한 칸 아래로 (가비지 플래그도 따라감) */
+    void moveCellDown(int x, int y) {
+        pid[y + 1][x] = pid[y][x];
+        pid[y][x] = 0;
+        if (colors != null) {
+            colors[y + 1][x] = colors[y][x];
+            colors[y][x] = null;
+        }
+        if (garbageRow[y])
+            garbageRow[y + 1] = true;
+    }
+
+    /** 빈 줄의 가비지 플래그 정리 (아이템 칸 단위 중력 뒤) */
+    void clearEmptyGarbageFlags() {
+        for (int r = 0; r < HEIGHT; r++) {
+            if (rowMask(r) == 0)
+                garbageRow[r] = false;
+        }
+    }
+
+    // ===============================
+    // 가비지
+    // ===============================
+
+    void enqueueGarbage(int mask) {
+        incoming.offer(mask);
+    }
+
+    int getPendingGarbage() {
+        return incoming.size();
+    }
+
+    Iterable<Integer> pendingGarbage() {
+        return incoming;
+    }
+
+    /** 지금 적용할 수 있는 최대 줄 수 (가비지 상한 MAX_GARBAGE) */
+    int getApplicableGarbage() {
+        return Math.max(0, Math.min(incoming.size(), MAX_GARBAGE - garbageCount));
+    }
+
+    /**
+     * 대기 중인 가비지를 최대 limit 줄 적용 (보드를 위로 밀고 맨 아래에 추가)
+     * - 상한에 이미 닿았으면 대기열을 비움
+     *
+     * @return 적용한 줄 수
+     */
+    int applyGarbage(int limit) {
+        if (incoming.isEmpty())
+            return 0;
+        if (MAX_GARBAGE - garbageCount <= 0) {
+            incoming.clear();
+            return 0;
+        }
+        int n = Math.min(limit, getApplicableGarbage());
+        for (int k = 0; k < n; k++) {
+            int mask = incoming.poll();
+            for (int r = 0; r < HEIGHT - 1; r++) {
+                System.arraycopy(pid[r + 1], 0, pid[r], 0, WIDTH);
+                if (colors != null)
+                    System.arraycopy(colors[r + 1], 0, colors[r], 0, WIDTH);
+            }
+            System.arraycopy(garbageRow, 1, garbageRow, 0, HEIGHT - 1);
+            int id = pieceIds.getAsInt();
+            for (int c = 0; c < WIDTH; c++) {
+                boolean on = (mask >> c & 1) != 0;
+                pid[HEIGHT - 1][c] = on ? id : 0;
+                if (colors != null)
+                    colors[HEIGHT - 1][c] = on ? GARBAGE_COLOR : null;
+            }
+            garbageRow[HEIGHT - 1] = true;
+            garbageCount++;
+        }
+        return n;
+    }
+
+    /** 보고된 보드로 재기준할 때 가비지 행 표시 */
+    void markGarbageRow(int r) {
+        if (!garbageRow[r]) {
+            garbageRow[r] = true;
+            garbageCount++;
+        }
+    }
+
+    // ===============================
+    // 상태
+    // ===============================
+
+    boolean isGarbageRow(int r) {
+        return garbageRow[r];
+    }
+
+    int getGarbageCount() {
+        return garbageCount;
+    }
+
+    boolean[][] getRecent() {
+        return recent;
+    }
+}
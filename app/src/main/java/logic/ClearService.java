@@ -1,12 +1,12 @@
 package logic;
 
+import component.metrics.PerfMonitor;
 import java.awt.Color;
 import java.awt.Point;
 import javax.swing.Timer;
 import logic.GameState;
 
 import java.util.ArrayDeque;
-import logic.ParticleSystem.Particle;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -63,7 +63,7 @@ public class ClearService {
             onFrameUpdate.run();
 
         // 2단계: 플래시 후 파티클 생성 (100ms 후)
-        Timer flashTimer = new Timer(100, null);
+        Timer flashTimer = PerfMonitor.timer(100, null);
         flashTimer.setRepeats(false);
         flashTimer.addActionListener(e -> {
             // 파티클 생성
@@ -77,6 +77,7 @@ public class ClearService {
                 Arrays.fill(pid[row], 0);
                 Arrays.fill(fade[row], null); // 플래시 제거
             }
+            state.markChanged();
 
             if (onFrameUpdate != null)
                 onFrameUpdate.run();
@@ -88,7 +89,7 @@ public class ClearService {
     }
 
     private void animateParticlesLonger(Runnable onFrameUpdate, Runnable onComplete) {
-        Timer particleTimer = new Timer(16, null);
+        Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 20; // 12 → 20으로 증가
 
@@ -125,7 +126,7 @@ public class ClearService {
 
         System.out.println("[ClearService] Starting async particle animation");
 
-        Timer particleTimer = new Timer(16, null);
+        Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 20;
 
@@ -157,7 +158,7 @@ public class ClearService {
             return;
         }
 
-        Timer particleTimer = new Timer(16, null);
+        Timer particleTimer = PerfMonitor.timer(16, null);
         final int[] frame = { 0 };
         final int MAX_FRAMES = 20;
 
@@ -194,7 +195,7 @@ public class ClearService {
         if (onFrameUpdate != null)
             onFrameUpdate.run();
 
-        Timer fadeTimer = new Timer(10, null);
+        Timer fadeTimer = PerfMonitor.timer(10, null);
         final int[] frame = { 0 };
         final int TOTAL_FRAMES = 4;
 
@@ -220,6 +221,7 @@ public class ClearService {
                     Arrays.fill(board[row], null);
                     Arrays.fill(pid[row], 0);
                 }
+                state.markChanged();
             }
 
             if (frame[0] >= TOTAL_FRAMES) {
@@ -349,7 +351,7 @@ public class ClearService {
         if (onFrameUpdate != null)
             onFrameUpdate.run();
 
-        Timer timer = new Timer(50, null);
+        Timer timer = PerfMonitor.timer(50, null);
         timer.addActionListener(e -> {
             Color[][] board = state.getBoard();
 
@@ -479,6 +481,7 @@ public class ClearService {
             board[y + 1][x] = c;
             pid[y + 1][x] = id;
         }
+        state.markChanged();
     }
 
     private int maxY(List<Point> cluster) {
@@ -493,7 +496,7 @@ public class ClearService {
     private void compressBoardByRowsAnimated(Runnable onFrameUpdate, Runnable onComplete) {
         final int TICK_MS = 100;
 
-        Timer timer = new Timer(TICK_MS, null);
+        Timer timer = PerfMonitor.timer(TICK_MS, null);
         timer.addActionListener(e -> {
             Color[][] board = state.getBoard();
             int[][] pid = state.getPieceId();
@@ -508,6 +511,7 @@ public class ClearService {
                         pid[y - 1][x] = 0;
                     }
                     moved = true;
+                    state.markChanged();
                 }
             }
 
@@ -8,6 +8,9 @@ import blocks.Block;
  * -----------------------
  * - 현재 보드 상태, 블록, 좌표, 홀드/넥스트, 페이드 레이어 관리
  * - BoardLogic이 사용하는 핵심 데이터 구조
+ * - version: 블록 / 위치 / 보드가 바뀔 때마다 증가 → 파생 값 (고스트 착지 줄 등) 캐시의 키
+ *   - 블록 / 위치는 setter 가 올리고, 보드 배열을 직접 고친 쪽 (아이템 포함) 은 markChanged 호출
+ *   - 화면 쪽은 읽기만 함 (BoardView 가 대신 올려 주지 않음)
  */
 public class GameState {
     public static final int HEIGHT = 20;
@@ -34,6 +37,14 @@ public class GameState {
 
     private int x = 3, y = 0;
 
+    // 상태 버전 (바뀔 때마다 증가)
+    // - 상대 보드는 네트워크 스레드, 번개 아이템은 애니메이션 스레드에서 올리므로 volatile (EDT 에서 바로 보임)
+    // - ++ 가 동시에 겹쳐 한 번 덜 올라가도 값은 바뀌므로 캐시 무효화에는 문제 없음
+    private volatile long version;
+    // 고스트 착지 줄 캐시 (ghostVersion == version 일 때만 유효)
+    private int ghostY = -1;
+    private long ghostVersion = -1;
+
     // === Getter / Setter ===
     public Color[][] getBoard() { return board; }
     public Color[][] getFadeLayer() { return fadeLayer; }
@@ -41,7 +52,7 @@ public class GameState {
     public int[][] getPieceId() { return pieceId; }
 
     public Block getCurr() { return curr; }
-    public void setCurr(Block b) { this.curr = b; }
+    public void setCurr(Block b) { this.curr = b; version++; }
     
     public Block getNext() { return next; }
     public void setNext(Block b) { this.next = b; }
@@ -66,7 +77,26 @@ public class GameState {
 
     public int getX() { return x; }
     public int getY() { return y; }
-    public void setPosition(int x, int y) { this.x = x; this.y = y; }
+    public void setPosition(int x, int y) {
+        if (x == this.x && y == this.y)
+            return;
+        this.x = x;
+        this.y = y;
+        version++;
+    }
+
+    public long getVersion() { return version; }
+
+    /** 보드 / 블록 모양을 직접 고친 뒤 호출 (이전 버전으로 계산한 캐시 무효화) */
+    public void markChanged() { version++; }
+
+    public boolean isGhostCached() { return ghostVersion == version; }
+    public int getCachedGhostY() { return ghostY; }
+
+    public void cacheGhostY(int y) {
+        ghostY = y;
+        ghostVersion = version;
+    }
 
     public int allocatePieceId() {
         if (nextPieceId == Integer.MAX_VALUE) {
@@ -96,5 +126,6 @@ public class GameState {
             }
         }
         nextPieceId = 1; 
+        version++;
     }
 }
@@ -0,0 +1,406 @@
+package logic;
+
+import blocks.Block;
+import blocks.IBlock;
+import blocks.JBlock;
+import blocks.LBlock;
+import blocks.OBlock;
+import blocks.SBlock;
+import blocks.TBlock;
+import blocks.ZBlock;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * HeadlessRules - 화면 / 타이머 / 사운드 없는 게임 규칙 (서버 검증용)
+ * --------------------
+ * - 고정 → 줄 삭제 → 공격 마스크 → 클러스터 중력 → 연쇄 / 가비지 규칙은 BoardLogic 과 같은 BoardRules 로 처리
+ * - 입력은 PlayerInput 비트 하나씩 (입력 스트림 재생), 블록 모양은 SPAWN 과 함께 받은 것
+ * - 보드는 칸마다 pieceId 하나 (0 = 빈 칸, 색 없음) → 매치당 몇 KB, 입력 처리 중 할당 없음
+ * - 중력은 애니메이션 타이머 없이 결과만 계산
+ * - 점수 / 콤보 / 아이템 블록은 재현하지 않음 (일반 모드 전용)
+ */
+public final class HeadlessRules {
+
+    public static final int WIDTH = GameState.WIDTH;
+    public static final int HEIGHT = GameState.HEIGHT;
+    public static final int MAX_GARBAGE = BoardRules.MAX_GARBAGE;
+    public static final int GARBAGE_RGB = BoardRules.GARBAGE_COLOR.getRGB();
+    public static final int ROW_MASK = BoardRules.ROW_MASK;
+    private static final int CELLS = WIDTH * HEIGHT;
+
+    // 일반 모드에서 나올 수 있는 블록 모양 (등장 시점 = 회전 0)
+    private static final Set<String> STANDARD_SHAPES = new HashSet<>();
+    static {
+        for (Block b : new Block[] { new IBlock(), new JBlock(), new LBlock(), new OBlock(),
+                new SBlock(), new TBlock(), new ZBlock() }) {
+            STANDARD_SHAPES.add(Arrays.deepToString(b.getShapeArray()));
+        }
+    }
+
+    // 보드 + 규칙 (가비지 / 방금 고정된 칸 / 대기열은 rules 가 관리)
+    private final int[][] pid = new int[HEIGHT][WIDTH];
+    private int nextPid = 1;
+    private final BoardRules rules = new BoardRules(pid, null, this::allocatePid);
+
+    // 조작 중인 블록: 회전 4종의 모양
+    private final int[][][] shapes = new int[4][][];
+    private boolean alive = false;
+    private int rot, x, y;
+    private boolean gameOver = false;
+
+    // 고정 때 나온 공격 마스크 (가져갈 때까지 누적)
+    private int[] attacks = new int[8];
+    private int attackCount = 0;
+    private int linesCleared = 0;
+    private int piecesLocked = 0;
+
+    // 재기준 작업 공간 (재사용)
+    private final int[] stack = new int[CELLS];
+
+    /** 매치 시작 상태로 */
+    public void reset() {
+        for (int[] row : pid)
+            Arrays.fill(row, 0);
+        rules.reset();
+        nextPid = 1;
+        alive = false;
+        gameOver = false;
+        attackCount = 0;
+        linesCleared = 0;
+        piecesLocked = 0;
+    }
+
+    /** 일반 모드 블록 모양인지 (회전 0 기준) */
+    public static boolean isStandardPiece(int[][] shape) {
+        return shape != null && STANDARD_SHAPES.contains(Arrays.deepToString(shape));
+    }
+
+    // ===============================
+    // 입력
+    // ===============================
+
+    /**
+     * 새 블록 등장 (3, 0)
+     *
+     * @return 놓을 자리가 없어 게임 오버면 false
+     */
+    public boolean spawn(int[][] shape) {
+        if (gameOver)
+            return false;
+        int[][] s = shape;
+        for (int r = 0; r < 4; r++) {
+            shapes[r] = s;
+            s = rotated(s);
+        }
+        rot = 0;
+        x = 3;
+        y = 0;
+        alive = true;
+        if (!fits(rot, x, y)) {
+            gameOver = true;
+            return false;
+        }
+        return true;
+    }
+
+    /** @return 움직였으면 true (조작 중인 블록이 없거나 막혀 있으면 false) */
+    public boolean moveLeft() {
+        if (!alive || !fits(rot, x - 1, y))
+            return false;
+        x--;
+        return true;
+    }
+
+    public boolean moveRight() {
+        if (!alive || !fits(rot, x + 1, y))
+            return false;
+        x++;
+        return true;
+    }
+
+    public boolean rotate() {
+        int next = (rot + 1) & 3;
+        if (!alive || !fits(next, x, y))
+            return false;
+        rot = next;
+        return true;
+    }
+
+    /** 한 칸 아래로, 막혀 있으면 고정 (BoardLogic.moveDown) */
+    public void moveDown() {
+        if (!alive)
+            return;
+        if (fits(rot, x, y + 1)) {
+            y++;
+        } else {
+            lock();
+        }
+    }
+
+    public void hardDrop() {
+        if (!alive)
+            return;
+        while (fits(rot, x, y + 1)) {
+            y++;
+        }
+        lock();
+    }
+
+    /** PlayerInput 비트를 재시뮬레이션 순서(L → R → T → D → H)로 횟수만큼 적용, SPAWN 은 호출측에서 */
+    public int apply(int input) {
+        int rejected = 0;
+        for (int n = PlayerInput.count(input, PlayerInput.LEFT); n > 0; n--)
+            if (alive && !moveLeft())
+                rejected++;
+        for (int n = PlayerInput.count(input, PlayerInput.RIGHT); n > 0; n--)
+            if (alive && !moveRight())
+                rejected++;
+        for (int n = PlayerInput.count(input, PlayerInput.ROTATE); n > 0; n--)
+            if (alive && !rotate())
+                rejected++;
+        for (int n = PlayerInput.count(input, PlayerInput.DOWN); n > 0; n--)
+            moveDown();
+        if ((input & PlayerInput.DROP) != 0)
+            hardDrop();
+        return rejected;
+    }
+
+    private boolean fits(int r, int nx, int ny) {
+        int[][] shape = shapes[r];
+        for (int j = 0; j < shape.length; j++) {
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] != 1)
+                    continue;
+                int bx = nx + i;
+                int by = ny + j;
+                if (bx < 0 || bx >= WIDTH || by >= HEIGHT)
+                    return false;
+                if (by >= 0 && pid[by][bx] != 0)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    // Block.rotate 와 같은 시계 방향 회전
+    private static int[][] rotated(int[][] shape) {
+        int h = shape.length;
+        int w = shape[0].length;
+        int[][] out = new int[w][h];
+        for (int i = 0; i < h; i++)
+            for (int j = 0; j < w; j++)
+                out[j][h - 1 - i] = shape[i][j];
+        return out;
+    }
+
+    // ===============================
+    // 고정 / 줄 삭제 / 중력
+    // ===============================
+
+    private void lock() {
+        boolean outOfBounds = rules.lock(shapes[rot], x, y, allocatePid(), null);
+        alive = false;
+        piecesLocked++;
+        if (outOfBounds) {
+            gameOver = true;
+            return;
+        }
+        clearLines();
+    }
+
+    // clearLinesAndThen + checkChainClearImmediate
+    private void clearLines() {
+        while (true) {
+            int full = rules.fullRows();
+            if (full == 0)
+                return;
+
+            // 공격 계산은 가비지 플래그 갱신 전에 (가비지가 아닌 줄 2줄 이상)
+            if (rules.attackRows(full) >= 2) {
+                for (int r = 0; r < HEIGHT; r++) {
+                    if ((full >> r & 1) != 0 && !rules.isGarbageRow(r))
+                        pushAttack(rules.attackMask(r));
+                }
+            }
+
+            linesCleared += Integer.bitCount(full);
+            rules.clearRows(full);
+            rules.applyGravity();
+        }
+    }
+
+    private int allocatePid() {
+        if (nextPid == Integer.MAX_VALUE)
+            nextPid = 1;
+        return nextPid++;
+    }
+
+    private void pushAttack(int mask) {
+        if (attackCount == attacks.length)
+            attacks = Arrays.copyOf(attacks, attackCount * 2);
+        attacks[attackCount++] = mask;
+    }
+
+    /** 지난번 이후 줄 삭제로 생긴 공격 마스크 (가져가면 비움) */
+    public int[] takeAttacks() {
+        int[] out = Arrays.copyOf(attacks, attackCount);
+        attackCount = 0;
+        return out;
+    }
+
+    // ===============================
+    // 가비지
+    // ===============================
+
+    /** 상대 공격 대기열에 추가 (다음 스폰 때 적용) */
+    public void addGarbage(int[] masks) {
+        for (int m : masks) {
+            rules.enqueueGarbage(m & ROW_MASK);
+        }
+    }
+
+    public int getPendingGarbage() {
+        return rules.getPendingGarbage();
+    }
+
+    /** 지금 적용할 수 있는 최대 줄 수 (가비지 상한 MAX_GARBAGE) */
+    public int getApplicableGarbage() {
+        return rules.getApplicableGarbage();
+    }
+
+    /**
+     * 대기 중인 가비지를 최대 limit 줄 적용 (BoardLogic.applyIncomingGarbage)
+     * - 상한에 이미 닿았으면 대기열을 비움 (클라이언트와 같은 규칙)
+     *
+     * @return 적용한 줄 수
+     */
+    public int applyGarbage(int limit) {
+        return rules.applyGarbage(limit);
+    }
+
+    // ===============================
+    // 보고된 보드와 비교 / 재기준
+    // ===============================
+
+    /** r 행의 채워진 칸 비트 (bit x = x 열) */
+    public int rowMask(int r) {
+        return rules.rowMask(r);
+    }
+
+    /**
+     * 보고된 보드(행 비트)와 다른 칸 수
+     * - 대기 가비지 앞 k 줄을 적용했다고 가정하고 비교 (보드는 바꾸지 않음)
+     */
+    public int distance(int[] reportedRows, int k) {
+        int diff = 0;
+        int g = 0;
+        int[] masks = k > 0 ? pendingMasks(k) : null;
+        for (int r = 0; r < HEIGHT; r++) {
+            int mine;
+            if (r < HEIGHT - k) {
+                mine = rowMask(r + k);
+            } else {
+                mine = masks[g++];
+            }
+            diff += Integer.bitCount(mine ^ reportedRows[r]);
+        }
+        return diff;
+    }
+
+    private int[] pendingMasks(int k) {
+        int[] out = new int[k];
+        int i = 0;
+        for (int m : rules.pendingGarbage()) {
+            if (i == k)
+                break;
+            out[i++] = m;
+        }
+        return out;
+    }
+
+    /**
+     * 보고된 보드로 교체 (어긋남이 확인됐을 때)
+     * - pieceId 는 같은 색으로 연결된 칸끼리 새로 부여 (원래 블록 경계는 알 수 없음)
+     * - 가비지 색 칸이 있는 행을 가비지 행으로 간주
+     *
+     * @param rgb 칸별 색 (0 = 빈 칸), 길이 WIDTH * HEIGHT
+     */
+    public void rebase(int[] rgb) {
+        for (int[] row : pid)
+            Arrays.fill(row, 0);
+        rules.clearBoardState();
+        for (int start = 0; start < CELLS; start++) {
+            if (rgb[start] == 0 || pid[start / WIDTH][start % WIDTH] != 0)
+                continue;
+            int id = allocatePid();
+            int color = rgb[start];
+            int top = 0;
+            stack[top++] = start;
+            pid[start / WIDTH][start % WIDTH] = id;
+            while (top > 0) {
+                int i = stack[--top];
+                int cy = i / WIDTH;
+                int cx = i - cy * WIDTH;
+                int[] next = { cx + 1 < WIDTH ? i + 1 : -1, cx > 0 ? i - 1 : -1,
+                        cy + 1 < HEIGHT ? i + WIDTH : -1, cy > 0 ? i - WIDTH : -1 };
+                for (int j : next) {
+                    if (j >= 0 && pid[j / WIDTH][j % WIDTH] == 0 && rgb[j] == color) {
+                        pid[j / WIDTH][j % WIDTH] = id;
+                        stack[top++] = j;
+                    }
+                }
+            }
+        }
+        for (int r = 0; r < HEIGHT; r++) {
+            for (int c = 0; c < WIDTH; c++) {
+                if (rgb[r * WIDTH + c] == GARBAGE_RGB) {
+                    rules.markGarbageRow(r);
+                    break;
+                }
+            }
+        }
+    }
+
+    // ===============================
+    // 상태
+    // ===============================
+
+    public boolean hasPiece() {
+        return alive;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getPieceX() {
+        return x;
+    }
+
+    public int getPieceY() {
+        return y;
+    }
+
+    public int getRotation() {
+        return rot;
+    }
+
+    public int getGarbageCount() {
+        return rules.getGarbageCount();
+    }
+
+    public boolean isGarbageRow(int r) {
+        return rules.isGarbageRow(r);
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+}
@@ -114,6 +114,16 @@ public class MovementService {
         return by + maxDrop;
     }
 
+    /**
+     * 현재 블록의 고스트 Y좌표 (상태가 바뀐 뒤 처음 읽을 때만 계산, 그 뒤로는 GameState 캐시)
+     * - 렌더러는 프레임마다 이걸 읽음 (블록 / 보드가 그대로면 열 검사 없음)
+     */
+    public int getGhostY() {
+        if (!state.isGhostCached())
+            state.cacheGhostY(getGhostY(state.getCurr()));
+        return state.getCachedGhostY();
+    }
+
     public void moveDown() {
         state.setPosition(state.getX(), state.getY() + 1);
     }
@@ -0,0 +1,209 @@
+package logic;
+
+/**
+ * ParticlePool - 고정 크기 structure-of-arrays 파티클 풀
+ * --------------------
+ * - 파티클 하나 = 각 배열의 같은 인덱스 (객체 / Color 를 만들지 않음)
+ * - 살아있는 파티클은 항상 [0, size) 에 빽빽하게 모여 있음
+ *   → 죽으면 마지막 파티클을 그 자리로 옮기는 swap-remove (순서는 보장하지 않음)
+ * - 생성 / update / 그리기 모두 배열만 돌므로 프레임당 할당 0
+ * - 가득 찼을 때의 동작은 Overflow 로 선택 (setLimit 으로 capacity 보다 작게 제한 가능)
+ * - EDT 전용 (동기화 없음)
+ */
+public final class ParticlePool {
+
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    /** 풀이 가득 찼을 때 새 파티클 처리 방식 */
+    public enum Overflow {
+        DROP_NEW,        // 새 파티클을 버림 (기존 효과 유지)
+        REPLACE_WEAKEST  // 남은 수명이 가장 짧은 파티클 자리에 덮어씀 (새 효과 우선)
+    }
+
+    // 그리기 쪽에서 직접 읽는 열 (인덱스 < size() 만 유효)
+    public final float[] x, y, vx, vy;
+    public final int[] argb;      // 0xAARRGGBB (Color.getRGB() 와 같은 순서)
+    public final short[] life, maxLife;
+    public final byte[] size;
+
+    private final int capacity;
+    private float gravity;
+    private Overflow overflow;
+    private int limit; // 품질 단계에 따른 실제 상한 (<= capacity)
+    private int count;
+
+    // 측정용 카운터
+    private long spawned;
+    private long dropped;
+    private long replaced;
+
+    public ParticlePool(int capacity, float gravity, Overflow overflow) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.limit = capacity;
+        this.gravity = gravity;
+        this.overflow = overflow == null ? Overflow.DROP_NEW : overflow;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        argb = new int[capacity];
+        life = new short[capacity];
+        maxLife = new short[capacity];
+        size = new byte[capacity];
+    }
+
+    /**
+     * 파티클 추가
+     *
+     * @return 들어간 인덱스, DROP_NEW 로 버려졌으면 -1
+     */
+    public int spawn(double px, double py, double pvx, double pvy, int color, int lifeFrames, int pixelSize) {
+        if (lifeFrames <= 0)
+            return -1;
+        int i;
+        if (count < limit) {
+            i = count++;
+        } else if (overflow == Overflow.REPLACE_WEAKEST) {
+            i = weakest();
+            replaced++;
+        } else {
+            dropped++;
+            return -1;
+        }
+        spawned++;
+        x[i] = (float) px;
+        y[i] = (float) py;
+        vx[i] = (float) pvx;
+        vy[i] = (float) pvy;
+        argb[i] = color;
+        short l = (short) Math.min(lifeFrames, Short.MAX_VALUE);
+        life[i] = l;
+        maxLife[i] = l;
+        size[i] = (byte) Math.min(pixelSize, Byte.MAX_VALUE);
+        return i;
+    }
+
+    private int weakest() {
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (life[i] < life[best])
+                best = i;
+        }
+        return best;
+    }
+
+    /** 한 프레임 진행: 이동 → 중력 → 수명 감소, 죽은 파티클은 swap-remove */
+    public void update() {
+        final float g = gravity;
+        int n = count;
+        int i = 0;
+        while (i < n) {
+            x[i] += vx[i];
+            y[i] += vy[i];
+            vy[i] += g;
+            if (--life[i] > 0) {
+                i++;
+                continue;
+            }
+            n--;
+            if (i != n)
+                move(n, i); // 마지막 파티클을 당겨오고 같은 인덱스를 다시 검사
+        }
+        count = n;
+    }
+
+    private void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        argb[to] = argb[from];
+        life[to] = life[from];
+        maxLife[to] = maxLife[from];
+        size[to] = size[from];
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** 살아있는 파티클을 그대로 복사 (렌더 스레드용 스냅샷, 배열 재사용) */
+    public void copyFrom(ParticlePool src) {
+        int n = Math.min(src.count, capacity);
+        System.arraycopy(src.x, 0, x, 0, n);
+        System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.vx, 0, vx, 0, n);
+        System.arraycopy(src.vy, 0, vy, 0, n);
+        System.arraycopy(src.argb, 0, argb, 0, n);
+        System.arraycopy(src.life, 0, life, 0, n);
+        System.arraycopy(src.maxLife, 0, maxLife, 0, n);
+        System.arraycopy(src.size, 0, size, 0, n);
+        count = n;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** 동시에 살아있을 수 있는 파티클 수 (이미 넘은 것은 수명대로 사라짐) */
+    public void setLimit(int limit) {
+        this.limit = Math.max(1, Math.min(limit, capacity));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /** 프레임당 중력 가속 (효과마다 다른 풀을 재사용할 때) */
+    public void setGravity(float gravity) {
+        this.gravity = gravity;
+    }
+
+    public float getGravity() {
+        return gravity;
+    }
+
+    /** 남은 수명 비율 (1 → 0) */
+    public float alpha(int i) {
+        return (float) life[i] / maxLife[i];
+    }
+
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(Overflow overflow) {
+        this.overflow = overflow == null ? Overflow.DROP_NEW : overflow;
+    }
+
+    public long getSpawned() {
+        return spawned;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getReplaced() {
+        return replaced;
+    }
+
+    /** 불투명 ARGB 로 묶기 (채널은 0~255 로 자름) */
+    public static int rgb(int r, int g, int b) {
+        return 0xFF000000 | clamp(r) << 16 | clamp(g) << 8 | clamp(b);
+    }
+
+    private static int clamp(int c) {
+        return c < 0 ? 0 : Math.min(c, 255);
+    }
+}
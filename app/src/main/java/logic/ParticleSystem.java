@@ -2,82 +2,123 @@ package logic;
 
 import java.awt.Color;
 import java.awt.Point;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 /**
  * 파티클 효과 시스템 - 라인 클리어 & 중력 가시성 강화 버전
+ * - 파티클 / 궤적 / 빔 모두 고정 크기 배열 풀 (ParticlePool, Beams) 에 저장
+ *   → 생성 / update / 그리기에서 객체와 Color 를 만들지 않음 (4줄 클리어 중 할당 0)
+ * - 풀 크기와 가득 찼을 때의 정책은 생성자로 설정
+ * - 게임 오버 파편도 같은 방식의 풀 (칸 하나 = 파편 하나, 보드 칸 수만큼 고정)
  */
 public class ParticleSystem {
-    private final List<Particle> particles = new ArrayList<>();
-    private final List<TrailParticle> trailParticles = new ArrayList<>();
+    public static final int DEFAULT_TRAIL_CAPACITY = 512;
+    public static final int BEAM_CAPACITY = 8;
+    public static final int SHARD_CAPACITY = BoardLogic.WIDTH * BoardLogic.HEIGHT;
+
+    // 게임 오버 파편 (렌더 틱 16ms 기준, 예전 Swing 패널 애니메이션의 속도 / 길이에 맞춤)
+    private static final int SHATTER_LIFE = 22;        // 예전 12ms × 30 프레임 ≈ 360ms
+    private static final float SHATTER_GRAVITY = 17.8f; // 12ms 당 10px → 16ms 당
+    private static final int GLASS_LIFE = 15;          // 예전 8ms × 30 프레임 = 240ms
+    private static final float GLASS_GRAVITY = 1.6f;   // 8ms 당 0.4px → 16ms 당
+    private static final int GLASS_EMPTY = ParticlePool.rgb(50, 50, 50);
+
+    private static final float GRAVITY = 0.4f;
+    private static final int WHITE = ParticlePool.rgb(255, 255, 255);
+
+    private final ParticlePool particles;
+    private final ParticlePool trailParticles; // 궤적: 제자리 (x, y 는 칸 좌표)
+    private final Beams beamParticles = new Beams(BEAM_CAPACITY);
+    private final ParticlePool shards = new ParticlePool(SHARD_CAPACITY, 0f, ParticlePool.Overflow.DROP_NEW); // x, y 는 왼쪽 위 픽셀
     private final Random random = new Random();
+    private int trailLife = 12;
 
-    public static class Particle {
-        public double x, y;
-        public double vx, vy;
-        public Color color;
-        public int life;
-        public int maxLife;
-        public int size;
-
-        public Particle(double x, double y, double vx, double vy, Color color, int life, int size) {
-            this.x = x;
-            this.y = y;
-            this.vx = vx;
-            this.vy = vy;
-            this.color = color;
-            this.life = life;
-            this.maxLife = life;
-            this.size = size;
+    public ParticleSystem() {
+        this(ParticlePool.DEFAULT_CAPACITY, ParticlePool.Overflow.REPLACE_WEAKEST);
+    }
+
+    public ParticleSystem(int maxParticles, ParticlePool.Overflow overflow) {
+        this.particles = new ParticlePool(maxParticles, GRAVITY, overflow);
+        this.trailParticles = new ParticlePool(DEFAULT_TRAIL_CAPACITY, 0f, overflow);
+    }
+
+    /**
+     * 하드 드롭용 빛 줄기 (동시에 몇 개뿐이라 작은 고정 배열)
+     */
+    public static final class Beams {
+        public final int[] x, startY, endY, width, argb;
+        public final short[] life, maxLife;
+        private int count;
+
+        public Beams(int capacity) {
+            x = new int[capacity];
+            startY = new int[capacity];
+            endY = new int[capacity];
+            width = new int[capacity];
+            argb = new int[capacity];
+            life = new short[capacity];
+            maxLife = new short[capacity];
         }
 
-        public void update() {
-            x += vx;
-            y += vy;
-            vy += 0.4;
-            life--;
+        void add(int bx, int sy, int ey, int color, int lifeFrames, int w) {
+            int i = count < x.length ? count++ : 0; // 가득 차면 가장 앞 슬롯을 덮어씀
+            x[i] = bx;
+            startY[i] = sy;
+            endY[i] = ey;
+            width[i] = w;
+            argb[i] = color;
+            life[i] = (short) lifeFrames;
+            maxLife[i] = (short) lifeFrames;
         }
 
-        public boolean isDead() {
-            return life <= 0;
+        /** 살아있는 빔 복사 (렌더 스레드용 스냅샷) */
+        public void copyFrom(Beams src) {
+            int n = Math.min(src.count, x.length);
+            System.arraycopy(src.x, 0, x, 0, n);
+            System.arraycopy(src.startY, 0, startY, 0, n);
+            System.arraycopy(src.endY, 0, endY, 0, n);
+            System.arraycopy(src.width, 0, width, 0, n);
+            System.arraycopy(src.argb, 0, argb, 0, n);
+            System.arraycopy(src.life, 0, life, 0, n);
+            System.arraycopy(src.maxLife, 0, maxLife, 0, n);
+            count = n;
         }
 
-        public float getAlpha() {
-            return (float) life / maxLife;
+        void update() {
+            int n = count;
+            int i = 0;
+            while (i < n) {
+                if (--life[i] > 0) {
+                    i++;
+                    continue;
+                }
+                n--;
+                x[i] = x[n];
+                startY[i] = startY[n];
+                endY[i] = endY[n];
+                width[i] = width[n];
+                argb[i] = argb[n];
+                life[i] = life[n];
+                maxLife[i] = maxLife[n];
+            }
+            count = n;
         }
-    }
 
-    /**
-     * 🌈 궤적 파티클 (중력 효과용)
-     */
-    public static class TrailParticle {
-        public int x, y;
-        public Color color;
-        public int life;
-        public int maxLife;
-        public int cellSize;
-
-        public TrailParticle(int x, int y, Color color, int life, int cellSize) {
-            this.x = x;
-            this.y = y;
-            this.color = color;
-            this.life = life;
-            this.maxLife = life;
-            this.cellSize = cellSize;
+        void clear() {
+            count = 0;
         }
 
-        public void update() {
-            life--;
+        public int size() {
+            return count;
         }
 
-        public boolean isDead() {
-            return life <= 0;
+        public boolean isEmpty() {
+            return count == 0;
         }
 
-        public float getAlpha() {
-            return (float) life / maxLife * 0.5f; // 최대 50% 투명도
+        public float alpha(int i) {
+            return (float) life[i] / maxLife[i];
         }
     }
 
@@ -96,14 +137,14 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
 
-            Color lightningColor = random.nextBoolean()
-                    ? new Color(255, 240, 100)
-                    : new Color(255, 255, 255);
+            int lightningColor = random.nextBoolean()
+                    ? ParticlePool.rgb(255, 240, 100)
+                    : WHITE;
 
             int size = 2;
             int life = 6 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, lightningColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, lightningColor, life, size);
         }
 
         int sparkCount = 3 + random.nextInt(3);
@@ -114,11 +155,11 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed - 0.8;
 
-            Color sparkColor = new Color(150, 220, 255);
+            int sparkColor = ParticlePool.rgb(150, 220, 255);
             int size = 1;
             int life = 8 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, sparkColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, sparkColor, life, size);
         }
     }
 
@@ -134,7 +175,7 @@ public class ParticleSystem {
             double vx = (random.nextDouble() - 0.5) * 1.2;
             double vy = 0.4 + random.nextDouble() * 0.8;
 
-            Color debrisColor = new Color(
+            int debrisColor = ParticlePool.rgb(
                     (int) (blockColor.getRed() * 0.7),
                     (int) (blockColor.getGreen() * 0.7),
                     (int) (blockColor.getBlue() * 0.7));
@@ -142,7 +183,7 @@ public class ParticleSystem {
             int size = 1;
             int life = 10 + random.nextInt(8);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, debrisColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, debrisColor, life, size);
         }
     }
 
@@ -161,7 +202,7 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed - 2.0;
 
-            Color fireColor = new Color(
+            int fireColor = ParticlePool.rgb(
                     Math.min(255, 200 + random.nextInt(56)),
                     Math.min(255, 100 + random.nextInt(100)),
                     50 + random.nextInt(50));
@@ -169,7 +210,7 @@ public class ParticleSystem {
             int size = 2 + random.nextInt(2);
             int life = 8 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, fireColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, fireColor, life, size);
         }
 
         int sparkCount = 5 + random.nextInt(4);
@@ -180,7 +221,7 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed - 2.5;
 
-            Color sparkColor = new Color(
+            int sparkColor = ParticlePool.rgb(
                     255,
                     200 + random.nextInt(56),
                     100 + random.nextInt(100));
@@ -188,7 +229,7 @@ public class ParticleSystem {
             int size = 1;
             int life = 6 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, sparkColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, sparkColor, life, size);
         }
 
         int smokeCount = 2 + random.nextInt(3);
@@ -200,12 +241,12 @@ public class ParticleSystem {
             double vy = Math.sin(angle) * speed;
 
             int gray = 60 + random.nextInt(40);
-            Color smokeColor = new Color(gray, gray, gray);
+            int smokeColor = ParticlePool.rgb(gray, gray, gray);
 
             int size = 3 + random.nextInt(2);
             int life = 12 + random.nextInt(10);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, smokeColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, smokeColor, life, size);
         }
     }
 
@@ -224,7 +265,7 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed - 2.0;
 
-            Color particleColor = new Color(
+            int particleColor = ParticlePool.rgb(
                     Math.min(255, blockColor.getRed() + 80),
                     Math.min(255, blockColor.getGreen() + 80),
                     Math.min(255, blockColor.getBlue() + 80));
@@ -232,7 +273,7 @@ public class ParticleSystem {
             int size = 3 + random.nextInt(2);
             int life = 15 + random.nextInt(10);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, particleColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, particleColor, life, size);
         }
 
         int sparkCount = 4 + random.nextInt(3);
@@ -243,12 +284,12 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed - 2.5;
 
-            Color sparkColor = new Color(255, 255, 200);
+            int sparkColor = ParticlePool.rgb(255, 255, 200);
 
             int size = 2;
             int life = 10 + random.nextInt(8);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, sparkColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, sparkColor, life, size);
         }
     }
 
@@ -276,12 +317,12 @@ public class ParticleSystem {
             double vy = 0.3 + random.nextDouble() * 0.5;
 
             int gray = 150 + random.nextInt(50);
-            Color dustColor = new Color(gray, gray, gray);
+            int dustColor = ParticlePool.rgb(gray, gray, gray);
 
             int size = 1;
             int life = 8 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, dustColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, dustColor, life, size);
         }
     }
 
@@ -289,15 +330,16 @@ public class ParticleSystem {
      * 🌈 중력 궤적 파티클 생성 (블록이 지나간 자리)
      */
     public void createGravityTrailParticle(int blockX, int blockY, Color blockColor, int cellSize) {
-        // 궤적은 정적이므로 TrailParticle 사용
-        trailParticles.add(new TrailParticle(blockX, blockY, blockColor, 12, cellSize));
+        // 궤적은 정적이므로 속도 0, 중력 없는 풀 사용
+        trailParticles.spawn(blockX, blockY, 0, 0, blockColor.getRGB() | 0xFF000000, trailLife, 0);
     }
 
     /**
      * 💫 중력 궤적을 클러스터 전체에 생성
      */
     public void createClusterTrail(List<Point> cluster, Color[][] board, int cellSize) {
-        for (Point p : cluster) {
+        for (int i = 0; i < cluster.size(); i++) {
+            Point p = cluster.get(i);
             if (board[p.y][p.x] != null) {
                 createGravityTrailParticle(p.x, p.y, board[p.y][p.x], cellSize);
             }
@@ -320,7 +362,7 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed * 0.3; // 주로 옆으로
 
-            Color impactColor = new Color(
+            int impactColor = ParticlePool.rgb(
                     Math.min(255, blockColor.getRed() + 60),
                     Math.min(255, blockColor.getGreen() + 60),
                     Math.min(255, blockColor.getBlue() + 60));
@@ -328,7 +370,7 @@ public class ParticleSystem {
             int size = 2;
             int life = 8 + random.nextInt(6);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, impactColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, impactColor, life, size);
         }
 
         // 밝은 섬광
@@ -340,12 +382,12 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
 
-            Color flashColor = new Color(255, 255, 255);
+            int flashColor = WHITE;
 
             int size = 2;
             int life = 6 + random.nextInt(4);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, flashColor, life, size));
+            particles.spawn(centerX, centerY, vx, vy, flashColor, life, size);
         }
     }
 
@@ -353,44 +395,114 @@ public class ParticleSystem {
      * 💥 클러스터 착지 시 전체 충격파
      */
     public void createClusterLandingImpact(List<Point> landedBlocks, Color[][] board, int cellSize) {
-        for (Point p : landedBlocks) {
+        for (int i = 0; i < landedBlocks.size(); i++) {
+            Point p = landedBlocks.get(i);
             if (board[p.y][p.x] != null) {
                 createLandingImpact(p.x, p.y, board[p.y][p.x], cellSize);
             }
         }
     }
 
+    /**
+     * 💥 게임 오버: 채워진 칸이 위로 튀었다가 떨어지며 사라짐 (싱글 플레이)
+     * - stride 칸마다 하나씩만 ((x + y) % stride == 0, 품질 단계용)
+     */
+    public void createShatterBurst(Color[][] board, int cellSize, int gap, int stride) {
+        shards.clear();
+        shards.setGravity(SHATTER_GRAVITY);
+        int size = cellSize - gap * 2;
+        for (int y = 0; y < board.length; y++) {
+            for (int x = 0; x < board[y].length; x++) {
+                Color c = board[y][x];
+                if (c == null || (x + y) % stride != 0)
+                    continue;
+                double vx = (random.nextDouble() - 0.5) * 80;
+                double vy = -(random.nextDouble() * 33 + 20);
+                shards.spawn(x * cellSize + gap, y * cellSize + gap, vx, vy, c.getRGB() | 0xFF000000,
+                        SHATTER_LIFE, size);
+            }
+        }
+    }
+
+    /**
+     * 🪟 게임 오버: 보드 전체가 유리처럼 깨져 중심에서 바깥으로 흩어짐 (온라인 대전)
+     * - 빈 칸도 회색 조각으로 날아감
+     */
+    public void createGlassShatter(Color[][] board, int cellSize) {
+        shards.clear();
+        shards.setGravity(GLASS_GRAVITY);
+        double centerX = BoardLogic.WIDTH / 2.0;
+        double centerY = BoardLogic.HEIGHT / 2.0;
+        for (int y = 0; y < board.length; y++) {
+            for (int x = 0; x < board[y].length; x++) {
+                Color c = board[y][x];
+                double dx = x + 0.5 - centerX;
+                double dy = y + 0.5 - centerY;
+                double distance = Math.sqrt(dx * dx + dy * dy);
+                double vx, vy;
+                if (distance > 0) {
+                    vx = dx / distance * (6 + random.nextDouble() * 6);
+                    vy = dy / distance * (6 + random.nextDouble() * 6);
+                } else {
+                    vx = (random.nextDouble() - 0.5) * 10;
+                    vy = (random.nextDouble() - 0.5) * 10;
+                }
+                shards.spawn(x * cellSize, y * cellSize, vx, vy, c == null ? GLASS_EMPTY : c.getRGB() | 0xFF000000,
+                        GLASS_LIFE, cellSize);
+            }
+        }
+    }
+
     /**
      * 모든 파티클 업데이트
      */
     public void update() {
-        // 일반 파티클 업데이트
-        particles.removeIf(p -> {
-            p.update();
-            return p.isDead();
-        });
-
-        // 궤적 파티클 업데이트
-        trailParticles.removeIf(t -> {
-            t.update();
-            return t.isDead();
-        });
-
-        updateBeamParticles();
+        particles.update();
+        trailParticles.update();
+        beamParticles.update();
+        shards.update();
+    }
+
+    /**
+     * 일반 파티클 풀 (렌더링용 - 복사본 없이 배열을 직접 읽음)
+     */
+    public ParticlePool getParticles() {
+        return particles;
+    }
+
+    /**
+     * 궤적 파티클 풀 (x, y 는 칸 좌표)
+     */
+    public ParticlePool getTrailParticles() {
+        return trailParticles;
     }
 
     /**
-     * 파티클 렌더링용 리스트 반환
+     * 빔 파티클 (렌더링용)
      */
-    public List<Particle> getParticles() {
-        return new ArrayList<>(particles);
+    public Beams getBeamParticles() {
+        return beamParticles;
     }
 
     /**
-     * 궤적 파티클 렌더링용 리스트 반환
+     * 게임 오버 파편 풀 (x, y 는 왼쪽 위 픽셀, size 는 한 변)
      */
-    public List<TrailParticle> getTrailParticles() {
-        return new ArrayList<>(trailParticles);
+    public ParticlePool getShards() {
+        return shards;
+    }
+
+    /**
+     * 동시에 살아있을 일반 파티클 수 제한 (품질 단계용, 풀 크기 이하)
+     */
+    public void setParticleBudget(int budget) {
+        particles.setLimit(budget);
+    }
+
+    /**
+     * 중력 궤적이 남아있는 프레임 수 (품질 단계용)
+     */
+    public void setTrailLife(int frames) {
+        this.trailLife = Math.max(1, frames);
     }
 
     /**
@@ -400,52 +512,24 @@ public class ParticleSystem {
         particles.clear();
         trailParticles.clear();
         beamParticles.clear();
+        shards.clear();
     }
 
     /**
-     * 현재 파티클 개수
+     * 살아있는 파티클이 하나라도 있는지 (렌더 스케줄러용)
      */
-    public int getParticleCount() {
-        return particles.size() + trailParticles.size();
+    public boolean hasActiveParticles() {
+        return !particles.isEmpty() || !trailParticles.isEmpty() || !beamParticles.isEmpty()
+                || !shards.isEmpty();
     }
 
     /**
-     * 하드 드롭용 빛 줄기 파티클
+     * 현재 파티클 개수
      */
-    public static class BeamParticle {
-        public int x;
-        public int startY;
-        public int endY;
-        public Color color;
-        public int life;
-        public int maxLife;
-        public int width;
-
-        public BeamParticle(int x, int startY, int endY, Color color, int life, int width) {
-            this.x = x;
-            this.startY = startY;
-            this.endY = endY;
-            this.color = color;
-            this.life = life;
-            this.maxLife = life;
-            this.width = width;
-        }
-
-        public void update() {
-            life--;
-        }
-
-        public boolean isDead() {
-            return life <= 0;
-        }
-
-        public float getAlpha() {
-            return (float) life / maxLife;
-        }
+    public int getParticleCount() {
+        return particles.size() + trailParticles.size();
     }
 
-    private final List<BeamParticle> beamParticles = new ArrayList<>();
-
     /**
      * 하드 드롭 넓은 광선 효과
      */
@@ -456,13 +540,13 @@ public class ParticleSystem {
         int beamCenterX = startX * cellSize + (widthCells * cellSize) / 2;
         int beamWidth = widthCells * cellSize;
 
-        beamParticles.add(new BeamParticle(
-                startX * cellSize + (widthCells * cellSize) / 2,
+        beamParticles.add(
+                beamCenterX,
                 0,
                 boardHeight * cellSize,
-                blockColor,
+                blockColor.getRGB() | 0xFF000000,
                 6,
-                beamWidth));
+                beamWidth);
 
         double centerX = beamCenterX;
         double centerY = endY * cellSize + cellSize;
@@ -475,12 +559,12 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
 
-            Color sparkColor = new Color(
+            int sparkColor = ParticlePool.rgb(
                     Math.min(255, 220 + random.nextInt(36)),
                     Math.min(255, 220 + random.nextInt(36)),
                     255);
 
-            particles.add(new Particle(centerX, centerY, vx, vy, sparkColor, 10 + random.nextInt(8), 3));
+            particles.spawn(centerX, centerY, vx, vy, sparkColor, 10 + random.nextInt(8), 3);
         }
 
         int dustCount = 6 + random.nextInt(4);
@@ -492,27 +576,9 @@ public class ParticleSystem {
             double vy = Math.sin(angle) * speed * 0.5;
 
             int gray = 180 + random.nextInt(50);
-            Color dustColor = new Color(gray, gray, gray);
+            int dustColor = ParticlePool.rgb(gray, gray, gray);
 
-            particles.add(
-                    new Particle(centerX, centerY, vx, vy, dustColor, 12 + random.nextInt(8), 3 + random.nextInt(2)));
+            particles.spawn(centerX, centerY, vx, vy, dustColor, 12 + random.nextInt(8), 3 + random.nextInt(2));
         }
     }
-
-    /**
-     * 빔 파티클 업데이트
-     */
-    private void updateBeamParticles() {
-        beamParticles.removeIf(beam -> {
-            beam.update();
-            return beam.isDead();
-        });
-    }
-
-    /**
-     * 빔 파티클 렌더링용 리스트 반환
-     */
-    public List<BeamParticle> getBeamParticles() {
-        return new ArrayList<>(beamParticles);
-    }
-}
\ No newline at end of file
+}
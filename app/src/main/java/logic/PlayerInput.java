@@ -0,0 +1,93 @@
+package logic;
+
+/**
+ * 플레이어 입력 비트 (프레임 단위 입력 스트림용)
+ * - 한 프레임에 여러 입력이 들어오면 add 로 합쳐서 전송
+ * - LEFT / RIGHT / ROTATE / DOWN 은 같은 프레임에 두 번 이상 오면 추가 횟수를 상위 비트에 기록
+ *   (입력당 4비트, 최대 16회) → 빠른 연타도 칸 수 그대로 재현, 횟수를 모르는 쪽은 한 번으로 읽음
+ * - 재시뮬레이션 시 LEFT → RIGHT → ROTATE → DOWN → DROP → SPAWN 순서로 적용 (count 만큼 반복)
+ */
+public final class PlayerInput {
+
+    public static final int NONE = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int ROTATE = 1 << 2;
+    public static final int DOWN = 1 << 3; // 중력 / 소프트드롭 (막혀 있으면 고정)
+    public static final int DROP = 1 << 4; // 하드드롭
+    public static final int SPAWN = 1 << 5; // 새 블록 등장
+
+    // 추가 횟수 필드 (LEFT, RIGHT, ROTATE, DOWN 순서로 4비트씩)
+    private static final int COUNT_SHIFT = 8;
+    private static final int COUNT_MASK = 0xF;
+    private static final int[] COUNTED = { LEFT, RIGHT, ROTATE, DOWN };
+
+    private PlayerInput() {
+    }
+
+    /** 같은 프레임의 누적 입력에 새 입력을 더함 (횟수를 세는 입력은 이미 있으면 추가 횟수 +1) */
+    public static int add(int bits, int input) {
+        for (int i = 0; i < COUNTED.length; i++) {
+            int bit = COUNTED[i];
+            if ((input & bit) == 0)
+                continue;
+            if ((bits & bit) == 0) {
+                bits |= bit;
+                continue;
+            }
+            int shift = COUNT_SHIFT + i * 4;
+            int extra = (bits >>> shift) & COUNT_MASK;
+            if (extra < COUNT_MASK)
+                bits = (bits & ~(COUNT_MASK << shift)) | ((extra + 1) << shift);
+        }
+        return bits | (input & (DROP | SPAWN));
+    }
+
+    /**
+     * 같은 프레임을 누적해서 다시 보낸 경우 새로 생긴 입력만 (seen 에 이미 있던 횟수는 뺌)
+     * - bits 는 seen 을 포함하는 누적값이라고 가정
+     */
+    public static int since(int bits, int seen) {
+        int fresh = bits & ~seen & (DROP | SPAWN);
+        for (int bit : COUNTED) {
+            for (int n = count(bits, bit) - count(seen, bit); n > 0; n--)
+                fresh = add(fresh, bit);
+        }
+        return fresh;
+    }
+
+    /** 이 프레임에 해당 입력이 몇 번 들어왔는지 (0 = 없음, DROP / SPAWN 은 0 또는 1) */
+    public static int count(int bits, int input) {
+        if ((bits & input) == 0)
+            return 0;
+        for (int i = 0; i < COUNTED.length; i++) {
+            if (COUNTED[i] == input)
+                return 1 + ((bits >>> (COUNT_SHIFT + i * 4)) & COUNT_MASK);
+        }
+        return 1;
+    }
+
+    /** 디버그 출력용 문자열 (예: "L2|R|D", 숫자는 같은 프레임 횟수) */
+    public static String toString(int bits) {
+        if (bits == NONE)
+            return "-";
+        StringBuilder sb = new StringBuilder();
+        appendCounted(sb, bits, LEFT, 'L');
+        appendCounted(sb, bits, RIGHT, 'R');
+        appendCounted(sb, bits, ROTATE, 'T');
+        appendCounted(sb, bits, DOWN, 'D');
+        if ((bits & DROP) != 0) sb.append("H|");
+        if ((bits & SPAWN) != 0) sb.append("S|");
+        return sb.substring(0, sb.length() - 1);
+    }
+
+    private static void appendCounted(StringBuilder sb, int bits, int input, char name) {
+        int n = count(bits, input);
+        if (n == 0)
+            return;
+        sb.append(name);
+        if (n > 1)
+            sb.append(n);
+        sb.append('|');
+    }
+}
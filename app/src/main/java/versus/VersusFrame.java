@@ -5,6 +5,7 @@ import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import component.GameConfig;
+import component.metrics.PerfOverlay;
 
 // VersusFrame.java 수정
 public class VersusFrame extends JFrame {
@@ -20,6 +21,9 @@ public class VersusFrame extends JFrame {
         versusPanel = new VersusPanel(p1Config, p2Config, gameRule);
         setContentPane(versusPanel);
 
+        // F2: 프레임 / 틱 / EDT / GC 성능 오버레이
+        PerfOverlay.install(getRootPane());
+
         addWindowListener(new WindowAdapter() {
             @Override
             public void windowClosing(WindowEvent e) {
@@ -1,5 +1,6 @@
 package versus;
 
+import component.metrics.PerfMonitor;
 import component.BoardPanel;
 import component.GameConfig;
 import component.ai.AIPlayer;
@@ -236,7 +237,7 @@ public class VersusGameManager {
         System.out.println("[AI] Initialized with difficulty: " + difficulty);
 
         // AI 행동 타이머 (100ms마다 체크)
-        aiTimer = new Timer(100, e -> executeAIAction());
+        aiTimer = PerfMonitor.timer(100, e -> executeAIAction());
         aiTimer.start();
     }
 
@@ -1,5 +1,6 @@
 package versus;
 
+import component.metrics.PerfMonitor;
 import component.GameConfig;
 import component.PausePanel;
 import component.sidebar.HUDSidebar;
@@ -195,7 +196,7 @@ public class VersusPanel extends JPanel {
         }
 
         // === 사이드 HUD 주기적 갱신 ===
-        javax.swing.Timer hudTimer = new javax.swing.Timer(100, e -> {
+        javax.swing.Timer hudTimer = PerfMonitor.timer(100, e -> {
             p1Sidebar.setScore(manager.getP1Score());
             p2Sidebar.setScore(manager.getP2Score());
         });
@@ -340,7 +341,7 @@ public class VersusPanel extends JPanel {
         }
 
         // 1.5초 후 결과 카드 표시
-        javax.swing.Timer t = new javax.swing.Timer(1500, e -> {
+        javax.swing.Timer t = PerfMonitor.timer(1500, e -> {
             ((javax.swing.Timer) e.getSource()).stop();
             showResultDialog();
         });
@@ -501,7 +502,7 @@ public class VersusPanel extends JPanel {
     private void startTimeAttackTimer() {
         updateTimerLabel();
 
-        timeAttackTimer = new javax.swing.Timer(1000, e -> {
+        timeAttackTimer = PerfMonitor.timer(1000, e -> {
             if (remainingSeconds > 0) {
                 remainingSeconds--;
                 updateTimerLabel();
@@ -0,0 +1,164 @@
+package component;
+
+import logic.BoardLogic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+public class ActiveBoardRendererTest {
+
+    private static final int CELL = 25;
+
+    private BoardLogic logic;
+    private BoardView view;
+    private ActiveBoardRenderer renderer;
+
+    @Before
+    public void setup() {
+        logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        Color[][] board = logic.getBoard();
+        for (int y = 14; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++)
+                if (x != y % BoardLogic.WIDTH)
+                    board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+        view = new BoardView(logic, null);
+        view.stopRendering();
+        view.setSize(BoardLogic.WIDTH * CELL, BoardLogic.HEIGHT * CELL);
+    }
+
+    @After
+    public void tearDown() {
+        if (renderer != null)
+            renderer.stop();
+        view.cleanup();
+    }
+
+    private static int differentPixels(BufferedImage a, BufferedImage b) {
+        int diff = 0;
+        for (int y = 0; y < a.getHeight(); y++)
+            for (int x = 0; x < a.getWidth(); x++)
+                if (a.getRGB(x, y) != b.getRGB(x, y))
+                    diff++;
+        return diff;
+    }
+
+    @Test
+    public void testSnapshotLooksLikeSwingPaint() {
+        BufferedImage swing = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = swing.createGraphics();
+        view.paint(g);
+        g.dispose();
+
+        BoardSnapshot s = new BoardSnapshot();
+        view.captureSnapshot(s);
+        assertEquals(4, s.getPieceCells());
+        assertSame(logic.getBoard()[BoardLogic.HEIGHT - 1][1], s.getCell(1, BoardLogic.HEIGHT - 1));
+
+        ActiveBoardRenderer.ImageTarget target = new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight());
+        renderer = new ActiveBoardRenderer(target, new SnapshotBuffer<>(BoardSnapshot::new));
+        renderer.present(s);
+
+        assertEquals(1, target.getShown());
+        assertEquals(0, differentPixels(swing, target.getImage()));
+    }
+
+    @Test
+    public void testShardsLookLikeSwingPaint() {
+        logic.getClearService().getParticleSystem().createShatterBurst(logic.getBoard(), CELL, 0, 1);
+        for (int i = 0; i < 5; i++)
+            logic.getClearService().getParticleSystem().update();
+
+        BufferedImage swing = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = swing.createGraphics();
+        view.paint(g);
+        g.dispose();
+
+        BoardSnapshot s = new BoardSnapshot();
+        view.captureSnapshot(s);
+        ActiveBoardRenderer.ImageTarget target = new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight());
+        renderer = new ActiveBoardRenderer(target, new SnapshotBuffer<>(BoardSnapshot::new));
+        renderer.present(s);
+
+        assertEquals(0, differentPixels(swing, target.getImage()));
+    }
+
+    @Test
+    public void testSnapshotIsACopy() {
+        BoardSnapshot s = new BoardSnapshot();
+        view.captureSnapshot(s);
+        Color before = s.getCell(0, 0);
+        logic.getBoard()[0][0] = Color.RED;
+        assertEquals(before, s.getCell(0, 0));
+    }
+
+    @Test
+    public void testRenderThreadDrawsOnlyWhenPublished() throws Exception {
+        SnapshotBuffer<BoardSnapshot> buffer = new SnapshotBuffer<>(BoardSnapshot::new);
+        ActiveBoardRenderer.ImageTarget target = new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight());
+        renderer = new ActiveBoardRenderer(target, buffer);
+        renderer.start();
+
+        view.captureSnapshot(buffer.back());
+        buffer.publish();
+        renderer.wake();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (renderer.getFrames() < 1 && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertEquals(1, renderer.getFrames());
+
+        Thread.sleep(300); // 새 스냅샷이 없으면 그리지 않음
+        assertEquals(1, renderer.getFrames());
+
+        view.captureSnapshot(buffer.back());
+        buffer.publish();
+        renderer.wake();
+        deadline = System.currentTimeMillis() + 2000;
+        while (renderer.getFrames() < 2 && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertEquals(2, renderer.getFrames());
+
+        renderer.stop();
+        assertFalse(renderer.isRunning());
+    }
+
+    @Test
+    public void testPausingFallsBackToSwing() {
+        ActiveBoardRenderer.ImageTarget target = new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight());
+        view.enableActiveRendering(target);
+        view.resumeRendering();
+        view.getRenderScheduler().tick();
+        assertTrue(view.isActiveRendering());
+
+        view.pauseRendering();
+        assertFalse(view.isActiveRendering());
+    }
+
+    @Test
+    public void testActiveFramesFeedQualityGovernor() throws Exception {
+        ActiveBoardRenderer.ImageTarget target = new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight());
+        view.enableActiveRendering(target);
+        view.resumeRendering();
+        view.getRenderScheduler().tick();
+        assertTrue(view.isActiveRendering());
+
+        ActiveBoardRenderer r = view.getActiveRenderer();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (r.getFrames() < 1 && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertTrue(r.getFrames() >= 1);
+
+        // paintComponent 는 불리지 않지만 다음 틱에 렌더 스레드의 그리기 시간이 넘어옴
+        view.getRenderScheduler().tick();
+        assertTrue(view.getQualityGovernor().getFrames() >= 1);
+        assertEquals(0, r.drainPaintTimes(n -> {
+        }));
+    }
+}
@@ -0,0 +1,195 @@
+package component;
+
+import component.items.WeightItem;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+public class CellSpriteAtlasTest {
+
+    private static final int CELL = 25;
+    private static final Color BG = new Color(25, 30, 42);
+
+    private CellSpriteAtlas atlas;
+
+    @Before
+    public void setup() {
+        atlas = new CellSpriteAtlas();
+    }
+
+    private static BufferedImage canvas() {
+        BufferedImage img = new BufferedImage(CELL * 4, CELL * 4, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(BG);
+        g.fillRect(0, 0, img.getWidth(), img.getHeight());
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.dispose();
+        return img;
+    }
+
+    private static Graphics2D open(BufferedImage img) {
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g;
+    }
+
+    // 예전 BoardView.drawCell 을 그대로 옮긴 기준 렌더링
+    private static void legacyCell(Graphics2D g2, int px, int py, Color base, int size) {
+        int inset = (int) (size * 0.22);
+        int innerX = px + inset;
+        int innerY = py + inset;
+        int innerSize = size - inset * 2;
+
+        Polygon top = new Polygon();
+        top.addPoint(px, py);
+        top.addPoint(px + size, py);
+        top.addPoint(innerX + innerSize, innerY);
+        top.addPoint(innerX, innerY);
+        g2.setColor(CellSpriteAtlas.lighten(base, 0.15f));
+        g2.fillPolygon(top);
+
+        Polygon bottom = new Polygon();
+        bottom.addPoint(innerX, innerY + innerSize);
+        bottom.addPoint(innerX + innerSize, innerY + innerSize);
+        bottom.addPoint(px + size, py + size);
+        bottom.addPoint(px, py + size);
+        g2.setColor(CellSpriteAtlas.darken(base, 0.20f));
+        g2.fillPolygon(bottom);
+
+        Polygon left = new Polygon();
+        left.addPoint(px, py);
+        left.addPoint(innerX, innerY);
+        left.addPoint(innerX, innerY + innerSize);
+        left.addPoint(px, py + size);
+        g2.setColor(CellSpriteAtlas.lighten(base, 0.07f));
+        g2.fillPolygon(left);
+
+        Polygon right = new Polygon();
+        right.addPoint(innerX + innerSize, innerY);
+        right.addPoint(px + size, py);
+        right.addPoint(px + size, py + size);
+        right.addPoint(innerX + innerSize, innerY + innerSize);
+        g2.setColor(CellSpriteAtlas.darken(base, 0.12f));
+        g2.fillPolygon(right);
+
+        g2.setColor(CellSpriteAtlas.darken(base, 0.03f));
+        g2.fillRect(innerX, innerY, innerSize, innerSize);
+
+        g2.setColor(new Color(0, 0, 0, 120));
+        g2.drawRect(px, py, size, size);
+    }
+
+    // 채널별 최대 차이 (안티앨리어싱 가장자리의 합성 순서 차이만 허용)
+    private static int maxDiff(BufferedImage a, BufferedImage b) {
+        int max = 0;
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                int p = a.getRGB(x, y), q = b.getRGB(x, y);
+                for (int shift = 0; shift < 24; shift += 8) {
+                    max = Math.max(max, Math.abs((p >> shift & 0xFF) - (q >> shift & 0xFF)));
+                }
+            }
+        }
+        return max;
+    }
+
+    @Test
+    public void testSpriteMatchesLegacyBevel() {
+        for (ColorBlindPalette.Mode mode : ColorBlindPalette.Mode.values()) {
+            for (Color c : ColorBlindPalette.BASE_COLORS) {
+                BufferedImage expected = canvas();
+                Graphics2D g = open(expected);
+                legacyCell(g, CELL, CELL * 2, ColorBlindPalette.convert(c, mode), CELL);
+                g.dispose();
+
+                BufferedImage actual = canvas();
+                g = open(actual);
+                atlas.prepare(g, mode, CELL);
+                atlas.drawBlock(g, c, CELL, CELL * 2);
+                g.dispose();
+
+                assertTrue(mode + " " + c, maxDiff(expected, actual) <= 8);
+            }
+        }
+    }
+
+    @Test
+    public void testGhostMatchesLegacyOutline() {
+        BufferedImage expected = canvas();
+        Graphics2D g = open(expected);
+        g.setColor(new Color(200, 200, 200, 120));
+        g.setStroke(new BasicStroke(2f));
+        g.drawRect(CELL, CELL, CELL, CELL);
+        g.dispose();
+
+        BufferedImage actual = canvas();
+        g = open(actual);
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+        atlas.drawGhost(g, CELL, CELL);
+        g.dispose();
+
+        assertEquals(0, maxDiff(expected, actual));
+    }
+
+    @Test
+    public void testSpritesAreBuiltOncePerKey() {
+        BufferedImage img = canvas();
+        Graphics2D g = open(img);
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+
+        for (int frame = 0; frame < 60; frame++) {
+            for (Color c : ColorBlindPalette.BASE_COLORS) {
+                atlas.drawBlock(g, new Color(c.getRGB()), 0, 0); // 다른 인스턴스여도 같은 키
+                atlas.drawGhost(g, 0, 0);
+            }
+            atlas.drawItem(g, ColorBlindPalette.I, new WeightItem(), 0, 0);
+        }
+        assertEquals(7 + 1 + 1, atlas.getBuildCount());
+
+        assertSame(atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK),
+                atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK));
+        g.dispose();
+    }
+
+    @Test
+    public void testModeOrSizeChangeRebuilds() {
+        BufferedImage img = canvas();
+        Graphics2D g = open(img);
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+        BufferedImage normal = atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK);
+
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+        assertSame("same settings keep the cache", normal,
+                atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK));
+
+        atlas.prepare(g, ColorBlindPalette.Mode.PROTAN, CELL);
+        BufferedImage protan = atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK);
+        assertNotSame(normal, protan);
+        int center = CELL / 2;
+        assertNotEquals(normal.getRGB(center, center), protan.getRGB(center, center));
+
+        atlas.prepare(g, ColorBlindPalette.Mode.PROTAN, 30);
+        assertEquals(31, atlas.sprite(ColorBlindPalette.T, CellSpriteAtlas.Variant.BLOCK).getWidth());
+        assertEquals(30 + 3, atlas.sprite(null, CellSpriteAtlas.Variant.GHOST).getWidth());
+        g.dispose();
+    }
+
+    @Test
+    public void testHiDpiSpriteRenderedAtDeviceScale() {
+        BufferedImage img = canvas();
+        Graphics2D g = open(img);
+        g.scale(2.0, 2.0);
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, 20);
+        assertEquals(42, atlas.sprite(ColorBlindPalette.I, CellSpriteAtlas.Variant.BLOCK).getWidth());
+        g.dispose();
+    }
+}
@@ -0,0 +1,107 @@
+package component;
+
+import logic.BoardLogic;
+import logic.ParticlePool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class GameOverShatterTest {
+
+    private BoardLogic logic;
+    private BoardView view;
+    private RenderScheduler scheduler;
+    private final AtomicInteger done = new AtomicInteger();
+
+    @Before
+    public void setup() {
+        logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        view = new BoardView(logic, null);
+        scheduler = view.getRenderScheduler();
+    }
+
+    @After
+    public void tearDown() {
+        view.cleanup();
+    }
+
+    private int fillBottomRows(int rows) {
+        Color[][] board = logic.getBoard();
+        int filled = 0;
+        for (int y = BoardLogic.HEIGHT - rows; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++, filled++)
+                board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+        return filled;
+    }
+
+    /** 렌더링이 도는 중에 효과 시작 → 타이머는 멈추고 tick() 을 직접 호출 */
+    private void startOnEdt(Runnable trigger) throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            view.resumeRendering();
+            trigger.run();
+            view.stopRendering();
+        });
+    }
+
+    private int tickUntilDone(ParticlePool shards) throws Exception {
+        int ticks = 0;
+        while (!shards.isEmpty() && ticks < 100) {
+            assertTrue("shards repaint the whole board", scheduler.tick().isFull());
+            ticks++;
+        }
+        scheduler.tick(); // 마지막 update 로 비워진 틱에서 콜백 예약
+        SwingUtilities.invokeAndWait(() -> {});
+        return ticks;
+    }
+
+    @Test
+    public void testGameOverBurstUsesPooledShards() throws Exception {
+        int filled = fillBottomRows(3);
+        ParticlePool shards = logic.getClearService().getParticleSystem().getShards();
+        int components = view.getComponentCount();
+
+        startOnEdt(() -> view.triggerGameOverAnimation(done::incrementAndGet));
+
+        assertEquals("HIGH tier: one shard per filled cell", filled, shards.size());
+        assertNull(logic.getBoard()[BoardLogic.HEIGHT - 1][0]);
+        assertEquals("no Swing components created", components, view.getComponentCount());
+        assertTrue(view.isShattering());
+        assertEquals(0, done.get());
+
+        int ticks = tickUntilDone(shards);
+        assertTrue(ticks > 10 && ticks < 100);
+        assertEquals(1, done.get());
+        assertFalse(view.isShattering());
+    }
+
+    @Test
+    public void testGlassShatterCoversWholeBoard() throws Exception {
+        fillBottomRows(2);
+        ParticlePool shards = logic.getClearService().getParticleSystem().getShards();
+
+        startOnEdt(() -> view.triggerGlassShatter(done::incrementAndGet));
+
+        assertEquals("empty cells shatter too", BoardLogic.WIDTH * BoardLogic.HEIGHT, shards.size());
+        tickUntilDone(shards);
+        assertEquals(1, done.get());
+    }
+
+    @Test
+    public void testStoppedRenderingRunsCallbackImmediately() throws Exception {
+        fillBottomRows(2);
+        view.stopRendering();
+        SwingUtilities.invokeAndWait(() -> view.triggerGameOverAnimation(done::incrementAndGet));
+
+        assertEquals(1, done.get());
+        assertTrue(logic.getClearService().getParticleSystem().getShards().isEmpty());
+        assertFalse(view.isShattering());
+    }
+}
@@ -0,0 +1,143 @@
+package component;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+public class LockedCellLayerTest {
+
+    private static final int W = 10, H = 20, CELL = 25;
+
+    private Color[][] grid;
+    private CellSpriteAtlas sprites;
+    private LockedCellLayer layer;
+
+    @Before
+    public void setup() {
+        grid = new Color[H][W];
+        sprites = new CellSpriteAtlas();
+        layer = new LockedCellLayer(W, H);
+    }
+
+    private BufferedImage paint(LockedCellLayer l, CellSpriteAtlas atlas) {
+        BufferedImage img = new BufferedImage(W * CELL + 1, H * CELL + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        atlas.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+        l.paint(g, grid, atlas, CELL, null);
+        g.dispose();
+        return img;
+    }
+
+    // 새 레이어로 처음부터 그린 결과
+    private BufferedImage fresh() {
+        return paint(new LockedCellLayer(W, H), new CellSpriteAtlas());
+    }
+
+    private static void assertSameImage(BufferedImage expected, BufferedImage actual) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y))
+                    fail("pixel (" + x + "," + y + ") differs");
+            }
+        }
+    }
+
+    private void fillRow(int y, Color c, int hole) {
+        for (int x = 0; x < W; x++)
+            grid[y][x] = x == hole ? null : c;
+    }
+
+    @Test
+    public void testUnchangedBoardIsNotRedrawn() {
+        fillRow(19, ColorBlindPalette.T, 4);
+        paint(layer, sprites);
+        long rows = layer.getRowsRendered();
+
+        for (int i = 0; i < 10; i++)
+            paint(layer, sprites);
+
+        assertEquals(rows, layer.getRowsRendered());
+        assertEquals(10, layer.getFramesReused());
+    }
+
+    @Test
+    public void testOnlyChangedRowsAreRedrawn() {
+        fillRow(19, ColorBlindPalette.T, 4);
+        fillRow(18, ColorBlindPalette.I, 2);
+        paint(layer, sprites);
+        long rows = layer.getRowsRendered();
+
+        grid[17][5] = ColorBlindPalette.O; // 락
+        paint(layer, sprites);
+        assertEquals(rows + 1, layer.getRowsRendered());
+
+        grid[18][2] = new Color(ColorBlindPalette.I.getRGB()); // 같은 색의 다른 인스턴스 (상대 델타)
+        paint(layer, sprites);
+        assertEquals(rows + 2, layer.getRowsRendered());
+    }
+
+    @Test
+    public void testIncrementalResultMatchesFullRender() {
+        Color[] colors = ColorBlindPalette.BASE_COLORS;
+        for (int y = 10; y < H; y++)
+            fillRow(y, colors[y % colors.length], y % W);
+        paint(layer, sprites);
+
+        // 줄 삭제 + 중력 (한 줄씩 아래로)
+        for (int y = 14; y > 0; y--)
+            grid[y] = grid[y - 1].clone();
+        grid[0] = new Color[W];
+        // 가비지 한 줄 밀어올림
+        for (int y = 0; y < H - 1; y++)
+            grid[y] = grid[y + 1].clone();
+        fillRow(H - 1, Color.GRAY, 3);
+        // 칸 하나 지움 (아래 줄 테두리가 드러나야 함)
+        grid[12][6] = null;
+
+        assertSameImage(fresh(), paint(layer, sprites));
+    }
+
+    @Test
+    public void testSpriteInvalidationRedrawsEverything() {
+        fillRow(19, ColorBlindPalette.T, 4);
+        paint(layer, sprites);
+        long rows = layer.getRowsRendered();
+
+        sprites.invalidate();
+        paint(layer, sprites);
+        assertEquals(rows + H, layer.getRowsRendered());
+    }
+
+    @Test
+    public void testMatchesPerCellDrawing() {
+        for (int y = 5; y < H; y++)
+            fillRow(y, ColorBlindPalette.BASE_COLORS[y % 7], y % W);
+
+        BufferedImage expected = new BufferedImage(W * CELL + 1, H * CELL + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = expected.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        sprites.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+        for (int y = 0; y < H; y++)
+            for (int x = 0; x < W; x++)
+                if (grid[y][x] != null)
+                    sprites.drawBlock(g, grid[y][x], x * CELL, y * CELL);
+        g.dispose();
+
+        BufferedImage actual = paint(layer, sprites);
+        int max = 0;
+        for (int y = 0; y < expected.getHeight(); y++)
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int p = expected.getRGB(x, y), q = actual.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8)
+                    max = Math.max(max, Math.abs((p >> shift & 0xFF) - (q >> shift & 0xFF)));
+            }
+        assertTrue("max channel diff " + max, max <= 2); // 프리멀티플라이 반올림 정도만
+    }
+}
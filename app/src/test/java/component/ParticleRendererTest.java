@@ -0,0 +1,109 @@
+package component;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import logic.ParticlePool;
+import logic.ParticleSystem;
+
+public class ParticleRendererTest {
+
+    private static BufferedImage canvas() {
+        return new BufferedImage(250, 500, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static Graphics2D graphics(BufferedImage img) {
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g;
+    }
+
+    private static boolean anyLit(BufferedImage img) {
+        for (int y = 0; y < img.getHeight(); y++)
+            for (int x = 0; x < img.getWidth(); x++)
+                if ((img.getRGB(x, y) & 0xFFFFFF) != 0)
+                    return true;
+        return false;
+    }
+
+    @Test
+    public void testStepNeverHidesLiveParticle() {
+        assertEquals(1, ParticleRenderer.step(0.001f));
+        assertEquals(ParticleRenderer.ALPHA_STEPS, ParticleRenderer.step(1f));
+        assertEquals(ParticleRenderer.ALPHA_STEPS / 2, ParticleRenderer.step(0.5f));
+    }
+
+    @Test
+    public void testSameColorsShareBucket() {
+        assertEquals(ParticleRenderer.bucketOf(0xFF0000), ParticleRenderer.bucketOf(0xF80808));
+        assertNotEquals(ParticleRenderer.bucketOf(0xFF0000), ParticleRenderer.bucketOf(0x00FF00));
+    }
+
+    @Test
+    public void testColorTableIsReusedAcrossFrames() {
+        ParticlePool pool = new ParticlePool(64, 0f, ParticlePool.Overflow.DROP_NEW);
+        for (int i = 0; i < 40; i++)
+            pool.spawn(10 + i * 5, 50, 3, 0, i % 2 == 0 ? 0xFFFF0000 : 0xFF0000FF, 10, 3);
+
+        ParticleRenderer renderer = new ParticleRenderer();
+        BufferedImage img = canvas();
+        Graphics2D g = graphics(img);
+        renderer.drawSparks(g, pool);
+        long built = renderer.getColorsBuilt();
+        long sprites = renderer.getSpritesBuilt();
+        assertTrue(anyLit(img));
+        assertTrue("two colours at one alpha need only a few setColor calls", renderer.getColorChanges() <= 4);
+
+        renderer.drawSparks(g, pool);
+        assertEquals("second identical frame builds nothing", built, renderer.getColorsBuilt());
+        assertEquals(sprites, renderer.getSpritesBuilt());
+        g.dispose();
+    }
+
+    @Test
+    public void testTrailsAndBeamsDraw() {
+        ParticleSystem ps = new ParticleSystem();
+        ps.createGravityTrailParticle(2, 3, Color.GREEN, 25);
+        ps.createHardDropBeamWide(4, 2, 0, 18, Color.ORANGE, 25);
+
+        ParticleRenderer renderer = new ParticleRenderer();
+        BufferedImage img = canvas();
+        Graphics2D g = graphics(img);
+        renderer.drawTrails(g, ps.getTrailParticles(), 25, 0);
+        assertNotEquals(0, img.getRGB(2 * 25 + 12, 3 * 25 + 12) & 0xFFFFFF);
+
+        renderer.drawBeams(g, ps.getBeamParticles());
+        long sprites = renderer.getSpritesBuilt();
+        renderer.drawBeams(g, ps.getBeamParticles());
+        assertEquals("beam sprite reused while the beam lives", sprites, renderer.getSpritesBuilt());
+        assertNotEquals(0, img.getRGB(5 * 25, 250) & 0xFFFFFF);
+        g.dispose();
+    }
+
+    @Test
+    public void testShardsDrawSquareWithDarkerOutline() {
+        ParticlePool pool = new ParticlePool(4, 0f, ParticlePool.Overflow.DROP_NEW);
+        pool.spawn(50, 100, 0, 0, 0xFFF0F000, 10, 25);
+
+        ParticleRenderer renderer = new ParticleRenderer();
+        BufferedImage img = canvas();
+        Graphics2D g = img.createGraphics();
+        renderer.drawShards(g, pool);
+        long built = renderer.getColorsBuilt();
+        renderer.drawShards(g, pool);
+        assertEquals("second identical frame builds nothing", built, renderer.getColorsBuilt());
+        g.dispose();
+
+        int inside = img.getRGB(50 + 12, 100 + 12) & 0xFFFFFF;
+        int edge = img.getRGB(50, 100 + 12) & 0xFFFFFF;
+        assertEquals(0xFFFF00, inside);
+        assertTrue("outline is darker than the face", (edge >> 16 & 0xFF) < (inside >> 16 & 0xFF));
+        assertEquals(0, img.getRGB(50 + 25, 100 + 12) & 0xFFFFFF);
+    }
+}
@@ -0,0 +1,68 @@
+package component;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PieceMotionTest {
+
+    private static final long MS = 1_000_000L;
+    private static final double EPS = 1e-6;
+
+    @Test
+    public void testSlidesBetweenUpdates() {
+        PieceMotion m = new PieceMotion();
+        Object piece = new Object();
+        m.update(piece, 3, 0, 18, 0);
+        m.update(piece, 4, 0, 18, 100 * MS);
+
+        assertEquals(3.0, m.displayX(100 * MS), EPS);
+        assertEquals(3.5, m.displayX(100 * MS + PieceMotion.SLIDE_NANOS / 2), EPS);
+        assertEquals(4.0, m.displayX(100 * MS + PieceMotion.SLIDE_NANOS), EPS);
+        assertEquals(4.0, m.displayX(500 * MS), EPS);
+    }
+
+    @Test
+    public void testFallLeadIsCappedBelowNextRowAndGhost() {
+        PieceMotion m = new PieceMotion();
+        m.setFallInterval(1000);
+        Object piece = new Object();
+        m.update(piece, 3, 5, 18, 0);
+
+        assertEquals(5.5, m.displayY(500 * MS), EPS);
+        assertEquals(5.0 + PieceMotion.MAX_LEAD, m.displayY(5000 * MS), EPS);
+
+        // 바닥 바로 위: 고스트 위치를 넘지 않음
+        m.update(piece, 3, 6, 6, 6000 * MS);
+        assertTrue(m.displayY(7000 * MS) <= 6.0 + EPS);
+    }
+
+    @Test
+    public void testNextRowContinuesFromPredictedPosition() {
+        PieceMotion m = new PieceMotion();
+        m.setFallInterval(1000);
+        Object piece = new Object();
+        m.update(piece, 3, 5, 18, 0);
+        double before = m.displayY(800 * MS);
+
+        m.update(piece, 3, 6, 18, 800 * MS);
+        assertEquals("no backward jump", before, m.displayY(800 * MS), EPS);
+        assertTrue(m.displayY(800 * MS + PieceMotion.SLIDE_NANOS) >= 6.0);
+    }
+
+    @Test
+    public void testSnapsOnNewPieceOrLongJump() {
+        PieceMotion m = new PieceMotion();
+        Object a = new Object();
+        m.update(a, 3, 10, 18, 0);
+
+        m.update(new Object(), 5, 0, 18, 10 * MS);
+        assertEquals(5.0, m.displayX(10 * MS), EPS);
+        assertEquals(0.0, m.displayY(10 * MS), EPS);
+
+        Object b = new Object();
+        m.update(b, 3, 0, 18, 20 * MS);
+        m.update(b, 3, 17, 18, 30 * MS); // 하드드롭
+        assertEquals(17.0, m.displayY(30 * MS), EPS);
+    }
+}
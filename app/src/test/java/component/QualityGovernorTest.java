@@ -0,0 +1,117 @@
+package component;
+
+import static org.junit.Assert.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import component.config.Settings;
+import logic.BoardLogic;
+import logic.ParticleSystem;
+
+public class QualityGovernorTest {
+
+    private static final long SLOW = QualityGovernor.FRAME_BUDGET_NS * 2;
+    private static final long OK = QualityGovernor.FRAME_BUDGET_NS * 3 / 4; // 두 임계값 사이
+    private static final long FAST = QualityGovernor.FRAME_BUDGET_NS / 10;
+
+    private static void feed(QualityGovernor q, long nanos, int frames) {
+        for (int i = 0; i < frames; i++)
+            q.record(nanos);
+    }
+
+    @Test
+    public void testSlowFramesStepDownOneTierPerWindow() {
+        QualityGovernor q = new QualityGovernor();
+        List<QualityGovernor.Tier> seen = new ArrayList<>();
+        q.setListener(seen::add);
+
+        feed(q, SLOW, QualityGovernor.WINDOW - 1);
+        assertEquals("needs a full window before deciding", QualityGovernor.Tier.HIGH, q.getTier());
+        q.record(SLOW);
+        assertEquals(QualityGovernor.Tier.MEDIUM, q.getTier());
+
+        feed(q, SLOW, QualityGovernor.WINDOW);
+        assertEquals(QualityGovernor.Tier.LOW, q.getTier());
+        feed(q, SLOW, QualityGovernor.WINDOW * 3);
+        assertEquals(QualityGovernor.Tier.LOW, q.getTier());
+        assertEquals(List.of(QualityGovernor.Tier.MEDIUM, QualityGovernor.Tier.LOW), seen);
+    }
+
+    @Test
+    public void testHysteresisKeepsTierBetweenThresholds() {
+        QualityGovernor q = new QualityGovernor();
+        feed(q, SLOW, QualityGovernor.WINDOW);
+        assertEquals(QualityGovernor.Tier.MEDIUM, q.getTier());
+
+        // 예산 안이지만 올릴 만큼 여유롭지는 않음 → 그대로
+        feed(q, OK, QualityGovernor.WINDOW * 5);
+        assertEquals(QualityGovernor.Tier.MEDIUM, q.getTier());
+        assertEquals(1, q.getChanges());
+
+        feed(q, FAST, QualityGovernor.WINDOW);
+        assertEquals(QualityGovernor.Tier.HIGH, q.getTier());
+    }
+
+    @Test
+    public void testPinnedTierIgnoresMeasurements() {
+        QualityGovernor q = new QualityGovernor();
+        q.setPinned(QualityGovernor.Tier.LOW);
+        feed(q, FAST, QualityGovernor.WINDOW * 3);
+        assertEquals(QualityGovernor.Tier.LOW, q.getTier());
+        assertTrue(q.getAverageNanos() > 0);
+
+        q.setPinned(null);
+        feed(q, FAST, QualityGovernor.WINDOW);
+        assertEquals(QualityGovernor.Tier.MEDIUM, q.getTier());
+    }
+
+    @Test
+    public void testBoardViewAppliesPinnedTierFromSettings() {
+        BoardLogic logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        Settings settings = new Settings();
+        settings.renderQuality = Settings.RenderQuality.LOW;
+        BoardView view = new BoardView(logic, settings);
+        view.stopRendering();
+        try {
+            assertEquals(QualityGovernor.Tier.LOW, view.getQualityGovernor().getTier());
+            assertFalse(logic.isShakeEnabled());
+            ParticleSystem ps = logic.getClearService().getParticleSystem();
+            assertEquals(QualityGovernor.Tier.LOW.particleBudget, ps.getParticles().getLimit());
+
+            settings.renderQuality = Settings.RenderQuality.AUTO;
+            view.updateSettings(settings);
+            assertNull(view.getQualityGovernor().getPinned());
+        } finally {
+            view.cleanup();
+        }
+    }
+
+    @Test
+    public void testPartialPaintIsNotAFrameSample() {
+        BoardLogic logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        BoardView view = new BoardView(logic, null);
+        view.stopRendering();
+        view.setSize(250, 500);
+        try {
+            BufferedImage img = new BufferedImage(250, 500, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = img.createGraphics();
+            g.setClip(0, 0, 50, 50); // 더티 영역만 다시 그림
+            view.paint(g);
+            assertEquals(0, view.getQualityGovernor().getFrames());
+
+            g.setClip(null);
+            view.paint(g);
+            g.dispose();
+            assertEquals(1, view.getQualityGovernor().getFrames());
+        } finally {
+            view.cleanup();
+        }
+    }
+}
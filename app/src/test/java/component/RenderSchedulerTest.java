@@ -0,0 +1,162 @@
+package component;
+
+import logic.BoardLogic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+
+import static org.junit.Assert.*;
+
+public class RenderSchedulerTest {
+
+    private static final int CELL = 25;
+
+    private BoardLogic logic;
+    private BoardView view;
+    private RenderScheduler scheduler;
+
+    @Before
+    public void setup() {
+        logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        view = new BoardView(logic, null);
+        view.stopRendering(); // 타이머 대신 tick() 을 직접 호출
+        scheduler = view.getRenderScheduler();
+        scheduler.tick(); // 첫 상태 기록
+    }
+
+    @After
+    public void tearDown() {
+        view.cleanup();
+    }
+
+    private static Rectangle union(RenderScheduler.Frame f) {
+        Rectangle u = null;
+        for (Rectangle r : f.getRects())
+            u = u == null ? new Rectangle(r) : u.union(r);
+        return u;
+    }
+
+    @Test
+    public void testNothingChangedMeansNoRepaint() {
+        long repaints = scheduler.getRepaints();
+        for (int i = 0; i < RenderScheduler.IDLE_AFTER_FRAMES; i++) {
+            assertTrue(scheduler.tick().isEmpty());
+        }
+        assertEquals(repaints, scheduler.getRepaints());
+        assertTrue("quiet board drops to idle polling", scheduler.isIdle());
+    }
+
+    @Test
+    public void testPieceMoveRepaintsOnlyOldAndNewPieceArea() {
+        int x = logic.getX();
+        logic.moveRight();
+        assertEquals(x + 1, logic.getX());
+
+        RenderScheduler.Frame f = scheduler.tick();
+        assertFalse(f.isFull());
+        assertTrue(f.has(RenderScheduler.Reason.PIECE));
+        assertFalse(f.has(RenderScheduler.Reason.BOARD));
+
+        Rectangle dirty = union(f);
+        int w = logic.getCurr().width();
+        assertTrue(dirty.contains(x * CELL, logic.getY() * CELL));
+        assertTrue(dirty.contains((x + 1 + w) * CELL - 1, logic.getY() * CELL));
+        assertTrue("ghost at the floor is covered", dirty.getMaxY() >= BoardLogic.HEIGHT * CELL);
+        assertTrue("unrelated columns untouched", dirty.width < BoardLogic.WIDTH * CELL);
+
+        assertTrue(scheduler.tick().isEmpty());
+    }
+
+    @Test
+    public void testBoardChangeRepaintsOnlyThatRow() {
+        logic.getBoard()[10][4] = Color.RED;
+
+        RenderScheduler.Frame f = scheduler.tick();
+        assertTrue(f.has(RenderScheduler.Reason.BOARD));
+        Rectangle row = null;
+        for (Rectangle r : f.getRects())
+            if (r.width > BoardLogic.WIDTH * CELL)
+                row = r;
+        assertNotNull(row);
+        assertTrue(row.y <= 10 * CELL && row.getMaxY() >= 11 * CELL + 1);
+        assertTrue(row.height < 2 * CELL);
+    }
+
+    @Test
+    public void testParticlesRepaintFullUntilTheyDie() {
+        logic.getClearService().getParticleSystem().createExplosionParticles(3, 3, Color.RED, CELL);
+
+        RenderScheduler.Frame f = scheduler.tick();
+        assertTrue(f.isFull());
+        assertTrue(f.has(RenderScheduler.Reason.PARTICLES));
+
+        int guard = 0;
+        while (logic.getClearService().getParticleSystem().hasActiveParticles() && guard++ < 1000) {
+            assertTrue(scheduler.tick().isFull());
+        }
+        assertFalse(logic.getClearService().getParticleSystem().hasActiveParticles());
+        // 마지막 파티클이 사라진 틱도 전체를 다시 그려서 잔상을 지웠으므로 그 다음은 조용함
+        assertTrue(scheduler.tick().isEmpty());
+    }
+
+    @Test
+    public void testShakeIsAnEffect() {
+        logic.setShakeOffset(3);
+        RenderScheduler.Frame f = scheduler.tick();
+        assertTrue(f.isFull());
+        assertTrue(f.has(RenderScheduler.Reason.EFFECTS));
+        logic.setShakeOffset(0);
+        assertTrue(scheduler.tick().isFull());
+        assertTrue(scheduler.tick().isEmpty());
+    }
+
+    @Test
+    public void testRenderVersionTracksStateAndView() {
+        long v = view.getRenderVersion();
+        assertTrue(scheduler.tick().isEmpty());
+        assertEquals("quiet tick keeps the version", v, view.getRenderVersion());
+
+        view.setColorMode(ColorBlindPalette.Mode.PROTAN);
+        assertTrue(view.getRenderVersion() > v);
+        v = view.getRenderVersion();
+
+        logic.moveRight();
+        assertTrue(view.getRenderVersion() > v);
+    }
+
+    @Test
+    public void testAnnouncedBoardWriteMovesGhost() {
+        int ghostBefore = logic.getState().isGhostCached() ? logic.getState().getCachedGhostY() : -1;
+        assertTrue("first tick cached the ghost", ghostBefore >= 0);
+
+        // 블록 바로 아래 열을 채움 (아이템 효과처럼 배열을 직접 고침)
+        long stateVersion = logic.getState().getVersion();
+        logic.getBoard()[10][logic.getX() + 1] = Color.GRAY;
+        logic.getBoard()[10][logic.getX() + 2] = Color.GRAY;
+        logic.getBoard()[10][logic.getX()] = Color.GRAY;
+        logic.getBoard()[10][logic.getX() + 3] = Color.GRAY;
+        RenderScheduler.Frame f = scheduler.tick();
+        assertTrue(f.has(RenderScheduler.Reason.BOARD));
+        assertEquals("view never bumps the model", stateVersion, logic.getState().getVersion());
+
+        logic.getState().markChanged();
+        f = scheduler.tick();
+        assertTrue("ghost area repainted", f.has(RenderScheduler.Reason.PIECE));
+        assertTrue(logic.getState().getCachedGhostY() < ghostBefore);
+    }
+
+    @Test
+    public void testStoppedSchedulerIgnoresRequests() {
+        view.requestRender();
+        assertFalse(scheduler.isRunning());
+        view.resumeRendering();
+        assertTrue(scheduler.isRunning());
+        view.pauseRendering();
+        assertFalse(scheduler.isRunning());
+    }
+}
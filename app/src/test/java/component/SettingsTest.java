@@ -32,12 +32,14 @@ public class SettingsTest {
         Settings s = new Settings();
         s.toggleBlindMode();
         s.setScreenScale(Settings.ScreenSize.LARGE);
+        s.renderQuality = Settings.RenderQuality.LOW;
         s.save();
 
         Settings loaded = Settings.load();
 
         assertTrue(loaded.blindMode);
         assertEquals(Settings.ScreenSize.LARGE, loaded.screenSize);
+        assertEquals(Settings.RenderQuality.LOW, loaded.renderQuality);
     }
 
     @Test
@@ -47,9 +49,11 @@ public class SettingsTest {
         s.setScreenScale(Settings.ScreenSize.LARGE);
         s.save();
 
+        s.renderQuality = Settings.RenderQuality.HIGH;
         s.resetToDefaults();
 
         assertFalse(s.blindMode);
+        assertEquals(Settings.RenderQuality.AUTO, s.renderQuality);
         assertEquals(Settings.ScreenSize.MEDIUM, s.screenSize);
     }
 
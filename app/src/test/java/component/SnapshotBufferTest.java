@@ -0,0 +1,73 @@
+package component;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class SnapshotBufferTest {
+
+    private static final class Box {
+        long a, b; // 항상 a == b 로 씀 (찢어진 읽기 검사용)
+    }
+
+    @Test
+    public void testAcquireReturnsLatestOnce() {
+        SnapshotBuffer<Box> buf = new SnapshotBuffer<>(Box::new);
+        assertNull(buf.acquire());
+
+        buf.back().a = 1;
+        assertFalse(buf.publish());
+        buf.back().a = 2;
+        assertTrue("unread snapshot is overwritten", buf.publish());
+
+        Box got = buf.acquire();
+        assertEquals(2, got.a);
+        assertSame(got, buf.current());
+        assertNull("nothing new", buf.acquire());
+        assertEquals(2, buf.getPublished());
+        assertEquals(1, buf.getSkipped());
+    }
+
+    @Test
+    public void testWriterNeverGetsReadersSlot() {
+        SnapshotBuffer<Box> buf = new SnapshotBuffer<>(Box::new);
+        buf.publish();
+        Box front = buf.acquire();
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(front, buf.back());
+            buf.publish();
+        }
+        assertNotSame(front, buf.back());
+    }
+
+    @Test
+    public void testConcurrentReaderSeesWholeSnapshots() throws Exception {
+        SnapshotBuffer<Box> buf = new SnapshotBuffer<>(Box::new);
+        AtomicReference<String> error = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long last = 0;
+            while (last < 200_000 && error.get() == null) {
+                Box b = buf.acquire();
+                if (b == null)
+                    continue;
+                if (b.a != b.b)
+                    error.set("torn " + b.a + "/" + b.b);
+                else if (b.a < last)
+                    error.set("went back " + last + " -> " + b.a);
+                last = b.a;
+            }
+        });
+        reader.start();
+        for (long i = 1; i <= 200_000; i++) {
+            Box b = buf.back();
+            b.a = i;
+            b.b = i;
+            buf.publish();
+        }
+        reader.join(10_000);
+        assertFalse(reader.isAlive());
+        assertNull(error.get(), error.get());
+    }
+}
@@ -55,6 +55,18 @@ public class WeightItemTest {
         }
     }
 
+    @Test
+    public void testActivateInvalidatesGhostCache() {
+        GameState state = logic.getState();
+        state.cacheGhostY(GameState.HEIGHT - 1);
+        long before = state.getVersion();
+
+        item.activate(logic, null);
+
+        assertTrue(state.getVersion() > before);
+        assertFalse("ghost is recomputed against the new board", state.isGhostCached());
+    }
+
     // ===========================
     // 비동기 모드
     // ===========================
@@ -0,0 +1,62 @@
+package component.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.count());
+        assertEquals(0, h.percentile(0.99));
+        assertEquals(0.0, h.mean(), 0.0);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            h.record(i);
+        }
+        assertEquals(5, h.percentile(0.50));
+        assertEquals(10, h.percentile(1.0));
+        assertEquals(5.5, h.mean(), 0.001);
+    }
+
+    @Test
+    public void testPercentilesWithinRelativeError() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            h.record(i * 1000L); // 1us ~ 100ms
+        }
+        assertEquals(50_000_000, h.percentile(0.50), 50_000_000 * 0.07);
+        assertEquals(99_000_000, h.percentile(0.99), 99_000_000 * 0.07);
+        assertEquals(99_900_000, h.percentile(0.999), 99_900_000 * 0.07);
+        assertEquals(100_000_000, h.max());
+    }
+
+    @Test
+    public void testBucketBoundsAreMonotonic() {
+        long prev = -1;
+        for (int i = 0; i < 200; i++) {
+            long upper = LatencyHistogram.upperBoundOf(i);
+            assertTrue(upper > prev);
+            assertEquals(i, LatencyHistogram.indexOf(upper));
+            prev = upper;
+        }
+    }
+
+    @Test
+    public void testNegativeClampedAndReset() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-5);
+        assertEquals(1, h.count());
+        assertEquals(0, h.max());
+
+        h.reset();
+        assertEquals(0, h.count());
+        assertTrue(h.toString().startsWith("n=0"));
+    }
+}
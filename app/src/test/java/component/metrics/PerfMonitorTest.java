@@ -0,0 +1,88 @@
+package component.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import static org.junit.Assert.*;
+
+public class PerfMonitorTest {
+
+    @After
+    public void tearDown() {
+        PerfMonitor.setEnabled(false);
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        PerfMonitor.setEnabled(false);
+        PerfMonitor.reset();
+        assertEquals(0, PerfMonitor.begin());
+        PerfMonitor.endTick(PerfMonitor.begin());
+        PerfMonitor.endClear(PerfMonitor.begin());
+        PerfMonitor.recordFrame(5_000_000L);
+        assertEquals(0, PerfMonitor.getFrames().count());
+        assertEquals(0, PerfMonitor.getTicks().count());
+        assertEquals(0, PerfMonitor.getClears().count());
+    }
+
+    @Test
+    public void testEnabledRecordsIntoBins() {
+        PerfMonitor.setEnabled(true);
+        PerfMonitor.recordFrame(500_000L);    // <1ms
+        PerfMonitor.recordFrame(5_000_000L);  // 4-8ms
+        PerfMonitor.recordFrame(40_000_000L); // 33+
+        long t0 = PerfMonitor.begin();
+        assertTrue(t0 != 0);
+        PerfMonitor.endTick(t0);
+
+        long[] bins = PerfMonitor.getFrameBins();
+        assertEquals(1, bins[0]);
+        assertEquals(1, bins[3]);
+        assertEquals(1, bins[bins.length - 1]);
+        assertEquals(3, PerfMonitor.getFrames().count());
+        assertEquals(1, PerfMonitor.getTicks().count());
+    }
+
+    @Test
+    public void testSnapshotSummarizesAndClearsWindow() {
+        PerfMonitor.setEnabled(true);
+        PerfMonitor.recordFrame(2_500_000L);
+        Object owner = new Object();
+        PerfMonitor.addSource(owner, o -> "custom line");
+
+        PerfMonitor.Snapshot snap = PerfMonitor.snapshot();
+        assertTrue(snap.lines.get(0).startsWith("frame"));
+        assertTrue(snap.lines.stream().anyMatch(l -> l.startsWith("gc")));
+        assertTrue(snap.lines.contains("custom line"));
+        assertEquals(1, snap.frameBins[2]);
+        assertEquals(0, PerfMonitor.getFrames().count());
+
+        PerfMonitor.removeSource(owner);
+        assertFalse(PerfMonitor.snapshot().lines.contains("custom line"));
+    }
+
+    @Test
+    public void testTimerCountsRunningTimers() {
+        int before = PerfMonitor.runningTimers();
+        Timer t = PerfMonitor.timer(1000, e -> {});
+        assertEquals(before, PerfMonitor.runningTimers());
+        t.start();
+        assertEquals(before + 1, PerfMonitor.runningTimers());
+        t.stop();
+        assertEquals(before, PerfMonitor.runningTimers());
+    }
+
+    @Test
+    public void testEdtProbeMeasuresLatency() throws Exception {
+        PerfMonitor.setEnabled(true);
+        long deadline = System.currentTimeMillis() + 2000;
+        while (PerfMonitor.getEdtLatency().count() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(PerfMonitor.PROBE_MS);
+            SwingUtilities.invokeAndWait(() -> {});
+        }
+        assertTrue(PerfMonitor.getEdtLatency().count() > 0);
+    }
+}
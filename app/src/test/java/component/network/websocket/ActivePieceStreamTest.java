@@ -0,0 +1,140 @@
+package component.network.websocket;
+
+import blocks.Block;
+import blocks.TBlock;
+import logic.GameState;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ActivePieceStreamTest {
+
+    @Test
+    public void testPackRoundTripIncludingNegatives() {
+        int p = ActivePieceStream.pack(200, 3, -2, -3);
+        assertTrue(ActivePieceStream.isPresent(p));
+        assertEquals(200, ActivePieceStream.pieceId(p));
+        assertEquals(3, ActivePieceStream.rotation(p));
+        assertEquals(-2, ActivePieceStream.x(p));
+        assertEquals(-3, ActivePieceStream.y(p));
+
+        int q = ActivePieceStream.pack(1, 0, 9, 19);
+        assertEquals(9, ActivePieceStream.x(q));
+        assertEquals(19, ActivePieceStream.y(q));
+        assertFalse(ActivePieceStream.isPresent(ActivePieceStream.NONE));
+    }
+
+    @Test
+    public void testEncoderSendsOnlyOnChange() {
+        ActivePieceStream.Encoder enc = new ActivePieceStream.Encoder();
+        Block t = new TBlock();
+
+        ActivePieceStream.Piece spawn = enc.next(t, 3, 0, 800, 0);
+        assertNotNull(spawn);
+        assertNotNull("spawn carries the shape", spawn.shape);
+        assertEquals(Integer.valueOf(800), spawn.fallMs);
+
+        assertNull(enc.next(t, 3, 0, 800, 16));
+
+        ActivePieceStream.Piece moved = enc.next(t, 4, 0, 800, 32);
+        assertNotNull(moved);
+        assertNull("position update carries no shape", moved.shape);
+        assertEquals(4, ActivePieceStream.x(moved.p));
+        assertEquals(ActivePieceStream.pieceId(spawn.p), ActivePieceStream.pieceId(moved.p));
+    }
+
+    @Test
+    public void testRotationKeepsPieceId() {
+        ActivePieceStream.Encoder enc = new ActivePieceStream.Encoder();
+        Block t = new TBlock();
+        ActivePieceStream.Piece spawn = enc.next(t, 3, 0, 800, 0);
+
+        t.rotate();
+        ActivePieceStream.Piece rotated = enc.next(t, 3, 0, 800, 16);
+        assertEquals(1, ActivePieceStream.rotation(rotated.p));
+        assertEquals(ActivePieceStream.pieceId(spawn.p), ActivePieceStream.pieceId(rotated.p));
+
+        // 회전 실패 → BoardLogic 이 백업 복제본으로 되돌림: 같은 블록으로 취급
+        Block backup = t.clone();
+        assertNull(enc.next(backup, 3, 0, 800, 32));
+    }
+
+    @Test
+    public void testNewPieceGetsNewIdAndNoneWhenLocked() {
+        ActivePieceStream.Encoder enc = new ActivePieceStream.Encoder();
+        ActivePieceStream.Piece first = enc.next(new TBlock(), 3, 17, 800, 0);
+        ActivePieceStream.Piece locked = enc.next(null, 0, 0, 800, 16);
+        assertEquals(ActivePieceStream.NONE, locked.p);
+        assertNull(enc.next(null, 0, 0, 800, 32));
+
+        ActivePieceStream.Piece second = enc.next(new TBlock(), 3, 0, 800, 48);
+        assertNotEquals(ActivePieceStream.pieceId(first.p), ActivePieceStream.pieceId(second.p));
+        assertNotNull(second.shape);
+    }
+
+    @Test
+    public void testReceiverAppliesToState() {
+        ActivePieceStream.Encoder enc = new ActivePieceStream.Encoder();
+        ActivePieceStream.Receiver rx = new ActivePieceStream.Receiver();
+        GameState state = new GameState();
+        Block t = new TBlock();
+
+        rx.accept(roundTrip(enc.next(t, 3, 0, 700, 0)), 0);
+        t.rotate();
+        rx.accept(roundTrip(enc.next(t, 5, 2, 700, 16)), 16);
+
+        assertTrue(rx.applyTo(state));
+        assertFalse("nothing new", rx.applyTo(state));
+        assertEquals(5, state.getX());
+        assertEquals(2, state.getY());
+        assertEquals(3, state.getCurr().height()); // 회전 1: 폭/높이 뒤바뀜
+        assertEquals(2, state.getCurr().width());
+        assertEquals(700, rx.getFallMs());
+        assertTrue(rx.isLive(1000));
+        assertFalse(rx.isLive(16 + ActivePieceStream.STALE_MS));
+    }
+
+    @Test
+    public void testReceiverHidesPieceWithUnknownShape() {
+        ActivePieceStream.Receiver rx = new ActivePieceStream.Receiver();
+        GameState state = new GameState();
+        state.setCurr(new TBlock());
+
+        rx.accept(new ActivePieceStream.Piece(ActivePieceStream.pack(7, 0, 3, 4)), 0);
+        assertTrue(rx.applyTo(state));
+        assertNull(state.getCurr());
+    }
+
+    @Test
+    public void testFallingPieceCostsLessThanBoardDeltas() {
+        ActivePieceStream.Encoder enc = new ActivePieceStream.Encoder();
+        Block t = new TBlock();
+        long pieceBytes = 0;
+        long deltaBytes = 0;
+
+        for (int y = 0; y < 18; y++) {
+            ActivePieceStream.Piece piece = enc.next(t, 3, y, 800, y * 800L);
+            pieceBytes += WebSocketUtil.toJson(new Message(MessageType.ACTIVE_PIECE, piece)).length();
+
+            // 같은 움직임을 보드 델타로 보낼 때: 지운 4칸 + 새로 칠한 4칸
+            List<BoardDeltaTracker.CellDelta> cells = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                cells.add(new BoardDeltaTracker.CellDelta(3 + i % 3, y, null));
+                cells.add(new BoardDeltaTracker.CellDelta(3 + i % 3, y + 1, t.getColor().getRGB()));
+            }
+            BoardDeltaTracker.BoardDelta delta = new BoardDeltaTracker.BoardDelta(cells);
+            delta.boardSeq = y + 1;
+            deltaBytes += WebSocketUtil.toJson(new Message(MessageType.BOARD_DELTA, delta)).length();
+        }
+
+        System.out.printf("[PIECE] 18 rows: piece stream %d B, board deltas %d B%n", pieceBytes, deltaBytes);
+        assertTrue(pieceBytes * 3 < deltaBytes);
+    }
+
+    private static ActivePieceStream.Piece roundTrip(ActivePieceStream.Piece piece) {
+        return MessageDecoders.get().decode(new Message(MessageType.ACTIVE_PIECE, piece));
+    }
+}
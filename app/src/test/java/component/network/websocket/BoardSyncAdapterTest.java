@@ -88,6 +88,60 @@ public class BoardSyncAdapterTest {
         assertEquals(5000, oppLogic.getState().getScore());
     }
 
+    @Test
+    public void testPlayerInputStream() {
+        adapter.startInputStream(MatchClock.localNanos());
+        myLogic.moveRight();
+
+        Message msg = client.sent.stream()
+                .filter(m -> m.type == MessageType.PLAYER_INPUT)
+                .reduce((a, b) -> b)
+                .orElse(null);
+        assertNotNull(msg);
+
+        BoardSyncAdapter.InputBatch batch = WebSocketUtil.fromJson(msg.data, BoardSyncAdapter.InputBatch.class);
+        assertEquals(logic.PlayerInput.RIGHT, batch.inputs[batch.inputs.length - 1]);
+    }
+
+    @Test
+    public void testRepeatedInputInOneFrameKeepsCount() {
+        adapter.setMatchClock(new MatchClock() {
+            @Override
+            public long now() {
+                return 5 * RollbackSession.FRAME_NANOS + 1; // 두 입력 모두 5 프레임
+            }
+        });
+        adapter.startInputStream(0);
+        myLogic.moveRight();
+        myLogic.moveRight();
+
+        Message msg = client.sent.stream()
+                .filter(m -> m.type == MessageType.PLAYER_INPUT)
+                .reduce((a, b) -> b)
+                .orElse(null);
+        BoardSyncAdapter.InputBatch batch = WebSocketUtil.fromJson(msg.data, BoardSyncAdapter.InputBatch.class);
+        int last = batch.inputs[batch.inputs.length - 1];
+        assertEquals(5, batch.startFrame + batch.inputs.length - 1);
+        assertEquals(2, logic.PlayerInput.count(last, logic.PlayerInput.RIGHT));
+    }
+
+    @Test
+    public void testPlayerInputNotSentBeforeStart() {
+        myLogic.moveRight();
+        assertTrue(client.sent.stream().noneMatch(m -> m.type == MessageType.PLAYER_INPUT));
+    }
+
+    @Test
+    public void testRequestFullSync() {
+        adapter.sendBoardState();
+        client.sent.clear();
+
+        adapter.requestFullSync();
+        adapter.sendBoardState();
+
+        assertTrue(client.sent.stream().anyMatch(m -> m.type == MessageType.BOARD_FULL_SYNC));
+    }
+
     @Test
     public void testSetDeltaSyncEnabled() {
         adapter.setDeltaSyncEnabled(false);
@@ -277,4 +331,47 @@ public class BoardSyncAdapterTest {
         adapter.printStats();
         assertTrue(adapter.getStatsString().contains("Legacy"));
     }
+
+    private static Message deltaMsg(int seq, int x, Color c) {
+        BoardDeltaTracker.BoardDelta d = new BoardDeltaTracker.BoardDelta(
+                new ArrayList<>(List.of(new BoardDeltaTracker.CellDelta(x, 0, c.getRGB()))));
+        d.boardSeq = seq;
+        return new Message(MessageType.BOARD_DELTA, d);
+    }
+
+    @Test
+    public void testBoardSeqStampedOnSend() {
+        adapter.sendBoardState(); // 첫 동기화 = 전체
+        myLogic.getState().getBoard()[0][0] = Color.RED;
+        adapter.sendBoardState();
+
+        Message full = client.sent.stream().filter(m -> m.type == MessageType.BOARD_FULL_SYNC).findFirst().get();
+        Message delta = client.sent.stream().filter(m -> m.type == MessageType.BOARD_DELTA).findFirst().get();
+        assertEquals(Integer.valueOf(1), WebSocketUtil.fromJson(full.data, BoardDeltaTracker.BoardDelta.class).boardSeq);
+        assertEquals(Integer.valueOf(2), WebSocketUtil.fromJson(delta.data, BoardDeltaTracker.BoardDelta.class).boardSeq);
+    }
+
+    @Test
+    public void testStaleDeltaDroppedAndResyncRequested() {
+        adapter.handleIncoming(deltaMsg(1, 0, Color.RED));
+        adapter.handleIncoming(deltaMsg(3, 1, Color.BLUE)); // 2 가 아직 안 옴
+        assertEquals(1, adapter.getBoardSeqGaps());
+        assertEquals(1, client.sent.stream().filter(m -> m.type == MessageType.SYNC_REQUEST).count());
+
+        adapter.handleIncoming(deltaMsg(2, 0, Color.GREEN)); // 늦게 도착 → 최신 상태를 덮어쓰지 않음
+        assertEquals(Color.RED.getRGB(), oppLogic.getState().getBoard()[0][0].getRGB());
+        assertEquals(2, adapter.getBoardSeqGaps());
+        // 응답 대기 중이라 다시 요청하지 않음
+        assertEquals(1, client.sent.stream().filter(m -> m.type == MessageType.SYNC_REQUEST).count());
+    }
+
+    @Test
+    public void testIncomingSyncRequestForcesFullSync() {
+        adapter.sendBoardState();
+        client.sent.clear();
+
+        adapter.handleIncoming(new Message(MessageType.SYNC_REQUEST, "gap"));
+        adapter.sendBoardState();
+        assertTrue(client.sent.stream().anyMatch(m -> m.type == MessageType.BOARD_FULL_SYNC));
+    }
 }
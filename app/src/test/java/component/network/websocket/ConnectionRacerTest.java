@@ -0,0 +1,143 @@
+package component.network.websocket;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ConnectionRacerTest {
+
+    private ServerSocket listening;
+
+    @Before
+    public void setUp() throws Exception {
+        listening = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        listening.close();
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket s = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return s.getLocalPort();
+        }
+    }
+
+    @Test
+    public void testSingleCandidateSkipsProbeConnection() throws Exception {
+        URI uri = URI.create("ws://127.0.0.1:" + listening.getLocalPort() + "/game?room=r1");
+        ConnectionRacer.Result r = ConnectionRacer.race(uri, 2000).get(3, TimeUnit.SECONDS);
+
+        assertSame(uri, r.uri);
+        assertNull(r.address);
+        assertEquals("127.0.0.1", r.timing.address);
+        assertEquals(1, r.timing.candidates);
+        assertTrue(r.timing.dnsMs >= 0);
+        assertTrue(r.remainingMs(2000) > 0);
+
+        // 확인용 연결이 없어야 서버에 빈 accept/close 가 생기지 않음
+        listening.setSoTimeout(200);
+        try (Socket stray = listening.accept()) {
+            fail("unexpected probe connection from " + stray.getRemoteSocketAddress());
+        } catch (SocketTimeoutException expected) {
+        }
+    }
+
+    @Test
+    public void testSecureUriKeepsHostName() throws Exception {
+        URI uri = URI.create("wss://localhost:" + listening.getLocalPort() + "/game");
+        ConnectionRacer.Result r = ConnectionRacer.race(uri, 2000).get(3, TimeUnit.SECONDS);
+
+        // 인증서 검증 / SNI / Host 헤더가 그대로 호스트 이름을 쓰도록
+        assertSame(uri, r.uri);
+        assertNull(r.address);
+    }
+
+    @Test
+    public void testFirstReachableCandidateWins() throws Exception {
+        InetAddress lo = InetAddress.getLoopbackAddress();
+        InetSocketAddress dead = new InetSocketAddress(lo, closedPort());
+        InetSocketAddress alive = new InetSocketAddress(lo, listening.getLocalPort());
+
+        InetSocketAddress winner = ConnectionRacer.raceTcp(List.of(dead, alive), 2000).get(3, TimeUnit.SECONDS);
+        assertEquals(alive, winner);
+    }
+
+    @Test
+    public void testAllCandidatesFailFast() throws Exception {
+        InetAddress lo = InetAddress.getLoopbackAddress();
+        List<InetSocketAddress> dead = List.of(new InetSocketAddress(lo, closedPort()),
+                new InetSocketAddress(lo, closedPort()));
+
+        long start = System.nanoTime();
+        try {
+            ConnectionRacer.raceTcp(dead, 2000).get(3, TimeUnit.SECONDS);
+            fail("expected failure");
+        } catch (ExecutionException expected) {
+            // 거절은 예산을 다 쓰지 않고 바로 실패
+            assertTrue((System.nanoTime() - start) / 1_000_000L < 1500);
+        }
+    }
+
+    @Test
+    public void testExhaustedBudgetFails() {
+        InetSocketAddress alive = new InetSocketAddress(InetAddress.getLoopbackAddress(), listening.getLocalPort());
+        assertTrue(ConnectionRacer.raceTcp(List.of(alive), 0).isCompletedExceptionally());
+        assertTrue(ConnectionRacer.raceTcp(List.of(), 1000).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testOrderInterleavesAddressFamilies() throws Exception {
+        InetAddress v4a = InetAddress.getByName("192.168.0.2");
+        InetAddress v4b = InetAddress.getByName("192.168.0.3");
+        InetAddress v6a = InetAddress.getByName("fe80::1");
+
+        assertEquals(List.of(v4a, v6a, v4b), ConnectionRacer.order(List.of(v4a, v4b, v6a)));
+        assertEquals(List.of(v6a, v4a, v4b), ConnectionRacer.order(List.of(v6a, v4a, v4b)));
+    }
+
+    @Test
+    public void testTargetKeepsHostNameAndRewritesLiterals() throws Exception {
+        URI named = URI.create("ws://example.com:8081/game?room=r1&resume=new");
+        assertSame(named, ConnectionRacer.target(named, InetAddress.getByName("10.0.0.7")));
+
+        URI lan = URI.create("ws://10.0.0.7:8081/game?room=r1&resume=new");
+        URI lo = ConnectionRacer.target(lan, InetAddress.getByName("127.0.0.1"));
+        assertEquals("ws://127.0.0.1:8081/game?room=r1&resume=new", lo.toString());
+
+        URI v6 = ConnectionRacer.target(lan, InetAddress.getByName("::1"));
+        assertTrue(v6.toString().startsWith("ws://["));
+        assertEquals(8081, v6.getPort());
+    }
+
+    @Test
+    public void testIsAddressLiteral() {
+        assertTrue(ConnectionRacer.isAddressLiteral("192.168.0.2"));
+        assertTrue(ConnectionRacer.isAddressLiteral("[::1]"));
+        assertFalse(ConnectionRacer.isAddressLiteral("example.com"));
+        assertFalse(ConnectionRacer.isAddressLiteral("localhost"));
+        assertFalse(ConnectionRacer.isAddressLiteral(null));
+    }
+
+    @Test
+    public void testTimingToString() {
+        ConnectionRacer.Timing t = new ConnectionRacer.Timing();
+        t.address = "127.0.0.1";
+        t.candidates = 1;
+        t.totalMs = 3.2;
+        assertTrue(t.toString().contains("via 127.0.0.1"));
+    }
+}
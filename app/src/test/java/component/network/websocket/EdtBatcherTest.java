@@ -0,0 +1,74 @@
+package component.network.websocket;
+
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class EdtBatcherTest {
+
+    private static void awaitIdle(EdtBatcher batcher) throws Exception {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (batcher.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        SwingUtilities.invokeAndWait(() -> {
+        });
+    }
+
+    @Test
+    public void testBurstRunsInOneFlushInOrder() throws Exception {
+        EdtBatcher batcher = new EdtBatcher();
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+        List<Boolean> onEdt = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            int n = i;
+            batcher.post(() -> {
+                ran.add(n);
+                onEdt.add(SwingUtilities.isEventDispatchThread());
+            });
+        }
+        awaitIdle(batcher);
+
+        assertEquals(100, ran.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), ran.get(i));
+        }
+        assertFalse(onEdt.contains(false));
+        assertTrue("flushes " + batcher.getFlushes(), batcher.getFlushes() <= 2);
+    }
+
+    @Test
+    public void testSameKeyKeepsLatestOnly() throws Exception {
+        EdtBatcher batcher = new EdtBatcher();
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            int n = i;
+            batcher.post("repaint", () -> ran.add(n));
+        }
+        awaitIdle(batcher);
+
+        assertTrue(ran.size() <= 2);
+        assertEquals(Integer.valueOf(49), ran.get(ran.size() - 1));
+        assertTrue(batcher.getCoalesced() >= 48);
+        assertEquals(50, batcher.getPosted());
+    }
+
+    @Test
+    public void testFailingTaskDoesNotBlockOthers() throws Exception {
+        EdtBatcher batcher = new EdtBatcher();
+        List<String> ran = new CopyOnWriteArrayList<>();
+        batcher.post(() -> {
+            throw new IllegalStateException("boom");
+        });
+        batcher.post(() -> ran.add("after"));
+        awaitIdle(batcher);
+        assertEquals(List.of("after"), ran);
+    }
+}
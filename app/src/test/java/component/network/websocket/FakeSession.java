@@ -0,0 +1,138 @@
+package component.network.websocket;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 서버 테스트용 가짜 javax.websocket.Session (동적 프록시)
+ * - sendText / sendBinary 호출을 기록 / 콜백
+ * - autoComplete=false 면 전송 완료를 미뤄서 느린 수신자를 흉내냄 (텍스트는 autoCompleteText)
+ * - 핸드셰이크 쿼리 파라미터(room 등) 지정 가능
+ */
+public class FakeSession {
+
+    public final String id;
+    public final Session session;
+    public final Map<String, Object> userProperties = new ConcurrentHashMap<>();
+    public final Map<String, List<String>> params = new ConcurrentHashMap<>();
+    public final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    public final AtomicInteger receivedCount = new AtomicInteger();
+    public volatile boolean open = true;
+    public volatile boolean keepMessages = true;
+    public volatile Consumer<String> onSend;
+    public final List<SpectatorClient.Frame> binary = Collections.synchronizedList(new ArrayList<>());
+    public volatile boolean autoComplete = true;
+    public volatile boolean autoCompleteText = true;
+    private final List<SendHandler> pending = Collections.synchronizedList(new ArrayList<>());
+
+    public FakeSession(String id) {
+        this(id, null);
+    }
+
+    public FakeSession(String id, String room) {
+        this.id = id;
+        if (room != null) {
+            params.put(RoomRegistry.ROOM_PARAM, List.of(room));
+        }
+
+        RemoteEndpoint.Async async = (RemoteEndpoint.Async) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { RemoteEndpoint.Async.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("sendBinary")) {
+                        binary.add(SpectatorClient.decode((ByteBuffer) args[0]));
+                        if (args.length > 1 && args[1] instanceof SendHandler handler) {
+                            if (autoComplete) {
+                                handler.onResult(new SendResult());
+                            } else {
+                                pending.add(handler);
+                            }
+                            return null;
+                        }
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    if (method.getName().equals("sendText")) {
+                        deliver((String) args[0]);
+                        if (args.length > 1 && args[1] instanceof SendHandler handler) {
+                            if (autoCompleteText) {
+                                handler.onResult(new SendResult());
+                            } else {
+                                pending.add(handler);
+                            }
+                            return null;
+                        }
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+
+        this.session = (Session) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { Session.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> open;
+                    case "getAsyncRemote" -> async;
+                    case "getUserProperties" -> userProperties;
+                    case "getRequestParameterMap" -> params;
+                    case "close" -> {
+                        open = false;
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "FakeSession(" + id + ")";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    /** 미뤄둔 전송 완료 하나 처리 (없으면 false) */
+    public boolean completeOne() {
+        SendHandler handler;
+        synchronized (pending) {
+            if (pending.isEmpty())
+                return false;
+            handler = pending.remove(0);
+        }
+        handler.onResult(new SendResult());
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void deliver(String text) {
+        receivedCount.incrementAndGet();
+        if (keepMessages) {
+            received.add(text);
+        }
+        Consumer<String> cb = onSend;
+        if (cb != null) {
+            cb.accept(text);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        return null;
+    }
+}
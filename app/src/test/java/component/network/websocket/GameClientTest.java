@@ -171,4 +171,17 @@ public class GameClientTest {
         
         assertTrue(true); // 예외 없이 완료
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReceiveRecordedInWireMetrics() {
+        GameClient client = new GameClient(msg -> {});
+        String json = WebSocketUtil.toJson(new Message(MessageType.LINE_ATTACK, new int[] { 1 }));
+
+        client.onMessage(json);
+
+        WireMetrics m = client.getWireMetrics();
+        assertEquals(1, m.getReceivedCount(MessageType.LINE_ATTACK));
+        assertEquals(json.length(), m.getReceivedBytes(MessageType.LINE_ATTACK));
+        assertEquals(1, m.stats(MessageType.LINE_ATTACK).getDispatchLatency().count());
+    }
+}
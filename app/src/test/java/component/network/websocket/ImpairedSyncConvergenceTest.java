@@ -0,0 +1,159 @@
+package component.network.websocket;
+
+import logic.GameState;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * 네트워크 장애 프로필별 보드 동기화 수렴 테스트
+ * - 두 플레이어가 서로 보드를 바꾸며 델타 동기화 → 변경을 멈춘 뒤 제한 시간 안에 상대 화면과 일치해야 함
+ */
+public class ImpairedSyncConvergenceTest {
+
+    private static final String URI = "ws://localhost:8081/game?room=converge";
+    private static final long ACTIVE_MS = 600; // 보드를 바꾸는 시간
+    private static final long TICK_MS = 25; // 동기화 주기 (게임 루프 흉내)
+    private static final long CONVERGE_BOUND_MS = 3000; // 변경을 멈춘 뒤 일치해야 하는 시간
+
+    private static final Color[] COLORS = { Color.RED, Color.BLUE, Color.GREEN, Color.ORANGE, null };
+
+    /** 한 플레이어: 내 보드 + 상대 보드 + 동기화 */
+    private static class Player {
+        final MockBoardLogic me = new MockBoardLogic();
+        final MockBoardLogic opp = new MockBoardLogic();
+        final ImpairedTransport transport;
+        final GameClient client;
+        final BoardSyncAdapter adapter;
+
+        Player(PipeTransport pipe, NetworkImpairment profile, long seed) {
+            transport = new ImpairedTransport(pipe, profile, seed);
+            BoardSyncAdapter[] holder = new BoardSyncAdapter[1];
+            client = new GameClient(m -> holder[0].handleIncoming(m), transport);
+            adapter = new BoardSyncAdapter(me, opp, client);
+            holder[0] = adapter;
+            // NetworkManager.requestResync 와 같은 복구
+            client.setOnResyncNeeded(() -> {
+                adapter.requestFullSync();
+                client.send(new Message(MessageType.SYNC_REQUEST, "resume"));
+            });
+        }
+    }
+
+    private static long run(NetworkImpairment profile, ImpairmentScenario scenario) throws Exception {
+        PipeTransport[] pipes = PipeTransport.pair();
+        Player a = new Player(pipes[0], profile, 1);
+        Player b = new Player(pipes[1], profile, 2);
+        a.client.connect(URI);
+        b.client.connect(URI);
+        if (scenario != null) {
+            scenario.start(a.transport, b.transport);
+        }
+
+        Random rnd = new Random(7);
+        long start = System.currentTimeMillis();
+        while (System.currentTimeMillis() - start < ACTIVE_MS) {
+            mutate(a.me, rnd);
+            mutate(b.me, rnd);
+            a.adapter.sendBoardState();
+            b.adapter.sendBoardState();
+            Thread.sleep(TICK_MS);
+        }
+        if (scenario != null) {
+            scenario.awaitEnd();
+        }
+
+        long quietAt = System.currentTimeMillis();
+        while (System.currentTimeMillis() - quietAt < CONVERGE_BOUND_MS) {
+            a.adapter.sendBoardState();
+            b.adapter.sendBoardState();
+            if (sameBoard(a.me, b.opp) && sameBoard(b.me, a.opp)) {
+                long took = System.currentTimeMillis() - quietAt;
+                System.out.println("[Converge] " + (scenario != null ? scenario.getName() : profile.name)
+                        + " converged in " + took + "ms (gaps " + a.adapter.getBoardSeqGaps() + "/"
+                        + b.adapter.getBoardSeqGaps() + ") " + a.transport.getStats());
+                if (scenario != null) {
+                    scenario.stop();
+                }
+                return took;
+            }
+            Thread.sleep(TICK_MS);
+        }
+        if (scenario != null) {
+            scenario.stop();
+        }
+        fail((scenario != null ? scenario.getName() : profile.name) + " did not converge within "
+                + CONVERGE_BOUND_MS + "ms");
+        return -1;
+    }
+
+    // 줄 하나에 몇 칸 바꾸기 (라인 클리어 / 블록 고정 흉내)
+    private static void mutate(MockBoardLogic logic, Random rnd) {
+        Color[][] board = logic.getState().getBoard();
+        int cells = 1 + rnd.nextInt(6);
+        for (int i = 0; i < cells; i++) {
+            board[rnd.nextInt(GameState.HEIGHT)][rnd.nextInt(GameState.WIDTH)] = COLORS[rnd.nextInt(COLORS.length)];
+        }
+    }
+
+    private static boolean sameBoard(MockBoardLogic mine, MockBoardLogic seenByOpponent) {
+        Color[][] a = mine.getState().getBoard();
+        Color[][] b = seenByOpponent.getState().getBoard();
+        for (int y = 0; y < GameState.HEIGHT; y++) {
+            for (int x = 0; x < GameState.WIDTH; x++) {
+                Color ca = a[y][x];
+                Color cb = b[y][x];
+                if (ca == null ? cb != null : cb == null || ca.getRGB() != cb.getRGB())
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void testConvergesOnLan() throws Exception {
+        assertTrue(run(NetworkImpairment.LAN, null) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesOnWifi() throws Exception {
+        assertTrue(run(NetworkImpairment.WIFI, null) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesOnMobile() throws Exception {
+        assertTrue(run(NetworkImpairment.MOBILE, null) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesWhenCongested() throws Exception {
+        assertTrue(run(NetworkImpairment.CONGESTED, null) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesDespiteReordering() throws Exception {
+        assertTrue(run(NetworkImpairment.REORDER, null) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesAfterDroppedConnection() throws Exception {
+        ImpairmentScenario outage = new ImpairmentScenario("wifi-outage")
+                .at(0, NetworkImpairment.WIFI)
+                .dropAt(250)
+                .reconnectAt(450);
+        assertTrue(run(NetworkImpairment.WIFI, outage) <= CONVERGE_BOUND_MS);
+    }
+
+    @Test
+    public void testConvergesWhileConditionsChange() throws Exception {
+        ImpairmentScenario worsening = new ImpairmentScenario("worsening")
+                .at(0, NetworkImpairment.LAN)
+                .at(200, NetworkImpairment.MOBILE)
+                .at(400, NetworkImpairment.REORDER)
+                .at(550, NetworkImpairment.CONGESTED);
+        assertTrue(run(NetworkImpairment.LAN, worsening) <= CONVERGE_BOUND_MS);
+    }
+}
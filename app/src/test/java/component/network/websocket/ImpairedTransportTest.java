@@ -0,0 +1,167 @@
+package component.network.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class ImpairedTransportTest {
+
+    private static final String URI = "ws://localhost:8081/game?room=impair";
+
+    private PipeTransport pipeA;
+    private PipeTransport pipeB;
+    private final List<Message> received = new CopyOnWriteArrayList<>();
+    private final List<Long> receivedAt = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        PipeTransport[] pair = PipeTransport.pair();
+        pipeA = pair[0];
+        pipeB = pair[1];
+    }
+
+    private ImpairedTransport connect(NetworkImpairment profile) throws Exception {
+        ImpairedTransport a = new ImpairedTransport(pipeA, profile, 42);
+        new GameClient(m -> {
+        }, a).connect(URI);
+        new GameClient(m -> {
+            received.add(m);
+            receivedAt.add(System.nanoTime());
+        }, pipeB).connect(URI);
+        return a;
+    }
+
+    private void awaitCount(int n, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (received.size() < n && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(n, received.size());
+    }
+
+    private static Message score(int i) {
+        return new Message(MessageType.SCORE_UPDATE, i);
+    }
+
+    private int scoreAt(int i) {
+        return WebSocketUtil.fromJson(received.get(i).data, Integer.class);
+    }
+
+    @Test
+    public void testPresetsByName() {
+        assertSame(NetworkImpairment.WIFI, NetworkImpairment.byName("WiFi"));
+        assertNull(NetworkImpairment.byName("nope"));
+        assertNull(NetworkImpairment.byName(null));
+        assertTrue(NetworkImpairment.NONE.isNone());
+        assertFalse(NetworkImpairment.MOBILE.isNone());
+    }
+
+    @Test
+    public void testWrapFromSystemProperty() {
+        Transport plain = new PipeTransport();
+        System.clearProperty(ImpairedTransport.PROPERTY);
+        assertSame(plain, ImpairedTransport.wrapFromSystemProperty(plain));
+        try {
+            System.setProperty(ImpairedTransport.PROPERTY, "mobile");
+            Transport wrapped = ImpairedTransport.wrapFromSystemProperty(plain);
+            assertTrue(wrapped instanceof ImpairedTransport);
+            assertSame(NetworkImpairment.MOBILE, ((ImpairedTransport) wrapped).getProfile());
+        } finally {
+            System.clearProperty(ImpairedTransport.PROPERTY);
+        }
+    }
+
+    @Test
+    public void testLatencyDelaysDelivery() throws Exception {
+        ImpairedTransport a = connect(new NetworkImpairment("fixed", 80, 0, 0, 0, 0, 0, 0));
+        long start = System.nanoTime();
+        a.send(score(1));
+
+        Thread.sleep(30);
+        assertTrue(received.isEmpty());
+
+        awaitCount(1, 2000);
+        assertTrue((receivedAt.get(0) - start) / 1_000_000L >= 75);
+    }
+
+    @Test
+    public void testJitterKeepsOrder() throws Exception {
+        ImpairedTransport a = connect(new NetworkImpairment("jitter", 5, 40, 0.2, 50, 0, 0, 0));
+        for (int i = 0; i < 50; i++) {
+            a.send(score(i));
+        }
+        awaitCount(50, 3000);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, scoreAt(i));
+        }
+        assertTrue(a.getRetransmits() > 0);
+    }
+
+    @Test
+    public void testReorderDeliversAllOutOfOrder() throws Exception {
+        ImpairedTransport a = connect(new NetworkImpairment("reorder", 1, 0, 0, 0, 0.3, 40, 0));
+        for (int i = 0; i < 50; i++) {
+            a.send(score(i));
+        }
+        awaitCount(50, 3000);
+
+        boolean outOfOrder = false;
+        boolean[] seen = new boolean[50];
+        for (int i = 0; i < 50; i++) {
+            int v = scoreAt(i);
+            seen[v] = true;
+            if (v != i)
+                outOfOrder = true;
+        }
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+        assertTrue(outOfOrder);
+        assertTrue(a.getReordered() > 0);
+    }
+
+    @Test
+    public void testBandwidthSpacesMessages() throws Exception {
+        // 약 1KB 메시지 5개, 10KB/s → 마지막 도착까지 최소 400ms 이상
+        ImpairedTransport a = connect(new NetworkImpairment("narrow", 0, 0, 0, 0, 0, 0, 10 * 1024));
+        String payload = "x".repeat(1000);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            a.send(new Message(MessageType.VISUAL_EFFECT, payload));
+        }
+        awaitCount(5, 3000);
+        long elapsedMs = (receivedAt.get(4) - start) / 1_000_000L;
+        assertTrue("elapsed " + elapsedMs, elapsedMs >= 400);
+    }
+
+    @Test
+    public void testDropLosesInFlightAndReconnectResumes() throws Exception {
+        ImpairedTransport a = connect(new NetworkImpairment("fixed", 30, 0, 0, 0, 0, 0, 0));
+        a.dropConnection();
+        assertFalse(a.isOpen());
+        a.send(score(1));
+        Thread.sleep(80);
+        assertTrue(received.isEmpty());
+
+        a.reconnectLast();
+        assertTrue(a.isOpen());
+        a.send(score(2));
+        awaitCount(1, 2000);
+        assertEquals(2, scoreAt(0));
+        assertEquals(1, a.getDrops());
+    }
+
+    @Test
+    public void testProfileChangeAtRuntime() throws Exception {
+        ImpairedTransport a = connect(new NetworkImpairment("slow", 500, 0, 0, 0, 0, 0, 0));
+        a.setProfile(NetworkImpairment.NONE);
+        long start = System.nanoTime();
+        a.send(score(1));
+        awaitCount(1, 2000);
+        assertTrue((receivedAt.get(0) - start) / 1_000_000L < 300);
+    }
+}
@@ -0,0 +1,174 @@
+package component.network.websocket;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class LoopbackTransportTest {
+
+    private static final String URI = "ws://localhost:8081/game?room=r1";
+
+    private RoomRegistry rooms;
+    private LoopbackTransport transport;
+    private GameClient host;
+    private final List<Message> hostReceived = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        rooms = new RoomRegistry();
+        transport = new LoopbackTransport(rooms);
+        host = new GameClient(hostReceived::add, transport);
+        host.connect(URI);
+    }
+
+    @After
+    public void tearDown() {
+        host.disconnect();
+    }
+
+    private static void awaitTrue(java.util.function.BooleanSupplier cond) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!cond.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(cond.getAsBoolean());
+    }
+
+    @Test
+    public void testAttachesToRoomFromUri() {
+        assertTrue(host.isConnected());
+        assertTrue(rooms.hasLocal("r1"));
+        assertEquals("r1", LoopbackTransport.roomOf(URI));
+        assertEquals(RoomRegistry.DEFAULT_ROOM, LoopbackTransport.roomOf("ws://localhost:8081/game"));
+        assertNull(host.getOutboundQueue());
+    }
+
+    @Test
+    public void testHostToRemoteSerializedOnce() throws Exception {
+        FakeSession guest = new FakeSession("guest", "r1");
+        rooms.join(guest.session);
+
+        host.send(new Message(MessageType.LINE_ATTACK, new int[] { 1, 2 }));
+
+        awaitTrue(() -> guest.received.size() == 1);
+        Message m = WebSocketUtil.fromJson(guest.received.get(0), Message.class);
+        assertEquals(MessageType.LINE_ATTACK, m.type);
+        assertEquals(1, transport.getSent());
+    }
+
+    @Test
+    public void testRoomWireMetricsExcludeOtherRooms() throws Exception {
+        WireMetrics server = new WireMetrics("server");
+        rooms.setWireMetrics(server);
+        FakeSession guest = new FakeSession("guest", "r1");
+        rooms.join(guest.session);
+        FakeSession other1 = new FakeSession("o1", "r2");
+        FakeSession other2 = new FakeSession("o2", "r2");
+        rooms.join(other1.session);
+        rooms.join(other2.session);
+
+        host.send(new Message(MessageType.BOARD_DELTA, "h"));
+        rooms.relay(other1.session, WebSocketUtil.toJson(new Message(MessageType.BOARD_DELTA, "o")));
+        rooms.relay(other1.session, WebSocketUtil.toJson(new Message(MessageType.BOARD_DELTA, "o")));
+        awaitTrue(() -> guest.received.size() == 1);
+
+        WireMetrics room = transport.getRoomWireMetrics();
+        assertSame(rooms.wireMetricsOf("r1"), room);
+        assertEquals(1, room.getSentCount(MessageType.BOARD_DELTA));
+        assertEquals(3, server.getSentCount(MessageType.BOARD_DELTA));
+    }
+
+    @Test
+    public void testRemoteToHostWithoutSocket() {
+        FakeSession guest = new FakeSession("guest", "r1");
+        rooms.join(guest.session);
+
+        int delivered = rooms.relay(guest.session, WebSocketUtil.toJson(new Message(MessageType.GAME_OVER, null)));
+
+        assertEquals(1, delivered);
+        assertEquals(1, hostReceived.size());
+        assertEquals(MessageType.GAME_OVER, hostReceived.get(0).type);
+    }
+
+    @Test
+    public void testMessagesKeepOrder() throws Exception {
+        FakeSession guest = new FakeSession("guest", "r1");
+        rooms.join(guest.session);
+
+        for (int i = 0; i < 200; i++) {
+            host.send(new Message(MessageType.TIME_LIMIT_SCORE, i));
+        }
+
+        awaitTrue(() -> guest.received.size() == 200);
+        for (int i = 0; i < 200; i++) {
+            Message m = WebSocketUtil.fromJson(guest.received.get(i), Message.class);
+            assertEquals(String.valueOf(i), m.data);
+        }
+    }
+
+    @Test
+    public void testHostTakesSlotAndFeedsSpectators() throws Exception {
+        FakeSession guest = new FakeSession("guest", "r1");
+        rooms.join(guest.session);
+        FakeSession watcher = new FakeSession("w", "r1");
+        watcher.params.put(RoomRegistry.ROLE_PARAM, List.of(RoomRegistry.SPECTATOR_ROLE));
+        rooms.join(watcher.session);
+
+        host.send(new Message(MessageType.BOARD_DELTA, "h"));
+        rooms.relay(guest.session, WebSocketUtil.toJson(new Message(MessageType.BOARD_DELTA, "g")));
+
+        awaitTrue(() -> watcher.binary.size() == 2);
+        int hostSlot = watcher.binary.stream().filter(f -> "\"h\"".equals(f.message.data)).findFirst().get().slot;
+        int guestSlot = watcher.binary.stream().filter(f -> "\"g\"".equals(f.message.data)).findFirst().get().slot;
+        assertEquals(0, hostSlot);
+        assertEquals(1, guestSlot);
+    }
+
+    @Test
+    public void testClockSyncAndPingAreLocal() throws Exception {
+        MatchClock clock = new MatchClock();
+        host.setMatchClock(clock);
+
+        host.sendPing();
+        host.requestClockSync();
+
+        awaitTrue(() -> clock.getSampleCount() == 1);
+        assertTrue(clock.getRttMillis() >= 0);
+        assertTrue(Math.abs(clock.getOffsetNanos()) < 5_000_000L);
+        assertTrue(hostReceived.isEmpty());
+    }
+
+    @Test
+    public void testCloseDetaches() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        transport.setListener(new Transport.Listener() {
+            public void onOpen() {
+            }
+
+            public void onText(String json, long receivedAt) {
+            }
+
+            public void onPong(java.nio.ByteBuffer payload) {
+            }
+
+            public void onClose() {
+                closed.set(true);
+            }
+
+            public void onError(Throwable t) {
+            }
+        });
+
+        transport.close();
+
+        assertFalse(transport.isOpen());
+        assertFalse(rooms.hasLocal("r1"));
+        assertTrue(closed.get());
+    }
+}
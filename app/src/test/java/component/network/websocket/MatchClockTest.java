@@ -0,0 +1,126 @@
+package component.network.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class MatchClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    private MatchClock clock;
+
+    @Before
+    public void setUp() {
+        clock = new MatchClock();
+    }
+
+    // 서버 시계가 offset 만큼 앞서 있고 편도 지연이 up / down 인 교환
+    private static MatchClock.ClockSample sample(long t0, long offset, long up, long down, long[] t3) {
+        MatchClock.ClockSample s = new MatchClock.ClockSample(t0);
+        s.t1 = t0 + up + offset;
+        s.t2 = s.t1 + MS;
+        t3[0] = s.t2 - offset + down;
+        return s;
+    }
+
+    @Test
+    public void testOffsetFromSymmetricSample() {
+        long[] t3 = new long[1];
+        MatchClock.ClockSample s = sample(1000 * MS, 50 * MS, 10 * MS, 10 * MS, t3);
+
+        clock.addSample(s, t3[0]);
+
+        assertEquals(50 * MS, clock.getOffsetNanos());
+        assertEquals(1, clock.getSampleCount());
+    }
+
+    @Test
+    public void testPrefersLowestDelaySample() {
+        long[] t3 = new long[1];
+        // 비대칭(업로드 90ms) 샘플은 오프셋이 45ms 틀어짐
+        clock.addSample(sample(1000 * MS, 50 * MS, 90 * MS, 0, t3), t3[0]);
+        // 지연이 작은 대칭 샘플이 들어오면 그쪽을 채택
+        clock.addSample(sample(2000 * MS, 50 * MS, 5 * MS, 5 * MS, t3), t3[0]);
+
+        assertEquals(50 * MS, clock.getOffsetNanos());
+    }
+
+    @Test
+    public void testSlewsAfterLock() {
+        long[] t3 = new long[1];
+        for (int i = 0; i < MatchClock.SAMPLE_WINDOW; i++) {
+            clock.addSample(sample(i * 100 * MS, 50 * MS, 5 * MS, 5 * MS, t3), t3[0]);
+        }
+        assertTrue(clock.isLocked());
+
+        // 창 전체가 새 오프셋(80ms)으로 바뀌어도 한 번에 2ms 씩만 이동
+        for (int i = 0; i < MatchClock.SAMPLE_WINDOW; i++) {
+            clock.addSample(sample((100 + i) * 100 * MS, 80 * MS, 1 * MS, 1 * MS, t3), t3[0]);
+        }
+        long expected = 50 * MS + MatchClock.SAMPLE_WINDOW * MatchClock.MAX_SLEW_NANOS;
+        assertEquals(expected, clock.getOffsetNanos());
+    }
+
+    @Test
+    public void testRttEwmaAndJitter() {
+        for (int i = 0; i < 50; i++) {
+            clock.addRtt(20 * MS);
+        }
+        assertEquals(20.0, clock.getRttMillis(), 0.01);
+        assertTrue(clock.getJitterMillis() < 1.0);
+
+        clock.addRtt(120 * MS);
+        assertTrue(clock.getRttMillis() > 20.0);
+        assertTrue(clock.getJitterMillis() > 20.0);
+        assertEquals(120.0, clock.getLastRttMillis(), 0.01);
+    }
+
+    @Test
+    public void testNoRttBeforeFirstPong() {
+        assertEquals(-1.0, clock.getRttMillis(), 0.0);
+    }
+
+    @Test
+    public void testServerReplyRoundTrip() {
+        FakeSession session = new FakeSession("c");
+        for (int i = 0; i < 5; i++) {
+            MatchClock.ClockSample request = new MatchClock.ClockSample(MatchClock.localNanos());
+            String json = WebSocketUtil.toJson(new Message(MessageType.CLOCK_SYNC, request));
+
+            GameServer.replyClockSync(json, session.session, MatchClock.localNanos());
+
+            Message reply = WebSocketUtil.fromJson(session.received.get(i), Message.class);
+            assertEquals(MessageType.CLOCK_SYNC, reply.type);
+            clock.addSample(WebSocketUtil.fromJson(reply.data, MatchClock.ClockSample.class),
+                    MatchClock.localNanos());
+        }
+
+        // 같은 JVM → 가장 지연이 작은 샘플 기준 오프셋 거의 0
+        assertEquals(5, session.received.size());
+        assertTrue(Math.abs(clock.getOffsetNanos()) < 5 * MS);
+    }
+
+    @Test
+    public void testClientConsumesClockSyncReply() {
+        AtomicBoolean forwarded = new AtomicBoolean(false);
+        GameClient client = new GameClient(m -> forwarded.set(true));
+        client.setMatchClock(clock);
+
+        MatchClock.ClockSample reply = MatchClock.reply(new MatchClock.ClockSample(MatchClock.localNanos()),
+                MatchClock.localNanos());
+        client.onMessage(WebSocketUtil.toJson(new Message(MessageType.CLOCK_SYNC, reply)));
+
+        assertFalse(forwarded.get());
+        assertEquals(1, clock.getSampleCount());
+    }
+
+    @Test
+    public void testNowIsWallClockRange() {
+        long diff = Math.abs(clock.nowMillis() - System.currentTimeMillis());
+        assertTrue(diff < 1000);
+    }
+}
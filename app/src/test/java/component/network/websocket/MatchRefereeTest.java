@@ -0,0 +1,261 @@
+package component.network.websocket;
+
+import logic.HeadlessRules;
+import logic.PlayerInput;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MatchRefereeTest {
+
+    private static final int W = HeadlessRules.WIDTH;
+    private static final int RED = 0xFFFF0000;
+    private static final int[][] O = { { 1, 1 }, { 1, 1 } };
+    private static final int GAP_MASK = HeadlessRules.ROW_MASK & ~(0b11 << 3); // 3, 4열 빈 줄
+
+    private MatchReferee referee;
+    private final int[] confirmed = { -1, -1 }; // 슬롯별 마지막으로 보낸 프레임
+
+    @Before
+    public void setup() {
+        referee = new MatchReferee("test", new MatchReferee.Totals());
+        Arrays.fill(confirmed, -1);
+        send(0, MessageType.GAME_START, 0L);
+    }
+
+    @After
+    public void tearDown() {
+        GameServer.getRooms().setAuthoritative(false);
+        GameServer.getRooms().clear();
+    }
+
+    private boolean send(int slot, MessageType type, Object payload) {
+        return referee.inspect(slot, type, WebSocketUtil.toJson(new Message(type, payload)));
+    }
+
+    private static BoardDeltaTracker.BoardDelta fullSync(int... rowMasks) {
+        List<BoardDeltaTracker.CellDelta> cells = new ArrayList<>();
+        for (int y = 0; y < HeadlessRules.HEIGHT; y++) {
+            int m = y < rowMasks.length ? rowMasks[y] : 0;
+            for (int x = 0; x < W; x++) {
+                cells.add(new BoardDeltaTracker.CellDelta(x, y, (m >> x & 1) != 0 ? RED : null));
+            }
+        }
+        return new BoardDeltaTracker.BoardDelta(cells);
+    }
+
+    // 아래 두 줄이 3, 4열만 빈 보드 (나머지 행은 0)
+    private static int[] twoGapRows() {
+        int[] rows = new int[HeadlessRules.HEIGHT];
+        rows[18] = GAP_MASK;
+        rows[19] = GAP_MASK;
+        return rows;
+    }
+
+    private void spawn(int slot, int frame, int[][] shape) {
+        inputs(slot, frame, PlayerInput.SPAWN, List.of(new BoardSyncAdapter.PieceSpawn(frame, RED, shape)));
+    }
+
+    private void input(int slot, int frame, int bits) {
+        inputs(slot, frame, bits, null);
+    }
+
+    // 클라이언트처럼 확정 구간 다음 프레임부터 빈틈 없이 보냄
+    private void inputs(int slot, int frame, int bits, List<BoardSyncAdapter.PieceSpawn> spawns) {
+        int start = Math.min(confirmed[slot] + 1, frame);
+        int[] batch = new int[frame - start + 1];
+        batch[batch.length - 1] = bits;
+        send(slot, MessageType.PLAYER_INPUT, new BoardSyncAdapter.InputBatch(start, batch, spawns));
+        confirmed[slot] = Math.max(confirmed[slot], frame);
+    }
+
+    // 보낸 쪽이 잘라낸 묶음 (MAX_INPUT_BATCH 초과) 처럼 사이 프레임 없이 바로 보냄
+    private void skipTo(int slot, int frame, int bits) {
+        confirmed[slot] = frame - 1;
+        input(slot, frame, bits);
+    }
+
+    @Test
+    public void testEarnedAttackPassesAndFabricatedAttackIsDropped() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(twoGapRows()));
+        spawn(0, 1, O);
+        input(0, 2, PlayerInput.DROP);
+        input(0, 2, PlayerInput.DROP | PlayerInput.DOWN); // 하드드롭은 같은 프레임에 DOWN 을 누적 재전송
+
+        assertTrue(send(0, MessageType.LINE_ATTACK, new int[] { GAP_MASK, GAP_MASK }));
+        assertFalse("credit already spent", send(0, MessageType.LINE_ATTACK, new int[] { GAP_MASK, GAP_MASK }));
+        assertFalse("no clear, no attack", send(1, MessageType.LINE_ATTACK, new int[] { 1, 2, 3, 4 }));
+
+        MatchReferee.MatchReport r = referee.finish();
+        assertEquals(2, r.attackLinesAccepted);
+        assertEquals(6, r.attackLinesRejected);
+        assertEquals(0, r.maskMismatches);
+        assertEquals(0, r.divergences);
+    }
+
+    @Test
+    public void testResentFrameReplaysOnlyNewPresses() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync());
+        spawn(0, 1, O);
+        int left = PlayerInput.LEFT;
+        input(0, 2, left);
+        left = PlayerInput.add(left, PlayerInput.LEFT);
+        input(0, 2, left); // 같은 프레임 두 번째 LEFT → 누적 재전송
+        left = PlayerInput.add(PlayerInput.add(left, PlayerInput.LEFT), PlayerInput.LEFT);
+        input(0, 2, left); // 세 번째 (x = 0), 네 번째는 벽
+
+        assertEquals(1, referee.finish().illegalMoves);
+    }
+
+    @Test
+    public void testUnclaimedCreditExpiresAtNextSpawn() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(twoGapRows()));
+        spawn(0, 1, O);
+        input(0, 2, PlayerInput.DROP);
+        spawn(0, 3, O);
+
+        assertFalse(send(0, MessageType.LINE_ATTACK, new int[] { GAP_MASK, GAP_MASK }));
+    }
+
+    @Test
+    public void testOpponentGarbageMatchedAtSpawn() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(twoGapRows()));
+        send(1, MessageType.BOARD_FULL_SYNC, fullSync());
+        spawn(1, 1, O);
+        spawn(0, 1, O);
+        input(0, 2, PlayerInput.DROP);
+        assertTrue(send(0, MessageType.LINE_ATTACK, new int[] { GAP_MASK, GAP_MASK }));
+        assertEquals(2, referee.rulesOf(1).getPendingGarbage());
+
+        // 상대는 아직 공격을 못 받은 상태로 한 블록 더 → 가비지 없이 일치
+        input(1, 2, PlayerInput.DROP);
+        int[] rows = new int[HeadlessRules.HEIGHT];
+        rows[18] = 0b11 << 3;
+        rows[19] = 0b11 << 3;
+        send(1, MessageType.BOARD_FULL_SYNC, fullSync(rows));
+        spawn(1, 3, O);
+        assertEquals(2, referee.rulesOf(1).getPendingGarbage());
+
+        // 받은 뒤 스폰: 보드가 두 줄 밀려 올라가고 아래 두 줄이 가비지
+        input(1, 4, PlayerInput.DROP);
+        int[] shifted = new int[HeadlessRules.HEIGHT];
+        shifted[14] = 0b11 << 3; // 두 번째 O
+        shifted[15] = 0b11 << 3;
+        shifted[16] = 0b11 << 3; // 첫 번째 O (두 줄 올라감)
+        shifted[17] = 0b11 << 3;
+        shifted[18] = GAP_MASK;
+        shifted[19] = GAP_MASK;
+        send(1, MessageType.BOARD_FULL_SYNC, fullSync(shifted));
+        spawn(1, 5, O);
+
+        HeadlessRules opp = referee.rulesOf(1);
+        assertEquals(0, opp.getPendingGarbage());
+        assertTrue(opp.isGarbageRow(19));
+        assertEquals(0, referee.finish().divergences);
+    }
+
+    @Test
+    public void testDivergentReportIsCountedAndRebased() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync());
+        spawn(0, 1, O);
+        input(0, 2, PlayerInput.DROP);
+
+        int[] rows = new int[HeadlessRules.HEIGHT];
+        rows[19] = 0b1111; // 엔진은 3, 4열에 O 가 있다고 봄
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(rows));
+        spawn(0, 3, O);
+
+        assertEquals(0b1111, referee.rulesOf(0).rowMask(19));
+        assertEquals(1, referee.finish().divergences);
+    }
+
+    @Test
+    public void testInputGapSuspendsAttackValidationUntilRebase() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(twoGapRows()));
+        spawn(0, 1, O);
+        skipTo(0, 10, PlayerInput.NONE); // 2..9 프레임 유실 (하드드롭 줄 삭제를 엔진이 못 봄)
+
+        assertTrue("honest attack passes while gapped", send(0, MessageType.LINE_ATTACK,
+                new int[] { GAP_MASK, GAP_MASK }));
+        assertFalse("malformed mask still dropped", send(0, MessageType.LINE_ATTACK, new int[] { -1 }));
+
+        // 보고된 보드로 재기준 → 다시 검증
+        int[] rows = new int[HeadlessRules.HEIGHT];
+        rows[19] = 0b1111;
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync(rows));
+        spawn(0, 11, O);
+        assertEquals(0b1111, referee.rulesOf(0).rowMask(19));
+        assertFalse(send(0, MessageType.LINE_ATTACK, new int[] { GAP_MASK }));
+
+        MatchReferee.MatchReport r = referee.finish();
+        assertEquals(1, r.inputGaps);
+        assertEquals(2, r.attackLinesUnchecked);
+        assertEquals(1, r.attackLinesRejected);
+        assertEquals("difference after a gap is not a divergence", 0, r.divergences);
+    }
+
+    @Test
+    public void testNonStandardPieceAndIllegalMoveCounted() {
+        spawn(0, 1, new int[][] { { 1, 1, 1, 1, 1 } });
+        for (int f = 2; f < 12; f++) {
+            input(0, f, PlayerInput.RIGHT); // 5칸 블록은 x=3 에서 두 칸까지만
+        }
+        MatchReferee.MatchReport r = referee.finish();
+        assertEquals(1, r.illegalPieces);
+        assertEquals(8, r.illegalMoves);
+    }
+
+    @Test
+    public void testItemModeIsNotValidated() {
+        send(0, MessageType.MODE_SELECT, "Item");
+        send(0, MessageType.GAME_START, 0L);
+        assertFalse(referee.isEnabled());
+        assertTrue(send(0, MessageType.LINE_ATTACK, new int[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void testReportIncludesCost() {
+        send(0, MessageType.BOARD_FULL_SYNC, fullSync());
+        spawn(0, 1, O);
+        send(0, MessageType.GAME_OVER, null);
+
+        MatchReferee.MatchReport r = referee.getLastReport();
+        assertNotNull(r);
+        assertFalse(referee.isActive());
+        assertEquals(3, r.messages); // GAME_START 포함
+        assertTrue(r.inspectNanos > 0);
+        assertEquals(1, r.pieces);
+    }
+
+    @Test
+    public void testRegistryDropsRejectedAttackOnlyInAuthoritativeMode() {
+        RoomRegistry rooms = GameServer.getRooms();
+        FakeSession a = new FakeSession("a", "ref");
+        FakeSession b = new FakeSession("b", "ref");
+        rooms.join(a.session);
+        rooms.join(b.session);
+        String attack = WebSocketUtil.toJson(new Message(MessageType.LINE_ATTACK, new int[] { 1, 2 }));
+
+        rooms.relay(a.session, attack);
+        assertEquals(1, b.received.size());
+
+        rooms.setAuthoritative(true);
+        rooms.relay(a.session, WebSocketUtil.toJson(new Message(MessageType.GAME_START, 0L)));
+        assertEquals(0, rooms.relay(a.session, attack));
+        assertEquals(2, b.received.size()); // GAME_START 만
+        assertNotNull(rooms.referee("ref"));
+
+        rooms.leave(a.session);
+        rooms.leave(b.session);
+        assertNull("empty room drops its referee", rooms.referee("ref"));
+        assertEquals(1, rooms.getRefereeTotals().getMatches());
+        assertEquals(2, rooms.getRefereeTotals().getRejectedLines());
+    }
+}
@@ -0,0 +1,72 @@
+package component.network.websocket;
+
+import com.google.gson.JsonParseException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MessageDecodersTest {
+
+    private final MessageDecoders decoders = MessageDecoders.get();
+
+    @Test
+    public void testDecodesSingleEncodedPayload() {
+        Message msg = new Message(MessageType.PLAYER_STATS, new BoardSyncAdapter.PlayerStats(3000, 5, 12));
+        BoardSyncAdapter.PlayerStats stats = decoders.decode(msg);
+        assertEquals(3000, stats.score);
+        assertEquals(5, stats.level);
+    }
+
+    @Test
+    public void testDecodesLegacyDoubleEncodedPayload() {
+        // 이전 버전: 본문을 JSON 문자열로 한 번 더 감싸서 보냄
+        String inner = WebSocketUtil.toJson(List.of(new BoardSyncAdapter.BlockData(0xFF0000, new int[][] { { 1 } })));
+        Message msg = new Message(MessageType.NEXT_BLOCKS, inner);
+        assertTrue(msg.data.startsWith("\""));
+
+        BoardSyncAdapter.BlockData[] blocks = decoders.decode(msg);
+        assertEquals(1, blocks.length);
+        assertEquals(0xFF0000, blocks[0].rgb);
+    }
+
+    @Test
+    public void testVisualEffectRoundTrip() {
+        Message msg = new Message(MessageType.VISUAL_EFFECT, new NetworkManager.VisualEffect("combo", 4));
+        NetworkManager.VisualEffect e = decoders.decode(msg);
+        assertEquals("combo", e.type);
+        assertEquals(4, e.value);
+    }
+
+    @Test
+    public void testStringPayloadNotUnwrappedTwice() {
+        assertEquals("Hard", decoders.decode(new Message(MessageType.MODE_SELECT, "Hard")));
+    }
+
+    @Test
+    public void testBoardDeltaKeepsSeq() {
+        BoardDeltaTracker.BoardDelta d = new BoardDeltaTracker.BoardDelta(List.of());
+        d.boardSeq = 9;
+        BoardDeltaTracker.BoardDelta out = decoders.decode(new Message(MessageType.BOARD_DELTA, d));
+        assertEquals(Integer.valueOf(9), out.boardSeq);
+    }
+
+    @Test
+    public void testUnregisteredTypeOrEmptyBodyIsNull() {
+        assertFalse(decoders.has(MessageType.RESTART_START));
+        assertNull(decoders.decode(new Message(MessageType.RESTART_START, "x")));
+        Message empty = new Message();
+        empty.type = MessageType.PLAYER_STATS;
+        assertNull(decoders.decode(empty));
+        assertNull(decoders.decode(null));
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testMalformedPayloadThrows() {
+        Message msg = new Message();
+        msg.type = MessageType.PLAYER_STATS;
+        msg.data = "{INVALID";
+        decoders.decode(msg);
+    }
+}
@@ -2,6 +2,7 @@ package component.network.websocket;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class MockGameClient extends GameClient {
@@ -27,6 +28,17 @@ public class MockGameClient extends GameClient {
         if (onConnected != null) onConnected.run();
     }
 
+    @Override
+    public CompletableFuture<Void> connectAsync(String uri) {
+        connect(uri);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void reconnect(String uri) {
+        connect(uri);
+    }
+
     @Override
     public void disconnect() {
         disconnected = true;
@@ -36,6 +36,16 @@ public class NetworkManagerTest {
         assertEquals("192.168.0.10", loaded);
     }
 
+    @Test
+    public void testServerUriWithRoom() {
+        NetworkManager nm = nm(new MockGameClient(), new JLabel(), () -> {
+        });
+
+        assertEquals("ws://localhost:8081/game?room=default", nm.test_serverUri("localhost"));
+        assertEquals("ws://10.0.0.5:8081/game?room=match7", nm.test_serverUri("10.0.0.5/match7"));
+        assertEquals("match7", nm.getRoomId());
+    }
+
     @Test
     public void testPingPongUpdatesLabel() {
         JLabel lag = new JLabel();
@@ -0,0 +1,113 @@
+package component.network.websocket;
+
+import logic.PlayerInput;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OpponentPredictorTest {
+
+    private static final int[][] O_SHAPE = { { 1, 1 }, { 1, 1 } };
+
+    private MockBoardLogic oppLogic;
+    private OpponentPredictor predictor;
+
+    @Before
+    public void setUp() {
+        oppLogic = new MockBoardLogic();
+        oppLogic.getState().setCurr(null);
+        predictor = new OpponentPredictor(oppLogic);
+        predictor.start(MatchClock.localNanos());
+    }
+
+    private void send(int start, int[] inputs, BoardSyncAdapter.PieceSpawn spawn) {
+        predictor.onInputBatch(new BoardSyncAdapter.InputBatch(start, inputs,
+                spawn == null ? null : List.of(spawn)));
+    }
+
+    private BoardSyncAdapter.PieceSpawn spawnAt(int frame) {
+        return new BoardSyncAdapter.PieceSpawn(frame, Color.RED.getRGB(), O_SHAPE);
+    }
+
+    @Test
+    public void testSpawnShowsPiece() {
+        send(0, new int[] { PlayerInput.SPAWN }, spawnAt(0));
+        assertTrue(predictor.advanceTo(1));
+
+        assertNotNull(oppLogic.getCurr());
+        assertEquals(3, oppLogic.getX());
+        assertEquals(0, oppLogic.getY());
+    }
+
+    @Test
+    public void testMovesApplied() {
+        send(0, new int[] { PlayerInput.SPAWN, PlayerInput.LEFT, PlayerInput.DOWN }, spawnAt(0));
+        predictor.advanceTo(3);
+
+        assertEquals(2, oppLogic.getX());
+        assertEquals(1, oppLogic.getY());
+    }
+
+    @Test
+    public void testRepeatedMoveInOneFrame() {
+        int twoLefts = PlayerInput.add(PlayerInput.LEFT, PlayerInput.LEFT);
+        send(0, new int[] { PlayerInput.SPAWN, twoLefts, PlayerInput.DOWN }, spawnAt(0));
+        predictor.advanceTo(3);
+
+        assertEquals("both presses move the piece", 1, oppLogic.getX());
+        assertEquals(1, oppLogic.getY());
+    }
+
+    @Test
+    public void testLateInputRollsBack() {
+        send(0, new int[] { PlayerInput.SPAWN }, spawnAt(0));
+        predictor.advanceTo(6); // 1~5 프레임은 "입력 없음" 예측
+
+        send(1, new int[] { 0, PlayerInput.RIGHT, 0 }, null);
+        predictor.advanceTo(6);
+
+        assertEquals(4, oppLogic.getX());
+        RollbackSession.Metrics m = predictor.getSession().getMetrics();
+        assertEquals(1, m.rollbacks);
+        assertEquals(4, m.lastDepth);
+    }
+
+    @Test
+    public void testHardDropHidesPiece() {
+        send(0, new int[] { PlayerInput.SPAWN, PlayerInput.DROP }, spawnAt(0));
+        predictor.advanceTo(2);
+        assertNull(oppLogic.getCurr());
+    }
+
+    @Test
+    public void testBlockedByBoard() {
+        oppLogic.getBoard()[0][2] = Color.GRAY;
+        send(0, new int[] { PlayerInput.SPAWN, PlayerInput.LEFT }, spawnAt(0));
+        predictor.advanceTo(2);
+        assertEquals(3, oppLogic.getX());
+    }
+
+    @Test
+    public void testStopClearsPiece() {
+        send(0, new int[] { PlayerInput.SPAWN }, spawnAt(0));
+        predictor.advanceTo(1);
+        predictor.stop();
+
+        assertNull(oppLogic.getCurr());
+        assertFalse(predictor.isRunning());
+    }
+
+    @Test
+    public void testStatePackRoundTrip() {
+        send(0, new int[] { PlayerInput.SPAWN, PlayerInput.ROTATE, PlayerInput.DOWN }, spawnAt(0));
+        predictor.advanceTo(3);
+
+        long packed = predictor.saveState();
+        predictor.loadState(packed);
+        assertEquals(packed, predictor.saveState());
+    }
+}
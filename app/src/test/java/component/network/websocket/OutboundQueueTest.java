@@ -0,0 +1,289 @@
+package component.network.websocket;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class OutboundQueueTest {
+
+    // 전송 완료를 테스트에서 직접 제어하는 원격 엔드포인트
+    private final List<String> wire = new ArrayList<>();
+    private final List<SendHandler> pending = new ArrayList<>();
+    private OutboundQueue queue;
+
+    @Before
+    public void setUp() {
+        RemoteEndpoint.Async remote = (RemoteEndpoint.Async) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { RemoteEndpoint.Async.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("sendText") && args.length == 2) {
+                        wire.add((String) args[0]);
+                        pending.add((SendHandler) args[1]);
+                    }
+                    return null;
+                });
+        queue = new OutboundQueue(remote, 4);
+    }
+
+    private static String json(MessageType type, String data) {
+        return WebSocketUtil.toJson(new Message(type, data));
+    }
+
+    private void completeOne() {
+        pending.remove(0).onResult(new SendResult());
+    }
+
+    @Test
+    public void testOnlyOneInFlight() {
+        queue.offer(json(MessageType.PING, "1"));
+        queue.offer(json(MessageType.PING, "2"));
+
+        assertEquals(1, wire.size());
+        assertEquals(1, queue.depth());
+        assertTrue(queue.isInFlight());
+
+        completeOne();
+        assertEquals(2, wire.size());
+        completeOne();
+        assertFalse(queue.isInFlight());
+        assertEquals(2, queue.getSent());
+    }
+
+    @Test
+    public void testFullSyncSupersedesQueuedBoardMessages() {
+        queue.offer(json(MessageType.PING, "busy"));
+        queue.offer(json(MessageType.BOARD_DELTA, "d1"));
+        queue.offer(json(MessageType.BOARD_DELTA_COMPRESSED, "d2"));
+        queue.offer(json(MessageType.BOARD_FULL_SYNC, "full"));
+
+        assertEquals(1, queue.depth());
+        assertEquals(2, queue.getSuperseded());
+        assertEquals(1, queue.getDrops(MessageType.BOARD_DELTA));
+    }
+
+    @Test
+    public void testLatestStateReplacesSameType() {
+        queue.offer(json(MessageType.PING, "busy"));
+        queue.offer(json(MessageType.PLAYER_STATS, "old"));
+        queue.offer(json(MessageType.PLAYER_STATS, "new"));
+
+        assertEquals(1, queue.depth());
+        completeOne();
+        assertTrue(wire.get(1).contains("new"));
+    }
+
+    @Test
+    public void testCriticalMessagesNeverDropped() {
+        queue.offer(json(MessageType.PING, "busy"));
+        for (int i = 0; i < 10; i++) {
+            queue.offer(json(MessageType.LINE_ATTACK, "a" + i));
+        }
+        queue.offer(json(MessageType.GAME_OVER, "over"));
+        queue.offer(json(MessageType.RESTART_READY, "r"));
+        queue.offer(json(MessageType.BOARD_DELTA, "d"));
+
+        assertEquals(12, queue.depth());
+        assertEquals(1, queue.getOverflowDropped());
+        assertEquals(1, queue.getDrops(MessageType.BOARD_DELTA));
+        assertEquals(0, queue.getDrops(MessageType.LINE_ATTACK));
+    }
+
+    @Test
+    public void testPlayerInputSurvivesOverflow() {
+        queue.offer(json(MessageType.PING, "busy"));
+        for (int i = 0; i < 6; i++) {
+            queue.offer(json(MessageType.PLAYER_INPUT, "i" + i));
+        }
+        queue.offer(json(MessageType.VISUAL_EFFECT, "fx"));
+
+        assertEquals(0, queue.getDrops(MessageType.PLAYER_INPUT));
+        assertEquals(6, queue.depth());
+    }
+
+    private static String inputs(int start, long seq, int... bits) {
+        Message m = new Message(MessageType.PLAYER_INPUT, new BoardSyncAdapter.InputBatch(start, bits, null));
+        m.seq = seq;
+        return WebSocketUtil.toJson(m);
+    }
+
+    private static BoardSyncAdapter.InputBatch batchOf(String text) {
+        return WebSocketUtil.fromJson(WebSocketUtil.fromJson(text, Message.class).data,
+                BoardSyncAdapter.InputBatch.class);
+    }
+
+    @Test
+    public void testQueuedInputBatchesCoalesce() {
+        queue.offer(json(MessageType.PING, "busy"));
+        queue.offer(inputs(0, 1, logic.PlayerInput.LEFT));
+        queue.offer(json(MessageType.ACTIVE_PIECE, "p")); // 순서 무관한 메시지는 건너뜀
+        queue.offer(inputs(1, 2, logic.PlayerInput.DOWN));
+        queue.offer(inputs(1, 3, logic.PlayerInput.DOWN | logic.PlayerInput.RIGHT)); // 같은 프레임 누적 재전송
+        queue.offer(inputs(2, 4, 0, logic.PlayerInput.SPAWN));
+
+        assertEquals(2, queue.depth());
+        assertEquals(3, queue.getCoalesced());
+        completeOne();
+        BoardSyncAdapter.InputBatch merged = batchOf(wire.get(1));
+        assertEquals(0, merged.startFrame);
+        assertArrayEquals(new int[] { logic.PlayerInput.LEFT, logic.PlayerInput.DOWN | logic.PlayerInput.RIGHT, 0,
+                logic.PlayerInput.SPAWN }, merged.inputs);
+        assertEquals("newest seq acknowledges the merged range", 4, ReplayBuffer.seqOf(wire.get(1)));
+    }
+
+    @Test
+    public void testInputBatchesNotMergedAcrossBoardOrCritical() {
+        queue.offer(json(MessageType.PING, "busy"));
+        queue.offer(inputs(0, 1, logic.PlayerInput.LEFT));
+        queue.offer(json(MessageType.BOARD_FULL_SYNC, "full")); // 심판은 스폰 전 보드와 비교 → 순서 유지
+        queue.offer(inputs(1, 2, logic.PlayerInput.SPAWN));
+        queue.offer(json(MessageType.LINE_ATTACK, "atk"));
+        queue.offer(inputs(2, 3, logic.PlayerInput.DROP));
+
+        assertEquals(0, queue.getCoalesced());
+        assertEquals(5, queue.depth());
+    }
+
+    @Test
+    public void testHardLimitDropsInputsAndRequestsResync() {
+        AtomicBoolean resync = new AtomicBoolean(false);
+        queue.setOnBoardDropped(() -> resync.set(true));
+
+        queue.offer(json(MessageType.PING, "busy"));
+        for (int i = 0; i < queue.getHardLimit(); i++) {
+            // 사이마다 공격 → 입력 묶음을 합칠 수 없는 최악의 경우
+            queue.offer(i % 2 == 0 ? inputs(i, i + 1, logic.PlayerInput.DOWN) : json(MessageType.LINE_ATTACK, "a" + i));
+        }
+        assertFalse(resync.get());
+        queue.offer(json(MessageType.LINE_ATTACK, "last"));
+
+        assertTrue(resync.get());
+        assertTrue(queue.depth() < queue.getHardLimit());
+        assertEquals(0, queue.getDrops(MessageType.LINE_ATTACK));
+        assertEquals(queue.getHardLimit() / 2, queue.getDrops(MessageType.PLAYER_INPUT));
+        assertFalse(queue.isClosed());
+    }
+
+    @Test
+    public void testOverflowDropsOldestDroppable() {
+        AtomicBoolean boardDropped = new AtomicBoolean(false);
+        queue.setOnBoardDropped(() -> boardDropped.set(true));
+
+        queue.offer(json(MessageType.PING, "busy"));
+        queue.offer(json(MessageType.BOARD_DELTA, "d1"));
+        queue.offer(json(MessageType.LINE_ATTACK, "atk"));
+        queue.offer(json(MessageType.BOARD_DELTA, "d2"));
+        queue.offer(json(MessageType.VISUAL_EFFECT, "fx"));
+        queue.offer(json(MessageType.BOARD_DELTA, "d3"));
+
+        assertEquals(4, queue.depth());
+        assertEquals(1, queue.getOverflowDropped());
+        assertTrue(boardDropped.get());
+    }
+
+    @Test
+    public void testCriticalFloodClosesAtHardLimit() {
+        AtomicBoolean overflow = new AtomicBoolean(false);
+        queue.setOnOverflow(() -> overflow.set(true));
+
+        queue.offer(json(MessageType.PING, "busy"));
+        for (int i = 0; i < queue.getHardLimit(); i++) {
+            queue.offer(json(MessageType.LINE_ATTACK, "a" + i));
+        }
+        assertEquals(queue.getHardLimit(), queue.depth());
+        assertFalse(overflow.get());
+
+        queue.offer(json(MessageType.LINE_ATTACK, "one too many"));
+        assertTrue("connection must be dropped", overflow.get());
+        assertTrue(queue.isClosed());
+        assertEquals(0, queue.depth());
+        assertEquals(1, queue.getOverflows());
+
+        queue.offer(json(MessageType.GAME_OVER, "over"));
+        assertEquals("closed queue accepts nothing until clear", 0, queue.depth());
+        queue.clear();
+        assertFalse(queue.isClosed());
+    }
+
+    @Test
+    public void testCompletionFromBeforeClearIsIgnored() {
+        queue.offer(json(MessageType.PING, "old"));
+        SendHandler stale = pending.remove(0);
+        queue.clear(); // 전송 중이던 것은 그대로 두고 정리 (끊김 / 재접속)
+
+        queue.offer(json(MessageType.PING, "new1"));
+        queue.offer(json(MessageType.PING, "new2"));
+        assertEquals(2, wire.size());
+
+        stale.onResult(new SendResult());
+        assertEquals("stale completion must not start a second send", 2, wire.size());
+        assertTrue(queue.isInFlight());
+        assertEquals(1, queue.depth());
+
+        completeOne();
+        assertEquals(3, wire.size());
+    }
+
+    @Test
+    public void testFailedSendContinuesWithNext() {
+        queue.offer(json(MessageType.PING, "1"));
+        queue.offer(json(MessageType.PING, "2"));
+        pending.remove(0).onResult(new SendResult(new RuntimeException("closed")));
+
+        assertEquals(1, queue.getFailed());
+        assertEquals(2, wire.size());
+    }
+
+    @Test
+    public void testPeekType() {
+        assertEquals(MessageType.LINE_ATTACK, OutboundQueue.peekType(json(MessageType.LINE_ATTACK, "x")));
+        assertNull(OutboundQueue.peekType("{\"data\":1}"));
+        assertNull(OutboundQueue.peekType("{\"type\":\"NOPE\"}"));
+        assertNull(OutboundQueue.peekType(null));
+    }
+
+    @Test
+    public void testPolicy() {
+        assertTrue(OutboundQueue.isCritical(MessageType.LINE_ATTACK));
+        assertTrue(OutboundQueue.isCritical(MessageType.RESTART_START));
+        assertTrue(OutboundQueue.isCritical(MessageType.PLAYER_INPUT));
+        assertTrue(OutboundQueue.isCritical(null));
+        assertFalse(OutboundQueue.isCritical(MessageType.BOARD_DELTA));
+        assertTrue(OutboundQueue.isLatestState(MessageType.BOARD_FULL_SYNC));
+        assertFalse(OutboundQueue.isLatestState(MessageType.BOARD_DELTA));
+    }
+
+    @Test
+    public void testClear() {
+        queue.offer(json(MessageType.PING, "1"));
+        queue.offer(json(MessageType.PING, "2"));
+        queue.clear();
+        assertEquals(0, queue.depth());
+        assertFalse(queue.isInFlight());
+        assertTrue(queue.getStatsString().startsWith("Q:0"));
+    }
+
+    @Test
+    public void testWireMetricsRecordedOnCompletion() {
+        WireMetrics metrics = new WireMetrics("test");
+        queue.setWireMetrics(metrics);
+        String text = json(MessageType.BOARD_DELTA, "abc");
+        queue.offer(text);
+
+        assertEquals(0, metrics.getSentCount(MessageType.BOARD_DELTA)); // 완료 전
+        completeOne();
+        assertEquals(1, metrics.getSentCount(MessageType.BOARD_DELTA));
+        assertEquals(text.length(), metrics.getSentBytes(MessageType.BOARD_DELTA));
+        assertEquals(1, metrics.stats(MessageType.BOARD_DELTA).getSendLatency().count());
+    }
+}
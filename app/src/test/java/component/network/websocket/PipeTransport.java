@@ -0,0 +1,88 @@
+package component.network.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 테스트용 메모리 전송 한 쌍 (서버 없이 두 GameClient 직결)
+ * - 메시지는 JSON 으로 직렬화해서 전달 (실제 소켓과 같은 파싱 경로)
+ * - drop(): 양쪽 다 끊김, 그동안 보낸 메시지는 사라짐
+ * - reconnect(): 다시 연결되면 양쪽에 onResumed(false) (재개 버퍼 없음 → 전체 동기화 필요)
+ */
+public class PipeTransport implements Transport {
+
+    private PipeTransport peer;
+    private volatile Listener listener;
+    private volatile boolean open = false;
+
+    public static PipeTransport[] pair() {
+        PipeTransport a = new PipeTransport();
+        PipeTransport b = new PipeTransport();
+        a.peer = b;
+        b.peer = a;
+        return new PipeTransport[] { a, b };
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void connect(String uri) {
+        open = true;
+        Listener l = listener;
+        if (l != null)
+            l.onOpen();
+    }
+
+    @Override
+    public void reconnect(String uri) {
+        boolean wasDown = !open || !peer.open;
+        open = true;
+        peer.open = true;
+        if (wasDown) {
+            notifyResumed();
+            peer.notifyResumed();
+        }
+    }
+
+    private void notifyResumed() {
+        Listener l = listener;
+        if (l != null)
+            l.onResumed(false);
+    }
+
+    @Override
+    public void send(Message msg) {
+        if (!open || !peer.open)
+            return; // 끊긴 동안 보낸 메시지는 사라짐
+        Listener l = peer.listener;
+        if (l != null)
+            l.onText(WebSocketUtil.toJson(msg), MatchClock.localNanos());
+    }
+
+    @Override
+    public void sendPing() {
+        Listener l = listener;
+        if (open && l != null) {
+            ByteBuffer payload = ByteBuffer.allocate(Long.BYTES).putLong(0, System.nanoTime());
+            l.onPong(payload);
+        }
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public void drop() {
+        open = false;
+        peer.open = false;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open && peer.open;
+    }
+}
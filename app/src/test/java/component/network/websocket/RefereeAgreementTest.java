@@ -0,0 +1,174 @@
+package component.network.websocket;
+
+import component.ai.TetrisAI;
+import logic.BoardLogic;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 실제 BoardLogic 클라이언트 두 명이 보내는 PLAYER_INPUT / BOARD_* / LINE_ATTACK 을 MatchReferee 에 통과시켜
+ * HeadlessRules 가 게임 규칙과 어긋나지 않는지 확인
+ * - 봇은 TetrisAI 로 조작, 프레임 번호는 테스트가 정하는 매치 시계
+ * - NetworkManager 와 같은 연결: 스폰 / 가비지 적용 시 즉시 동기화, 받은 공격은 addGarbageMasks
+ * - 공격은 몇 프레임 늦게 전달 (상대가 가비지를 언제 받았는지 심판이 모르는 상황 포함)
+ */
+public class RefereeAgreementTest {
+
+    private static final int MATCHES = 3;
+    private static final int MAX_FRAMES = 6000;
+    private static final int ACTION_FRAMES = 2; // 봇 조작 간격
+    private static final int GRAVITY_FRAMES = 30;
+    private static final int SYNC_FRAMES = 3; // 50ms 주기 동기화
+    private static final int ATTACK_DELAY_FRAMES = 6;
+
+    // 테스트가 직접 움직이는 매치 시계
+    private static class StepClock extends MatchClock {
+        long nanos;
+
+        @Override
+        public long now() {
+            return nanos;
+        }
+    }
+
+    // 보낸 메시지를 심판에 통과시키고, 통과한 공격은 상대에게 늦게 전달
+    private class RelayClient extends MockGameClient {
+        final int slot;
+
+        RelayClient(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void send(Message msg) {
+            String json = WebSocketUtil.toJson(msg);
+            boolean relayed = referee.inspect(slot, msg.type, json);
+            if (relayed && msg.type == MessageType.LINE_ATTACK) {
+                int[] masks = MessageDecoders.get().decode(WebSocketUtil.fromJson(json, Message.class));
+                pending.add(new Attack(frame + ATTACK_DELAY_FRAMES, 1 - slot, masks));
+            }
+            if (msg.type == MessageType.GAME_OVER)
+                over = true;
+        }
+    }
+
+    private static class Attack {
+        final int frame;
+        final int target;
+        final int[] masks;
+
+        Attack(int frame, int target, int[] masks) {
+            this.frame = frame;
+            this.target = target;
+            this.masks = masks;
+        }
+    }
+
+    private static class Bot {
+        BoardLogic logic;
+        BoardSyncAdapter adapter;
+        TetrisAI ai;
+    }
+
+    private MatchReferee referee;
+    private final ArrayDeque<Attack> pending = new ArrayDeque<>();
+    private int frame;
+    private boolean over;
+
+    @Test
+    public void testRealClientsNeverDivergeFromReferee() {
+        List<MatchReferee.MatchReport> reports = new ArrayList<>();
+        for (int m = 0; m < MATCHES; m++) {
+            reports.add(playMatch());
+        }
+
+        int checkpoints = 0;
+        int attackLines = 0;
+        for (MatchReferee.MatchReport r : reports) {
+            System.out.println("[AGREE] " + r);
+            assertEquals(r.toString(), 0, r.divergences);
+            assertEquals(r.toString(), 0, r.attackLinesRejected);
+            assertEquals(r.toString(), 0, r.maskMismatches);
+            assertEquals(r.toString(), 0, r.illegalMoves);
+            assertEquals(r.toString(), 0, r.illegalPieces);
+            assertEquals(r.toString(), 0, r.inputGaps);
+            checkpoints += r.checkpoints;
+            attackLines += r.attackLinesAccepted;
+        }
+        assertTrue("pieces were compared", checkpoints > 50);
+        assertTrue("attacks were validated", attackLines > 0);
+        System.out.println("[AGREE] checkpoints:" + checkpoints + " attackLines:" + attackLines);
+    }
+
+    private MatchReferee.MatchReport playMatch() {
+        referee = new MatchReferee("agree", null);
+        pending.clear();
+        frame = 0;
+        over = false;
+
+        StepClock clock = new StepClock();
+        Bot[] bots = new Bot[2];
+        for (int slot = 0; slot < 2; slot++) {
+            Bot bot = new Bot();
+            bot.logic = new BoardLogic(score -> {
+            });
+            bot.logic.setAnimatedGravityEnabled(false); // 중력 결과는 같고 타이머 없이 바로 끝남
+            bot.adapter = new BoardSyncAdapter(bot.logic, new BoardLogic(score -> {
+            }), new RelayClient(slot));
+            bot.adapter.setMatchClock(clock);
+            BoardSyncAdapter adapter = bot.adapter;
+            bot.logic.setBeforeSpawnHook(adapter::sendBoardStateImmediate);
+            bot.logic.setOnGarbageApplied(adapter::sendBoardStateImmediate);
+            bot.ai = new TetrisAI(bot.logic);
+            bots[slot] = bot;
+        }
+
+        referee.inspect(0, MessageType.GAME_START, WebSocketUtil.toJson(new Message(MessageType.GAME_START, 0L)));
+        for (Bot bot : bots) {
+            bot.adapter.sendBoardStateImmediate();
+            bot.adapter.startInputStream(0);
+        }
+
+        for (frame = 0; frame < MAX_FRAMES && !over; frame++) {
+            clock.nanos = frame * RollbackSession.FRAME_NANOS + 1;
+
+            while (!pending.isEmpty() && pending.peek().frame <= frame) {
+                Attack a = pending.poll();
+                bots[a.target].logic.addGarbageMasks(a.masks);
+                bots[a.target].adapter.sendBoardStateImmediate();
+            }
+
+            for (Bot bot : bots) {
+                if (over || bot.logic.isGameOver())
+                    continue;
+                if (frame % ACTION_FRAMES == 0)
+                    act(bot);
+                if (frame % GRAVITY_FRAMES == GRAVITY_FRAMES - 1)
+                    bot.logic.moveDown();
+                if (frame % SYNC_FRAMES == 0)
+                    bot.adapter.sendBoardState();
+            }
+        }
+
+        MatchReferee.MatchReport report = referee.finish();
+        return report != null ? report : referee.getLastReport();
+    }
+
+    private static void act(Bot bot) {
+        String action = bot.ai.getNextAction();
+        if (action == null)
+            return;
+        switch (action) {
+            case "LEFT" -> bot.logic.moveLeft();
+            case "RIGHT" -> bot.logic.moveRight();
+            case "ROTATE" -> bot.logic.rotateBlock();
+            case "DROP" -> bot.logic.hardDrop();
+            default -> bot.logic.moveDown();
+        }
+    }
+}
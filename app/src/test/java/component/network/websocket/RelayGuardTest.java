@@ -0,0 +1,186 @@
+package component.network.websocket;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RelayGuardTest {
+
+    private static final long SEC = 1_000_000_000L;
+
+    @After
+    public void tearDown() {
+        GameServer.getRelayGuard().setLimits(RelayLimits.fromSystemProperties());
+        GameServer.getRooms().clear();
+    }
+
+    private static void awaitClosed(FakeSession s) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (s.open && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static String json(MessageType type) {
+        return WebSocketUtil.toJson(new Message(type, "x"));
+    }
+
+    @Test
+    public void testTokenBucketBurstThenRefill() {
+        TokenBucket b = new TokenBucket(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(b.tryAcquire(0));
+        }
+        assertFalse(b.tryAcquire(0));
+        assertTrue("0.1s → one token", b.tryAcquire(SEC / 10));
+        assertFalse(b.tryAcquire(SEC / 10));
+        assertEquals(5.0, b.available(10 * SEC), 1e-9); // 버스트 이상으로 모이지 않음
+    }
+
+    @Test
+    public void testTypeLimitDoesNotBlockOtherTypes() {
+        RelayLimits limits = new RelayLimits().withTypeRate(MessageType.BOARD_DELTA, 10, 3);
+        limits.floodCloseRejects = 0;
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(RelayGuard.Verdict.ACCEPT, guard.admit(s.session, MessageType.BOARD_DELTA, 0));
+        }
+        assertEquals(RelayGuard.Verdict.RATE_LIMITED, guard.admit(s.session, MessageType.BOARD_DELTA, 0));
+        assertEquals(RelayGuard.Verdict.ACCEPT, guard.admit(s.session, MessageType.LINE_ATTACK, 0));
+        assertEquals(1, guard.getRejected(MessageType.BOARD_DELTA));
+        assertEquals(4, guard.getAccepted());
+        assertTrue(s.open);
+    }
+
+    @Test
+    public void testSessionLimitCoversAllTypes() {
+        RelayLimits limits = new RelayLimits();
+        limits.sessionRate = new RelayLimits.Rate(100, 4);
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        MessageType[] types = { MessageType.PLAYER_STATS, MessageType.NEXT_BLOCKS, null, MessageType.PING };
+        for (MessageType t : types) {
+            assertEquals(RelayGuard.Verdict.ACCEPT, guard.admit(s.session, t, 0));
+        }
+        assertEquals(RelayGuard.Verdict.RATE_LIMITED, guard.admit(s.session, MessageType.SCORE_UPDATE, 0));
+        assertEquals(RelayGuard.Verdict.ACCEPT, guard.admit(s.session, MessageType.SCORE_UPDATE, SEC / 100));
+    }
+
+    @Test
+    public void testPlayerInputKeptOverLimitButCountsTowardFlood() throws InterruptedException {
+        RelayLimits limits = new RelayLimits().withTypeRate(MessageType.PLAYER_INPUT, 10, 2);
+        limits.floodCloseRejects = 5;
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        for (int i = 0; i < 7; i++) {
+            assertEquals(RelayGuard.Verdict.ACCEPT, guard.admit(s.session, MessageType.PLAYER_INPUT, 0));
+        }
+        assertEquals(5, guard.getKeptOverLimit());
+        assertEquals(0, guard.getRejected(MessageType.PLAYER_INPUT));
+        assertTrue(s.open);
+
+        assertEquals(RelayGuard.Verdict.RATE_LIMITED, guard.admit(s.session, MessageType.PLAYER_INPUT, 0));
+        awaitClosed(s);
+        assertEquals(1, guard.getFloodClosed());
+    }
+
+    @Test
+    public void testFloodClosesSession() throws InterruptedException {
+        RelayLimits limits = new RelayLimits().withTypeRate(MessageType.BOARD_DELTA, 10, 1);
+        limits.floodCloseRejects = 50;
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        for (int i = 0; i <= 51; i++) {
+            guard.admit(s.session, MessageType.BOARD_DELTA, 0);
+        }
+        awaitClosed(s);
+        assertFalse(s.open);
+        assertEquals(1, guard.getFloodClosed());
+        assertEquals(RelayGuard.Verdict.CLOSED, guard.admit(s.session, MessageType.PLAYER_STATS, 0));
+    }
+
+    @Test
+    public void testRejectWindowResets() {
+        RelayLimits limits = new RelayLimits().withTypeRate(MessageType.BOARD_DELTA, 1, 1);
+        limits.floodCloseRejects = 10;
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        // 초마다 10개씩 버려져도 한 창을 넘지 않으면 끊지 않음
+        for (int sec = 0; sec < 5; sec++) {
+            for (int i = 0; i < 11; i++) {
+                guard.admit(s.session, MessageType.BOARD_DELTA, sec * SEC + i);
+            }
+        }
+        assertEquals(0, guard.getFloodClosed());
+        assertTrue(s.open);
+    }
+
+    @Test
+    public void testOversizedFrameClosesSession() throws InterruptedException {
+        RelayLimits limits = new RelayLimits();
+        limits.maxFrameBytes = 100;
+        RelayGuard guard = new RelayGuard(limits);
+        FakeSession s = new FakeSession("s");
+
+        assertTrue(guard.checkSize(s.session, "a".repeat(100)));
+        assertFalse("multi-byte chars counted as bytes", guard.checkSize(s.session, "가".repeat(40)));
+        awaitClosed(s);
+        assertFalse(s.open);
+        assertEquals(1, guard.getOversized());
+    }
+
+    @Test
+    public void testSlowConsumerEvicted() throws InterruptedException {
+        RelayLimits limits = new RelayLimits();
+        limits.slowConsumerMs = 30;
+        RoomRegistry rooms = new RoomRegistry();
+        RelayGuard guard = new RelayGuard(limits);
+        rooms.setRelayGuard(guard);
+
+        FakeSession sender = new FakeSession("a", "r");
+        FakeSession fast = new FakeSession("b", "r");
+        FakeSession slow = new FakeSession("c", "r");
+        slow.autoCompleteText = false;
+        rooms.join(sender.session);
+        rooms.join(fast.session);
+        rooms.join(slow.session);
+
+        rooms.relay(sender.session, json(MessageType.BOARD_DELTA));
+        assertEquals(0, guard.getSlowEvicted());
+        Thread.sleep(60);
+        rooms.relay(sender.session, json(MessageType.BOARD_DELTA));
+
+        awaitClosed(slow);
+        assertFalse(slow.open);
+        assertTrue(fast.open);
+        assertEquals(1, guard.getSlowEvicted());
+    }
+
+    @Test
+    public void testServerDropsOverLimitMessages() {
+        RelayLimits limits = new RelayLimits().withTypeRate(MessageType.BOARD_DELTA, 1, 2);
+        limits.floodCloseRejects = 0;
+        GameServer.getRelayGuard().setLimits(limits);
+
+        GameServer endpoint = new GameServer();
+        FakeSession a = new FakeSession("a", "guard");
+        FakeSession b = new FakeSession("b", "guard");
+        endpoint.onOpen(a.session);
+        endpoint.onOpen(b.session);
+
+        for (int i = 0; i < 10; i++) {
+            endpoint.onMessage(json(MessageType.BOARD_DELTA), a.session);
+        }
+        endpoint.onMessage(json(MessageType.LINE_ATTACK), a.session);
+
+        assertEquals(3, b.received.size());
+        assertTrue(b.received.get(2).contains("LINE_ATTACK"));
+    }
+}
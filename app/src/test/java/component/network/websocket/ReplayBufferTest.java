@@ -0,0 +1,63 @@
+package component.network.websocket;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ReplayBufferTest {
+
+    @Test
+    public void testSinceReturnsMessagesAfterSeq() {
+        ReplayBuffer buf = new ReplayBuffer(8);
+        for (int i = 1; i <= 5; i++) {
+            buf.add(i, "m" + i);
+        }
+
+        assertEquals(List.of("m4", "m5"), buf.since(3));
+        assertTrue(buf.since(5).isEmpty());
+        assertEquals(5, buf.since(0).size());
+    }
+
+    @Test
+    public void testSinceReturnsNullWhenGapOverwritten() {
+        ReplayBuffer buf = new ReplayBuffer(4);
+        for (int i = 1; i <= 10; i++) {
+            buf.add(i, "m" + i);
+        }
+
+        assertEquals(4, buf.size());
+        assertNull(buf.since(2)); // 3~6 은 이미 밀려남
+        assertEquals(List.of("m7", "m8", "m9", "m10"), buf.since(6));
+    }
+
+    @Test
+    public void testSeqFieldRoundTrip() {
+        Message m = new Message(MessageType.LINE_ATTACK, new int[] { 1, 2 });
+        String json = WebSocketUtil.toJson(m);
+        assertEquals(0, ReplayBuffer.seqOf(json));
+
+        String stamped = ReplayBuffer.withSeq(json, 42);
+        assertEquals(42, ReplayBuffer.seqOf(stamped));
+        assertEquals(MessageType.LINE_ATTACK, OutboundQueue.peekType(stamped));
+
+        Message back = WebSocketUtil.fromJson(stamped, Message.class);
+        assertEquals(42, back.seq);
+        assertEquals(m.data, back.data);
+    }
+
+    @Test
+    public void testWithSeqAppendsWhenMissing() {
+        assertEquals(7, ReplayBuffer.seqOf(ReplayBuffer.withSeq("{\"type\":\"PING\"}", 7)));
+        assertEquals("hello", ReplayBuffer.withSeq("hello", 7)); // JSON 객체가 아니면 그대로
+    }
+
+    @Test
+    public void testEphemeralTypesNotReplayed() {
+        assertFalse(ReplayBuffer.isReplayable(MessageType.CLOCK_SYNC));
+        assertFalse(ReplayBuffer.isReplayable(MessageType.PING));
+        assertTrue(ReplayBuffer.isReplayable(MessageType.LINE_ATTACK));
+        assertTrue(ReplayBuffer.isReplayable(MessageType.BOARD_DELTA));
+    }
+}
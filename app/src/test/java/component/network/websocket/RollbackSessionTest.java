@@ -0,0 +1,140 @@
+package component.network.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RollbackSessionTest {
+
+    /** 상태 = 지금까지 받은 입력의 합 (결정적) */
+    private static class SumSim implements RollbackSession.Simulation {
+        long sum = 0;
+        int steps = 0;
+
+        @Override
+        public long saveState() {
+            return sum;
+        }
+
+        @Override
+        public void loadState(long state) {
+            sum = state;
+        }
+
+        @Override
+        public void step(int frame, int remoteInput) {
+            sum += remoteInput;
+            steps++;
+        }
+    }
+
+    private SumSim sim;
+    private RollbackSession session;
+
+    @Before
+    public void setUp() {
+        sim = new SumSim();
+        session = new RollbackSession(sim, 16);
+    }
+
+    @Test
+    public void testPredictsLastConfirmedInput() {
+        session.addRemoteInput(0, 3);
+        session.advanceTo(4);
+
+        // 프레임 1~3은 마지막 확정 입력(3) 반복
+        assertEquals(12, sim.sum);
+        assertEquals(4, session.getCurrentFrame());
+        assertEquals(0, session.getMetrics().rollbacks);
+    }
+
+    @Test
+    public void testRollbackOnMisprediction() {
+        session.addRemoteInput(0, 1);
+        session.advanceTo(5); // 1 + 1*4 (예측)
+
+        session.addRemoteInput(2, 0);
+        session.advanceTo(5);
+
+        // 프레임 0,1 = 1 / 프레임 2 = 0 / 프레임 3,4 = 0 (새 예측)
+        assertEquals(2, sim.sum);
+        RollbackSession.Metrics m = session.getMetrics();
+        assertEquals(1, m.rollbacks);
+        assertEquals(3, m.lastDepth);
+        assertTrue(m.maxResimNanos >= 0);
+    }
+
+    @Test
+    public void testCorrectPredictionDoesNotRollback() {
+        session.addRemoteInput(0, 2);
+        session.advanceTo(3);
+        session.addRemoteInput(1, 2);
+        session.addRemoteInput(2, 2);
+        session.advanceTo(3);
+
+        assertEquals(6, sim.sum);
+        assertEquals(0, session.getMetrics().rollbacks);
+    }
+
+    @Test
+    public void testMultipleLateInputsRollbackOnce() {
+        session.advanceTo(6);
+        session.addRemoteInput(1, 1);
+        session.addRemoteInput(3, 1);
+        session.advanceTo(6);
+
+        assertEquals(1, session.getMetrics().rollbacks);
+        assertEquals(5, session.getMetrics().lastDepth);
+    }
+
+    @Test
+    public void testFutureInputIsUsedWhenReached() {
+        session.addRemoteInput(2, 5);
+        session.advanceTo(3);
+
+        // 미래 입력도 lastConfirmed 로 취급되어 0,1 프레임 예측에 쓰임
+        assertEquals(15, sim.sum);
+        assertEquals(0, session.getMetrics().rollbacks);
+    }
+
+    @Test
+    public void testTooOldInputIsDropped() {
+        session.advanceTo(20);
+        assertFalse(session.addRemoteInput(2, 1));
+        assertEquals(1, session.getMetrics().droppedInputs);
+    }
+
+    @Test
+    public void testCustomPredictor() {
+        session.setPredictor(last -> 0);
+        session.addRemoteInput(0, 4);
+        session.advanceTo(4);
+        assertEquals(4, sim.sum);
+    }
+
+    @Test
+    public void testReset() {
+        session.addRemoteInput(0, 1);
+        session.advanceTo(4);
+        session.addRemoteInput(1, 0);
+        session.advanceTo(4);
+
+        session.reset();
+        assertEquals(0, session.getCurrentFrame());
+        assertEquals(-1, session.getLastConfirmedFrame());
+        assertEquals(0, session.getMetrics().rollbacks);
+    }
+
+    @Test
+    public void testFrameAt() {
+        assertEquals(0, RollbackSession.frameAt(1000, 500));
+        assertEquals(0, RollbackSession.frameAt(0, RollbackSession.FRAME_NANOS - 1));
+        assertEquals(3, RollbackSession.frameAt(0, RollbackSession.FRAME_NANOS * 3));
+    }
+
+    @Test
+    public void testMetricsString() {
+        assertTrue(session.getMetrics().toString().startsWith("RB:"));
+    }
+}
@@ -0,0 +1,298 @@
+package component.network.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.websocket.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RoomRegistryTest {
+
+    private RoomRegistry rooms;
+
+    @Before
+    public void setUp() {
+        rooms = new RoomRegistry();
+    }
+
+    @Test
+    public void testJoinDefaultRoomWithoutParam() {
+        FakeSession a = new FakeSession("a");
+        assertEquals(RoomRegistry.DEFAULT_ROOM, rooms.join(a.session));
+        assertEquals(1, rooms.roomCount());
+    }
+
+    @Test
+    public void testRelayOnlyWithinRoom() {
+        FakeSession a1 = new FakeSession("a1", "alpha");
+        FakeSession a2 = new FakeSession("a2", "alpha");
+        FakeSession b1 = new FakeSession("b1", "beta");
+        rooms.join(a1.session);
+        rooms.join(a2.session);
+        rooms.join(b1.session);
+
+        int delivered = rooms.relay(a1.session, "hello");
+
+        assertEquals(1, delivered);
+        assertEquals(1, a2.received.size());
+        assertTrue(a1.received.isEmpty());
+        assertTrue(b1.received.isEmpty());
+    }
+
+    @Test
+    public void testClosedSessionSkipped() {
+        FakeSession a1 = new FakeSession("a1", "alpha");
+        FakeSession a2 = new FakeSession("a2", "alpha");
+        rooms.join(a1.session);
+        rooms.join(a2.session);
+        a2.open = false;
+
+        assertEquals(0, rooms.relay(a1.session, "x"));
+    }
+
+    @Test
+    public void testLeaveRemovesEmptyRoom() {
+        FakeSession a = new FakeSession("a", "alpha");
+        rooms.join(a.session);
+        rooms.leave(a.session);
+
+        assertEquals(0, rooms.roomCount());
+        assertTrue(rooms.members("alpha").isEmpty());
+    }
+
+    @Test
+    public void testLeaveUnknownSessionIsNoop() {
+        rooms.leave(new FakeSession("x").session);
+        assertEquals(0, rooms.sessionCount());
+    }
+
+    @Test
+    public void testSanitize() {
+        assertEquals("match-1_A", RoomRegistry.sanitize(" match-1_A "));
+        assertEquals(RoomRegistry.DEFAULT_ROOM, RoomRegistry.sanitize("../etc"));
+        assertEquals(RoomRegistry.DEFAULT_ROOM, RoomRegistry.sanitize(""));
+        assertEquals(RoomRegistry.DEFAULT_ROOM, RoomRegistry.sanitize("x".repeat(40)));
+    }
+
+    @Test
+    public void testBuildUri() {
+        assertEquals("ws://localhost:8081/game?room=r1", RoomRegistry.buildUri("localhost", 8081, "r1"));
+    }
+
+    @Test
+    public void testCounters() {
+        FakeSession a1 = new FakeSession("a1", "alpha");
+        FakeSession a2 = new FakeSession("a2", "alpha");
+        rooms.join(a1.session);
+        rooms.join(a2.session);
+        rooms.relay(a1.session, "1");
+        rooms.relay(a2.session, "2");
+
+        assertEquals(2, rooms.getRelayedMessages());
+        assertEquals(2, rooms.getDeliveredMessages());
+        assertEquals(2, rooms.sessionCount());
+
+        rooms.clear();
+        assertEquals(0, rooms.roomCount());
+        assertEquals(0, rooms.getRelayedMessages());
+    }
+
+    // ===============================
+    // 세션 재개
+    // ===============================
+
+    private static FakeSession resumable(String id, String room, String token, long lastSeq) {
+        FakeSession s = new FakeSession(id, room);
+        s.params.put(RoomRegistry.RESUME_PARAM, List.of(token == null ? RoomRegistry.RESUME_NEW : token));
+        if (token != null) {
+            s.params.put(RoomRegistry.LAST_SEQ_PARAM, List.of(String.valueOf(lastSeq)));
+        }
+        return s;
+    }
+
+    private static String attack(int n) {
+        return WebSocketUtil.toJson(new Message(MessageType.LINE_ATTACK, new int[] { n }));
+    }
+
+    private static ResumableSession.Info info(FakeSession s) {
+        Message m = WebSocketUtil.fromJson(s.received.get(0), Message.class);
+        assertEquals(MessageType.SESSION_INFO, m.type);
+        return WebSocketUtil.fromJson(m.data, ResumableSession.Info.class);
+    }
+
+    @Test
+    public void testResumeReplaysOnlyMissedMessages() {
+        FakeSession a = new FakeSession("a", "alpha");
+        FakeSession b = resumable("b", "alpha", null, 0);
+        rooms.join(a.session);
+        rooms.join(b.session);
+        String token = info(b).token;
+        assertNotNull(token);
+
+        rooms.relay(a.session, attack(1));
+        rooms.relay(a.session, attack(2));
+        long lastSeen = ReplayBuffer.seqOf(b.received.get(2));
+        assertEquals(2, lastSeen);
+
+        // 와이파이 끊김 → 보관 중에도 메시지는 쌓임
+        rooms.leave(b.session, true);
+        assertEquals(1, rooms.parkedCount("alpha"));
+        rooms.relay(a.session, attack(3));
+        rooms.relay(a.session, attack(4));
+
+        // 1번만 받았다고 가정하고 재접속 → 2,3,4 재전송
+        FakeSession b2 = resumable("b2", "alpha", token, 1);
+        rooms.join(b2.session);
+
+        ResumableSession.Info resumed = info(b2);
+        assertTrue(resumed.resumed);
+        assertTrue(resumed.complete);
+        assertEquals(4, b2.received.size());
+        assertEquals(2, ReplayBuffer.seqOf(b2.received.get(1)));
+        assertEquals(4, ReplayBuffer.seqOf(b2.received.get(3)));
+        assertEquals(0, rooms.parkedCount("alpha"));
+        assertEquals(b.userProperties.get(RoomRegistry.SLOT_KEY), b2.userProperties.get(RoomRegistry.SLOT_KEY));
+
+        // 이후 실시간 메시지는 이어지는 seq
+        rooms.relay(a.session, attack(5));
+        assertEquals(5, ReplayBuffer.seqOf(b2.received.get(4)));
+    }
+
+    @Test
+    public void testResumeDropsDuplicateFromClient() {
+        FakeSession a = new FakeSession("a", "alpha");
+        FakeSession b = resumable("b", "alpha", null, 0);
+        rooms.join(a.session);
+        rooms.join(b.session);
+
+        String msg = ReplayBuffer.withSeq(attack(1), 1);
+        assertEquals(1, rooms.relay(b.session, msg));
+
+        rooms.leave(b.session, true);
+        FakeSession b2 = resumable("b2", "alpha", info(b).token, 0);
+        rooms.join(b2.session);
+        assertEquals(1, info(b2).ackSeq);
+
+        // 클라이언트가 ack 를 못 보고 다시 보낸 중복은 버림
+        assertEquals(0, rooms.relay(b2.session, msg));
+        assertEquals(1, a.received.size());
+    }
+
+    @Test
+    public void testResumeIncompleteWhenBufferOverwritten() {
+        FakeSession a = new FakeSession("a", "alpha");
+        FakeSession b = resumable("b", "alpha", null, 0);
+        rooms.join(a.session);
+        rooms.join(b.session);
+        rooms.leave(b.session, true);
+
+        for (int i = 0; i < ReplayBuffer.DEFAULT_CAPACITY + 10; i++) {
+            rooms.relay(a.session, attack(i));
+        }
+
+        FakeSession b2 = resumable("b2", "alpha", info(b).token, 0);
+        rooms.join(b2.session);
+        ResumableSession.Info resumed = info(b2);
+        assertTrue(resumed.resumed);
+        assertFalse(resumed.complete);
+        assertEquals(1, b2.received.size());
+    }
+
+    @Test
+    public void testNormalCloseDoesNotKeepSession() {
+        FakeSession b = resumable("b", "alpha", null, 0);
+        rooms.join(b.session);
+        String token = info(b).token;
+        rooms.leave(b.session);
+
+        assertEquals(0, rooms.parkedCount("alpha"));
+        FakeSession b2 = resumable("b2", "alpha", token, 0);
+        rooms.join(b2.session);
+        assertFalse(info(b2).resumed);
+        assertNotEquals(token, info(b2).token);
+    }
+
+    @Test
+    public void testParkedSlotNotReused() {
+        FakeSession a = resumable("a", "alpha", null, 0);
+        rooms.join(a.session);
+        rooms.leave(a.session, true);
+
+        FakeSession c = new FakeSession("c", "alpha");
+        rooms.join(c.session);
+        assertEquals(1, c.userProperties.get(RoomRegistry.SLOT_KEY));
+    }
+
+    @Test
+    public void testResumeWhileOldSocketStillOpen() {
+        FakeSession a = new FakeSession("a", "alpha");
+        FakeSession b = resumable("b", "alpha", null, 0);
+        rooms.join(a.session);
+        rooms.join(b.session);
+        rooms.relay(a.session, attack(1));
+
+        // 서버가 끊김을 알기 전에 재접속
+        FakeSession b2 = resumable("b2", "alpha", info(b).token, 1);
+        rooms.join(b2.session);
+        rooms.relay(a.session, attack(2));
+
+        assertEquals(2, b.received.size());
+        assertEquals(2, b2.received.size());
+        assertEquals(2, rooms.members("alpha").size());
+        assertFalse(rooms.members("alpha").contains(b.session));
+
+        // 이전 소켓이 나중에 닫혀도 보관 목록에 들어가지 않음
+        rooms.leave(b.session, true);
+        assertEquals(0, rooms.parkedCount("alpha"));
+    }
+
+    @Test
+    public void testConcurrentJoinLeaveKeepsMembersAndSlotsConsistent() throws InterruptedException {
+        int threads = 8;
+        int rounds = 300;
+        Map<Object, Session> held = new ConcurrentHashMap<>();
+        AtomicInteger lost = new AtomicInteger();
+        AtomicInteger duplicateSlots = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread w = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < rounds; i++) {
+                    FakeSession s = new FakeSession("w" + id + "-" + i, "race");
+                    rooms.join(s.session);
+                    if (!rooms.members("race").contains(s.session))
+                        lost.incrementAndGet(); // 빈 방 제거와 겹쳐 버려진 집합에 들어감
+                    Object slot = s.userProperties.get(RoomRegistry.SLOT_KEY);
+                    if (held.putIfAbsent(slot, s.session) != null)
+                        duplicateSlots.incrementAndGet();
+                    held.remove(slot, s.session);
+                    rooms.leave(s.session);
+                }
+            });
+            workers.add(w);
+            w.start();
+        }
+        start.countDown();
+        for (Thread w : workers) {
+            w.join(30_000);
+        }
+
+        assertEquals(0, lost.get());
+        assertEquals(0, duplicateSlots.get());
+        assertEquals(0, rooms.roomCount());
+    }
+}
@@ -0,0 +1,231 @@
+package component.network.websocket;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpectatorFeedTest {
+
+    private RoomRegistry rooms;
+    private FakeSession p1;
+    private FakeSession p2;
+
+    @Before
+    public void setUp() {
+        rooms = new RoomRegistry();
+        p1 = new FakeSession("p1", "match");
+        p2 = new FakeSession("p2", "match");
+        rooms.join(p1.session);
+        rooms.join(p2.session);
+    }
+
+    private static String json(MessageType type, String data) {
+        return WebSocketUtil.toJson(new Message(type, data));
+    }
+
+    private FakeSession spectator(String id) {
+        FakeSession s = new FakeSession(id, "match");
+        s.params.put(RoomRegistry.ROLE_PARAM, List.of(RoomRegistry.SPECTATOR_ROLE));
+        rooms.join(s.session);
+        return s;
+    }
+
+    @Test
+    public void testSpectatorReceivesBothPlayersWithSlot() {
+        FakeSession watcher = spectator("w");
+
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "a"));
+        rooms.relay(p2.session, json(MessageType.BOARD_DELTA, "b"));
+
+        assertEquals(2, watcher.binary.size());
+        assertEquals(0, watcher.binary.get(0).slot);
+        assertEquals(1, watcher.binary.get(1).slot);
+        assertEquals(MessageType.BOARD_DELTA, watcher.binary.get(1).message.type);
+        // 관전자는 플레이어 릴레이 대상이 아님
+        assertTrue(watcher.received.isEmpty());
+        assertEquals(2, rooms.members("match").size());
+    }
+
+    @Test
+    public void testSpectatorInputIsIgnored() {
+        FakeSession watcher = spectator("w");
+
+        assertEquals(0, rooms.relay(watcher.session, json(MessageType.LINE_ATTACK, "x")));
+        assertTrue(p1.received.isEmpty());
+        assertTrue(p2.received.isEmpty());
+    }
+
+    @Test
+    public void testEncodeOncePerMessage() {
+        FakeSession[] watchers = { spectator("w1"), spectator("w2"), spectator("w3") };
+
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "a"));
+
+        SpectatorFeed feed = rooms.feed("match");
+        assertEquals(1, feed.getEncoded());
+        assertEquals(3, feed.getFannedOut());
+        for (FakeSession w : watchers) {
+            assertEquals(1, w.binary.size());
+            assertEquals(watchers[0].binary.get(0).message.data, w.binary.get(0).message.data);
+        }
+    }
+
+    @Test
+    public void testLateJoinerGetsKeyframeThenDeltas() {
+        rooms.relay(p1.session, json(MessageType.BOARD_FULL_SYNC, "full1"));
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d1"));
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d2"));
+        rooms.relay(p2.session, json(MessageType.BOARD_FULL_SYNC, "full2"));
+        rooms.relay(p1.session, json(MessageType.LINE_ATTACK, "not-a-keyframe"));
+
+        FakeSession late = spectator("late");
+
+        assertEquals(4, late.binary.size());
+        assertEquals("\"full1\"", late.binary.get(0).message.data);
+        assertEquals("\"d1\"", late.binary.get(1).message.data);
+        assertEquals("\"d2\"", late.binary.get(2).message.data);
+        assertEquals(1, late.binary.get(3).slot);
+
+        // 이후 실시간 스트림
+        rooms.relay(p2.session, json(MessageType.BOARD_DELTA, "live"));
+        assertEquals("\"live\"", late.binary.get(4).message.data);
+    }
+
+    @Test
+    public void testFullSyncResetsKeyframeDeltas() {
+        rooms.relay(p1.session, json(MessageType.BOARD_FULL_SYNC, "old"));
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d1"));
+        rooms.relay(p1.session, json(MessageType.BOARD_FULL_SYNC, "new"));
+
+        assertEquals(1, rooms.feed("match").keyframeSize(0));
+        assertTrue(rooms.feed("match").isKeyframeComplete(0));
+        assertFalse(rooms.feed("match").isKeyframeComplete(1));
+    }
+
+    @Test
+    public void testSlowSpectatorDropsToKeyframesOnly() {
+        FakeSession fast = spectator("fast");
+        FakeSession slow = spectator("slow");
+        slow.autoComplete = false;
+
+        int deltas = SpectatorChannel.DEFAULT_CAPACITY + 10;
+        for (int i = 0; i < deltas; i++) {
+            rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d" + i));
+        }
+
+        SpectatorChannel slowCh = rooms.spectatorOf(slow.session);
+        assertEquals(SpectatorChannel.Mode.KEYFRAMES_ONLY, slowCh.getMode());
+        assertEquals(SpectatorChannel.Mode.LIVE, rooms.spectatorOf(fast.session).getMode());
+        assertEquals(deltas, fast.binary.size());
+        // 플레이어 릴레이는 영향 없음
+        assertEquals(deltas, p2.received.size());
+
+        // 강등 후: 델타는 건너뛰고 전체 보드는 전달
+        int depth = slowCh.depth();
+        rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "skip"));
+        assertEquals(depth, slowCh.depth());
+        rooms.relay(p1.session, json(MessageType.BOARD_FULL_SYNC, "key"));
+        assertEquals(depth + 1, slowCh.depth());
+    }
+
+    // 델타로 밀어서 키프레임 전용 모드로 강등된 느린 관전자
+    private SpectatorChannel degradedSpectator(FakeSession slow) {
+        slow.autoComplete = false;
+        for (int i = 0; i < SpectatorChannel.DEFAULT_CAPACITY + 2; i++) {
+            rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d" + i));
+        }
+        SpectatorChannel ch = rooms.spectatorOf(slow.session);
+        assertEquals(SpectatorChannel.Mode.KEYFRAMES_ONLY, ch.getMode());
+        return ch;
+    }
+
+    @Test
+    public void testDegradedSpectatorMergesLatestStatePerSlot() {
+        FakeSession slow = spectator("slow");
+        SpectatorChannel ch = degradedSpectator(slow);
+        int depth = ch.depth();
+
+        MessageType[] latest = { MessageType.ACTIVE_PIECE, MessageType.BOARD_FULL_SYNC, MessageType.PLAYER_STATS,
+                MessageType.NEXT_BLOCKS };
+        for (int i = 0; i < 200; i++) {
+            for (MessageType type : latest) {
+                rooms.relay(p1.session, json(type, "a" + i));
+                rooms.relay(p2.session, json(type, "b" + i));
+            }
+            rooms.relay(p1.session, json(MessageType.PLAYER_INPUT, "i" + i)); // 입력 스트림은 건너뜀
+        }
+
+        assertEquals("one frame per (slot, type)", depth + 2 * latest.length, ch.depth());
+        assertTrue(ch.getSuperseded() > 0);
+        assertEquals(SpectatorChannel.Mode.KEYFRAMES_ONLY, ch.getMode());
+        assertTrue(slow.open);
+    }
+
+    @Test
+    public void testSpectatorClosedWhenCriticalFramesPileUp() throws InterruptedException {
+        FakeSession slow = spectator("slow");
+        SpectatorChannel ch = degradedSpectator(slow);
+
+        for (int i = 0; i <= SpectatorChannel.DEFAULT_CAPACITY * SpectatorChannel.OVERFLOW_FACTOR; i++) {
+            rooms.relay(p1.session, json(MessageType.LINE_ATTACK, "x" + i));
+        }
+
+        assertEquals(SpectatorChannel.Mode.CLOSED, ch.getMode());
+        assertEquals(0, ch.depth());
+        for (int i = 0; i < 100 && slow.open; i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(slow.open);
+    }
+
+    @Test
+    public void testSlowSpectatorRecoversToLive() {
+        FakeSession slow = spectator("slow");
+        slow.autoComplete = false;
+        for (int i = 0; i < SpectatorChannel.DEFAULT_CAPACITY + 2; i++) {
+            rooms.relay(p1.session, json(MessageType.BOARD_DELTA, "d" + i));
+        }
+        SpectatorChannel ch = rooms.spectatorOf(slow.session);
+        assertEquals(SpectatorChannel.Mode.KEYFRAMES_ONLY, ch.getMode());
+
+        // 밀린 것 다 비우고, 키프레임을 몇 번 제때 받으면 실시간 복귀
+        while (slow.completeOne()) {
+        }
+        for (int i = 0; i < SpectatorChannel.RECOVER_AFTER; i++) {
+            rooms.relay(p1.session, json(MessageType.BOARD_FULL_SYNC, "k" + i));
+            while (slow.completeOne()) {
+            }
+        }
+
+        assertEquals(SpectatorChannel.Mode.LIVE, ch.getMode());
+        assertEquals(1, ch.getDegradations());
+    }
+
+    @Test
+    public void testSpectatorUriAndLeave() {
+        assertEquals("ws://h:1/game?room=match&role=spectator",
+                RoomRegistry.buildSpectatorUri("h", 1, "match"));
+
+        FakeSession watcher = spectator("w");
+        assertEquals(1, rooms.spectatorCount("match"));
+        rooms.leave(watcher.session);
+        assertEquals(0, rooms.spectatorCount("match"));
+
+        rooms.leave(p1.session);
+        rooms.leave(p2.session);
+        assertNull(rooms.feed("match"));
+    }
+
+    @Test
+    public void testEncodeDecodeRoundTrip() {
+        String msg = json(MessageType.PLAYER_STATS, "한글");
+        SpectatorClient.Frame frame = SpectatorClient.decode(SpectatorFeed.encode(1, msg));
+
+        assertEquals(1, frame.slot);
+        assertEquals(MessageType.PLAYER_STATS, frame.message.type);
+        assertEquals("\"한글\"", frame.message.data);
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.*;
 
 import javax.swing.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TimeLimitManagerTest {
 
@@ -337,4 +338,46 @@ public class TimeLimitManagerTest {
         // 시간이 감소했는지 확인
         assertTrue(remaining2 < remaining1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testClientWaitsForServerStartTime() throws Exception {
+        manager = new TimeLimitManager(timerLabel, client, false);
+        AtomicBoolean timeoutCalled = new AtomicBoolean(false);
+
+        // 서버 시작 시각을 받기 전에는 카운트다운하지 않음
+        manager.start(0, () -> timeoutCalled.set(true));
+        Thread.sleep(300);
+        assertFalse(timeoutCalled.get());
+        assertTrue(manager.isRunning());
+
+        manager.syncStart(new MatchClock().nowMillis(), 0);
+        Thread.sleep(300);
+        assertTrue(timeoutCalled.get());
+    }
+
+    @Test
+    public void testDeadlineIsScheduledForExactRemainingTime() {
+        // 테스트가 직접 움직이는 매치 시계 → 남은 시간이 결정적
+        AtomicLong nowMillis = new AtomicLong(50_000);
+        MatchClock clock = new MatchClock() {
+            @Override
+            public long now() {
+                return nowMillis.get() * 1_000_000L;
+            }
+        };
+        manager = new TimeLimitManager(timerLabel, client, false, clock);
+
+        // 남은 시간 30ms → 100ms 표시 주기로 양자화되지 않고 30ms 그대로 예약
+        manager.start(10, () -> {});
+        manager.syncStart(nowMillis.get() + 30 - 10_000, 10);
+        assertEquals(30, manager.getDeadlineDelay());
+
+        // 재개 시에는 그 시점의 남은 시간으로 다시 예약
+        manager.syncStart(nowMillis.get() + 1_000 - 10_000, 10);
+        manager.pause();
+        nowMillis.addAndGet(400);
+        manager.resume();
+        assertEquals(600, manager.getDeadlineDelay());
+        manager.cleanup();
+    }
+}
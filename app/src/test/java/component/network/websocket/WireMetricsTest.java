@@ -0,0 +1,93 @@
+package component.network.websocket;
+
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+import static org.junit.Assert.*;
+
+public class WireMetricsTest {
+
+    @Test
+    public void testRecordsPerType() {
+        WireMetrics m = new WireMetrics("test");
+        m.recordSent(MessageType.BOARD_DELTA, 100, 50_000, true);
+        m.recordSent(MessageType.BOARD_DELTA, 60, 70_000, true);
+        m.recordSent(MessageType.LINE_ATTACK, 30, 10_000, false);
+        m.recordReceived(MessageType.BOARD_FULL_SYNC, 900, 200_000);
+
+        assertEquals(160, m.getSentBytes(MessageType.BOARD_DELTA));
+        assertEquals(2, m.getSentCount(MessageType.BOARD_DELTA));
+        assertEquals(0, m.getSentCount(MessageType.LINE_ATTACK)); // 실패는 바이트에 안 넣음
+        assertEquals(1, m.stats(MessageType.LINE_ATTACK).sendFailed.get());
+        assertEquals(900, m.getReceivedBytes(MessageType.BOARD_FULL_SYNC));
+        assertEquals(160, m.getTotalSentBytes());
+        assertEquals(900, m.getTotalReceivedBytes());
+        assertEquals(2, m.stats(MessageType.BOARD_DELTA).getSendLatency().count());
+    }
+
+    @Test
+    public void testReportSortedByBytes() {
+        WireMetrics m = new WireMetrics("test");
+        m.recordSent(MessageType.PING, 10, 1_000, true);
+        m.recordReceived(MessageType.BOARD_FULL_SYNC, 1000, 1_000);
+        m.recordReceived(null, 5, 1_000);
+
+        WireMetrics.Report r = m.report();
+        assertEquals(3, r.types.size());
+        assertEquals("BOARD_FULL_SYNC", r.types.get(0).type);
+        assertEquals("UNKNOWN", r.types.get(2).type);
+
+        List<String> lines = m.overlayLines(2);
+        assertEquals(4, lines.size()); // 요약 + 헤더 + 2개
+        assertTrue(lines.get(2).startsWith("BOARD_FULL_SYNC"));
+    }
+
+    @Test
+    public void testUtf8Length() {
+        assertEquals(5, WireMetrics.utf8Length("hello"));
+        assertEquals("한글".getBytes(java.nio.charset.StandardCharsets.UTF_8).length, WireMetrics.utf8Length("한글"));
+        assertEquals("é😀".getBytes(java.nio.charset.StandardCharsets.UTF_8).length, WireMetrics.utf8Length("é😀"));
+    }
+
+    @Test
+    public void testDumpWritesJson() throws Exception {
+        WireMetrics m = new WireMetrics("dump");
+        m.recordSent(MessageType.BOARD_DELTA, 42, 1_000, true);
+
+        Path dir = Files.createTempDirectory("wire");
+        Path file = m.dump(dir.resolve("sub/out.json"));
+
+        WireMetrics.Report r = new Gson().fromJson(Files.readString(file), WireMetrics.Report.class);
+        assertEquals("dump", r.name);
+        assertEquals(42, r.sentBytes);
+        assertEquals(42, r.types.get(0).avgSentBytes);
+    }
+
+    @Test
+    public void testParentReceivesChildRecords() {
+        WireMetrics total = new WireMetrics("total");
+        WireMetrics a = new WireMetrics("a", total);
+        WireMetrics b = new WireMetrics("b", total);
+        a.recordSent(MessageType.BOARD_DELTA, 100, 1_000, true);
+        b.recordSent(MessageType.BOARD_DELTA, 50, 1_000, true);
+        b.recordReceived(MessageType.PING, 10, 1_000);
+
+        assertEquals(100, a.getSentBytes(MessageType.BOARD_DELTA));
+        assertEquals(150, total.getSentBytes(MessageType.BOARD_DELTA));
+        assertEquals(10, total.getReceivedBytes(MessageType.PING));
+    }
+
+    @Test
+    public void testReset() {
+        WireMetrics m = new WireMetrics("test");
+        m.recordSent(MessageType.BOARD_DELTA, 100, 1_000, true);
+        m.reset();
+        assertEquals(0, m.getTotalSentBytes());
+        assertTrue(m.report().types.isEmpty());
+    }
+}
@@ -306,7 +306,7 @@ public class BoardLogicTest {
         b[10][3] = Color.BLUE;
         pid[10][3] = 2;
 
-        List<List<Point>> clusters = logic.findConnectedClusters(b, pid);
+        List<List<Point>> clusters = logic.findConnectedClusters();
 
         assertEquals(2, clusters.size());
     }
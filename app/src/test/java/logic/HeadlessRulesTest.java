@@ -0,0 +1,189 @@
+package logic;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HeadlessRulesTest {
+
+    private static final int W = HeadlessRules.WIDTH;
+    private static final int H = HeadlessRules.HEIGHT;
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+    private static final int[][] O = { { 1, 1 }, { 1, 1 } };
+    private static final int[][] I = { { 1, 1, 1, 1 } };
+
+    private HeadlessRules rules;
+    private int[] board;
+
+    @Before
+    public void setup() {
+        rules = new HeadlessRules();
+        board = new int[W * H];
+    }
+
+    private void fillRow(int y, int rgb, int... holes) {
+        for (int x = 0; x < W; x++) {
+            board[y * W + x] = rgb;
+        }
+        for (int x : holes) {
+            board[y * W + x] = 0;
+        }
+    }
+
+    private static int bits(int... cols) {
+        int m = 0;
+        for (int c : cols)
+            m |= 1 << c;
+        return m;
+    }
+
+    @Test
+    public void testTwoLineClearProducesAttackMasksWithoutPlacedCells() {
+        fillRow(18, RED, 3, 4);
+        fillRow(19, RED, 3, 4);
+        rules.rebase(board);
+
+        assertTrue(rules.spawn(O));
+        rules.hardDrop();
+
+        int[] attack = rules.takeAttacks();
+        int expected = HeadlessRules.ROW_MASK & ~bits(3, 4);
+        assertArrayEquals(new int[] { expected, expected }, attack);
+        assertEquals(2, rules.getLinesCleared());
+        assertEquals(0, rules.rowMask(19));
+        assertEquals(0, rules.takeAttacks().length); // 가져가면 비움
+    }
+
+    @Test
+    public void testSingleLineSendsNoAttack() {
+        fillRow(19, RED, 3, 4, 5, 6);
+        rules.rebase(board);
+
+        rules.spawn(I);
+        rules.hardDrop();
+
+        assertEquals(0, rules.takeAttacks().length);
+        assertEquals(1, rules.getLinesCleared());
+    }
+
+    @Test
+    public void testClusterFallsAsUnitAfterClear() {
+        fillRow(18, RED, 3, 4);
+        fillRow(19, RED, 3, 4);
+        board[17 * W + 7] = BLUE; // 지워질 줄 위에 얹힌 2칸짜리 블록
+        board[17 * W + 8] = BLUE;
+        rules.rebase(board);
+
+        rules.spawn(O);
+        rules.hardDrop();
+
+        assertEquals(bits(7, 8), rules.rowMask(19));
+        assertEquals(0, rules.rowMask(18));
+        assertEquals(0, rules.rowMask(17));
+    }
+
+    @Test
+    public void testInputsRejectedAtWalls() {
+        rules.spawn(O);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rules.moveLeft());
+        }
+        assertFalse(rules.moveLeft());
+        assertEquals(1, rules.apply(PlayerInput.LEFT | PlayerInput.DOWN));
+        assertEquals(0, rules.getPieceX());
+        assertEquals(1, rules.getPieceY());
+    }
+
+    @Test
+    public void testRepeatedInputAppliedPerCount() {
+        rules.spawn(O);
+        int bits = PlayerInput.add(PlayerInput.add(PlayerInput.LEFT, PlayerInput.LEFT), PlayerInput.LEFT);
+        bits = PlayerInput.add(bits, PlayerInput.LEFT); // 벽에 막히는 네 번째
+        assertEquals(4, PlayerInput.count(bits, PlayerInput.LEFT));
+        assertEquals(1, rules.apply(bits));
+        assertEquals(0, rules.getPieceX());
+    }
+
+    @Test
+    public void testRotationMatchesBlockRotate() {
+        rules.spawn(I);
+        assertTrue(rules.rotate()); // 세로 (1x4)
+        rules.hardDrop();
+        assertEquals(bits(3), rules.rowMask(16));
+        assertEquals(bits(3), rules.rowMask(19));
+    }
+
+    @Test
+    public void testGarbageShiftsBoardAndIsExcludedFromAttack() {
+        int mask = HeadlessRules.ROW_MASK & ~bits(3, 4);
+        rules.addGarbage(new int[] { mask, mask });
+        assertEquals(2, rules.getApplicableGarbage());
+        assertEquals(2, rules.applyGarbage(Integer.MAX_VALUE));
+        assertTrue(rules.isGarbageRow(18));
+        assertTrue(rules.isGarbageRow(19));
+        assertEquals(2, rules.getGarbageCount());
+
+        rules.spawn(O);
+        rules.hardDrop();
+
+        assertEquals("garbage rows never count as attack", 0, rules.takeAttacks().length);
+        assertEquals(0, rules.getGarbageCount());
+    }
+
+    @Test
+    public void testGarbageCapClearsQueue() {
+        int[] ten = new int[HeadlessRules.MAX_GARBAGE];
+        java.util.Arrays.fill(ten, bits(0));
+        rules.addGarbage(ten);
+        assertEquals(HeadlessRules.MAX_GARBAGE, rules.applyGarbage(Integer.MAX_VALUE));
+
+        rules.addGarbage(new int[] { bits(1) });
+        assertEquals(0, rules.getApplicableGarbage());
+        assertEquals(0, rules.applyGarbage(Integer.MAX_VALUE));
+        assertEquals("over the cap the queue is dropped", 0, rules.getPendingGarbage());
+    }
+
+    @Test
+    public void testDistanceConsidersPendingGarbage() {
+        int mask = bits(0, 1, 2);
+        rules.addGarbage(new int[] { mask });
+        int[] reported = new int[H];
+        reported[H - 1] = mask;
+
+        assertEquals(3, rules.distance(reported, 0));
+        assertEquals(0, rules.distance(reported, 1));
+        assertEquals(1, rules.getPendingGarbage()); // 비교만, 적용하지 않음
+    }
+
+    @Test
+    public void testRebaseGroupsSameColorAndFlagsGarbageRows() {
+        fillRow(19, HeadlessRules.GARBAGE_RGB, 0);
+        board[18 * W + 5] = RED;
+        rules.rebase(board);
+
+        assertTrue(rules.isGarbageRow(19));
+        assertFalse(rules.isGarbageRow(18));
+        assertEquals(1, rules.getGarbageCount());
+        assertEquals(bits(5), rules.rowMask(18));
+    }
+
+    @Test
+    public void testBlockedSpawnIsGameOver() {
+        fillRow(0, RED, 0, 1, 2);
+        rules.rebase(board);
+
+        assertFalse(rules.spawn(O));
+        assertTrue(rules.isGameOver());
+    }
+
+    @Test
+    public void testStandardPieces() {
+        assertTrue(HeadlessRules.isStandardPiece(O));
+        assertTrue(HeadlessRules.isStandardPiece(I));
+        assertFalse(HeadlessRules.isStandardPiece(new int[][] { { 1 } }));
+        assertFalse(HeadlessRules.isStandardPiece(new int[][] { { 1, 1, 1, 1, 1 } }));
+        assertFalse(HeadlessRules.isStandardPiece(null));
+    }
+}
@@ -61,4 +61,28 @@ public class MovementServiceTest {
         move.moveRight();
         assertEquals(3, state.getX());
     }
+
+    @Test
+    public void testCachedGhostYFollowsStateVersion() {
+        DummyBlock b = new DummyBlock();
+        state.setCurr(b);
+        state.setPosition(3, 0);
+        assertFalse(state.isGhostCached());
+        assertEquals(GameState.HEIGHT - 2, move.getGhostY());
+        assertTrue(state.isGhostCached());
+
+        // 보드를 직접 고치면 markChanged 전까지는 이전 값
+        state.getBoard()[10][3] = Color.BLUE;
+        assertEquals(GameState.HEIGHT - 2, move.getGhostY());
+        state.markChanged();
+        assertFalse(state.isGhostCached());
+        assertEquals(8, move.getGhostY());
+
+        // 이동하면 다시 계산, 같은 자리로의 setPosition 은 버전 유지
+        long version = state.getVersion();
+        state.setPosition(3, 0);
+        assertEquals(version, state.getVersion());
+        state.setPosition(6, 0);
+        assertEquals(GameState.HEIGHT - 2, move.getGhostY());
+    }
 }
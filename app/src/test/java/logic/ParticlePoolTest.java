@@ -0,0 +1,105 @@
+package logic;
+
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+
+import org.junit.Test;
+
+public class ParticlePoolTest {
+
+    @Test
+    public void testSpawnStoresColumns() {
+        ParticlePool pool = new ParticlePool(4, 0.4f, ParticlePool.Overflow.DROP_NEW);
+        int i = pool.spawn(10.5, 20, 1, -2, ParticlePool.rgb(300, 128, -5), 5, 3);
+        assertEquals(0, i);
+        assertEquals(1, pool.size());
+        assertEquals(10.5f, pool.x[i], 0f);
+        assertEquals(0xFFFF8000, pool.argb[i]);
+        assertEquals(5, pool.life[i]);
+        assertEquals(3, pool.size[i]);
+        assertEquals(1f, pool.alpha(i), 0f);
+    }
+
+    @Test
+    public void testUpdateMovesAppliesGravityAndAges() {
+        ParticlePool pool = new ParticlePool(4, 0.4f, ParticlePool.Overflow.DROP_NEW);
+        pool.spawn(0, 0, 1, -2, 0, 3, 1);
+        pool.update();
+        assertEquals(1f, pool.x[0], 1e-6f);
+        assertEquals(-2f, pool.y[0], 1e-6f);
+        assertEquals(-1.6f, pool.vy[0], 1e-6f);
+        assertEquals(2f / 3f, pool.alpha(0), 1e-6f);
+        pool.update();
+        pool.update();
+        assertTrue(pool.isEmpty());
+    }
+
+    @Test
+    public void testSwapRemoveKeepsLiveParticlesPacked() {
+        ParticlePool pool = new ParticlePool(8, 0f, ParticlePool.Overflow.DROP_NEW);
+        pool.spawn(0, 0, 0, 0, 0, 1, 1); // 첫 update 에 죽음
+        pool.spawn(1, 0, 0, 0, 0, 5, 1);
+        pool.spawn(2, 0, 0, 0, 0, 1, 1); // 죽음
+        pool.spawn(3, 0, 0, 0, 0, 5, 1);
+        pool.update();
+
+        assertEquals(2, pool.size());
+        float sum = pool.x[0] + pool.x[1];
+        assertEquals("only the survivors remain in [0, size)", 4f, sum, 0f);
+    }
+
+    @Test
+    public void testDropNewWhenFull() {
+        ParticlePool pool = new ParticlePool(2, 0f, ParticlePool.Overflow.DROP_NEW);
+        pool.spawn(0, 0, 0, 0, 0, 5, 1);
+        pool.spawn(1, 0, 0, 0, 0, 5, 1);
+        assertEquals(-1, pool.spawn(2, 0, 0, 0, 0, 5, 1));
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getDropped());
+    }
+
+    @Test
+    public void testReplaceWeakestWhenFull() {
+        ParticlePool pool = new ParticlePool(2, 0f, ParticlePool.Overflow.REPLACE_WEAKEST);
+        pool.spawn(0, 0, 0, 0, 0, 9, 1);
+        pool.spawn(1, 0, 0, 0, 0, 2, 1);
+        int i = pool.spawn(7, 0, 0, 0, 0, 5, 1);
+        assertEquals("slot with the least life left is reused", 1, i);
+        assertEquals(7f, pool.x[1], 0f);
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getReplaced());
+    }
+
+    @Test
+    public void testParticleSystemRespectsCap() {
+        ParticleSystem ps = new ParticleSystem(16, ParticlePool.Overflow.DROP_NEW);
+        for (int i = 0; i < 10; i++)
+            ps.createExplosionParticles(i, 0, Color.RED, 25);
+        assertEquals(16, ps.getParticles().size());
+        assertTrue(ps.getParticles().getDropped() > 0);
+
+        ps.createGravityTrailParticle(2, 3, Color.BLUE, 25);
+        assertEquals(1, ps.getTrailParticles().size());
+        assertEquals(2f, ps.getTrailParticles().x[0], 0f);
+
+        ps.createHardDropBeamWide(3, 2, 0, 18, Color.CYAN, 25);
+        assertEquals(1, ps.getBeamParticles().size());
+        assertEquals(3 * 25 + 25, ps.getBeamParticles().x[0]);
+
+        ps.clear();
+        assertFalse(ps.hasActiveParticles());
+    }
+
+    @Test
+    public void testSetGravityAppliesToNextUpdate() {
+        ParticlePool pool = new ParticlePool(4, 0f, ParticlePool.Overflow.DROP_NEW);
+        pool.spawn(0, 0, 0, 0, 0, 5, 1);
+        pool.update();
+        assertEquals(0f, pool.vy[0], 0f);
+        pool.setGravity(2f);
+        pool.update();
+        assertEquals(2f, pool.vy[0], 1e-6f);
+        assertEquals(2f, pool.getGravity(), 0f);
+    }
+}
@@ -0,0 +1,117 @@
+package performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import org.junit.Test;
+
+import component.ActiveBoardRenderer;
+import component.BoardView;
+import component.GameConfig;
+import component.metrics.LatencyHistogram;
+import logic.BoardLogic;
+
+/**
+ * ActiveRenderLatencyBenchmarkTest
+ * ----------------
+ * 키 입력 → 화면 반영 (input-to-photon) 지연을 Swing repaint 경로와 능동 렌더링 경로로 비교
+ * - 입력: 20~60ms 간격으로 좌우 이동 + requestRender (실제 키 바인딩과 같은 호출)
+ * - EDT 부하: 16ms 마다 4ms 씩 일하는 타이머 (HUD / 네트워크 / 효과 타이머 흉내)
+ * - Swing 경로: 렌더 틱에서 바뀐 영역 → invokeLater 로 paint (헤드리스라 RepaintManager 대신)
+ * - 능동 경로: 입력 즉시 스냅샷 공개 → 렌더 스레드가 이미지에 그리고 flip
+ * 요구사항: 능동 경로의 중앙값 지연이 Swing 경로보다 작아야 함
+ * - 벽시계 지연 비교뿐이므로 gradle benchmark 에서만 실행 (동작 확인은 ActiveBoardRendererTest)
+ */
+public class ActiveRenderLatencyBenchmarkTest {
+
+    private static final int CELL = 25;
+    private static final int INPUTS = 120;
+    private static final int LOAD_PERIOD_MS = 16;
+    private static final long LOAD_NANOS = 4_000_000L;
+
+    private static void paint(BoardView view, BufferedImage screen) {
+        Graphics2D g = screen.createGraphics();
+        view.paint(g);
+        g.dispose();
+    }
+
+    /** 한 경로로 입력을 흘려보내고 변경 → 화면 지연 히스토그램을 돌려줌 */
+    private static LatencyHistogram run(boolean active) throws Exception {
+        BoardLogic logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        BoardView[] holder = new BoardView[1];
+        SwingUtilities.invokeAndWait(() -> {
+            BoardView view = new BoardView(logic, null);
+            view.setSize(BoardLogic.WIDTH * CELL, BoardLogic.HEIGHT * CELL);
+            if (active) {
+                view.enableActiveRendering(new ActiveBoardRenderer.ImageTarget(view.getWidth(), view.getHeight()));
+            } else {
+                BufferedImage screen = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+                view.getRenderScheduler().setPresenter(f -> {
+                    SwingUtilities.invokeLater(() -> paint(view, screen));
+                    return true;
+                });
+            }
+            holder[0] = view;
+        });
+        BoardView view = holder[0];
+
+        Timer load = new Timer(LOAD_PERIOD_MS, e -> {
+            long end = System.nanoTime() + LOAD_NANOS;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        });
+        SwingUtilities.invokeAndWait(load::start);
+        Thread.sleep(100); // 첫 틱 (능동 경로 전환)
+
+        Random rnd = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            Thread.sleep(20 + rnd.nextInt(40));
+            boolean left = (i & 1) == 0;
+            SwingUtilities.invokeAndWait(() -> {
+                if (left)
+                    logic.moveLeft();
+                else
+                    logic.moveRight();
+                view.requestRender();
+            });
+        }
+        Thread.sleep(200);
+        SwingUtilities.invokeAndWait(load::stop);
+
+        LatencyHistogram latency = active ? view.getActiveRenderer().getPhotonLatency() : view.getSwingLatency();
+        if (active) {
+            System.out.printf("[ActiveRender] active: input->photon %s, pacing %s%n",
+                    latency, view.getActiveRenderer().getFrameInterval());
+        } else {
+            System.out.printf("[ActiveRender] swing : input->photon %s%n", latency);
+        }
+        SwingUtilities.invokeAndWait(view::cleanup);
+        return latency;
+    }
+
+    @Test
+    public void testActivePathCutsInputLatency() throws Exception {
+        Benchmarks.assumeTimed();
+
+        run(true); // 워밍업
+        run(false);
+
+        // 코어 하나에서 흔들리므로 번갈아 두 번씩 재고 좋은 쪽 사용
+        double swing = Double.MAX_VALUE, active = Double.MAX_VALUE;
+        for (int round = 0; round < 2; round++) {
+            swing = Math.min(swing, run(false).percentile(0.50));
+            active = Math.min(active, run(true).percentile(0.50));
+        }
+        System.out.printf("[ActiveRender] p50 input->photon: swing %.2f ms -> active %.2f ms%n",
+                swing / 1e6, active / 1e6);
+        assertTrue("active p50 " + active + " vs swing " + swing, active < swing);
+    }
+}
@@ -0,0 +1,30 @@
+package performance;
+
+import org.junit.Assume;
+
+/**
+ * Benchmarks
+ * ----------------
+ * 시간 비교 (벽시계 / 스레드 CPU) 를 켜는 스위치
+ * - 시간 비교는 기계 부하 / 코어 수에 따라 흔들리므로 기본 test 에서는 건너뜀
+ * - gradle benchmark (= -Dtetris.benchmarks=true) 로 실행할 때만 확인
+ * - 측정 루프가 기본 test 시간을 잡아먹지 않도록 시간 비교 테스트는 맨 앞에서 assumeTimed()
+ *   (할당 / 횟수처럼 결정적인 값은 작은 반복 수로 따로 테스트)
+ */
+final class Benchmarks {
+
+    static final String PROPERTY = "tetris.benchmarks";
+
+    private Benchmarks() {
+    }
+
+    static boolean enabled() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /** 시간 비교 테스트 첫 줄에서 호출: benchmark 실행에서만 (기본 test 에서는 skip 으로 표시) */
+    static void assumeTimed() {
+        Assume.assumeTrue("timing comparison runs only with -D" + PROPERTY + "=true (gradle benchmark)",
+                enabled());
+    }
+}
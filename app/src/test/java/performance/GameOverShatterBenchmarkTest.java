@@ -0,0 +1,250 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.BorderFactory;
+import javax.swing.JPanel;
+
+import org.junit.Test;
+
+import component.BoardView;
+import component.ColorBlindPalette;
+import logic.BoardLogic;
+import logic.ParticleSystem;
+
+/**
+ * GameOverShatterBenchmarkTest
+ * ----------------
+ * 게임 오버 파편 애니메이션의 프레임 시간 (가득 찬 보드, HIGH 단계 = 모든 칸이 파편)
+ * - 이전: 칸마다 JPanel + LineBorder 를 만들어 글래스패널에 붙이고, 매 프레임 setBounds / setBackground(new Color) 후 글래스패널 repaint
+ * - 현재: 파편 풀에 spawn, 매 프레임 update + BoardView paint 한 번
+ * - 프레임 시간 = 효과 진행 + 보드 paint (+ 이전은 글래스패널 paint)
+ *   - 시작 프레임: 파편 생성까지 포함 (게임 오버 순간의 튀는 프레임)
+ *   - 평균 프레임: 애니메이션 전체 / 프레임 수
+ * - 코어 하나에서는 선점 / GC 로 아무 프레임이나 튀므로 "최악 프레임" 대신 위 둘을 실행별 최소값으로 비교
+ * - 헤드리스라 RepaintManager / 레이아웃 검증 비용은 이전 쪽에 들어가지 않음 (실제 화면에서는 차이가 더 큼)
+ * - 파편 spawn / update 할당 0 바이트 + 애니메이션 한 번의 할당 비교는 짧게 돌려 기본 test 에서 확인
+ * - 시작 프레임 비교는 번갈아 여러 번 재야 해서 gradle benchmark 에서만
+ */
+public class GameOverShatterBenchmarkTest {
+
+    private static final int CELL = 25;
+    private static final int FRAMES = 30;
+    private static final int WARMUP = 20;
+    private static final int RUNS = 15;
+    private static final int ALLOC_WARMUP = 3; // 파편 풀 / 예전 쪽 클래스 로딩만 끝내면 할당은 결정적
+
+    private static final com.sun.management.ThreadMXBean MX =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static void fill(Color[][] board) {
+        for (int y = 0; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++)
+                board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+    }
+
+    private static void empty(Color[][] board) {
+        for (Color[] row : board)
+            Arrays.fill(row, null);
+    }
+
+    /** 한 번의 애니메이션 결과: 시작 프레임 / 평균 프레임 (ns), 할당 (bytes) */
+    private static final class Run {
+        long first;
+        long average;
+        long allocated;
+    }
+
+    /** 예전 BoardView.triggerGameOverAnimation 과 같은 순서 (글래스패널은 화면 대신 이미지에 paint) */
+    private static Run legacy(BoardView view, Color[][] board, BufferedImage screen) {
+        Run run = new Run();
+        long tid = Thread.currentThread().getId();
+        long allocStart = MX.getThreadAllocatedBytes(tid);
+
+        long begin = System.nanoTime();
+        long start = begin;
+        Color[][] copy = new Color[BoardLogic.HEIGHT][BoardLogic.WIDTH];
+        for (int y = 0; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++) {
+                copy[y][x] = board[y][x];
+                board[y][x] = null;
+            }
+        JPanel glassPane = new JPanel(null);
+        glassPane.setOpaque(false);
+        glassPane.setSize(screen.getWidth(), screen.getHeight());
+        List<JPanel> blocks = new ArrayList<>();
+        List<double[]> velocities = new ArrayList<>();
+        for (int y = 0; y < BoardLogic.HEIGHT; y++) {
+            for (int x = 0; x < BoardLogic.WIDTH; x++) {
+                JPanel block = new JPanel();
+                block.setBackground(copy[y][x]);
+                block.setBorder(BorderFactory.createLineBorder(copy[y][x].darker(), 1));
+                block.setBounds(x * CELL, y * CELL, CELL, CELL);
+                glassPane.add(block);
+                blocks.add(block);
+                velocities.add(new double[] { (Math.random() - 0.5) * 60, -(Math.random() * 25 + 15) });
+            }
+        }
+        glassPane.doLayout();
+
+        for (int frame = 1; frame <= FRAMES; frame++) {
+            float alpha = Math.max(0, 1.0f - frame / (float) FRAMES);
+            for (int i = 0; i < blocks.size(); i++) {
+                JPanel block = blocks.get(i);
+                double[] vel = velocities.get(i);
+                Rectangle bounds = block.getBounds();
+                bounds.x += (int) vel[0];
+                bounds.y += (int) vel[1];
+                vel[1] += 10;
+                block.setBounds(bounds);
+                Color c = block.getBackground();
+                block.setBackground(new Color(c.getRed(), c.getGreen(), c.getBlue(), (int) (255 * alpha)));
+            }
+            Graphics2D g = screen.createGraphics();
+            view.paint(g);
+            glassPane.paint(g);
+            g.dispose();
+            long now = System.nanoTime();
+            if (frame == 1)
+                run.first = now - start;
+        }
+        run.average = (System.nanoTime() - begin) / FRAMES;
+        run.allocated = MX.getThreadAllocatedBytes(tid) - allocStart;
+        return run;
+    }
+
+    /** 현재: 파편 풀 spawn → 틱마다 update + paint */
+    private static Run pooled(BoardView view, Color[][] board, ParticleSystem ps, BufferedImage screen) {
+        Run run = new Run();
+        long tid = Thread.currentThread().getId();
+        long allocStart = MX.getThreadAllocatedBytes(tid);
+
+        long begin = System.nanoTime();
+        ps.createShatterBurst(board, CELL, 0, 1);
+        empty(board);
+        int frames = 0;
+        while (true) {
+            ps.update();
+            Graphics2D g = screen.createGraphics();
+            view.paint(g);
+            g.dispose();
+            if (++frames == 1)
+                run.first = System.nanoTime() - begin;
+            if (!ps.hasActiveParticles())
+                break;
+        }
+        run.average = (System.nanoTime() - begin) / frames;
+        run.allocated = MX.getThreadAllocatedBytes(tid) - allocStart;
+        return run;
+    }
+
+    private static void keepBest(Run best, Run run) {
+        best.first = Math.min(best.first, run.first);
+        best.average = Math.min(best.average, run.average);
+        best.allocated = Math.min(best.allocated, run.allocated);
+    }
+
+    /** spawn + 끝까지 update 만 (그리기 제외) 의 할당 */
+    private static long simulationAllocation(ParticleSystem ps, Color[][] board, int runs) {
+        long tid = Thread.currentThread().getId();
+        long base = MX.getThreadAllocatedBytes(tid);
+        long overhead = MX.getThreadAllocatedBytes(tid) - base;
+        long before = MX.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < runs; i++) {
+            ps.createShatterBurst(board, CELL, 0, 1);
+            while (ps.hasActiveParticles())
+                ps.update();
+        }
+        return MX.getThreadAllocatedBytes(tid) - before - overhead;
+    }
+
+    /** 테스트 모드 보드 + 화면 대신 그릴 이미지 */
+    private static final class Scene {
+        final BoardLogic logic = new BoardLogic(score -> {}, component.GameConfig.Difficulty.NORMAL);
+        final BoardView view;
+        final ParticleSystem ps;
+        final Color[][] board;
+        final BufferedImage screen;
+
+        Scene() {
+            logic.setTestMode(true);
+            view = new BoardView(logic, null);
+            view.stopRendering();
+            view.setSize(BoardLogic.WIDTH * CELL, BoardLogic.HEIGHT * CELL);
+            ps = logic.getClearService().getParticleSystem();
+            board = logic.getBoard();
+            screen = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+        }
+
+        Run legacy() {
+            fill(board);
+            return GameOverShatterBenchmarkTest.legacy(view, board, screen);
+        }
+
+        Run pooled() {
+            fill(board);
+            return GameOverShatterBenchmarkTest.pooled(view, board, ps, screen);
+        }
+    }
+
+    @Test
+    public void testPooledShatterDoesNotAllocatePerShard() {
+        Scene scene = new Scene();
+        for (int i = 0; i < ALLOC_WARMUP; i++) {
+            scene.legacy();
+            scene.pooled();
+        }
+        Run legacy = scene.legacy();
+        Run pooled = scene.pooled();
+
+        // JIT 가 도중에 역최적화하면 스칼라 치환된 객체가 한 번 힙에 생김 → 여러 번 재서 최소값
+        long simBytes = Long.MAX_VALUE;
+        for (int i = 0; i < ALLOC_WARMUP; i++) {
+            fill(scene.board);
+            simBytes = Math.min(simBytes, simulationAllocation(scene.ps, scene.board, 1));
+        }
+        scene.view.cleanup();
+
+        System.out.printf("[Shatter] allocated per animation: panels %d KB -> pooled %d KB (spawn/update %d bytes)%n",
+                legacy.allocated / 1024, pooled.allocated / 1024, simBytes);
+
+        assertEquals("shard spawn/update must not allocate", 0, Math.max(0, simBytes));
+        assertTrue("pooled shatter allocates less than panels", pooled.allocated < legacy.allocated);
+    }
+
+    @Test
+    public void testPooledShatterHasSmallerSpike() {
+        Benchmarks.assumeTimed(); // 시작 프레임은 선점 / GC 에 흔들려서 워밍업 + 실행별 최소값 비교가 필요
+        Scene scene = new Scene();
+        for (int i = 0; i < WARMUP; i++) {
+            scene.legacy();
+            scene.pooled();
+        }
+
+        // 코어 하나에서 흔들리므로 번갈아 재고 각자 가장 좋은 실행 사용
+        Run legacyBest = new Run(), pooledBest = new Run();
+        legacyBest.first = legacyBest.average = legacyBest.allocated = Long.MAX_VALUE;
+        pooledBest.first = pooledBest.average = pooledBest.allocated = Long.MAX_VALUE;
+        for (int r = 0; r < RUNS; r++) {
+            keepBest(legacyBest, scene.legacy());
+            keepBest(pooledBest, scene.pooled());
+        }
+        scene.view.cleanup();
+
+        System.out.printf("[Shatter] start frame: panels %.2f ms -> pooled %.2f ms; "
+                + "average frame: panels %.2f ms -> pooled %.2f ms%n",
+                legacyBest.first / 1e6, pooledBest.first / 1e6, legacyBest.average / 1e6, pooledBest.average / 1e6);
+
+        assertTrue("pooled shatter must have a smaller end-of-game spike", pooledBest.first < legacyBest.first);
+    }
+}
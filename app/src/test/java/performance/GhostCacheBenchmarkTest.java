@@ -0,0 +1,89 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import blocks.Block;
+import logic.BoardLogic;
+import logic.MovementService;
+
+/**
+ * GhostCacheBenchmarkTest
+ * ----------------
+ * 렌더 틱 한 번에 고스트 줄을 읽는 비용 (collectFrame 블록 영역 + paint 고스트 + 스냅샷 = 최대 3회)
+ * - 이전: 읽을 때마다 블록 아래 각 열을 바닥까지 검사 (getGhostY(block))
+ * - 현재: 상태 버전이 그대로면 GameState 캐시 (getGhostY())
+ * - 블록은 맨 위, 보드는 비어 있음 → 열마다 거의 20칸 검사 (가장 비싼 경우)
+ * - 상태가 안 바뀐 틱에서 캐시가 유지되고 값이 검사 결과와 같은지는 몇 틱만 읽어 기본 test 에서 확인
+ * - 캐시 읽기가 검사보다 싼지는 백만 틱 x 3 라운드라 gradle benchmark 에서만
+ */
+public class GhostCacheBenchmarkTest {
+
+    private static final int READS_PER_TICK = 3;
+    private static final int TICKS = 1_000_000;
+    private static final int ROUNDS = 3;
+    private static final int CHECK_TICKS = 100; // 캐시 유지 확인용
+
+    private static long sink;
+
+    private static double scan(MovementService move, Block curr, int ticks) {
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int t = 0; t < ticks; t++)
+                for (int i = 0; i < READS_PER_TICK; i++)
+                    sink += move.getGhostY(curr);
+            best = Math.min(best, (System.nanoTime() - start) / (double) ticks);
+        }
+        return best;
+    }
+
+    private static double cached(MovementService move, int ticks) {
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int t = 0; t < ticks; t++)
+                for (int i = 0; i < READS_PER_TICK; i++)
+                    sink += move.getGhostY();
+            best = Math.min(best, (System.nanoTime() - start) / (double) ticks);
+        }
+        return best;
+    }
+
+    @Test
+    public void testReadsKeepTheCachedGhost() {
+        BoardLogic logic = new BoardLogic(score -> {}, component.GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        MovementService move = new MovementService(logic.getState());
+        Block curr = logic.getCurr();
+        assertEquals(move.getGhostY(curr), move.getGhostY());
+
+        long version = logic.getState().getVersion();
+        cached(move, CHECK_TICKS);
+
+        assertEquals("reading must not change the state version", version, logic.getState().getVersion());
+        assertTrue("unchanged state keeps the cached ghost", logic.getState().isGhostCached());
+        assertEquals(move.getGhostY(curr), move.getGhostY());
+    }
+
+    @Test
+    public void testCachedGhostIsCheaperThanScan() {
+        Benchmarks.assumeTimed(); // 틱당 수십 ns 차이라 워밍업된 긴 루프에서만 의미 있음
+        BoardLogic logic = new BoardLogic(score -> {}, component.GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        MovementService move = new MovementService(logic.getState());
+        Block curr = logic.getCurr();
+
+        scan(move, curr, TICKS);    // 워밍업
+        cached(move, TICKS);
+        double before = scan(move, curr, TICKS);
+        double after = cached(move, TICKS);
+
+        System.out.printf("[Ghost] %d reads per tick: scan %.1f ns/tick, cached %.1f ns/tick%n",
+                READS_PER_TICK, before, after);
+
+        assertTrue("cached ghost must be cheaper than rescanning", after < before);
+    }
+}
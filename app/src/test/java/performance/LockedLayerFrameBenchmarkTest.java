@@ -0,0 +1,139 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import component.CellSpriteAtlas;
+import component.ColorBlindPalette;
+import component.LockedCellLayer;
+
+/**
+ * LockedLayerFrameBenchmarkTest
+ * ----------------
+ * 꽉 찬 보드 (20줄 × 9칸, 줄마다 구멍 하나) 에서 고정 블록 그리기 프레임 시간 비교
+ * - 칸마다: 배경 + 칸마다 스프라이트 drawImage (이전 BoardView 방식)
+ * - 소프트웨어 파이프라인 기준 (헤드리스): 화면에서는 VolatileImage 레이어가 가속되어 차이가 더 큼
+ * - 레이어 (정지): 배경 + 고정 블록 레이어 한 장 (보드 변화 없음)
+ * - 레이어 (락): 매 프레임 한 줄씩 바뀜 (락/가비지가 매 프레임 일어나는 최악에 가까운 경우)
+ * - 다시 그린 줄 수 (정지 보드는 처음 한 번, 락은 바뀐 한 줄만) 는 몇십 프레임으로 기본 test 에서 확인
+ * - 정지 레이어가 칸마다 그리기보다 느리지 않은지는 네 방식 x 2300 프레임이라 gradle benchmark 에서만
+ */
+public class LockedLayerFrameBenchmarkTest {
+
+    private static final int W = 10, H = 20, CELL = 25;
+    private static final int WARMUP = 300;
+    private static final int FRAMES = 2_000;
+    private static final int CHECK_FRAMES = 40; // 줄 수만 보는 기본 test 용 (두 바퀴)
+
+    private static Color[][] fullBoard() {
+        Color[][] grid = new Color[H][W];
+        for (int y = 0; y < H; y++)
+            for (int x = 0; x < W; x++)
+                grid[y][x] = x == (y * 3) % W ? null : ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+        return grid;
+    }
+
+    private static BufferedImage background() {
+        BufferedImage bg = new BufferedImage(W * CELL, H * CELL, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = bg.createGraphics();
+        g.setColor(new Color(25, 30, 42));
+        g.fillRect(0, 0, bg.getWidth(), bg.getHeight());
+        g.dispose();
+        return bg;
+    }
+
+    private interface Frame {
+        void draw(Graphics2D g, int frame);
+    }
+
+    private static double microsPerFrame(Frame f, int warmup, int frames) {
+        BufferedImage screen = new BufferedImage(W * CELL + 1, H * CELL + 1, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = screen.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i = 0; i < warmup; i++)
+            f.draw(g, i);
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++)
+            f.draw(g, i);
+        long elapsed = System.nanoTime() - start;
+        g.dispose();
+        return elapsed / 1e3 / frames;
+    }
+
+    private static Frame staticFrame(Color[][] grid, BufferedImage bg, CellSpriteAtlas sprites, LockedCellLayer layer) {
+        return (g, i) -> {
+            sprites.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+            g.drawImage(bg, 0, 0, null);
+            layer.paint(g, grid, sprites, CELL, null);
+        };
+    }
+
+    /** 매 프레임 한 줄의 구멍을 채우거나 비움 */
+    private static Frame lockFrame(Color[][] changing, BufferedImage bg, CellSpriteAtlas sprites,
+            LockedCellLayer layer) {
+        return (g, i) -> {
+            int row = i % H;
+            int hole = (row * 3) % W;
+            changing[row][hole] = changing[row][hole] == null ? Color.GRAY : null;
+            sprites.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+            g.drawImage(bg, 0, 0, null);
+            layer.paint(g, changing, sprites, CELL, null);
+        };
+    }
+
+    @Test
+    public void testLayerRedrawsOnlyChangedRows() {
+        BufferedImage bg = background();
+        LockedCellLayer staticLayer = new LockedCellLayer(W, H);
+        microsPerFrame(staticFrame(fullBoard(), bg, new CellSpriteAtlas(), staticLayer), 0, CHECK_FRAMES);
+        LockedCellLayer lockLayer = new LockedCellLayer(W, H);
+        microsPerFrame(lockFrame(fullBoard(), bg, new CellSpriteAtlas(), lockLayer), 0, CHECK_FRAMES);
+
+        // 정지 보드는 처음 한 번, 락은 매 프레임 바뀐 한 줄만
+        assertEquals(H, staticLayer.getRowsRendered());
+        assertEquals(CHECK_FRAMES - 1, staticLayer.getFramesReused());
+        assertEquals(H + CHECK_FRAMES - 1, lockLayer.getRowsRendered());
+    }
+
+    @Test
+    public void testLockedLayerFrameTime() {
+        Benchmarks.assumeTimed(); // 소프트웨어 파이프라인 drawImage 시간 비교
+        Color[][] grid = fullBoard();
+        BufferedImage bg = background();
+
+        double bgOnly = microsPerFrame((g, i) -> g.drawImage(bg, 0, 0, null), WARMUP, FRAMES);
+
+        CellSpriteAtlas perCellSprites = new CellSpriteAtlas();
+        double perCell = microsPerFrame((g, i) -> {
+            perCellSprites.prepare(g, ColorBlindPalette.Mode.NORMAL, CELL);
+            g.drawImage(bg, 0, 0, null);
+            for (int y = 0; y < H; y++)
+                for (int x = 0; x < W; x++)
+                    if (grid[y][x] != null)
+                        perCellSprites.drawBlock(g, grid[y][x], x * CELL, y * CELL);
+        }, WARMUP, FRAMES);
+
+        LockedCellLayer staticLayer = new LockedCellLayer(W, H);
+        double layered = microsPerFrame(staticFrame(grid, bg, new CellSpriteAtlas(), staticLayer), WARMUP, FRAMES);
+
+        LockedCellLayer lockLayer = new LockedCellLayer(W, H);
+        double perLock = microsPerFrame(lockFrame(fullBoard(), bg, new CellSpriteAtlas(), lockLayer), WARMUP,
+                FRAMES);
+
+        System.out.printf("[LockedLayer] background only %.1f us%n", bgOnly);
+        System.out.printf("[LockedLayer] full board frame: per-cell %.1f us, layer(static) %.1f us (%.1fx), "
+                + "layer(1 row/frame) %.1f us (%.1fx)%n",
+                perCell, layered, perCell / layered, perLock, perCell / perLock);
+        System.out.printf("[LockedLayer] static frames reused=%d, rows rendered=%d / lock rows rendered=%d%n",
+                staticLayer.getFramesReused(), staticLayer.getRowsRendered(), lockLayer.getRowsRendered());
+
+        assertTrue("static layer must not be slower than per-cell drawing", layered <= perCell);
+    }
+}
@@ -0,0 +1,122 @@
+package performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+import component.network.websocket.BoardSyncAdapter;
+import component.network.websocket.Message;
+import component.network.websocket.MessageDecoders;
+import component.network.websocket.MessageType;
+import component.network.websocket.NetworkManager;
+import component.network.websocket.WebSocketUtil;
+
+/**
+ * MessageDecodeBenchmarkTest
+ * ----------------
+ * 수신 본문 디코딩 처리량 비교
+ * - 이전 방식: 메시지마다 new Gson() + 문자열로 감싼 본문을 두 번 파싱
+ * - 현재 방식: MessageDecoders (미리 만든 TypeAdapter, 한 번 파싱)
+ * 요구사항: 현재 방식이 이전 방식보다 느리지 않아야 함 (보통 수 배 이상 빠름)
+ * - 처리량 비교뿐이므로 gradle benchmark 에서만 실행 (Benchmarks)
+ */
+public class MessageDecodeBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    // 게임 중 자주 오는 UI 메시지 비율 (점수 > Next > 이펙트)
+    private static List<Message> currentMessages() {
+        List<Message> out = new ArrayList<>();
+        out.add(new Message(MessageType.PLAYER_STATS, new BoardSyncAdapter.PlayerStats(12300, 4, 31)));
+        out.add(new Message(MessageType.PLAYER_STATS, new BoardSyncAdapter.PlayerStats(12400, 4, 32)));
+        out.add(new Message(MessageType.NEXT_BLOCKS, nextBlocks()));
+        out.add(new Message(MessageType.VISUAL_EFFECT, new NetworkManager.VisualEffect("combo", 3)));
+        return out;
+    }
+
+    // 이전 송신 방식: 본문을 문자열로 직렬화한 뒤 한 번 더 감쌈
+    private static List<Message> legacyMessages() {
+        List<Message> out = new ArrayList<>();
+        out.add(new Message(MessageType.PLAYER_STATS,
+                WebSocketUtil.toJson(new BoardSyncAdapter.PlayerStats(12300, 4, 31))));
+        out.add(new Message(MessageType.PLAYER_STATS,
+                WebSocketUtil.toJson(new BoardSyncAdapter.PlayerStats(12400, 4, 32))));
+        out.add(new Message(MessageType.NEXT_BLOCKS, WebSocketUtil.toJson(nextBlocks())));
+        out.add(new Message(MessageType.VISUAL_EFFECT,
+                new Gson().toJson(new NetworkManager.VisualEffect("combo", 3))));
+        return out;
+    }
+
+    private static List<BoardSyncAdapter.BlockData> nextBlocks() {
+        List<BoardSyncAdapter.BlockData> blocks = new ArrayList<>();
+        blocks.add(new BoardSyncAdapter.BlockData(0xFF00FFFF, new int[][] { { 1, 1, 1, 1 } }));
+        blocks.add(new BoardSyncAdapter.BlockData(0xFFFFFF00, new int[][] { { 1, 1 }, { 1, 1 } }));
+        blocks.add(new BoardSyncAdapter.BlockData(0xFF800080, new int[][] { { 0, 1, 0 }, { 1, 1, 1 } }));
+        return blocks;
+    }
+
+    // NetworkManager 의 이전 handleNextBlocks / handlePlayerStats / VISUAL_EFFECT 분기와 같은 처리
+    private static Object decodeLegacy(Message msg) {
+        Gson gson = new Gson();
+        String json = gson.fromJson(msg.data, String.class);
+        return switch (msg.type) {
+            case PLAYER_STATS -> gson.fromJson(json, BoardSyncAdapter.PlayerStats.class);
+            case NEXT_BLOCKS -> gson.fromJson(json, BoardSyncAdapter.BlockData[].class);
+            case VISUAL_EFFECT -> gson.fromJson(json, NetworkManager.VisualEffect.class);
+            default -> null;
+        };
+    }
+
+    private static double runLegacy(List<Message> msgs, int n) {
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < n; i++) {
+            if (decodeLegacy(msgs.get(i % msgs.size())) != null)
+                sink++;
+        }
+        assertTrue(sink == n);
+        return n / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static double runRegistry(List<Message> msgs, int n) {
+        MessageDecoders decoders = MessageDecoders.get();
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < n; i++) {
+            if (decoders.decode(msgs.get(i % msgs.size())) != null)
+                sink++;
+        }
+        assertTrue(sink == n);
+        return n / ((System.nanoTime() - start) / 1e9);
+    }
+
+    @Test
+    public void testRegistryDecodeThroughput() {
+        Benchmarks.assumeTimed();
+
+        List<Message> legacy = legacyMessages();
+        List<Message> current = currentMessages();
+
+        runLegacy(legacy, WARMUP);
+        runRegistry(current, WARMUP);
+        runRegistry(legacy, WARMUP);
+
+        double legacyRate = runLegacy(legacy, ITERATIONS);
+        double registryRate = runRegistry(current, ITERATIONS);
+        double registryLegacyRate = runRegistry(legacy, ITERATIONS); // 구버전 상대 호환 경로
+
+        System.out.printf("[DECODE] legacy (new Gson + double parse): %,.0f msg/s%n", legacyRate);
+        System.out.printf("[DECODE] registry (single parse):          %,.0f msg/s (x%.1f)%n",
+                registryRate, registryRate / legacyRate);
+        System.out.printf("[DECODE] registry (legacy payloads):       %,.0f msg/s (x%.1f)%n",
+                registryLegacyRate, registryLegacyRate / legacyRate);
+
+        assertTrue("registry should not be slower than per-message Gson", registryRate >= legacyRate);
+    }
+}
@@ -0,0 +1,73 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import component.ColorBlindPalette;
+import logic.BoardLogic;
+import logic.ParticleSystem;
+
+/**
+ * ParticleAllocationBenchmarkTest
+ * ----------------
+ * 4줄 클리어 파티클 (생성 + 끝날 때까지 update) 동안 이 스레드가 할당한 바이트 수
+ * - 이전: 파티클마다 Particle + Color 객체, update 마다 removeIf, 읽을 때마다 ArrayList 복사
+ * - 현재: ParticlePool 배열에 직접 기록 → 할당 0
+ * 요구사항: 워밍업 후 4줄 클리어 한 번의 할당이 0 바이트
+ */
+public class ParticleAllocationBenchmarkTest {
+
+    private static final int CELL = 25;
+    private static final int ROUNDS = 200;
+
+    private static Color[][] fourFullLines() {
+        Color[][] board = new Color[BoardLogic.HEIGHT][BoardLogic.WIDTH];
+        for (int y = BoardLogic.HEIGHT - 4; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++)
+                board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+        return board;
+    }
+
+    /** ClearService.animateWithParticles 와 같은 순서: 줄마다 파티클 생성 → 다 사라질 때까지 update */
+    private static int clearFourLines(ParticleSystem ps, Color[][] board) {
+        for (int row = BoardLogic.HEIGHT - 4; row < BoardLogic.HEIGHT; row++)
+            ps.createLineParticles(row, board, CELL, BoardLogic.WIDTH);
+        int peak = ps.getParticleCount();
+        while (ps.hasActiveParticles())
+            ps.update();
+        return peak;
+    }
+
+    @Test
+    public void testFourLineClearAllocatesNothing() {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        ParticleSystem ps = new ParticleSystem();
+        Color[][] board = fourFullLines();
+
+        for (int i = 0; i < ROUNDS; i++)
+            clearFourLines(ps, board); // 워밍업 (JIT)
+
+        // 측정 자체의 오버헤드
+        long base = mx.getThreadAllocatedBytes(tid);
+        long overhead = mx.getThreadAllocatedBytes(tid) - base;
+
+        int peak = 0;
+        long before = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < ROUNDS; i++)
+            peak = Math.max(peak, clearFourLines(ps, board));
+        long allocated = mx.getThreadAllocatedBytes(tid) - before - overhead;
+
+        System.out.printf("[ParticlePool] 4-line clear: peak %d particles, %d bytes allocated over %d clears%n",
+                peak, allocated, ROUNDS);
+
+        assertTrue(peak > 300);
+        assertEquals(0, ps.getParticles().getDropped());
+        assertEquals("particle spawn/update must not allocate", 0, Math.max(0, allocated));
+    }
+}
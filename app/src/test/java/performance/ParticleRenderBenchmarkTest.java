@@ -0,0 +1,124 @@
+package performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import component.ParticleRenderer;
+import logic.ParticlePool;
+import logic.ParticleSystem;
+
+/**
+ * ParticleRenderBenchmarkTest
+ * ----------------
+ * 번개 / 컬러 폭탄 아이템 수준의 파티클 (폭발 40칸 + 번개 20칸, 계속 보충) 한 프레임 그리기 시간
+ * - 이전: 파티클마다 new Color ×3 + new BasicStroke, 글로우는 fillOval
+ * - 현재: ParticleRenderer (색 버킷 정렬 + 알파 단계 표 + 글로우 스프라이트)
+ * - 소프트웨어 파이프라인 기준 (헤드리스)
+ * - 프레임당 setColor 횟수가 파티클 수보다 적은지: 묶음 렌더러만 몇 프레임 그려서 기본 test 에서 확인
+ * - 묶음 렌더링이 이전보다 느리지 않은지: 두 방식 x 2300 프레임 (파티클 600개 이상) 이라 gradle benchmark 에서만
+ */
+public class ParticleRenderBenchmarkTest {
+
+    private static final int CELL = 25;
+    private static final int WARMUP = 300;
+    private static final int FRAMES = 2_000;
+    private static final int CHECK_FRAMES = 10;
+
+    private interface Renderer {
+        void draw(Graphics2D g, ParticlePool p);
+    }
+
+    /** 아이템 효과가 겹친 화면: 줄어들면 다시 채워서 파티클 수를 일정하게 유지 */
+    private static void refill(ParticleSystem ps) {
+        while (ps.getParticles().size() < 600) {
+            for (int i = 0; i < 40; i++)
+                ps.createExplosionParticles(i % 10, 4 + i / 10, Color.MAGENTA, CELL);
+            for (int i = 0; i < 20; i++)
+                ps.createLightningParticles(i % 10, 12 + i / 10, Color.YELLOW, CELL);
+        }
+    }
+
+    private static double microsPerFrame(Renderer r, int warmup, int frames) {
+        ParticleSystem ps = new ParticleSystem();
+        BufferedImage screen = new BufferedImage(10 * CELL, 20 * CELL, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = screen.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        long elapsed = 0;
+        for (int i = 0; i < warmup + frames; i++) {
+            refill(ps);
+            ps.update();
+            long start = System.nanoTime();
+            r.draw(g, ps.getParticles());
+            if (i >= warmup)
+                elapsed += System.nanoTime() - start;
+        }
+        g.dispose();
+        return elapsed / 1e3 / frames;
+    }
+
+    /** 이전 BoardView.drawParticles 와 같은 그리기 */
+    private static void legacy(Graphics2D g2, ParticlePool p) {
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        for (int i = 0; i < p.size(); i++) {
+            float alpha = p.alpha(i);
+            int rgb = p.argb[i];
+            int r = (rgb >> 16) & 0xFF, gr = (rgb >> 8) & 0xFF, b = rgb & 0xFF;
+            int size = p.size[i];
+            int px = (int) p.x[i], py = (int) p.y[i];
+
+            g2.setColor(new Color(r / 255f, gr / 255f, b / 255f, alpha));
+            g2.fillOval(px - size / 2, py - size / 2, size, size);
+            if (alpha > 0.6f) {
+                g2.setColor(new Color(1f, 1f, 1f, alpha * 0.4f));
+                int glowSize = size + 2;
+                g2.fillOval(px - glowSize / 2, py - glowSize / 2, glowSize, glowSize);
+            }
+            double speed = Math.sqrt(p.vx[i] * p.vx[i] + p.vy[i] * p.vy[i]);
+            if (speed > 2.0 && alpha > 0.5f) {
+                g2.setColor(new Color(r / 255f, gr / 255f, b / 255f, alpha * 0.3f));
+                g2.setStroke(new BasicStroke(Math.max(1, size / 2)));
+                g2.drawLine(px, py, (int) (px - p.vx[i] * 2), (int) (py - p.vy[i] * 2));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedRendererGroupsColors() {
+        ParticleRenderer renderer = new ParticleRenderer();
+        int[] particles = new int[1];
+        microsPerFrame((g, p) -> {
+            renderer.drawSparks(g, p);
+            particles[0] = p.size();
+        }, 0, CHECK_FRAMES);
+
+        assertTrue("setColor " + renderer.getColorChanges() + " for " + particles[0] + " particles",
+                renderer.getColorChanges() < particles[0]);
+    }
+
+    @Test
+    public void testBatchedParticleFrameTime() {
+        Benchmarks.assumeTimed(); // 소프트웨어 파이프라인 fillOval / drawImage 시간 비교
+        ParticleRenderer renderer = new ParticleRenderer();
+        int[] particles = new int[1];
+
+        double before = microsPerFrame(ParticleRenderBenchmarkTest::legacy, WARMUP, FRAMES);
+        double after = microsPerFrame((g, p) -> {
+            renderer.drawSparks(g, p);
+            particles[0] = p.size();
+        }, WARMUP, FRAMES);
+
+        System.out.printf("[ParticleRenderer] ~%d particles: per-particle %.1f us → batched %.1f us (%.2fx), "
+                + "setColor %d / frame, colors built %d, sprites built %d%n",
+                particles[0], before, after, before / after, renderer.getColorChanges(),
+                renderer.getColorsBuilt(), renderer.getSpritesBuilt());
+
+        assertTrue("batched rendering must not be slower", after <= before);
+    }
+}
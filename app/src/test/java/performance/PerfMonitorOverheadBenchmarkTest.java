@@ -0,0 +1,71 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import component.metrics.PerfMonitor;
+
+/**
+ * PerfMonitorOverheadBenchmarkTest
+ * ----------------
+ * F2 오버레이가 숨겨져 있을 때 계측 호출 (begin / endTick / endClear / recordFrame) 의 비용
+ * - 매 틱 / 매 프레임 호출되므로 꺼진 상태에서는 volatile 읽기 수준이어야 함
+ * - 켜진 상태 (nanoTime + 히스토그램 기록) 와 비교해서 출력
+ * - 꺼진 상태는 아무것도 기록하지 않고 켜진 상태는 호출마다 기록하는지: 천 번씩 호출해서 기본 test 에서 확인
+ * - 꺼진 상태 묶음당 50ns 미만: 2백만 번 x 3 라운드라 gradle benchmark 에서만
+ */
+public class PerfMonitorOverheadBenchmarkTest {
+
+    private static final int CALLS = 2_000_000;
+    private static final int ROUNDS = 3;
+    private static final int CHECK_CALLS = 1_000;
+
+    @After
+    public void tearDown() {
+        PerfMonitor.setEnabled(false);
+    }
+
+    /** 한 묶음 = 틱 + 클리어 + 프레임 계측, 묶음당 ns (라운드 최소값) */
+    private static double measure(int calls) {
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                long t0 = PerfMonitor.begin();
+                PerfMonitor.endTick(t0);
+                PerfMonitor.endClear(PerfMonitor.begin());
+                PerfMonitor.recordFrame(i & 0xFFFFF);
+            }
+            best = Math.min(best, (System.nanoTime() - start) / (double) calls);
+        }
+        return best;
+    }
+
+    @Test
+    public void testHiddenMonitorRecordsNothing() {
+        PerfMonitor.setEnabled(false);
+        PerfMonitor.reset();
+        measure(CHECK_CALLS);
+        assertEquals(0, PerfMonitor.getFrames().count());
+
+        PerfMonitor.setEnabled(true);
+        measure(CHECK_CALLS);
+        assertEquals((long) ROUNDS * CHECK_CALLS, PerfMonitor.getFrames().count());
+    }
+
+    @Test
+    public void testHiddenCostIsNegligible() {
+        Benchmarks.assumeTimed(); // ns 단위 한도라 JIT 워밍업된 긴 루프 + 조용한 기계가 필요
+        PerfMonitor.setEnabled(false);
+        double hidden = measure(CALLS);
+
+        PerfMonitor.setEnabled(true);
+        double shown = measure(CALLS);
+
+        System.out.printf("[PerfMonitor] hidden %.1f ns/frame, shown %.1f ns/frame%n", hidden, shown);
+        assertTrue("hidden overhead " + hidden + "ns", hidden < 50);
+    }
+}
@@ -0,0 +1,88 @@
+package performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import component.BoardView;
+import component.ColorBlindPalette;
+import component.QualityGovernor;
+import component.config.Settings;
+import logic.BoardLogic;
+import logic.ParticleSystem;
+
+/**
+ * QualityTierFrameTimeBenchmarkTest
+ * ----------------
+ * 아이템 효과가 계속 터지는 보드 (매 프레임 폭발 + 번개 + 궤적) 를 품질 단계별로 고정해 전체 paint 시간 비교
+ * - 소프트웨어 파이프라인 기준 (헤드리스): 대상이 가속이 아니므로 LOW 에서도 안티에일리어싱은 유지
+ * 요구사항: 단계가 낮을수록 프레임이 싸야 함 (HIGH > LOW)
+ * - 시간 비교뿐이므로 gradle benchmark 에서만 실행 (단계별 판정은 QualityGovernorTest)
+ */
+public class QualityTierFrameTimeBenchmarkTest {
+
+    private static final int CELL = 25;
+    private static final int WARMUP = 200;
+    private static final int FRAMES = 600;
+
+    private static double microsPerFrame(Settings.RenderQuality pin) {
+        BoardLogic logic = new BoardLogic(score -> {}, component.GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        Color[][] board = logic.getBoard();
+        for (int y = 12; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++)
+                if (x != y % BoardLogic.WIDTH)
+                    board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+
+        Settings settings = new Settings();
+        settings.renderQuality = pin;
+        BoardView view = new BoardView(logic, settings);
+        view.stopRendering();
+        view.setSize(BoardLogic.WIDTH * CELL, BoardLogic.HEIGHT * CELL);
+        ParticleSystem ps = logic.getClearService().getParticleSystem();
+        BufferedImage screen = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        long elapsed = 0;
+        for (int i = 0; i < WARMUP + FRAMES; i++) {
+            ps.createExplosionParticles(i % BoardLogic.WIDTH, 6, Color.MAGENTA, CELL);
+            ps.createLightningParticles((i * 3) % BoardLogic.WIDTH, 10, Color.YELLOW, CELL);
+            ps.createBlockParticles((i * 7) % BoardLogic.WIDTH, 14, Color.CYAN, CELL);
+            ps.createGravityTrailParticle(i % BoardLogic.WIDTH, 8, Color.GREEN, CELL);
+            ps.update();
+
+            Graphics2D g = screen.createGraphics();
+            long start = System.nanoTime();
+            view.paint(g);
+            if (i >= WARMUP)
+                elapsed += System.nanoTime() - start;
+            g.dispose();
+        }
+        System.out.printf("[Quality] %s: %d particles alive, tier=%s%n",
+                pin, ps.getParticles().size(), view.getQualityGovernor());
+        view.cleanup();
+        return elapsed / 1e3 / FRAMES;
+    }
+
+    @Test
+    public void testLowerTiersAreCheaper() {
+        Benchmarks.assumeTimed();
+
+        microsPerFrame(Settings.RenderQuality.HIGH); // 워밍업
+        // 코어 하나에서 다른 테스트와 섞여 돌면 흔들리므로 번갈아 두 번씩 재고 좋은 쪽 사용
+        double low = Double.MAX_VALUE, medium = Double.MAX_VALUE, high = Double.MAX_VALUE;
+        for (int round = 0; round < 2; round++) {
+            low = Math.min(low, microsPerFrame(Settings.RenderQuality.LOW));
+            medium = Math.min(medium, microsPerFrame(Settings.RenderQuality.MEDIUM));
+            high = Math.min(high, microsPerFrame(Settings.RenderQuality.HIGH));
+        }
+
+        System.out.printf("[Quality] full paint with heavy effects: HIGH %.0f us, MEDIUM %.0f us, LOW %.0f us "
+                + "(budget %.0f us)%n", high, medium, low, QualityGovernor.FRAME_BUDGET_NS / 1e3);
+
+        assertTrue("LOW tier must be cheaper than HIGH", low < high);
+    }
+}
@@ -0,0 +1,407 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import blocks.Block;
+import blocks.IBlock;
+import blocks.JBlock;
+import blocks.LBlock;
+import blocks.OBlock;
+import blocks.SBlock;
+import blocks.TBlock;
+import blocks.ZBlock;
+import component.network.websocket.ActivePieceStream;
+import component.network.websocket.BoardDeltaTracker;
+import component.network.websocket.BoardSyncAdapter;
+import component.network.websocket.MatchReferee;
+import component.network.websocket.Message;
+import component.network.websocket.MessageType;
+import component.network.websocket.WebSocketUtil;
+import logic.GameState;
+import logic.HeadlessRules;
+import logic.PlayerInput;
+
+/**
+ * RefereeCostBenchmarkTest
+ * ----------------
+ * 서버 권위 검증(MatchReferee)의 매치당 CPU 비용 측정
+ * - 봇 두 명이 실제 클라이언트와 같은 순서로 메시지를 만듦
+ *   (입력 즉시 전송 / 50ms 주기 델타 / 스폰 전 전체 동기화 / 공격)
+ * - 스크립트를 먼저 만들어 두고 심판의 inspect 만 스레드 CPU 시간으로 측정 (JSON 파싱 포함)
+ * - 한 봇은 가끔 가짜 4줄 공격을 보냄 → 전부 버려져야 함
+ * - 판정 (어긋남 0, 정직한 공격은 전부 인정, 가짜 공격은 전부 거부) 은 매치 두 개로 기본 test 에서 확인
+ * - 코어당 매치 수 (수백 이상) 는 워밍업 포함 25 매치라 gradle benchmark 에서만 측정
+ */
+public class RefereeCostBenchmarkTest {
+
+    private static final int WARMUP_MATCHES = 5;
+    private static final int MATCHES = 20;
+    private static final int VERDICT_MATCHES = 2; // 판정만 보는 기본 test 용
+    private static final int FPS = 60;
+    private static final int MAX_FRAMES = FPS * 120; // 매치 최대 2분
+    private static final int GRAVITY_FRAMES = 30;
+    private static final int SYNC_FRAMES = 3; // 50ms
+    private static final int ACTION_FRAMES = 6; // 초당 10번 조작 (빠른 사람 수준, 블록 초당 2~3개)
+    private static final int FAKE_ATTACK_EVERY = 25; // 고정 n번마다 가짜 공격 (slot 1)
+
+    private static final Block[] PIECES = { new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(),
+            new TBlock(), new ZBlock() };
+
+    private static class Sent {
+        final int slot;
+        final MessageType type;
+        final String json;
+
+        Sent(int slot, MessageType type, Object payload) {
+            this.slot = slot;
+            this.type = type;
+            this.json = WebSocketUtil.toJson(new Message(type, payload));
+        }
+    }
+
+    private static class Script {
+        final List<Sent> messages = new ArrayList<>();
+        int frames;
+        int attackLines;
+        int fakeLines;
+    }
+
+    // 자기 게임을 HeadlessRules 로 돌리는 봇 클라이언트
+    private static class Bot {
+        final int slot;
+        final Random rnd;
+        final Script out;
+        final HeadlessRules rules = new HeadlessRules();
+        final GameState view = new GameState();
+        final BoardDeltaTracker tracker = new BoardDeltaTracker(HeadlessRules.WIDTH, HeadlessRules.HEIGHT);
+        final Color color;
+        Bot opponent;
+
+        int confirmed = -1;
+        int bitsFrame = -1;
+        int bits = 0;
+        int targetRot, targetX, rot;
+        int locks = 0;
+
+        Bot(int slot, long seed, Script out) {
+            this.slot = slot;
+            this.rnd = new Random(seed);
+            this.out = out;
+            this.color = slot == 0 ? Color.CYAN : Color.MAGENTA;
+        }
+
+        void frame(int f) {
+            if (rules.isGameOver())
+                return;
+            if (!rules.hasPiece()) {
+                spawn(f);
+                return;
+            }
+            if (f % GRAVITY_FRAMES == 0) {
+                record(f, PlayerInput.DOWN, null);
+                rules.moveDown();
+                if (!rules.hasPiece()) {
+                    afterLock();
+                    return;
+                }
+            }
+            if (f % ACTION_FRAMES != slot)
+                return;
+            if (rot != targetRot) {
+                if (rules.rotate()) {
+                    rot = (rot + 1) & 3;
+                    record(f, PlayerInput.ROTATE, null);
+                } else {
+                    targetRot = rot;
+                }
+            } else if (rules.getPieceX() < targetX) {
+                if (rules.moveRight())
+                    record(f, PlayerInput.RIGHT, null);
+                else
+                    targetX = rules.getPieceX();
+            } else if (rules.getPieceX() > targetX) {
+                if (rules.moveLeft())
+                    record(f, PlayerInput.LEFT, null);
+                else
+                    targetX = rules.getPieceX();
+            } else {
+                record(f, PlayerInput.DROP, null);
+                rules.hardDrop();
+                record(f, PlayerInput.DOWN, null); // hardDrop → moveDown
+                afterLock();
+                return;
+            }
+            out.messages.add(new Sent(slot, MessageType.ACTIVE_PIECE, new ActivePieceStream.Piece(
+                    ActivePieceStream.pack(locks & 0xFF, rot, rules.getPieceX(), rules.getPieceY()))));
+        }
+
+        void spawn(int f) {
+            fullSync(); // beforeSpawnHook
+            rules.applyGarbage(Integer.MAX_VALUE);
+            fullSync(); // onGarbageApplied
+
+            Block piece = PIECES[rnd.nextInt(PIECES.length)];
+            int[][] shape = piece.getShapeArray();
+            if (!rules.spawn(shape))
+                return;
+            rot = 0;
+            choosePlacement(shape);
+            record(f, PlayerInput.SPAWN, List.of(new BoardSyncAdapter.PieceSpawn(f, color.getRGB(), shape)));
+        }
+
+        void afterLock() {
+            locks++;
+            int[] attack = rules.takeAttacks();
+            if (attack.length > 0) {
+                out.messages.add(new Sent(slot, MessageType.LINE_ATTACK, attack));
+                out.attackLines += attack.length;
+                opponent.rules.addGarbage(attack); // 지연 없이 바로 받음
+            }
+            if (slot == 1 && locks % FAKE_ATTACK_EVERY == 0) {
+                out.messages.add(new Sent(slot, MessageType.LINE_ATTACK, new int[] { 0x1FF, 0x1FF, 0x1FF, 0x1FF }));
+                out.fakeLines += 4;
+            }
+        }
+
+        // BoardSyncAdapter.recordInput 와 같은 누적 / 미확정 프레임 포함 전송
+        void record(int f, int input, List<BoardSyncAdapter.PieceSpawn> spawns) {
+            if (f == bitsFrame) {
+                bits = PlayerInput.add(bits, input);
+            } else {
+                bitsFrame = f;
+                bits = input;
+            }
+            int start = Math.min(confirmed + 1, f);
+            int[] inputs = new int[f - start + 1];
+            inputs[inputs.length - 1] = bits;
+            out.messages.add(new Sent(slot, MessageType.PLAYER_INPUT,
+                    new BoardSyncAdapter.InputBatch(start, inputs, spawns)));
+            confirmed = Math.max(confirmed, f);
+        }
+
+        // 주기 동기화: 지난 빈 프레임 확정 + 델타
+        void sync(int f) {
+            if (f - 1 > confirmed) {
+                int start = confirmed + 1;
+                out.messages.add(new Sent(slot, MessageType.PLAYER_INPUT,
+                        new BoardSyncAdapter.InputBatch(start, new int[f - start], null)));
+                confirmed = f - 1;
+            }
+            paint();
+            BoardDeltaTracker.BoardDelta delta = tracker.computeDelta(view);
+            if (delta == null)
+                return;
+            if (delta.changes.size() > 10) {
+                out.messages.add(new Sent(slot, MessageType.BOARD_DELTA_COMPRESSED, tracker.compressDelta(delta)));
+            } else {
+                out.messages.add(new Sent(slot, MessageType.BOARD_DELTA, delta));
+            }
+        }
+
+        void fullSync() {
+            paint();
+            out.messages.add(new Sent(slot, MessageType.BOARD_FULL_SYNC, tracker.createFullSync(view)));
+        }
+
+        void paint() {
+            Color[][] board = view.getBoard();
+            Color garbage = new Color(HeadlessRules.GARBAGE_RGB, true);
+            for (int y = 0; y < HeadlessRules.HEIGHT; y++) {
+                int m = rules.rowMask(y);
+                for (int x = 0; x < HeadlessRules.WIDTH; x++) {
+                    board[y][x] = (m >> x & 1) == 0 ? null : rules.isGarbageRow(y) ? garbage : color;
+                }
+            }
+        }
+
+        // 간단한 배치 평가 (높이 / 구멍 / 울퉁불퉁 / 지운 줄)
+        void choosePlacement(int[][] shape) {
+            int[] rows = new int[HeadlessRules.HEIGHT];
+            for (int y = 0; y < rows.length; y++)
+                rows[y] = rules.rowMask(y);
+
+            double best = Double.NEGATIVE_INFINITY;
+            int[][] s = shape;
+            for (int r = 0; r < 4; r++) {
+                for (int x = -2; x < HeadlessRules.WIDTH; x++) {
+                    double score = evaluate(rows, s, x) + rnd.nextDouble() * 0.1;
+                    if (score > best) {
+                        best = score;
+                        targetRot = r;
+                        targetX = x;
+                    }
+                }
+                s = rotated(s);
+            }
+        }
+
+        private static double evaluate(int[] rows, int[][] s, int x) {
+            if (!fits(rows, s, x, 0))
+                return Double.NEGATIVE_INFINITY;
+            int y = 0;
+            while (fits(rows, s, x, y + 1))
+                y++;
+            int[] after = rows.clone();
+            for (int j = 0; j < s.length; j++)
+                for (int i = 0; i < s[j].length; i++)
+                    if (s[j][i] == 1)
+                        after[y + j] |= 1 << (x + i);
+
+            int lines = 0;
+            for (int m : after)
+                if (m == HeadlessRules.ROW_MASK)
+                    lines++;
+            int holes = 0, aggregate = 0, bump = 0, prev = -1;
+            for (int c = 0; c < HeadlessRules.WIDTH; c++) {
+                int h = 0;
+                boolean seen = false;
+                for (int r = 0; r < after.length; r++) {
+                    boolean filled = after[r] != HeadlessRules.ROW_MASK && (after[r] >> c & 1) != 0;
+                    if (filled && !seen) {
+                        seen = true;
+                        h = after.length - r;
+                    } else if (!filled && seen && after[r] != HeadlessRules.ROW_MASK) {
+                        holes++;
+                    }
+                }
+                aggregate += h;
+                if (prev >= 0)
+                    bump += Math.abs(h - prev);
+                prev = h;
+            }
+            return lines * 0.76 - aggregate * 0.51 - holes * 0.36 - bump * 0.18;
+        }
+
+        private static boolean fits(int[] rows, int[][] s, int x, int y) {
+            for (int j = 0; j < s.length; j++) {
+                for (int i = 0; i < s[j].length; i++) {
+                    if (s[j][i] == 0)
+                        continue;
+                    int bx = x + i, by = y + j;
+                    if (bx < 0 || bx >= HeadlessRules.WIDTH || by >= HeadlessRules.HEIGHT)
+                        return false;
+                    if (by >= 0 && (rows[by] >> bx & 1) != 0)
+                        return false;
+                }
+            }
+            return true;
+        }
+
+        private static int[][] rotated(int[][] shape) {
+            int h = shape.length, w = shape[0].length;
+            int[][] out = new int[w][h];
+            for (int i = 0; i < h; i++)
+                for (int j = 0; j < w; j++)
+                    out[j][h - 1 - i] = shape[i][j];
+            return out;
+        }
+    }
+
+    private static Script playMatch(long seed) {
+        Script script = new Script();
+        Bot a = new Bot(0, seed, script);
+        Bot b = new Bot(1, seed * 31 + 7, script);
+        a.opponent = b;
+        b.opponent = a;
+        script.messages.add(new Sent(0, MessageType.MODE_SELECT, "Normal"));
+        script.messages.add(new Sent(0, MessageType.GAME_START, 0L));
+
+        int f = 0;
+        for (; f < MAX_FRAMES && !a.rules.isGameOver() && !b.rules.isGameOver(); f++) {
+            a.frame(f);
+            b.frame(f);
+            if (f % SYNC_FRAMES == 0) {
+                a.sync(f);
+                b.sync(f);
+            }
+        }
+        script.frames = f;
+        script.messages.add(new Sent(a.rules.isGameOver() ? 0 : 1, MessageType.GAME_OVER, null));
+        return script;
+    }
+
+    /** 심판에 스크립트를 흘린 결과 (워밍업 매치는 빼고 합산) */
+    private static class Run {
+        int matches;
+        long cpuNanos, messages, frames, divergences, accepted, rejected, expectedAttack, expectedFake, pieces;
+        boolean cpuClock;
+    }
+
+    private static Run referee(int warmup, int matches) {
+        List<Script> scripts = new ArrayList<>();
+        for (int i = 0; i < warmup + matches; i++) {
+            scripts.add(playMatch(1000 + i));
+        }
+
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        Run run = new Run();
+        run.matches = matches;
+        run.cpuClock = mx.isCurrentThreadCpuTimeSupported();
+        MatchReferee.Totals totals = new MatchReferee.Totals();
+
+        for (int i = 0; i < scripts.size(); i++) {
+            Script s = scripts.get(i);
+            MatchReferee referee = new MatchReferee("bench" + i, totals);
+            long t0 = run.cpuClock ? mx.getCurrentThreadCpuTime() : System.nanoTime();
+            for (Sent m : s.messages) {
+                referee.inspect(m.slot, m.type, m.json);
+            }
+            long spent = (run.cpuClock ? mx.getCurrentThreadCpuTime() : System.nanoTime()) - t0;
+            MatchReferee.MatchReport r = referee.getLastReport();
+            if (i < warmup)
+                continue;
+
+            run.cpuNanos += spent;
+            run.messages += s.messages.size();
+            run.frames += s.frames;
+            run.divergences += r.divergences;
+            run.accepted += r.attackLinesAccepted;
+            run.rejected += r.attackLinesRejected;
+            run.pieces += r.pieces;
+            run.expectedAttack += s.attackLines;
+            run.expectedFake += s.fakeLines;
+        }
+        return run;
+    }
+
+    @Test
+    public void testRefereeVerdictsOnBotMatches() {
+        Run run = referee(0, VERDICT_MATCHES);
+        System.out.printf("[REFEREE] %d matches, %d pieces, attack lines accepted %d / rejected %d, divergences %d%n",
+                run.matches, run.pieces, run.accepted, run.rejected, run.divergences);
+
+        assertEquals("honest play never diverges", 0, run.divergences);
+        assertEquals(run.expectedAttack, run.accepted);
+        assertEquals(run.expectedFake, run.rejected);
+        assertTrue("fake attacks exercised", run.expectedFake > 0);
+    }
+
+    @Test
+    public void testPerMatchCpuCost() {
+        Benchmarks.assumeTimed(); // 25 매치 재생 + 스레드 CPU 시간은 기계마다 다름
+        Run run = referee(WARMUP_MATCHES, MATCHES);
+
+        double matchSec = run.frames / (double) FPS / MATCHES;
+        double cpuMsPerMatch = run.cpuNanos / 1e6 / MATCHES;
+        double coreShare = run.cpuNanos / (run.frames / (double) FPS * 1e9);
+        System.out.printf("[REFEREE] %d matches, avg %.1fs, %d msgs/match, %d pieces/match%n", MATCHES, matchSec,
+                run.messages / MATCHES, run.pieces / MATCHES);
+        System.out.printf("[REFEREE] CPU %.2f ms/match (%.2f us/msg, %s clock), %.4f%% of a core per match, "
+                + "~%.0f concurrent matches/core%n", cpuMsPerMatch, run.cpuNanos / 1e3 / run.messages,
+                run.cpuClock ? "thread CPU" : "wall", coreShare * 100, 1 / coreShare);
+
+        assertEquals("honest play never diverges", 0, run.divergences);
+        assertEquals(run.expectedFake, run.rejected);
+        assertTrue("matches per core " + (1 / coreShare), 1 / coreShare >= 100);
+    }
+}
@@ -0,0 +1,200 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+
+import component.network.websocket.FakeSession;
+import component.network.websocket.GameServer;
+import component.network.websocket.MessageType;
+import component.network.websocket.RelayLimits;
+
+/**
+ * RelayFloodLoadTest
+ * ----------------
+ * 한 클라이언트가 BOARD_DELTA 를 초당 수만 개 보내는 동안 정상 방들의 릴레이 지연 측정
+ * - 릴레이 스레드 1개 (가장 나쁜 경우), 소켓 쓰기 비용은 수신마다 SEND_COST_NANOS 로 흉내냄
+ * - 보호 없음 / RelayGuard 두 가지로 같은 부하를 주고 정상 메시지 지연(p50/p99)과 폭주 전달량 비교
+ * - 정상 메시지 전부 전달 + 폭주는 한도만큼만: 보호 구간 하나를 짧게 돌려 기본 test 에서 확인
+ * - 폭주 중 지연이 평소 수준인지: 세 구간 x 1.5초 벽시계 비교라 gradle benchmark 에서만
+ */
+public class RelayFloodLoadTest {
+
+    private static final int GOOD_ROOMS = 20;
+    private static final long TICK_MS = 50; // 정상 클라이언트 동기화 주기
+    private static final long PHASE_MS = 1500;
+    private static final long CHECK_PHASE_MS = 300; // 전달 / 한도만 보는 짧은 구간
+    private static final int FLOOD_PER_MS = 40; // 초당 4만 개
+    private static final long SEND_COST_NANOS = 20_000;
+
+    private static final String FLOOD_MSG = "{\"type\":\"BOARD_DELTA\",\"data\":\"{\\\"changes\\\":[]}\"}";
+
+    private static class Result {
+        long goodSent;
+        long goodDelivered;
+        long floodOffered;
+        long floodDelivered;
+        double p50Ms;
+        double p99Ms;
+    }
+
+    @After
+    public void tearDown() {
+        GameServer.getRooms().clear();
+        GameServer.getRelayGuard().setLimits(RelayLimits.fromSystemProperties());
+        GameServer.getRelayGuard().resetStats();
+    }
+
+    /** 끊지 않고 계속 버티는 공격자 (가장 나쁜 경우) */
+    private static RelayLimits dropOnly() {
+        RelayLimits limits = RelayLimits.defaults();
+        limits.floodCloseRejects = 0;
+        return limits;
+    }
+
+    // 정상 메시지는 전부 전달, 폭주는 BOARD_DELTA 한도(버스트 + 초당 충전)만큼만
+    private static void assertGuarded(RelayLimits limits, Result guarded, long phaseMs) {
+        assertEquals(guarded.goodSent, guarded.goodDelivered);
+        RelayLimits.Rate delta = limits.typeRates.get(MessageType.BOARD_DELTA);
+        long allowed = delta.burst + (long) Math.ceil(delta.perSec * (phaseMs + 1000) / 1000.0);
+        assertTrue("flood delivered " + guarded.floodDelivered, guarded.floodDelivered <= allowed);
+    }
+
+    @Test
+    public void testGuardDeliversGoodTrafficAndCapsFlood() throws Exception {
+        RelayLimits limits = dropOnly();
+        Result guarded = run(limits, true, CHECK_PHASE_MS);
+        print("guarded", guarded);
+
+        assertTrue("flood exercised", guarded.floodOffered > guarded.floodDelivered);
+        assertGuarded(limits, guarded, CHECK_PHASE_MS);
+    }
+
+    @Test
+    public void testWellBehavedRoomsUnaffectedByFlood() throws Exception {
+        Benchmarks.assumeTimed(); // p99 지연은 릴레이 스레드 스케줄링에 좌우됨
+        RelayLimits limits = dropOnly();
+
+        Result baseline = run(RelayLimits.defaults(), false, PHASE_MS);
+        Result unguarded = run(RelayLimits.unlimited(), true, PHASE_MS);
+        Result guarded = run(limits, true, PHASE_MS);
+
+        System.out.println("phase      | good sent/delivered | p50(ms) | p99(ms) | flood offered/delivered");
+        print("baseline", baseline);
+        print("unguarded", unguarded);
+        print("guarded", guarded);
+        System.out.println("[FLOOD] guard: " + GameServer.getRelayGuard().getStatsString());
+
+        assertGuarded(limits, guarded, PHASE_MS);
+        // 지연: 평소 수준 (스케줄링 잡음 여유 포함)
+        assertTrue("guarded p99 " + guarded.p99Ms + "ms vs baseline " + baseline.p99Ms + "ms",
+                guarded.p99Ms <= Math.max(baseline.p99Ms * 5, baseline.p99Ms + 20));
+    }
+
+    private static void print(String name, Result r) {
+        System.out.printf("%-10s | %8d / %-8d | %7.2f | %7.2f | %d / %d%n", name, r.goodSent, r.goodDelivered,
+                r.p50Ms, r.p99Ms, r.floodOffered, r.floodDelivered);
+    }
+
+    private static void burn(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private Result run(RelayLimits limits, boolean flood, long phaseMs) throws Exception {
+        GameServer.getRooms().clear();
+        GameServer.getRelayGuard().setLimits(limits);
+        GameServer endpoint = new GameServer();
+        Result result = new Result();
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong goodDelivered = new AtomicLong();
+        List<FakeSession> goodSenders = new ArrayList<>();
+        for (int r = 0; r < GOOD_ROOMS; r++) {
+            FakeSession a = new FakeSession("good-a" + r, "good" + r);
+            FakeSession b = new FakeSession("good-b" + r, "good" + r);
+            a.keepMessages = false;
+            b.keepMessages = false;
+            b.onSend = text -> {
+                burn(SEND_COST_NANOS);
+                int start = text.indexOf("\"data\":\"") + 8;
+                long sentAt = Long.parseLong(text.substring(start, text.indexOf('"', start)));
+                latencies.add(System.nanoTime() - sentAt);
+                goodDelivered.incrementAndGet();
+            };
+            endpoint.onOpen(a.session);
+            endpoint.onOpen(b.session);
+            goodSenders.add(a);
+        }
+
+        FakeSession attacker = new FakeSession("attacker", "flood");
+        FakeSession victim = new FakeSession("victim", "flood");
+        attacker.keepMessages = false;
+        victim.keepMessages = false;
+        AtomicLong floodDelivered = new AtomicLong();
+        victim.onSend = text -> {
+            burn(SEND_COST_NANOS);
+            floodDelivered.incrementAndGet();
+        };
+        endpoint.onOpen(attacker.session);
+        endpoint.onOpen(victim.session);
+
+        // 릴레이 작업자 하나 (수신 메시지를 순서대로 처리)
+        ExecutorService relay = Executors.newSingleThreadExecutor();
+        long deadline = System.nanoTime() + phaseMs * 1_000_000L;
+
+        Thread floodThread = new Thread(() -> {
+            while (flood && System.nanoTime() < deadline) {
+                for (int i = 0; i < FLOOD_PER_MS; i++) {
+                    relay.execute(() -> endpoint.onMessage(FLOOD_MSG, attacker.session));
+                }
+                result.floodOffered += FLOOD_PER_MS;
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        floodThread.start();
+
+        while (System.nanoTime() < deadline) {
+            for (FakeSession s : goodSenders) {
+                long now = System.nanoTime();
+                String msg = "{\"type\":\"PLAYER_STATS\",\"data\":\"" + now + "\"}";
+                relay.execute(() -> endpoint.onMessage(msg, s.session));
+                result.goodSent++;
+            }
+            Thread.sleep(TICK_MS);
+        }
+        floodThread.join();
+        relay.shutdown();
+        assertTrue(relay.awaitTermination(60, TimeUnit.SECONDS));
+
+        result.goodDelivered = goodDelivered.get();
+        result.floodDelivered = floodDelivered.get();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        result.p50Ms = percentile(sorted, 0.50) / 1e6;
+        result.p99Ms = percentile(sorted, 0.99) / 1e6;
+        return result;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        int idx = (int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)));
+        return sorted[idx];
+    }
+}
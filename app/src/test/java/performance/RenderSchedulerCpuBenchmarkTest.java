@@ -0,0 +1,183 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Test;
+
+import component.BoardView;
+import component.ColorBlindPalette;
+import component.GameConfig;
+import component.RenderScheduler;
+import logic.BoardLogic;
+
+/**
+ * RenderSchedulerCpuBenchmarkTest
+ * ----------------
+ * 보드 한 개를 10초 동안 렌더링할 때의 CPU 시간 비교 (헤드리스라 화면 페인트는 직접 호출)
+ * - 이전: 16ms 마다 파티클 update + 보드 전체 paint
+ * - 현재: RenderScheduler 틱 (조용하면 IDLE_POLL_MS 간격) + 바뀐 사각형만 clip 해서 paint
+ * 시나리오
+ * - 정지 (일시정지 / 대기 / 메뉴 뒤에 남은 보드): 아무것도 안 바뀜
+ * - 플레이: 블록이 0.5초마다 한 칸 낙하 + 0.25초마다 좌우 이동
+ * - 시간은 가상 (틱 간격만큼 건너뜀) → repaint / 틱 횟수는 결정적이라 2초 분량으로 기본 test 에서 확인
+ *   (정지 상태 repaint 0회, 폴링은 60Hz 보다 드물게, 플레이 중에는 바뀔 때만)
+ * - CPU 시간 비교는 워밍업 + 10초 분량이라 gradle benchmark 에서만
+ */
+public class RenderSchedulerCpuBenchmarkTest {
+
+    private static final int SECONDS = 10;
+    private static final int CHECK_SECONDS = 2; // 횟수만 보는 기본 test 용
+    private static final int CELL = 25;
+    private static final ThreadMXBean CPU = ManagementFactory.getThreadMXBean();
+
+    private interface Input {
+        /** 경과 시간 (ms) 에 맞춰 게임 상태를 바꿈, 바꿨으면 true */
+        boolean step(BoardLogic logic, long fromMs, long toMs);
+    }
+
+    private static final Input IDLE = (logic, from, to) -> false;
+
+    private static final Input PLAY = (logic, from, to) -> {
+        boolean changed = false;
+        for (long t = from / 250 + 1; t * 250 <= to; t++) {
+            if (t % 2 == 0)
+                logic.moveDown();
+            else if (t % 4 == 1)
+                logic.moveLeft();
+            else
+                logic.moveRight();
+            changed = true;
+        }
+        return changed;
+    };
+
+    private static BoardLogic newLogic() {
+        BoardLogic logic = new BoardLogic(score -> {}, GameConfig.Difficulty.NORMAL);
+        logic.setTestMode(true);
+        Color[][] board = logic.getBoard();
+        for (int y = 10; y < BoardLogic.HEIGHT; y++)
+            for (int x = 0; x < BoardLogic.WIDTH; x++)
+                if (x != y % BoardLogic.WIDTH)
+                    board[y][x] = ColorBlindPalette.BASE_COLORS[(x + y) % 7];
+        return logic;
+    }
+
+    private static BoardView newView(BoardLogic logic) {
+        BoardView view = new BoardView(logic, null);
+        view.stopRendering();
+        view.setSize(BoardLogic.WIDTH * CELL, BoardLogic.HEIGHT * CELL);
+        return view;
+    }
+
+    private static void paint(BoardView view, BufferedImage screen, Rectangle clip) {
+        Graphics2D g = screen.createGraphics();
+        if (clip != null)
+            g.setClip(clip);
+        view.paint(g);
+        g.dispose();
+    }
+
+    /** 이전 방식: 16ms 마다 update + 전체 paint → [cpu ns, repaint 수] */
+    private static long[] runLegacy(Input input, int seconds) {
+        BoardLogic logic = newLogic();
+        BoardView view = newView(logic);
+        BufferedImage screen = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+        long repaints = 0;
+        long start = CPU.getCurrentThreadCpuTime();
+        for (long now = 0; now < seconds * 1000L; now += RenderScheduler.FRAME_MS) {
+            input.step(logic, now, now + RenderScheduler.FRAME_MS);
+            logic.getClearService().getParticleSystem().update();
+            paint(view, screen, null);
+            repaints++;
+        }
+        long cpu = CPU.getCurrentThreadCpuTime() - start;
+        view.cleanup();
+        return new long[] { cpu, repaints };
+    }
+
+    /** 현재 방식: 스케줄러 틱 간격을 따라가며 바뀐 영역만 paint → [cpu ns, repaint 수, 틱 수] */
+    private static long[] runScheduled(Input input, int seconds) {
+        BoardLogic logic = newLogic();
+        BoardView view = newView(logic);
+        RenderScheduler scheduler = view.getRenderScheduler();
+        BufferedImage screen = new BufferedImage(view.getWidth(), view.getHeight(), BufferedImage.TYPE_INT_RGB);
+        paint(view, screen, null); // 첫 화면
+        scheduler.tick();
+
+        long paints = 0;
+        long start = CPU.getCurrentThreadCpuTime();
+        long ticksBefore = scheduler.getTicks();
+        long now = 0;
+        while (now < seconds * 1000L) {
+            long delay = scheduler.isIdle() ? RenderScheduler.IDLE_POLL_MS : RenderScheduler.FRAME_MS;
+            // requestRender 로 깨우면 다음 틱이 바로 옴 (입력 시각까지만 기다림)
+            long next = now + delay;
+            boolean woke = input.step(logic, now, next);
+            now = next;
+
+            RenderScheduler.Frame f = scheduler.tick();
+            if (woke && scheduler.isIdle())
+                f = scheduler.tick();
+            if (f.isFull()) {
+                paint(view, screen, null);
+                paints++;
+            } else if (!f.isEmpty()) {
+                Rectangle clip = null;
+                for (Rectangle r : f.getRects())
+                    clip = clip == null ? new Rectangle(r) : clip.union(r); // RepaintManager 도 합쳐서 한 번 그림
+                paint(view, screen, clip);
+                paints++;
+            }
+        }
+        long cpu = CPU.getCurrentThreadCpuTime() - start;
+        long ticks = scheduler.getTicks() - ticksBefore;
+        view.cleanup();
+        return new long[] { cpu, paints, ticks };
+    }
+
+    @Test
+    public void testRepaintsOnlyOnChange() {
+        long[] idleBefore = runLegacy(IDLE, CHECK_SECONDS);
+        long[] idleAfter = runScheduled(IDLE, CHECK_SECONDS);
+        long[] playBefore = runLegacy(PLAY, CHECK_SECONDS);
+        long[] playAfter = runScheduled(PLAY, CHECK_SECONDS);
+
+        assertEquals("quiet board never repaints", 0, idleAfter[1]);
+        assertTrue("quiet board polls less often than 60Hz", idleAfter[2] < idleBefore[1]);
+        assertTrue("play repaints only on change", playAfter[1] < playBefore[1]);
+    }
+
+    @Test
+    public void testCpuBeforeAndAfter() {
+        Benchmarks.assumeTimed(); // 스레드 CPU 시간 비교, 보드 paint 가 JIT 된 뒤에만 의미 있음
+        // 워밍업
+        runLegacy(PLAY, SECONDS);
+        runScheduled(PLAY, SECONDS);
+
+        long[] idleBefore = runLegacy(IDLE, SECONDS);
+        long[] idleAfter = runScheduled(IDLE, SECONDS);
+        long[] playBefore = runLegacy(PLAY, SECONDS);
+        long[] playAfter = runScheduled(PLAY, SECONDS);
+
+        report("정지/대기/메뉴", idleBefore, idleAfter);
+        report("플레이", playBefore, playAfter);
+
+        assertTrue(idleAfter[0] < idleBefore[0]);
+        assertTrue(playAfter[0] < playBefore[0]);
+    }
+
+    private static void report(String name, long[] before, long[] after) {
+        System.out.printf("[RenderScheduler] %s: before %.1f ms CPU/s (%d paints/s) → after %.2f ms CPU/s "
+                + "(%.1f paints/s, %.1f ticks/s)%n",
+                name, before[0] / 1e6 / SECONDS, before[1] / SECONDS,
+                after[0] / 1e6 / SECONDS, after[1] / (double) SECONDS, after[2] / (double) SECONDS);
+    }
+}
@@ -0,0 +1,157 @@
+package performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import component.network.websocket.FakeSession;
+import component.network.websocket.GameServer;
+import component.network.websocket.RelayLimits;
+import component.network.websocket.RoomRegistry;
+
+/**
+ * RoomRelayLoadTest
+ * ----------------
+ * 방 단위 릴레이 부하 측정: 방 개수를 늘려가며 초당 메시지 수와 릴레이 지연(p50/p99) 출력
+ * - 방이 늘어나도 메시지 하나당 전달 대상은 같은 방 상대 1명 뿐: 정해진 수만 보내서 기본 test 에서 확인
+ * - 처리량 / 지연 표는 방 개수마다 300ms 씩 벽시계로 돌려서 gradle benchmark 에서만 출력
+ */
+public class RoomRelayLoadTest {
+
+    private static final int[] ROOM_COUNTS = { 1, 10, 100, 500 };
+    private static final int THREADS = 4;
+    private static final long STEP_MS = 300;
+    private static final int CHECK_MESSAGES = 2_000; // 팬아웃 확인용 (방 개수마다)
+    private static final String PAYLOAD = "{\"type\":\"BOARD_DELTA\",\"data\":\"{\\\"changes\\\":[]}\"}";
+
+    @Before
+    public void setUp() {
+        // 릴레이 자체 비용 측정 (속도 제한은 RelayFloodLoadTest 에서)
+        GameServer.getRelayGuard().setLimits(RelayLimits.unlimited());
+    }
+
+    @After
+    public void tearDown() {
+        GameServer.getRooms().clear();
+        GameServer.getRelayGuard().setLimits(RelayLimits.fromSystemProperties());
+    }
+
+    /** 방마다 두 명씩 접속시키고 보내는 쪽 세션 목록 반환 */
+    private static List<FakeSession> openRooms(GameServer endpoint, int roomCount) {
+        List<FakeSession> senders = new ArrayList<>();
+        for (int r = 0; r < roomCount; r++) {
+            FakeSession a = new FakeSession("a" + r, "room" + r);
+            FakeSession b = new FakeSession("b" + r, "room" + r);
+            a.keepMessages = false;
+            b.keepMessages = false;
+            endpoint.onOpen(a.session);
+            endpoint.onOpen(b.session);
+            senders.add(a);
+            senders.add(b);
+        }
+        return senders;
+    }
+
+    @Test
+    public void testRelayDeliversOnlyToRoomPeer() {
+        for (int roomCount : ROOM_COUNTS) {
+            RoomRegistry rooms = GameServer.getRooms();
+            rooms.clear();
+            GameServer endpoint = new GameServer();
+            List<FakeSession> senders = openRooms(endpoint, roomCount);
+            assertEquals(roomCount, rooms.roomCount());
+
+            long relayed = rooms.getRelayedMessages();
+            long delivered = rooms.getDeliveredMessages();
+            for (int i = 0; i < CHECK_MESSAGES; i++) {
+                endpoint.onMessage(PAYLOAD, senders.get(i % senders.size()).session);
+            }
+
+            // 같은 방 상대에게만 전달 (전체 세션으로 팬아웃되지 않음)
+            assertEquals(CHECK_MESSAGES, rooms.getRelayedMessages() - relayed);
+            assertEquals(CHECK_MESSAGES, rooms.getDeliveredMessages() - delivered);
+        }
+    }
+
+    @Test
+    public void testRelayScalesWithRoomCount() throws InterruptedException {
+        Benchmarks.assumeTimed(); // 처리량 / 지연은 코어 수와 부하에 따라 달라서 출력용
+        System.out.println("rooms | msgs/s     | p50(us) | p99(us)");
+        for (int roomCount : ROOM_COUNTS) {
+            RoomRegistry rooms = GameServer.getRooms();
+            rooms.clear();
+
+            GameServer endpoint = new GameServer();
+            List<FakeSession> senders = openRooms(endpoint, roomCount);
+            assertEquals(roomCount, rooms.roomCount());
+
+            AtomicLong sent = new AtomicLong();
+            long[][] samples = new long[THREADS][];
+            int[] sampleCounts = new int[THREADS];
+            CountDownLatch done = new CountDownLatch(THREADS);
+            long deadline = System.nanoTime() + STEP_MS * 1_000_000L;
+
+            for (int t = 0; t < THREADS; t++) {
+                final int id = t;
+                samples[id] = new long[1 << 16];
+                new Thread(() -> {
+                    int i = id;
+                    long[] mine = samples[id];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        FakeSession s = senders.get(i % senders.size());
+                        long t0 = System.nanoTime();
+                        endpoint.onMessage(PAYLOAD, s.session);
+                        long dt = System.nanoTime() - t0;
+                        if (n < mine.length) {
+                            mine[n++] = dt;
+                        }
+                        sent.incrementAndGet();
+                        i += THREADS;
+                    }
+                    sampleCounts[id] = n;
+                    done.countDown();
+                }).start();
+            }
+            done.await();
+
+            long[] all = merge(samples, sampleCounts);
+            Arrays.sort(all);
+            double msgsPerSec = sent.get() / (STEP_MS / 1000.0);
+            System.out.printf("%5d | %10.0f | %7.1f | %7.1f%n", roomCount, msgsPerSec,
+                    percentile(all, 0.50) / 1000.0, percentile(all, 0.99) / 1000.0);
+
+            assertEquals(rooms.getRelayedMessages(), rooms.getDeliveredMessages());
+            assertTrue(sent.get() > 0);
+        }
+    }
+
+    private static long[] merge(long[][] samples, int[] counts) {
+        int total = 0;
+        for (int c : counts)
+            total += c;
+        long[] all = new long[total];
+        int pos = 0;
+        for (int i = 0; i < samples.length; i++) {
+            System.arraycopy(samples[i], 0, all, pos, counts[i]);
+            pos += counts[i];
+        }
+        return all;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0)
+            return 0;
+        int idx = (int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)));
+        return sorted[idx];
+    }
+}
@@ -0,0 +1,140 @@
+package performance.loadtest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import component.ai.TetrisAI;
+import component.metrics.LatencyHistogram;
+import component.network.websocket.BoardSyncAdapter;
+import component.network.websocket.GameClient;
+import component.network.websocket.Message;
+import component.network.websocket.MessageType;
+import component.network.websocket.OutboundQueue;
+import component.network.websocket.WebSocketUtil;
+import logic.BoardLogic;
+
+/**
+ * BotPlayer - 부하 테스트용 헤드리스 플레이어
+ * ----------------
+ * - 실제 BoardLogic + TetrisAI + BoardSyncAdapter 로 진짜 트래픽 생성
+ *   (50ms 보드 동기화, 공격, 입력 스트림, NEXT_BLOCKS/PLAYER_STATS)
+ * - 지연 측정용 PING 에 System.nanoTime() 을 실어 보내고 상대 봇이 수신 시각과 비교
+ *   (같은 JVM 이라 시계가 같음)
+ * - 네트워크 스레드에서 받은 공격은 큐에 넣었다가 tick() 에서 적용
+ */
+public class BotPlayer {
+
+    private static final int ACTIONS_PER_TICK = 2;
+    private static final int GRAVITY_TICKS = 10; // 50ms * 10 = 0.5초마다 한 칸
+
+    private final BoardLogic myLogic;
+    private final BoardLogic oppLogic;
+    private final TetrisAI ai;
+    private final GameClient client;
+    private final BoardSyncAdapter adapter;
+    private final LatencyHistogram latency;
+
+    private final Queue<int[]> incomingAttacks = new ConcurrentLinkedQueue<>();
+    private final AtomicLong received = new AtomicLong();
+    private int ticks = 0;
+
+    public BotPlayer(LatencyHistogram latency) {
+        this.latency = latency;
+
+        myLogic = new BoardLogic(score -> {
+        });
+        myLogic.setTestMode(true);
+        oppLogic = new BoardLogic(score -> {
+        });
+        oppLogic.setTestMode(true);
+        ai = new TetrisAI(myLogic);
+        ai.setDifficulty("hard");
+
+        client = new GameClient(this::onMessage);
+        adapter = new BoardSyncAdapter(myLogic, oppLogic, client);
+        myLogic.setOnGameOverCallback(myLogic::reset);
+    }
+
+    public void connect(String uri) throws Exception {
+        client.connect(uri);
+        adapter.startInputStream(System.nanoTime());
+    }
+
+    /** 50ms 주기 (OnlineVersusPanel syncTimer 와 같은 간격) */
+    public void tick() {
+        int[] masks;
+        while ((masks = incomingAttacks.poll()) != null) {
+            myLogic.addGarbageMasks(masks);
+        }
+
+        for (int i = 0; i < ACTIONS_PER_TICK; i++) {
+            String action = ai.getNextAction();
+            if (action == null)
+                break;
+            switch (action) {
+                case "LEFT" -> myLogic.moveLeft();
+                case "RIGHT" -> myLogic.moveRight();
+                case "ROTATE" -> myLogic.rotateBlock();
+                case "DOWN" -> myLogic.moveDown();
+                case "DROP" -> myLogic.hardDrop();
+            }
+        }
+        if (++ticks % GRAVITY_TICKS == 0) {
+            myLogic.moveDown();
+        }
+        if (myLogic.isGameOver()) {
+            myLogic.reset();
+        }
+
+        adapter.sendBoardState();
+    }
+
+    /** 지연 측정용 프로브 */
+    public void probe() {
+        client.send(new Message(MessageType.PING, System.nanoTime()));
+    }
+
+    private void onMessage(Message msg) {
+        if (msg == null || msg.type == null)
+            return;
+        received.incrementAndGet();
+
+        switch (msg.type) {
+            case PING -> {
+                try {
+                    long sentAt = Long.parseLong(msg.data.toString());
+                    latency.record(System.nanoTime() - sentAt);
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            case LINE_ATTACK -> incomingAttacks.add(WebSocketUtil.fromJson(msg.data, int[].class));
+            default -> {
+            }
+        }
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    /** 송신 완료 수 (OutboundQueue 기준) */
+    public long getSent() {
+        OutboundQueue q = client.getOutboundQueue();
+        return q == null ? 0 : q.getSent();
+    }
+
+    public long getDropped() {
+        OutboundQueue q = client.getOutboundQueue();
+        return q == null ? 0 : q.getDropped();
+    }
+
+    public GameClient getClient() {
+        return client;
+    }
+
+    public void disconnect() {
+        adapter.stopInputStream();
+        client.disconnect();
+    }
+}
@@ -0,0 +1,275 @@
+package performance.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import component.metrics.LatencyHistogram;
+import component.network.websocket.GameServer;
+import component.network.websocket.RoomRegistry;
+
+/**
+ * LoadTestHarness
+ * ----------------
+ * 로컬 GameServer 부하 테스트: 헤드리스 봇 쌍(BotPlayer)을 단계별로 늘려가며
+ * 처리량, 릴레이 지연 p50/p99/p999, CPU, 힙 사용량을 측정하고 JSON 리포트로 저장
+ *
+ * 실행: ./gradlew loadTest -PloadTestArgs="--ramp 1,2,4,8,16 --step-seconds 10"
+ *
+ * 옵션
+ * --host        대상 서버 (기본 localhost, localhost 면 같은 JVM 에 서버를 띄움)
+ * --port        포트 (기본 8090, 게임용 8081 과 겹치지 않게)
+ * --ramp        단계별 동시 매치 수 (기본 1,2,4,8,16,32,64)
+ * --step-seconds 단계별 측정 시간 (기본 10)
+ * --warmup-seconds 단계 시작 후 측정 전 대기 (기본 2)
+ * --out         리포트 경로 (기본 build/loadtest/report.json)
+ * --verbose     게임/네트워크 로그 출력 (기본은 측정 왜곡을 막기 위해 숨김)
+ */
+public class LoadTestHarness {
+
+    private static final long TICK_MS = 50; // OnlineVersusPanel syncTimer
+    private static final long PROBE_MS = 100;
+
+    // ===== 설정 =====
+    String host = "localhost";
+    int port = 8090;
+    int[] ramp = { 1, 2, 4, 8, 16, 32, 64 };
+    int stepSeconds = 10;
+    int warmupSeconds = 2;
+    String out = "build/loadtest/report.json";
+    boolean verbose = false;
+
+    private final List<BotPlayer> bots = new ArrayList<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private ScheduledExecutorService scheduler;
+    private int connectFailures = 0;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestHarness harness = new LoadTestHarness();
+        harness.parseArgs(args);
+        Report report = harness.run();
+        harness.writeReport(report);
+        System.exit(0);
+    }
+
+    void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--host" -> host = args[++i];
+                case "--port" -> port = Integer.parseInt(args[++i]);
+                case "--ramp" -> ramp = parseRamp(args[++i]);
+                case "--step-seconds" -> stepSeconds = Integer.parseInt(args[++i]);
+                case "--warmup-seconds" -> warmupSeconds = Integer.parseInt(args[++i]);
+                case "--out" -> out = args[++i];
+                case "--verbose" -> verbose = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    static int[] parseRamp(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+
+    Report run() throws Exception {
+        PrintStream console = System.out;
+        if (!verbose) {
+            // 게임 로직/클라이언트의 디버그 출력이 측정을 왜곡하지 않도록
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        boolean embedded = host.equals("localhost") || host.equals("127.0.0.1");
+        if (embedded) {
+            GameServer.startServer(port);
+            Thread.sleep(1000);
+        }
+
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        Report report = new Report();
+        report.host = host;
+        report.port = port;
+        report.embeddedServer = embedded;
+        report.tickMs = TICK_MS;
+        report.probeMs = PROBE_MS;
+        report.cores = Runtime.getRuntime().availableProcessors();
+        report.startedAt = System.currentTimeMillis();
+
+        try {
+            for (int matches : ramp) {
+                addPairs(matches - bots.size() / 2);
+                Thread.sleep(warmupSeconds * 1000L);
+
+                StepResult step = measure(matches);
+                report.steps.add(step);
+                console.printf("[LoadTest] matches=%d msgs/s=%.0f p50=%.2fms p99=%.2fms p999=%.2fms cpu=%.0f%% heap=%dMB%n",
+                        step.matches, step.receivedPerSec, step.latencyP50Ms, step.latencyP99Ms,
+                        step.latencyP999Ms, step.cpuPercent, step.heapUsedMb);
+            }
+        } finally {
+            scheduler.shutdownNow();
+            for (BotPlayer bot : bots) {
+                bot.disconnect();
+            }
+            if (embedded) {
+                GameServer.stopServer();
+            }
+            System.setOut(console);
+        }
+
+        report.connectFailures = connectFailures;
+        return report;
+    }
+
+    private void addPairs(int count) {
+        for (int i = 0; i < count; i++) {
+            String room = "load-" + (bots.size() / 2);
+            String uri = RoomRegistry.buildUri(host, port, room);
+            BotPlayer a = new BotPlayer(latency);
+            BotPlayer b = new BotPlayer(latency);
+            try {
+                a.connect(uri);
+                b.connect(uri);
+            } catch (Exception e) {
+                connectFailures++;
+                System.err.println("[LoadTest] Connect failed: " + e.getMessage());
+                continue;
+            }
+            bots.add(a);
+            bots.add(b);
+            schedule(a);
+            schedule(b);
+        }
+    }
+
+    private void schedule(BotPlayer bot) {
+        long jitter = ThreadLocalRandom.current().nextLong(TICK_MS);
+        scheduler.scheduleAtFixedRate(() -> safely(bot::tick), jitter, TICK_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(() -> safely(bot::probe), jitter, PROBE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static void safely(Runnable r) {
+        try {
+            r.run();
+        } catch (RuntimeException e) {
+            // 봇 하나의 예외로 스케줄이 멈추지 않게
+            System.err.println("[LoadTest] Bot error: " + e);
+        }
+    }
+
+    private StepResult measure(int matches) throws InterruptedException {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long sent0 = totalSent();
+        long received0 = totalReceived();
+        long relayed0 = GameServer.getRooms().getRelayedMessages();
+        long cpu0 = processCpuNanos(os);
+        long t0 = System.nanoTime();
+        latency.reset();
+
+        Thread.sleep(stepSeconds * 1000L);
+
+        long wall = System.nanoTime() - t0;
+        long cpu = processCpuNanos(os) - cpu0;
+        double seconds = wall / 1e9;
+
+        StepResult step = new StepResult();
+        step.matches = matches;
+        step.clients = bots.size();
+        step.seconds = seconds;
+        step.sent = totalSent() - sent0;
+        step.received = totalReceived() - received0;
+        step.serverRelayed = GameServer.getRooms().getRelayedMessages() - relayed0;
+        step.sentPerSec = step.sent / seconds;
+        step.receivedPerSec = step.received / seconds;
+        step.latencySamples = latency.count();
+        step.latencyP50Ms = latency.percentile(0.50) / 1e6;
+        step.latencyP99Ms = latency.percentile(0.99) / 1e6;
+        step.latencyP999Ms = latency.percentile(0.999) / 1e6;
+        step.latencyMaxMs = latency.max() / 1e6;
+        step.cpuPercent = cpu < 0 ? -1 : cpu * 100.0 / (wall * (double) Runtime.getRuntime().availableProcessors());
+        step.heapUsedMb = memory.getHeapMemoryUsage().getUsed() / (1024 * 1024);
+        step.clientDrops = bots.stream().mapToLong(BotPlayer::getDropped).sum();
+        return step;
+    }
+
+    private long totalSent() {
+        return bots.stream().mapToLong(BotPlayer::getSent).sum();
+    }
+
+    private long totalReceived() {
+        return bots.stream().mapToLong(BotPlayer::getReceived).sum();
+    }
+
+    private static long processCpuNanos(OperatingSystemMXBean os) {
+        if (os instanceof com.sun.management.OperatingSystemMXBean sun) {
+            return sun.getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    void writeReport(Report report) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        String json = gson.toJson(report);
+        Path path = Paths.get(out);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, json);
+        System.out.println("[LoadTest] Report written to " + path.toAbsolutePath());
+    }
+
+    /**
+     * JSON 리포트 (서버 변경 전후 비교용)
+     */
+    public static class Report {
+        public String host;
+        public int port;
+        public boolean embeddedServer; // true 면 CPU/힙에 봇 클라이언트 몫도 포함
+        public long tickMs;
+        public long probeMs;
+        public int cores;
+        public long startedAt;
+        public int connectFailures;
+        public List<StepResult> steps = new ArrayList<>();
+    }
+
+    public static class StepResult {
+        public int matches;
+        public int clients;
+        public double seconds;
+        public long sent;
+        public long received;
+        public long serverRelayed;
+        public double sentPerSec;
+        public double receivedPerSec;
+        public long latencySamples;
+        public double latencyP50Ms;
+        public double latencyP99Ms;
+        public double latencyP999Ms;
+        public double latencyMaxMs;
+        public double cpuPercent;
+        public long heapUsedMb;
+        public long clientDrops;
+    }
+}